@@ -131,6 +131,19 @@ FEATURE_REGISTRY = OrderedDict([
     ("away_tov_rate",          _ctx("away_tov_rate")),
     ("home_rpi",               _ctx("home_rpi")),
     ("away_rpi",               _ctx("away_rpi")),
+    # ── box-score form over the last 5 games (opt-in; no feature set uses them yet) ──
+    ("home_pace_l5",           _ctx("home_pace_l5")),
+    ("away_pace_l5",           _ctx("away_pace_l5")),
+    ("home_off_eff_l5",        _ctx("home_off_eff_l5")),
+    ("away_off_eff_l5",        _ctx("away_off_eff_l5")),
+    ("home_def_eff_l5",        _ctx("home_def_eff_l5")),
+    ("away_def_eff_l5",        _ctx("away_def_eff_l5")),
+    ("home_efg_pct_l5",        _ctx("home_efg_pct_l5")),
+    ("away_efg_pct_l5",        _ctx("away_efg_pct_l5")),
+    ("home_opp_efg_pct_l5",    _ctx("home_opp_efg_pct_l5")),
+    ("away_opp_efg_pct_l5",    _ctx("away_opp_efg_pct_l5")),
+    ("home_tov_rate_l5",       _ctx("home_tov_rate_l5")),
+    ("away_tov_rate_l5",       _ctx("away_tov_rate_l5")),
 ])
 
 BASELINE_FEATURES = [
@@ -155,6 +168,15 @@ PACE_V2_EXTRAS = [
     "home_rpi", "away_rpi",
 ]
 
+FORM_L5_FEATURES = [
+    "home_pace_l5", "away_pace_l5",
+    "home_off_eff_l5", "away_off_eff_l5",
+    "home_def_eff_l5", "away_def_eff_l5",
+    "home_efg_pct_l5", "away_efg_pct_l5",
+    "home_opp_efg_pct_l5", "away_opp_efg_pct_l5",
+    "home_tov_rate_l5", "away_tov_rate_l5",
+]
+
 FEATURE_SETS = {
     "baseline": BASELINE_FEATURES,
     "pace-v2":  BASELINE_FEATURES + PACE_V2_EXTRAS,
@@ -162,7 +184,7 @@ FEATURE_SETS = {
 
 # Features whose absence is a "box" skip (warn only), not a "ratings" skip
 # (which counts toward the MAX_SKIP_PCT hard guard).
-BOX_FEATURES = set(PACE_V2_EXTRAS)
+BOX_FEATURES = set(PACE_V2_EXTRAS) | set(FORM_L5_FEATURES)
 
 # team_stat_snapshots stat_name → context-key suffix
 BOX_STAT_KEYS = [
@@ -172,6 +194,13 @@ BOX_STAT_KEYS = [
     ("efg_pct",        "efg_pct"),
     ("opp_efg_pct",    "opp_efg_pct"),
     ("tov_rate",       "tov_rate"),
+    # Last-5-games variants (BoxScoreStatCalculator ring buffers)
+    ("pace_l5",           "pace_l5"),
+    ("off_efficiency_l5", "off_eff_l5"),
+    ("def_efficiency_l5", "def_eff_l5"),
+    ("efg_pct_l5",        "efg_pct_l5"),
+    ("opp_efg_pct_l5",    "opp_efg_pct_l5"),
+    ("tov_rate_l5",       "tov_rate_l5"),
 ]
 
 # Monotonic constraints (+1 = prediction non-decreasing in the feature)
@@ -0,0 +1,76 @@
+package com.yotto.basketball.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A full season pass of {@link BoxScoreStatCalculator} as TeamStatTimeSeriesService
+ * drives it: feed each day's games, then take that day's snapshot. {@code onGame}
+ * alone isolates accumulation from the per-date snapshot emission.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoxScoreStatCalculatorBenchmark {
+
+    @Param({"64", "360"})
+    int teams;
+
+    @Param({"30"})
+    int gamesPerTeam;
+
+    @Param({"60", "120"})
+    int dates;
+
+    private List<List<SyntheticSeason.BoxScoreGame>> gamesByDay;
+
+    @Setup
+    public void setUp() {
+        gamesByDay = new ArrayList<>();
+        for (int d = 0; d < dates; d++) gamesByDay.add(new ArrayList<>());
+        for (SyntheticSeason.BoxScoreGame g : new SyntheticSeason(teams, gamesPerTeam, dates).boxScoreGames()) {
+            gamesByDay.get(g.day()).add(g);
+        }
+    }
+
+    @Benchmark
+    public void seasonPass(Blackhole bh) {
+        BoxScoreStatCalculator calc = new BoxScoreStatCalculator();
+        calc.begin(null);
+        for (int d = 0; d < dates; d++) {
+            for (SyntheticSeason.BoxScoreGame g : gamesByDay.get(d)) {
+                calc.onGame(g.game(), g.home(), g.away());
+            }
+            bh.consume(calc.snapshot(SyntheticSeason.OPENING_DAY.plusDays(d)));
+        }
+    }
+
+    @Benchmark
+    public BoxScoreStatCalculator onGameOnly() {
+        BoxScoreStatCalculator calc = new BoxScoreStatCalculator();
+        calc.begin(null);
+        for (List<SyntheticSeason.BoxScoreGame> day : gamesByDay) {
+            for (SyntheticSeason.BoxScoreGame g : day) {
+                calc.onGame(g.game(), g.home(), g.away());
+            }
+        }
+        return calc;
+    }
+}
@@ -0,0 +1,83 @@
+package com.yotto.basketball.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An 18-team conference with ten of its 20 rounds left (90 games) at the default
+ * {@code app.conference-simulation.simulations}: a full run, and the incremental
+ * update when one of those games goes FINAL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ConferenceSeasonSimulatorBenchmark {
+
+    static final int TEAMS = 18;
+    static final int SIMULATIONS = 20_000;
+
+    private int[] wins, losses, headToHead, home, away;
+    private double[] ratings, homeWinProb;
+    private ConferenceSeasonSimulator simulator;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(SyntheticSeason.SEED);
+        ratings = new double[TEAMS];
+        for (int t = 0; t < TEAMS; t++) ratings[t] = random.nextGaussian() * 8;
+        wins = new int[TEAMS];
+        losses = new int[TEAMS];
+        headToHead = new int[TEAMS * TEAMS];
+        for (int t = 0; t < TEAMS; t++) {
+            for (int k = 0; k < 10; k++) {
+                int u = (t + 1 + random.nextInt(TEAMS - 1)) % TEAMS;
+                boolean won = random.nextBoolean();
+                wins[won ? t : u]++;
+                losses[won ? u : t]++;
+                headToHead[(won ? t : u) * TEAMS + (won ? u : t)]++;
+            }
+        }
+        int games = TEAMS / 2 * 10;
+        home = new int[games];
+        away = new int[games];
+        homeWinProb = new double[games];
+        for (int g = 0; g < games; g++) {
+            home[g] = (g * 7) % TEAMS;
+            away[g] = (home[g] + 1 + g % (TEAMS - 1)) % TEAMS;
+            homeWinProb[g] = TournamentSimulator.normalCdf((ratings[home[g]] - ratings[away[g]] + 3) / 11);
+        }
+        simulator = run();
+    }
+
+    @Benchmark
+    public ConferenceSeasonSimulator run() {
+        return new ConferenceSeasonSimulator(wins, losses, headToHead, ratings, home, away, homeWinProb,
+                SIMULATIONS, SyntheticSeason.SEED).run();
+    }
+
+    /** Decides the next game; after the last one the run starts over, so one call in 90 also pays for {@link #run}. */
+    @Benchmark
+    public ConferenceSeasonSimulator decide() {
+        if (next == home.length) {
+            simulator = run();
+            next = 0;
+        }
+        simulator.decide(next, (next++ & 1) == 0);
+        return simulator;
+    }
+}
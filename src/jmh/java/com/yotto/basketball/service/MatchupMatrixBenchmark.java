@@ -0,0 +1,69 @@
+package com.yotto.basketball.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The pair arithmetic of a full Division I matchup grid (362 teams, about 131k ordered
+ * pairs) once the rating vectors are loaded, and one spread plus its binary encoding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class MatchupMatrixBenchmark {
+
+    static final int TEAMS = 362;
+
+    private double[] margins, totals, strengths;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(SyntheticSeason.SEED);
+        margins = new double[TEAMS];
+        totals = new double[TEAMS];
+        strengths = new double[TEAMS];
+        for (int t = 0; t < TEAMS; t++) {
+            margins[t] = random.nextGaussian() * 9;
+            totals[t] = 70 + random.nextGaussian() * 4;
+            strengths[t] = random.nextGaussian();
+        }
+    }
+
+    @Benchmark
+    public float[] spread() {
+        return MatchupMatrixService.differences(margins, 3.2);
+    }
+
+    @Benchmark
+    public float[] total() {
+        return MatchupMatrixService.sums(totals, 1.5);
+    }
+
+    @Benchmark
+    public float[] winProbability() {
+        return MatchupMatrixService.logistic(strengths, 0.3);
+    }
+
+    @Benchmark
+    public MatchupMatrix binary() {
+        float[] spread = MatchupMatrixService.differences(margins, 3.2);
+        MatchupMatrix m = new MatchupMatrix(2026, null, false, new long[TEAMS], new String[TEAMS],
+                spread, spread, spread, spread);
+        m.binary();
+        return m;
+    }
+}
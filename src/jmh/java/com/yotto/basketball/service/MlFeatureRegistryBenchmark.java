@@ -0,0 +1,63 @@
+package com.yotto.basketball.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/** Input-vector assembly for one game, per model bundle, over the full or rating-only feature set. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MlFeatureRegistryBenchmark {
+
+    @Param({"all", "ratings"})
+    String features;
+
+    private List<String> featureNames;
+    private PredictionContext context;
+
+    @Setup
+    public void setUp() {
+        featureNames = "all".equals(features)
+                ? List.copyOf(MlFeatureRegistry.names())
+                : MlFeatureRegistry.names().stream().filter(n -> n.startsWith("massey_") || n.startsWith("bt_")).toList();
+
+        Map<String, Double> homeBox = new HashMap<>();
+        Map<String, Double> awayBox = new HashMap<>();
+        for (DailyStatCalculator.StatMeta meta : BoxScoreStatCalculator.statMetas()) {
+            homeBox.put(meta.name(), 1.05);
+            awayBox.put(meta.name(), 0.95);
+        }
+        context = new PredictionContext(
+                6.5, -2.0, 71.0, 68.5,
+                0.8, -0.2, 0.35,
+                0.9, -0.1, 0.4,
+                0.8, 7.2, 141.0, 9.5,
+                0.4, -1.8, 136.0, 11.0,
+                18, 17, 3, 2, 12,
+                false, true,
+                homeBox, awayBox,
+                0.58, 0.51);
+    }
+
+    @Benchmark
+    public float[] buildVector() {
+        return MlFeatureRegistry.buildVector(featureNames, context);
+    }
+}
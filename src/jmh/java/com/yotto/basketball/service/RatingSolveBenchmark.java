@@ -0,0 +1,87 @@
+package com.yotto.basketball.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One per-date solve of each rating model over a full synthetic season: the Massey
+ * regularized normal equations (alone, and with standard errors), and Bradley-Terry Newton-Raphson both cold (zero
+ * start, the first post-watermark date) and warm (already-converged start, the
+ * typical date in a season pass).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RatingSolveBenchmark {
+
+    @Param({"64", "360"})
+    int teams;
+
+    @Param({"30"})
+    int gamesPerTeam;
+
+    private double[][] masseyA;
+    private double[] masseyB;
+    private double masseySumSquares;
+    private int masseyGames;
+    private List<int[]> btGames;
+    private double[] btConverged;
+
+    @Setup
+    public void setUp() {
+        SyntheticSeason season = new SyntheticSeason(teams, gamesPerTeam, 120);
+        masseyB = new double[teams + 1];
+        masseyA = season.masseyNormalEquations(masseyB);
+        for (SyntheticSeason.Matchup m : season.games) masseySumSquares += (double) m.margin() * m.margin();
+        masseyGames = season.games.size();
+        btGames = season.bradleyTerryGames();
+        btConverged = new double[teams + 1];
+        BradleyTerryRatingService.newtonRaphson(btConverged, btGames, teams, teams + 1, false);
+    }
+
+    @Benchmark
+    public double[] masseySolve() {
+        return MasseyRatingService.solve(masseyA, masseyB, teams, teams + 1);
+    }
+
+    @Benchmark
+    public MasseyRatingService.Fit masseyFit() {
+        return MasseyRatingService.fit(masseyA, masseyB, masseySumSquares, masseyGames, teams, teams + 1, () -> {});
+    }
+
+    @Benchmark
+    public double[] bradleyTerryCold() {
+        double[] params = new double[teams + 1];
+        BradleyTerryRatingService.newtonRaphson(params, btGames, teams, teams + 1, false);
+        return params;
+    }
+
+    @Benchmark
+    public double[] bradleyTerryWarm() {
+        double[] params = btConverged.clone();
+        BradleyTerryRatingService.newtonRaphson(params, btGames, teams, teams + 1, false);
+        return params;
+    }
+
+    @Benchmark
+    public double[] bradleyTerryWeightedCold() {
+        double[] params = new double[teams + 1];
+        BradleyTerryRatingService.newtonRaphson(params, btGames, teams, teams + 1, true);
+        return params;
+    }
+}
@@ -0,0 +1,67 @@
+package com.yotto.basketball.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Four hypothetical games on a full synthetic season (362 teams, 30 games each): the
+ * Woodbury updates against the Massey refit they replace.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class RatingWhatIfBenchmark {
+
+    static final int TEAMS = 362;
+
+    private final List<int[]> added = List.of(
+            new int[]{0, 1, 12, 1}, new int[]{5, 7, -3, 1}, new int[]{9, 0, 20, 0}, new int[]{30, 31, -8, 1});
+    private RatingWhatIf whatIf;
+    private double[][] refitA;
+    private double[] refitB;
+
+    @Setup
+    public void setUp() {
+        SyntheticSeason season = new SyntheticSeason(TEAMS, 30, 120);
+        List<int[]> games = new ArrayList<>(season.games.size());
+        for (SyntheticSeason.Matchup m : season.games) {
+            games.add(new int[]{m.home(), m.away(), m.margin(), m.neutral() ? 0 : 1});
+        }
+        whatIf = new RatingWhatIf(TEAMS, games);
+
+        games.addAll(added);
+        refitA = new double[TEAMS + 1][TEAMS + 1];
+        refitB = new double[TEAMS + 1];
+        for (int[] g : games) RatingWhatIf.addRow(refitA, refitB, g, TEAMS);
+    }
+
+    @Benchmark
+    public double[] masseyUpdate() {
+        return whatIf.massey(added);
+    }
+
+    @Benchmark
+    public double[] bradleyTerryStep() {
+        return whatIf.bradleyTerry(added, true);
+    }
+
+    @Benchmark
+    public double[] masseyRefit() {
+        return MasseyRatingService.solve(refitA, refitB, TEAMS, TEAMS + 1);
+    }
+}
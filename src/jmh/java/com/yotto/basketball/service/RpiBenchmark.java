@@ -0,0 +1,45 @@
+package com.yotto.basketball.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/** RPI (WP/OWP/OOWP) for every team from season-to-date game lists — run once per snapshot date. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RpiBenchmark {
+
+    @Param({"64", "360"})
+    int teams;
+
+    @Param({"10", "30"})
+    int gamesPerTeam;
+
+    private Map<Long, List<StatisticsTimeSeriesService.GameRecord>> gamesByTeam;
+
+    @Setup
+    public void setUp() {
+        gamesByTeam = new SyntheticSeason(teams, gamesPerTeam, 120).rpiGames();
+    }
+
+    @Benchmark
+    public Map<Long, StatisticsTimeSeriesService.RpiComponents> computeRpi() {
+        return StatisticsTimeSeriesService.computeRpi(gamesByTeam);
+    }
+}
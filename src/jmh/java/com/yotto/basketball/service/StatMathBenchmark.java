@@ -0,0 +1,65 @@
+package com.yotto.basketball.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The stat page's numeric helpers. {@code values} ≈ one value per team (the
+ * histogram/KDE inputs); {@code values} for AUC ≈ one stat advantage per game.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatMathBenchmark {
+
+    /** Matches StatPageService's KDE resolution. */
+    static final int KDE_SAMPLES = 100;
+
+    @Param({"360", "5400"})
+    int values;
+
+    private double[] data;
+    private boolean[] homeWin;
+
+    @Setup
+    public void setUp() {
+        Random rnd = new Random(SyntheticSeason.SEED);
+        data = new double[values];
+        homeWin = new boolean[values];
+        for (int i = 0; i < values; i++) {
+            // Rounded so AUC sees realistic ties
+            data[i] = Math.round(rnd.nextGaussian() * 40) / 10.0;
+            homeWin[i] = rnd.nextDouble() < 0.5 + data[i] / 20;
+        }
+    }
+
+    @Benchmark
+    public StatMath.Histogram histogram() {
+        return StatMath.histogram(data);
+    }
+
+    @Benchmark
+    public StatMath.Kde kde() {
+        return StatMath.kde(data, KDE_SAMPLES);
+    }
+
+    @Benchmark
+    public double auc() {
+        return StatMath.auc(data, homeWin);
+    }
+}
@@ -0,0 +1,158 @@
+package com.yotto.basketball.service;
+
+import com.yotto.basketball.entity.Game;
+import com.yotto.basketball.entity.Team;
+import com.yotto.basketball.entity.TeamGameStats;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic season for the benchmarks: {@code teams} teams with latent
+ * strengths, {@code teams × gamesPerTeam / 2} games spread evenly over {@code dates}
+ * game days, scores drawn around the strength gap plus home court. The same
+ * parameters always produce the same season, so results are comparable across commits.
+ */
+final class SyntheticSeason {
+
+    static final long SEED = 20240101L;
+    static final LocalDate OPENING_DAY = LocalDate.of(2024, 11, 4);
+
+    /** One game in index space: team indices are 0..teams-1, {@code day} is 0..dates-1. */
+    record Matchup(int home, int away, int homeScore, int awayScore, boolean neutral, int day) {
+        int margin() { return homeScore - awayScore; }
+        int total() { return homeScore + awayScore; }
+    }
+
+    final int teams;
+    final int dates;
+    final List<Matchup> games;
+
+    SyntheticSeason(int teams, int gamesPerTeam, int dates) {
+        this.teams = teams;
+        this.dates = dates;
+        Random rnd = new Random(SEED);
+        double[] strength = new double[teams];
+        for (int i = 0; i < teams; i++) strength[i] = rnd.nextGaussian() * 8;
+
+        int count = teams * gamesPerTeam / 2;
+        games = new ArrayList<>(count);
+        for (int g = 0; g < count; g++) {
+            int home = rnd.nextInt(teams);
+            int away = rnd.nextInt(teams - 1);
+            if (away >= home) away++;
+            boolean neutral = rnd.nextInt(10) == 0;
+            int margin = (int) Math.round(strength[home] - strength[away] + (neutral ? 0 : 3) + rnd.nextGaussian() * 11);
+            if (margin == 0) margin = rnd.nextBoolean() ? 1 : -1;
+            int base = 62 + rnd.nextInt(16);
+            int homeScore = margin > 0 ? base + margin : base;
+            int awayScore = margin > 0 ? base : base - margin;
+            games.add(new Matchup(home, away, homeScore, awayScore, neutral, (int) ((long) g * dates / count)));
+        }
+    }
+
+    /** Games grouped by day index, in schedule order. */
+    List<List<Matchup>> byDay() {
+        List<List<Matchup>> days = new ArrayList<>(dates);
+        for (int d = 0; d < dates; d++) days.add(new ArrayList<>());
+        for (Matchup m : games) days.get(m.day()).add(m);
+        return days;
+    }
+
+    /** Spread-model normal equations (A, b) over every game, as MasseyRatingService accumulates them. */
+    double[][] masseyNormalEquations(double[] bOut) {
+        int size = teams + 1;
+        double[][] a = new double[size][size];
+        for (Matchup m : games) {
+            int h = m.home(), w = m.away(), hca = m.neutral() ? 0 : 1;
+            a[h][h] += 1;  a[w][w] += 1;
+            a[h][w] -= 1;  a[w][h] -= 1;
+            if (hca == 1) {
+                a[h][teams] += 1;  a[teams][h] += 1;
+                a[w][teams] -= 1;  a[teams][w] -= 1;
+                a[teams][teams] += 1;
+            }
+            bOut[h] += m.margin();
+            bOut[w] -= m.margin();
+            bOut[teams] += hca * m.margin();
+        }
+        return a;
+    }
+
+    /** Games in BradleyTerryRatingService's {hi, ai, homeWon, nonNeutral, |margin|} encoding. */
+    List<int[]> bradleyTerryGames() {
+        List<int[]> encoded = new ArrayList<>(games.size());
+        for (Matchup m : games) {
+            encoded.add(new int[]{m.home(), m.away(), m.margin() > 0 ? 1 : 0,
+                    m.neutral() ? 0 : 1, Math.abs(m.margin())});
+        }
+        return encoded;
+    }
+
+    /** Per-team game records in StatisticsTimeSeriesService's RPI input shape (team id = index + 1). */
+    Map<Long, List<StatisticsTimeSeriesService.GameRecord>> rpiGames() {
+        Map<Long, List<StatisticsTimeSeriesService.GameRecord>> byTeam = new HashMap<>();
+        for (int t = 0; t < teams; t++) byTeam.put((long) t + 1, new ArrayList<>());
+        for (Matchup m : games) {
+            boolean homeWon = m.margin() > 0;
+            byTeam.get((long) m.home() + 1).add(
+                    new StatisticsTimeSeriesService.GameRecord(m.away() + 1, true, m.neutral(), homeWon));
+            byTeam.get((long) m.away() + 1).add(
+                    new StatisticsTimeSeriesService.GameRecord(m.home() + 1, false, m.neutral(), !homeWon));
+        }
+        return byTeam;
+    }
+
+    /** Entity games with box scores for both sides, as the daily stat calculators receive them. */
+    List<BoxScoreGame> boxScoreGames() {
+        Random rnd = new Random(SEED + 1);
+        List<Team> teamEntities = new ArrayList<>(teams);
+        for (int t = 0; t < teams; t++) {
+            Team team = new Team();
+            team.setId((long) t + 1);
+            teamEntities.add(team);
+        }
+        List<BoxScoreGame> out = new ArrayList<>(games.size());
+        long id = 1;
+        for (Matchup m : games) {
+            Game game = new Game();
+            game.setId(id++);
+            game.setHomeTeam(teamEntities.get(m.home()));
+            game.setAwayTeam(teamEntities.get(m.away()));
+            game.setHomeScore(m.homeScore());
+            game.setAwayScore(m.awayScore());
+            game.setNeutralSite(m.neutral());
+            game.setStatus(Game.GameStatus.FINAL);
+            game.setGameDate(OPENING_DAY.plusDays(m.day()).atTime(19, 0));
+            out.add(new BoxScoreGame(game, boxScore(rnd, m.homeScore()), boxScore(rnd, m.awayScore()), m.day()));
+        }
+        return out;
+    }
+
+    record BoxScoreGame(Game game, TeamGameStats home, TeamGameStats away, int day) {}
+
+    private static TeamGameStats boxScore(Random rnd, int points) {
+        TeamGameStats s = new TeamGameStats();
+        int fg3m = 4 + rnd.nextInt(8);
+        int ftm = 8 + rnd.nextInt(12);
+        int fgm = Math.max(fg3m, (points - ftm - fg3m) / 2);
+        s.setFgMade(fgm);
+        s.setFgAttempted(fgm * 2 + rnd.nextInt(10));
+        s.setFg3Made(fg3m);
+        s.setFg3Attempted(fg3m * 3 + rnd.nextInt(6));
+        s.setFtMade(ftm);
+        s.setFtAttempted(ftm + rnd.nextInt(8));
+        s.setOffensiveReb(6 + rnd.nextInt(10));
+        s.setDefensiveReb(18 + rnd.nextInt(12));
+        s.setTurnovers(8 + rnd.nextInt(10));
+        s.setAssists(10 + rnd.nextInt(10));
+        s.setSteals(3 + rnd.nextInt(8));
+        s.setBlocks(1 + rnd.nextInt(6));
+        s.setFouls(12 + rnd.nextInt(10));
+        return s;
+    }
+}
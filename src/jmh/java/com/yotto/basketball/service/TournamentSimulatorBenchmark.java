@@ -0,0 +1,57 @@
+package com.yotto.basketball.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One full projection of a 68-team field (four First Four games) at the default
+ * {@code app.bracket-simulation.iterations}, plus the exact most likely bracket.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class TournamentSimulatorBenchmark {
+
+    static final int ITERATIONS = 1_000_000;
+
+    private TournamentSimulator simulator;
+
+    @Setup
+    public void setUp() {
+        int[][] slots = new int[TournamentField.ENTRIES][];
+        int teams = 0;
+        for (int e = 0; e < slots.length; e++) {
+            slots[e] = e % 16 == 1 ? new int[] {teams++, teams++} : new int[] {teams++};
+        }
+        int[] reached = new int[teams];
+        for (int[] slot : slots) for (int t : slot) reached[t] = slot.length == 2 ? 0 : 1;
+        Random random = new Random(SyntheticSeason.SEED);
+        double[] ratings = new double[teams];
+        for (int t = 0; t < teams; t++) ratings[t] = random.nextGaussian();
+        simulator = new TournamentSimulator(TournamentSimulator.bradleyTerry(ratings), slots, reached);
+    }
+
+    @Benchmark
+    public long[] simulate() {
+        return simulator.simulate(ITERATIONS, SyntheticSeason.SEED);
+    }
+
+    @Benchmark
+    public TournamentSimulator.Bracket mostLikely() {
+        return simulator.mostLikely();
+    }
+}
@@ -0,0 +1,129 @@
+package com.yotto.basketball.service;
+
+import ai.onnxruntime.OnnxTensor;
+import ai.onnxruntime.OrtEnvironment;
+import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.FloatBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of one bundle's three models (spread, total, calibrated win probability),
+ * onnxruntime vs the pure-Java scorer. The single-row benchmarks score one game per call
+ * (a game page), cycling through {@link #SLATE} rows so tree branches are not perfectly
+ * predicted; the batch benchmarks score the whole slate in one call. Models are
+ * {@link OnnxTestModels} forests sized like the trainer's XGBoost exports.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TreeEnsembleScorerBenchmark {
+
+    static final int TREES = 300;
+    static final int SLATE = 64;
+
+    private Path dir;
+    private float[] flat;
+    private float[][] batch;
+    private int next;
+
+    private OrtEnvironment env;
+    private OrtSession spreadSession;
+    private OrtSession totalSession;
+    private OrtSession winprobSession;
+
+    private JavaOnnxModel spreadModel;
+    private JavaOnnxModel totalModel;
+    private JavaOnnxModel winprobModel;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, OrtException {
+        dir = Files.createTempDirectory("tree-bench");
+        Path spread = Files.write(dir.resolve("spread.onnx"), OnnxTestModels.regressor(SyntheticSeason.SEED, TREES, "SUM"));
+        Path total = Files.write(dir.resolve("total.onnx"), OnnxTestModels.regressor(SyntheticSeason.SEED + 1, TREES, "SUM"));
+        Path winprob = Files.write(dir.resolve("winprob.onnx"), OnnxTestModels.calibratedClassifier(SyntheticSeason.SEED + 2, TREES));
+
+        batch = OnnxTestModels.rows(SyntheticSeason.SEED, SLATE);
+        flat = new float[SLATE * OnnxTestModels.FEATURES];
+        for (int r = 0; r < SLATE; r++) {
+            System.arraycopy(batch[r], 0, flat, r * OnnxTestModels.FEATURES, OnnxTestModels.FEATURES);
+        }
+
+        env = OrtEnvironment.getEnvironment();
+        spreadSession = env.createSession(spread.toString());
+        totalSession = env.createSession(total.toString());
+        winprobSession = env.createSession(winprob.toString());
+
+        spreadModel = JavaOnnxModel.regressor(spread);
+        totalModel = JavaOnnxModel.regressor(total);
+        winprobModel = JavaOnnxModel.classifier(winprob);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        spreadSession.close();
+        totalSession.close();
+        winprobSession.close();
+        try (var files = Files.list(dir)) {
+            for (Path f : files.toList()) Files.delete(f);
+        }
+        Files.delete(dir);
+    }
+
+    @Benchmark
+    public double onnxSingle() throws OrtException {
+        int row = next++ & (SLATE - 1);
+        return onnx(FloatBuffer.wrap(flat, row * OnnxTestModels.FEATURES, OnnxTestModels.FEATURES).slice(), 1);
+    }
+
+    @Benchmark
+    public double javaSingle() {
+        float[] row = batch[next++ & (SLATE - 1)];
+        return spreadModel.score(row)[0] + totalModel.score(row)[0] + winprobModel.score(row)[1];
+    }
+
+    @Benchmark
+    public double onnxBatch() throws OrtException {
+        return onnx(FloatBuffer.wrap(flat), SLATE);
+    }
+
+    @Benchmark
+    public double javaBatch() {
+        return spreadModel.score(batch)[0][0] + totalModel.score(batch)[0][0] + winprobModel.score(batch)[0][1];
+    }
+
+    private double onnx(FloatBuffer data, int rows) throws OrtException {
+        try (OnnxTensor input = OnnxTensor.createTensor(env, data, new long[] {rows, OnnxTestModels.FEATURES})) {
+            Map<String, OnnxTensor> inputs = Map.of("float_input", input);
+            return first(spreadSession, inputs, "variable")
+                    + first(totalSession, inputs, "variable")
+                    + first(winprobSession, inputs, "probabilities");
+        }
+    }
+
+    private static double first(OrtSession session, Map<String, OnnxTensor> inputs, String output) throws OrtException {
+        try (OrtSession.Result result = session.run(inputs)) {
+            return ((float[][]) result.get(output).orElseThrow().getValue())[0][0];
+        }
+    }
+}
@@ -1,23 +1,28 @@
 package com.yotto.basketball.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
-    @Bean(name = "scrapeExecutor")
-    public Executor scrapeExecutor() {
+    // Runs background_jobs claimed by JobWorker. Jobs are only claimed while a thread
+    // is free, so there is no queue here — waiting work stays in the database.
+    @Bean(name = "jobExecutor")
+    public ThreadPoolTaskExecutor jobExecutor(@Value("${app.jobs.workers:2}") int workers) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(1);
-        executor.setMaxPoolSize(1);
-        executor.setQueueCapacity(5);
-        executor.setThreadNamePrefix("scrape-");
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("job-");
         executor.initialize();
         return executor;
     }
@@ -50,4 +55,75 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    // Bounded fan-out pool for the game detail page's independent lookups. The pool
+    // size is the page's connection budget (each task holds at most one connection),
+    // so concurrent page loads can never take more of the web pool than this. When the
+    // queue is full the request thread runs the lookup itself instead of failing.
+    @Bean(name = "gameDetailExecutor")
+    public Executor gameDetailExecutor(@Value("${app.game-detail.threads:4}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("game-detail-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        // Fan-out work belongs to the page request: count its statements there, and
+        // take its connections from the web pool
+        executor.setTaskDecorator(task -> TieredDataSource.propagating(RequestQueryStats.propagating(task)));
+        executor.initialize();
+        return executor;
+    }
+
+    // Single thread for admin-started hyperparameter backtests. The run itself fans out
+    // over backtestPool; this thread only keeps it off the request and job threads.
+    // BacktestService refuses a second run while one is active; the queue of one only
+    // covers the moment between a run finishing and its thread coming free.
+    @Bean(name = "backtestExecutor")
+    public Executor backtestExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("backtest-");
+        executor.initialize();
+        return executor;
+    }
+
+    // The backtest's (season, setting) replays run inside this pool, never the common
+    // pool, so a grid run cannot starve the projections and streams that share it.
+    @Bean(name = "backtestPool", destroyMethod = "shutdown")
+    public ForkJoinPool backtestPool(@Value("${app.backtest.threads:2}") int threads) {
+        return new ForkJoinPool(threads);
+    }
+
+    // Tournament simulations' parallel streams run inside this pool instead of the common
+    // pool, so public /api/bracket requests are capped at these cores however many arrive.
+    @Bean(name = "bracketSimulationPool", destroyMethod = "shutdown")
+    public ForkJoinPool bracketSimulationPool(@Value("${app.bracket-simulation.threads:2}") int threads) {
+        return new ForkJoinPool(threads);
+    }
+
+    // Conference projections' season completions (and the catch-up when a game goes
+    // FINAL) run inside this pool, for the same reason: public requests stay off the
+    // common pool and are capped at these cores.
+    @Bean(name = "conferenceSimulationPool", destroyMethod = "shutdown")
+    public ForkJoinPool conferenceSimulationPool(@Value("${app.conference-simulation.threads:2}") int threads) {
+        return new ForkJoinPool(threads);
+    }
+
+    // Runs the streaming /api/export bodies (ExportController hands it to each WebAsyncTask).
+    // Each export holds one connection and a cursor for its whole duration, so the
+    // pool is small and the queue short: excess exports are rejected, not stacked up.
+    // These threads are not request threads, so exports draw on the batch pool.
+    @Bean(name = "exportExecutor")
+    public ThreadPoolTaskExecutor exportExecutor(@Value("${app.export.threads:2}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(4);
+        executor.setThreadNamePrefix("export-");
+        executor.initialize();
+        return executor;
+    }
 }
@@ -0,0 +1,81 @@
+package com.yotto.basketball.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/** Sizing for the two Hikari pools behind {@link TieredDataSource} ({@code app.datasource.*}). */
+@Component
+@ConfigurationProperties(prefix = "app.datasource")
+public class ConnectionPoolProperties {
+
+    private Pool web = new Pool(10, Duration.ofSeconds(5), Duration.ofSeconds(30), false);
+    private Pool batch = new Pool(6, Duration.ofSeconds(60), Duration.ofMinutes(15), true);
+
+    public Pool getWeb() {
+        return web;
+    }
+
+    public void setWeb(Pool web) {
+        this.web = web;
+    }
+
+    public Pool getBatch() {
+        return batch;
+    }
+
+    public void setBatch(Pool batch) {
+        this.batch = batch;
+    }
+
+    public static class Pool {
+
+        private int maxPoolSize;
+        private Duration connectionTimeout;
+        private Duration statementTimeout;
+        private boolean rewriteBatchedInserts;
+
+        public Pool() {
+        }
+
+        Pool(int maxPoolSize, Duration connectionTimeout, Duration statementTimeout, boolean rewriteBatchedInserts) {
+            this.maxPoolSize = maxPoolSize;
+            this.connectionTimeout = connectionTimeout;
+            this.statementTimeout = statementTimeout;
+            this.rewriteBatchedInserts = rewriteBatchedInserts;
+        }
+
+        public int getMaxPoolSize() {
+            return maxPoolSize;
+        }
+
+        public void setMaxPoolSize(int maxPoolSize) {
+            this.maxPoolSize = maxPoolSize;
+        }
+
+        public Duration getConnectionTimeout() {
+            return connectionTimeout;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            this.connectionTimeout = connectionTimeout;
+        }
+
+        public Duration getStatementTimeout() {
+            return statementTimeout;
+        }
+
+        public void setStatementTimeout(Duration statementTimeout) {
+            this.statementTimeout = statementTimeout;
+        }
+
+        public boolean isRewriteBatchedInserts() {
+            return rewriteBatchedInserts;
+        }
+
+        public void setRewriteBatchedInserts(boolean rewriteBatchedInserts) {
+            this.rewriteBatchedInserts = rewriteBatchedInserts;
+        }
+    }
+}
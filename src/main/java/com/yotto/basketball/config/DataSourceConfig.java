@@ -0,0 +1,60 @@
+package com.yotto.basketball.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Replaces Boot's single Hikari pool with a {@link TieredDataSource} over a web
+ * pool and a batch pool. Both pools use the {@code spring.datasource.*} connection
+ * settings. Size, connection wait, server-side statement timeout and
+ * {@code reWriteBatchedInserts} are set per pool in {@link ConnectionPoolProperties}.
+ * Each pool reports {@code hikaricp_connections_*} (active, pending, acquire wait,
+ * usage) to Prometheus under its own {@code pool} tag.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, ConnectionPoolProperties pools) {
+        return new TieredDataSource(
+                pool(properties, "web", pools.getWeb()),
+                pool(properties, "batch", pools.getBatch()));
+    }
+
+    @Bean
+    public MeterBinder connectionPoolMetrics(DataSource dataSource) {
+        return registry -> {
+            try {
+                for (DataSource pool : dataSource.unwrap(TieredDataSource.class).pools()) {
+                    HikariDataSource hikari = (HikariDataSource) pool;
+                    // Boot's own binder may already have claimed the pool the context started on
+                    if (hikari.getMetricRegistry() == null && hikari.getMetricsTrackerFactory() == null) {
+                        hikari.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+                    }
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("DataSource is not tiered", e);
+            }
+        };
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, String name,
+                                         ConnectionPoolProperties.Pool settings) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName(name);
+        pool.setMaximumPoolSize(settings.getMaxPoolSize());
+        pool.setConnectionTimeout(settings.getConnectionTimeout().toMillis());
+        pool.addDataSourceProperty("reWriteBatchedInserts", String.valueOf(settings.isRewriteBatchedInserts()));
+        if (!settings.getStatementTimeout().isZero()) {
+            pool.addDataSourceProperty("options", "-c statement_timeout=" + settings.getStatementTimeout().toMillis());
+        }
+        return pool;
+    }
+}
@@ -0,0 +1,179 @@
+package com.yotto.basketball.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the JDBC statements each request runs (via {@link QueryCountingDataSource})
+ * and publishes them per handler: {@code http.request.queries} (statements per
+ * request), {@code http.request.jdbc} (JDBC time per request) and
+ * {@code http.request.n_plus_one} (shapes repeated past the threshold). Each repeated
+ * shape is also logged at WARN with the repository method — or lazy-load call site —
+ * that crossed the threshold.
+ *
+ * <p>With {@code app.query-count.header=true} (the dev profile) the response carries
+ * {@code X-Query-Count} and {@code X-Query-Time} headers. Headers must be set before
+ * the body starts, so they cover the statements run up to that point; the dev profile
+ * buffers Thymeleaf output so page rendering (and its lazy loads) is included.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "app.query-count.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    static final String QUERIES = "http.request.queries";
+    static final String JDBC_TIME = "http.request.jdbc";
+    static final String N_PLUS_ONE = "http.request.n_plus_one";
+    static final String COUNT_HEADER = "X-Query-Count";
+    static final String TIME_HEADER = "X-Query-Time";
+
+    private final MeterRegistry meterRegistry;
+    private final int repeatThreshold;
+    private final boolean header;
+
+    // A provider because MVC slice tests pick up filters without the metrics auto-configuration
+    public QueryCountFilter(ObjectProvider<MeterRegistry> meterRegistry,
+                            @Value("${app.query-count.n-plus-one-threshold:10}") int repeatThreshold,
+                            @Value("${app.query-count.header:false}") boolean header) {
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.repeatThreshold = repeatThreshold;
+        this.header = header;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.begin(repeatThreshold);
+        try {
+            filterChain.doFilter(request, header ? new HeaderOnCommitResponse(response, stats) : response);
+        } finally {
+            RequestQueryStats.end();
+            publish(request, stats);
+        }
+    }
+
+    private void publish(HttpServletRequest request, RequestQueryStats stats) {
+        String handler = handlerName(request);
+        if (handler == null) {
+            // Static resources, 404s, security redirects: nothing per-handler to attribute to
+            return;
+        }
+        DistributionSummary.builder(QUERIES)
+                .description("JDBC statements executed per request")
+                .baseUnit("statements")
+                .tag("handler", handler)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(1000.0)
+                .register(meterRegistry)
+                .record(stats.count());
+        Timer.builder(JDBC_TIME)
+                .description("Total JDBC execution time per request")
+                .tag("handler", handler)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.totalNanos(), TimeUnit.NANOSECONDS);
+        for (RequestQueryStats.Repeat repeat : stats.repeats()) {
+            Counter.builder(N_PLUS_ONE)
+                    .description("Statement shapes repeated past the N+1 threshold within one request")
+                    .tag("handler", handler)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("Possible N+1 in {} {} ({}): {} x [{}] from {}", request.getMethod(),
+                    request.getRequestURI(), handler, repeat.count(), repeat.shape(), repeat.site());
+        }
+        if (log.isDebugEnabled() && stats.count() > 0) {
+            log.debug("{} {} ({}): {} statements in {} ms, slowest {}", request.getMethod(), request.getRequestURI(),
+                    handler, stats.count(), TimeUnit.NANOSECONDS.toMillis(stats.totalNanos()), stats.slowest());
+        }
+    }
+
+    /** {@code Controller.method} for the matched handler, or {@code null} if none matched. */
+    static String handlerName(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        }
+        return null;
+    }
+
+    /** Adds the query headers at the first point the response could be committed. */
+    private static final class HeaderOnCommitResponse extends HttpServletResponseWrapper {
+
+        private final RequestQueryStats stats;
+        private boolean written;
+
+        HeaderOnCommitResponse(HttpServletResponse response, RequestQueryStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        private void writeHeaders() {
+            if (!written && !isCommitted()) {
+                written = true;
+                setHeader(COUNT_HEADER, Integer.toString(stats.count()));
+                setHeader(TIME_HEADER, TimeUnit.NANOSECONDS.toMillis(stats.totalNanos()) + "ms");
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
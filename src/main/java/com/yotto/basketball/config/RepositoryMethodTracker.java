@@ -0,0 +1,59 @@
+package com.yotto.basketball.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Repository-proxy advice that remembers which repository method the current thread
+ * is inside, so {@link RequestQueryStats} can name it in N+1 warnings. Statements run
+ * outside any repository call are lazy loads; for those {@link #currentSite()} falls
+ * back to the nearest application frame on the stack.
+ */
+final class RepositoryMethodTracker implements MethodInterceptor {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+    private static final String APP_PACKAGE = "com.yotto.basketball.";
+    private static final String CONFIG_PACKAGE = RepositoryMethodTracker.class.getPackageName() + ".";
+
+    private final String repositoryName;
+
+    RepositoryMethodTracker(Class<?> repositoryInterface) {
+        this.repositoryName = repositoryInterface.getSimpleName();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String previous = CURRENT.get();
+        CURRENT.set(repositoryName + "." + invocation.getMethod().getName());
+        try {
+            return invocation.proceed();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /** {@code FooRepository.findBar}, or {@code lazy load from Caller.method:line}. */
+    static String currentSite() {
+        String repositoryMethod = CURRENT.get();
+        if (repositoryMethod != null) {
+            return repositoryMethod;
+        }
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith(APP_PACKAGE)
+                        && !f.getClassName().startsWith(CONFIG_PACKAGE)
+                        && !f.getClassName().contains("$HibernateProxy")
+                        && !f.getClassName().contains("$$SpringCGLIB"))
+                .findFirst()
+                .map(f -> "lazy load from " + simpleName(f.getClassName()) + "." + f.getMethodName()
+                        + ":" + f.getLineNumber())
+                .orElse("unknown"));
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
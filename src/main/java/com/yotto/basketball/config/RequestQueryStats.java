@@ -0,0 +1,136 @@
+package com.yotto.basketball.config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * JDBC statements executed on behalf of one HTTP request: count, total execution
+ * time, the {@link #SLOWEST} slowest statements, and per-shape repeat counts for
+ * N+1 detection. Bound to the request thread by {@link QueryCountFilter} and fed
+ * by {@link QueryCountingDataSource}; {@link #propagating} carries it onto pool
+ * threads that do work for the request (the game detail fan-out), hence the locking.
+ *
+ * <p>A statement's <em>shape</em> is its SQL with literals and IN-list lengths
+ * folded away, so {@code ... where t.id = ?} run 30 times for 30 teams counts as
+ * one shape repeated 30 times.
+ */
+public final class RequestQueryStats {
+
+    static final int SLOWEST = 3;
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public record Statement(String sql, long nanos) {}
+
+    /** A shape run more than the threshold; {@code site} is where the threshold was crossed. */
+    public record Repeat(String shape, int count, String site) {}
+
+    private static final class Shape {
+        int count;
+        String site;
+    }
+
+    private final int repeatThreshold;
+    private int count;
+    private long totalNanos;
+    private final List<Statement> slowest = new ArrayList<>(SLOWEST + 1);
+    private final Map<String, Shape> shapes = new HashMap<>();
+
+    RequestQueryStats(int repeatThreshold) {
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    /** Binds fresh stats to the current thread. */
+    static RequestQueryStats begin(int repeatThreshold) {
+        RequestQueryStats stats = new RequestQueryStats(repeatThreshold);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /** The current thread's request stats, or {@code null} outside a counted request. */
+    static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    /** Wraps {@code task} so statements it runs on another thread count toward this thread's request. */
+    public static Runnable propagating(Runnable task) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats == null) {
+            return task;
+        }
+        return () -> {
+            RequestQueryStats previous = CURRENT.get();
+            CURRENT.set(stats);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    synchronized void record(String sql, long nanos) {
+        count++;
+        totalNanos += nanos;
+        if (sql == null) {
+            return;
+        }
+        if (slowest.size() < SLOWEST || nanos > slowest.get(slowest.size() - 1).nanos()) {
+            int at = 0;
+            while (at < slowest.size() && slowest.get(at).nanos() >= nanos) at++;
+            slowest.add(at, new Statement(sql, nanos));
+            if (slowest.size() > SLOWEST) slowest.remove(SLOWEST);
+        }
+        Shape shape = shapes.computeIfAbsent(shapeOf(sql), k -> new Shape());
+        if (++shape.count == repeatThreshold + 1) {
+            // Only once per shape: the call site is what makes the warning actionable
+            shape.site = RepositoryMethodTracker.currentSite();
+        }
+    }
+
+    public synchronized int count() {
+        return count;
+    }
+
+    public synchronized long totalNanos() {
+        return totalNanos;
+    }
+
+    public synchronized List<Statement> slowest() {
+        return List.copyOf(slowest);
+    }
+
+    /** Shapes run more than the threshold, most repeated first. */
+    public synchronized List<Repeat> repeats() {
+        List<Repeat> repeats = new ArrayList<>();
+        shapes.forEach((sql, s) -> {
+            if (s.count > repeatThreshold) repeats.add(new Repeat(sql, s.count, s.site));
+        });
+        repeats.sort((a, b) -> Integer.compare(b.count(), a.count()));
+        return repeats;
+    }
+
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+}
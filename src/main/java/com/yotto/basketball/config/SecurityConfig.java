@@ -52,6 +52,10 @@ public class SecurityConfig {
                         // ADMIN passes hasRole('USER') via the role hierarchy
                         .requestMatchers("/account/**").hasRole("USER")
                         .requestMatchers("/admin/**").hasRole("ADMIN")
+                        // Bulk exports stream for minutes and each holds a batch-pool
+                        // connection on a two-thread executor; keep them off the
+                        // anonymous surface so a stray client can't pin both.
+                        .requestMatchers("/api/export/**").hasRole("USER")
                         // Public REST API is READ-ONLY for anonymous callers. Every
                         // mutating verb (POST/PUT/PATCH/DELETE) requires ADMIN so a
                         // stray curl can't rewrite or delete games/teams/scores.
@@ -0,0 +1,84 @@
+package com.yotto.basketball.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hands each connection request to the web or the batch connection pool, so that a
+ * full recalc's long transactions and batch inserts can't make page requests queue
+ * for connections. Request threads are marked {@link Tier#WEB} by {@link WebTierFilter};
+ * every other thread (job workers, exports, schedulers, startup and migrations) uses
+ * {@link Tier#BATCH}. The choice is made when a transaction takes its connection, and
+ * the transaction keeps that connection to the end.
+ */
+public class TieredDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    public enum Tier { WEB, BATCH }
+
+    private static final ThreadLocal<Tier> CURRENT = new ThreadLocal<>();
+
+    private final List<DataSource> pools;
+
+    public TieredDataSource(DataSource web, DataSource batch) {
+        setTargetDataSources(Map.of(Tier.WEB, web, Tier.BATCH, batch));
+        setDefaultTargetDataSource(batch);
+        afterPropertiesSet();
+        this.pools = List.of(web, batch);
+    }
+
+    /** The tier this thread's connections come from. */
+    public static Tier current() {
+        Tier tier = CURRENT.get();
+        return tier != null ? tier : Tier.BATCH;
+    }
+
+    /** Switches this thread to {@code tier}; pass the result to {@link #restore}. */
+    static Tier enter(Tier tier) {
+        Tier previous = CURRENT.get();
+        CURRENT.set(tier);
+        return previous;
+    }
+
+    static void restore(Tier previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /** Wraps {@code task} so it runs on the submitting thread's tier (a TaskDecorator). */
+    public static Runnable propagating(Runnable task) {
+        Tier tier = current();
+        return () -> {
+            Tier previous = enter(tier);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    List<DataSource> pools() {
+        return pools;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return current();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource pool : pools) {
+            if (pool instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
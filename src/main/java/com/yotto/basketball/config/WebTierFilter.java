@@ -0,0 +1,33 @@
+package com.yotto.basketball.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Marks request threads so their connections come from the web pool (see
+ * {@link TieredDataSource}). Runs first, so the security chain's remember-me lookups
+ * count as web traffic too.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WebTierFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        TieredDataSource.Tier previous = TieredDataSource.enter(TieredDataSource.Tier.WEB);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TieredDataSource.restore(previous);
+        }
+    }
+}
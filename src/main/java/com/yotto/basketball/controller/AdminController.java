@@ -7,8 +7,11 @@ import com.yotto.basketball.scraping.AsyncScrapeService;
 import com.yotto.basketball.scraping.TournamentReclassifier;
 import com.yotto.basketball.service.AutomationService;
 import com.yotto.basketball.service.AutomationStatus;
+import com.yotto.basketball.service.BacktestService;
+import com.yotto.basketball.service.FlightRecordingService;
 import com.yotto.basketball.service.MlModelRegistryService;
 import com.yotto.basketball.service.MlTrainingService;
+import com.yotto.basketball.service.PipelineMetrics;
 import com.yotto.basketball.service.ScrapeHistoryEntry;
 import com.yotto.basketball.service.ScrapeHistoryService;
 import com.yotto.basketball.service.SeasonHealth;
@@ -35,6 +38,9 @@ public class AdminController {
     private final ScrapeHistoryService scrapeHistoryService;
     private final AutomationService automationService;
     private final TournamentReclassifier tournamentReclassifier;
+    private final PipelineMetrics pipelineMetrics;
+    private final FlightRecordingService flightRecordingService;
+    private final BacktestService backtestService;
 
     public AdminController(SeasonRepository seasonRepository,
                            AsyncScrapeService asyncScrapeService,
@@ -43,7 +49,10 @@ public class AdminController {
                            SeasonHealthService seasonHealthService,
                            ScrapeHistoryService scrapeHistoryService,
                            AutomationService automationService,
-                           TournamentReclassifier tournamentReclassifier) {
+                           TournamentReclassifier tournamentReclassifier,
+                           PipelineMetrics pipelineMetrics,
+                           FlightRecordingService flightRecordingService,
+                           BacktestService backtestService) {
         this.seasonRepository    = seasonRepository;
         this.asyncScrapeService  = asyncScrapeService;
         this.mlModelRegistryService = mlModelRegistryService;
@@ -52,6 +61,9 @@ public class AdminController {
         this.scrapeHistoryService = scrapeHistoryService;
         this.automationService = automationService;
         this.tournamentReclassifier = tournamentReclassifier;
+        this.pipelineMetrics = pipelineMetrics;
+        this.flightRecordingService = flightRecordingService;
+        this.backtestService = backtestService;
     }
 
     @GetMapping
@@ -70,11 +82,14 @@ public class AdminController {
         model.addAttribute("seasons", seasons);
         model.addAttribute("healthByYear", healthByYear);
         model.addAttribute("entries", historyEntries);
+        model.addAttribute("jobs", scrapeHistoryService.recentJobs());
         model.addAttribute("automation", automation);
         model.addAttribute("mlModels", mlModelRegistryService.modelViews());
-        mlTrainingService.pollActiveRuns();
+        reconcileTraining();
         model.addAttribute("trainingRuns", mlTrainingService.recentRuns());
         model.addAttribute("trainingInProgress", mlTrainingService.isTrainingInProgress());
+        model.addAttribute("pipelineRuns", pipelineMetrics.latestRuns());
+        model.addAttribute("flightRecording", flightRecordingService.status());
         return "admin/dashboard";
     }
 
@@ -103,7 +118,7 @@ public class AdminController {
         if (initialize) {
             asyncScrapeService.scrapeFullSeasonAsync(year, ScrapeBatch.Source.AUTO_INITIALIZE);
             redirectAttributes.addFlashAttribute("success",
-                    "Season " + year + " added — full scrape initializing in the background");
+                    "Season " + year + " added — full scrape queued in the background");
         } else {
             redirectAttributes.addFlashAttribute("success", "Season " + year + " added");
         }
@@ -141,15 +156,13 @@ public class AdminController {
 
     @PostMapping("/scrape/full/{year}")
     public String scrapeFullSeason(@PathVariable Integer year, RedirectAttributes redirectAttributes) {
-        asyncScrapeService.scrapeFullSeasonAsync(year);
-        redirectAttributes.addFlashAttribute("success", "Full season scrape started for " + year);
+        flashQueued(redirectAttributes, asyncScrapeService.scrapeFullSeasonAsync(year), "Full season scrape for " + year);
         return "redirect:/admin";
     }
 
     @PostMapping("/scrape/current/{year}")
     public String scrapeCurrentSeason(@PathVariable Integer year, RedirectAttributes redirectAttributes) {
-        asyncScrapeService.scrapeCurrentSeasonAsync(year);
-        redirectAttributes.addFlashAttribute("success", "Current season re-scrape started for " + year);
+        flashQueued(redirectAttributes, asyncScrapeService.scrapeCurrentSeasonAsync(year), "Current season re-scrape for " + year);
         return "redirect:/admin";
     }
 
@@ -162,52 +175,46 @@ public class AdminController {
             return "redirect:/admin";
         }
         List<Integer> years = seasons.stream().map(Season::getYear).toList();
-        asyncScrapeService.scrapeAllSeasonsFullAsync(years);
+        int queued = asyncScrapeService.scrapeAllSeasonsFullAsync(years);
         redirectAttributes.addFlashAttribute("success",
-                "Full pipeline re-scrape started for all " + years.size()
-                        + " seasons (sequential) — watch Scrape History for progress");
+                "Full pipeline re-scrape queued for " + queued + " of " + years.size()
+                        + " seasons (run one at a time) — watch Scrape History for progress");
         return "redirect:/admin";
     }
 
     @PostMapping("/scrape/teams/{year}")
     public String scrapeTeams(@PathVariable Integer year, RedirectAttributes redirectAttributes) {
-        asyncScrapeService.scrapeTeamsAsync(year);
-        redirectAttributes.addFlashAttribute("success", "Team scrape started for " + year);
+        flashQueued(redirectAttributes, asyncScrapeService.scrapeTeamsAsync(year), "Team scrape for " + year);
         return "redirect:/admin";
     }
 
     @PostMapping("/scrape/odds/{year}")
     public String backfillOdds(@PathVariable Integer year, RedirectAttributes redirectAttributes) {
-        asyncScrapeService.backfillOddsAsync(year);
-        redirectAttributes.addFlashAttribute("success", "Odds backfill started for " + year);
+        flashQueued(redirectAttributes, asyncScrapeService.backfillOddsAsync(year), "Odds backfill for " + year);
         return "redirect:/admin";
     }
 
     @PostMapping("/scrape/game-stats/{year}")
     public String backfillGameStats(@PathVariable Integer year, RedirectAttributes redirectAttributes) {
-        asyncScrapeService.backfillGameStatsAsync(year);
-        redirectAttributes.addFlashAttribute("success", "Game stats backfill started for " + year);
+        flashQueued(redirectAttributes, asyncScrapeService.backfillGameStatsAsync(year), "Game stats backfill for " + year);
         return "redirect:/admin";
     }
 
     @PostMapping("/scrape/stats/{year}")
     public String calculateStats(@PathVariable Integer year, RedirectAttributes redirectAttributes) {
-        asyncScrapeService.calculateStatsAsync(year);
-        redirectAttributes.addFlashAttribute("success", "Stats calculation started for " + year);
+        flashQueued(redirectAttributes, asyncScrapeService.calculateStatsAsync(year), "Stats calculation for " + year);
         return "redirect:/admin";
     }
 
     @PostMapping("/scrape/timeseries/{year}")
     public String calculateTimeSeries(@PathVariable Integer year, RedirectAttributes redirectAttributes) {
-        asyncScrapeService.calculateTimeSeriesAsync(year);
-        redirectAttributes.addFlashAttribute("success", "Time-series stats calculation started for " + year);
+        flashQueued(redirectAttributes, asyncScrapeService.calculateTimeSeriesAsync(year), "Time-series stats calculation for " + year);
         return "redirect:/admin";
     }
 
     @PostMapping("/power-ratings/{year}")
     public String calculatePowerRatings(@PathVariable Integer year, RedirectAttributes redirectAttributes) {
-        asyncScrapeService.calculatePowerRatingsAsync(year);
-        redirectAttributes.addFlashAttribute("success", "Power ratings calculation started for " + year);
+        flashQueued(redirectAttributes, asyncScrapeService.calculatePowerRatingsAsync(year), "Power ratings calculation for " + year);
         return "redirect:/admin";
     }
 
@@ -222,14 +229,14 @@ public class AdminController {
     @GetMapping("/scrape-history")
     public String scrapeHistory(Model model) {
         model.addAttribute("entries", scrapeHistoryService.recentEntries());
+        model.addAttribute("jobs", scrapeHistoryService.recentJobs());
         return "admin/fragments/scrape-history :: scrape-table";
     }
 
     @PostMapping("/automation/run-now")
     public String runScheduledCycleNow(RedirectAttributes redirectAttributes) {
-        asyncScrapeService.runScheduledCycleAsync();
-        redirectAttributes.addFlashAttribute("success",
-                "Scheduled re-scrape cycle kicked off — watch Scrape History for progress");
+        flashQueued(redirectAttributes, asyncScrapeService.runScheduledCycleAsync(),
+                "Scheduled re-scrape cycle");
         return "redirect:/admin";
     }
 
@@ -309,10 +316,13 @@ public class AdminController {
         return "redirect:/admin";
     }
 
-    /** HTMX-polled fragment: reconciles RUNNING rows with the trainer, then renders history. */
+    /**
+     * HTMX-polled fragment: queues a reconcile of RUNNING rows with the trainer, then
+     * renders history. A finished run shows up on a later poll, once a worker has run it.
+     */
     @GetMapping("/ml/training-status")
     public String mlTrainingStatus(Model model) {
-        mlTrainingService.pollActiveRuns();
+        reconcileTraining();
         model.addAttribute("trainingRuns", mlTrainingService.recentRuns());
         model.addAttribute("trainingInProgress", mlTrainingService.isTrainingInProgress());
         return "admin/fragments/ml-training-runs :: training-runs";
@@ -330,6 +340,22 @@ public class AdminController {
         return kickOffEvaluation(true, redirectAttributes);
     }
 
+    /**
+     * Replays every season in memory under the hyperparameter grid (async); the results
+     * table is on the model performance page.
+     */
+    @PostMapping("/backtest")
+    public String runBacktest(RedirectAttributes redirectAttributes) {
+        List<Integer> years = seasonRepository.findAll().stream()
+                .map(Season::getYear)
+                .sorted()
+                .toList();
+        redirectAttributes.addFlashAttribute("success", backtestService.start(years)
+                ? "Backtest started over " + years.size() + " season(s) — refresh for results"
+                : "A backtest is already running");
+        return "redirect:/predictions/performance";
+    }
+
     private String kickOffEvaluation(boolean rebuild, RedirectAttributes redirectAttributes) {
         List<Integer> years = seasonRepository.findAll().stream()
                 .map(Season::getYear)
@@ -339,10 +365,23 @@ public class AdminController {
             redirectAttributes.addFlashAttribute("error", "No seasons configured");
             return "redirect:/admin";
         }
-        asyncScrapeService.evaluatePredictionsAsync(years, rebuild);
+        int queued = asyncScrapeService.evaluatePredictionsAsync(years, rebuild);
         redirectAttributes.addFlashAttribute("success",
                 (rebuild ? "Prediction evaluation rebuild" : "Prediction evaluation")
-                        + " started for " + years.size() + " season(s)");
+                        + " queued for " + queued + " of " + years.size() + " season(s)");
         return "redirect:/admin";
     }
+
+    /** Queues a trainer reconcile only while a run is in progress; finished runs need none. */
+    private void reconcileTraining() {
+        if (mlTrainingService.isTrainingInProgress()) {
+            asyncScrapeService.reconcileTrainingAsync();
+        }
+    }
+
+    private static void flashQueued(RedirectAttributes redirectAttributes, boolean queued, String what) {
+        redirectAttributes.addFlashAttribute("success", queued
+                ? what + " queued — watch Scrape History for progress"
+                : what + " is already queued or running");
+    }
 }
@@ -0,0 +1,71 @@
+package com.yotto.basketball.controller;
+
+import com.yotto.basketball.service.FlightRecordingService;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/** Start, stop and download of bounded JFR recordings from the admin dashboard. */
+@Controller
+@RequestMapping("/admin/jfr")
+public class AdminFlightRecordingController {
+
+    private final FlightRecordingService flightRecordingService;
+
+    public AdminFlightRecordingController(FlightRecordingService flightRecordingService) {
+        this.flightRecordingService = flightRecordingService;
+    }
+
+    @PostMapping("/start")
+    public String start(@RequestParam(name = "minutes", required = false) Integer minutes,
+                        RedirectAttributes redirectAttributes) {
+        try {
+            FlightRecordingService.Status status =
+                    flightRecordingService.start(minutes != null ? Duration.ofMinutes(minutes) : null);
+            redirectAttributes.addFlashAttribute("success",
+                    "Flight recording started — stops automatically after "
+                            + status.duration().toMinutes() + " min");
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
+        }
+        return "redirect:/admin";
+    }
+
+    @PostMapping("/stop")
+    public String stop(RedirectAttributes redirectAttributes) {
+        try {
+            flightRecordingService.stop();
+            redirectAttributes.addFlashAttribute("success", "Flight recording stopped — ready to download");
+        } catch (IllegalStateException e) {
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
+        }
+        return "redirect:/admin";
+    }
+
+    @GetMapping("/download")
+    public ResponseEntity<Resource> download() {
+        return flightRecordingService.finishedFile()
+                .map(AdminFlightRecordingController::attachment)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private static ResponseEntity<Resource> attachment(Path file) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(file.getFileName().toString()).build().toString())
+                .body(new FileSystemResource(file));
+    }
+}
@@ -0,0 +1,61 @@
+package com.yotto.basketball.controller;
+
+import com.yotto.basketball.service.TournamentProjection;
+import com.yotto.basketball.service.TournamentSimulationService;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Simulated NCAA tournament odds. Each {@code lock} is {@code teamId:round}, where round
+ * indexes the response's {@code rounds} list ({@code 0} = round of 64, {@code 6} =
+ * champion): the team is assumed to get at least that far. Without locks the projection
+ * is served from {@link TournamentSimulationService}'s cache; with locks it is simulated
+ * per request, at a smaller iteration count. {@code date} picks the latest ratings on
+ * or before it.
+ */
+@RestController
+@RequestMapping("/api/bracket")
+public class BracketProjectionController {
+
+    private final TournamentSimulationService simulationService;
+
+    public BracketProjectionController(TournamentSimulationService simulationService) {
+        this.simulationService = simulationService;
+    }
+
+    @GetMapping("/{year}/projections")
+    public TournamentProjection projections(
+            @PathVariable Integer year,
+            @RequestParam(defaultValue = "bradley-terry") String model,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(name = "lock", required = false) List<String> lock) {
+        return simulationService.project(year, model, date, parseLocks(lock))
+                .orElseThrow(() -> new EntityNotFoundException("No bracket or ratings to simulate for " + year));
+    }
+
+    static Map<Long, Integer> parseLocks(List<String> locks) {
+        Map<Long, Integer> parsed = new LinkedHashMap<>();
+        if (locks == null) return parsed;
+        for (String lock : locks) {
+            int colon = lock.indexOf(':');
+            try {
+                if (colon < 0) throw new NumberFormatException();
+                parsed.merge(Long.parseLong(lock.substring(0, colon).trim()),
+                        Integer.parseInt(lock.substring(colon + 1).trim()), Math::max);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Lock must be teamId:round, got: " + lock);
+            }
+        }
+        return parsed;
+    }
+}
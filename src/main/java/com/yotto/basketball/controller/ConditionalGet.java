@@ -0,0 +1,64 @@
+package com.yotto.basketball.controller;
+
+import com.yotto.basketball.service.ApiVersionService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Conditional-GET handling for the polled JSON APIs. The strong ETag hashes the
+ * data's version stamp (see {@link ApiVersionService}) with the request path and
+ * query, so it changes exactly when either does. Usage in a handler:
+ *
+ * <pre>
+ * if (conditionalGet.notModified(request, versions.season(year))) return null;
+ * </pre>
+ *
+ * A {@code null} return after a positive check lets Spring MVC finish the 304.
+ *
+ * <p>{@code Cache-Control} lets a shared cache (reverse proxy) serve repeats for
+ * {@code app.api-cache.shared-max-age} and revalidate afterwards, while browsers
+ * always revalidate — cheap, since a match never reaches the snapshot tables.
+ */
+@Component
+public class ConditionalGet {
+
+    private final CacheControl cacheControl;
+
+    public ConditionalGet(@Value("${app.api-cache.shared-max-age:60s}") Duration sharedMaxAge) {
+        this.cacheControl = CacheControl.maxAge(Duration.ZERO)
+                .sMaxAge(sharedMaxAge)
+                .cachePublic()
+                .mustRevalidate();
+    }
+
+    /**
+     * Sets the validators and returns true when the client's copy is current (the 304
+     * status is already set). Without a version the response is served unconditionally.
+     */
+    public boolean notModified(ServletWebRequest request, Optional<ApiVersionService.Version> version) {
+        if (version.isEmpty()) {
+            return false;
+        }
+        request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        String etag = etag(request.getRequest(), version.get().token());
+        Long lastModified = version.get().lastModifiedMillis();
+        return lastModified != null
+                ? request.checkNotModified(etag, lastModified)
+                : request.checkNotModified(etag);
+    }
+
+    static String etag(HttpServletRequest request, String token) {
+        String query = request.getQueryString();
+        String key = token + "|" + request.getRequestURI() + (query != null ? "?" + query : "");
+        return "\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -3,7 +3,10 @@ package com.yotto.basketball.controller;
 import com.yotto.basketball.dto.ConferenceResponse;
 import com.yotto.basketball.entity.Conference;
 import com.yotto.basketball.repository.ConferenceNameHistoryRepository;
+import com.yotto.basketball.service.ConferenceProjection;
+import com.yotto.basketball.service.ConferenceProjectionService;
 import com.yotto.basketball.service.ConferenceService;
+import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,11 +20,14 @@ public class ConferenceController {
 
     private final ConferenceService conferenceService;
     private final ConferenceNameHistoryRepository nameHistoryRepository;
+    private final ConferenceProjectionService projectionService;
 
     public ConferenceController(ConferenceService conferenceService,
-                                ConferenceNameHistoryRepository nameHistoryRepository) {
+                                ConferenceNameHistoryRepository nameHistoryRepository,
+                                ConferenceProjectionService projectionService) {
         this.conferenceService = conferenceService;
         this.nameHistoryRepository = nameHistoryRepository;
+        this.projectionService = projectionService;
     }
 
     @PostMapping
@@ -36,6 +42,15 @@ public class ConferenceController {
                 nameHistoryRepository.findByConferenceIdOrderByLastSeasonYearAsc(id)));
     }
 
+    /** Simulated final conference standings from the model's latest ratings. */
+    @GetMapping("/{id}/{year}/projections")
+    public ConferenceProjection projections(@PathVariable Long id, @PathVariable Integer year,
+                                            @RequestParam(defaultValue = "massey") String model) {
+        return projectionService.project(id, year, model)
+                .orElseThrow(() -> new EntityNotFoundException("No members or ratings to simulate for conference "
+                        + id + " in " + year));
+    }
+
     @GetMapping
     public ResponseEntity<List<Conference>> findAll() {
         return ResponseEntity.ok(conferenceService.findAll());
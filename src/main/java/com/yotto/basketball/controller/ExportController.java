@@ -0,0 +1,77 @@
+package com.yotto.basketball.controller;
+
+import com.yotto.basketball.service.BulkExportService;
+import com.yotto.basketball.service.BulkExportService.Dataset;
+import com.yotto.basketball.service.BulkExportService.Format;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Bulk export of snapshot, game and evaluation tables in one request:
+ * {@code GET /api/export/{dataset}?season=2024&season=2025&format=csv|ndjson}.
+ * Omitting {@code season} exports every season. Rows are ordered by {@code id}; resume
+ * an interrupted download, or page through, with {@code after=<last id>} and an
+ * optional {@code limit}. The body streams from a database cursor on the export
+ * executor, so memory stays flat however many rows there are.
+ *
+ * <p>Exports run long and each holds a batch-pool connection, so they get their own
+ * executor and timeout ({@code app.export.*}) rather than the MVC-wide async
+ * defaults, and require a signed-in user (see {@code SecurityConfig}).
+ */
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+
+    static final int MAX_LIMIT = 1_000_000;
+
+    private final BulkExportService exportService;
+    private final AsyncTaskExecutor exportExecutor;
+    private final Duration timeout;
+
+    public ExportController(BulkExportService exportService,
+                            @Qualifier("exportExecutor") AsyncTaskExecutor exportExecutor,
+                            @Value("${app.export.timeout:30m}") Duration timeout) {
+        this.exportService = exportService;
+        this.exportExecutor = exportExecutor;
+        this.timeout = timeout;
+    }
+
+    @GetMapping("/{dataset}")
+    public WebAsyncTask<Void> export(
+            @PathVariable String dataset,
+            @RequestParam(name = "season", required = false) List<Integer> seasons,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(required = false) Integer limit,
+            HttpServletResponse response) {
+        Dataset ds = Dataset.bySlug(dataset)
+                .orElseThrow(() -> new EntityNotFoundException("Unknown export dataset: " + dataset));
+        Format fmt = Format.parse(format);
+        if (limit != null && (limit < 1 || limit > MAX_LIMIT)) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        var request = new BulkExportService.Request(ds, seasons != null ? seasons : List.of(), after, limit, fmt);
+
+        response.setContentType(fmt.contentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + ds.slug() + "." + fmt.extension() + "\"");
+        return new WebAsyncTask<>(timeout.toMillis(), exportExecutor, () -> {
+            exportService.export(request, response.getOutputStream());
+            response.flushBuffer();
+            return null;
+        });
+    }
+}
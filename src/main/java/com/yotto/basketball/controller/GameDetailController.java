@@ -6,52 +6,36 @@ import com.yotto.basketball.controller.dto.ChartDataDto;
 import com.yotto.basketball.controller.dto.LastMeetingDto;
 import com.yotto.basketball.controller.dto.SeasonGameMarkerDto;
 import com.yotto.basketball.entity.*;
-import com.yotto.basketball.repository.*;
+import com.yotto.basketball.repository.GameRepository;
 import com.yotto.basketball.service.ConferenceNamingService;
-import com.yotto.basketball.service.PredictionResult;
-import com.yotto.basketball.service.PredictionService;
+import com.yotto.basketball.service.GameDetailAssembler;
+import com.yotto.basketball.service.GameDetailAssembler.GameDetail;
+import com.yotto.basketball.service.GameDetailAssembler.TeamSide;
 import jakarta.persistence.EntityNotFoundException;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 @Controller
 public class GameDetailController {
 
     private final GameRepository gameRepository;
-    private final PredictionService predictionService;
-    private final SeasonStatisticsRepository seasonStatsRepository;
-    private final TeamPowerRatingSnapshotRepository powerRatingRepository;
-    private final TeamSeasonStatSnapshotRepository statSnapshotRepository;
-    private final TeamStatSnapshotRepository derivedStatRepository;
+    private final GameDetailAssembler gameDetailAssembler;
     private final ObjectMapper objectMapper;
     private final TournamentBadgeFormatter tournamentBadgeFormatter;
     private final ConferenceNamingService namingService;
 
     public GameDetailController(GameRepository gameRepository,
-                                PredictionService predictionService,
-                                SeasonStatisticsRepository seasonStatsRepository,
-                                TeamPowerRatingSnapshotRepository powerRatingRepository,
-                                TeamSeasonStatSnapshotRepository statSnapshotRepository,
-                                TeamStatSnapshotRepository derivedStatRepository,
+                                GameDetailAssembler gameDetailAssembler,
                                 ObjectMapper objectMapper,
                                 TournamentBadgeFormatter tournamentBadgeFormatter,
                                 ConferenceNamingService namingService) {
         this.gameRepository = gameRepository;
-        this.predictionService = predictionService;
-        this.seasonStatsRepository = seasonStatsRepository;
-        this.powerRatingRepository = powerRatingRepository;
-        this.statSnapshotRepository = statSnapshotRepository;
-        this.derivedStatRepository = derivedStatRepository;
+        this.gameDetailAssembler = gameDetailAssembler;
         this.objectMapper = objectMapper;
         this.tournamentBadgeFormatter = tournamentBadgeFormatter;
         this.namingService = namingService;
@@ -66,9 +50,6 @@ public class GameDetailController {
         Team away = game.getAwayTeam();
         BettingOdds odds = game.getBettingOdds();
         Season season = game.getSeason();
-        Long seasonId = season.getId();
-        LocalDate gameLocalDate = game.getGameDate().toLocalDate();
-        LocalDateTime gameDateTime = game.getGameDate();
 
         // ── Basic game attributes ───────────────────────────────────────────────
         model.addAttribute("gameId", game.getId());
@@ -102,15 +83,17 @@ public class GameDetailController {
         model.addAttribute("tournamentRound", game.getTournamentRound());
         model.addAttribute("tournamentRegion", game.getTournamentRegion());
 
+        // ── Everything else, fetched concurrently ───────────────────────────────
+        GameDetail detail = gameDetailAssembler.assemble(game);
+        TeamSide homeSide = detail.home();
+        TeamSide awaySide = detail.away();
+
         // ── Predictions ─────────────────────────────────────────────────────────
-        PredictionResult prediction = predictionService.predict(id);
-        model.addAttribute("prediction", prediction);
+        model.addAttribute("prediction", detail.prediction());
 
         // ── Season statistics (includes conference for header) ───────────────────
-        SeasonStatistics homeStats = seasonStatsRepository
-                .findByTeamAndSeasonWithConference(home.getId(), seasonId).orElse(null);
-        SeasonStatistics awayStats = seasonStatsRepository
-                .findByTeamAndSeasonWithConference(away.getId(), seasonId).orElse(null);
+        SeasonStatistics homeStats = homeSide.stats();
+        SeasonStatistics awayStats = awaySide.stats();
 
         String conferenceName = null;
         if (Boolean.TRUE.equals(game.getConferenceGame()) && homeStats != null) {
@@ -121,88 +104,47 @@ public class GameDetailController {
         model.addAttribute("awayStats", awayStats);
 
         // ── Last 5 meetings ─────────────────────────────────────────────────────
-        List<Game> h2hGames = gameRepository.findAllH2HGames(home.getId(), away.getId(), id);
-        List<LastMeetingDto> lastMeetings = h2hGames.stream()
+        List<LastMeetingDto> lastMeetings = detail.headToHead().stream()
                 .limit(5)
                 .map(this::toLastMeeting)
                 .toList();
         model.addAttribute("lastMeetings", lastMeetings);
 
         // ── Neutral-site record this season ─────────────────────────────────────
-        List<Game> homeNeutral = gameRepository.findNeutralSiteFinalGames(home.getId(), seasonId);
-        List<Game> awayNeutral = gameRepository.findNeutralSiteFinalGames(away.getId(), seasonId);
-        model.addAttribute("homeNeutralWins", countWins(homeNeutral, home.getId()));
-        model.addAttribute("homeNeutralLosses", countLosses(homeNeutral, home.getId()));
-        model.addAttribute("awayNeutralWins", countWins(awayNeutral, away.getId()));
-        model.addAttribute("awayNeutralLosses", countLosses(awayNeutral, away.getId()));
+        model.addAttribute("homeNeutralWins", countWins(homeSide.neutralSiteGames(), home.getId()));
+        model.addAttribute("homeNeutralLosses", countLosses(homeSide.neutralSiteGames(), home.getId()));
+        model.addAttribute("awayNeutralWins", countWins(awaySide.neutralSiteGames(), away.getId()));
+        model.addAttribute("awayNeutralLosses", countLosses(awaySide.neutralSiteGames(), away.getId()));
 
         // ── Last-5-games record ─────────────────────────────────────────────────
-        List<Game> homeLast5 = gameRepository.findRecentFinalGamesForTeam(
-                home.getId(), gameDateTime, PageRequest.of(0, 5));
-        List<Game> awayLast5 = gameRepository.findRecentFinalGamesForTeam(
-                away.getId(), gameDateTime, PageRequest.of(0, 5));
-        model.addAttribute("homeLast5Wins", countWins(homeLast5, home.getId()));
-        model.addAttribute("homeLast5Losses", countLosses(homeLast5, home.getId()));
-        model.addAttribute("awayLast5Wins", countWins(awayLast5, away.getId()));
-        model.addAttribute("awayLast5Losses", countLosses(awayLast5, away.getId()));
+        model.addAttribute("homeLast5Wins", countWins(homeSide.last5Games(), home.getId()));
+        model.addAttribute("homeLast5Losses", countLosses(homeSide.last5Games(), home.getId()));
+        model.addAttribute("awayLast5Wins", countWins(awaySide.last5Games(), away.getId()));
+        model.addAttribute("awayLast5Losses", countLosses(awaySide.last5Games(), away.getId()));
 
         // ── Power ratings ────────────────────────────────────────────────────────
-        TeamPowerRatingSnapshot homeMassey = powerRatingRepository
-                .findLatestBefore(home.getId(), seasonId, "MASSEY", gameLocalDate).orElse(null);
-        TeamPowerRatingSnapshot awayMassey = powerRatingRepository
-                .findLatestBefore(away.getId(), seasonId, "MASSEY", gameLocalDate).orElse(null);
-        TeamPowerRatingSnapshot homeBT = powerRatingRepository
-                .findLatestBefore(home.getId(), seasonId, "BRADLEY_TERRY", gameLocalDate).orElse(null);
-        TeamPowerRatingSnapshot awayBT = powerRatingRepository
-                .findLatestBefore(away.getId(), seasonId, "BRADLEY_TERRY", gameLocalDate).orElse(null);
-        TeamPowerRatingSnapshot homeBTW = powerRatingRepository
-                .findLatestBefore(home.getId(), seasonId, "BRADLEY_TERRY_W", gameLocalDate).orElse(null);
-        TeamPowerRatingSnapshot awayBTW = powerRatingRepository
-                .findLatestBefore(away.getId(), seasonId, "BRADLEY_TERRY_W", gameLocalDate).orElse(null);
-        model.addAttribute("homeMassey", homeMassey);
-        model.addAttribute("awayMassey", awayMassey);
-        model.addAttribute("homeBT", homeBT);
-        model.addAttribute("awayBT", awayBT);
-        model.addAttribute("homeBTW", homeBTW);
-        model.addAttribute("awayBTW", awayBTW);
+        model.addAttribute("homeMassey", homeSide.massey());
+        model.addAttribute("awayMassey", awaySide.massey());
+        model.addAttribute("homeBT", homeSide.bradleyTerry());
+        model.addAttribute("awayBT", awaySide.bradleyTerry());
+        model.addAttribute("homeBTW", homeSide.bradleyTerryWeighted());
+        model.addAttribute("awayBTW", awaySide.bradleyTerryWeighted());
 
         // ── Stat snapshots (for RPI, ellipse, marginals) ─────────────────────────
-        TeamSeasonStatSnapshot homeSnap = statSnapshotRepository
-                .findLatestBefore(home.getId(), seasonId, gameLocalDate).orElse(null);
-        TeamSeasonStatSnapshot awaySnap = statSnapshotRepository
-                .findLatestBefore(away.getId(), seasonId, gameLocalDate).orElse(null);
+        TeamSeasonStatSnapshot homeSnap = homeSide.snapshot();
+        TeamSeasonStatSnapshot awaySnap = awaySide.snapshot();
         model.addAttribute("homeSnap", homeSnap);
         model.addAttribute("awaySnap", awaySnap);
+        model.addAttribute("homeRpiRank", homeSide.rpiRank());
+        model.addAttribute("awayRpiRank", awaySide.rpiRank());
 
         // ── Derived box-score stats (shooting, rebounding, four factors) ─────────
-        model.addAttribute("homeDerived", derivedStatsByName(home.getId(), seasonId, gameLocalDate));
-        model.addAttribute("awayDerived", derivedStatsByName(away.getId(), seasonId, gameLocalDate));
-
-        // RPI rank: find all snaps on the same date, sort by RPI desc, determine rank
-        Integer homeRpiRank = null;
-        Integer awayRpiRank = null;
-        if (homeSnap != null && homeSnap.getRpi() != null) {
-            List<TeamSeasonStatSnapshot> allSnaps = statSnapshotRepository
-                    .findBySeasonAndDate(seasonId, homeSnap.getSnapshotDate());
-            homeRpiRank = 1 + (int) allSnaps.stream()
-                    .filter(s -> s.getRpi() != null && s.getRpi() > homeSnap.getRpi())
-                    .count();
-        }
-        if (awaySnap != null && awaySnap.getRpi() != null) {
-            List<TeamSeasonStatSnapshot> allSnaps = statSnapshotRepository
-                    .findBySeasonAndDate(seasonId, awaySnap.getSnapshotDate());
-            awayRpiRank = 1 + (int) allSnaps.stream()
-                    .filter(s -> s.getRpi() != null && s.getRpi() > awaySnap.getRpi())
-                    .count();
-        }
-        model.addAttribute("homeRpiRank", homeRpiRank);
-        model.addAttribute("awayRpiRank", awayRpiRank);
+        model.addAttribute("homeDerived", homeSide.derived());
+        model.addAttribute("awayDerived", awaySide.derived());
 
         // ── Chart data ──────────────────────────────────────────────────────────
-        List<Game> homeSeasonGames = gameRepository.findSeasonFinalGamesForTeamBefore(
-                home.getId(), seasonId, gameDateTime);
-        List<Game> awaySeasonGames = gameRepository.findSeasonFinalGamesForTeamBefore(
-                away.getId(), seasonId, gameDateTime);
+        List<Game> homeSeasonGames = homeSide.seasonGamesBefore();
+        List<Game> awaySeasonGames = awaySide.seasonGamesBefore();
 
         int[] homeForArr = homeSeasonGames.stream()
                 .mapToInt(g -> g.getHomeTeam().getId().equals(home.getId()) ? g.getHomeScore() : g.getAwayScore())
@@ -274,15 +216,6 @@ public class GameDetailController {
 
     // ── Helpers ──────────────────────────────────────────────────────────────────
 
-    /** Latest pre-game derived stats for a team, keyed by stat name for template lookup. */
-    private Map<String, TeamStatSnapshot> derivedStatsByName(Long teamId, Long seasonId, LocalDate beforeDate) {
-        Map<String, TeamStatSnapshot> byName = new HashMap<>();
-        for (TeamStatSnapshot s : derivedStatRepository.findLatestBefore(teamId, seasonId, beforeDate)) {
-            byName.put(s.getStatName(), s);
-        }
-        return byName;
-    }
-
     private boolean isWinner(Game g, Long teamId) {
         if (g.getHomeScore() == null || g.getAwayScore() == null) return false;
         if (teamId.equals(g.getHomeTeam().getId())) return g.getHomeScore() > g.getAwayScore();
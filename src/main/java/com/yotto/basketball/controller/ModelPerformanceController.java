@@ -1,8 +1,10 @@
 package com.yotto.basketball.controller;
 
 import com.yotto.basketball.repository.PredictionEvaluationRepository;
+import com.yotto.basketball.service.BacktestService;
 import com.yotto.basketball.service.BradleyTerryRatingService;
 import com.yotto.basketball.service.ConferenceNamingService;
+import com.yotto.basketball.service.EloRatingService;
 import com.yotto.basketball.service.MasseyRatingService;
 import com.yotto.basketball.service.MlModelRegistryService;
 import com.yotto.basketball.service.PredictionEvaluationService;
@@ -19,7 +21,9 @@ import java.util.Map;
 /**
  * Public model-performance page: aggregate prediction accuracy per model (spread,
  * total, win probability) for a season, benchmarked against the book closing line.
- * Data comes from {@code prediction_evaluations} (see PredictionEvaluationService).
+ * Metrics are ratios of the per-day sums in {@code prediction_metric_rollups}, which
+ * PredictionEvaluationService maintains alongside {@code prediction_evaluations}, so the
+ * page's cost doesn't grow with the number of evaluated games.
  */
 @Controller
 public class ModelPerformanceController {
@@ -30,6 +34,7 @@ public class ModelPerformanceController {
             MasseyRatingService.MODEL_TYPE_TOTALS,         "Massey Totals",
             BradleyTerryRatingService.MODEL_TYPE,          "Bradley-Terry",
             BradleyTerryRatingService.MODEL_TYPE_WEIGHTED, "Weighted Bradley-Terry",
+            EloRatingService.MODEL_TYPE,                   "Elo",
             PredictionEvaluationService.MODEL_BOOK,        "Book Closing Line");
 
     private static final List<String> DISPLAY_ORDER = List.of(
@@ -37,6 +42,7 @@ public class ModelPerformanceController {
             MasseyRatingService.MODEL_TYPE_TOTALS,
             BradleyTerryRatingService.MODEL_TYPE,
             BradleyTerryRatingService.MODEL_TYPE_WEIGHTED,
+            EloRatingService.MODEL_TYPE,
             PredictionEvaluationService.MODEL_BOOK);
 
     /** Game segments: dropdown key → tournament_type values ('NONE' = regular season). */
@@ -54,17 +60,20 @@ public class ModelPerformanceController {
     private final com.yotto.basketball.repository.ConferenceRepository conferenceRepository;
     private final MlModelRegistryService mlModelRegistryService;
     private final ConferenceNamingService conferenceNamingService;
+    private final BacktestService backtestService;
 
     public ModelPerformanceController(PredictionEvaluationRepository evaluationRepository,
                                       com.yotto.basketball.repository.SeasonRepository seasonRepository,
                                       com.yotto.basketball.repository.ConferenceRepository conferenceRepository,
                                       MlModelRegistryService mlModelRegistryService,
-                                      ConferenceNamingService conferenceNamingService) {
+                                      ConferenceNamingService conferenceNamingService,
+                                      BacktestService backtestService) {
         this.evaluationRepository = evaluationRepository;
         this.seasonRepository = seasonRepository;
         this.conferenceRepository = conferenceRepository;
         this.mlModelRegistryService = mlModelRegistryService;
         this.conferenceNamingService = conferenceNamingService;
+        this.backtestService = backtestService;
     }
 
     @GetMapping("/predictions/performance")
@@ -89,6 +98,10 @@ public class ModelPerformanceController {
         model.addAttribute("window", last30 ? "30" : "season");
         model.addAttribute("segment", selectedSegment);
         model.addAttribute("currentPage", "predictions");
+        // Admin-only card (the template guards it); the report is in memory
+        model.addAttribute("backtest", backtestService.latest());
+        model.addAttribute("backtestRunning", backtestService.isRunning());
+        model.addAttribute("backtestError", backtestService.lastError());
 
         boolean hasData = allSeasons || selectedYear != null;
         model.addAttribute("hasData", hasData);
@@ -5,16 +5,27 @@ import com.yotto.basketball.entity.TeamPowerRatingSnapshot;
 import com.yotto.basketball.repository.PowerModelParamSnapshotRepository;
 import com.yotto.basketball.repository.SeasonRepository;
 import com.yotto.basketball.repository.TeamPowerRatingSnapshotRepository;
+import com.yotto.basketball.service.ApiVersionService;
 import com.yotto.basketball.service.BradleyTerryRatingService;
 import com.yotto.basketball.service.MasseyRatingService;
+import com.yotto.basketball.service.WhatIfRatingService;
+import com.yotto.basketball.service.WhatIfRatings;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Power-rating leaderboards, team series and model parameters. Every snapshot
+ * endpoint answers conditional GETs against the season's calc watermark (see
+ * {@link ConditionalGet}) before touching the snapshot tables; what-if ratings are
+ * computed per request.
+ */
 @RestController
 @RequestMapping("/api/power-ratings")
 public class PowerRatingController {
@@ -22,20 +33,31 @@ public class PowerRatingController {
     private final SeasonRepository seasonRepository;
     private final TeamPowerRatingSnapshotRepository ratingRepository;
     private final PowerModelParamSnapshotRepository paramRepository;
+    private final ApiVersionService apiVersionService;
+    private final ConditionalGet conditionalGet;
+    private final WhatIfRatingService whatIfRatingService;
 
     public PowerRatingController(SeasonRepository seasonRepository,
                                  TeamPowerRatingSnapshotRepository ratingRepository,
-                                 PowerModelParamSnapshotRepository paramRepository) {
+                                 PowerModelParamSnapshotRepository paramRepository,
+                                 ApiVersionService apiVersionService,
+                                 ConditionalGet conditionalGet,
+                                 WhatIfRatingService whatIfRatingService) {
         this.seasonRepository = seasonRepository;
         this.ratingRepository = ratingRepository;
         this.paramRepository  = paramRepository;
+        this.apiVersionService = apiVersionService;
+        this.conditionalGet   = conditionalGet;
+        this.whatIfRatingService = whatIfRatingService;
     }
 
     /** Massey (Margin) leaderboard for a season, optionally filtered to a specific date. */
     @GetMapping("/{year}/massey")
     public List<RatingDto> masseyLeaderboard(
             @PathVariable Integer year,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            ServletWebRequest request) {
+        if (notModified(request, year)) return null;
         return leaderboard(year, MasseyRatingService.MODEL_TYPE, date);
     }
 
@@ -43,7 +65,9 @@ public class PowerRatingController {
     @GetMapping("/{year}/massey-totals")
     public List<RatingDto> masseyTotalsLeaderboard(
             @PathVariable Integer year,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            ServletWebRequest request) {
+        if (notModified(request, year)) return null;
         return leaderboard(year, MasseyRatingService.MODEL_TYPE_TOTALS, date);
     }
 
@@ -51,7 +75,9 @@ public class PowerRatingController {
     @GetMapping("/{year}/bradley-terry")
     public List<RatingDto> bradleyTerryLeaderboard(
             @PathVariable Integer year,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            ServletWebRequest request) {
+        if (notModified(request, year)) return null;
         return leaderboard(year, BradleyTerryRatingService.MODEL_TYPE, date);
     }
 
@@ -59,44 +85,56 @@ public class PowerRatingController {
     @GetMapping("/{year}/bradley-terry-weighted")
     public List<RatingDto> bradleyTerryWeightedLeaderboard(
             @PathVariable Integer year,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            ServletWebRequest request) {
+        if (notModified(request, year)) return null;
         return leaderboard(year, BradleyTerryRatingService.MODEL_TYPE_WEIGHTED, date);
     }
 
     /** Massey (Margin) rating time series for a single team in a season. */
     @GetMapping("/{year}/massey/team/{teamId}")
-    public List<RatingDto> masseyTeamTimeSeries(@PathVariable Integer year, @PathVariable Long teamId) {
+    public List<RatingDto> masseyTeamTimeSeries(@PathVariable Integer year, @PathVariable Long teamId,
+                                              ServletWebRequest request) {
+        if (notModified(request, year)) return null;
         return teamTimeSeries(year, teamId, MasseyRatingService.MODEL_TYPE);
     }
 
     /** Massey (Totals) rating time series for a single team in a season. */
     @GetMapping("/{year}/massey-totals/team/{teamId}")
-    public List<RatingDto> masseyTotalsTeamTimeSeries(@PathVariable Integer year, @PathVariable Long teamId) {
+    public List<RatingDto> masseyTotalsTeamTimeSeries(@PathVariable Integer year, @PathVariable Long teamId,
+                                              ServletWebRequest request) {
+        if (notModified(request, year)) return null;
         return teamTimeSeries(year, teamId, MasseyRatingService.MODEL_TYPE_TOTALS);
     }
 
     /** Bradley-Terry rating time series for a single team in a season. */
     @GetMapping("/{year}/bradley-terry/team/{teamId}")
-    public List<RatingDto> bradleyTerryTeamTimeSeries(@PathVariable Integer year, @PathVariable Long teamId) {
+    public List<RatingDto> bradleyTerryTeamTimeSeries(@PathVariable Integer year, @PathVariable Long teamId,
+                                              ServletWebRequest request) {
+        if (notModified(request, year)) return null;
         return teamTimeSeries(year, teamId, BradleyTerryRatingService.MODEL_TYPE);
     }
 
     /** Bradley-Terry (Weighted) rating time series for a single team in a season. */
     @GetMapping("/{year}/bradley-terry-weighted/team/{teamId}")
-    public List<RatingDto> bradleyTerryWeightedTeamTimeSeries(@PathVariable Integer year, @PathVariable Long teamId) {
+    public List<RatingDto> bradleyTerryWeightedTeamTimeSeries(@PathVariable Integer year, @PathVariable Long teamId,
+                                              ServletWebRequest request) {
+        if (notModified(request, year)) return null;
         return teamTimeSeries(year, teamId, BradleyTerryRatingService.MODEL_TYPE_WEIGHTED);
     }
 
     /** Available snapshot dates for a season (keyed to Massey; all models share the same dates). */
     @GetMapping("/{year}/dates")
-    public List<LocalDate> snapshotDates(@PathVariable Integer year) {
+    public List<LocalDate> snapshotDates(@PathVariable Integer year, ServletWebRequest request) {
+        if (notModified(request, year)) return null;
         var season = requireSeason(year);
         return ratingRepository.findSnapshotDates(season.getId(), MasseyRatingService.MODEL_TYPE);
     }
 
     /** Model parameters (HCA, intercept) time series for all four models in a season. */
     @GetMapping("/{year}/params")
-    public Map<String, List<ParamDto>> params(@PathVariable Integer year) {
+    public Map<String, List<ParamDto>> params(@PathVariable Integer year, ServletWebRequest request) {
+        if (notModified(request, year)) return null;
         var season = requireSeason(year);
         return Map.of(
                 "massey", paramRepository.findBySeasonAndModel(season.getId(), MasseyRatingService.MODEL_TYPE)
@@ -110,8 +148,44 @@ public class PowerRatingController {
         );
     }
 
+    /**
+     * Ratings with hypothetical results added, each {@code game} as
+     * {@code homeTeamId:awayTeamId:margin[:neutral]} with the home team's margin, and the
+     * before/after predictions for scheduled games in the next {@code days}. Not a
+     * conditional GET: the upcoming window moves with the clock.
+     */
+    @GetMapping("/{year}/what-if")
+    public WhatIfRatings whatIf(@PathVariable Integer year,
+                                @RequestParam List<String> game,
+                                @RequestParam(defaultValue = "7") int days) {
+        return whatIfRatingService.apply(year, parseGames(game), days)
+                .orElseThrow(() -> new EntityNotFoundException("No final games for season " + year));
+    }
+
     // ── Helpers ──────────────────────────────────────────────────────────────
 
+    static List<WhatIfRatings.Hypothetical> parseGames(List<String> games) {
+        List<WhatIfRatings.Hypothetical> parsed = new ArrayList<>();
+        for (String game : games) {
+            String[] parts = game.split(":");
+            try {
+                if (parts.length < 3 || parts.length > 4
+                        || (parts.length == 4 && !parts[3].trim().equals("neutral"))) {
+                    throw new NumberFormatException();
+                }
+                parsed.add(new WhatIfRatings.Hypothetical(Long.parseLong(parts[0].trim()),
+                        Long.parseLong(parts[1].trim()), Integer.parseInt(parts[2].trim()), parts.length == 4));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Game must be homeTeamId:awayTeamId:margin[:neutral], got: " + game);
+            }
+        }
+        return parsed;
+    }
+
+    private boolean notModified(ServletWebRequest request, int year) {
+        return conditionalGet.notModified(request, apiVersionService.season(year));
+    }
+
     private List<RatingDto> leaderboard(int year, String modelType, LocalDate date) {
         var season = requireSeason(year);
         LocalDate resolved = date != null ? date
@@ -142,7 +216,8 @@ public class PowerRatingController {
             int gamesPlayed,
             Long teamId,
             String teamName,
-            String teamLogoUrl
+            String teamLogoUrl,
+            Double ratingStdError   // Massey spread only; null otherwise
     ) {
         static RatingDto from(TeamPowerRatingSnapshot s) {
             return new RatingDto(
@@ -153,7 +228,8 @@ public class PowerRatingController {
                     s.getGamesPlayed(),
                     s.getTeam().getId(),
                     s.getTeam().getName(),
-                    s.getTeam().getLogoUrl()
+                    s.getTeam().getLogoUrl(),
+                    s.getRatingStdError()
             );
         }
     }
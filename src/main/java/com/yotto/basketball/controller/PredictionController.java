@@ -1,24 +1,48 @@
 package com.yotto.basketball.controller;
 
+import com.yotto.basketball.service.ApiVersionService;
+import com.yotto.basketball.service.MatchupMatrix;
+import com.yotto.basketball.service.MatchupMatrixService;
 import com.yotto.basketball.service.PredictionResult;
 import com.yotto.basketball.service.PredictionService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * Prediction JSON. Both endpoints answer conditional GETs (see {@link ConditionalGet})
+ * against a stamp covering the games, their odds, the season's calc watermark and the
+ * ML serving plan, so a poll with nothing new never runs a prediction.
+ */
 @RestController
 @RequestMapping("/api/predictions")
 public class PredictionController {
 
     private final PredictionService predictionService;
+    private final ApiVersionService apiVersionService;
+    private final ConditionalGet conditionalGet;
+    private final MatchupMatrixService matchupMatrixService;
 
-    public PredictionController(PredictionService predictionService) {
+    public PredictionController(PredictionService predictionService,
+                                ApiVersionService apiVersionService,
+                                ConditionalGet conditionalGet,
+                                MatchupMatrixService matchupMatrixService) {
         this.predictionService = predictionService;
+        this.apiVersionService = apiVersionService;
+        this.conditionalGet = conditionalGet;
+        this.matchupMatrixService = matchupMatrixService;
     }
 
     /** Full prediction for a single game. 404 if the game does not exist. */
     @GetMapping("/game/{gameId}")
-    public PredictionResult game(@PathVariable Long gameId) {
+    public PredictionResult game(@PathVariable Long gameId, ServletWebRequest request) {
+        if (conditionalGet.notModified(request, apiVersionService.game(gameId))) return null;
         return predictionService.predict(gameId);
     }
 
@@ -28,7 +52,35 @@ public class PredictionController {
      */
     @GetMapping("/upcoming")
     public List<PredictionResult> upcoming(
-            @RequestParam(defaultValue = "7") int days) {
+            @RequestParam(defaultValue = "7") int days,
+            ServletWebRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+        var version = apiVersionService.upcoming(now, now.plusDays(PredictionService.clampUpcomingDays(days)));
+        if (conditionalGet.notModified(request, Optional.of(version))) return null;
         return predictionService.getUpcoming(days);
     }
+
+    /**
+     * Every hypothetical matchup among the season's teams on {@code date} (default today),
+     * as columnar JSON; see {@link MatchupMatrix}. {@code conference} (repeatable) and
+     * {@code top} narrow the teams. With {@code Accept: application/octet-stream} the same
+     * grid is served as {@link MatchupMatrix#binary()}.
+     */
+    @GetMapping(value = "/matrix", produces = MediaType.APPLICATION_JSON_VALUE)
+    public MatchupMatrix matrix(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "false") boolean neutral,
+            @RequestParam(required = false) Integer top,
+            @RequestParam(name = "conference", required = false) List<Long> conference) {
+        return matchupMatrixService.matrix(date != null ? date : LocalDate.now(), neutral, top, conference);
+    }
+
+    @GetMapping(value = "/matrix", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public byte[] matrixBinary(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "false") boolean neutral,
+            @RequestParam(required = false) Integer top,
+            @RequestParam(name = "conference", required = false) List<Long> conference) {
+        return matrix(date, neutral, top, conference).binary();
+    }
 }
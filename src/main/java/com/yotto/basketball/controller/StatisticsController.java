@@ -7,16 +7,24 @@ import com.yotto.basketball.repository.SeasonPopulationStatRepository;
 import com.yotto.basketball.repository.SeasonRepository;
 import com.yotto.basketball.repository.TeamSeasonStatSnapshotRepository;
 import com.yotto.basketball.repository.TeamStatSnapshotRepository;
+import com.yotto.basketball.service.ApiVersionService;
+import com.yotto.basketball.service.StatCalcGateService;
 import com.yotto.basketball.service.StatisticsTimeSeriesService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * Season time-series JSON for the charts. Read endpoints answer conditional GETs
+ * against the season's calc watermark (see {@link ConditionalGet}) before touching
+ * any snapshot table.
+ */
 @RestController
 @RequestMapping("/api/statistics")
 public class StatisticsController {
@@ -26,22 +34,33 @@ public class StatisticsController {
     private final SeasonPopulationStatRepository popStatRepository;
     private final TeamStatSnapshotRepository teamStatSnapshotRepository;
     private final StatisticsTimeSeriesService timeSeriesService;
+    private final StatCalcGateService statCalcGateService;
+    private final ApiVersionService apiVersionService;
+    private final ConditionalGet conditionalGet;
 
     public StatisticsController(SeasonRepository seasonRepository,
                                 TeamSeasonStatSnapshotRepository snapshotRepository,
                                 SeasonPopulationStatRepository popStatRepository,
                                 TeamStatSnapshotRepository teamStatSnapshotRepository,
-                                StatisticsTimeSeriesService timeSeriesService) {
+                                StatisticsTimeSeriesService timeSeriesService,
+                                StatCalcGateService statCalcGateService,
+                                ApiVersionService apiVersionService,
+                                ConditionalGet conditionalGet) {
         this.seasonRepository = seasonRepository;
         this.snapshotRepository = snapshotRepository;
         this.popStatRepository = popStatRepository;
         this.teamStatSnapshotRepository = teamStatSnapshotRepository;
         this.timeSeriesService = timeSeriesService;
+        this.statCalcGateService = statCalcGateService;
+        this.apiVersionService = apiVersionService;
+        this.conditionalGet = conditionalGet;
     }
 
     /** Full time series for a team in a season — one entry per game date. */
     @GetMapping("/team/{teamId}/season/{year}")
-    public List<SnapshotDto> teamTimeSeries(@PathVariable Long teamId, @PathVariable Integer year) {
+    public List<SnapshotDto> teamTimeSeries(@PathVariable Long teamId, @PathVariable Integer year,
+                                            ServletWebRequest request) {
+        if (conditionalGet.notModified(request, apiVersionService.season(year))) return null;
         var season = seasonRepository.findByYear(year)
                 .orElseThrow(() -> new EntityNotFoundException("Season not found: " + year));
         return snapshotRepository.findByTeamAndSeason(teamId, season.getId())
@@ -56,7 +75,9 @@ public class StatisticsController {
     @GetMapping("/team/{teamId}/season/{year}/stat/{statName}")
     public List<StatPointDto> teamStatTrajectory(@PathVariable Long teamId,
                                                  @PathVariable Integer year,
-                                                 @PathVariable String statName) {
+                                                 @PathVariable String statName,
+                                                 ServletWebRequest request) {
+        if (conditionalGet.notModified(request, apiVersionService.season(year))) return null;
         return seasonRepository.findByYear(year)
                 .map(season -> teamStatSnapshotRepository
                         .findByTeamSeasonAndStat(teamId, season.getId(), statName)
@@ -68,7 +89,9 @@ public class StatisticsController {
     @GetMapping("/season/{year}/snapshots")
     public List<SnapshotDto> seasonSnapshots(
             @PathVariable Integer year,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            ServletWebRequest request) {
+        if (conditionalGet.notModified(request, apiVersionService.season(year))) return null;
         var season = seasonRepository.findByYear(year)
                 .orElseThrow(() -> new EntityNotFoundException("Season not found: " + year));
         LocalDate resolvedDate = resolveDate(season.getId(), date);
@@ -81,7 +104,9 @@ public class StatisticsController {
     @GetMapping("/season/{year}/population")
     public Map<String, PopDto> seasonPopulation(
             @PathVariable Integer year,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            ServletWebRequest request) {
+        if (conditionalGet.notModified(request, apiVersionService.season(year))) return null;
         var season = seasonRepository.findByYear(year)
                 .orElseThrow(() -> new EntityNotFoundException("Season not found: " + year));
         LocalDate resolvedDate = resolvePopDate(season.getId(), date);
@@ -94,6 +119,7 @@ public class StatisticsController {
     @PostMapping("/recalculate/{year}")
     public Map<String, String> recalculate(@PathVariable Integer year) {
         timeSeriesService.calculateAndStoreForSeason(year);
+        statCalcGateService.recordManualRecalc(year);
         return Map.of("status", "ok", "year", String.valueOf(year));
     }
 
@@ -7,8 +7,8 @@ import java.util.stream.Collectors;
 
 /**
  * Presentation catalog for the box-score-derived stats persisted in
- * {@code team_stat_snapshots}. The calc layer ({@code BoxScoreStatCalculator})
- * owns only the stat name + direction; label, grouping, and number formatting
+ * {@code team_stat_snapshots}. The calc layer ({@code BoxScoreStatCalculator},
+ * {@code AdjustedEfficiencyCalculator}) owns only the stat name + direction; label, grouping, and number formatting
  * live here so display concerns never leak into the calculator.
  *
  * <p>Enum declaration order is the within-category display order. A stat present
@@ -23,6 +23,10 @@ public enum TeamStatDisplay {
     PACE("pace", "Pace", Category.EFFICIENCY, Format.DECIMAL_1),
     OFF_EFFICIENCY("off_efficiency", "Offensive Rtg", Category.EFFICIENCY, Format.DECIMAL_1),
     DEF_EFFICIENCY("def_efficiency", "Defensive Rtg", Category.EFFICIENCY, Format.DECIMAL_1),
+    ADJ_OFF_EFFICIENCY("adj_off_efficiency", "Adj. Offensive Rtg", Category.EFFICIENCY, Format.DECIMAL_1),
+    ADJ_DEF_EFFICIENCY("adj_def_efficiency", "Adj. Defensive Rtg", Category.EFFICIENCY, Format.DECIMAL_1),
+    ADJ_EFFICIENCY_MARGIN("adj_efficiency_margin", "Adj. Efficiency Margin", Category.EFFICIENCY, Format.DECIMAL_1),
+    ADJ_TEMPO("adj_tempo", "Adj. Tempo", Category.EFFICIENCY, Format.DECIMAL_1),
 
     // Four Factors — Offense
     EFG_PCT("efg_pct", "eFG%", Category.FOUR_FACTORS_OFF, Format.PERCENT_1),
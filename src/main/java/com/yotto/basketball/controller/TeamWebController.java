@@ -13,6 +13,7 @@ import com.yotto.basketball.service.ConferenceNamingService;
 import com.yotto.basketball.service.ConferenceNamingService.ConferenceIdentity;
 import com.yotto.basketball.service.ConferenceNamingService.ConferenceNames;
 import com.yotto.basketball.service.DailyStatCalculator;
+import com.yotto.basketball.service.TeamStatTimeSeriesService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -242,8 +243,11 @@ public class TeamWebController {
         LocalDate date = teamStatSnapshotRepository.findLatestSnapshotDate(season.getId()).orElse(null);
         if (date == null) return null;
 
+        // Season-to-date stats only; the rolling _l5/_l10 variants live on the stat pages
         List<TeamStatSnapshot> rows =
-                teamStatSnapshotRepository.findByTeamSeasonAndDate(teamId, season.getId(), date);
+                teamStatSnapshotRepository.findByTeamSeasonAndDate(teamId, season.getId(), date).stream()
+                        .filter(s -> BoxScoreStatCalculator.windowOf(s.getStatName()) == 0)
+                        .toList();
         if (rows.isEmpty()) return null;
 
         // Field size per stat comes free from the league-wide population rows (teamCount).
@@ -252,7 +256,7 @@ public class TeamWebController {
                 .collect(Collectors.toMap(SeasonPopulationStat::getStatName,
                         SeasonPopulationStat::getTeamCount, (a, b) -> a));
 
-        Map<String, Boolean> directionByStat = BoxScoreStatCalculator.statMetas().stream()
+        Map<String, Boolean> directionByStat = TeamStatTimeSeriesService.statMetas().stream()
                 .collect(Collectors.toMap(DailyStatCalculator.StatMeta::name,
                         DailyStatCalculator.StatMeta::higherIsBetter));
 
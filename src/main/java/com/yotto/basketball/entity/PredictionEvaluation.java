@@ -14,7 +14,8 @@ import java.util.Objects;
  * trained ML model — can be backfilled over full past seasons.
  *
  * <p>{@code modelType} values: MASSEY (spread only), MASSEY_TOTALS (total only),
- * BRADLEY_TERRY and BRADLEY_TERRY_W (win probability only), ML (all three, tagged with
+ * BRADLEY_TERRY and BRADLEY_TERRY_W (win probability only), ELO (spread and win
+ * probability), ML (all three, tagged with
  * {@code modelVersion}), BOOK (closing-line benchmark: spread/total from betting odds,
  * win probability implied by de-vigged moneylines).
  */
@@ -32,6 +32,10 @@ public class StatCalcWatermark {
     @Column(name = "final_game_count")
     private Integer finalGameCount;
 
+    /** Last time any calculation rewrote this season's snapshots (pipeline or manual). */
+    @Column(name = "snapshots_written_at")
+    private LocalDateTime snapshotsWrittenAt;
+
     public StatCalcWatermark() {}
 
     public Long getId() { return id; }
@@ -46,6 +50,9 @@ public class StatCalcWatermark {
     public Integer getFinalGameCount() { return finalGameCount; }
     public void setFinalGameCount(Integer finalGameCount) { this.finalGameCount = finalGameCount; }
 
+    public LocalDateTime getSnapshotsWrittenAt() { return snapshotsWrittenAt; }
+    public void setSnapshotsWrittenAt(LocalDateTime snapshotsWrittenAt) { this.snapshotsWrittenAt = snapshotsWrittenAt; }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
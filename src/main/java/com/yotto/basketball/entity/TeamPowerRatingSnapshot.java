@@ -35,6 +35,8 @@ public class TeamPowerRatingSnapshot {
     @NotNull
     private Double rating;
 
+    private Double ratingStdError;
+
     private Integer rank;
 
     private int gamesPlayed;
@@ -62,6 +64,9 @@ public class TeamPowerRatingSnapshot {
     public Double getRating() { return rating; }
     public void setRating(Double rating) { this.rating = rating; }
 
+    public Double getRatingStdError() { return ratingStdError; }
+    public void setRatingStdError(Double ratingStdError) { this.ratingStdError = ratingStdError; }
+
     public Integer getRank() { return rank; }
     public void setRank(Integer rank) { this.rank = rank; }
 
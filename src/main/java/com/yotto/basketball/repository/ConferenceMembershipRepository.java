@@ -28,6 +28,9 @@ public interface ConferenceMembershipRepository extends JpaRepository<Conference
     List<ConferenceMembership> findByConferenceIdAndSeasonIdWithTeam(@Param("conferenceId") Long conferenceId,
                                                                      @Param("seasonId") Long seasonId);
 
+    @Query("SELECT cm FROM ConferenceMembership cm JOIN FETCH cm.team WHERE cm.season.id = :seasonId")
+    List<ConferenceMembership> findBySeasonIdWithTeam(@Param("seasonId") Long seasonId);
+
     @Query("SELECT DISTINCT s FROM ConferenceMembership cm JOIN cm.season s " +
            "WHERE cm.conference.id = :conferenceId ORDER BY s.year DESC")
     List<Season> findSeasonsByConferenceId(@Param("conferenceId") Long conferenceId);
@@ -98,6 +98,13 @@ public interface GameRepository extends JpaRepository<Game, Long> {
            "WHERE g.status = 'SCHEDULED' AND g.gameDate BETWEEN :start AND :end ORDER BY g.gameDate")
     List<Game> findScheduledBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
+    /** SCHEDULED and IN_PROGRESS games in a window, optionally limited to one season year (prediction materialization). */
+    @Query("SELECT g FROM Game g JOIN FETCH g.homeTeam JOIN FETCH g.awayTeam JOIN FETCH g.season s LEFT JOIN FETCH g.bettingOdds " +
+           "WHERE g.status IN ('SCHEDULED', 'IN_PROGRESS') AND g.gameDate BETWEEN :start AND :end " +
+           "AND (:seasonYear IS NULL OR s.year = :seasonYear) ORDER BY g.gameDate")
+    List<Game> findNotFinalBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end,
+                                   @Param("seasonYear") Integer seasonYear);
+
     @Query("SELECT g FROM Game g JOIN FETCH g.homeTeam JOIN FETCH g.awayTeam JOIN FETCH g.season LEFT JOIN FETCH g.bettingOdds " +
            "WHERE g.id = :id")
     Optional<Game> findByIdWithDetails(@Param("id") Long id);
@@ -40,17 +40,20 @@ public interface PredictionEvaluationRepository extends JpaRepository<Prediction
 
     /** Season years that have at least one evaluation row, newest first. */
     @Query(nativeQuery = true, value = """
-            SELECT DISTINCT s.year FROM prediction_evaluations pe
-            JOIN seasons s ON s.id = pe.season_id
+            SELECT DISTINCT s.year FROM prediction_metric_rollups r
+            JOIN seasons s ON s.id = r.season_id
             ORDER BY s.year DESC
             """)
     List<Integer> findEvaluatedSeasonYears();
 
     // ── Aggregate metrics (per model, within a season, from a cutoff date) ─────
-    // All aggregate queries share the same filters: seasonId (< 0 means all seasons),
-    // fromDate cutoff, and a game-segment predicate — allSegments=true disables it,
-    // otherwise games are kept when COALESCE(tournament_type,'NONE') is in
-    // tournamentTypes ('NONE' stands for regular-season games).
+    // Read from prediction_metric_rollups (per-day sums maintained alongside the
+    // evaluations by PredictionMetricRollupWriter), so cost tracks days × models rather
+    // than evaluated games. All aggregate queries share the same filters: seasonId
+    // (< 0 means all seasons), fromDate cutoff, and a game-segment predicate —
+    // allSegments=true disables it, otherwise rows are kept when their segment
+    // (COALESCE(tournament_type,'NONE')) is in tournamentTypes ('NONE' stands for
+    // regular-season games). Each metric is a ratio of sums over the matching rows.
 
     interface SpreadMetrics {
         String getModelType();
@@ -61,18 +64,18 @@ public interface PredictionEvaluationRepository extends JpaRepository<Prediction
     }
 
     @Query(nativeQuery = true, value = """
-            SELECT pe.model_type AS modeltype,
-                   count(*) AS n,
-                   avg(abs(pe.spread_error)) AS mae,
-                   sqrt(avg(pe.spread_error * pe.spread_error)) AS rmse,
-                   avg(CASE WHEN (pe.predicted_spread >= 0) = (pe.actual_margin > 0) THEN 1.0 ELSE 0.0 END) AS sideaccuracy
-            FROM prediction_evaluations pe
-            JOIN games g ON g.id = pe.game_id
-            WHERE (:seasonId < 0 OR pe.season_id = :seasonId)
-              AND pe.game_date >= :fromDate
-              AND (:allSegments = true OR COALESCE(g.tournament_type, 'NONE') IN (:tournamentTypes))
-              AND pe.predicted_spread IS NOT NULL
-            GROUP BY pe.model_type
+            SELECT r.model_type AS modeltype,
+                   sum(r.spread_n)::bigint AS n,
+                   sum(r.spread_abs_err) / sum(r.spread_n) AS mae,
+                   sqrt(sum(r.spread_sq_err) / sum(r.spread_n)) AS rmse,
+                   sum(r.spread_hits)::float8 / sum(r.spread_n) AS sideaccuracy
+            FROM prediction_metric_rollups r
+            WHERE r.conference_id = 0
+              AND (:seasonId < 0 OR r.season_id = :seasonId)
+              AND r.game_date >= :fromDate
+              AND (:allSegments = true OR r.segment IN (:tournamentTypes))
+            GROUP BY r.model_type
+            HAVING sum(r.spread_n) > 0
             """)
     List<SpreadMetrics> spreadMetrics(@Param("seasonId") Long seasonId, @Param("fromDate") LocalDate fromDate,
                                       @Param("allSegments") boolean allSegments,
@@ -87,18 +90,18 @@ public interface PredictionEvaluationRepository extends JpaRepository<Prediction
     }
 
     @Query(nativeQuery = true, value = """
-            SELECT pe.model_type AS modeltype,
-                   count(*) AS n,
-                   avg(abs(pe.total_error)) AS mae,
-                   sqrt(avg(pe.total_error * pe.total_error)) AS rmse,
-                   avg(pe.total_error) AS bias
-            FROM prediction_evaluations pe
-            JOIN games g ON g.id = pe.game_id
-            WHERE (:seasonId < 0 OR pe.season_id = :seasonId)
-              AND pe.game_date >= :fromDate
-              AND (:allSegments = true OR COALESCE(g.tournament_type, 'NONE') IN (:tournamentTypes))
-              AND pe.predicted_total IS NOT NULL
-            GROUP BY pe.model_type
+            SELECT r.model_type AS modeltype,
+                   sum(r.total_n)::bigint AS n,
+                   sum(r.total_abs_err) / sum(r.total_n) AS mae,
+                   sqrt(sum(r.total_sq_err) / sum(r.total_n)) AS rmse,
+                   sum(r.total_err) / sum(r.total_n) AS bias
+            FROM prediction_metric_rollups r
+            WHERE r.conference_id = 0
+              AND (:seasonId < 0 OR r.season_id = :seasonId)
+              AND r.game_date >= :fromDate
+              AND (:allSegments = true OR r.segment IN (:tournamentTypes))
+            GROUP BY r.model_type
+            HAVING sum(r.total_n) > 0
             """)
     List<TotalMetrics> totalMetrics(@Param("seasonId") Long seasonId, @Param("fromDate") LocalDate fromDate,
                                     @Param("allSegments") boolean allSegments,
@@ -112,17 +115,17 @@ public interface PredictionEvaluationRepository extends JpaRepository<Prediction
     }
 
     @Query(nativeQuery = true, value = """
-            SELECT pe.model_type AS modeltype,
-                   count(*) AS n,
-                   avg(power(pe.predicted_home_win_prob - (CASE WHEN pe.home_won THEN 1.0 ELSE 0.0 END), 2)) AS brier,
-                   avg(CASE WHEN (pe.predicted_home_win_prob >= 0.5) = pe.home_won THEN 1.0 ELSE 0.0 END) AS accuracy
-            FROM prediction_evaluations pe
-            JOIN games g ON g.id = pe.game_id
-            WHERE (:seasonId < 0 OR pe.season_id = :seasonId)
-              AND pe.game_date >= :fromDate
-              AND (:allSegments = true OR COALESCE(g.tournament_type, 'NONE') IN (:tournamentTypes))
-              AND pe.predicted_home_win_prob IS NOT NULL
-            GROUP BY pe.model_type
+            SELECT r.model_type AS modeltype,
+                   sum(r.prob_n)::bigint AS n,
+                   sum(r.brier_sum) / sum(r.prob_n) AS brier,
+                   sum(r.prob_hits)::float8 / sum(r.prob_n) AS accuracy
+            FROM prediction_metric_rollups r
+            WHERE r.conference_id = 0
+              AND (:seasonId < 0 OR r.season_id = :seasonId)
+              AND r.game_date >= :fromDate
+              AND (:allSegments = true OR r.segment IN (:tournamentTypes))
+            GROUP BY r.model_type
+            HAVING sum(r.prob_n) > 0
             """)
     List<ProbMetrics> probMetrics(@Param("seasonId") Long seasonId, @Param("fromDate") LocalDate fromDate,
                                   @Param("allSegments") boolean allSegments,
@@ -139,19 +142,19 @@ public interface PredictionEvaluationRepository extends JpaRepository<Prediction
     }
 
     @Query(nativeQuery = true, value = """
-            SELECT pe.model_type AS modeltype,
-                   to_char(pe.game_date, 'YYYY-MM') AS month,
-                   count(pe.spread_error) AS spreadn,
-                   avg(abs(pe.spread_error)) AS spreadmae,
-                   count(pe.predicted_home_win_prob) AS probn,
-                   avg(power(pe.predicted_home_win_prob - (CASE WHEN pe.home_won THEN 1.0 ELSE 0.0 END), 2)) AS brier
-            FROM prediction_evaluations pe
-            JOIN games g ON g.id = pe.game_id
-            WHERE (:seasonId < 0 OR pe.season_id = :seasonId)
-              AND (:allSegments = true OR COALESCE(g.tournament_type, 'NONE') IN (:tournamentTypes))
-              AND (pe.spread_error IS NOT NULL OR pe.predicted_home_win_prob IS NOT NULL)
-            GROUP BY pe.model_type, month
-            ORDER BY month, pe.model_type
+            SELECT r.model_type AS modeltype,
+                   to_char(r.game_date, 'YYYY-MM') AS month,
+                   sum(r.spread_n)::bigint AS spreadn,
+                   sum(r.spread_abs_err) / NULLIF(sum(r.spread_n), 0) AS spreadmae,
+                   sum(r.prob_n)::bigint AS probn,
+                   sum(r.brier_sum) / NULLIF(sum(r.prob_n), 0) AS brier
+            FROM prediction_metric_rollups r
+            WHERE r.conference_id = 0
+              AND (:seasonId < 0 OR r.season_id = :seasonId)
+              AND (:allSegments = true OR r.segment IN (:tournamentTypes))
+            GROUP BY r.model_type, month
+            HAVING sum(r.spread_n) > 0 OR sum(r.prob_n) > 0
+            ORDER BY month, r.model_type
             """)
     List<MonthlyMetrics> monthlyMetrics(@Param("seasonId") Long seasonId,
                                         @Param("allSegments") boolean allSegments,
@@ -161,7 +164,7 @@ public interface PredictionEvaluationRepository extends JpaRepository<Prediction
      * Paired model-vs-book spread accuracy per conference. Only games where BOTH the
      * model and the book have a spread evaluation count (apples-to-apples). A game is
      * attributed to each involved team's conference for that season — cross-conference
-     * games count once in each conference, intra-conference games once (DISTINCT).
+     * games count once in each conference, intra-conference games once.
      */
     interface ConferenceMetrics {
         Long getConferenceId();
@@ -172,27 +175,18 @@ public interface PredictionEvaluationRepository extends JpaRepository<Prediction
     }
 
     @Query(nativeQuery = true, value = """
-            SELECT confs.conference_id AS conferenceid,
-                   count(*) AS n,
-                   avg(abs(m.spread_error)) AS modelmae,
-                   avg(abs(b.spread_error)) AS bookmae,
-                   avg(CASE WHEN (m.predicted_spread >= 0) = (m.actual_margin > 0) THEN 1.0 ELSE 0.0 END) AS sideaccuracy
-            FROM prediction_evaluations m
-            JOIN prediction_evaluations b
-                 ON b.game_id = m.game_id AND b.model_type = 'BOOK' AND b.spread_error IS NOT NULL
-            JOIN games g ON g.id = m.game_id
-            JOIN LATERAL (
-                SELECT DISTINCT cm.conference_id
-                FROM conference_memberships cm
-                WHERE cm.season_id = m.season_id
-                  AND cm.team_id IN (g.home_team_id, g.away_team_id)
-            ) confs ON true
-            WHERE m.model_type = :modelType
-              AND m.spread_error IS NOT NULL
-              AND (:seasonId < 0 OR m.season_id = :seasonId)
-              AND m.game_date >= :fromDate
-              AND (:allSegments = true OR COALESCE(g.tournament_type, 'NONE') IN (:tournamentTypes))
-            GROUP BY confs.conference_id
+            SELECT r.conference_id AS conferenceid,
+                   sum(r.spread_n)::bigint AS n,
+                   sum(r.spread_abs_err) / sum(r.spread_n) AS modelmae,
+                   sum(r.book_abs_err) / sum(r.spread_n) AS bookmae,
+                   sum(r.spread_hits)::float8 / sum(r.spread_n) AS sideaccuracy
+            FROM prediction_metric_rollups r
+            WHERE r.conference_id > 0
+              AND r.model_type = :modelType
+              AND (:seasonId < 0 OR r.season_id = :seasonId)
+              AND r.game_date >= :fromDate
+              AND (:allSegments = true OR r.segment IN (:tournamentTypes))
+            GROUP BY r.conference_id
             """)
     List<ConferenceMetrics> conferenceMetrics(@Param("seasonId") Long seasonId,
                                               @Param("fromDate") LocalDate fromDate,
@@ -210,19 +204,19 @@ public interface PredictionEvaluationRepository extends JpaRepository<Prediction
     }
 
     @Query(nativeQuery = true, value = """
-            SELECT pe.model_type AS modeltype,
-                   least(floor(pe.predicted_home_win_prob * 10), 9)::int AS bucket,
-                   count(*) AS n,
-                   avg(pe.predicted_home_win_prob) AS avgpredicted,
-                   avg(CASE WHEN pe.home_won THEN 1.0 ELSE 0.0 END) AS actualrate
-            FROM prediction_evaluations pe
-            JOIN games g ON g.id = pe.game_id
-            WHERE (:seasonId < 0 OR pe.season_id = :seasonId)
-              AND pe.game_date >= :fromDate
-              AND (:allSegments = true OR COALESCE(g.tournament_type, 'NONE') IN (:tournamentTypes))
-              AND pe.predicted_home_win_prob IS NOT NULL
-            GROUP BY pe.model_type, bucket
-            ORDER BY pe.model_type, bucket
+            SELECT r.model_type AS modeltype,
+                   r.prob_bucket::int AS bucket,
+                   sum(r.prob_n)::bigint AS n,
+                   sum(r.prob_sum) / sum(r.prob_n) AS avgpredicted,
+                   sum(r.home_wins)::float8 / sum(r.prob_n) AS actualrate
+            FROM prediction_metric_rollups r
+            WHERE r.conference_id = 0
+              AND r.prob_bucket >= 0
+              AND (:seasonId < 0 OR r.season_id = :seasonId)
+              AND r.game_date >= :fromDate
+              AND (:allSegments = true OR r.segment IN (:tournamentTypes))
+            GROUP BY r.model_type, r.prob_bucket
+            ORDER BY r.model_type, r.prob_bucket
             """)
     List<CalibrationBucket> calibrationBuckets(@Param("seasonId") Long seasonId, @Param("fromDate") LocalDate fromDate,
                                                @Param("allSegments") boolean allSegments,
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +15,7 @@ public interface StatCalcWatermarkRepository extends JpaRepository<StatCalcWater
 
     @Query("SELECT w FROM StatCalcWatermark w WHERE w.season.id = :seasonId")
     Optional<StatCalcWatermark> findBySeasonId(@Param("seasonId") Long seasonId);
+
+    @Query("SELECT w FROM StatCalcWatermark w JOIN FETCH w.season WHERE w.season.id IN :seasonIds")
+    List<StatCalcWatermark> findBySeasonIdIn(@Param("seasonIds") Collection<Long> seasonIds);
 }
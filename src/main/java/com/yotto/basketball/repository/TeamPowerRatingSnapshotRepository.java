@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,6 +38,13 @@ public interface TeamPowerRatingSnapshotRepository extends JpaRepository<TeamPow
             @Param("seasonId") Long seasonId,
             @Param("modelType") String modelType);
 
+    @Query("SELECT MAX(s.snapshotDate) FROM TeamPowerRatingSnapshot s " +
+           "WHERE s.season.id = :seasonId AND s.modelType = :modelType AND s.snapshotDate <= :date")
+    Optional<LocalDate> findLatestSnapshotDateOnOrBefore(
+            @Param("seasonId") Long seasonId,
+            @Param("modelType") String modelType,
+            @Param("date") LocalDate date);
+
     @Query("SELECT DISTINCT s.snapshotDate FROM TeamPowerRatingSnapshot s " +
            "WHERE s.season.id = :seasonId AND s.modelType = :modelType " +
            "ORDER BY s.snapshotDate ASC")
@@ -58,6 +66,15 @@ public interface TeamPowerRatingSnapshotRepository extends JpaRepository<TeamPow
             @Param("modelType") String modelType,
             @Param("fromDate") LocalDate fromDate);
 
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM TeamPowerRatingSnapshot s WHERE s.team.id = :teamId AND s.season.id = :seasonId " +
+           "AND s.modelType = :modelType AND s.snapshotDate = :date")
+    void deleteByTeamSeasonModelAndDate(
+            @Param("teamId") Long teamId,
+            @Param("seasonId") Long seasonId,
+            @Param("modelType") String modelType,
+            @Param("date") LocalDate date);
+
     /** Most recent snapshot for a team/season/model strictly before the given date. */
     @Query(value = "SELECT * FROM team_power_rating_snapshots " +
                    "WHERE team_id = :teamId AND season_id = :seasonId " +
@@ -69,4 +86,39 @@ public interface TeamPowerRatingSnapshotRepository extends JpaRepository<TeamPow
             @Param("seasonId") Long seasonId,
             @Param("modelType") String modelType,
             @Param("beforeDate") LocalDate beforeDate);
+
+    /**
+     * Most recent snapshot per (team, model) strictly before the given date, for several
+     * teams and models in one pass — the bulk form of {@link #findLatestBefore}.
+     */
+    @Query(value = "SELECT DISTINCT ON (team_id, model_type) * FROM team_power_rating_snapshots " +
+                   "WHERE team_id IN (:teamIds) AND season_id = :seasonId " +
+                   "  AND model_type IN (:modelTypes) AND snapshot_date < :beforeDate " +
+                   "ORDER BY team_id, model_type, snapshot_date DESC",
+           nativeQuery = true)
+    List<TeamPowerRatingSnapshot> findLatestBeforeForTeams(
+            @Param("teamIds") Collection<Long> teamIds,
+            @Param("seasonId") Long seasonId,
+            @Param("modelTypes") Collection<String> modelTypes,
+            @Param("beforeDate") LocalDate beforeDate);
+
+    /** Most recent snapshot per (team, model) strictly before the given date, for every team in the season. */
+    @Query(value = "SELECT DISTINCT ON (team_id, model_type) * FROM team_power_rating_snapshots " +
+                   "WHERE season_id = :seasonId " +
+                   "  AND model_type IN (:modelTypes) AND snapshot_date < :beforeDate " +
+                   "ORDER BY team_id, model_type, snapshot_date DESC",
+           nativeQuery = true)
+    List<TeamPowerRatingSnapshot> findLatestBeforeForSeason(
+            @Param("seasonId") Long seasonId,
+            @Param("modelTypes") Collection<String> modelTypes,
+            @Param("beforeDate") LocalDate beforeDate);
+
+    /** Each team's last snapshot of the season for one model — its final rating once the season is over. */
+    @Query(value = "SELECT DISTINCT ON (team_id) * FROM team_power_rating_snapshots " +
+                   "WHERE season_id = :seasonId AND model_type = :modelType " +
+                   "ORDER BY team_id, snapshot_date DESC",
+           nativeQuery = true)
+    List<TeamPowerRatingSnapshot> findLatestForSeason(
+            @Param("seasonId") Long seasonId,
+            @Param("modelType") String modelType);
 }
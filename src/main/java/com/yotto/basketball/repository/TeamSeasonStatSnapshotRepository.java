@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,4 +42,24 @@ public interface TeamSeasonStatSnapshotRepository extends JpaRepository<TeamSeas
             @Param("teamId") Long teamId,
             @Param("seasonId") Long seasonId,
             @Param("beforeDate") LocalDate beforeDate);
+
+    /** Each team's most recent snapshot strictly before the given date, in one pass (game detail). */
+    @Query(value = "SELECT DISTINCT ON (team_id) * FROM team_season_stat_snapshots " +
+                   "WHERE team_id IN (:teamIds) AND season_id = :seasonId " +
+                   "  AND snapshot_date < :beforeDate " +
+                   "ORDER BY team_id, snapshot_date DESC",
+           nativeQuery = true)
+    List<TeamSeasonStatSnapshot> findLatestBeforeForTeams(
+            @Param("teamIds") Collection<Long> teamIds,
+            @Param("seasonId") Long seasonId,
+            @Param("beforeDate") LocalDate beforeDate);
+
+    /** Number of teams with a strictly higher RPI on one snapshot date — rank is this + 1. */
+    @Query(value = "SELECT COUNT(*) FROM team_season_stat_snapshots " +
+                   "WHERE season_id = :seasonId AND snapshot_date = :date AND rpi > :rpi",
+           nativeQuery = true)
+    long countWithRpiAbove(
+            @Param("seasonId") Long seasonId,
+            @Param("date") LocalDate date,
+            @Param("rpi") double rpi);
 }
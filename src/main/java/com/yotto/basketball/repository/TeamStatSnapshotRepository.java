@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -67,6 +68,22 @@ public interface TeamStatSnapshotRepository extends JpaRepository<TeamStatSnapsh
             @Param("seasonId") Long seasonId,
             @Param("beforeDate") LocalDate beforeDate);
 
+    /**
+     * All stats for several teams, each at its own most recent snapshot date strictly
+     * before the given date — the bulk form of {@link #findLatestBefore}.
+     */
+    @Query(value = "SELECT s.* FROM team_stat_snapshots s " +
+                   "JOIN (SELECT team_id, MAX(snapshot_date) AS snapshot_date FROM team_stat_snapshots " +
+                   "      WHERE team_id IN (:teamIds) AND season_id = :seasonId AND snapshot_date < :beforeDate " +
+                   "      GROUP BY team_id) latest " +
+                   "  ON latest.team_id = s.team_id AND latest.snapshot_date = s.snapshot_date " +
+                   "WHERE s.season_id = :seasonId",
+           nativeQuery = true)
+    List<TeamStatSnapshot> findLatestBeforeForTeams(
+            @Param("teamIds") Collection<Long> teamIds,
+            @Param("seasonId") Long seasonId,
+            @Param("beforeDate") LocalDate beforeDate);
+
     @Query("SELECT MAX(s.snapshotDate) FROM TeamStatSnapshot s WHERE s.season.id = :seasonId")
     Optional<LocalDate> findLatestSnapshotDate(@Param("seasonId") Long seasonId);
 
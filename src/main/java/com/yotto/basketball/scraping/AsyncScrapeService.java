@@ -1,158 +1,122 @@
 package com.yotto.basketball.scraping;
 
 import com.yotto.basketball.entity.ScrapeBatch;
+import com.yotto.basketball.service.ServingPlanChangedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Background scrape and calculation requests from the admin UI and other services.
+ * Each request becomes a durable {@link JobQueue} job that a {@link JobWorker} (on
+ * any node) runs later, so queued work survives restarts and duplicate clicks
+ * coalesce. Methods return true when a new job was queued, false when an identical
+ * one was already queued or running.
+ */
 @Service
 public class AsyncScrapeService {
 
     private static final Logger log = LoggerFactory.getLogger(AsyncScrapeService.class);
 
-    private final ScrapeOrchestrator orchestrator;
-    private final ScrapeScheduler scheduler;
+    private final JobQueue jobQueue;
 
-    public AsyncScrapeService(ScrapeOrchestrator orchestrator, ScrapeScheduler scheduler) {
-        this.orchestrator = orchestrator;
-        this.scheduler = scheduler;
+    public AsyncScrapeService(JobQueue jobQueue) {
+        this.jobQueue = jobQueue;
     }
 
     /**
-     * Fires the scheduled re-scrape cycle on demand from the admin UI.
-     * Shares the scheduler's lock, so it's a no-op if the cron is already
-     * running.
+     * Queues the scheduled re-scrape cycle on demand from the admin UI. Coalesces with
+     * the cron's own job, so it's a no-op if a cycle is already queued or running.
      */
-    @Async("scrapeExecutor")
-    public void runScheduledCycleAsync() {
-        log.info("Async scheduled cycle kicked off manually from admin UI");
-        boolean ran = scheduler.tryRunNow(ScrapeBatch.Source.SCHEDULED);
-        if (!ran) {
-            log.info("Manual scheduled-cycle invocation skipped — already running");
-        }
+    public boolean runScheduledCycleAsync() {
+        log.info("Scheduled cycle requested manually from admin UI");
+        return jobQueue.enqueue(JobType.SCHEDULED_CYCLE, null);
     }
 
-    @Async("scrapeExecutor")
-    public void scrapeFullSeasonAsync(int seasonYear) {
-        scrapeFullSeasonAsync(seasonYear, ScrapeBatch.Source.MANUAL);
+    public boolean scrapeFullSeasonAsync(int seasonYear) {
+        return scrapeFullSeasonAsync(seasonYear, ScrapeBatch.Source.MANUAL);
     }
 
     /**
-     * Runs the full scrape pipeline for every supplied season sequentially in a
-     * single background task — each season completes before the next begins so
-     * we never fan out concurrent load onto ESPN's API.
+     * Queues a full pipeline scrape for every supplied season. ESPN-bound jobs never
+     * run concurrently, so the seasons still go one at a time — oldest first, by
+     * queue order. Returns the number of seasons newly queued.
      */
-    @Async("scrapeExecutor")
-    public void scrapeAllSeasonsFullAsync(java.util.List<Integer> seasonYears) {
-        log.info("Async full re-scrape started for all {} seasons: {}", seasonYears.size(), seasonYears);
+    public int scrapeAllSeasonsFullAsync(List<Integer> seasonYears) {
+        log.info("Full re-scrape requested for all {} seasons: {}", seasonYears.size(), seasonYears);
+        int queued = 0;
         for (int seasonYear : seasonYears) {
-            try {
-                orchestrator.scrapeFullSeason(seasonYear, ScrapeBatch.Source.MANUAL);
-            } catch (Exception e) {
-                log.error("Async full season scrape failed for {} — continuing with remaining seasons", seasonYear, e);
+            if (jobQueue.enqueue(JobType.FULL_SEASON, seasonYear, ScrapeBatch.Source.MANUAL.name())) {
+                queued++;
             }
         }
-        log.info("Async full re-scrape of all seasons completed");
+        return queued;
     }
 
-    @Async("scrapeExecutor")
-    public void scrapeFullSeasonAsync(int seasonYear, ScrapeBatch.Source source) {
-        log.info("Async full season scrape started for {} (source={})", seasonYear, source);
-        try {
-            orchestrator.scrapeFullSeason(seasonYear, source);
-        } catch (Exception e) {
-            log.error("Async full season scrape failed for {}", seasonYear, e);
-        }
+    public boolean scrapeFullSeasonAsync(int seasonYear, ScrapeBatch.Source source) {
+        return jobQueue.enqueue(JobType.FULL_SEASON, seasonYear, source.name());
     }
 
-    @Async("scrapeExecutor")
-    public void scrapeCurrentSeasonAsync(int seasonYear) {
-        log.info("Async current season re-scrape started for {}", seasonYear);
-        try {
-            orchestrator.scrapeCurrentSeason(seasonYear);
-        } catch (Exception e) {
-            log.error("Async current season re-scrape failed for {}", seasonYear, e);
-        }
+    public boolean scrapeCurrentSeasonAsync(int seasonYear) {
+        return jobQueue.enqueue(JobType.CURRENT_SEASON, seasonYear);
     }
 
-    @Async("scrapeExecutor")
-    public void backfillOddsAsync(int seasonYear) {
-        log.info("Async odds backfill started for {}", seasonYear);
-        try {
-            orchestrator.backfillOdds(seasonYear);
-        } catch (Exception e) {
-            log.error("Async odds backfill failed for {}", seasonYear, e);
-        }
+    public boolean backfillOddsAsync(int seasonYear) {
+        return jobQueue.enqueue(JobType.ODDS_BACKFILL, seasonYear);
     }
 
-    @Async("scrapeExecutor")
-    public void backfillGameStatsAsync(int seasonYear) {
-        log.info("Async game stats backfill started for {}", seasonYear);
-        try {
-            orchestrator.backfillGameStats(seasonYear);
-        } catch (Exception e) {
-            log.error("Async game stats backfill failed for {}", seasonYear, e);
-        }
+    public boolean backfillGameStatsAsync(int seasonYear) {
+        return jobQueue.enqueue(JobType.GAME_STATS_BACKFILL, seasonYear);
     }
 
-    @Async("scrapeExecutor")
-    public void scrapeTeamsAsync(int seasonYear) {
-        log.info("Async team scrape started for {}", seasonYear);
-        try {
-            orchestrator.scrapeTeams(seasonYear);
-        } catch (Exception e) {
-            log.error("Async team scrape failed for {}", seasonYear, e);
-        }
+    public boolean scrapeTeamsAsync(int seasonYear) {
+        return jobQueue.enqueue(JobType.TEAMS, seasonYear);
     }
 
-    @Async("scrapeExecutor")
-    public void calculateStatsAsync(int seasonYear) {
-        log.info("Async stats calculation started for {}", seasonYear);
-        try {
-            orchestrator.calculateStats(seasonYear);
-        } catch (Exception e) {
-            log.error("Async stats calculation failed for {}", seasonYear, e);
-        }
+    public boolean calculateStatsAsync(int seasonYear) {
+        return jobQueue.enqueue(JobType.SEASON_STATS, seasonYear);
     }
 
-    @Async("scrapeExecutor")
-    public void calculateTimeSeriesAsync(int seasonYear) {
-        log.info("Async time-series calculation started for {}", seasonYear);
-        try {
-            orchestrator.calculateTimeSeries(seasonYear);
-        } catch (Exception e) {
-            log.error("Async time-series calculation failed for {}", seasonYear, e);
-        }
+    public boolean calculateTimeSeriesAsync(int seasonYear) {
+        return jobQueue.enqueue(JobType.TIME_SERIES, seasonYear);
     }
 
-    @Async("scrapeExecutor")
-    public void calculatePowerRatingsAsync(int seasonYear) {
-        log.info("Async power ratings calculation started for {}", seasonYear);
-        try {
-            orchestrator.calculatePowerRatings(seasonYear);
-        } catch (Exception e) {
-            log.error("Async power ratings calculation failed for {}", seasonYear, e);
-        }
+    public boolean calculatePowerRatingsAsync(int seasonYear) {
+        return jobQueue.enqueue(JobType.POWER_RATINGS, seasonYear);
     }
 
     /**
-     * Evaluates model predictions against results for each given season (one
-     * transaction per season). {@code rebuild} deletes existing rows first.
+     * Queues one evaluation job per season. {@code rebuild} deletes existing rows first.
+     * Returns the number of seasons newly queued.
      */
-    @Async("scrapeExecutor")
-    public void evaluatePredictionsAsync(java.util.List<Integer> seasonYears, boolean rebuild) {
-        log.info("Async prediction evaluation started for seasons {} (rebuild={})", seasonYears, rebuild);
+    public int evaluatePredictionsAsync(List<Integer> seasonYears, boolean rebuild) {
+        log.info("Prediction evaluation requested for seasons {} (rebuild={})", seasonYears, rebuild);
+        JobType type = rebuild ? JobType.REBUILD_EVALUATIONS : JobType.EVALUATE_PREDICTIONS;
+        int queued = 0;
         for (int year : seasonYears) {
-            try {
-                if (rebuild) {
-                    orchestrator.rebuildPredictionEvaluations(year);
-                } else {
-                    orchestrator.evaluatePredictions(year);
-                }
-            } catch (Exception e) {
-                log.error("Async prediction evaluation failed for {}", year, e);
+            if (jobQueue.enqueue(type, year)) {
+                queued++;
             }
         }
+        return queued;
+    }
+
+    /** Queues a reconcile of RUNNING ML training runs with the trainer (admin status polls). */
+    public boolean reconcileTrainingAsync() {
+        return jobQueue.enqueue(JobType.TRAINING_RECONCILE, null);
+    }
+
+    /**
+     * Re-materializes upcoming predictions once an ML model change commits. As a
+     * season-less job it waits for, and blocks, pipeline runs writing the same rows.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onServingPlanChanged(ServingPlanChangedEvent event) {
+        log.info("Serving plan changed ({}) — queueing materialized prediction refresh", event.plan().fingerprint());
+        jobQueue.enqueue(JobType.REFRESH_PREDICTIONS, null);
     }
 }
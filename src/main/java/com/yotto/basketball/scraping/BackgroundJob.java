@@ -0,0 +1,30 @@
+package com.yotto.basketball.scraping;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/** One {@code background_jobs} row. {@code argument} is type-specific (the scrape source for {@link JobType#FULL_SEASON}). */
+public record BackgroundJob(long id, JobType type, Integer seasonYear, String argument, int priority,
+                            Status status, int attempts, int maxAttempts, LocalDateTime runAfter,
+                            String lockedBy, LocalDateTime createdAt, LocalDateTime startedAt,
+                            LocalDateTime finishedAt, String lastError) {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        SUCCEEDED,
+        FAILED
+    }
+
+    /** True for a queued job waiting out a retry backoff. */
+    public boolean isRetry() {
+        return status == Status.QUEUED && attempts > 0;
+    }
+
+    public Duration duration() {
+        if (startedAt == null) {
+            return null;
+        }
+        return Duration.between(startedAt, finishedAt != null ? finishedAt : LocalDateTime.now());
+    }
+}
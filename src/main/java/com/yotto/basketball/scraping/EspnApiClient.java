@@ -1,12 +1,16 @@
 package com.yotto.basketball.scraping;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yotto.basketball.config.ScrapingProperties;
+import com.yotto.basketball.service.PipelineMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.concurrent.ThreadLocalRandom;
@@ -27,57 +31,76 @@ public class EspnApiClient {
 
     private final RestClient restClient;
     private final ScrapingProperties properties;
+    private final PipelineMetrics pipelineMetrics;
+    private final ObjectMapper objectMapper;
 
-    public EspnApiClient(ScrapingProperties properties, RestClient.Builder restClientBuilder) {
+    public EspnApiClient(ScrapingProperties properties, RestClient.Builder restClientBuilder,
+                         PipelineMetrics pipelineMetrics, ObjectMapper objectMapper) {
         this.restClient = restClientBuilder
                 .defaultHeader("Accept", "application/json")
                 .build();
         this.properties = properties;
+        this.pipelineMetrics = pipelineMetrics;
+        this.objectMapper = objectMapper;
     }
 
     public JsonNode fetchTeams() {
-        return fetchWithRateLimit(TEAMS_URL);
+        return fetchWithRateLimit("teams", TEAMS_URL);
     }
 
     public JsonNode fetchSingleTeam(String espnTeamId) {
         String url = SINGLE_TEAM_URL.replace("{espnTeamId}", espnTeamId);
-        return fetchWithRateLimit(url);
+        return fetchWithRateLimit("team", url);
     }
 
     public JsonNode fetchConferences() {
-        return fetchWithRateLimit(CONFERENCES_URL);
+        return fetchWithRateLimit("conferences", CONFERENCES_URL);
     }
 
     public JsonNode fetchStandings(int seasonYear) {
         String url = STANDINGS_URL.replace("{year}", String.valueOf(seasonYear));
-        return fetchWithRateLimit(url);
+        return fetchWithRateLimit("standings", url);
     }
 
     public JsonNode fetchScoreboard(LocalDate date) {
         String url = SCOREBOARD_URL.replace("{date}", date.format(DATE_FORMAT));
-        return fetchWithRateLimit(url);
+        return fetchWithRateLimit("scoreboard", url);
     }
 
     public JsonNode fetchGameOdds(String espnGameId) {
         String url = ODDS_URL.replace("{gameId}", espnGameId);
-        return fetchWithRateLimit(url);
+        return fetchWithRateLimit("odds", url);
     }
 
     public JsonNode fetchGameSummary(String espnGameId) {
         String url = SUMMARY_URL.replace("{gameId}", espnGameId);
-        return fetchWithRateLimit(url);
+        return fetchWithRateLimit("summary", url);
     }
 
-    private JsonNode fetchWithRateLimit(String url) {
+    /**
+     * @param endpoint metric tag naming the URL template (ids and dates would explode
+     *                 tag cardinality). The body is read as bytes so its size can be
+     *                 recorded, then parsed.
+     */
+    private JsonNode fetchWithRateLimit(String endpoint, String url) {
         log.debug("Fetching: {}", url);
+        long start = System.nanoTime();
+        boolean success = false;
+        int bytes = 0;
         try {
-            JsonNode response = restClient.get()
+            byte[] body = restClient.get()
                     .uri(url)
                     .retrieve()
-                    .body(JsonNode.class);
+                    .body(byte[].class);
+            bytes = body != null ? body.length : 0;
+            JsonNode response = bytes > 0 ? objectMapper.readTree(body) : null;
+            success = true;
             log.debug("Response received for: {}", url);
             return response;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unparseable ESPN response from " + url, e);
         } finally {
+            pipelineMetrics.espnRequest(endpoint, success, System.nanoTime() - start, bytes);
             applyRateLimit();
         }
     }
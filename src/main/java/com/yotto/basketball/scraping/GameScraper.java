@@ -4,8 +4,11 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.yotto.basketball.config.ScrapingProperties;
 import com.yotto.basketball.entity.*;
 import com.yotto.basketball.repository.*;
+import com.yotto.basketball.service.GameFinalEvent;
+import com.yotto.basketball.service.PipelineJfrEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +17,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -32,13 +36,15 @@ public class GameScraper {
     private final ScrapeBatchRepository scrapeBatchRepository;
     private final NonD1GameObservationRepository nonD1GameObservationRepository;
     private final TournamentClassifier tournamentClassifier;
+    private final ApplicationEventPublisher eventPublisher;
 
     public GameScraper(EspnApiClient espnApiClient, ScrapingProperties scrapingProperties,
                        TeamRepository teamRepository, SeasonRepository seasonRepository,
                        GameRepository gameRepository, BettingOddsRepository bettingOddsRepository,
                        ScrapeBatchRepository scrapeBatchRepository,
                        NonD1GameObservationRepository nonD1GameObservationRepository,
-                       TournamentClassifier tournamentClassifier) {
+                       TournamentClassifier tournamentClassifier,
+                       ApplicationEventPublisher eventPublisher) {
         this.espnApiClient = espnApiClient;
         this.scrapingProperties = scrapingProperties;
         this.teamRepository = teamRepository;
@@ -48,6 +54,7 @@ public class GameScraper {
         this.scrapeBatchRepository = scrapeBatchRepository;
         this.nonD1GameObservationRepository = nonD1GameObservationRepository;
         this.tournamentClassifier = tournamentClassifier;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -98,18 +105,25 @@ public class GameScraper {
         batch.setCurrentStep("GAMES (current)");
         batch = scrapeBatchRepository.save(batch);
 
+        List<Long> newlyFinal = new ArrayList<>();
         for (LocalDate date : datesToFetch) {
             batch.setCurrentStep("GAMES " + date);
+            PipelineJfrEvents.ScrapeItem item = new PipelineJfrEvents.ScrapeItem();
+            item.begin(batch);
+            boolean succeeded = false;
             try {
-                scrapeDate(date, seasonYear, batch);
+                scrapeDate(date, seasonYear, batch, newlyFinal);
                 batch.incrementDatesSucceeded();
+                succeeded = true;
             } catch (Exception e) {
                 log.error("Failed to scrape date {}", date, e);
                 batch.incrementDatesFailed();
             }
+            item.finish(batch, "GAMES", date, 0, succeeded);
             batch = scrapeBatchRepository.save(batch);
         }
 
+        publishFinals(seasonYear, newlyFinal);
         batch.complete();
         log.info("Current season re-scrape for {}: {} created, {} updated, {}/{} dates",
                 seasonYear, batch.getRecordsCreated(), batch.getRecordsUpdated(),
@@ -126,22 +140,29 @@ public class GameScraper {
         batch.setCurrentStep("GAMES " + start);
         batch = scrapeBatchRepository.save(batch);
 
+        List<Long> newlyFinal = new ArrayList<>();
         LocalDate current = start;
         while (!current.isAfter(end)) {
             batch.setCurrentStep("GAMES " + current);
+            PipelineJfrEvents.ScrapeItem item = new PipelineJfrEvents.ScrapeItem();
+            item.begin(batch);
+            boolean succeeded = false;
             try {
-                scrapeDate(current, seasonYear, batch);
+                scrapeDate(current, seasonYear, batch, newlyFinal);
                 batch.incrementDatesSucceeded();
+                succeeded = true;
             } catch (Exception e) {
                 log.error("Failed to scrape date {}", current, e);
                 batch.incrementDatesFailed();
             }
+            item.finish(batch, "GAMES", current, 0, succeeded);
             current = current.plusDays(1);
 
             // Save every iteration so the dashboard can show live progress.
             batch = scrapeBatchRepository.save(batch);
         }
 
+        publishFinals(seasonYear, newlyFinal);
         batch.complete();
         log.info("Full season scrape for {}: {} created, {} updated, {}/{} dates OK/failed",
                 seasonYear, batch.getRecordsCreated(), batch.getRecordsUpdated(),
@@ -150,7 +171,14 @@ public class GameScraper {
         return scrapeBatchRepository.save(batch);
     }
 
-    private void scrapeDate(LocalDate date, int seasonYear, ScrapeBatch batch) {
+    /** One {@link GameFinalEvent} for the whole scrape, handled once its transaction commits. */
+    private void publishFinals(int seasonYear, List<Long> newlyFinal) {
+        if (!newlyFinal.isEmpty()) {
+            eventPublisher.publishEvent(new GameFinalEvent(seasonYear, List.copyOf(newlyFinal)));
+        }
+    }
+
+    private void scrapeDate(LocalDate date, int seasonYear, ScrapeBatch batch, List<Long> newlyFinal) {
         JsonNode root = espnApiClient.fetchScoreboard(date);
         JsonNode events = root.path("sports").path(0).path("leagues").path(0).path("events");
 
@@ -158,14 +186,15 @@ public class GameScraper {
 
         for (JsonNode event : events) {
             try {
-                upsertGame(event, date, seasonYear, batch);
+                upsertGame(event, date, seasonYear, batch, newlyFinal);
             } catch (Exception e) {
                 log.warn("Failed to process event {} on {}", event.path("id").asText(), date, e);
             }
         }
     }
 
-    private void upsertGame(JsonNode event, LocalDate scrapeDate, int seasonYear, ScrapeBatch batch) {
+    private void upsertGame(JsonNode event, LocalDate scrapeDate, int seasonYear, ScrapeBatch batch,
+                            List<Long> newlyFinal) {
         String espnId = event.path("id").asText();
 
         // Find home and away teams
@@ -221,6 +250,7 @@ public class GameScraper {
             game = new Game();
             game.setEspnId(espnId);
         }
+        boolean wasFinal = !isNew && game.getStatus() == Game.GameStatus.FINAL;
 
         game.setHomeTeam(homeTeam);
         game.setAwayTeam(awayTeam);
@@ -259,6 +289,10 @@ public class GameScraper {
         }
 
         game = gameRepository.save(game);
+        if (!wasFinal && status == Game.GameStatus.FINAL
+                && game.getHomeScore() != null && game.getAwayScore() != null) {
+            newlyFinal.add(game.getId());
+        }
 
         if (isNew) {
             batch.incrementCreated();
@@ -11,6 +11,7 @@ import com.yotto.basketball.repository.ScrapeBatchRepository;
 import com.yotto.basketball.repository.SeasonRepository;
 import com.yotto.basketball.repository.TeamGameStatsRepository;
 import com.yotto.basketball.repository.TeamRepository;
+import com.yotto.basketball.service.PipelineJfrEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -71,17 +72,22 @@ public class GameStatsScraper {
             for (Game game : games) {
                 idx++;
                 batch.setCurrentStep("GAME_STATS " + idx + "/" + total);
+                PipelineJfrEvents.ScrapeItem item = new PipelineJfrEvents.ScrapeItem();
+                item.begin(batch);
+                boolean succeeded = false;
                 try {
                     int rowsWritten = scrapeForGame(game);
                     if (rowsWritten > 0) {
                         for (int i = 0; i < rowsWritten; i++) batch.incrementCreated();
                     }
                     batch.incrementDatesSucceeded();
+                    succeeded = true;
                 } catch (Exception e) {
                     log.warn("Failed to scrape stats for game {} (ESPN ID: {})",
                             game.getId(), game.getEspnId(), e);
                     batch.incrementDatesFailed();
                 }
+                item.finish(batch, "GAME_STATS", game.getScrapeDate(), game.getId(), succeeded);
 
                 if ((batch.getDatesSucceeded() + batch.getDatesFailed()) % 20 == 0) {
                     batch = scrapeBatchRepository.save(batch);
@@ -0,0 +1,256 @@
+package com.yotto.basketball.scraping;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Durable, multi-node job queue on the {@code background_jobs} table.
+ *
+ * <p>Every operation runs in its own transaction ({@code REQUIRES_NEW}), so an
+ * enqueue from inside a caller's transaction — or from an after-commit listener,
+ * where the old transaction's connection is still bound — is committed immediately
+ * and seen by workers on any node.
+ *
+ * <p>Claiming takes a transaction-scoped advisory lock first. The exclusion rules
+ * (one season-data job per season, one ESPN-bound job at a time) look at other RUNNING rows, and
+ * two workers claiming concurrently would each miss the other's uncommitted claim;
+ * the lock serializes the few milliseconds of claiming, while {@code SKIP LOCKED}
+ * keeps a claim from waiting on rows an admin action or reaper has locked.
+ */
+@Component
+public class JobQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(JobQueue.class);
+
+    /** Arbitrary app-wide key for {@code pg_advisory_xact_lock}: "JOBQ". */
+    private static final long CLAIM_LOCK_KEY = 0x4A4F4251L;
+    private static final int MAX_ERROR_LENGTH = 4000;
+
+    private static final String COLUMNS = """
+            id, job_type, season_year, argument, priority, status, attempts, max_attempts,
+            run_after, locked_by, created_at, started_at, finished_at, last_error""";
+
+    private static final String CLAIM_SQL = """
+            UPDATE background_jobs
+               SET status = 'RUNNING', locked_by = ?, attempts = attempts + 1,
+                   started_at = LOCALTIMESTAMP, heartbeat_at = LOCALTIMESTAMP, finished_at = NULL
+             WHERE id = (
+                   SELECT j.id FROM background_jobs j
+                    WHERE j.status = 'QUEUED' AND j.run_after <= LOCALTIMESTAMP
+                      AND NOT EXISTS (
+                          SELECT 1 FROM background_jobs r
+                           WHERE r.status = 'RUNNING'
+                             AND ((r.uses_espn AND j.uses_espn)
+                                  OR (r.writes_season_data AND j.writes_season_data
+                                      AND (r.season_year IS NULL OR j.season_year IS NULL
+                                           OR r.season_year = j.season_year))))
+                    ORDER BY j.priority DESC, j.id
+                    LIMIT 1
+                    FOR UPDATE SKIP LOCKED)
+            RETURNING\s""" + COLUMNS;
+
+    /** Matches a job only while it is still the RUNNING attempt a given worker claimed. */
+    private static final String OWNED_ATTEMPT = " status = 'RUNNING' AND locked_by = ? AND attempts = ?";
+
+    private static final RowMapper<BackgroundJob> ROW_MAPPER = (rs, i) -> new BackgroundJob(
+            rs.getLong("id"),
+            JobType.valueOf(rs.getString("job_type")),
+            (Integer) rs.getObject("season_year"),
+            rs.getString("argument"),
+            rs.getInt("priority"),
+            BackgroundJob.Status.valueOf(rs.getString("status")),
+            rs.getInt("attempts"),
+            rs.getInt("max_attempts"),
+            toLocal(rs.getTimestamp("run_after")),
+            rs.getString("locked_by"),
+            toLocal(rs.getTimestamp("created_at")),
+            toLocal(rs.getTimestamp("started_at")),
+            toLocal(rs.getTimestamp("finished_at")),
+            rs.getString("last_error"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate tx;
+    private final Duration retryBackoff;
+
+    public JobQueue(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                    @Value("${app.jobs.retry-backoff:1m}") Duration retryBackoff) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.retryBackoff = retryBackoff;
+    }
+
+    public boolean enqueue(JobType type, Integer seasonYear) {
+        return enqueue(type, seasonYear, null);
+    }
+
+    /**
+     * Queues a job unless an identical one (same type and season) is already queued or
+     * running. Returns false when coalesced into the existing job.
+     *
+     * @throws IllegalArgumentException if a season-scoped type has no season
+     */
+    public boolean enqueue(JobType type, Integer seasonYear, String argument) {
+        if (type.seasonScoped() && seasonYear == null) {
+            throw new IllegalArgumentException(type + " requires a season");
+        }
+        Integer season = type.seasonScoped() ? seasonYear : null;
+        Integer inserted = tx.execute(status -> jdbcTemplate.update("""
+                INSERT INTO background_jobs (job_type, season_year, argument, uses_espn, writes_season_data,
+                                             dedupe_key, priority, max_attempts, run_after, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, LOCALTIMESTAMP, LOCALTIMESTAMP)
+                ON CONFLICT (dedupe_key) WHERE status IN ('QUEUED', 'RUNNING') DO NOTHING""",
+                type.name(), season, argument, type.usesEspn(), type.writesSeasonData(), type.dedupeKey(season),
+                type.priority(), type.maxAttempts()));
+        boolean queued = inserted != null && inserted > 0;
+        if (queued) {
+            log.info("Queued job {}{}", type, season != null ? " for " + season : "");
+        } else {
+            log.info("Job {}{} already queued or running — request coalesced", type,
+                    season != null ? " for " + season : "");
+        }
+        return queued;
+    }
+
+    /** Claims the next runnable job for {@code workerId}, if any is eligible. */
+    public Optional<BackgroundJob> claim(String workerId) {
+        return tx.execute(status -> {
+            jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(?)", CLAIM_LOCK_KEY);
+            return jdbcTemplate.query(CLAIM_SQL, ROW_MAPPER, workerId).stream().findFirst();
+        });
+    }
+
+    /**
+     * Records success of {@code job}'s attempt. Only the attempt {@code workerId} claimed
+     * is updated: if the reaper released it and another worker has claimed it since,
+     * that newer attempt is left alone.
+     */
+    public void succeeded(BackgroundJob job, String workerId) {
+        Integer updated = tx.execute(status -> jdbcTemplate.update("""
+                UPDATE background_jobs
+                   SET status = 'SUCCEEDED', finished_at = LOCALTIMESTAMP, locked_by = NULL, last_error = NULL
+                 WHERE id = ? AND""" + OWNED_ATTEMPT, job.id(), workerId, job.attempts()));
+        warnIfLost(job, workerId, updated);
+    }
+
+    /**
+     * Records a failed attempt: re-queued with exponential backoff
+     * ({@code retry-backoff × 2^(attempt-1)}) while attempts remain, otherwise FAILED.
+     * Like {@link #succeeded}, only touches the attempt {@code workerId} still owns.
+     */
+    public void failed(BackgroundJob job, String workerId, Throwable error) {
+        String message = truncate(error.getClass().getSimpleName() + ": " + error.getMessage());
+        boolean retry = job.attempts() < job.maxAttempts();
+        if (retry) {
+            Duration delay = retryBackoff.multipliedBy(1L << Math.min(job.attempts() - 1, 10));
+            Integer updated = tx.execute(status -> jdbcTemplate.update("""
+                    UPDATE background_jobs
+                       SET status = 'QUEUED', locked_by = NULL, heartbeat_at = NULL,
+                           run_after = LOCALTIMESTAMP + make_interval(secs => ?), last_error = ?
+                     WHERE id = ? AND""" + OWNED_ATTEMPT,
+                    (double) delay.toSeconds(), message, job.id(), workerId, job.attempts()));
+            if (warnIfLost(job, workerId, updated)) {
+                log.warn("Job {} ({}) attempt {}/{} failed — retrying in {}: {}", job.id(), job.type(),
+                        job.attempts(), job.maxAttempts(), delay, message);
+            }
+        } else {
+            Integer updated = tx.execute(status -> jdbcTemplate.update("""
+                    UPDATE background_jobs
+                       SET status = 'FAILED', finished_at = LOCALTIMESTAMP, locked_by = NULL, last_error = ?
+                     WHERE id = ? AND""" + OWNED_ATTEMPT, message, job.id(), workerId, job.attempts()));
+            if (warnIfLost(job, workerId, updated)) {
+                log.error("Job {} ({}) failed after {} attempt(s): {}", job.id(), job.type(), job.attempts(), message);
+            }
+        }
+    }
+
+    /**
+     * Hands a claimed job back without running it (this node had no free thread): back to
+     * QUEUED, claimable at once, and the claim's attempt is not counted.
+     */
+    public void release(BackgroundJob job, String workerId) {
+        tx.executeWithoutResult(status -> jdbcTemplate.update("""
+                UPDATE background_jobs
+                   SET status = 'QUEUED', attempts = attempts - 1, locked_by = NULL,
+                       heartbeat_at = NULL, started_at = NULL
+                 WHERE id = ? AND""" + OWNED_ATTEMPT, job.id(), workerId, job.attempts()));
+        log.info("Job {} ({}) released back to the queue — no free worker thread", job.id(), job.type());
+    }
+
+    /** Returns true when the update hit the owned attempt; logs the lost race otherwise. */
+    private static boolean warnIfLost(BackgroundJob job, String workerId, Integer updated) {
+        if (updated != null && updated > 0) {
+            return true;
+        }
+        log.warn("Job {} ({}) attempt {} is no longer owned by {} (released as stale) — outcome not recorded",
+                job.id(), job.type(), job.attempts(), workerId);
+        return false;
+    }
+
+    /** Marks the given jobs, still being executed by {@code workerId}, as alive. */
+    public void heartbeat(String workerId, Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        List<Object> args = new ArrayList<>(jobIds);
+        args.add(0, workerId);
+        String ids = String.join(", ", Collections.nCopies(jobIds.size(), "?"));
+        tx.executeWithoutResult(status -> jdbcTemplate.update(
+                "UPDATE background_jobs SET heartbeat_at = LOCALTIMESTAMP"
+                        + " WHERE status = 'RUNNING' AND locked_by = ? AND id IN (" + ids + ")",
+                args.toArray()));
+    }
+
+    /**
+     * Releases RUNNING jobs whose worker stopped heartbeating (node crash or restart):
+     * back to QUEUED while attempts remain, otherwise FAILED. Returns the number released.
+     */
+    public int reapStale(Duration staleAfter) {
+        Integer released = tx.execute(status -> jdbcTemplate.update("""
+                UPDATE background_jobs
+                   SET status = CASE WHEN attempts < max_attempts THEN 'QUEUED' ELSE 'FAILED' END,
+                       finished_at = CASE WHEN attempts < max_attempts THEN NULL ELSE LOCALTIMESTAMP END,
+                       last_error = 'Worker ' || COALESCE(locked_by, '?') || ' stopped responding',
+                       locked_by = NULL, heartbeat_at = NULL
+                 WHERE status = 'RUNNING' AND heartbeat_at < LOCALTIMESTAMP - make_interval(secs => ?)""",
+                (double) staleAfter.toSeconds()));
+        int count = released != null ? released : 0;
+        if (count > 0) {
+            log.warn("Released {} job(s) abandoned by unresponsive workers", count);
+        }
+        return count;
+    }
+
+    /** Queued and running jobs, then the most recent finished ones, for the admin history view. */
+    public List<BackgroundJob> recent(int limit) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + """
+                 FROM background_jobs
+                ORDER BY CASE status WHEN 'RUNNING' THEN 0 WHEN 'QUEUED' THEN 1 ELSE 2 END,
+                         COALESCE(finished_at, created_at) DESC, id DESC
+                LIMIT ?""", ROW_MAPPER, limit);
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static LocalDateTime toLocal(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,76 @@
+package com.yotto.basketball.scraping;
+
+/**
+ * Kinds of {@link JobQueue} work. Each type fixes its claim priority (higher first),
+ * how many attempts a failure gets, whether it needs a season, and whether it talks
+ * to ESPN — ESPN-bound jobs never run concurrently, so a multi-season re-scrape stays
+ * as gentle on ESPN as the old single-thread executor was. Calculation types run in
+ * parallel across seasons. Types that write no season data run alongside anything
+ * that isn't ESPN-bound.
+ */
+public enum JobType {
+
+    /** Re-scrape every auto-refresh season; excludes all other work while running. */
+    SCHEDULED_CYCLE(0, 1, false, true),
+    FULL_SEASON(10, 3, true, true),
+    CURRENT_SEASON(10, 3, true, true),
+    TEAMS(20, 3, true, true),
+    ODDS_BACKFILL(20, 3, true, true),
+    GAME_STATS_BACKFILL(20, 3, true, true),
+    SEASON_STATS(30, 2, true, false),
+    TIME_SERIES(30, 2, true, false),
+    POWER_RATINGS(30, 2, true, false),
+    EVALUATE_PREDICTIONS(15, 2, true, false),
+    REBUILD_EVALUATIONS(15, 2, true, false),
+    /** Re-materialize upcoming predictions after a model change; touches every active season. */
+    REFRESH_PREDICTIONS(25, 2, false, false),
+    /**
+     * Reconcile RUNNING ML training runs with the trainer. Writes only training-run
+     * rows (a finished run's follow-up work is queued as its own jobs), and the next
+     * status poll re-queues it, so one attempt is enough.
+     */
+    TRAINING_RECONCILE(40, 1, false, false, false);
+
+    private final int priority;
+    private final int maxAttempts;
+    private final boolean seasonScoped;
+    private final boolean usesEspn;
+    private final boolean writesSeasonData;
+
+    JobType(int priority, int maxAttempts, boolean seasonScoped, boolean usesEspn) {
+        this(priority, maxAttempts, seasonScoped, usesEspn, true);
+    }
+
+    JobType(int priority, int maxAttempts, boolean seasonScoped, boolean usesEspn, boolean writesSeasonData) {
+        this.priority = priority;
+        this.maxAttempts = maxAttempts;
+        this.seasonScoped = seasonScoped;
+        this.usesEspn = usesEspn;
+        this.writesSeasonData = writesSeasonData;
+    }
+
+    public int priority() {
+        return priority;
+    }
+
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    public boolean seasonScoped() {
+        return seasonScoped;
+    }
+
+    public boolean usesEspn() {
+        return usesEspn;
+    }
+
+    public boolean writesSeasonData() {
+        return writesSeasonData;
+    }
+
+    /** Identical requests (same type and season) coalesce while one is queued or running. */
+    String dedupeKey(Integer seasonYear) {
+        return seasonYear != null ? name() + ":" + seasonYear : name();
+    }
+}
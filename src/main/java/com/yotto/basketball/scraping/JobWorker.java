@@ -0,0 +1,131 @@
+package com.yotto.basketball.scraping;
+
+import com.yotto.basketball.entity.ScrapeBatch;
+import com.yotto.basketball.service.MlTrainingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Polls the {@link JobQueue} and runs claimed jobs on {@code jobExecutor}, at most
+ * {@code app.jobs.workers} at a time on this node. Each poll also heartbeats the
+ * jobs this worker is executing and releases jobs whose worker went quiet for
+ * {@code app.jobs.stale-after}, so work owned by a crashed node — or a job whose
+ * completion could not be recorded — is picked up again.
+ *
+ * <p>Disable with {@code app.jobs.worker.enabled=false} on nodes that should only
+ * serve web traffic; they can still enqueue.
+ */
+@Component
+@ConditionalOnProperty(name = "app.jobs.worker.enabled", havingValue = "true", matchIfMissing = true)
+public class JobWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(JobWorker.class);
+
+    private final JobQueue queue;
+    private final ScrapeOrchestrator orchestrator;
+    private final ScrapeScheduler scheduler;
+    private final MlTrainingService mlTrainingService;
+    private final TaskExecutor executor;
+    private final int workers;
+    private final Duration staleAfter;
+    private final String workerId = ManagementFactory.getRuntimeMXBean().getName();
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    public JobWorker(JobQueue queue, ScrapeOrchestrator orchestrator, ScrapeScheduler scheduler,
+                     MlTrainingService mlTrainingService,
+                     @Qualifier("jobExecutor") TaskExecutor executor,
+                     @Value("${app.jobs.workers:2}") int workers,
+                     @Value("${app.jobs.stale-after:2m}") Duration staleAfter) {
+        this.queue = queue;
+        this.orchestrator = orchestrator;
+        this.scheduler = scheduler;
+        this.mlTrainingService = mlTrainingService;
+        this.executor = executor;
+        this.workers = workers;
+        this.staleAfter = staleAfter;
+    }
+
+    @Scheduled(initialDelayString = "${app.jobs.poll-interval:5s}", fixedDelayString = "${app.jobs.poll-interval:5s}")
+    public void poll() {
+        try {
+            queue.heartbeat(workerId, running);
+            queue.reapStale(staleAfter);
+            while (running.size() < workers) {
+                Optional<BackgroundJob> claimed = queue.claim(workerId);
+                if (claimed.isEmpty()) {
+                    break;
+                }
+                BackgroundJob job = claimed.get();
+                running.add(job.id());
+                try {
+                    executor.execute(() -> {
+                        try {
+                            execute(job);
+                        } finally {
+                            running.remove(job.id());
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    // Pool momentarily full: not the job's fault, so don't spend an attempt
+                    // (SCHEDULED_CYCLE has only one)
+                    running.remove(job.id());
+                    queue.release(job, workerId);
+                    break;
+                } catch (RuntimeException e) {
+                    running.remove(job.id());
+                    queue.failed(job, workerId, e);
+                    break;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Job queue poll failed: {}", e.getMessage());
+        }
+    }
+
+    void execute(BackgroundJob job) {
+        log.info("Job {} ({}{}) started, attempt {}/{}", job.id(), job.type(),
+                job.seasonYear() != null ? " " + job.seasonYear() : "", job.attempts(), job.maxAttempts());
+        try {
+            run(job);
+        } catch (Exception e) {
+            queue.failed(job, workerId, e);
+            return;
+        }
+        queue.succeeded(job, workerId);
+        log.info("Job {} ({}) succeeded", job.id(), job.type());
+    }
+
+    private void run(BackgroundJob job) {
+        Integer season = job.seasonYear();
+        switch (job.type()) {
+            case SCHEDULED_CYCLE -> scheduler.tryRunNow(ScrapeBatch.Source.SCHEDULED);
+            case FULL_SEASON -> orchestrator.scrapeFullSeason(season, job.argument() != null
+                    ? ScrapeBatch.Source.valueOf(job.argument()) : ScrapeBatch.Source.MANUAL);
+            case CURRENT_SEASON -> orchestrator.scrapeCurrentSeason(season);
+            case TEAMS -> orchestrator.scrapeTeams(season);
+            case ODDS_BACKFILL -> orchestrator.backfillOdds(season);
+            case GAME_STATS_BACKFILL -> orchestrator.backfillGameStats(season);
+            case SEASON_STATS -> orchestrator.calculateStats(season);
+            case TIME_SERIES -> orchestrator.calculateTimeSeries(season);
+            case POWER_RATINGS -> orchestrator.calculatePowerRatings(season);
+            case EVALUATE_PREDICTIONS -> orchestrator.evaluatePredictions(season);
+            case REBUILD_EVALUATIONS -> orchestrator.rebuildPredictionEvaluations(season);
+            case REFRESH_PREDICTIONS -> orchestrator.refreshPredictions();
+            case TRAINING_RECONCILE -> mlTrainingService.pollActiveRuns();
+        }
+    }
+}
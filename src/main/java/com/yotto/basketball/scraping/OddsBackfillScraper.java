@@ -6,6 +6,7 @@ import com.yotto.basketball.entity.Game;
 import com.yotto.basketball.entity.ScrapeBatch;
 import com.yotto.basketball.entity.Season;
 import com.yotto.basketball.repository.*;
+import com.yotto.basketball.service.PipelineJfrEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -64,16 +65,21 @@ public class OddsBackfillScraper {
             for (Game game : gamesWithoutOdds) {
                 idx++;
                 batch.setCurrentStep("ODDS " + idx + "/" + total);
+                PipelineJfrEvents.ScrapeItem item = new PipelineJfrEvents.ScrapeItem();
+                item.begin(batch);
+                boolean succeeded = false;
                 try {
                     boolean success = backfillGameOdds(game);
                     if (success) {
                         batch.incrementCreated();
                     }
                     batch.incrementDatesSucceeded();
+                    succeeded = true;
                 } catch (Exception e) {
                     log.warn("Failed to backfill odds for game {} (ESPN ID: {})", game.getId(), game.getEspnId(), e);
                     batch.incrementDatesFailed();
                 }
+                item.finish(batch, "ODDS_BACKFILL", game.getScrapeDate(), game.getId(), succeeded);
 
                 // Periodic save
                 if ((batch.getDatesSucceeded() + batch.getDatesFailed()) % 20 == 0) {
@@ -3,6 +3,8 @@ package com.yotto.basketball.scraping;
 import com.yotto.basketball.entity.ScrapeBatch;
 import com.yotto.basketball.service.ConferenceGameFlagService;
 import com.yotto.basketball.service.PredictionEvaluationService;
+import com.yotto.basketball.service.PredictionMaterializationService;
+import com.yotto.basketball.service.PipelineJfrEvents;
 import com.yotto.basketball.service.PowerRatingService;
 import com.yotto.basketball.service.SeasonGameData;
 import com.yotto.basketball.service.SeasonGameDataLoader;
@@ -14,7 +16,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @Service
 public class ScrapeOrchestrator {
@@ -35,6 +39,7 @@ public class ScrapeOrchestrator {
     private final PowerRatingService powerRatingService;
     private final TeamStatTimeSeriesService teamStatTimeSeriesService;
     private final PredictionEvaluationService predictionEvaluationService;
+    private final PredictionMaterializationService predictionMaterializationService;
 
     public ScrapeOrchestrator(ConferenceScraper conferenceScraper, TeamScraper teamScraper,
                               StandingsScraper standingsScraper, GameScraper gameScraper,
@@ -47,7 +52,8 @@ public class ScrapeOrchestrator {
                               StatisticsTimeSeriesService timeSeriesService,
                               PowerRatingService powerRatingService,
                               TeamStatTimeSeriesService teamStatTimeSeriesService,
-                              PredictionEvaluationService predictionEvaluationService) {
+                              PredictionEvaluationService predictionEvaluationService,
+                              PredictionMaterializationService predictionMaterializationService) {
         this.conferenceScraper = conferenceScraper;
         this.teamScraper = teamScraper;
         this.standingsScraper = standingsScraper;
@@ -62,6 +68,7 @@ public class ScrapeOrchestrator {
         this.powerRatingService = powerRatingService;
         this.teamStatTimeSeriesService = teamStatTimeSeriesService;
         this.predictionEvaluationService = predictionEvaluationService;
+        this.predictionMaterializationService = predictionMaterializationService;
     }
 
     public void scrapeFullSeason(int seasonYear) {
@@ -72,26 +79,29 @@ public class ScrapeOrchestrator {
         PipelineContext run = new PipelineContext(UUID.randomUUID(), null, source);
         log.info("Starting full season scrape for {} (pipeline {})", seasonYear, run.pipelineRunId());
 
-        ScrapeBatch confBatch = conferenceScraper.scrape(seasonYear, run.step(1));
+        ScrapeBatch confBatch = traced(seasonYear, "CONFERENCES", run,
+                () -> conferenceScraper.scrape(seasonYear, run.step(1)));
         if (confBatch.getStatus() == ScrapeBatch.ScrapeStatus.FAILED) {
             log.error("Conference scrape failed, aborting full season scrape");
             return;
         }
 
-        ScrapeBatch teamBatch = teamScraper.scrape(seasonYear, run.step(2));
+        ScrapeBatch teamBatch = traced(seasonYear, "TEAMS", run,
+                () -> teamScraper.scrape(seasonYear, run.step(2)));
         if (teamBatch.getStatus() == ScrapeBatch.ScrapeStatus.FAILED) {
             log.error("Team scrape failed, aborting full season scrape");
             return;
         }
 
-        ScrapeBatch standingsBatch = standingsScraper.scrape(seasonYear, run.step(3));
+        ScrapeBatch standingsBatch = traced(seasonYear, "STANDINGS", run,
+                () -> standingsScraper.scrape(seasonYear, run.step(3)));
         if (standingsBatch.getStatus() == ScrapeBatch.ScrapeStatus.FAILED) {
             log.warn("Standings scrape failed, continuing with game scrape");
         }
 
-        gameScraper.scrapeFullSeason(seasonYear, run.step(4));
-        oddsBackfillScraper.backfill(seasonYear, run.step(5));
-        gameStatsScraper.backfill(seasonYear, run.step(6));
+        traced(seasonYear, "GAMES", run, () -> gameScraper.scrapeFullSeason(seasonYear, run.step(4)));
+        traced(seasonYear, "ODDS_BACKFILL", run, () -> oddsBackfillScraper.backfill(seasonYear, run.step(5)));
+        traced(seasonYear, "GAME_STATS", run, () -> gameStatsScraper.backfill(seasonYear, run.step(6)));
 
         runCalculations(seasonYear);
 
@@ -106,10 +116,10 @@ public class ScrapeOrchestrator {
         PipelineContext run = new PipelineContext(UUID.randomUUID(), null, source);
         log.info("Starting current season re-scrape for {} (pipeline {})", seasonYear, run.pipelineRunId());
 
-        standingsScraper.scrape(seasonYear, run.step(1));
-        gameScraper.scrapeCurrentSeason(seasonYear, run.step(2));
-        oddsBackfillScraper.backfill(seasonYear, run.step(3));
-        gameStatsScraper.backfill(seasonYear, run.step(4));
+        traced(seasonYear, "STANDINGS", run, () -> standingsScraper.scrape(seasonYear, run.step(1)));
+        traced(seasonYear, "GAMES", run, () -> gameScraper.scrapeCurrentSeason(seasonYear, run.step(2)));
+        traced(seasonYear, "ODDS_BACKFILL", run, () -> oddsBackfillScraper.backfill(seasonYear, run.step(3)));
+        traced(seasonYear, "GAME_STATS", run, () -> gameStatsScraper.backfill(seasonYear, run.step(4)));
 
         runCalculations(seasonYear);
 
@@ -145,10 +155,11 @@ public class ScrapeOrchestrator {
      * Gated calculation block shared by full and current-season scrapes: refresh
      * conference-game flags (their changes count as game changes), skip the
      * calculators entirely when nothing changed since the last recorded run, and
-     * otherwise load the season's games once for every calculator.
+     * otherwise load the season's games once for every calculator. Package-private
+     * for the pipeline scale harness.
      */
-    private void runCalculations(int seasonYear) {
-        conferenceGameFlagService.updateForSeason(seasonYear);
+    void runCalculations(int seasonYear) {
+        traced(seasonYear, "CONFERENCE_FLAGS", () -> conferenceGameFlagService.updateForSeason(seasonYear));
 
         StatCalcGateService.RecalcScope scope = statCalcGateService.check(seasonYear);
         if (scope.mode() == StatCalcGateService.Mode.SKIP) {
@@ -161,25 +172,75 @@ public class ScrapeOrchestrator {
             return;
         }
 
-        statsCalculationService.calculateAndUpdateForSeason(data);
-        timeSeriesService.calculateAndStoreForSeason(data, scope.fromDate());
-        powerRatingService.calculateAndStoreForSeason(data, scope.fromDate());
-        teamStatTimeSeriesService.calculateAndStoreForSeason(data, scope.fromDate());
+        traced(seasonYear, "SEASON_STATS", () -> statsCalculationService.calculateAndUpdateForSeason(data));
+        traced(seasonYear, "TIME_SERIES", () -> timeSeriesService.calculateAndStoreForSeason(data, scope.fromDate()));
+        traced(seasonYear, "POWER_RATINGS",
+                () -> powerRatingService.calculateAndStoreForSeason(data, scope.fromDate()));
+        traced(seasonYear, "TEAM_STATS",
+                () -> teamStatTimeSeriesService.calculateAndStoreForSeason(data, scope.fromDate()));
         statCalcGateService.recordRun(seasonYear, scope);
 
         // Fresh snapshots were just written — evaluate any newly-FINAL games against them.
         // Failure here must not fail the scrape batch; evaluation can be re-run from /admin.
         try {
-            predictionEvaluationService.evaluateSeason(seasonYear);
+            traced(seasonYear, "EVALUATION", () -> predictionEvaluationService.evaluateSeason(seasonYear));
         } catch (Exception e) {
             log.error("Prediction evaluation failed for season {}", seasonYear, e);
         }
+        traced(seasonYear, "MATERIALIZATION", () -> refreshPredictions(seasonYear));
+    }
+
+    /** Runs one scraper step inside a {@link PipelineJfrEvents.PipelineStep} event. */
+    private static ScrapeBatch traced(int seasonYear, String step, PipelineContext run,
+                                      Supplier<ScrapeBatch> scrape) {
+        PipelineJfrEvents.PipelineStep event = new PipelineJfrEvents.PipelineStep();
+        event.begin();
+        ScrapeBatch batch = null;
+        try {
+            batch = scrape.get();
+            return batch;
+        } finally {
+            event.finish(seasonYear, step, Objects.toString(run.pipelineRunId(), null),
+                    batch != null ? batch.getRecordsCreated() : 0,
+                    batch != null ? batch.getRecordsUpdated() : 0);
+        }
+    }
+
+    /** Runs one calculation step inside a {@link PipelineJfrEvents.PipelineStep} event. */
+    private static void traced(int seasonYear, String step, Runnable calculation) {
+        PipelineJfrEvents.PipelineStep event = new PipelineJfrEvents.PipelineStep();
+        event.begin();
+        try {
+            calculation.run();
+        } finally {
+            event.finish(seasonYear, step, null, 0, 0);
+        }
     }
 
     public void evaluatePredictions(int seasonYear) {
         predictionEvaluationService.evaluateSeason(seasonYear);
     }
 
+    /**
+     * Re-materializes upcoming-game predictions. Failure only costs latency — readers
+     * fall back to live computation — so it is logged, never propagated.
+     */
+    public void refreshPredictions() {
+        try {
+            predictionMaterializationService.refreshWindow();
+        } catch (Exception e) {
+            log.error("Prediction materialization failed", e);
+        }
+    }
+
+    private void refreshPredictions(int seasonYear) {
+        try {
+            predictionMaterializationService.refreshWindow(seasonYear);
+        } catch (Exception e) {
+            log.error("Prediction materialization failed for season {}", seasonYear, e);
+        }
+    }
+
     public void rebuildPredictionEvaluations(int seasonYear) {
         predictionEvaluationService.rebuildSeason(seasonYear);
     }
@@ -187,14 +248,20 @@ public class ScrapeOrchestrator {
     public void calculateStats(int seasonYear) {
         conferenceGameFlagService.updateForSeason(seasonYear);
         statsCalculationService.calculateAndUpdateForSeason(seasonYear);
+        statCalcGateService.recordManualRecalc(seasonYear);
     }
 
     public void calculateTimeSeries(int seasonYear) {
         timeSeriesService.calculateAndStoreForSeason(seasonYear);
         teamStatTimeSeriesService.calculateAndStoreForSeason(seasonYear);
+        // Manual recalcs rewrite snapshots without advancing the watermark
+        statCalcGateService.recordManualRecalc(seasonYear);
+        refreshPredictions(seasonYear);
     }
 
     public void calculatePowerRatings(int seasonYear) {
         powerRatingService.calculateAndStoreForSeason(seasonYear);
+        statCalcGateService.recordManualRecalc(seasonYear);
+        refreshPredictions(seasonYear);
     }
 }
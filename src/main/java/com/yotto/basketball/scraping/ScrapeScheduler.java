@@ -18,23 +18,29 @@ public class ScrapeScheduler {
 
     private final ScrapeOrchestrator orchestrator;
     private final SeasonRepository seasonRepository;
+    private final JobQueue jobQueue;
     private final AtomicBoolean running = new AtomicBoolean(false);
 
-    public ScrapeScheduler(ScrapeOrchestrator orchestrator, SeasonRepository seasonRepository) {
+    public ScrapeScheduler(ScrapeOrchestrator orchestrator, SeasonRepository seasonRepository, JobQueue jobQueue) {
         this.orchestrator = orchestrator;
         this.seasonRepository = seasonRepository;
+        this.jobQueue = jobQueue;
     }
 
+    /**
+     * Queues the cycle rather than running it on the scheduler thread. Every replica's
+     * cron fires, but the job's dedupe key coalesces them into one run.
+     */
     @Scheduled(cron = "${espn.scraping.schedule:0 0 */12 * * *}")
     public void scheduledScrape() {
-        tryRunNow(ScrapeBatch.Source.SCHEDULED);
+        jobQueue.enqueue(JobType.SCHEDULED_CYCLE, null);
     }
 
     /**
      * Runs one full re-scrape cycle over every auto-refresh season, but only
      * if no other cycle is currently in flight. Returns true if the cycle
-     * was actually invoked. Shared by the @Scheduled cron and the admin
-     * "Run now" button so both paths are bounded by the same lock.
+     * was actually invoked. Called by {@link JobWorker} for SCHEDULED_CYCLE
+     * jobs; the queue already keeps cycles apart, the lock is a local backstop.
      */
     public boolean tryRunNow(ScrapeBatch.Source source) {
         if (!running.compareAndSet(false, true)) {
@@ -0,0 +1,252 @@
+package com.yotto.basketball.service;
+
+import com.yotto.basketball.entity.Game;
+import com.yotto.basketball.entity.TeamGameStats;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Opponent-adjusted offensive and defensive efficiency and tempo. The raw box-score
+ * rates ({@link BoxScoreStatCalculator}) credit a team for its schedule: 115 points per
+ * 100 possessions against weak defenses looks the same as 115 against good ones.
+ *
+ * <p>Each game side — team i's offense against team j's defense — is modelled as
+ * <pre>
+ *   eff = μ + o_i + d_j + h·site          site = +1 home, −1 away, 0 neutral
+ *   tempo_g = ν + p_home + p_away
+ * </pre>
+ * where μ and ν are the league's average efficiency and tempo through the date and h
+ * is the home edge per 100 possessions. o, d and p are ridge-penalized with the weight
+ * of {@link #RIDGE_GAMES} league-average games, so a team with one game is pulled
+ * toward average and the system is always positive definite.
+ *
+ * <p>The normal equations are solved by Gauss-Seidel sweeps over each team's game
+ * list. That costs O(games) per sweep and never forms a matrix. After each sweep the
+ * one direction the data cannot see (all offenses up, all defenses down) is projected
+ * out exactly. The solution persists across dates, so each date warm-starts from the
+ * previous one. A day's games move it only slightly, so a date takes a handful of
+ * sweeps to converge to {@link #TOLERANCE}.
+ *
+ * <p>Games are counted under the same rule as {@link BoxScoreStatCalculator}: both
+ * box scores must be usable.
+ */
+public class AdjustedEfficiencyCalculator implements DailyStatCalculator {
+
+    /** Ridge weight on each team's offense, defense and tempo, in league-average games. */
+    static final double RIDGE_GAMES = 1.0;
+    /** Stop when no parameter moves more than this (points or possessions per 100). */
+    static final double TOLERANCE = 1e-6;
+    static final int MAX_SWEEPS = 200;
+
+    private static final List<StatMeta> METAS = List.of(
+            new StatMeta("adj_off_efficiency", true),
+            new StatMeta("adj_def_efficiency", false),
+            new StatMeta("adj_efficiency_margin", true),
+            new StatMeta("adj_tempo", true)
+    );
+
+    /** Stat names owned by this calculator (used for population-row deletes). */
+    public static List<StatMeta> statMetas() {
+        return METAS;
+    }
+
+    private final Map<Long, Integer> indexByTeamId = new HashMap<>();
+    private final List<Long> teamIds = new ArrayList<>();
+
+    // Per game: team indices, each side's points per 100 possessions, tempo, and
+    // 1 for a home/away game (0 at a neutral site)
+    private int games;
+    private int[] home = new int[0], away = new int[0];
+    private double[] homeEff = new double[0], awayEff = new double[0], tempo = new double[0];
+    private int[] site = new int[0];
+
+    // Per team: game list, offense / defense / tempo deviations (the warm start)
+    private int[][] gamesOf = new int[0][];
+    private int[] gameCount = new int[0];
+    private double[] off = new double[0], def = new double[0], pace = new double[0];
+    private double homeEdge;
+    private double effSum, tempoSum;
+
+    private int lastSweeps;
+
+    @Override
+    public List<StatMeta> definitions() {
+        return METAS;
+    }
+
+    @Override
+    public void begin(SeasonGameData data) {
+        indexByTeamId.clear();
+        teamIds.clear();
+        games = 0;
+        int teams = Math.max(data.teamsById().size(), 16);
+        gamesOf = new int[teams][];
+        gameCount = new int[teams];
+        off = new double[teams];
+        def = new double[teams];
+        pace = new double[teams];
+        homeEdge = 0;
+        effSum = 0;
+        tempoSum = 0;
+        lastSweeps = 0;
+    }
+
+    @Override
+    public void onGame(Game game, TeamGameStats homeStats, TeamGameStats awayStats) {
+        if (!BoxScoreStatCalculator.isUsable(homeStats) || !BoxScoreStatCalculator.isUsable(awayStats)) {
+            return;
+        }
+        double homePoss = BoxScoreStatCalculator.possessions(homeStats);
+        double awayPoss = BoxScoreStatCalculator.possessions(awayStats);
+        if (homePoss <= 0 || awayPoss <= 0) {
+            return;
+        }
+        int h = indexOf(game.getHomeTeam().getId());
+        int a = indexOf(game.getAwayTeam().getId());
+        if (games == home.length) {
+            int n = Math.max(64, games * 2);
+            home = Arrays.copyOf(home, n);
+            away = Arrays.copyOf(away, n);
+            homeEff = Arrays.copyOf(homeEff, n);
+            awayEff = Arrays.copyOf(awayEff, n);
+            tempo = Arrays.copyOf(tempo, n);
+            site = Arrays.copyOf(site, n);
+        }
+        int g = games++;
+        home[g] = h;
+        away[g] = a;
+        homeEff[g] = 100.0 * game.getHomeScore() / homePoss;
+        awayEff[g] = 100.0 * game.getAwayScore() / awayPoss;
+        tempo[g] = (homePoss + awayPoss) / 2;
+        site[g] = Boolean.TRUE.equals(game.getNeutralSite()) ? 0 : 1;
+        effSum += homeEff[g] + awayEff[g];
+        tempoSum += tempo[g];
+        link(h, g);
+        link(a, g);
+    }
+
+    @Override
+    public List<TeamStatValue> snapshot(LocalDate date) {
+        List<TeamStatValue> values = new ArrayList<>();
+        if (games == 0) {
+            return values;
+        }
+        double mu = effSum / (2 * games);
+        double nu = tempoSum / games;
+        solve(mu, nu);
+        for (int i = 0; i < teamIds.size(); i++) {
+            long teamId = teamIds.get(i);
+            int n = gameCount[i];
+            values.add(new TeamStatValue(teamId, "adj_off_efficiency", mu + off[i], n));
+            values.add(new TeamStatValue(teamId, "adj_def_efficiency", mu + def[i], n));
+            values.add(new TeamStatValue(teamId, "adj_efficiency_margin", off[i] - def[i], n));
+            values.add(new TeamStatValue(teamId, "adj_tempo", nu + pace[i], n));
+        }
+        return values;
+    }
+
+    /** Gauss-Seidel sweeps from the current solution until it stops moving. */
+    private void solve(double mu, double nu) {
+        int teams = teamIds.size();
+        int sweep = 0;
+        double maxDelta = Double.POSITIVE_INFINITY;
+        while (sweep < MAX_SWEEPS && maxDelta > TOLERANCE) {
+            maxDelta = 0;
+            for (int i = 0; i < teams; i++) {
+                double offSum = 0, defSum = 0, paceSum = 0;
+                int[] list = gamesOf[i];
+                for (int k = 0; k < gameCount[i]; k++) {
+                    int g = list[k];
+                    boolean isHome = home[g] == i;
+                    int opp = isHome ? away[g] : home[g];
+                    double edge = homeEdge * (isHome ? site[g] : -site[g]);
+                    double ownEff = isHome ? homeEff[g] : awayEff[g];
+                    double oppEff = isHome ? awayEff[g] : homeEff[g];
+                    offSum += ownEff - mu - def[opp] - edge;
+                    defSum += oppEff - mu - off[opp] + edge;
+                    paceSum += tempo[g] - nu - pace[opp];
+                }
+                double denom = gameCount[i] + RIDGE_GAMES;
+                maxDelta = Math.max(maxDelta, update(off, i, offSum / denom));
+                maxDelta = Math.max(maxDelta, update(def, i, defSum / denom));
+                maxDelta = Math.max(maxDelta, update(pace, i, paceSum / denom));
+            }
+            // Shifting every offense up and every defense down by c leaves every game's
+            // fit unchanged, so only the ridge pins it and sweeps crawl along it. Jump
+            // straight to the ridge minimum on that line, where Σo = Σd.
+            double offTotal = 0, defTotal = 0;
+            for (int i = 0; i < teams; i++) {
+                offTotal += off[i];
+                defTotal += def[i];
+            }
+            double shift = (defTotal - offTotal) / (2 * teams);
+            for (int i = 0; i < teams; i++) {
+                off[i] += shift;
+                def[i] -= shift;
+            }
+
+            // Home edge: unpenalized, two sides per non-neutral game
+            double edgeSum = 0;
+            int sites = 0;
+            for (int g = 0; g < games; g++) {
+                if (site[g] == 0) continue;
+                edgeSum += (homeEff[g] - mu - off[home[g]] - def[away[g]])
+                         - (awayEff[g] - mu - off[away[g]] - def[home[g]]);
+                sites += 2;
+            }
+            double edge = sites > 0 ? edgeSum / sites : 0;
+            maxDelta = Math.max(maxDelta, Math.abs(edge - homeEdge));
+            homeEdge = edge;
+            sweep++;
+        }
+        lastSweeps = sweep;
+    }
+
+    private static double update(double[] values, int i, double value) {
+        double delta = Math.abs(value - values[i]);
+        values[i] = value;
+        return delta;
+    }
+
+    private int indexOf(long teamId) {
+        Integer index = indexByTeamId.get(teamId);
+        if (index != null) {
+            return index;
+        }
+        int i = teamIds.size();
+        if (i == gameCount.length) {
+            int n = i * 2;
+            gamesOf = Arrays.copyOf(gamesOf, n);
+            gameCount = Arrays.copyOf(gameCount, n);
+            off = Arrays.copyOf(off, n);
+            def = Arrays.copyOf(def, n);
+            pace = Arrays.copyOf(pace, n);
+        }
+        gamesOf[i] = new int[8];
+        indexByTeamId.put(teamId, i);
+        teamIds.add(teamId);
+        return i;
+    }
+
+    private void link(int team, int g) {
+        if (gameCount[team] == gamesOf[team].length) {
+            gamesOf[team] = Arrays.copyOf(gamesOf[team], gameCount[team] * 2);
+        }
+        gamesOf[team][gameCount[team]++] = g;
+    }
+
+    /** Sweeps taken by the most recent snapshot's solve. */
+    int lastSweeps() {
+        return lastSweeps;
+    }
+
+    /** Home edge per 100 possessions from the most recent solve. */
+    double homeEdge() {
+        return homeEdge;
+    }
+}
@@ -0,0 +1,173 @@
+package com.yotto.basketball.service;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cheap version stamps for the polled JSON APIs, so controllers can answer conditional
+ * GETs without loading any snapshots. Each lookup is one small query against
+ * {@code stat_calc_watermarks} (plus the game/odds rows for predictions); anything
+ * that can change a response must change its stamp.
+ *
+ * <p>Season stamps move only when {@link StatCalcGateService} records a snapshot
+ * write, so they are cached in process. The cache is evicted on
+ * {@code calc_completed} from any node. Game and upcoming stamps also follow
+ * scrapes and odds, and are always read fresh.
+ */
+@Service
+public class ApiVersionService {
+
+    /** Opaque version token plus the instant it was last changed (for Last-Modified, may be null). */
+    public record Version(String token, Long lastModifiedMillis) {}
+
+    private static final String SEASON_SQL = """
+            SELECT w.last_calc_started_at, w.snapshots_written_at
+            FROM stat_calc_watermarks w
+            JOIN seasons s ON s.id = w.season_id
+            WHERE s.year = ?
+            """;
+
+    private static final String GAME_SQL = """
+            SELECT g.status, g.updated_at, bo.last_updated, w.last_calc_started_at, w.snapshots_written_at
+            FROM games g
+            LEFT JOIN betting_odds bo ON bo.game_id = g.id
+            LEFT JOIN stat_calc_watermarks w ON w.season_id = g.season_id
+            WHERE g.id = ?
+            """;
+
+    /** Membership of the window is fingerprinted by count and id sum; content by the latest writes. */
+    private static final String UPCOMING_SQL = """
+            SELECT count(*), COALESCE(sum(g.id), 0), max(g.updated_at), max(bo.last_updated),
+                   max(w.last_calc_started_at), max(w.snapshots_written_at)
+            FROM games g
+            LEFT JOIN betting_odds bo ON bo.game_id = g.id
+            LEFT JOIN stat_calc_watermarks w ON w.season_id = g.season_id
+            WHERE g.status = 'SCHEDULED' AND g.game_date BETWEEN ? AND ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MlModelRegistryService mlModelRegistryService;
+
+    private final Map<Integer, Optional<Version>> seasonVersions = new ConcurrentHashMap<>();
+    /** Bumped by every eviction, so a load that raced one is not cached. */
+    private long seasonGeneration;
+
+    public ApiVersionService(JdbcTemplate jdbcTemplate, MlModelRegistryService mlModelRegistryService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.mlModelRegistryService = mlModelRegistryService;
+    }
+
+    /**
+     * Version of a season's calculated snapshots, or empty when the season has never
+     * been through the pipeline (nothing stable to version — serve unconditionally).
+     */
+    public Optional<Version> season(int year) {
+        Optional<Version> cached = seasonVersions.get(year);
+        if (cached != null) {
+            return cached;
+        }
+        long generation;
+        synchronized (seasonVersions) {
+            generation = seasonGeneration;
+        }
+        Optional<Version> loaded = loadSeason(year);
+        synchronized (seasonVersions) {
+            if (generation == seasonGeneration) {
+                seasonVersions.put(year, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private Optional<Version> loadSeason(int year) {
+        List<Version> rows = jdbcTemplate.query(SEASON_SQL, (rs, i) -> {
+            LocalDateTime calc = toLocal(rs.getTimestamp(1));
+            LocalDateTime written = toLocal(rs.getTimestamp(2));
+            return new Version("s:" + calc + "|" + written, millis(latest(calc, written)));
+        }, year);
+        return rows.stream().findFirst();
+    }
+
+    /** Version of one game's prediction, or empty for an unknown game. */
+    public Optional<Version> game(Long gameId) {
+        String plan = mlModelRegistryService.plan().fingerprint();
+        List<Version> rows = jdbcTemplate.query(GAME_SQL, (rs, i) -> {
+            LocalDateTime updated = toLocal(rs.getTimestamp(2));
+            LocalDateTime odds = toLocal(rs.getTimestamp(3));
+            LocalDateTime calc = toLocal(rs.getTimestamp(4));
+            LocalDateTime written = toLocal(rs.getTimestamp(5));
+            return new Version("g:" + rs.getString(1) + "|" + updated + "|" + odds + "|" + calc
+                    + "|" + written + "|" + plan, null);
+        }, gameId);
+        return rows.stream().findFirst();
+    }
+
+    /** Version of the upcoming-games prediction list for a window. */
+    public Version upcoming(LocalDateTime start, LocalDateTime end) {
+        String plan = mlModelRegistryService.plan().fingerprint();
+        return jdbcTemplate.queryForObject(UPCOMING_SQL, (rs, i) -> new Version(
+                "u:" + rs.getLong(1) + "|" + rs.getLong(2) + "|" + toLocal(rs.getTimestamp(3))
+                        + "|" + toLocal(rs.getTimestamp(4)) + "|" + toLocal(rs.getTimestamp(5))
+                        + "|" + toLocal(rs.getTimestamp(6)) + "|" + plan, null),
+                Timestamp.valueOf(start), Timestamp.valueOf(end));
+    }
+
+    /** Payload {@code season,generation}; anything unparseable evicts every season. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onClusterInvalidation(ClusterInvalidationEvent event) {
+        if (event.channel() != ClusterInvalidationBus.Channel.CALC_COMPLETED) {
+            return;
+        }
+        String payload = event.payload();
+        int comma = payload.indexOf(',');
+        try {
+            evictSeason(Integer.parseInt(comma >= 0 ? payload.substring(0, comma) : payload));
+        } catch (NumberFormatException e) {
+            evictAll();
+        }
+    }
+
+    @EventListener
+    public void onClusterResync(ClusterResyncEvent event) {
+        evictAll();
+    }
+
+    public void evictSeason(int year) {
+        synchronized (seasonVersions) {
+            seasonGeneration++;
+            seasonVersions.remove(year);
+        }
+    }
+
+    public void evictAll() {
+        synchronized (seasonVersions) {
+            seasonGeneration++;
+            seasonVersions.clear();
+        }
+    }
+
+    private static LocalDateTime toLocal(Timestamp ts) {
+        return ts != null ? ts.toLocalDateTime() : null;
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static Long millis(LocalDateTime t) {
+        return t == null ? null : t.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,32 @@
+package com.yotto.basketball.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * The latest walk-forward backtest: one row per model setting, summed over the seasons
+ * replayed. Massey rows carry spread errors, Bradley-Terry rows the Brier score; the
+ * other columns are null.
+ */
+public record BacktestReport(
+        List<Integer> years,
+        LocalDateTime finishedAt,
+        long elapsedMillis,
+        List<Row> rows) {
+
+    /**
+     * @param marginWeight Bradley-Terry weight scale (null for Massey)
+     * @param current      the setting the rating services use today
+     * @param accuracy     share of games whose favored side won
+     */
+    public record Row(
+            String modelType,
+            double lambda,
+            Double marginWeight,
+            boolean current,
+            long games,
+            Double mae,
+            Double rmse,
+            Double brier,
+            Double accuracy) {}
+}
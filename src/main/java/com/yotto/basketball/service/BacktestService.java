@@ -0,0 +1,150 @@
+package com.yotto.basketball.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Grid backtests of the classical models' hyperparameters: Massey's λ, and
+ * Bradley-Terry's λ and margin weight. Seasons are loaded once and replayed
+ * walk-forward in memory ({@link WalkForwardBacktest}), every (season, setting) pair
+ * in parallel on {@code backtestPool}, so nothing is written and no snapshot is touched.
+ * Runs on the single-thread {@code backtestExecutor}; the latest report is kept in
+ * memory for the model-performance page.
+ */
+@Service
+public class BacktestService {
+
+    private static final Logger log = LoggerFactory.getLogger(BacktestService.class);
+
+    @Value("${app.backtest.massey-lambdas:0.25,0.5,1.0,2.0,4.0}")
+    private double[] masseyLambdas = {0.25, 0.5, 1.0, 2.0, 4.0};
+
+    @Value("${app.backtest.bradley-terry-lambdas:0.03,0.1,0.3,1.0}")
+    private double[] bradleyTerryLambdas = {0.03, 0.1, 0.3, 1.0};
+
+    @Value("${app.backtest.margin-weights:0,0.5,1.0,1.5}")
+    private double[] marginWeights = {0, 0.5, 1.0, 1.5};
+
+    private final SeasonGameDataLoader seasonGameDataLoader;
+    private final Executor executor;
+    private final ForkJoinPool pool;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile BacktestReport latest;
+    private volatile String lastError;
+
+    public BacktestService(SeasonGameDataLoader seasonGameDataLoader,
+                           @Qualifier("backtestExecutor") Executor executor,
+                           @Qualifier("backtestPool") ForkJoinPool pool) {
+        this.seasonGameDataLoader = seasonGameDataLoader;
+        this.executor = executor;
+        this.pool = pool;
+    }
+
+    /** Starts a backtest over {@code years}; false if one is already running. */
+    public boolean start(List<Integer> years) {
+        if (!running.compareAndSet(false, true)) return false;
+        try {
+            executor.execute(() -> {
+                try {
+                    latest = run(years);
+                    lastError = null;
+                } catch (RuntimeException e) {
+                    log.error("Backtest over {} failed", years, e);
+                    lastError = e.getMessage();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /** The last completed report, or null before the first run. */
+    public BacktestReport latest() {
+        return latest;
+    }
+
+    /** Why the last run failed, or null if it succeeded. */
+    public String lastError() {
+        return lastError;
+    }
+
+    /** Replays {@code years} under every setting of the grid. */
+    BacktestReport run(List<Integer> years) {
+        long start = System.nanoTime();
+        List<WalkForwardBacktest.Season> seasons = new ArrayList<>();
+        for (int year : years) {
+            seasonGameDataLoader.load(year)
+                    .filter(data -> !data.finalGames().isEmpty())
+                    .map(WalkForwardBacktest.Season::of)
+                    .ifPresent(seasons::add);
+        }
+        List<WalkForwardBacktest.Setting> settings = grid();
+
+        record Task(WalkForwardBacktest.Season season, WalkForwardBacktest.Setting setting) {}
+        List<Task> tasks = new ArrayList<>(seasons.size() * settings.size());
+        for (WalkForwardBacktest.Season season : seasons) {
+            for (WalkForwardBacktest.Setting setting : settings) tasks.add(new Task(season, setting));
+        }
+        Map<WalkForwardBacktest.Setting, WalkForwardBacktest.Score> scores = pool.submit(() -> tasks.parallelStream()
+                .collect(Collectors.toConcurrentMap(Task::setting,
+                        t -> WalkForwardBacktest.run(t.season(), t.setting()),
+                        WalkForwardBacktest.Score::plus))).join();
+
+        List<BacktestReport.Row> rows = settings.stream()
+                .map(s -> row(s, scores.getOrDefault(s, WalkForwardBacktest.Score.EMPTY)))
+                .toList();
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+        log.info("Backtest of {} settings over seasons {} took {} ms", settings.size(),
+                seasons.stream().map(WalkForwardBacktest.Season::year).toList(), elapsed);
+        return new BacktestReport(seasons.stream().map(WalkForwardBacktest.Season::year).toList(),
+                LocalDateTime.now(), elapsed, rows);
+    }
+
+    /** Massey λ values, then every Bradley-Terry (λ, margin weight) pair. */
+    List<WalkForwardBacktest.Setting> grid() {
+        List<WalkForwardBacktest.Setting> settings = new ArrayList<>();
+        for (double lambda : masseyLambdas) {
+            settings.add(new WalkForwardBacktest.Setting(MasseyRatingService.MODEL_TYPE, lambda, 0));
+        }
+        for (double lambda : bradleyTerryLambdas) {
+            for (double weight : marginWeights) {
+                settings.add(new WalkForwardBacktest.Setting(BradleyTerryRatingService.MODEL_TYPE, lambda, weight));
+            }
+        }
+        return settings;
+    }
+
+    private static BacktestReport.Row row(WalkForwardBacktest.Setting s, WalkForwardBacktest.Score score) {
+        long n = score.games();
+        Double accuracy = n == 0 ? null : (double) score.correct() / n;
+        if (s.massey()) {
+            return new BacktestReport.Row(s.modelType(), s.lambda(), null, s.lambda() == MasseyRatingService.LAMBDA,
+                    n, n == 0 ? null : score.absError() / n, n == 0 ? null : Math.sqrt(score.squaredError() / n),
+                    null, accuracy);
+        }
+        boolean current = s.lambda() == BradleyTerryRatingService.LAMBDA
+                && (s.marginWeight() == 0 || s.marginWeight() == 1);
+        return new BacktestReport.Row(s.modelType(), s.lambda(), s.marginWeight(), current,
+                n, null, null, n == 0 ? null : score.brier() / n, accuracy);
+    }
+}
@@ -23,6 +23,15 @@ import java.util.function.Function;
  * shooting, rebounds, turnovers, assists, steals, blocks, fouls — which ESPN
  * always returns together.
  *
+ * <p>Every registry stat is also emitted over each team's last 5 and last 10 games
+ * ({@code efg_pct_l5}, {@code efg_pct_l10}), once the team has played that many.
+ * Each team keeps a fixed-size ring of its per-game contributions per window; a
+ * game adds its contribution to the window's running sums and evicts the oldest,
+ * so the rolling sums cost the same O(1) per game as the season sums. Box-score
+ * counts are integers, so add-then-subtract is exact in double. The variants are
+ * snapshot rows like any other, ranked and z-scored, so a team's full-window date
+ * writes 78 rows rather than 26.
+ *
  * <p>Adding a stat is one entry in {@link #REGISTRY} — no schema change.
  */
 public class BoxScoreStatCalculator implements DailyStatCalculator {
@@ -32,6 +41,9 @@ public class BoxScoreStatCalculator implements DailyStatCalculator {
     /** FTA coefficient in the true-shooting attempts denominator. */
     private static final double TS_FTA_WEIGHT = 0.475;
 
+    /** Rolling windows, in games; each emits {@code <stat>_l<window>} for every registry stat. */
+    public static final List<Integer> WINDOWS = List.of(5, 10);
+
     private record StatDef(String name, boolean higherIsBetter, Function<TeamAcc, Double> extractor) {}
 
     private static final List<StatDef> REGISTRY = List.of(
@@ -69,21 +81,51 @@ public class BoxScoreStatCalculator implements DailyStatCalculator {
             new StatDef("pf_per_game",    false, a -> a.games > 0 ? a.pf / a.games : null)
     );
 
-    /** Stat names owned by this calculator (used for population-row deletes). */
+    private static final List<StatMeta> METAS = buildMetas();
+
+    private static List<StatMeta> buildMetas() {
+        List<StatMeta> metas = new ArrayList<>();
+        for (StatDef d : REGISTRY) metas.add(new StatMeta(d.name(), d.higherIsBetter()));
+        for (int window : WINDOWS) {
+            for (StatDef d : REGISTRY) metas.add(new StatMeta(windowedName(d.name(), window), d.higherIsBetter()));
+        }
+        return List.copyOf(metas);
+    }
+
+    /** Stat names owned by this calculator (used for population-row deletes), rolling variants included. */
     public static List<StatMeta> statMetas() {
-        return REGISTRY.stream().map(d -> new StatMeta(d.name(), d.higherIsBetter())).toList();
+        return METAS;
+    }
+
+    /** The rolling variant of a registry stat, e.g. {@code efg_pct_l5}. */
+    public static String windowedName(String stat, int window) {
+        return stat + "_l" + window;
+    }
+
+    /** The window of a rolling variant's name, or 0 for a season-to-date stat. */
+    public static int windowOf(String stat) {
+        for (int window : WINDOWS) {
+            if (stat.endsWith("_l" + window)) return window;
+        }
+        return 0;
     }
 
-    private final Map<Long, TeamAcc> accByTeamId = new HashMap<>();
+    /** The registry stat a name derives from: itself, or a rolling variant's base. */
+    public static String baseName(String stat) {
+        int window = windowOf(stat);
+        return window == 0 ? stat : stat.substring(0, stat.length() - ("_l" + window).length());
+    }
+
+    private final Map<Long, TeamForm> formByTeamId = new HashMap<>();
 
     @Override
     public List<StatMeta> definitions() {
-        return statMetas();
+        return METAS;
     }
 
     @Override
     public void begin(SeasonGameData data) {
-        accByTeamId.clear();
+        formByTeamId.clear();
     }
 
     @Override
@@ -93,33 +135,44 @@ public class BoxScoreStatCalculator implements DailyStatCalculator {
         }
         long homeId = game.getHomeTeam().getId();
         long awayId = game.getAwayTeam().getId();
-        accByTeamId.computeIfAbsent(homeId, k -> new TeamAcc())
-                .addGame(game.getHomeScore(), game.getAwayScore(), homeStats, awayStats);
-        accByTeamId.computeIfAbsent(awayId, k -> new TeamAcc())
-                .addGame(game.getAwayScore(), game.getHomeScore(), awayStats, homeStats);
+        formByTeamId.computeIfAbsent(homeId, k -> new TeamForm())
+                .add(TeamAcc.ofGame(game.getHomeScore(), game.getAwayScore(), homeStats, awayStats));
+        formByTeamId.computeIfAbsent(awayId, k -> new TeamForm())
+                .add(TeamAcc.ofGame(game.getAwayScore(), game.getHomeScore(), awayStats, homeStats));
     }
 
     @Override
     public List<TeamStatValue> snapshot(LocalDate date) {
         List<TeamStatValue> values = new ArrayList<>();
-        for (Map.Entry<Long, TeamAcc> entry : accByTeamId.entrySet()) {
-            TeamAcc acc = entry.getValue();
-            for (StatDef def : REGISTRY) {
-                Double value = def.extractor().apply(acc);
-                if (value != null) {
-                    values.add(new TeamStatValue(entry.getKey(), def.name(), value, acc.games));
+        for (Map.Entry<Long, TeamForm> entry : formByTeamId.entrySet()) {
+            TeamForm form = entry.getValue();
+            emit(values, entry.getKey(), form.season, 0);
+            for (int w = 0; w < WINDOWS.size(); w++) {
+                RingWindow ring = form.windows[w];
+                if (ring.isFull()) {
+                    emit(values, entry.getKey(), ring.sums, WINDOWS.get(w));
                 }
             }
         }
         return values;
     }
 
+    private static void emit(List<TeamStatValue> values, long teamId, TeamAcc acc, int window) {
+        for (StatDef def : REGISTRY) {
+            Double value = def.extractor().apply(acc);
+            if (value != null) {
+                String name = window == 0 ? def.name() : windowedName(def.name(), window);
+                values.add(new TeamStatValue(teamId, name, value, acc.games));
+            }
+        }
+    }
+
     /**
      * A box score is usable when the full standard ESPN stats block is present.
      * These fields ship together in one stats array, so requiring them all does
      * not selectively drop games.
      */
-    private static boolean isUsable(TeamGameStats s) {
+    static boolean isUsable(TeamGameStats s) {
         return s != null
                 && s.getFgMade() != null && s.getFgAttempted() != null
                 && s.getFg3Made() != null && s.getFg3Attempted() != null
@@ -129,29 +182,92 @@ public class BoxScoreStatCalculator implements DailyStatCalculator {
                 && s.getSteals() != null && s.getBlocks() != null && s.getFouls() != null;
     }
 
-    /** Cumulative own + opponent box-score sums for one team. */
+    /** One game's possession estimate from a usable box score. */
+    static double possessions(TeamGameStats s) {
+        return s.getFgAttempted() - s.getOffensiveReb() + s.getTurnovers() + FTA_POSS_WEIGHT * s.getFtAttempted();
+    }
+
+    /** One team's season sums and rolling windows. */
+    private static class TeamForm {
+        final TeamAcc season = new TeamAcc();
+        final RingWindow[] windows = new RingWindow[WINDOWS.size()];
+
+        TeamForm() {
+            for (int w = 0; w < windows.length; w++) windows[w] = new RingWindow(WINDOWS.get(w));
+        }
+
+        void add(TeamAcc game) {
+            season.add(game, 1);
+            for (RingWindow ring : windows) ring.add(game);
+        }
+    }
+
+    /** Running sums over the last {@code capacity} games: a ring of per-game contributions. */
+    private static class RingWindow {
+        final TeamAcc sums = new TeamAcc();
+        final TeamAcc[] ring;
+        int head;
+
+        RingWindow(int capacity) {
+            ring = new TeamAcc[capacity];
+        }
+
+        boolean isFull() {
+            return sums.games == ring.length;
+        }
+
+        void add(TeamAcc game) {
+            TeamAcc evicted = ring[head];
+            if (evicted != null) sums.add(evicted, -1);
+            ring[head] = game;
+            head = (head + 1) % ring.length;
+            sums.add(game, 1);
+        }
+    }
+
+    /** Own + opponent box-score sums: one game's contribution, or a running total of them. */
     private static class TeamAcc {
         int games;
         double pts, oppPts;
         double fgm, fga, fg3m, fg3a, ftm, fta, orb, drb, to, ast, stl, blk, pf;
         double oppFgm, oppFga, oppFg3m, oppFg3a, oppFtm, oppFta, oppOrb, oppDrb, oppTo;
 
-        void addGame(int ownScore, int oppScore, TeamGameStats own, TeamGameStats opp) {
-            games++;
-            pts += ownScore;
-            oppPts += oppScore;
-            fgm  += own.getFgMade();       fga  += own.getFgAttempted();
-            fg3m += own.getFg3Made();      fg3a += own.getFg3Attempted();
-            ftm  += own.getFtMade();       fta  += own.getFtAttempted();
-            orb  += own.getOffensiveReb(); drb  += own.getDefensiveReb();
-            to   += own.getTurnovers();
-            ast  += own.getAssists();      stl  += own.getSteals();
-            blk  += own.getBlocks();       pf   += own.getFouls();
-            oppFgm  += opp.getFgMade();       oppFga  += opp.getFgAttempted();
-            oppFg3m += opp.getFg3Made();      oppFg3a += opp.getFg3Attempted();
-            oppFtm  += opp.getFtMade();       oppFta  += opp.getFtAttempted();
-            oppOrb  += opp.getOffensiveReb(); oppDrb  += opp.getDefensiveReb();
-            oppTo   += opp.getTurnovers();
+        static TeamAcc ofGame(int ownScore, int oppScore, TeamGameStats own, TeamGameStats opp) {
+            TeamAcc g = new TeamAcc();
+            g.games = 1;
+            g.pts = ownScore;
+            g.oppPts = oppScore;
+            g.fgm  = own.getFgMade();       g.fga  = own.getFgAttempted();
+            g.fg3m = own.getFg3Made();      g.fg3a = own.getFg3Attempted();
+            g.ftm  = own.getFtMade();       g.fta  = own.getFtAttempted();
+            g.orb  = own.getOffensiveReb(); g.drb  = own.getDefensiveReb();
+            g.to   = own.getTurnovers();
+            g.ast  = own.getAssists();      g.stl  = own.getSteals();
+            g.blk  = own.getBlocks();       g.pf   = own.getFouls();
+            g.oppFgm  = opp.getFgMade();       g.oppFga  = opp.getFgAttempted();
+            g.oppFg3m = opp.getFg3Made();      g.oppFg3a = opp.getFg3Attempted();
+            g.oppFtm  = opp.getFtMade();       g.oppFta  = opp.getFtAttempted();
+            g.oppOrb  = opp.getOffensiveReb(); g.oppDrb  = opp.getDefensiveReb();
+            g.oppTo   = opp.getTurnovers();
+            return g;
+        }
+
+        /** Adds ({@code sign} = 1) or removes ({@code sign} = −1) another set of sums. */
+        void add(TeamAcc o, int sign) {
+            games += sign * o.games;
+            pts += sign * o.pts;            oppPts += sign * o.oppPts;
+            fgm  += sign * o.fgm;           fga  += sign * o.fga;
+            fg3m += sign * o.fg3m;          fg3a += sign * o.fg3a;
+            ftm  += sign * o.ftm;           fta  += sign * o.fta;
+            orb  += sign * o.orb;           drb  += sign * o.drb;
+            to   += sign * o.to;
+            ast  += sign * o.ast;           stl  += sign * o.stl;
+            blk  += sign * o.blk;           pf   += sign * o.pf;
+            oppFgm  += sign * o.oppFgm;     oppFga  += sign * o.oppFga;
+            oppFg3m += sign * o.oppFg3m;    oppFg3a += sign * o.oppFg3a;
+            oppFtm  += sign * o.oppFtm;     oppFta  += sign * o.oppFta;
+            oppOrb  += sign * o.oppOrb;     oppDrb  += sign * o.oppDrb;
+            oppTo   += sign * o.oppTo;
         }
 
         double poss()    { return fga - orb + to + FTA_POSS_WEIGHT * fta; }
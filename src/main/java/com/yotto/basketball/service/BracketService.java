@@ -11,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -141,6 +142,84 @@ public class BracketService {
         return new BracketView(year, leftViews, rightViews, semifinalLeft, semifinalRight, championship, champion);
     }
 
+    /**
+     * The bracket as {@link TournamentSimulator} sees it: 64 first-round entries, region
+     * by region. Regions on the left of the bracket take blocks 0 and 1 and those on the
+     * right blocks 2 and 3, so the semifinals pair blocks 0+1 and 2+3; within a block the
+     * sixteen seeds follow {@link #FIRST_ROUND_SEED_ORDER}. Two teams sharing a region and
+     * seed are that entry's First Four play-in. Empty when there is nothing to lay out.
+     */
+    static Optional<TournamentField> field(List<Game> games) {
+        List<String> regionNames = games.stream()
+                .map(Game::getTournamentRegion)
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted(Comparator.comparingInt(BracketService::canonicalRegionIndex)
+                        .thenComparing(Comparator.naturalOrder()))
+                .toList();
+        if (regionNames.isEmpty() || regionNames.size() > 4) return Optional.empty();
+
+        Map<Long, String> teamRegion = new HashMap<>();
+        Map<Long, Integer> teamSeed = new HashMap<>();
+        Map<Long, Team> teams = new LinkedHashMap<>();
+        for (Game g : games) {
+            if (g.getTournamentRegion() == null) continue;
+            enter(g.getHomeTeam(), g.getHomeSeed(), g.getTournamentRegion(), teams, teamSeed, teamRegion);
+            enter(g.getAwayTeam(), g.getAwaySeed(), g.getTournamentRegion(), teams, teamSeed, teamRegion);
+        }
+
+        List<Game> semis = games.stream()
+                .filter(g -> g.getTournamentRound() != null && ROUND_FINAL_FOUR.equals(g.getTournamentRound().trim()))
+                .toList();
+        List<String> left = splitRegions(regionNames, semis, teamRegion, true);
+        List<String> right = splitRegions(regionNames, semis, teamRegion, false);
+        String[] blocks = new String[4];
+        for (int i = 0; i < left.size() && i < 2; i++) blocks[i] = left.get(i);
+        for (int i = 0; i < right.size() && i < 2; i++) blocks[2 + i] = right.get(i);
+
+        List<Team> field = new ArrayList<>(teams.values());
+        Map<Long, Integer> index = new HashMap<>();
+        for (int i = 0; i < field.size(); i++) index.put(field.get(i).getId(), i);
+
+        int[] seeds = new int[field.size()];
+        int[] regionOf = new int[field.size()];
+        List<List<Integer>> entries = new ArrayList<>();
+        for (int i = 0; i < TournamentField.ENTRIES; i++) entries.add(new ArrayList<>());
+        for (int t = 0; t < field.size(); t++) {
+            Long id = field.get(t).getId();
+            int block = Arrays.asList(blocks).indexOf(teamRegion.get(id));
+            Integer position = SEED_POSITION.get(teamSeed.get(id));
+            seeds[t] = teamSeed.get(id);
+            regionOf[t] = block;
+            if (block >= 0 && position != null && entries.get(block * 16 + position).size() < 2) {
+                entries.get(block * 16 + position).add(t);
+            }
+        }
+        int[][] slots = new int[TournamentField.ENTRIES][];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = entries.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        int[] reached = new int[field.size()];
+        for (int[] slot : slots) {
+            for (int t : slot) reached[t] = slot.length == 2 ? 0 : 1;
+        }
+        for (Game g : games) {
+            Team w = winnerOf(g);
+            Integer t = w == null ? null : index.get(w.getId());
+            if (t != null) reached[t]++;
+        }
+        return Optional.of(new TournamentField(blocks, field, seeds, regionOf, slots, reached));
+    }
+
+    private static void enter(Team team, Integer seed, String region, Map<Long, Team> teams,
+                              Map<Long, Integer> teamSeed, Map<Long, String> teamRegion) {
+        if (seed == null || teams.containsKey(team.getId())) return;
+        teams.put(team.getId(), team);
+        teamSeed.put(team.getId(), seed);
+        teamRegion.put(team.getId(), region);
+    }
+
     /** Places each regional game into its derived slot: Game[round 0..3][slot]. */
     private static Map<String, Game[][]> placeRegionGames(Map<String, List<Game>> byRound, List<String> regionNames) {
         Map<String, Game[][]> placed = new LinkedHashMap<>();
@@ -30,6 +30,10 @@ import java.util.stream.Stream;
  * typically requires only 1–3 iterations rather than the 5–15 needed from cold
  * start. Both the unweighted and weighted models maintain independent warm-start
  * parameter vectors and are computed in a single pass over game data.
+ *
+ * <p>With {@code app.rating-prior.enabled}, each model's team parameters are pulled
+ * toward their shrunk previous-season values ({@link RatingPrior}) as well as toward
+ * zero, and the season's first solve starts from those values.
  */
 @Service
 public class BradleyTerryRatingService {
@@ -38,7 +42,9 @@ public class BradleyTerryRatingService {
 
     public static final String MODEL_TYPE         = "BRADLEY_TERRY";
     public static final String MODEL_TYPE_WEIGHTED = "BRADLEY_TERRY_W";
-    private static final double LAMBDA   = 0.1;
+    static final double LAMBDA   = 0.1;
+    /** One game's Fisher information at p = ½: a prior worth n games has precision n/4. */
+    static final double PRIOR_PER_GAME = 0.25;
     private static final double CONVERGE = 1e-6;
     private static final int    MAX_ITER = 500;
 
@@ -46,15 +52,21 @@ public class BradleyTerryRatingService {
     private final TeamPowerRatingSnapshotRepository ratingRepository;
     private final PowerModelParamSnapshotRepository paramRepository;
     private final SnapshotJdbcWriter snapshotJdbcWriter;
+    private final PipelineMetrics pipelineMetrics;
+    private final RatingPriorLoader ratingPriorLoader;
 
     public BradleyTerryRatingService(SeasonGameDataLoader seasonGameDataLoader,
                                      TeamPowerRatingSnapshotRepository ratingRepository,
                                      PowerModelParamSnapshotRepository paramRepository,
-                                     SnapshotJdbcWriter snapshotJdbcWriter) {
+                                     SnapshotJdbcWriter snapshotJdbcWriter,
+                                     PipelineMetrics pipelineMetrics,
+                                     RatingPriorLoader ratingPriorLoader) {
         this.seasonGameDataLoader = seasonGameDataLoader;
         this.ratingRepository = ratingRepository;
         this.paramRepository = paramRepository;
         this.snapshotJdbcWriter = snapshotJdbcWriter;
+        this.pipelineMetrics = pipelineMetrics;
+        this.ratingPriorLoader = ratingPriorLoader;
     }
 
     @Transactional
@@ -82,6 +94,8 @@ public class BradleyTerryRatingService {
         log.info("Calculating Bradley-Terry ratings for season {}{}", seasonYear,
                 fromDate != null ? " from " + fromDate : "");
         long startMs = System.currentTimeMillis();
+        PipelineMetrics.Run run = pipelineMetrics.start(MODEL_TYPE, seasonYear);
+        long t = System.nanoTime();
 
         if (fromDate == null) {
             ratingRepository.deleteBySeasonIdAndModelType(season.getId(), MODEL_TYPE);
@@ -94,6 +108,7 @@ public class BradleyTerryRatingService {
             paramRepository.deleteBySeasonIdAndModelTypeFromDate(season.getId(), MODEL_TYPE, fromDate);
             paramRepository.deleteBySeasonIdAndModelTypeFromDate(season.getId(), MODEL_TYPE_WEIGHTED, fromDate);
         }
+        t = run.lap(PipelineMetrics.WRITE, t);
 
         // Ties are impossible in CBB but guard anyway — solved as win probabilities
         List<Game> finalGames = data.finalGames().stream()
@@ -102,6 +117,7 @@ public class BradleyTerryRatingService {
 
         if (finalGames.isEmpty()) {
             log.info("No final games for season {}, skipping", seasonYear);
+            run.finish();
             return;
         }
 
@@ -121,6 +137,12 @@ public class BradleyTerryRatingService {
         double[] params  = new double[size]; // unweighted warm-start
         double[] paramsW = new double[size]; // weighted warm-start
 
+        // Previous-season priors (null when disabled) also seed the first solve
+        RatingPrior prior  = ratingPriorLoader.load(season, MODEL_TYPE, teamIds, PRIOR_PER_GAME);
+        RatingPrior priorW = ratingPriorLoader.load(season, MODEL_TYPE_WEIGHTED, teamIds, PRIOR_PER_GAME);
+        if (prior != null)  System.arraycopy(prior.target(), 0, params, 0, T);
+        if (priorW != null) System.arraycopy(priorW.target(), 0, paramsW, 0, T);
+
         // Accumulated game records: {homeIdx, awayIdx, homeWon(1/0), nonNeutral(1/0), margin}
         List<int[]> seenGames = new ArrayList<>(finalGames.size());
 
@@ -147,27 +169,39 @@ public class BradleyTerryRatingService {
                 gamesPlayedByTeam.merge(game.getHomeTeam().getId(), 1, Integer::sum);
                 gamesPlayedByTeam.merge(game.getAwayTeam().getId(), 1, Integer::sum);
             }
+            t = run.lap(PipelineMetrics.ACCUMULATE, t);
 
             // Before the watermark, nothing is persisted for this date — skip the
             // solves; the first post-watermark solve converges from a cold start.
             if (fromDate != null && date.isBefore(fromDate)) {
                 continue;
             }
+            PipelineJfrEvents.CalculationDate dateEvent = new PipelineJfrEvents.CalculationDate();
+            dateEvent.begin();
+            int rowsBefore = allRatings.size() + allParams.size();
 
             // ── Unweighted Bradley-Terry ──────────────────────────────────────────
-            newtonRaphson(params, seenGames, T, size, false);
+            run.solverIterations(MODEL_TYPE, newtonRaphson(params, seenGames, T, size, LAMBDA, 0.0, prior));
+            t = run.lap(PipelineMetrics.SOLVE, t);
             collectSnapshots(allRatings, allParams, params, teamIds, teamIndex, teamsById,
                     gamesPlayedByTeam, season, MODEL_TYPE, date, now);
+            t = run.lap(PipelineMetrics.SNAPSHOT_BUILD, t);
 
             // ── Weighted Bradley-Terry ────────────────────────────────────────────
-            newtonRaphson(paramsW, seenGames, T, size, true);
+            run.solverIterations(MODEL_TYPE_WEIGHTED, newtonRaphson(paramsW, seenGames, T, size, LAMBDA, 1.0, priorW));
+            t = run.lap(PipelineMetrics.SOLVE, t);
             collectSnapshots(allRatings, allParams, paramsW, teamIds, teamIndex, teamsById,
                     gamesPlayedByTeam, season, MODEL_TYPE_WEIGHTED, date, now);
+            t = run.lap(PipelineMetrics.SNAPSHOT_BUILD, t);
+            dateEvent.finish(seasonYear, MODEL_TYPE, date, allRatings.size() + allParams.size() - rowsBefore);
         }
 
         long saveStartMs = System.currentTimeMillis();
         snapshotJdbcWriter.writeTeamPowerRatingSnapshots(allRatings);
         snapshotJdbcWriter.writePowerModelParamSnapshots(allParams);
+        run.lap(PipelineMetrics.WRITE, t);
+        run.rows(allRatings.size() + allParams.size());
+        run.finish();
 
         long now2 = System.currentTimeMillis();
         log.info("Bradley-Terry ratings complete for season {} — {} snapshots across {} dates in {} ms (save {} ms)",
@@ -225,41 +259,38 @@ public class BradleyTerryRatingService {
      *
      * <p>Update rule: params -= H⁻¹ · ∇L  (H is negative definite, so this
      * moves toward the maximum; equivalently, solve H·δ = ∇L then subtract δ).
+     * Package-private for the JMH benchmarks.
+     *
+     * @return the number of Newton steps taken (0 when the warm start had already converged)
      */
-    private void newtonRaphson(double[] params, List<int[]> games, int T, int size, boolean weighted) {
-        for (int iter = 0; iter < MAX_ITER; iter++) {
-            double[] grad = new double[size];
-            double[][] H  = new double[size][size];
+    static int newtonRaphson(double[] params, List<int[]> games, int T, int size, boolean weighted) {
+        return newtonRaphson(params, games, T, size, LAMBDA, weighted ? 1.0 : 0.0);
+    }
 
-            for (int[] game : games) {
-                int hi = game[0], ai = game[1], y = game[2], nn = game[3];
-                double wt = weighted ? 1.0 + Math.log(Math.max(1, game[4])) : 1.0;
-
-                double logit = params[hi] - params[ai] + params[T] * nn;
-                double p = sigmoid(logit);
-                double r = wt * (y - p);
-                double w = wt * p * (1 - p);
-
-                grad[hi] += r;
-                grad[ai] -= r;
-                grad[T]  += r * nn;
-
-                H[hi][hi] -= w;
-                H[ai][ai] -= w;
-                H[hi][ai] += w;
-                H[ai][hi] += w;
-                H[T][T]   -= w * nn;
-                H[hi][T]  -= w * nn;  H[T][hi] -= w * nn;
-                H[ai][T]  += w * nn;  H[T][ai] += w * nn;
-            }
+    /**
+     * As {@link #newtonRaphson(double[], List, int, int, boolean)} with λ = {@code lambda}
+     * and weights w_g = 1 + marginWeight·ln(max(1, margin)) (0 for the unweighted model):
+     * the knobs {@link WalkForwardBacktest} varies.
+     */
+    static int newtonRaphson(double[] params, List<int[]> games, int T, int size,
+                             double lambda, double marginWeight) {
+        return newtonRaphson(params, games, T, size, lambda, marginWeight, null);
+    }
 
-            // L2 regularization on team parameters only
-            for (int j = 0; j < T; j++) {
-                grad[j] -= LAMBDA * params[j];
-                H[j][j] -= LAMBDA;
+    /** As above, adding {@code prior}'s penalty when non-null. */
+    static int newtonRaphson(double[] params, List<int[]> games, int T, int size,
+                             double lambda, double marginWeight, RatingPrior prior) {
+        int iter = 0;
+        for (; iter < MAX_ITER; iter++) {
+            double[] grad = new double[size];
+            double[][] H  = new double[size][size];
+            gradientAndHessian(params, games, T, lambda, marginWeight, grad, H);
+            if (prior != null) {
+                for (int j = 0; j < T; j++) {
+                    grad[j] -= prior.weight()[j] * (params[j] - prior.target()[j]);
+                    H[j][j] -= prior.weight()[j];
+                }
             }
-            // Small stability nudge on HCA diagonal in case all seen games are neutral-site
-            H[T][T] -= 1e-6;
 
             // Check convergence
             double gradNormSq = 0;
@@ -277,9 +308,62 @@ public class BradleyTerryRatingService {
                 break;
             }
         }
+        return iter;
+    }
+
+    /**
+     * Adds the regularized log-likelihood's gradient and Hessian at {@code params} into
+     * {@code grad} and {@code H}. Package-private for {@link RatingWhatIf}, which needs
+     * the curvature at the optimum.
+     */
+    static void gradientAndHessian(double[] params, List<int[]> games, int T, boolean weighted,
+                                   double[] grad, double[][] H) {
+        gradientAndHessian(params, games, T, LAMBDA, weighted ? 1.0 : 0.0, grad, H);
+    }
+
+    static void gradientAndHessian(double[] params, List<int[]> games, int T, double lambda, double marginWeight,
+                                   double[] grad, double[][] H) {
+        for (int[] game : games) {
+            int hi = game[0], ai = game[1], y = game[2], nn = game[3];
+            double wt = weight(game[4], marginWeight);
+
+            double logit = params[hi] - params[ai] + params[T] * nn;
+            double p = sigmoid(logit);
+            double r = wt * (y - p);
+            double w = wt * p * (1 - p);
+
+            grad[hi] += r;
+            grad[ai] -= r;
+            grad[T]  += r * nn;
+
+            H[hi][hi] -= w;
+            H[ai][ai] -= w;
+            H[hi][ai] += w;
+            H[ai][hi] += w;
+            H[T][T]   -= w * nn;
+            H[hi][T]  -= w * nn;  H[T][hi] -= w * nn;
+            H[ai][T]  += w * nn;  H[T][ai] += w * nn;
+        }
+
+        // L2 regularization on team parameters only
+        for (int j = 0; j < T; j++) {
+            grad[j] -= lambda * params[j];
+            H[j][j] -= lambda;
+        }
+        // Small stability nudge on HCA diagonal in case all seen games are neutral-site
+        H[T][T] -= 1e-6;
+    }
+
+    /** The weighted model's observation weight for a game won by {@code margin} points. */
+    static double weight(int margin) {
+        return weight(margin, 1.0);
+    }
+
+    static double weight(int margin, double marginWeight) {
+        return 1.0 + marginWeight * Math.log(Math.max(1, margin));
     }
 
-    private static double sigmoid(double x) {
+    static double sigmoid(double x) {
         return 1.0 / (1.0 + Math.exp(-x));
     }
 }
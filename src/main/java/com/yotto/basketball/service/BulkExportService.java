@@ -0,0 +1,292 @@
+package com.yotto.basketball.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Streams whole tables (optionally limited to some seasons) as CSV or NDJSON with
+ * constant memory. Rows come through a forward-only JDBC cursor: inside a read-only
+ * transaction (autocommit off) the Postgres driver fetches {@value #FETCH_SIZE} rows
+ * per round-trip instead of materializing the result set, and each row is written to
+ * the output as soon as it is read.
+ *
+ * <p>Every dataset is ordered by its primary key and includes it as the first column,
+ * so an interrupted export resumes with {@code after=<last id>} (keyset pagination —
+ * no OFFSET scans), and {@code limit} cuts fixed-size pages when wanted.
+ */
+@Service
+public class BulkExportService {
+
+    static final int FETCH_SIZE = 2000;
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() { return contentType; }
+        public String extension() { return extension; }
+
+        public static Format parse(String value) {
+            return Arrays.stream(values())
+                    .filter(f -> f.extension.equalsIgnoreCase(value))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown export format: " + value));
+        }
+    }
+
+    /** Exportable datasets; each SELECT must alias its primary key as {@code id}. */
+    public enum Dataset {
+        TEAM_SEASON_SNAPSHOTS("team-season-snapshots", """
+                SELECT x.id, s.year AS season, x.snapshot_date, x.team_id, t.name AS team_name,
+                       x.games_played, x.wins, x.losses, x.win_pct,
+                       x.mean_pts_for, x.stddev_pts_for, x.mean_pts_against, x.stddev_pts_against,
+                       x.correlation_pts, x.mean_margin, x.stddev_margin,
+                       x.rolling_wins, x.rolling_losses, x.rolling_mean_pts_for, x.rolling_mean_pts_against,
+                       x.zscore_win_pct, x.zscore_mean_pts_for, x.zscore_mean_pts_against,
+                       x.zscore_mean_margin, x.zscore_correlation_pts,
+                       x.conf_zscore_win_pct, x.conf_zscore_mean_pts_for, x.conf_zscore_mean_pts_against,
+                       x.conf_zscore_mean_margin, x.rpi, x.rpi_wp, x.rpi_owp, x.rpi_oowp
+                FROM team_season_stat_snapshots x
+                JOIN seasons s ON s.id = x.season_id
+                JOIN teams t ON t.id = x.team_id
+                """),
+        TEAM_STAT_SNAPSHOTS("team-stat-snapshots", """
+                SELECT x.id, s.year AS season, x.snapshot_date, x.team_id, t.name AS team_name,
+                       x.stat_name, x.value, x.games_played, x.rank, x.zscore, x.conf_zscore
+                FROM team_stat_snapshots x
+                JOIN seasons s ON s.id = x.season_id
+                JOIN teams t ON t.id = x.team_id
+                """),
+        POWER_RATING_SNAPSHOTS("power-rating-snapshots", """
+                SELECT x.id, s.year AS season, x.snapshot_date, x.team_id, t.name AS team_name,
+                       x.model_type, x.rating, x.rating_std_error, x.rank, x.games_played, x.calculated_at
+                FROM team_power_rating_snapshots x
+                JOIN seasons s ON s.id = x.season_id
+                JOIN teams t ON t.id = x.team_id
+                """),
+        PREDICTION_EVALUATIONS("prediction-evaluations", """
+                SELECT x.id, s.year AS season, x.game_date, x.game_id, x.model_type, x.model_version,
+                       x.predicted_spread, x.predicted_total, x.predicted_home_win_prob,
+                       x.actual_margin, x.actual_total, x.home_won, x.spread_error, x.total_error,
+                       x.evaluated_at
+                FROM prediction_evaluations x
+                JOIN seasons s ON s.id = x.season_id
+                """),
+        GAMES("games", """
+                SELECT x.id, s.year AS season, x.game_date, x.status,
+                       x.home_team_id, ht.name AS home_team_name, x.away_team_id, vt.name AS away_team_name,
+                       x.home_score, x.away_score, x.neutral_site, x.conference_game, x.tournament_type,
+                       bo.spread, bo.over_under, bo.home_moneyline, bo.away_moneyline,
+                       bo.opening_spread, bo.opening_over_under
+                FROM games x
+                JOIN seasons s ON s.id = x.season_id
+                JOIN teams ht ON ht.id = x.home_team_id
+                JOIN teams vt ON vt.id = x.away_team_id
+                LEFT JOIN betting_odds bo ON bo.game_id = x.id
+                """);
+
+        private final String slug;
+        private final String select;
+
+        Dataset(String slug, String select) {
+            this.slug = slug;
+            this.select = select;
+        }
+
+        public String slug() { return slug; }
+
+        public static Optional<Dataset> bySlug(String slug) {
+            return Arrays.stream(values()).filter(d -> d.slug.equals(slug)).findFirst();
+        }
+    }
+
+    /** What to export: empty {@code seasonYears} means every season; null {@code limit} means no limit. */
+    public record Request(Dataset dataset, List<Integer> seasonYears, long after, Integer limit, Format format) {}
+
+    private final NamedParameterJdbcTemplate cursorTemplate;
+    private final TransactionTemplate readOnlyTx;
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public BulkExportService(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.cursorTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /** Writes the export to {@code out}; returns the number of rows written. */
+    public long export(Request request, OutputStream out) {
+        StringBuilder sql = new StringBuilder(request.dataset().select)
+                .append(" WHERE x.id > :after");
+        MapSqlParameterSource params = new MapSqlParameterSource("after", request.after());
+        if (!request.seasonYears().isEmpty()) {
+            sql.append(" AND s.year IN (:years)");
+            params.addValue("years", request.seasonYears());
+        }
+        sql.append(" ORDER BY x.id");
+        if (request.limit() != null) {
+            sql.append(" LIMIT :limit");
+            params.addValue("limit", request.limit());
+        }
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        RowSink sink = request.format() == Format.CSV ? new CsvSink(writer) : new NdjsonSink(writer);
+        Long rows = readOnlyTx.execute(status ->
+                cursorTemplate.query(sql.toString(), params, (ResultSetExtractor<Long>) sink::drain));
+        try {
+            sink.finish();
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return rows != null ? rows : 0;
+    }
+
+    // ── Row writers ──────────────────────────────────────────────────────────────
+
+    private abstract static class RowSink {
+        protected final Writer writer;
+        protected String[] columns;
+
+        RowSink(Writer writer) {
+            this.writer = writer;
+        }
+
+        /** Writes the header (if any) and every row; returns the row count. */
+        final long drain(ResultSet rs) throws SQLException {
+            try {
+                ResultSetMetaData meta = rs.getMetaData();
+                columns = new String[meta.getColumnCount()];
+                for (int i = 0; i < columns.length; i++) {
+                    columns[i] = meta.getColumnLabel(i + 1);
+                }
+                begin();
+                long rows = 0;
+                while (rs.next()) {
+                    row(rs);
+                    rows++;
+                }
+                return rows;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void begin() throws IOException {}
+        abstract void row(ResultSet rs) throws SQLException, IOException;
+        void finish() throws IOException {}
+
+        /** Dates and timestamps as ISO strings; everything else as the driver's Java value. */
+        static Object value(ResultSet rs, int column) throws SQLException {
+            Object v = rs.getObject(column);
+            if (v instanceof Date d) return d.toLocalDate().toString();
+            if (v instanceof Timestamp ts) return ts.toLocalDateTime().toString();
+            return v;
+        }
+    }
+
+    /** RFC 4180 CSV with a header row; nulls are empty fields. */
+    private static final class CsvSink extends RowSink {
+        CsvSink(Writer writer) { super(writer); }
+
+        @Override
+        void begin() throws IOException {
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) writer.write(',');
+                writer.write(columns[i]);
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        void row(ResultSet rs) throws SQLException, IOException {
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) writer.write(',');
+                Object v = value(rs, i + 1);
+                if (v != null) writer.write(escape(v.toString()));
+            }
+            writer.write("\r\n");
+        }
+
+        static String escape(String s) {
+            if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) {
+                return s;
+            }
+            return '"' + s.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    /** One JSON object per line, keyed by column label. */
+    private final class NdjsonSink extends RowSink {
+        private JsonGenerator json;
+
+        NdjsonSink(Writer writer) { super(writer); }
+
+        @Override
+        void begin() throws IOException {
+            json = jsonFactory.createGenerator(writer);
+            json.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            json.configure(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM, false);
+            json.setRootValueSeparator(null);   // rows are newline-terminated below
+        }
+
+        @Override
+        void row(ResultSet rs) throws SQLException, IOException {
+            json.writeStartObject();
+            for (int i = 0; i < columns.length; i++) {
+                Object v = value(rs, i + 1);
+                json.writeFieldName(columns[i]);
+                if (v == null) json.writeNull();
+                else if (v instanceof Boolean b) json.writeBoolean(b);
+                else if (v instanceof Integer n) json.writeNumber(n);
+                else if (v instanceof Long n) json.writeNumber(n);
+                else if (v instanceof Short n) json.writeNumber(n);
+                else if (v instanceof Double n) json.writeNumber(n);
+                else if (v instanceof Float n) json.writeNumber(n);
+                else if (v instanceof java.math.BigDecimal n) json.writeNumber(n);
+                else json.writeString(v.toString());
+            }
+            json.writeEndObject();
+            json.flush();
+            writer.write('\n');
+        }
+
+        @Override
+        void finish() throws IOException {
+            if (json != null) json.close();
+        }
+    }
+}
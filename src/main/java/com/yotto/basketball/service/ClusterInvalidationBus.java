@@ -0,0 +1,104 @@
+package com.yotto.basketball.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Cluster-wide invalidation over Postgres {@code LISTEN/NOTIFY}. Writers call
+ * {@link #publish} inside the transaction that changed the data: {@code pg_notify}
+ * is transactional, so other nodes hear about the change only once it commits.
+ * The same change is published locally as a {@link ClusterInvalidationEvent}, and
+ * consumers evict with {@code @TransactionalEventListener(AFTER_COMMIT)} so a
+ * rolled-back write never evicts anything.
+ *
+ * <p>{@link ClusterInvalidationListener} holds each node's dedicated listener
+ * connection and feeds remote notifications back through {@link #receive}. The
+ * notifications a node sent itself are dropped there, because they were already
+ * applied locally. An operator can also send one by hand, for example
+ * {@code NOTIFY reference_data_changed} after editing conference history in SQL.
+ */
+@Service
+public class ClusterInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterInvalidationBus.class);
+
+    /** Separates the sending node's id from the payload on the wire. */
+    private static final char NODE_SEPARATOR = '|';
+
+    public enum Channel {
+        /** Payload {@code season,generation}: a season's snapshots were rewritten. */
+        CALC_COMPLETED("calc_completed"),
+        /** Payload {@code plan} (serving decisions changed) or {@code reload} (bundles reloaded from disk). */
+        ML_PLAN_CHANGED("ml_plan_changed"),
+        /** Conference branding history or other slow-moving reference data changed. */
+        REFERENCE_DATA_CHANGED("reference_data_changed");
+
+        private final String key;
+
+        Channel(String key) {
+            this.key = key;
+        }
+
+        /** The Postgres channel name. */
+        public String key() {
+            return key;
+        }
+
+        static Channel fromKey(String key) {
+            for (Channel channel : values()) {
+                if (channel.key.equals(key)) return channel;
+            }
+            return null;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+
+    public ClusterInvalidationBus(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Notifies every node, this one included, that {@code channel} data changed. Call it
+     * inside the writing transaction, so delivery happens on commit.
+     */
+    public void publish(Channel channel, String payload) {
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel.key(), nodeId + NODE_SEPARATOR + payload);
+        eventPublisher.publishEvent(new ClusterInvalidationEvent(channel, payload, false));
+    }
+
+    /** Applies a notification heard on the listener connection; drops this node's own. */
+    void receive(String channelKey, String message) {
+        Channel channel = Channel.fromKey(channelKey);
+        if (channel == null) {
+            return;
+        }
+        String payload = message != null ? message : "";
+        int separator = payload.indexOf(NODE_SEPARATOR);
+        if (separator >= 0) {
+            if (payload.substring(0, separator).equals(nodeId)) {
+                return;
+            }
+            payload = payload.substring(separator + 1);
+        }
+        log.debug("Cluster invalidation {} '{}'", channel.key(), payload);
+        eventPublisher.publishEvent(new ClusterInvalidationEvent(channel, payload, true));
+    }
+
+    /**
+     * Drops every invalidation-backed cache and re-reads shared state. Runs whenever
+     * the listener (re)subscribes, because notifications sent while it was not
+     * listening are lost.
+     */
+    void resync() {
+        eventPublisher.publishEvent(new ClusterResyncEvent());
+    }
+}
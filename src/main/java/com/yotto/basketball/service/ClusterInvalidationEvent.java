@@ -0,0 +1,9 @@
+package com.yotto.basketball.service;
+
+/**
+ * Local view of a {@link ClusterInvalidationBus} notification. {@code remote} is false
+ * when this node made the change, which it publishes inside the writing transaction, and
+ * true when another node or an operator sent it. Listeners that already updated their
+ * own state while writing ignore the local copy.
+ */
+public record ClusterInvalidationEvent(ClusterInvalidationBus.Channel channel, String payload, boolean remote) {}
@@ -0,0 +1,173 @@
+package com.yotto.basketball.service;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Keeps one dedicated Postgres connection per node that {@code LISTEN}s on every
+ * {@link ClusterInvalidationBus.Channel} and hands notifications to the bus as they
+ * arrive. The connection comes from the driver rather than the Hikari pool: it is held
+ * for the life of the node, and pooled connections must never stay subscribed.
+ *
+ * <p>When the connection drops, the listener reconnects with exponential backoff up to
+ * {@code app.cluster-bus.max-backoff}. Every successful subscribe, the first one
+ * included, is followed by a full resync ({@link ClusterResyncEvent}), because
+ * notifications sent while nobody was listening are gone for good. An idle connection
+ * is validated every {@code app.cluster-bus.check-interval}, so a half-open socket is
+ * noticed.
+ *
+ * <p>Disable with {@code app.cluster-bus.enabled=false} for a single node that needs
+ * no remote invalidation. Local writes still evict local caches.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cluster-bus.enabled", havingValue = "true", matchIfMissing = true)
+public class ClusterInvalidationListener implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterInvalidationListener.class);
+
+    private static final int WAIT_MILLIS = 500;
+    private static final long INITIAL_BACKOFF_MILLIS = 1_000;
+
+    private final ClusterInvalidationBus bus;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final Duration maxBackoff;
+    private final Duration checkInterval;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread thread;
+
+    public ClusterInvalidationListener(ClusterInvalidationBus bus,
+                                       @Value("${spring.datasource.url}") String url,
+                                       @Value("${spring.datasource.username}") String username,
+                                       @Value("${spring.datasource.password:}") String password,
+                                       @Value("${app.cluster-bus.max-backoff:30s}") Duration maxBackoff,
+                                       @Value("${app.cluster-bus.check-interval:30s}") Duration checkInterval) {
+        this.bus = bus;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.maxBackoff = maxBackoff;
+        this.checkInterval = checkInterval;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        thread = new Thread(this::run, "cluster-bus");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            closeQuietly(connection);
+            try {
+                thread.join(2_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        long backoff = INITIAL_BACKOFF_MILLIS;
+        while (running) {
+            try (Connection conn = DriverManager.getConnection(url, username, password)) {
+                connection = conn;
+                subscribe(conn);
+                log.info("Cluster invalidation listener subscribed; resyncing local caches");
+                bus.resync();
+                backoff = INITIAL_BACKOFF_MILLIS;
+                listen(conn);
+            } catch (SQLException | RuntimeException e) {
+                if (!running) break;
+                log.warn("Cluster invalidation listener lost its connection ({}); reconnecting in {} ms",
+                        e.getMessage(), backoff);
+                if (!sleep(backoff)) break;
+                backoff = Math.min(backoff * 2, maxBackoff.toMillis());
+            } finally {
+                connection = null;
+            }
+        }
+    }
+
+    private static void subscribe(Connection conn) throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            for (ClusterInvalidationBus.Channel channel : ClusterInvalidationBus.Channel.values()) {
+                st.execute("LISTEN " + channel.key());
+            }
+        }
+    }
+
+    private void listen(Connection conn) throws SQLException {
+        PGConnection pg = conn.unwrap(PGConnection.class);
+        long lastHeard = System.currentTimeMillis();
+        while (running) {
+            PGNotification[] notifications = pg.getNotifications(WAIT_MILLIS);
+            if (notifications != null && notifications.length > 0) {
+                for (PGNotification n : notifications) {
+                    dispatch(n);
+                }
+                lastHeard = System.currentTimeMillis();
+            } else if (System.currentTimeMillis() - lastHeard >= checkInterval.toMillis()) {
+                if (!conn.isValid(5)) {
+                    throw new SQLException("listener connection failed validation");
+                }
+                lastHeard = System.currentTimeMillis();
+            }
+        }
+    }
+
+    /** A failing consumer must not take the listener connection down with it. */
+    private void dispatch(PGNotification n) {
+        try {
+            bus.receive(n.getName(), n.getParameter());
+        } catch (RuntimeException e) {
+            log.error("Cluster invalidation {} '{}' failed to apply", n.getName(), n.getParameter(), e);
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void closeQuietly(Connection conn) {
+        if (conn == null) return;
+        try {
+            conn.close();
+        } catch (SQLException ignored) {
+            // shutting down anyway
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.yotto.basketball.service;
+
+/**
+ * Published when the cluster listener (re)subscribes and may have missed
+ * notifications. Every invalidation-backed cache drops its contents and shared state
+ * is re-read from the database.
+ */
+public record ClusterResyncEvent() {}
@@ -3,8 +3,10 @@ package com.yotto.basketball.service;
 import com.yotto.basketball.entity.Conference;
 import com.yotto.basketball.entity.ConferenceNameHistory;
 import com.yotto.basketball.repository.ConferenceNameHistoryRepository;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.Comparator;
 import java.util.List;
@@ -19,30 +21,67 @@ import java.util.stream.Collectors;
  * smallest {@code lastSeasonYear >= seasonYear}, falling back to the canonical
  * row when none covers the season — a rule that composes across multiple
  * renames.
+ *
+ * <p>History changes only by migration or a hand edit, so the loaded snapshot is
+ * cached for the life of the node. It is dropped on {@code reference_data_changed}.
+ * After editing the table by hand, run {@code NOTIFY reference_data_changed}.
  */
 @Service
 public class ConferenceNamingService {
 
     private final ConferenceNameHistoryRepository historyRepository;
 
+    private ConferenceNames cached;
+    /** Bumped by every invalidation, so a load that raced one is not cached. */
+    private long generation;
+
     public ConferenceNamingService(ConferenceNameHistoryRepository historyRepository) {
         this.historyRepository = historyRepository;
     }
 
     /**
-     * Loads all name history in one query. Call once per request and reuse the
-     * returned snapshot when resolving many conferences (rankings, standings).
+     * Returns the name history snapshot, loading it in one query on first use. Call
+     * once per request and reuse the returned snapshot when resolving many conferences
+     * (rankings, standings).
      */
-    @Transactional(readOnly = true)
     public ConferenceNames load() {
+        long loadingGeneration;
+        synchronized (this) {
+            if (cached != null) {
+                return cached;
+            }
+            loadingGeneration = generation;
+        }
         Map<Long, List<ConferenceNameHistory>> byConference = historyRepository.findAll().stream()
                 .sorted(Comparator.comparing(ConferenceNameHistory::getLastSeasonYear))
                 .collect(Collectors.groupingBy(h -> h.getConference().getId()));
-        return new ConferenceNames(byConference);
+        ConferenceNames loaded = new ConferenceNames(byConference);
+        synchronized (this) {
+            if (generation == loadingGeneration) {
+                cached = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    public synchronized void invalidate() {
+        generation++;
+        cached = null;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onClusterInvalidation(ClusterInvalidationEvent event) {
+        if (event.channel() == ClusterInvalidationBus.Channel.REFERENCE_DATA_CHANGED) {
+            invalidate();
+        }
+    }
+
+    @EventListener
+    public void onClusterResync(ClusterResyncEvent event) {
+        invalidate();
     }
 
     /** Convenience for single lookups; prefer {@link #load()} inside loops. */
-    @Transactional(readOnly = true)
     public ConferenceIdentity resolve(Conference conference, int seasonYear) {
         return load().identity(conference, seasonYear);
     }
@@ -0,0 +1,36 @@
+package com.yotto.basketball.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Simulated completions of one conference's regular season from one rating model's
+ * snapshot. {@code winDistribution[w]} is a team's chance of finishing with {@code w}
+ * conference wins, {@code seedDistribution[k]} its chance of finishing in place
+ * {@code k + 1} after tie-breaks. Title odds count shared titles; top-seed odds do not.
+ */
+public record ConferenceProjection(
+        int year,
+        Long conferenceId,
+        String model,
+        LocalDate snapshotDate,
+        int simulations,
+        long simulationMillis,
+        int remainingGames,
+        List<TeamProjection> teams) {
+
+    public record TeamProjection(
+            Long teamId,
+            String teamName,
+            String teamLogoUrl,
+            double rating,
+            int conferenceWins,
+            int conferenceLosses,
+            double projectedWins,
+            double projectedLosses,
+            double titleOdds,
+            double topSeedOdds,
+            double expectedSeed,
+            double[] winDistribution,
+            double[] seedDistribution) {}
+}
@@ -0,0 +1,329 @@
+package com.yotto.basketball.service;
+
+import com.yotto.basketball.entity.ConferenceMembership;
+import com.yotto.basketball.entity.Game;
+import com.yotto.basketball.entity.Season;
+import com.yotto.basketball.entity.Team;
+import com.yotto.basketball.entity.TeamPowerRatingSnapshot;
+import com.yotto.basketball.repository.ConferenceMembershipRepository;
+import com.yotto.basketball.repository.GameRepository;
+import com.yotto.basketball.repository.PowerModelParamSnapshotRepository;
+import com.yotto.basketball.repository.SeasonRepository;
+import com.yotto.basketball.repository.TeamPowerRatingSnapshotRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Projected conference standings: every remaining regular-season conference game is
+ * drawn from one rating model's snapshot by {@link ConferenceSeasonSimulator}, on top of
+ * the FINAL results so far. Conference games are those between two members of the
+ * season's conference that are not part of any tournament.
+ *
+ * <p>Runs are kept per (conference, season, model). When a game the run drew goes FINAL,
+ * the next request applies the result with {@link ConferenceSeasonSimulator#decide}
+ * instead of re-simulating; a new snapshot, a membership change, or a game added,
+ * postponed or cancelled starts a fresh run. The cache is evicted on
+ * {@code calc_completed} from any node.
+ *
+ * <p>A run is never changed once cached: catching up builds a new one and swaps it in,
+ * so a request still reading the old run sees consistent totals. The cache holds one
+ * future per key, and a fresh run is simulated outside the map while concurrent
+ * requests for the key wait on it. Simulations and decisions run on
+ * {@code conferenceSimulationPool}.
+ */
+@Service
+public class ConferenceProjectionService {
+
+    private static final Logger log = LoggerFactory.getLogger(ConferenceProjectionService.class);
+
+    /** Fixed so a cached run and a rerun of it agree. */
+    private static final long SEED = 0xC0_4F_5EA5L;
+
+    private record Key(long conferenceId, int year, String modelType) {}
+
+    /**
+     * One simulator and the games it was built from; remaining games are indexed as the
+     * simulator's, and {@code applied} holds the results already decided in it.
+     */
+    private record Run(LocalDate snapshotDate, List<Team> teams, double[] ratings, int[] games,
+                       Set<Long> finals, Map<Long, Integer> remaining, Map<Long, Boolean> applied,
+                       ConferenceSeasonSimulator simulator, long millis) {}
+
+    private final SeasonRepository seasonRepository;
+    private final ConferenceMembershipRepository membershipRepository;
+    private final GameRepository gameRepository;
+    private final TeamPowerRatingSnapshotRepository ratingRepository;
+    private final PowerModelParamSnapshotRepository paramRepository;
+    private final ForkJoinPool simulationPool;
+    private final Map<Key, CompletableFuture<Run>> cache = new ConcurrentHashMap<>();
+
+    @Value("${app.conference-simulation.simulations:20000}")
+    private int simulations = 20_000;
+
+    @Value("${app.conference-simulation.massey-sigma:11.0}")
+    private double masseySigma = 11.0;
+
+    public ConferenceProjectionService(SeasonRepository seasonRepository,
+                                       ConferenceMembershipRepository membershipRepository,
+                                       GameRepository gameRepository,
+                                       TeamPowerRatingSnapshotRepository ratingRepository,
+                                       PowerModelParamSnapshotRepository paramRepository,
+                                       @Qualifier("conferenceSimulationPool") ForkJoinPool simulationPool) {
+        this.seasonRepository = seasonRepository;
+        this.membershipRepository = membershipRepository;
+        this.gameRepository = gameRepository;
+        this.ratingRepository = ratingRepository;
+        this.paramRepository = paramRepository;
+        this.simulationPool = simulationPool;
+    }
+
+    /**
+     * Projects a conference's final standings from {@code model}'s latest snapshot (one of
+     * {@link TournamentSimulationService#MODELS}). Empty when the season, its members or
+     * the snapshot is missing.
+     *
+     * @throws IllegalArgumentException for an unknown model
+     */
+    public Optional<ConferenceProjection> project(long conferenceId, int year, String model) {
+        String modelType = TournamentSimulationService.MODELS.get(model);
+        if (modelType == null) {
+            throw new IllegalArgumentException("Unknown model: " + model
+                    + " (expected one of " + TournamentSimulationService.MODELS.keySet() + ")");
+        }
+        Season season = seasonRepository.findByYear(year).orElse(null);
+        if (season == null) return Optional.empty();
+        List<Team> teams = membershipRepository.findByConferenceIdAndSeasonIdWithTeam(conferenceId, season.getId())
+                .stream().map(ConferenceMembership::getTeam)
+                .sorted(Comparator.comparing(Team::getId)).toList();
+        if (teams.isEmpty()) return Optional.empty();
+        LocalDate snapshotDate = ratingRepository.findLatestSnapshotDate(season.getId(), modelType).orElse(null);
+        if (snapshotDate == null) return Optional.empty();
+
+        Map<Long, Integer> index = new HashMap<>();
+        for (int t = 0; t < teams.size(); t++) index.put(teams.get(t).getId(), t);
+        List<Game> games = new ArrayList<>();
+        for (Game g : gameRepository.findBySeasonAndTeamIds(season.getId(), index.keySet())) {
+            if (g.getTournamentType() == null
+                    && index.containsKey(g.getHomeTeam().getId()) && index.containsKey(g.getAwayTeam().getId())
+                    && (isFinal(g) || isRemaining(g))) {
+                games.add(g);
+            }
+        }
+
+        Run run = current(new Key(conferenceId, year, modelType), season, modelType, snapshotDate, teams, index, games);
+        return Optional.of(projection(year, conferenceId, model, run, index, games));
+    }
+
+    /**
+     * The cached run caught up with {@code games}, or a fresh one when there is none or it
+     * no longer matches. Losing a race to install a run just means using the winner's.
+     */
+    private Run current(Key key, Season season, String modelType, LocalDate snapshotDate, List<Team> teams,
+                        Map<Long, Integer> index, List<Game> games) {
+        while (true) {
+            CompletableFuture<Run> cached = cache.get(key);
+            if (cached != null) {
+                Run run = await(cached);
+                Run next = run.snapshotDate().equals(snapshotDate) && run.teams().equals(teams)
+                        ? catchUp(run, games) : null;
+                if (next == run) return run;
+                if (next != null) {
+                    cache.replace(key, cached, CompletableFuture.completedFuture(next));
+                    return next;
+                }
+            }
+            CompletableFuture<Run> mine = new CompletableFuture<>();
+            if (cached == null ? cache.putIfAbsent(key, mine) != null : !cache.replace(key, cached, mine)) {
+                continue;
+            }
+            try {
+                Run run = simulate(season, modelType, snapshotDate, teams, index, games);
+                mine.complete(run);
+                return run;
+            } catch (RuntimeException e) {
+                cache.remove(key, mine);
+                mine.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    private static Run await(CompletableFuture<Run> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    /**
+     * {@code run} with the games that went FINAL since it was built applied, as a new run
+     * ({@code run} itself when nothing changed). Null when the run no longer matches the
+     * schedule and has to be rebuilt.
+     */
+    private Run catchUp(Run run, List<Game> games) {
+        Set<Long> ids = new HashSet<>();
+        for (Game g : games) ids.add(g.getId());
+        if (ids.size() != run.finals().size() + run.remaining().size()
+                || !ids.containsAll(run.finals()) || !ids.containsAll(run.remaining().keySet())) {
+            return null;
+        }
+        Map<Long, Boolean> applied = new HashMap<>(run.applied());
+        ConferenceSeasonSimulator simulator = run.simulator();
+        for (Game g : games) {
+            Integer game = run.remaining().get(g.getId());
+            if (game == null || !isFinal(g)) continue;
+            boolean homeWon = g.getHomeScore() > g.getAwayScore();
+            Boolean previous = applied.putIfAbsent(g.getId(), homeWon);
+            if (previous == null) {
+                ConferenceSeasonSimulator from = simulator;
+                simulator = simulationPool.submit(() -> from.decide(game, homeWon)).join();
+            } else if (previous != homeWon) {
+                return null;
+            }
+        }
+        return simulator == run.simulator() ? run
+                : new Run(run.snapshotDate(), run.teams(), run.ratings(), run.games(), run.finals(),
+                        run.remaining(), Map.copyOf(applied), simulator, run.millis());
+    }
+
+    private Run simulate(Season season, String modelType, LocalDate snapshotDate, List<Team> teams,
+                         Map<Long, Integer> index, List<Game> games) {
+        long start = System.nanoTime();
+        Map<Long, Double> byTeam = new HashMap<>();
+        for (TeamPowerRatingSnapshot s : ratingRepository.findBySeasonModelAndDate(season.getId(), modelType, snapshotDate)) {
+            if (s.getRating() != null) byTeam.put(s.getTeam().getId(), s.getRating());
+        }
+        double[] ratings = new double[teams.size()];
+        for (int t = 0; t < ratings.length; t++) {
+            // an unrated member (e.g. a snapshot gap) plays as an average team
+            ratings[t] = byTeam.getOrDefault(teams.get(t).getId(), 0.0);
+        }
+        double hca = paramRepository.findLatestParamBefore(season.getId(), modelType, "hca", snapshotDate.plusDays(1))
+                .map(p -> p.getParamValue()).orElse(0.0);
+        boolean massey = modelType.equals(MasseyRatingService.MODEL_TYPE);
+
+        int n = teams.size();
+        int[] wins = new int[n], losses = new int[n], headToHead = new int[n * n], played = new int[n];
+        List<Game> remaining = new ArrayList<>();
+        Set<Long> finals = new HashSet<>();
+        for (Game g : games) {
+            int h = index.get(g.getHomeTeam().getId()), a = index.get(g.getAwayTeam().getId());
+            played[h]++;
+            played[a]++;
+            if (!isFinal(g)) {
+                remaining.add(g);
+                continue;
+            }
+            finals.add(g.getId());
+            int w = g.getHomeScore() > g.getAwayScore() ? h : a, l = w == h ? a : h;
+            wins[w]++;
+            losses[l]++;
+            headToHead[w * n + l]++;
+        }
+
+        int[] home = new int[remaining.size()], away = new int[remaining.size()];
+        double[] homeWinProb = new double[remaining.size()];
+        Map<Long, Integer> remainingIndex = new HashMap<>();
+        for (int g = 0; g < remaining.size(); g++) {
+            Game game = remaining.get(g);
+            home[g] = index.get(game.getHomeTeam().getId());
+            away[g] = index.get(game.getAwayTeam().getId());
+            double edge = ratings[home[g]] - ratings[away[g]] + (Boolean.TRUE.equals(game.getNeutralSite()) ? 0 : hca);
+            homeWinProb[g] = massey ? TournamentSimulator.normalCdf(edge / masseySigma) : 1 / (1 + Math.exp(-edge));
+            remainingIndex.put(game.getId(), g);
+        }
+
+        ConferenceSeasonSimulator unrun = new ConferenceSeasonSimulator(
+                wins, losses, headToHead, ratings, home, away, homeWinProb, simulations, SEED);
+        ConferenceSeasonSimulator simulator = simulationPool.submit(unrun::run).join();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Simulated {} completions of season {} for {} teams, {} games left ({} on {}) in {} ms",
+                simulations, season.getYear(), n, remaining.size(), modelType, snapshotDate, millis);
+        return new Run(snapshotDate, teams, ratings, played, finals, remainingIndex, Map.of(), simulator, millis);
+    }
+
+    private static ConferenceProjection projection(int year, long conferenceId, String model, Run run,
+                                                   Map<Long, Integer> index, List<Game> games) {
+        int n = run.teams().size();
+        int[] wins = new int[n], losses = new int[n];
+        int remaining = 0;
+        for (Game g : games) {
+            if (!isFinal(g)) {
+                remaining++;
+                continue;
+            }
+            boolean homeWon = g.getHomeScore() > g.getAwayScore();
+            int h = index.get(g.getHomeTeam().getId()), a = index.get(g.getAwayTeam().getId());
+            wins[homeWon ? h : a]++;
+            losses[homeWon ? a : h]++;
+        }
+
+        ConferenceSeasonSimulator simulator = run.simulator();
+        List<ConferenceProjection.TeamProjection> teams = new ArrayList<>();
+        for (int t = 0; t < n; t++) {
+            double[] winDistribution = simulator.winDistribution(t);
+            double[] seedDistribution = simulator.placeDistribution(t);
+            double projectedWins = 0, expectedSeed = 0;
+            for (int w = 0; w < winDistribution.length; w++) projectedWins += w * winDistribution[w];
+            for (int p = 0; p < seedDistribution.length; p++) expectedSeed += (p + 1) * seedDistribution[p];
+            Team team = run.teams().get(t);
+            teams.add(new ConferenceProjection.TeamProjection(team.getId(), team.getName(), team.getLogoUrl(),
+                    run.ratings()[t], wins[t], losses[t], projectedWins, run.games()[t] - projectedWins,
+                    simulator.titleOdds(t), seedDistribution[0], expectedSeed, winDistribution, seedDistribution));
+        }
+        teams.sort(Comparator.comparingDouble(ConferenceProjection.TeamProjection::expectedSeed));
+        return new ConferenceProjection(year, conferenceId, model, run.snapshotDate(), simulator.simulations(),
+                run.millis(), remaining, teams);
+    }
+
+    private static boolean isFinal(Game g) {
+        return g.getStatus() == Game.GameStatus.FINAL && g.getHomeScore() != null && g.getAwayScore() != null;
+    }
+
+    private static boolean isRemaining(Game g) {
+        return g.getStatus() == Game.GameStatus.SCHEDULED || g.getStatus() == Game.GameStatus.IN_PROGRESS;
+    }
+
+    /** Payload {@code season,generation}; anything unparseable evicts every season. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onClusterInvalidation(ClusterInvalidationEvent event) {
+        if (event.channel() != ClusterInvalidationBus.Channel.CALC_COMPLETED) {
+            return;
+        }
+        String payload = event.payload();
+        int comma = payload.indexOf(',');
+        try {
+            int year = Integer.parseInt(comma >= 0 ? payload.substring(0, comma) : payload);
+            cache.keySet().removeIf(k -> k.year() == year);
+        } catch (NumberFormatException e) {
+            cache.clear();
+        }
+    }
+
+    @EventListener
+    public void onClusterResync(ClusterResyncEvent event) {
+        cache.clear();
+    }
+}
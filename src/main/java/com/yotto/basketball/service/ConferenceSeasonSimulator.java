@@ -0,0 +1,304 @@
+package com.yotto.basketball.service;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Monte Carlo completions of one conference's regular season. Each simulation draws
+ * every remaining conference game once, keeping the results as one bit per game, then
+ * ranks the final standings: conference win percentage, then the mini-standings among
+ * the tied teams (head-to-head), then rating, then a drawing of lots. Lots come from a
+ * hash of (seed, simulation, team), so re-ranking a simulation gives the same order
+ * without keeping any ranking state.
+ *
+ * <p>That one chain is applied to every conference. Conferences publish their own
+ * tie-breakers (records against the next-highest teams, NET or KenPom ranks, and so
+ * on), but membership rows carry no rules to read them from, so the projection does
+ * not model them; places decided by a conference-specific rule can differ from the
+ * official seeding.
+ *
+ * <p>Every simulation reuses per-chunk scratch arrays; nothing is allocated per
+ * simulation. Chunks run on the calling thread's fork-join pool, each with a
+ * {@link SplittableRandom} split off one root in a fixed order, so a run is
+ * reproducible however they are scheduled. {@link ConferenceProjectionService} submits
+ * every run and decision to {@code conferenceSimulationPool}.
+ *
+ * <p>{@link #decide(int, boolean)} re-runs incrementally when one remaining game
+ * finishes: only the simulations that drew the other result are re-ranked, with their
+ * old contribution to the totals swapped for the new one. Their other draws stay as
+ * they were, which is a valid sample of the season given the real result, since games
+ * are drawn independently. The result is a new simulator; once {@link #run()} has
+ * returned, a simulator is never changed, so readers may share it across threads.
+ */
+final class ConferenceSeasonSimulator {
+
+    private static final int CHUNKS_PER_CORE = 4;
+
+    private final int teams;
+    private final int[] baseWins;
+    private final int[] baseLosses;
+    /** Decided conference wins of a over b, at {@code a * teams + b}. */
+    private final int[] baseHeadToHead;
+    private final double[] ratings;
+    private final int[] home;
+    private final int[] away;
+    private final double[] homeWinProb;
+    private final int words;
+    private final int maxWins;
+    private final int sims;
+    private final long seed;
+
+    /** One bit per (simulation, remaining game): set when the home team won. */
+    private final long[] outcomes;
+    private final boolean[] decided;
+
+    /** Totals: final wins at {@code team * (maxWins + 1) + wins}, places at {@code team * teams + place}. */
+    private final long[] winCounts;
+    private final long[] placeCounts;
+    private final long[] titleCounts;
+
+    ConferenceSeasonSimulator(int[] baseWins, int[] baseLosses, int[] baseHeadToHead, double[] ratings,
+                              int[] home, int[] away, double[] homeWinProb, int sims, long seed) {
+        this.teams = baseWins.length;
+        this.baseWins = baseWins.clone();
+        this.baseLosses = baseLosses.clone();
+        this.baseHeadToHead = baseHeadToHead.clone();
+        this.ratings = ratings.clone();
+        this.home = home.clone();
+        this.away = away.clone();
+        this.homeWinProb = homeWinProb.clone();
+        this.words = Math.max(1, (home.length + 63) >>> 6);
+        this.sims = sims;
+        this.seed = seed;
+
+        int[] games = new int[teams];
+        for (int t = 0; t < teams; t++) games[t] = baseWins[t] + baseLosses[t];
+        for (int g = 0; g < home.length; g++) {
+            games[home[g]]++;
+            games[away[g]]++;
+        }
+        this.maxWins = Arrays.stream(games).max().orElse(0);
+
+        this.outcomes = new long[sims * words];
+        this.decided = new boolean[home.length];
+        this.winCounts = new long[teams * (maxWins + 1)];
+        this.placeCounts = new long[teams * teams];
+        this.titleCounts = new long[teams];
+    }
+
+    /** A copy of {@code from}'s draws and totals, for {@link #decide} to change. */
+    private ConferenceSeasonSimulator(ConferenceSeasonSimulator from) {
+        this.teams = from.teams;
+        this.baseWins = from.baseWins;
+        this.baseLosses = from.baseLosses;
+        this.baseHeadToHead = from.baseHeadToHead;
+        this.ratings = from.ratings;
+        this.home = from.home;
+        this.away = from.away;
+        this.homeWinProb = from.homeWinProb;
+        this.words = from.words;
+        this.maxWins = from.maxWins;
+        this.sims = from.sims;
+        this.seed = from.seed;
+        this.outcomes = from.outcomes.clone();
+        this.decided = from.decided.clone();
+        this.winCounts = from.winCounts.clone();
+        this.placeCounts = from.placeCounts.clone();
+        this.titleCounts = from.titleCounts.clone();
+    }
+
+    /** Draws and ranks every simulation. */
+    ConferenceSeasonSimulator run() {
+        int chunks = chunks();
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] rngs = new SplittableRandom[chunks];
+        for (int c = 0; c < chunks; c++) rngs[c] = root.split();
+
+        merge(IntStream.range(0, chunks).parallel().mapToObj(c -> {
+            Scratch scratch = new Scratch();
+            SplittableRandom rng = rngs[c];
+            for (int s = first(c, chunks); s < first(c + 1, chunks); s++) {
+                int base = s * words;
+                for (int g = 0; g < home.length; g++) {
+                    if (rng.nextDouble() < homeWinProb[g]) outcomes[base + (g >>> 6)] |= 1L << g;
+                }
+                tally(s, scratch, 1);
+            }
+            return scratch;
+        }).toList());
+        return this;
+    }
+
+    /**
+     * A simulator with the real result of remaining game {@code game} applied: simulations
+     * that drew it the other way are re-ranked. This one is left as it was; a game already
+     * applied returns it unchanged.
+     */
+    ConferenceSeasonSimulator decide(int game, boolean homeWon) {
+        if (decided[game]) return this;
+        ConferenceSeasonSimulator next = new ConferenceSeasonSimulator(this);
+        next.apply(game, homeWon);
+        return next;
+    }
+
+    private void apply(int game, boolean homeWon) {
+        decided[game] = true;
+        int chunks = chunks();
+        int word = game >>> 6;
+        long bit = 1L << game;
+
+        merge(IntStream.range(0, chunks).parallel().mapToObj(c -> {
+            Scratch scratch = new Scratch();
+            for (int s = first(c, chunks); s < first(c + 1, chunks); s++) {
+                int i = s * words + word;
+                if (((outcomes[i] & bit) != 0) == homeWon) continue;
+                tally(s, scratch, -1);
+                outcomes[i] ^= bit;
+                tally(s, scratch, 1);
+            }
+            return scratch;
+        }).toList());
+    }
+
+    int simulations() {
+        return sims;
+    }
+
+    int maxWins() {
+        return maxWins;
+    }
+
+    /** Share of simulations in which {@code team} finished with each win total, 0..{@link #maxWins()}. */
+    double[] winDistribution(int team) {
+        double[] d = new double[maxWins + 1];
+        for (int w = 0; w <= maxWins; w++) d[w] = (double) winCounts[team * (maxWins + 1) + w] / sims;
+        return d;
+    }
+
+    /** Share of simulations in which {@code team} finished in each place, first place at index 0. */
+    double[] placeDistribution(int team) {
+        double[] d = new double[teams];
+        for (int p = 0; p < teams; p++) d[p] = (double) placeCounts[team * teams + p] / sims;
+        return d;
+    }
+
+    /** Share of simulations in which {@code team} won at least a share of the regular-season title. */
+    double titleOdds(int team) {
+        return (double) titleCounts[team] / sims;
+    }
+
+    // ── One simulation ───────────────────────────────────────────────────────
+
+    /** Per-chunk working arrays and partial totals. */
+    private final class Scratch {
+        final int[] wins = new int[teams];
+        final int[] losses = new int[teams];
+        final int[] headToHead = new int[teams * teams];
+        final int[] order = new int[teams];
+        final double[] pct = new double[teams];
+        final double[] key = new double[teams];
+        final long[] lots = new long[teams];
+        final long[] winCounts = new long[ConferenceSeasonSimulator.this.winCounts.length];
+        final long[] placeCounts = new long[teams * teams];
+        final long[] titleCounts = new long[teams];
+    }
+
+    /** Rebuilds simulation {@code s}'s standings from its bits and adds {@code sign} × its result. */
+    private void tally(int s, Scratch x, int sign) {
+        System.arraycopy(baseWins, 0, x.wins, 0, teams);
+        System.arraycopy(baseLosses, 0, x.losses, 0, teams);
+        System.arraycopy(baseHeadToHead, 0, x.headToHead, 0, x.headToHead.length);
+        int base = s * words;
+        for (int g = 0; g < home.length; g++) {
+            boolean homeWon = (outcomes[base + (g >>> 6)] & (1L << g)) != 0;
+            int w = homeWon ? home[g] : away[g], l = homeWon ? away[g] : home[g];
+            x.wins[w]++;
+            x.losses[l]++;
+            x.headToHead[w * teams + l]++;
+        }
+
+        rank(s, x);
+
+        int top = 1;
+        while (top < teams && x.pct[x.order[top]] == x.pct[x.order[0]]) top++;
+        for (int p = 0; p < teams; p++) {
+            int t = x.order[p];
+            x.winCounts[t * (maxWins + 1) + x.wins[t]] += sign;
+            x.placeCounts[t * teams + p] += sign;
+            if (p < top) x.titleCounts[t] += sign;
+        }
+    }
+
+    /** Orders {@code x.order} by final place. */
+    private void rank(int s, Scratch x) {
+        for (int t = 0; t < teams; t++) {
+            int games = x.wins[t] + x.losses[t];
+            x.pct[t] = games == 0 ? 0 : (double) x.wins[t] / games;
+            x.lots[t] = lot(s, t);
+            x.order[t] = t;
+        }
+        sort(x.order, 0, teams, x.pct, null, x.lots);
+
+        for (int i = 0; i < teams; ) {
+            int j = i + 1;
+            while (j < teams && x.pct[x.order[j]] == x.pct[x.order[i]]) j++;
+            if (j - i > 1) {
+                for (int a = i; a < j; a++) {
+                    int t = x.order[a], w = 0, l = 0;
+                    for (int b = i; b < j; b++) {
+                        int u = x.order[b];
+                        w += x.headToHead[t * teams + u];
+                        l += x.headToHead[u * teams + t];
+                    }
+                    x.key[t] = w + l == 0 ? 0.5 : (double) w / (w + l);
+                }
+                sort(x.order, i, j, x.key, ratings, x.lots);
+            }
+            i = j;
+        }
+    }
+
+    /** Insertion sort of {@code order[from, to)}: primary descending, then secondary descending, then lots. */
+    private static void sort(int[] order, int from, int to, double[] primary, double[] secondary, long[] lots) {
+        for (int i = from + 1; i < to; i++) {
+            int t = order[i];
+            int j = i - 1;
+            while (j >= from && before(t, order[j], primary, secondary, lots)) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = t;
+        }
+    }
+
+    private static boolean before(int a, int b, double[] primary, double[] secondary, long[] lots) {
+        if (primary[a] != primary[b]) return primary[a] > primary[b];
+        if (secondary != null && secondary[a] != secondary[b]) return secondary[a] > secondary[b];
+        return lots[a] > lots[b];
+    }
+
+    /** The drawing of lots: a fixed pseudo-random key per (simulation, team). */
+    private long lot(int s, int t) {
+        long z = seed + (long) s * 0x9E3779B97F4A7C15L + (long) t * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private int chunks() {
+        return Math.max(1, Math.min(sims, CHUNKS_PER_CORE * Runtime.getRuntime().availableProcessors()));
+    }
+
+    private int first(int chunk, int chunks) {
+        return (int) ((long) sims * chunk / chunks);
+    }
+
+    private void merge(Iterable<Scratch> parts) {
+        for (Scratch part : parts) {
+            for (int i = 0; i < winCounts.length; i++) winCounts[i] += part.winCounts[i];
+            for (int i = 0; i < placeCounts.length; i++) placeCounts[i] += part.placeCounts[i];
+            for (int i = 0; i < titleCounts.length; i++) titleCounts[i] += part.titleCounts[i];
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.yotto.basketball.service;
+
+import com.yotto.basketball.entity.Game;
+import com.yotto.basketball.entity.Season;
+import com.yotto.basketball.entity.Team;
+import com.yotto.basketball.entity.TeamPowerRatingSnapshot;
+import com.yotto.basketball.repository.GameRepository;
+import com.yotto.basketball.repository.SeasonRepository;
+import com.yotto.basketball.repository.TeamPowerRatingSnapshotRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Elo power ratings: a streaming model whose state is one number per team, updated
+ * in O(1) per game instead of re-solving a global system per date.
+ *
+ * <p>Model: E(home wins) = 1 / (1 + 10^(−(R_h − R_a + H)/400)) with a fixed home
+ * advantage H = {@link #HOME_ADVANTAGE} (0 at a neutral site). After a game both
+ * teams move by K·m·(S − E) in opposite directions, where S is 1/0/½ for a home
+ * win/loss/tie and m = (|margin| + 3)^0.8 / (7.5 + 0.006·d) is the margin-of-victory
+ * multiplier — d being the winner's pre-game edge, which damps the autocorrelation of
+ * favourites piling up points. Ratings carry over between seasons, regressed a third
+ * of the way back to {@link #INITIAL_RATING}; a spread is the rating gap over
+ * {@link #ELO_PER_POINT}.
+ *
+ * <p>Two write paths share the snapshot table: the batch pipeline replays the season
+ * and writes dense, ranked per-date snapshots (like Massey and Bradley-Terry), and
+ * {@link #onGameFinal} folds each newly-FINAL game in as the scrape commits, writing
+ * unranked rows for the two teams. The next batch run rewrites those dates. A streamed
+ * update drops the two teams' stored predictions, which are stamped with the last batch
+ * run, and records a manual recalc so ETags and caches move on every node.
+ */
+@Service
+public class EloRatingService {
+
+    private static final Logger log = LoggerFactory.getLogger(EloRatingService.class);
+
+    public static final String MODEL_TYPE = "ELO";
+    static final double INITIAL_RATING   = 1500;
+    static final double K                = 38;
+    static final double HOME_ADVANTAGE   = 100;
+    static final double ELO_PER_POINT    = 28;
+    static final double SEASON_REVERSION = 1.0 / 3;
+
+    private final SeasonGameDataLoader seasonGameDataLoader;
+    private final SeasonRepository seasonRepository;
+    private final GameRepository gameRepository;
+    private final TeamPowerRatingSnapshotRepository ratingRepository;
+    private final SnapshotJdbcWriter snapshotJdbcWriter;
+    private final PipelineMetrics pipelineMetrics;
+    private final GamePredictionStore predictionStore;
+    private final StatCalcGateService statCalcGateService;
+    private final TransactionTemplate tx;
+
+    public EloRatingService(SeasonGameDataLoader seasonGameDataLoader,
+                            SeasonRepository seasonRepository,
+                            GameRepository gameRepository,
+                            TeamPowerRatingSnapshotRepository ratingRepository,
+                            SnapshotJdbcWriter snapshotJdbcWriter,
+                            PipelineMetrics pipelineMetrics,
+                            GamePredictionStore predictionStore,
+                            StatCalcGateService statCalcGateService,
+                            PlatformTransactionManager transactionManager) {
+        this.seasonGameDataLoader = seasonGameDataLoader;
+        this.seasonRepository = seasonRepository;
+        this.gameRepository = gameRepository;
+        this.ratingRepository = ratingRepository;
+        this.snapshotJdbcWriter = snapshotJdbcWriter;
+        this.pipelineMetrics = pipelineMetrics;
+        this.predictionStore = predictionStore;
+        this.statCalcGateService = statCalcGateService;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Transactional
+    public void calculateAndStoreForSeason(int seasonYear) {
+        calculateAndStoreForSeason(seasonYear, null);
+    }
+
+    /**
+     * @param fromDate watermark: replay the whole season (the updates are cheap), but
+     *                 only rewrite snapshots for dates {@code >= fromDate}.
+     *                 {@code null} = full rewrite.
+     */
+    @Transactional
+    public void calculateAndStoreForSeason(int seasonYear, LocalDate fromDate) {
+        seasonGameDataLoader.load(seasonYear)
+                .ifPresent(data -> calculateAndStoreForSeason(data, fromDate));
+    }
+
+    @Transactional
+    public void calculateAndStoreForSeason(SeasonGameData data, LocalDate fromDate) {
+        Season season = data.season();
+        int seasonYear = season.getYear();
+
+        log.info("Calculating Elo ratings for season {}{}", seasonYear,
+                fromDate != null ? " from " + fromDate : "");
+        long startMs = System.currentTimeMillis();
+        PipelineMetrics.Run run = pipelineMetrics.start(MODEL_TYPE, seasonYear);
+        long t = System.nanoTime();
+
+        if (fromDate == null) {
+            ratingRepository.deleteBySeasonIdAndModelType(season.getId(), MODEL_TYPE);
+        } else {
+            ratingRepository.deleteBySeasonIdAndModelTypeFromDate(season.getId(), MODEL_TYPE, fromDate);
+        }
+        t = run.lap(PipelineMetrics.WRITE, t);
+
+        if (data.finalGames().isEmpty()) {
+            log.info("No final games for season {}, skipping", seasonYear);
+            run.finish();
+            return;
+        }
+
+        Map<Long, Double> ratings = carriedOver(season);
+        Map<Long, Integer> gamesPlayedByTeam = new HashMap<>();
+        List<TeamPowerRatingSnapshot> allRatings = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (Map.Entry<LocalDate, List<Game>> entry : data.gamesByDate().entrySet()) {
+            LocalDate date = entry.getKey();
+
+            for (Game game : entry.getValue()) {
+                Long homeId = game.getHomeTeam().getId();
+                Long awayId = game.getAwayTeam().getId();
+                double home = ratings.getOrDefault(homeId, INITIAL_RATING);
+                double away = ratings.getOrDefault(awayId, INITIAL_RATING);
+                double shift = homeShift(home, away, game.getHomeScore() - game.getAwayScore(),
+                        Boolean.TRUE.equals(game.getNeutralSite()));
+                ratings.put(homeId, home + shift);
+                ratings.put(awayId, away - shift);
+                gamesPlayedByTeam.merge(homeId, 1, Integer::sum);
+                gamesPlayedByTeam.merge(awayId, 1, Integer::sum);
+            }
+            t = run.lap(PipelineMetrics.ACCUMULATE, t);
+
+            if (fromDate != null && date.isBefore(fromDate)) {
+                continue;
+            }
+            collectSnapshots(allRatings, ratings, data.teamsById(), gamesPlayedByTeam, season, date, now);
+            t = run.lap(PipelineMetrics.SNAPSHOT_BUILD, t);
+        }
+
+        long saveStartMs = System.currentTimeMillis();
+        snapshotJdbcWriter.writeTeamPowerRatingSnapshots(allRatings);
+        run.lap(PipelineMetrics.WRITE, t);
+        run.rows(allRatings.size());
+        run.finish();
+
+        long now2 = System.currentTimeMillis();
+        log.info("Elo ratings complete for season {} — {} snapshots across {} dates in {} ms (save {} ms)",
+                seasonYear, allRatings.size(), data.gamesByDate().size(), now2 - startMs, now2 - saveStartMs);
+    }
+
+    /**
+     * Folds a scrape's newly-FINAL games into their teams' ratings once the scrape
+     * commits. Each game runs in its own transaction; a failure is logged and left to
+     * the next batch calculation, which replays the season anyway. If any game was
+     * applied, the season's snapshot write time moves once for the whole scrape,
+     * publishing a single {@code calc_completed}.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGameFinal(GameFinalEvent event) {
+        boolean applied = false;
+        for (Long gameId : event.gameIds()) {
+            try {
+                applied |= Boolean.TRUE.equals(tx.execute(status -> applyFinal(gameId)));
+            } catch (RuntimeException e) {
+                log.warn("Elo update for game {} failed — the next calculation will replay it", gameId, e);
+            }
+        }
+        if (applied) {
+            statCalcGateService.recordManualRecalc(event.seasonYear());
+        }
+    }
+
+    /**
+     * Applies one FINAL game on top of each team's latest snapshot dated before it,
+     * replacing any rows the two teams already have on the game date (so a repeated
+     * event is idempotent). Games older than the season's newest Elo snapshot are left
+     * to the batch replay, since later ratings would have to be rewritten. The two
+     * teams' stored predictions are deleted (served live until the next materialization);
+     * {@link #onGameFinal} moves the season's snapshot write time afterwards.
+     *
+     * @return whether the game was applied
+     */
+    boolean applyFinal(Long gameId) {
+        Game game = gameRepository.findByIdWithDetails(gameId).orElse(null);
+        if (game == null || game.getStatus() != Game.GameStatus.FINAL
+                || game.getHomeScore() == null || game.getAwayScore() == null) {
+            return false;
+        }
+        Season season = game.getSeason();
+        LocalDate date = game.getGameDate().toLocalDate();
+        LocalDate latest = ratingRepository.findLatestSnapshotDate(season.getId(), MODEL_TYPE).orElse(null);
+        if (latest != null && latest.isAfter(date)) {
+            log.debug("Game {} on {} predates Elo snapshots through {} — left to the batch replay",
+                    gameId, date, latest);
+            return false;
+        }
+
+        Team homeTeam = game.getHomeTeam();
+        Team awayTeam = game.getAwayTeam();
+        Prior home = priorFor(homeTeam.getId(), season, date);
+        Prior away = priorFor(awayTeam.getId(), season, date);
+        double shift = homeShift(home.rating(), away.rating(), game.getHomeScore() - game.getAwayScore(),
+                Boolean.TRUE.equals(game.getNeutralSite()));
+
+        ratingRepository.deleteByTeamSeasonModelAndDate(homeTeam.getId(), season.getId(), MODEL_TYPE, date);
+        ratingRepository.deleteByTeamSeasonModelAndDate(awayTeam.getId(), season.getId(), MODEL_TYPE, date);
+        LocalDateTime now = LocalDateTime.now();
+        snapshotJdbcWriter.writeTeamPowerRatingSnapshots(List.of(
+                snapshot(homeTeam, season, date, home.rating() + shift, null, home.gamesPlayed() + 1, now),
+                snapshot(awayTeam, season, date, away.rating() - shift, null, away.gamesPlayed() + 1, now)));
+        predictionStore.deleteForTeams(season.getId(), List.of(homeTeam.getId(), awayTeam.getId()));
+        return true;
+    }
+
+    /** A team's rating and games played going into {@code date}: this season's, else last season's regressed. */
+    private Prior priorFor(Long teamId, Season season, LocalDate date) {
+        return ratingRepository.findLatestBefore(teamId, season.getId(), MODEL_TYPE, date)
+                .map(s -> new Prior(s.getRating(), s.getGamesPlayed()))
+                .orElseGet(() -> new Prior(seasonRepository.findByYear(season.getYear() - 1)
+                        .flatMap(prev -> ratingRepository.findLatestBefore(teamId, prev.getId(), MODEL_TYPE, date))
+                        .map(s -> regress(s.getRating()))
+                        .orElse(INITIAL_RATING), 0));
+    }
+
+    /** Starting ratings: the previous season's final Elo, regressed toward the mean. */
+    private Map<Long, Double> carriedOver(Season season) {
+        Map<Long, Double> ratings = new HashMap<>();
+        seasonRepository.findByYear(season.getYear() - 1).ifPresent(prev ->
+                ratingRepository.findLatestForSeason(prev.getId(), MODEL_TYPE)
+                        .forEach(s -> ratings.put(s.getTeam().getId(), regress(s.getRating()))));
+        return ratings;
+    }
+
+    /** Dense, ranked snapshots for every team that has played by {@code date}. */
+    private static void collectSnapshots(List<TeamPowerRatingSnapshot> allRatings,
+                                         Map<Long, Double> ratings,
+                                         Map<Long, Team> teamsById,
+                                         Map<Long, Integer> gamesPlayedByTeam,
+                                         Season season, LocalDate date, LocalDateTime now) {
+        List<Long> rated = new ArrayList<>(gamesPlayedByTeam.keySet());
+        rated.sort((x, y) -> Double.compare(ratings.get(y), ratings.get(x)));
+        for (int rank = 0; rank < rated.size(); rank++) {
+            Long teamId = rated.get(rank);
+            allRatings.add(snapshot(teamsById.get(teamId), season, date, ratings.get(teamId),
+                    rank + 1, gamesPlayedByTeam.get(teamId), now));
+        }
+    }
+
+    private static TeamPowerRatingSnapshot snapshot(Team team, Season season, LocalDate date, double rating,
+                                                    Integer rank, int gamesPlayed, LocalDateTime now) {
+        TeamPowerRatingSnapshot snap = new TeamPowerRatingSnapshot();
+        snap.setTeam(team);
+        snap.setSeason(season);
+        snap.setModelType(MODEL_TYPE);
+        snap.setSnapshotDate(date);
+        snap.setRating(rating);
+        snap.setRank(rank);
+        snap.setGamesPlayed(gamesPlayed);
+        snap.setCalculatedAt(now);
+        return snap;
+    }
+
+    // ── Model ─────────────────────────────────────────────────────────────────
+
+    /**
+     * The home team's rating change for one game won by {@code homeMargin} points
+     * (negative = away win); the away team's change is its negation.
+     */
+    static double homeShift(double home, double away, int homeMargin, boolean neutral) {
+        double diff = home - away + (neutral ? 0 : HOME_ADVANTAGE);
+        double actual = homeMargin > 0 ? 1 : homeMargin < 0 ? 0 : 0.5;
+        double winnerEdge = homeMargin >= 0 ? diff : -diff;
+        // Floor keeps the denominator positive for absurd underdog wins
+        double multiplier = Math.pow(Math.abs(homeMargin) + 3, 0.8)
+                / (7.5 + 0.006 * Math.max(winnerEdge, -1000));
+        return K * multiplier * (actual - expected(diff));
+    }
+
+    /** Home win probability from the two ratings. */
+    static double homeWinProbability(double home, double away, boolean neutral) {
+        return expected(home - away + (neutral ? 0 : HOME_ADVANTAGE));
+    }
+
+    /** Predicted home margin in points. */
+    static double spread(double home, double away, boolean neutral) {
+        return (home - away + (neutral ? 0 : HOME_ADVANTAGE)) / ELO_PER_POINT;
+    }
+
+    /** A rating carried into the next season. */
+    static double regress(double rating) {
+        return rating + (INITIAL_RATING - rating) * SEASON_REVERSION;
+    }
+
+    private static double expected(double diff) {
+        return 1.0 / (1.0 + Math.pow(10, -diff / 400));
+    }
+
+    private record Prior(double rating, int gamesPlayed) {}
+}
@@ -0,0 +1,191 @@
+package com.yotto.basketball.service;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Admin-controlled JDK Flight Recorder sessions for profiling a slow run in production.
+ *
+ * <p>One recording at a time, always bounded: it stops itself after the requested
+ * duration (capped at {@code app.jfr.max-duration}) and keeps at most
+ * {@code app.jfr.max-size} of data on disk. Uses the JDK's low-overhead
+ * {@code default} settings plus the {@link PipelineJfrEvents}; when no recording is
+ * running those events cost nothing measurable. The finished {@code .jfr} file stays
+ * in {@code app.jfr.directory} for download; older files beyond
+ * {@link #KEEP_FILES} are deleted when a new recording starts.
+ */
+@Service
+public class FlightRecordingService {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecordingService.class);
+
+    static final int KEEP_FILES = 3;
+    private static final String RECORDING_NAME = "basketball-admin";
+    private static final DateTimeFormatter FILE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final List<Class<? extends Event>> PIPELINE_EVENTS = List.of(
+            PipelineJfrEvents.PipelineStep.class, PipelineJfrEvents.ScrapeItem.class,
+            PipelineJfrEvents.CalculationDate.class, PipelineJfrEvents.SnapshotBatch.class);
+
+    private final Path directory;
+    private final Duration maxDuration;
+    private final DataSize maxSize;
+    private final String settings;
+
+    private Recording recording;
+    private Path file;
+    private LocalDateTime startedAt;
+    private Duration duration;
+
+    public FlightRecordingService(@Value("${app.jfr.directory:${java.io.tmpdir}/basketball-jfr}") Path directory,
+                                  @Value("${app.jfr.max-duration:30m}") Duration maxDuration,
+                                  @Value("${app.jfr.max-size:250MB}") DataSize maxSize,
+                                  @Value("${app.jfr.settings:default}") String settings) {
+        this.directory = directory;
+        this.maxDuration = maxDuration;
+        this.maxSize = maxSize;
+        this.settings = settings;
+    }
+
+    /**
+     * State of the current or most recent recording. {@code file} is only set once
+     * the recording has stopped and its data has been written.
+     */
+    public record Status(boolean running, LocalDateTime startedAt, Duration duration,
+                         Duration maxDuration, DataSize maxSize, Path file, Long fileBytes) {}
+
+    /**
+     * Starts a recording that stops itself after {@code requested} (or the configured
+     * maximum when {@code null} or longer).
+     *
+     * @throws IllegalStateException    if a recording is already running
+     * @throws IllegalArgumentException if {@code requested} is not positive
+     */
+    public synchronized Status start(Duration requested) {
+        if (isRunning()) {
+            throw new IllegalStateException("A flight recording is already running");
+        }
+        if (requested != null && (requested.isNegative() || requested.isZero())) {
+            throw new IllegalArgumentException("Recording duration must be positive");
+        }
+        closeRecording();
+
+        Duration bounded = requested == null || requested.compareTo(maxDuration) > 0 ? maxDuration : requested;
+        LocalDateTime now = LocalDateTime.now();
+        Path target = directory.resolve("pipeline-" + FILE_STAMP.format(now) + ".jfr");
+        try {
+            Files.createDirectories(directory);
+            pruneOldFiles();
+            Recording r = new Recording(Configuration.getConfiguration(settings));
+            r.setName(RECORDING_NAME);
+            r.setToDisk(true);
+            r.setMaxSize(maxSize.toBytes());
+            r.setDuration(bounded);
+            r.setDestination(target);
+            PIPELINE_EVENTS.forEach(r::enable);
+            r.start();
+            recording = r;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start flight recording in " + directory, e);
+        } catch (ParseException e) {
+            throw new IllegalStateException("Invalid JFR settings '" + settings + "'", e);
+        }
+        file = target;
+        startedAt = now;
+        duration = bounded;
+        log.info("Flight recording started: {} for up to {} ({} max)", target, bounded, maxSize);
+        return status();
+    }
+
+    /**
+     * Stops the running recording, writing its file.
+     *
+     * @throws IllegalStateException if no recording is running
+     */
+    public synchronized Status stop() {
+        if (!isRunning()) {
+            throw new IllegalStateException("No flight recording is running");
+        }
+        recording.stop();
+        closeRecording();
+        log.info("Flight recording stopped: {}", file);
+        return status();
+    }
+
+    public synchronized Status status() {
+        boolean running = isRunning();
+        Path done = running ? null : finishedFile().orElse(null);
+        Long bytes = null;
+        if (done != null) {
+            try {
+                bytes = Files.size(done);
+            } catch (IOException e) {
+                done = null;
+            }
+        }
+        return new Status(running, startedAt, duration, maxDuration, maxSize, done, bytes);
+    }
+
+    /** The last recording's file, once it has stopped (manually or by its duration bound). */
+    public synchronized Optional<Path> finishedFile() {
+        if (file == null || isRunning() || !Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        return Optional.of(file);
+    }
+
+    @PreDestroy
+    synchronized void shutdown() {
+        if (isRunning()) {
+            recording.stop();
+        }
+        closeRecording();
+    }
+
+    private boolean isRunning() {
+        if (recording == null) {
+            return false;
+        }
+        RecordingState state = recording.getState();
+        return state == RecordingState.NEW || state == RecordingState.DELAYED || state == RecordingState.RUNNING;
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    /** Keeps the newest {@code KEEP_FILES - 1} recordings, making room for the one about to start. */
+    private void pruneOldFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> recordings = files
+                    .filter(p -> p.getFileName().toString().endsWith(".jfr"))
+                    .sorted((a, b) -> b.getFileName().compareTo(a.getFileName()))
+                    .toList();
+            for (Path old : recordings.subList(Math.min(recordings.size(), KEEP_FILES - 1), recordings.size())) {
+                Files.deleteIfExists(old);
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.yotto.basketball.service;
+
+import com.yotto.basketball.entity.Game;
+import com.yotto.basketball.entity.SeasonStatistics;
+import com.yotto.basketball.entity.TeamPowerRatingSnapshot;
+import com.yotto.basketball.entity.TeamSeasonStatSnapshot;
+import com.yotto.basketball.entity.TeamStatSnapshot;
+import com.yotto.basketball.repository.GameRepository;
+import com.yotto.basketball.repository.SeasonStatisticsRepository;
+import com.yotto.basketball.repository.TeamPowerRatingSnapshotRepository;
+import com.yotto.basketball.repository.TeamSeasonStatSnapshotRepository;
+import com.yotto.basketball.repository.TeamStatSnapshotRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Loads everything the game detail page shows beyond the game row itself.
+ *
+ * <p>The lookups are independent of each other, so they are issued concurrently on
+ * {@code gameDetailExecutor} and page latency approaches the slowest single query
+ * rather than the sum of all of them. That pool's size is the page's connection
+ * budget: each task holds at most one pooled connection, so a burst of page loads
+ * can't drain the web pool out from under the rest of the web tier.
+ *
+ * <p>Point-in-time snapshots for both teams are fetched in one bulk query per table
+ * instead of one {@code findLatestBefore} per team, and the prediction reuses the
+ * already-loaded game instead of re-fetching it. Each section is timed under
+ * {@value #TIMER_NAME} (tag {@code section}) so a slow section shows up in Prometheus.
+ */
+@Service
+public class GameDetailAssembler {
+
+    static final String TIMER_NAME = "game.detail.section";
+
+    static final List<String> RATING_MODELS = List.of(
+            MasseyRatingService.MODEL_TYPE,
+            BradleyTerryRatingService.MODEL_TYPE,
+            BradleyTerryRatingService.MODEL_TYPE_WEIGHTED);
+
+    private final GameRepository gameRepository;
+    private final PredictionService predictionService;
+    private final SeasonStatisticsRepository seasonStatsRepository;
+    private final TeamPowerRatingSnapshotRepository powerRatingRepository;
+    private final TeamSeasonStatSnapshotRepository statSnapshotRepository;
+    private final TeamStatSnapshotRepository derivedStatRepository;
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+
+    public GameDetailAssembler(GameRepository gameRepository,
+                               PredictionService predictionService,
+                               SeasonStatisticsRepository seasonStatsRepository,
+                               TeamPowerRatingSnapshotRepository powerRatingRepository,
+                               TeamSeasonStatSnapshotRepository statSnapshotRepository,
+                               TeamStatSnapshotRepository derivedStatRepository,
+                               @Qualifier("gameDetailExecutor") Executor executor,
+                               MeterRegistry meterRegistry) {
+        this.gameRepository = gameRepository;
+        this.predictionService = predictionService;
+        this.seasonStatsRepository = seasonStatsRepository;
+        this.powerRatingRepository = powerRatingRepository;
+        this.statSnapshotRepository = statSnapshotRepository;
+        this.derivedStatRepository = derivedStatRepository;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /** Pre-game view of one team: season line, snapshots and recent results. */
+    public record TeamSide(
+            SeasonStatistics stats,
+            TeamPowerRatingSnapshot massey,
+            TeamPowerRatingSnapshot bradleyTerry,
+            TeamPowerRatingSnapshot bradleyTerryWeighted,
+            TeamSeasonStatSnapshot snapshot,
+            Integer rpiRank,
+            Map<String, TeamStatSnapshot> derived,
+            List<Game> neutralSiteGames,
+            List<Game> last5Games,
+            List<Game> seasonGamesBefore) {}
+
+    /** Everything the game detail page renders besides the game's own columns. */
+    public record GameDetail(
+            PredictionResult prediction,
+            List<Game> headToHead,
+            TeamSide home,
+            TeamSide away) {}
+
+    /**
+     * Assembles the page data for a game loaded with its teams, season and odds
+     * (see {@link GameRepository#findByIdWithDetails}).
+     */
+    public GameDetail assemble(Game game) {
+        Timer.Sample total = Timer.start(meterRegistry);
+        try {
+            return doAssemble(game);
+        } finally {
+            total.stop(timer("total"));
+        }
+    }
+
+    private GameDetail doAssemble(Game game) {
+        Long homeId = game.getHomeTeam().getId();
+        Long awayId = game.getAwayTeam().getId();
+        Long seasonId = game.getSeason().getId();
+        LocalDate cutoff = game.getGameDate().toLocalDate();
+        LocalDateTime gameDateTime = game.getGameDate();
+        List<Long> teamIds = List.of(homeId, awayId);
+
+        var prediction = submit("prediction", () -> predictionService.predict(game));
+        var homeStats = submit("season_stats",
+                () -> seasonStatsRepository.findByTeamAndSeasonWithConference(homeId, seasonId).orElse(null));
+        var awayStats = submit("season_stats",
+                () -> seasonStatsRepository.findByTeamAndSeasonWithConference(awayId, seasonId).orElse(null));
+        var h2h = submit("head_to_head",
+                () -> gameRepository.findAllH2HGames(homeId, awayId, game.getId()));
+        var homeNeutral = submit("neutral_site",
+                () -> gameRepository.findNeutralSiteFinalGames(homeId, seasonId));
+        var awayNeutral = submit("neutral_site",
+                () -> gameRepository.findNeutralSiteFinalGames(awayId, seasonId));
+        var homeLast5 = submit("last5",
+                () -> gameRepository.findRecentFinalGamesForTeam(homeId, gameDateTime, PageRequest.of(0, 5)));
+        var awayLast5 = submit("last5",
+                () -> gameRepository.findRecentFinalGamesForTeam(awayId, gameDateTime, PageRequest.of(0, 5)));
+        var homeSeason = submit("season_games",
+                () -> gameRepository.findSeasonFinalGamesForTeamBefore(homeId, seasonId, gameDateTime));
+        var awaySeason = submit("season_games",
+                () -> gameRepository.findSeasonFinalGamesForTeamBefore(awayId, seasonId, gameDateTime));
+        var ratings = submit("power_ratings",
+                () -> powerRatingRepository.findLatestBeforeForTeams(teamIds, seasonId, RATING_MODELS, cutoff));
+        var derived = submit("derived_stats",
+                () -> derivedStatRepository.findLatestBeforeForTeams(teamIds, seasonId, cutoff));
+        var snapshots = submit("stat_snapshots",
+                () -> byTeam(statSnapshotRepository.findLatestBeforeForTeams(teamIds, seasonId, cutoff)));
+        // RPI ranks need the snapshot's date and value, so they chain off the bulk snapshot fetch
+        var homeRpiRank = snapshots.thenApplyAsync(
+                s -> timed("rpi_rank", () -> rpiRank(seasonId, s.get(homeId))), executor);
+        var awayRpiRank = snapshots.thenApplyAsync(
+                s -> timed("rpi_rank", () -> rpiRank(seasonId, s.get(awayId))), executor);
+
+        Map<Long, Map<String, TeamPowerRatingSnapshot>> ratingsByTeam = new HashMap<>();
+        for (TeamPowerRatingSnapshot s : join(ratings)) {
+            ratingsByTeam.computeIfAbsent(s.getTeam().getId(), k -> new HashMap<>()).put(s.getModelType(), s);
+        }
+        Map<Long, Map<String, TeamStatSnapshot>> derivedByTeam = new HashMap<>();
+        for (TeamStatSnapshot s : join(derived)) {
+            derivedByTeam.computeIfAbsent(s.getTeam().getId(), k -> new HashMap<>()).put(s.getStatName(), s);
+        }
+        Map<Long, TeamSeasonStatSnapshot> snapshotByTeam = join(snapshots);
+
+        TeamSide home = new TeamSide(
+                join(homeStats),
+                ratingsByTeam.getOrDefault(homeId, Map.of()).get(MasseyRatingService.MODEL_TYPE),
+                ratingsByTeam.getOrDefault(homeId, Map.of()).get(BradleyTerryRatingService.MODEL_TYPE),
+                ratingsByTeam.getOrDefault(homeId, Map.of()).get(BradleyTerryRatingService.MODEL_TYPE_WEIGHTED),
+                snapshotByTeam.get(homeId), join(homeRpiRank),
+                derivedByTeam.getOrDefault(homeId, Map.of()),
+                join(homeNeutral), join(homeLast5), join(homeSeason));
+        TeamSide away = new TeamSide(
+                join(awayStats),
+                ratingsByTeam.getOrDefault(awayId, Map.of()).get(MasseyRatingService.MODEL_TYPE),
+                ratingsByTeam.getOrDefault(awayId, Map.of()).get(BradleyTerryRatingService.MODEL_TYPE),
+                ratingsByTeam.getOrDefault(awayId, Map.of()).get(BradleyTerryRatingService.MODEL_TYPE_WEIGHTED),
+                snapshotByTeam.get(awayId), join(awayRpiRank),
+                derivedByTeam.getOrDefault(awayId, Map.of()),
+                join(awayNeutral), join(awayLast5), join(awaySeason));
+
+        return new GameDetail(join(prediction), join(h2h), home, away);
+    }
+
+    // ── Helpers ──────────────────────────────────────────────────────────────────
+
+    /** RPI rank among all teams on the snapshot's date, or null without an RPI. */
+    private Integer rpiRank(Long seasonId, TeamSeasonStatSnapshot snap) {
+        if (snap == null || snap.getRpi() == null) return null;
+        return 1 + (int) statSnapshotRepository.countWithRpiAbove(
+                seasonId, snap.getSnapshotDate(), snap.getRpi());
+    }
+
+    private static Map<Long, TeamSeasonStatSnapshot> byTeam(List<TeamSeasonStatSnapshot> snapshots) {
+        Map<Long, TeamSeasonStatSnapshot> byTeam = new HashMap<>();
+        for (TeamSeasonStatSnapshot s : snapshots) {
+            byTeam.put(s.getTeam().getId(), s);
+        }
+        return byTeam;
+    }
+
+    private <T> CompletableFuture<T> submit(String section, Supplier<T> lookup) {
+        return CompletableFuture.supplyAsync(() -> timed(section, lookup), executor);
+    }
+
+    private <T> T timed(String section, Supplier<T> lookup) {
+        return timer(section).record(lookup);
+    }
+
+    private Timer timer(String section) {
+        return Timer.builder(TIMER_NAME)
+                .description("Game detail page assembly time by section")
+                .tag("section", section)
+                .register(meterRegistry);
+    }
+
+    /** Waits for a lookup, rethrowing its own exception rather than the executor's wrapper. */
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw e;
+        }
+    }
+}
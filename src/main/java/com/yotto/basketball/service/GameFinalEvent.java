@@ -0,0 +1,11 @@
+package com.yotto.basketball.service;
+
+import java.util.List;
+
+/**
+ * Published once per game scrape with every game it saw first reach FINAL with both
+ * scores, so streaming models ({@link EloRatingService}) can fold them in once the
+ * scrape's transaction commits instead of waiting for the batch calculation. One
+ * event per scrape rather than per game lets a listener announce its writes once.
+ */
+public record GameFinalEvent(int seasonYear, List<Long> gameIds) {}
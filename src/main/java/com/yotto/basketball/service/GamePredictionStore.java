@@ -0,0 +1,170 @@
+package com.yotto.basketball.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC access to {@code game_predictions}, the materialized pre-game predictions for
+ * not-yet-final games. Only the model sub-blocks of a {@link PredictionResult} are
+ * stored (as JSONB); status, teams and book lines always come from the live game row,
+ * so an odds update never needs a refresh.
+ */
+@Component
+public class GamePredictionStore {
+
+    private static final Logger log = LoggerFactory.getLogger(GamePredictionStore.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO game_predictions
+                (game_id, season_id, game_date, neutral_site, snapshot_generation, model_version,
+                 prediction, computed_at)
+            VALUES (?, ?, ?, ?, ?, ?, CAST(? AS jsonb), ?)
+            ON CONFLICT (game_id) DO UPDATE SET
+                season_id           = EXCLUDED.season_id,
+                game_date           = EXCLUDED.game_date,
+                neutral_site        = EXCLUDED.neutral_site,
+                snapshot_generation = EXCLUDED.snapshot_generation,
+                model_version       = EXCLUDED.model_version,
+                prediction          = EXCLUDED.prediction,
+                computed_at         = EXCLUDED.computed_at
+            """;
+
+    private static final String SELECT_SQL = """
+            SELECT game_id, game_date, neutral_site, snapshot_generation, model_version, prediction
+            FROM game_predictions WHERE game_id IN (:gameIds)
+            """;
+
+    /** Removes rows for games that went final (or were called off) or fell out of the window. */
+    private static final String PRUNE_SQL = """
+            DELETE FROM game_predictions gp USING games g
+            WHERE gp.game_id = g.id
+              AND (g.status NOT IN ('SCHEDULED', 'IN_PROGRESS') OR gp.game_date < ?)
+            """;
+
+    /** Removes a season's rows for games involving any of the given teams. */
+    private static final String DELETE_FOR_TEAMS_SQL = """
+            DELETE FROM game_predictions gp USING games g
+            WHERE gp.game_id = g.id
+              AND gp.season_id = :seasonId
+              AND (g.home_team_id IN (:teamIds) OR g.away_team_id IN (:teamIds))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public GamePredictionStore(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.objectMapper = objectMapper;
+    }
+
+    /** The model outputs of one prediction — everything that depends on snapshots or ML bundles. */
+    public record Models(
+            PredictionResult.MasseyPrediction massey,
+            PredictionResult.MasseyTotalPrediction masseyTotal,
+            PredictionResult.BradleyTerryPrediction bradleyTerry,
+            PredictionResult.BradleyTerryPrediction bradleyTerryWeighted,
+            PredictionResult.EloPrediction elo,
+            PredictionResult.MlPrediction ml,
+            Map<String, PredictionResult.MlPrediction> mlModels) {
+
+        static Models of(PredictionResult r) {
+            return new Models(r.massey(), r.masseyTotal(), r.bradleyTerry(), r.bradleyTerryWeighted(),
+                    r.elo(), r.ml(), r.mlModels());
+        }
+    }
+
+    /**
+     * A stored row with the stamps that decide whether it is still current: the game's
+     * date and site when it was computed, the snapshot generation and the plan fingerprint.
+     */
+    public record Stored(LocalDate gameDate, boolean neutralSite, LocalDateTime snapshotGeneration,
+                         String modelVersion, Models models) {}
+
+    /** A row to upsert. */
+    public record Row(Long gameId, Long seasonId, LocalDate gameDate, boolean neutralSite,
+                      LocalDateTime snapshotGeneration, String modelVersion, Models models) {}
+
+    /** Stored rows for the given games, keyed by game id. Unreadable rows are skipped (treated as misses). */
+    public Map<Long, Stored> findByGameIds(Collection<Long> gameIds) {
+        Map<Long, Stored> byGame = new HashMap<>();
+        if (gameIds.isEmpty()) {
+            return byGame;
+        }
+        namedJdbcTemplate.query(SELECT_SQL, new MapSqlParameterSource("gameIds", gameIds), rs -> {
+            long gameId = rs.getLong("game_id");
+            Timestamp generation = rs.getTimestamp("snapshot_generation");
+            try {
+                Models models = objectMapper.readValue(rs.getString("prediction"), Models.class);
+                byGame.put(gameId, new Stored(
+                        rs.getDate("game_date").toLocalDate(), rs.getBoolean("neutral_site"),
+                        generation != null ? generation.toLocalDateTime() : null,
+                        rs.getString("model_version"), models));
+            } catch (JsonProcessingException e) {
+                log.warn("Unreadable stored prediction for game {} — ignoring", gameId, e);
+            }
+        });
+        return byGame;
+    }
+
+    public void upsert(List<Row> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, BATCH_SIZE, (ps, r) -> {
+            ps.setLong(1, r.gameId());
+            ps.setLong(2, r.seasonId());
+            ps.setDate(3, Date.valueOf(r.gameDate()));
+            ps.setBoolean(4, r.neutralSite());
+            if (r.snapshotGeneration() != null) {
+                ps.setTimestamp(5, Timestamp.valueOf(r.snapshotGeneration()));
+            } else {
+                ps.setNull(5, Types.TIMESTAMP);
+            }
+            ps.setString(6, r.modelVersion());
+            ps.setString(7, toJson(r.models()));
+            ps.setTimestamp(8, now);
+        });
+    }
+
+    /** Deletes rows no longer worth keeping; returns the number removed. */
+    public int prune(LocalDate windowStart) {
+        return jdbcTemplate.update(PRUNE_SQL, Date.valueOf(windowStart));
+    }
+
+    /**
+     * Deletes the stored predictions of {@code teamIds}' games in a season, for writes
+     * that change their ratings without moving the snapshot generation; returns the
+     * number removed.
+     */
+    public int deleteForTeams(Long seasonId, Collection<Long> teamIds) {
+        return namedJdbcTemplate.update(DELETE_FOR_TEAMS_SQL, new MapSqlParameterSource()
+                .addValue("seasonId", seasonId)
+                .addValue("teamIds", teamIds));
+    }
+
+    private String toJson(Models models) {
+        try {
+            return objectMapper.writeValueAsString(models);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize prediction", e);
+        }
+    }
+}
@@ -0,0 +1,409 @@
+package com.yotto.basketball.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Pure-Java evaluator for the ONNX graphs our trainer exports: a tree ensemble
+ * ({@link TreeEnsemble}) followed by the elementwise arithmetic skl2onnx emits for
+ * calibration (ArrayFeatureExtractor, Mul/Add/Exp/Reciprocal or Sigmoid, Sub, Concat,
+ * fold averaging), plus the MatMul/Softmax used by the test fixtures.
+ *
+ * <p>The graph is pruned to the nodes the scored output depends on, so a classifier's
+ * label branch is never evaluated. Any other op makes {@link #regressor}/{@link
+ * #classifier} throw {@link UnsupportedOperationException}, and {@link
+ * MlPredictionService} keeps that model on onnxruntime. Values are row-major matrices of
+ * rank 0–2 with numpy broadcasting; instances are immutable and safe to share.
+ */
+final class JavaOnnxModel {
+
+    private final String outputName;
+    private final int slotCount;
+    private final Map<Integer, Matrix> constants;
+    private final List<Step> steps;
+    private final int inputSlot;
+    private final boolean inputAsMatrix;
+    private final int outputSlot;
+
+    private JavaOnnxModel(String outputName, int slotCount, Map<Integer, Matrix> constants,
+                          List<Step> steps, int inputSlot, boolean inputAsMatrix, int outputSlot) {
+        this.outputName = outputName;
+        this.slotCount = slotCount;
+        this.constants = constants;
+        this.steps = steps;
+        this.inputSlot = inputSlot;
+        this.inputAsMatrix = inputAsMatrix;
+        this.outputSlot = outputSlot;
+    }
+
+    /** Loads a regressor, scoring its first graph output. */
+    static JavaOnnxModel regressor(Path file) throws IOException {
+        OnnxGraph graph = OnnxModelReader.read(file);
+        return compile(graph, graph.outputs().get(0));
+    }
+
+    /**
+     * Loads a classifier, scoring the output whose name contains "prob" or else the last
+     * output — the same choice {@link MlPredictionService} makes for onnxruntime sessions.
+     */
+    static JavaOnnxModel classifier(Path file) throws IOException {
+        OnnxGraph graph = OnnxModelReader.read(file);
+        String chosen = null;
+        for (String name : graph.outputs()) {
+            chosen = name;
+            if (name.contains("prob")) break;
+        }
+        return compile(graph, chosen);
+    }
+
+    String outputName() {
+        return outputName;
+    }
+
+    /** Scores one feature row; returns the output row (one value for a regressor, class probabilities for a classifier). */
+    double[] score(float[] row) {
+        return run(row, 1, row.length).data;
+    }
+
+    /** Scores a batch of equally sized rows; returns one output row per input row. */
+    double[][] score(float[][] rows) {
+        if (rows.length == 0) return new double[0][];
+        int columns = rows[0].length;
+        float[] flat = new float[rows.length * columns];
+        for (int r = 0; r < rows.length; r++) {
+            System.arraycopy(rows[r], 0, flat, r * columns, columns);
+        }
+        Matrix out = run(flat, rows.length, columns);
+        int width = out.cols;
+        double[][] result = new double[rows.length][];
+        for (int r = 0; r < rows.length; r++) {
+            result[r] = new double[width];
+            System.arraycopy(out.data, r * width, result[r], 0, width);
+        }
+        return result;
+    }
+
+    private Matrix run(float[] x, int rows, int columns) {
+        Matrix[] slots = new Matrix[slotCount];
+        for (Map.Entry<Integer, Matrix> c : constants.entrySet()) {
+            slots[c.getKey()] = c.getValue();
+        }
+        if (inputAsMatrix) {
+            slots[inputSlot] = Matrix.input(x, rows, columns);
+        }
+        for (Step step : steps) {
+            step.apply(slots, x, rows, columns);
+        }
+        Matrix out = slots[outputSlot];
+        // A rank-1 output is one value per row
+        return out.rank < 2 ? out.reshape(out.data.length, 1) : out;
+    }
+
+    // ── Compilation ───────────────────────────────────────────────────────────
+
+    private static JavaOnnxModel compile(OnnxGraph graph, String target) {
+        if (graph.inputs().size() != 1) {
+            throw new UnsupportedOperationException("graphs with " + graph.inputs().size() + " inputs");
+        }
+        Map<String, OnnxGraph.Node> producers = new HashMap<>();
+        for (OnnxGraph.Node node : graph.nodes()) {
+            for (String out : node.outputs()) producers.put(out, node);
+        }
+
+        // Walk back from the target so label branches and ZipMap never need support
+        Set<OnnxGraph.Node> needed = new HashSet<>();
+        Deque<String> pending = new ArrayDeque<>(List.of(target));
+        while (!pending.isEmpty()) {
+            OnnxGraph.Node node = producers.get(pending.pop());
+            if (node != null && needed.add(node)) {
+                for (String in : node.inputs()) {
+                    if (!in.isEmpty()) pending.push(in);
+                }
+            }
+        }
+
+        Map<String, Integer> slotOf = new HashMap<>();
+        Map<Integer, Matrix> constants = new HashMap<>();
+        int inputSlot = slot(slotOf, graph.inputs().get(0));
+        for (Map.Entry<String, OnnxGraph.Tensor> init : graph.initializers().entrySet()) {
+            constants.put(slot(slotOf, init.getKey()), Matrix.of(init.getValue()));
+        }
+
+        List<Step> steps = new ArrayList<>();
+        boolean inputAsMatrix = false;
+        for (OnnxGraph.Node node : graph.nodes()) {
+            if (!needed.contains(node)) continue;
+            for (String in : node.inputs()) {
+                if (!in.isEmpty() && !slotOf.containsKey(in)) {
+                    throw new UnsupportedOperationException(node.opType() + " reads undefined value " + in);
+                }
+            }
+            int[] inputs = node.inputs().stream().filter(s -> !s.isEmpty()).mapToInt(slotOf::get).toArray();
+            if (TreeEnsemble.handles(node)) {
+                TreeEnsemble trees = TreeEnsemble.compile(node);
+                // Classifier output 0 is the label; only the scores (output 1) are produced
+                String scores = node.outputs().get("TreeEnsembleClassifier".equals(node.opType()) ? 1 : 0);
+                int out = slot(slotOf, scores);
+                int in = inputs[0];
+                // Trees fed straight from the graph input read the caller's floats without a copy
+                steps.add(in == inputSlot
+                        ? (slots, x, rows, cols) -> slots[out] = trees(trees, x, rows, cols)
+                        : (slots, x, rows, cols) -> slots[out] = trees(trees, slots[in]));
+            } else {
+                Op op = op(node, graph.initializers());
+                int out = slot(slotOf, node.outputs().get(0));
+                for (int in : inputs) inputAsMatrix |= in == inputSlot;
+                steps.add((slots, x, rows, cols) -> {
+                    Matrix[] args = new Matrix[inputs.length];
+                    for (int i = 0; i < inputs.length; i++) args[i] = slots[inputs[i]];
+                    slots[out] = op.apply(args);
+                });
+            }
+        }
+        Integer outputSlot = slotOf.get(target);
+        if (outputSlot == null) {
+            throw new IllegalArgumentException("Graph output " + target + " is never produced");
+        }
+        return new JavaOnnxModel(target, slotOf.size(), Map.copyOf(constants),
+                List.copyOf(steps), inputSlot, inputAsMatrix, outputSlot);
+    }
+
+    private static int slot(Map<String, Integer> slots, String name) {
+        return slots.computeIfAbsent(name, n -> slots.size());
+    }
+
+    private static Matrix trees(TreeEnsemble trees, Matrix x) {
+        float[] features = new float[x.data.length];
+        for (int i = 0; i < features.length; i++) features[i] = (float) x.data[i];
+        return trees(trees, features, x.rows, x.cols);
+    }
+
+    private static Matrix trees(TreeEnsemble trees, float[] x, int rows, int cols) {
+        return new Matrix(2, rows, trees.width(), trees.evaluate(x, rows, cols));
+    }
+
+    private static Op op(OnnxGraph.Node node, Map<String, OnnxGraph.Tensor> initializers) {
+        if (!node.domain().isEmpty() && !"ai.onnx".equals(node.domain())) {
+            if ("ai.onnx.ml".equals(node.domain())) {
+                switch (node.opType()) {
+                    case "ArrayFeatureExtractor": return args -> args[0].columns(args[1]);
+                    case "Normalizer": {
+                        String norm = node.stringOr("norm", "MAX");
+                        return args -> args[0].normalize(norm);
+                    }
+                    default: break;
+                }
+            }
+            throw new UnsupportedOperationException(node.domain() + "." + node.opType());
+        }
+        return switch (node.opType()) {
+            case "Identity" -> args -> args[0];
+            case "Cast" -> {
+                long to = node.intOr("to", 1);
+                if (to != 1 && to != 11) throw new UnsupportedOperationException("Cast to type " + to);
+                yield args -> args[0];
+            }
+            case "Add" -> args -> Matrix.broadcast(args[0], args[1], Double::sum);
+            case "Sub" -> args -> Matrix.broadcast(args[0], args[1], (a, b) -> a - b);
+            case "Mul" -> args -> Matrix.broadcast(args[0], args[1], (a, b) -> a * b);
+            case "Div" -> args -> Matrix.broadcast(args[0], args[1], (a, b) -> a / b);
+            case "Sum" -> args -> {
+                Matrix acc = args[0];
+                for (int i = 1; i < args.length; i++) acc = Matrix.broadcast(acc, args[i], Double::sum);
+                return acc;
+            };
+            case "Neg" -> args -> args[0].map(v -> -v);
+            case "Abs" -> args -> args[0].map(Math::abs);
+            case "Exp" -> args -> args[0].map(Math::exp);
+            case "Log" -> args -> args[0].map(Math::log);
+            case "Sqrt" -> args -> args[0].map(Math::sqrt);
+            case "Reciprocal" -> args -> args[0].map(v -> 1.0 / v);
+            case "Sigmoid" -> args -> args[0].map(TreeEnsemble::logistic);
+            case "MatMul" -> args -> args[0].matmul(args[1]);
+            case "Softmax" -> {
+                long axis = node.intOr("axis", -1);
+                if (axis != -1 && axis != 1) throw new UnsupportedOperationException("Softmax over axis " + axis);
+                yield args -> args[0].softmax();
+            }
+            case "Concat" -> {
+                long axis = node.intOr("axis", 1);
+                yield args -> Matrix.concat(args, axis);
+            }
+            case "Reshape" -> {
+                OnnxGraph.Tensor shape = initializers.get(node.inputs().get(1));
+                if (shape == null) throw new UnsupportedOperationException("Reshape to a computed shape");
+                long[] dims = new long[shape.values().length];
+                for (int i = 0; i < dims.length; i++) dims[i] = (long) shape.values()[i];
+                yield args -> args[0].reshape(dims);
+            }
+            default -> throw new UnsupportedOperationException(node.opType());
+        };
+    }
+
+    @FunctionalInterface
+    private interface Step {
+        void apply(Matrix[] slots, float[] input, int rows, int cols);
+    }
+
+    @FunctionalInterface
+    private interface Op {
+        Matrix apply(Matrix[] args);
+    }
+
+    // ── Values ────────────────────────────────────────────────────────────────
+
+    /** A rank 0–2 tensor stored as rows × cols; rank 1 is a single row, rank 0 is 1 × 1. */
+    private record Matrix(int rank, int rows, int cols, double[] data) {
+
+        static Matrix input(float[] x, int rows, int cols) {
+            double[] data = new double[rows * cols];
+            for (int i = 0; i < data.length; i++) data[i] = x[i];
+            return new Matrix(2, rows, cols, data);
+        }
+
+        static Matrix of(OnnxGraph.Tensor t) {
+            long[] dims = t.dims();
+            return switch (t.rank()) {
+                case 0 -> new Matrix(0, 1, 1, t.values());
+                case 1 -> new Matrix(1, 1, (int) dims[0], t.values());
+                case 2 -> new Matrix(2, (int) dims[0], (int) dims[1], t.values());
+                default -> throw new UnsupportedOperationException("rank-" + t.rank() + " initializer");
+            };
+        }
+
+        double at(int r, int c) {
+            return data[(rows == 1 ? 0 : r) * cols + (cols == 1 ? 0 : c)];
+        }
+
+        Matrix map(DoubleUnaryOperator f) {
+            double[] out = new double[data.length];
+            for (int i = 0; i < out.length; i++) out[i] = f.applyAsDouble(data[i]);
+            return new Matrix(rank, rows, cols, out);
+        }
+
+        static Matrix broadcast(Matrix a, Matrix b, DoubleBinaryOperator f) {
+            int rows = Math.max(a.rows, b.rows);
+            int cols = Math.max(a.cols, b.cols);
+            if ((a.rows != rows && a.rows != 1) || (b.rows != rows && b.rows != 1)
+                    || (a.cols != cols && a.cols != 1) || (b.cols != cols && b.cols != 1)) {
+                throw new IllegalArgumentException("Cannot broadcast " + a.rows + "x" + a.cols
+                        + " with " + b.rows + "x" + b.cols);
+            }
+            double[] out = new double[rows * cols];
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    out[r * cols + c] = f.applyAsDouble(a.at(r, c), b.at(r, c));
+                }
+            }
+            return new Matrix(Math.max(a.rank, b.rank), rows, cols, out);
+        }
+
+        Matrix matmul(Matrix w) {
+            int k = cols;
+            int wRows = w.rank == 1 ? w.cols : w.rows;
+            int wCols = w.rank == 1 ? 1 : w.cols;
+            if (wRows != k) {
+                throw new IllegalArgumentException("MatMul of " + rows + "x" + k + " by " + wRows + "x" + wCols);
+            }
+            double[] out = new double[rows * wCols];
+            for (int r = 0; r < rows; r++) {
+                for (int i = 0; i < k; i++) {
+                    double v = data[r * k + i];
+                    if (v == 0) continue;
+                    for (int c = 0; c < wCols; c++) out[r * wCols + c] += v * w.data[i * wCols + c];
+                }
+            }
+            return w.rank == 1 ? new Matrix(rank - 1, 1, rows, out) : new Matrix(rank, rows, wCols, out);
+        }
+
+        Matrix softmax() {
+            double[] out = data.clone();
+            for (int r = 0; r < rows; r++) {
+                double max = Double.NEGATIVE_INFINITY;
+                for (int c = 0; c < cols; c++) max = Math.max(max, out[r * cols + c]);
+                double sum = 0;
+                for (int c = 0; c < cols; c++) sum += out[r * cols + c] = Math.exp(out[r * cols + c] - max);
+                for (int c = 0; c < cols; c++) out[r * cols + c] /= sum;
+            }
+            return new Matrix(rank, rows, cols, out);
+        }
+
+        Matrix normalize(String norm) {
+            double[] out = data.clone();
+            for (int r = 0; r < rows; r++) {
+                double scale = 0;
+                for (int c = 0; c < cols; c++) {
+                    double v = out[r * cols + c];
+                    scale = switch (norm) {
+                        case "L1" -> scale + Math.abs(v);
+                        case "L2" -> scale + v * v;
+                        default -> Math.max(scale, v);
+                    };
+                }
+                if ("L2".equals(norm)) scale = Math.sqrt(scale);
+                if (scale == 0) continue;
+                for (int c = 0; c < cols; c++) out[r * cols + c] /= scale;
+            }
+            return new Matrix(rank, rows, cols, out);
+        }
+
+        /** ArrayFeatureExtractor: picks columns along the last axis. */
+        Matrix columns(Matrix indices) {
+            int n = indices.data.length;
+            double[] out = new double[rows * n];
+            for (int r = 0; r < rows; r++) {
+                for (int i = 0; i < n; i++) out[r * n + i] = data[r * cols + (int) indices.data[i]];
+            }
+            return new Matrix(rank == 0 ? 1 : rank, rows, n, out);
+        }
+
+        static Matrix concat(Matrix[] parts, long axis) {
+            int rank = parts[0].rank;
+            boolean lastAxis = axis == -1 || axis == rank - 1;
+            if (!lastAxis) {
+                throw new UnsupportedOperationException("Concat over axis " + axis);
+            }
+            int rows = parts[0].rows;
+            int cols = 0;
+            for (Matrix p : parts) cols += p.cols;
+            double[] out = new double[rows * cols];
+            for (int r = 0; r < rows; r++) {
+                int at = r * cols;
+                for (Matrix p : parts) {
+                    System.arraycopy(p.data, r * p.cols, out, at, p.cols);
+                    at += p.cols;
+                }
+            }
+            return new Matrix(rank, rows, cols, out);
+        }
+
+        Matrix reshape(long... dims) {
+            long[] resolved = dims.clone();
+            int free = -1;
+            long known = 1;
+            int[] current = rank == 2 ? new int[] {rows, cols} : rank == 1 ? new int[] {cols} : new int[0];
+            for (int i = 0; i < resolved.length; i++) {
+                if (resolved[i] == 0 && i < current.length) resolved[i] = current[i];
+                if (resolved[i] == -1) free = i;
+                else known *= resolved[i];
+            }
+            if (free >= 0) resolved[free] = data.length / known;
+            return switch (resolved.length) {
+                case 0 -> new Matrix(0, 1, 1, data);
+                case 1 -> new Matrix(1, 1, (int) resolved[0], data);
+                case 2 -> new Matrix(2, (int) resolved[0], (int) resolved[1], data);
+                default -> throw new UnsupportedOperationException("Reshape to rank " + resolved.length);
+            };
+        }
+    }
+}
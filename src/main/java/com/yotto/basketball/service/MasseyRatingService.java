@@ -30,6 +30,15 @@ import java.util.stream.Stream;
  * <p>Both systems share a single pass over game data with independent cumulative
  * accumulators (A, b) and (At, bt). The normal-equations matrix for each system
  * is maintained as a rank-2 outer-product update per game.
+ *
+ * <p>The spread model also stores each rating's standard error and α's (param
+ * {@code hca_se}), from the diagonal of (A + λD)⁻¹ — see {@link #fit} — and, for every
+ * game a snapshot will predict, the spread's standard error with the two ratings'
+ * covariance included ({@link MasseySpreadErrorStore}).
+ *
+ * <p>With {@code app.rating-prior.enabled}, both systems also pull each team toward
+ * its shrunk previous-season rating ({@link RatingPrior}), with the weight of a few
+ * games, instead of only toward zero.
  */
 @Service
 public class MasseyRatingService {
@@ -38,21 +47,30 @@ public class MasseyRatingService {
 
     public static final String MODEL_TYPE        = "MASSEY";
     public static final String MODEL_TYPE_TOTALS = "MASSEY_TOTALS";
-    private static final double LAMBDA = 1.0;
+    static final double LAMBDA = 1.0;
 
     private final SeasonGameDataLoader seasonGameDataLoader;
     private final TeamPowerRatingSnapshotRepository ratingRepository;
     private final PowerModelParamSnapshotRepository paramRepository;
     private final SnapshotJdbcWriter snapshotJdbcWriter;
+    private final PipelineMetrics pipelineMetrics;
+    private final RatingPriorLoader ratingPriorLoader;
+    private final MasseySpreadErrorStore spreadErrorStore;
 
     public MasseyRatingService(SeasonGameDataLoader seasonGameDataLoader,
                                TeamPowerRatingSnapshotRepository ratingRepository,
                                PowerModelParamSnapshotRepository paramRepository,
-                               SnapshotJdbcWriter snapshotJdbcWriter) {
+                               SnapshotJdbcWriter snapshotJdbcWriter,
+                               PipelineMetrics pipelineMetrics,
+                               RatingPriorLoader ratingPriorLoader,
+                               MasseySpreadErrorStore spreadErrorStore) {
         this.seasonGameDataLoader = seasonGameDataLoader;
         this.ratingRepository = ratingRepository;
         this.paramRepository = paramRepository;
         this.snapshotJdbcWriter = snapshotJdbcWriter;
+        this.pipelineMetrics = pipelineMetrics;
+        this.ratingPriorLoader = ratingPriorLoader;
+        this.spreadErrorStore = spreadErrorStore;
     }
 
     @Transactional
@@ -79,6 +97,8 @@ public class MasseyRatingService {
         log.info("Calculating Massey ratings for season {}{}", seasonYear,
                 fromDate != null ? " from " + fromDate : "");
         long startMs = System.currentTimeMillis();
+        PipelineMetrics.Run run = pipelineMetrics.start(MODEL_TYPE, seasonYear);
+        long t = System.nanoTime();
 
         if (fromDate == null) {
             ratingRepository.deleteBySeasonIdAndModelType(season.getId(), MODEL_TYPE);
@@ -91,11 +111,14 @@ public class MasseyRatingService {
             paramRepository.deleteBySeasonIdAndModelTypeFromDate(season.getId(), MODEL_TYPE, fromDate);
             paramRepository.deleteBySeasonIdAndModelTypeFromDate(season.getId(), MODEL_TYPE_TOTALS, fromDate);
         }
+        spreadErrorStore.deleteForSeason(season.getId(), fromDate);
+        t = run.lap(PipelineMetrics.WRITE, t);
 
         List<Game> finalGames = data.finalGames();
 
         if (finalGames.isEmpty()) {
             log.info("No final games for season {}, skipping", seasonYear);
+            run.finish();
             return;
         }
 
@@ -112,25 +135,34 @@ public class MasseyRatingService {
         int size  = T + 1; // spread: T team columns + 1 HCA column
         int size2 = T + 2; // totals: T team columns + 1 intercept column + 1 HCA column
 
+        // Previous-season priors (null when disabled); a game adds 1 to each team's diagonal
+        RatingPrior prior  = ratingPriorLoader.load(season, MODEL_TYPE, teamIds, 1.0);
+        RatingPrior priorT = ratingPriorLoader.load(season, MODEL_TYPE_TOTALS, teamIds, 1.0);
+
         // Cumulative normal equations accumulators — spread system
         double[][] A  = new double[size][size];
         double[]   b  = new double[size];
+        double sumSquares = 0; // Σ margin², for the residual variance
+        int games = 0;
         // Cumulative normal equations accumulators — totals system
         double[][] At = new double[size2][size2];
         double[]   bt = new double[size2];
         Map<Long, Integer> gamesPlayedByTeam = new HashMap<>();
 
         Map<LocalDate, List<Game>> gamesByDate = data.gamesByDate();
+        List<LocalDate> dates = List.copyOf(gamesByDate.keySet());
+        List<MasseySpreadErrorStore.Matchup> unfinished = spreadErrorStore.unfinishedGames(season.getId());
 
         List<TeamPowerRatingSnapshot> allRatings = new ArrayList<>();
         List<PowerModelParamSnapshot> allParams  = new ArrayList<>();
+        List<MasseySpreadErrorStore.Row> spreadErrors = new ArrayList<>();
         LocalDateTime now = LocalDateTime.now();
 
-        for (Map.Entry<LocalDate, List<Game>> entry : gamesByDate.entrySet()) {
-            LocalDate date = entry.getKey();
+        for (int d = 0; d < dates.size(); d++) {
+            LocalDate date = dates.get(d);
 
             // Outer-product updates to both accumulators for each new game
-            for (Game game : entry.getValue()) {
+            for (Game game : gamesByDate.get(date)) {
                 int hi     = teamIndex.get(game.getHomeTeam().getId());
                 int ai     = teamIndex.get(game.getAwayTeam().getId());
                 int hca    = Boolean.TRUE.equals(game.getNeutralSite()) ? 0 : 1;
@@ -150,6 +182,8 @@ public class MasseyRatingService {
                 b[hi] += margin;
                 b[ai] -= margin;
                 b[T]  += hca * margin;
+                sumSquares += (double) margin * margin;
+                games++;
 
                 // ── Totals system: x = e_hi + e_ai + e_T + hca·e_{T+1}  →  At += x·xᵀ ──
                 // Column T  = intercept (always 1 for every game)
@@ -178,59 +212,119 @@ public class MasseyRatingService {
                 gamesPlayedByTeam.merge(game.getAwayTeam().getId(), 1, Integer::sum);
             }
 
+            t = run.lap(PipelineMetrics.ACCUMULATE, t);
+
             // Before the watermark, nothing is persisted for this date — the solve
             // exists only to emit snapshots, so skip it.
             if (fromDate != null && date.isBefore(fromDate)) {
                 continue;
             }
+            PipelineJfrEvents.CalculationDate dateEvent = new PipelineJfrEvents.CalculationDate();
+            dateEvent.begin();
+            int rowsBefore = allRatings.size() + allParams.size();
 
             // ── Spread model ──────────────────────────────────────────────────────
-            double[] solution = solve(A, b, T, size);
+            Fit fit = fit(A, b, sumSquares, games, T, size, prior, () -> run.solverFallback(MODEL_TYPE));
+            double[] solution = fit.x();
+            t = run.lap(PipelineMetrics.SOLVE, t);
             if (solution != null) {
                 double alpha = solution[T];
                 addTeamSnapshots(allRatings, ratedTeamsFor(teamIds, teamIndex, gamesPlayedByTeam, solution),
-                        teamsById, season, MODEL_TYPE, date, gamesPlayedByTeam, now);
+                        teamsById, season, MODEL_TYPE, date, gamesPlayedByTeam, now, fit);
                 allParams.add(paramSnap(season, MODEL_TYPE, date, "hca", alpha, now));
+                // α is unidentified (only the stability nudge) until a non-neutral game
+                Double alphaStdError = A[T][T] > 0 ? fit.stdError(T) : null;
+                if (alphaStdError != null) {
+                    allParams.add(paramSnap(season, MODEL_TYPE, date, "hca_se", alphaStdError, now));
+                }
+                addSpreadErrors(spreadErrors, fit, alphaStdError != null, season, date,
+                        d + 1 < dates.size() ? dates.get(d + 1) : null, gamesByDate, unfinished, teamIndex,
+                        gamesPlayedByTeam);
             }
 
             // ── Totals model ──────────────────────────────────────────────────────
-            double[] solutionT = solve(At, bt, T, size2);
+            t = run.lap(PipelineMetrics.SNAPSHOT_BUILD, t);
+            double[] solutionT = solve(At, bt, T, size2, LAMBDA, priorT, () -> run.solverFallback(MODEL_TYPE_TOTALS));
+            t = run.lap(PipelineMetrics.SOLVE, t);
             if (solutionT != null) {
                 double gamma = solutionT[T];    // intercept: baseline total score
                 double delta = solutionT[T + 1]; // HCA: extra points in non-neutral games
                 addTeamSnapshots(allRatings, ratedTeamsFor(teamIds, teamIndex, gamesPlayedByTeam, solutionT),
-                        teamsById, season, MODEL_TYPE_TOTALS, date, gamesPlayedByTeam, now);
+                        teamsById, season, MODEL_TYPE_TOTALS, date, gamesPlayedByTeam, now, null);
                 allParams.add(paramSnap(season, MODEL_TYPE_TOTALS, date, "intercept", gamma, now));
                 allParams.add(paramSnap(season, MODEL_TYPE_TOTALS, date, "hca_total", delta, now));
             }
+            t = run.lap(PipelineMetrics.SNAPSHOT_BUILD, t);
+            dateEvent.finish(seasonYear, MODEL_TYPE, date, allRatings.size() + allParams.size() - rowsBefore);
         }
 
         long saveStartMs = System.currentTimeMillis();
         snapshotJdbcWriter.writeTeamPowerRatingSnapshots(allRatings);
         snapshotJdbcWriter.writePowerModelParamSnapshots(allParams);
+        spreadErrorStore.write(spreadErrors);
+        run.lap(PipelineMetrics.WRITE, t);
+        run.rows(allRatings.size() + allParams.size() + spreadErrors.size());
+        run.finish();
 
         long now2 = System.currentTimeMillis();
         log.info("Massey ratings complete for season {} — {} snapshots across {} dates in {} ms (save {} ms)",
                 seasonYear, allRatings.size(), gamesByDate.size(), now2 - startMs, now2 - saveStartMs);
     }
 
-    /** Builds a sorted list of (teamId, ratingBits) for teams that have played at least one game. */
+    /**
+     * Adds the spread standard error, covariance included, of every game whose prediction
+     * will read {@code date}'s snapshot: the games strictly after it up to and including
+     * {@code next} (the next date with results; every later game when null), final or not.
+     * Games involving a team with no rating yet get none, as they get no Massey prediction.
+     * Until {@code alphaIdentified}, α is only the stability nudge and, as with
+     * {@code hca_se}, its variance is left out.
+     */
+    private static void addSpreadErrors(List<MasseySpreadErrorStore.Row> out, Fit fit, boolean alphaIdentified,
+                                        Season season, LocalDate date, LocalDate next,
+                                        Map<LocalDate, List<Game>> gamesByDate,
+                                        List<MasseySpreadErrorStore.Matchup> unfinished,
+                                        Map<Long, Integer> teamIndex, Map<Long, Integer> gamesPlayed) {
+        if (fit.factor() == null || Double.isNaN(fit.sigma2())) return;
+        List<MasseySpreadErrorStore.Matchup> window = new ArrayList<>();
+        if (next != null) {
+            for (Game g : gamesByDate.get(next)) {
+                window.add(new MasseySpreadErrorStore.Matchup(g.getId(), g.getHomeTeam().getId(),
+                        g.getAwayTeam().getId(), next, Boolean.TRUE.equals(g.getNeutralSite())));
+            }
+        }
+        for (MasseySpreadErrorStore.Matchup m : unfinished) {
+            if (m.gameDate().isAfter(date) && (next == null || !m.gameDate().isAfter(next))) window.add(m);
+        }
+        for (MasseySpreadErrorStore.Matchup m : window) {
+            Integer h = teamIndex.get(m.homeTeamId()), a = teamIndex.get(m.awayTeamId());
+            if (h == null || a == null || gamesPlayed.getOrDefault(m.homeTeamId(), 0) == 0
+                    || gamesPlayed.getOrDefault(m.awayTeamId(), 0) == 0) {
+                continue;
+            }
+            out.add(new MasseySpreadErrorStore.Row(m.gameId(), season.getId(), date, m.neutralSite(),
+                    Math.sqrt(fit.spreadVariance(h, a, m.neutralSite() || !alphaIdentified))));
+        }
+    }
+
+    /** Builds a sorted list of (teamId, ratingBits, index) for teams that have played at least one game. */
     private static List<long[]> ratedTeamsFor(List<Long> teamIds, Map<Long, Integer> teamIndex,
                                                Map<Long, Integer> gamesPlayed, double[] solution) {
         List<long[]> rated = new ArrayList<>();
         for (Long teamId : teamIds) {
             if (gamesPlayed.getOrDefault(teamId, 0) > 0) {
-                rated.add(new long[]{teamId, Double.doubleToLongBits(solution[teamIndex.get(teamId)])});
+                int i = teamIndex.get(teamId);
+                rated.add(new long[]{teamId, Double.doubleToLongBits(solution[i]), i});
             }
         }
         rated.sort((x, y) -> Double.compare(Double.longBitsToDouble(y[1]), Double.longBitsToDouble(x[1])));
         return rated;
     }
 
-    /** Appends TeamPowerRatingSnapshot records to the accumulator list. */
+    /** Appends TeamPowerRatingSnapshot records to the accumulator list; {@code fit} supplies standard errors when non-null. */
     private static void addTeamSnapshots(List<TeamPowerRatingSnapshot> allRatings, List<long[]> rated,
                                           Map<Long, Team> teamsById, Season season, String modelType,
-                                          LocalDate date, Map<Long, Integer> gamesPlayed, LocalDateTime now) {
+                                          LocalDate date, Map<Long, Integer> gamesPlayed, LocalDateTime now,
+                                          Fit fit) {
         for (int rank = 0; rank < rated.size(); rank++) {
             Long teamId = rated.get(rank)[0];
             TeamPowerRatingSnapshot snap = new TeamPowerRatingSnapshot();
@@ -239,6 +333,7 @@ public class MasseyRatingService {
             snap.setModelType(modelType);
             snap.setSnapshotDate(date);
             snap.setRating(Double.longBitsToDouble(rated.get(rank)[1]));
+            if (fit != null) snap.setRatingStdError(fit.stdError((int) rated.get(rank)[2]));
             snap.setRank(rank + 1);
             snap.setGamesPlayed(gamesPlayed.getOrDefault(teamId, 0));
             snap.setCalculatedAt(now);
@@ -264,19 +359,33 @@ public class MasseyRatingService {
      * Deep-copies A before adding regularization to preserve the accumulator.
      * Falls back from Cholesky to LU if the matrix is not positive definite.
      * Adds a small stability nudge to all non-team-rating diagonal entries.
+     * Package-private for the JMH benchmarks.
      */
-    private double[] solve(double[][] A, double[] b, int T, int size) {
-        double[][] Areg = new double[size][size];
-        for (int i = 0; i < size; i++) Areg[i] = Arrays.copyOf(A[i], size);
-        for (int j = 0; j < T; j++) Areg[j][j] += LAMBDA;
-        // Stability nudge on all non-team-rating (unpenalized) diagonal entries
-        for (int j = T; j < size; j++) Areg[j][j] += 1e-6;
+    static double[] solve(double[][] A, double[] b, int T, int size) {
+        return solve(A, b, T, size, () -> {});
+    }
 
-        RealMatrix mat = new Array2DRowRealMatrix(Areg, false);
-        RealVector rhs = new ArrayRealVector(b, true);
+    /** As {@link #solve(double[][], double[], int, int)}, running {@code onLuFallback} if Cholesky fails. */
+    static double[] solve(double[][] A, double[] b, int T, int size, Runnable onLuFallback) {
+        return solve(A, b, T, size, LAMBDA, onLuFallback);
+    }
+
+    /** As {@link #solve(double[][], double[], int, int, Runnable)} with λ = {@code lambda} (backtests). */
+    static double[] solve(double[][] A, double[] b, int T, int size, double lambda, Runnable onLuFallback) {
+        return solve(A, b, T, size, lambda, null, onLuFallback);
+    }
+
+    /** As above, adding {@code prior}'s penalty when non-null. */
+    static double[] solve(double[][] A, double[] b, int T, int size, double lambda, RatingPrior prior,
+                          Runnable onLuFallback) {
+        double[][] M = regularized(A, T, size, lambda);
+        if (prior != null) prior.addTo(M);
+        RealMatrix mat = new Array2DRowRealMatrix(M, false);
+        RealVector rhs = new ArrayRealVector(prior != null ? prior.rhs(b) : b, true);
         try {
             return new CholeskyDecomposition(mat).getSolver().solve(rhs).toArray();
         } catch (Exception e) {
+            onLuFallback.run();
             try {
                 return new LUDecomposition(mat).getSolver().solve(rhs).toArray();
             } catch (Exception e2) {
@@ -285,4 +394,234 @@ public class MasseyRatingService {
             }
         }
     }
+
+    /**
+     * A spread solve with its uncertainty. Reading the ridge penalty as a Gaussian prior
+     * on the ratings, their covariance is σ²·(A + λD)⁻¹, with σ² the residual variance
+     * over the fit's effective degrees of freedom. {@code factor} is the lower Cholesky
+     * factor of A + λD; it and {@code inverseDiagonal} are null (and σ² NaN) when the
+     * solve fell back to LU, and σ² is NaN until there are more games than effective
+     * parameters.
+     */
+    record Fit(double[] x, double[][] factor, double[] inverseDiagonal, double sigma2) {
+
+        /** Standard error of {@code x[j]}, or null when unavailable. */
+        Double stdError(int j) {
+            if (inverseDiagonal == null || Double.isNaN(sigma2)) return null;
+            return Math.sqrt(sigma2 * inverseDiagonal[j]);
+        }
+
+        /**
+         * Variance of the predicted spread x_h − x_a + α (α only off a neutral site), with
+         * the ratings' covariance included: σ²·‖L⁻¹c‖² for c = e_h − e_a + e_T. One forward
+         * solve whose right-hand side is the two team columns (and the HCA column), starting
+         * at the first of them. NaN when unavailable.
+         */
+        double spreadVariance(int h, int a, boolean neutral) {
+            if (factor == null || Double.isNaN(sigma2)) return Double.NaN;
+            int size = factor.length, T = size - 1, first = Math.min(h, a);
+            double[] z = new double[size];
+            z[h] = 1;
+            z[a] = -1;
+            if (!neutral) z[T] = 1;
+            double sum = 0;
+            for (int i = first; i < size; i++) {
+                double[] row = factor[i];
+                double s = z[i];
+                for (int k = first; k < i; k++) s -= row[k] * z[k];
+                z[i] = s / row[i];
+                sum += z[i] * z[i];
+            }
+            return sigma2 * sum;
+        }
+    }
+
+    /**
+     * As {@link #solve(double[][], double[], int, int, Runnable)}, also returning the
+     * ratings' standard errors. {@code sumSquares} is Σ margin² and {@code games} the
+     * number of rows accumulated into A and b. The diagonal of (A + λD)⁻¹ comes from the
+     * Cholesky factor by selected inversion ({@link #inverseDiagonal}).
+     */
+    static Fit fit(double[][] A, double[] b, double sumSquares, int games, int T, int size, Runnable onLuFallback) {
+        return fit(A, b, sumSquares, games, T, size, null, onLuFallback);
+    }
+
+    /** As above, adding {@code prior}'s penalty when non-null; its weights count toward each penalty_j. */
+    static Fit fit(double[][] A, double[] b, double sumSquares, int games, int T, int size, RatingPrior prior,
+                   Runnable onLuFallback) {
+        double[][] L = regularized(A, T, size);
+        if (prior != null) prior.addTo(L);
+        if (!cholesky(L)) {
+            return new Fit(solve(A, b, T, size, LAMBDA, prior, onLuFallback), null, null, Double.NaN);
+        }
+        double[] x = choleskySolve(L, prior != null ? prior.rhs(b) : b);
+        double[] inverseDiagonal = inverseDiagonal(L);
+
+        // Effective parameters: trace of the hat matrix, Σ_j (1 − penalty_j·[(A + λD)⁻¹]_jj)
+        double df = 0;
+        for (int j = 0; j < size; j++) {
+            double penalty = j < T ? LAMBDA + (prior != null ? prior.weight()[j] : 0) : 1e-6;
+            df += 1 - penalty * inverseDiagonal[j];
+        }
+        double rss = sumSquares;
+        for (int i = 0; i < size; i++) {
+            double Ax = 0;
+            for (int j = 0; j < size; j++) Ax += A[i][j] * x[j];
+            rss += x[i] * (Ax - 2 * b[i]);
+        }
+        double sigma2 = games - df >= 1 ? Math.max(rss, 0) / (games - df) : Double.NaN;
+        return new Fit(x, L, inverseDiagonal, sigma2);
+    }
+
+    /**
+     * In-place lower Cholesky factorization of the symmetric matrix M (upper triangle left
+     * as is); false if a pivot falls below commons-math's positivity threshold.
+     */
+    static boolean cholesky(double[][] M) {
+        int n = M.length;
+        for (int j = 0; j < n; j++) {
+            double[] rj = M[j];
+            double d = rj[j];
+            for (int k = 0; k < j; k++) d -= rj[k] * rj[k];
+            if (d <= 1e-10) return false;
+            rj[j] = Math.sqrt(d);
+            for (int i = j + 1; i < n; i++) {
+                double[] ri = M[i];
+                double s = ri[j];
+                for (int k = 0; k < j; k++) s -= ri[k] * rj[k];
+                ri[j] = s / rj[j];
+            }
+        }
+        return true;
+    }
+
+    /** Solves L·Lᵀ·x = b for a factor from {@link #cholesky}. */
+    static double[] choleskySolve(double[][] L, double[] b) {
+        int n = L.length;
+        double[] y = b.clone();
+        for (int i = 0; i < n; i++) {
+            double[] ri = L[i];
+            double s = y[i];
+            for (int k = 0; k < i; k++) s -= ri[k] * y[k];
+            y[i] = s / ri[i];
+        }
+        // Lᵀ·x = y, column-oriented so the factor is still read by rows
+        for (int i = n - 1; i >= 0; i--) {
+            double[] ri = L[i];
+            y[i] /= ri[i];
+            for (int k = 0; k < i; k++) y[k] -= ri[k] * y[i];
+        }
+        return y;
+    }
+
+    /**
+     * diag((L·Lᵀ)⁻¹) by selected inversion (Takahashi's recurrence) on a factor from
+     * {@link #cholesky}. Z = (L·Lᵀ)⁻¹ is filled in from the last column back, but only
+     * where L is structurally non-zero and on the diagonal:
+     * {@code Z_ij = −Σ_k L_kj·Z_ik / L_jj} and {@code Z_jj = (1/L_jj − Σ_k L_kj·Z_kj) / L_jj},
+     * k running over column j's pattern below the diagonal ({@link #factorPattern}). That
+     * pattern is closed under the recurrence, so no other entry of Z is ever needed and
+     * L⁻¹ is never formed. The work is Σ_j nnz(L_j)²: a fraction of a factorization while
+     * the early-season schedule keeps L sparse, about two once fill-in makes it dense.
+     */
+    static double[] inverseDiagonal(double[][] L) {
+        int n = L.length;
+        int[][] pattern = factorPattern(L);
+        double[][] Z = new double[n][];
+        for (int i = 0; i < n; i++) Z[i] = new double[i + 1];
+        double[] diag = new double[n], lj = new double[n], sums = new double[n];
+        for (int j = n - 1; j >= 0; j--) {
+            int[] rows = pattern[j];
+            int m = rows.length;
+            double ljj = L[j][j];
+            for (int p = 0; p < m; p++) {
+                lj[p] = L[rows[p]][j];
+                sums[p] = 0;
+            }
+            // Σ_k L_kj·Z_ik for every i at once, reading only Z's lower triangle by rows;
+            // once fill-in has made the pattern a contiguous run, without the indirection
+            boolean contiguous = m == 0 || rows[m - 1] - rows[0] == m - 1;
+            for (int p = 0; p < m; p++) {
+                double[] zi = Z[rows[p]];
+                double s = 0, lp = lj[p];
+                if (contiguous) {
+                    int first = rows[0];
+                    for (int q = 0; q < p; q++) {
+                        double z = zi[first + q];
+                        s += lj[q] * z;
+                        sums[q] += lp * z;
+                    }
+                } else {
+                    for (int q = 0; q < p; q++) {
+                        double z = zi[rows[q]];
+                        s += lj[q] * z;
+                        sums[q] += lp * z;
+                    }
+                }
+                sums[p] += s + lp * zi[rows[p]];
+            }
+            double s = 0;
+            for (int p = 0; p < m; p++) {
+                double zij = -sums[p] / ljj;
+                Z[rows[p]][j] = zij;
+                s += lj[p] * zij;
+            }
+            diag[j] = Z[j][j] = (1 / ljj - s) / ljj;
+        }
+        return diag;
+    }
+
+    /**
+     * Rows below the diagonal, ascending, where each column of the Cholesky factor can be
+     * non-zero: column j's entries of the factorized matrix (still in the upper triangle
+     * {@link #cholesky} leaves as is) plus its elimination-tree children's patterns. This
+     * is the structural pattern, so an entry that cancels to exactly zero stays in it.
+     */
+    static int[][] factorPattern(double[][] L) {
+        int n = L.length;
+        int[][] pattern = new int[n][];
+        int[] mark = new int[n], childHead = new int[n], nextChild = new int[n], buffer = new int[n];
+        Arrays.fill(mark, -1);
+        Arrays.fill(childHead, -1);
+        for (int j = 0; j < n; j++) {
+            int count = 0;
+            double[] rj = L[j];
+            for (int i = j + 1; i < n; i++) {
+                if (rj[i] != 0) {
+                    mark[i] = j;
+                    buffer[count++] = i;
+                }
+            }
+            for (int c = childHead[j]; c >= 0; c = nextChild[c]) {
+                for (int i : pattern[c]) {
+                    if (i != j && mark[i] != j) {
+                        mark[i] = j;
+                        buffer[count++] = i;
+                    }
+                }
+            }
+            int[] rows = Arrays.copyOf(buffer, count);
+            Arrays.sort(rows);
+            pattern[j] = rows;
+            if (count > 0) {
+                nextChild[j] = childHead[rows[0]];
+                childHead[rows[0]] = j;
+            }
+        }
+        return pattern;
+    }
+
+    /** A copy of A + λD with the stability nudge: the matrix {@link #solve} factorizes. */
+    static double[][] regularized(double[][] A, int T, int size) {
+        return regularized(A, T, size, LAMBDA);
+    }
+
+    static double[][] regularized(double[][] A, int T, int size, double lambda) {
+        double[][] Areg = new double[size][size];
+        for (int i = 0; i < size; i++) Areg[i] = Arrays.copyOf(A[i], size);
+        for (int j = 0; j < T; j++) Areg[j][j] += lambda;
+        // Stability nudge on all non-team-rating (unpenalized) diagonal entries
+        for (int j = T; j < size; j++) Areg[j][j] += 1e-6;
+        return Areg;
+    }
 }
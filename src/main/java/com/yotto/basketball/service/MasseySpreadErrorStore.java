@@ -0,0 +1,91 @@
+package com.yotto.basketball.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC access to {@code massey_spread_std_errors}, the per-game Massey spread standard
+ * errors that keep the ratings' covariance. {@link MasseyRatingService} writes them
+ * while it still holds each date's Cholesky factor; {@link PredictionService} reads
+ * the one for the game and snapshot it predicts from. Runs inside the caller's
+ * transaction, like {@link SnapshotJdbcWriter}.
+ */
+@Component
+public class MasseySpreadErrorStore {
+
+    private static final int BATCH_SIZE = 1000;
+
+    /** A game whose spread error is wanted: its teams, calendar date and site. */
+    record Matchup(long gameId, long homeTeamId, long awayTeamId, LocalDate gameDate, boolean neutralSite) {}
+
+    /** One stored error: the game, the snapshot date it was computed from, and the site it assumed. */
+    record Row(long gameId, long seasonId, LocalDate snapshotDate, boolean neutralSite, double stdError) {}
+
+    private static final String UNFINISHED_SQL = """
+            SELECT id, home_team_id, away_team_id, game_date, COALESCE(neutral_site, FALSE) AS neutral_site
+            FROM games
+            WHERE season_id = ? AND status IN ('SCHEDULED', 'IN_PROGRESS')
+            ORDER BY game_date
+            """;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO massey_spread_std_errors (game_id, season_id, snapshot_date, neutral_site, std_error)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (game_id, snapshot_date) DO UPDATE SET
+                neutral_site = EXCLUDED.neutral_site,
+                std_error    = EXCLUDED.std_error
+            """;
+
+    private static final String SELECT_SQL = """
+            SELECT std_error FROM massey_spread_std_errors
+            WHERE game_id = ? AND snapshot_date = ? AND neutral_site = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MasseySpreadErrorStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** The season's scheduled and in-progress games, earliest first. */
+    List<Matchup> unfinishedGames(long seasonId) {
+        return jdbcTemplate.query(UNFINISHED_SQL, (rs, i) -> new Matchup(
+                rs.getLong("id"), rs.getLong("home_team_id"), rs.getLong("away_team_id"),
+                rs.getTimestamp("game_date").toLocalDateTime().toLocalDate(), rs.getBoolean("neutral_site")),
+                seasonId);
+    }
+
+    void write(List<Row> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)),
+                    BATCH_SIZE, (ps, r) -> {
+                        ps.setLong(1, r.gameId());
+                        ps.setLong(2, r.seasonId());
+                        ps.setDate(3, Date.valueOf(r.snapshotDate()));
+                        ps.setBoolean(4, r.neutralSite());
+                        ps.setDouble(5, r.stdError());
+                    });
+        }
+    }
+
+    /** Removes a season's rows, only those from snapshot date {@code fromDate} on when it is non-null. */
+    void deleteForSeason(long seasonId, LocalDate fromDate) {
+        if (fromDate == null) {
+            jdbcTemplate.update("DELETE FROM massey_spread_std_errors WHERE season_id = ?", seasonId);
+        } else {
+            jdbcTemplate.update("DELETE FROM massey_spread_std_errors WHERE season_id = ? AND snapshot_date >= ?",
+                    seasonId, Date.valueOf(fromDate));
+        }
+    }
+
+    /** The stored error for {@code gameId} from the {@code snapshotDate} fit, if it assumed the same site. */
+    Optional<Double> find(long gameId, LocalDate snapshotDate, boolean neutralSite) {
+        return jdbcTemplate.queryForList(SELECT_SQL, Double.class, gameId, Date.valueOf(snapshotDate), neutralSite)
+                .stream().findFirst();
+    }
+}
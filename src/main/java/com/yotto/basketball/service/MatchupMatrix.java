@@ -0,0 +1,43 @@
+package com.yotto.basketball.service;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDate;
+
+/**
+ * Every ordered pair of a set of teams on one date, as columns. Cell {@code i * n + j}
+ * has team {@code i} at home (or listed first at a neutral site) against team {@code j}:
+ * the Massey spread and total, and the home win probability from both Bradley-Terry
+ * models. A cell is NaN on the diagonal and wherever either team has no rating for
+ * that model yet.
+ */
+public record MatchupMatrix(
+        int year,
+        LocalDate date,
+        boolean neutralSite,
+        long[] teamIds,
+        String[] teamNames,
+        float[] spread,
+        float[] total,
+        float[] homeWinProbability,
+        float[] homeWinProbabilityWeighted) {
+
+    static final int FORMAT_VERSION = 1;
+
+    /**
+     * The matrix as little-endian binary: format version and team count (int32), the
+     * team ids (int64 each), then the four columns in declaration order (float32 each,
+     * row-major). Team names are left to the JSON form.
+     */
+    public byte[] binary() {
+        int n = teamIds.length;
+        ByteBuffer buf = ByteBuffer.allocate(8 + 8 * n + 4 * 4 * n * n).order(ByteOrder.LITTLE_ENDIAN);
+        buf.putInt(FORMAT_VERSION).putInt(n);
+        for (long id : teamIds) buf.putLong(id);
+        for (float[] column : new float[][] {spread, total, homeWinProbability, homeWinProbabilityWeighted}) {
+            buf.asFloatBuffer().put(column);
+            buf.position(buf.position() + 4 * column.length);
+        }
+        return buf.array();
+    }
+}
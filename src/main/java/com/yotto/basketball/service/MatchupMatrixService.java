@@ -0,0 +1,240 @@
+package com.yotto.basketball.service;
+
+import com.yotto.basketball.entity.ConferenceMembership;
+import com.yotto.basketball.entity.Season;
+import com.yotto.basketball.entity.TeamPowerRatingSnapshot;
+import com.yotto.basketball.repository.ConferenceMembershipRepository;
+import com.yotto.basketball.repository.PowerModelParamSnapshotRepository;
+import com.yotto.basketball.repository.SeasonRepository;
+import com.yotto.basketball.repository.TeamPowerRatingSnapshotRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Hypothetical matchups for every pair of teams at once: the bulk form of
+ * {@link PredictionService#predictMatchup}. Each model's rating vector and parameters
+ * for a date are loaded once (the same strictly-before-the-date snapshots the single
+ * pair uses) and cached per (season, date); the pair grid is then plain array
+ * arithmetic. ML models need per-pair context and are not part of the grid.
+ */
+@Service
+public class MatchupMatrixService {
+
+    static final List<String> MODEL_TYPES = List.of(
+            MasseyRatingService.MODEL_TYPE, MasseyRatingService.MODEL_TYPE_TOTALS,
+            BradleyTerryRatingService.MODEL_TYPE, BradleyTerryRatingService.MODEL_TYPE_WEIGHTED);
+
+    /** Dates kept per node; reaching it drops them all, as a date slider can touch many. */
+    private static final int MAX_CACHED_DATES = 64;
+
+    /**
+     * Rating vectors for one (season, date), indexed alike, NaN for a team the model has
+     * not rated yet. Offsets are the model parameters the single-pair prediction adds.
+     */
+    record Ratings(int year, long[] teamIds, String[] teamNames, long[] conferenceIds,
+                   double[] massey, double[] masseyTotals, double[] bt, double[] btWeighted,
+                   double masseyHca, double totalsIntercept, double totalsHca,
+                   double btAlpha, double btWeightedAlpha) {}
+
+    private record Key(int year, LocalDate date) {}
+
+    private final SeasonRepository seasonRepository;
+    private final ConferenceMembershipRepository membershipRepository;
+    private final TeamPowerRatingSnapshotRepository ratingRepository;
+    private final PowerModelParamSnapshotRepository paramRepository;
+    private final Map<Key, Ratings> cache = new ConcurrentHashMap<>();
+
+    public MatchupMatrixService(SeasonRepository seasonRepository,
+                                ConferenceMembershipRepository membershipRepository,
+                                TeamPowerRatingSnapshotRepository ratingRepository,
+                                PowerModelParamSnapshotRepository paramRepository) {
+        this.seasonRepository = seasonRepository;
+        this.membershipRepository = membershipRepository;
+        this.ratingRepository = ratingRepository;
+        this.paramRepository = paramRepository;
+    }
+
+    /**
+     * Every matchup among the season's conference members on {@code date}, optionally
+     * narrowed to {@code conferenceIds} and then to the {@code top} teams by Massey
+     * rating. Teams are listed by Massey rating, unrated teams last. Season is resolved
+     * from the date; falls back to the most recent season if unmatched.
+     *
+     * @throws IllegalArgumentException if {@code top} is not positive
+     */
+    public MatchupMatrix matrix(LocalDate date, boolean neutralSite, Integer top, Collection<Long> conferenceIds) {
+        if (top != null && top < 1) {
+            throw new IllegalArgumentException("top must be positive: " + top);
+        }
+        Season season = seasonRepository.findByDate(date)
+                .orElseGet(() -> seasonRepository.findTopByOrderByYearDesc()
+                        .orElseThrow(() -> new IllegalStateException("No seasons configured")));
+        Key key = new Key(season.getYear(), date);
+        Ratings r = cache.get(key);
+        if (r == null) {
+            if (cache.size() >= MAX_CACHED_DATES) cache.clear();
+            r = cache.computeIfAbsent(key, k -> load(season, date));
+        }
+
+        Ratings ratings = r;
+        int[] picked = IntStream.range(0, ratings.teamIds().length)
+                .filter(t -> conferenceIds == null || conferenceIds.isEmpty()
+                        || conferenceIds.contains(ratings.conferenceIds()[t]))
+                .boxed()
+                .sorted(Comparator.comparingDouble((Integer t) -> Double.isNaN(ratings.massey()[t])
+                                ? Double.NEGATIVE_INFINITY : -ratings.massey()[t])
+                        .thenComparingLong(t -> ratings.teamIds()[t]))
+                .limit(top != null ? top : Long.MAX_VALUE)
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        long[] teamIds = new long[picked.length];
+        String[] teamNames = new String[picked.length];
+        for (int i = 0; i < picked.length; i++) {
+            teamIds[i] = ratings.teamIds()[picked[i]];
+            teamNames[i] = ratings.teamNames()[picked[i]];
+        }
+        double home = neutralSite ? 0 : 1;
+        return new MatchupMatrix(ratings.year(), date, neutralSite, teamIds, teamNames,
+                differences(select(ratings.massey(), picked), home * ratings.masseyHca()),
+                sums(select(ratings.masseyTotals(), picked), ratings.totalsIntercept() + home * ratings.totalsHca()),
+                logistic(select(ratings.bt(), picked), home * ratings.btAlpha()),
+                logistic(select(ratings.btWeighted(), picked), home * ratings.btWeightedAlpha()));
+    }
+
+    private Ratings load(Season season, LocalDate date) {
+        List<ConferenceMembership> members = membershipRepository.findBySeasonIdWithTeam(season.getId());
+        int n = members.size();
+        long[] teamIds = new long[n], conferenceIds = new long[n];
+        String[] teamNames = new String[n];
+        Map<Long, Integer> index = new HashMap<>();
+        for (int t = 0; t < n; t++) {
+            ConferenceMembership m = members.get(t);
+            teamIds[t] = m.getTeam().getId();
+            teamNames[t] = m.getTeam().getName();
+            conferenceIds[t] = m.getConference().getId();
+            index.put(teamIds[t], t);
+        }
+
+        Map<String, double[]> vectors = new HashMap<>();
+        for (String modelType : MODEL_TYPES) {
+            double[] v = new double[n];
+            Arrays.fill(v, Double.NaN);
+            vectors.put(modelType, v);
+        }
+        for (TeamPowerRatingSnapshot s : ratingRepository.findLatestBeforeForSeason(season.getId(), MODEL_TYPES, date)) {
+            Integer t = index.get(s.getTeam().getId());
+            if (t != null && s.getRating() != null) vectors.get(s.getModelType())[t] = s.getRating();
+        }
+
+        return new Ratings(season.getYear(), teamIds, teamNames, conferenceIds,
+                vectors.get(MasseyRatingService.MODEL_TYPE), vectors.get(MasseyRatingService.MODEL_TYPE_TOTALS),
+                vectors.get(BradleyTerryRatingService.MODEL_TYPE), vectors.get(BradleyTerryRatingService.MODEL_TYPE_WEIGHTED),
+                param(season, MasseyRatingService.MODEL_TYPE, "hca", date),
+                param(season, MasseyRatingService.MODEL_TYPE_TOTALS, "intercept", date),
+                param(season, MasseyRatingService.MODEL_TYPE_TOTALS, "hca_total", date),
+                param(season, BradleyTerryRatingService.MODEL_TYPE, "hca", date),
+                param(season, BradleyTerryRatingService.MODEL_TYPE_WEIGHTED, "hca", date));
+    }
+
+    private double param(Season season, String modelType, String name, LocalDate date) {
+        return paramRepository.findLatestParamBefore(season.getId(), modelType, name, date)
+                .map(p -> p.getParamValue()).orElse(0.0);
+    }
+
+    // ── Grid arithmetic ──────────────────────────────────────────────────────
+
+    private static double[] select(double[] v, int[] picked) {
+        double[] out = new double[picked.length];
+        for (int i = 0; i < picked.length; i++) out[i] = v[picked[i]];
+        return out;
+    }
+
+    /** {@code r[i] - r[j] + offset} at {@code i * n + j}. */
+    static float[] differences(double[] r, double offset) {
+        int n = r.length;
+        float[] out = new float[n * n];
+        for (int i = 0; i < n; i++) {
+            double base = r[i] + offset;
+            int row = i * n;
+            for (int j = 0; j < n; j++) out[row + j] = (float) (base - r[j]);
+            out[row + i] = Float.NaN;
+        }
+        return out;
+    }
+
+    /** {@code r[i] + r[j] + offset} at {@code i * n + j}. */
+    static float[] sums(double[] r, double offset) {
+        int n = r.length;
+        float[] out = new float[n * n];
+        for (int i = 0; i < n; i++) {
+            double base = r[i] + offset;
+            int row = i * n;
+            for (int j = 0; j < n; j++) out[row + j] = (float) (base + r[j]);
+            out[row + i] = Float.NaN;
+        }
+        return out;
+    }
+
+    /**
+     * {@code σ(r[i] - r[j] + offset)} at {@code i * n + j}, as
+     * {@code e_i / (e_i + e_j)} with {@code e = exp(r)}: one exp per team rather than
+     * per pair. Ratings are centred first so the exponentials stay in range.
+     */
+    static float[] logistic(double[] r, double offset) {
+        int n = r.length;
+        double mean = 0;
+        int rated = 0;
+        for (double x : r) {
+            if (!Double.isNaN(x)) {
+                mean += x;
+                rated++;
+            }
+        }
+        mean = rated == 0 ? 0 : mean / rated;
+        double[] e = new double[n];
+        for (int t = 0; t < n; t++) e[t] = Math.exp(r[t] - mean);
+        double shift = Math.exp(offset);
+        float[] out = new float[n * n];
+        for (int i = 0; i < n; i++) {
+            double home = e[i] * shift;
+            int row = i * n;
+            for (int j = 0; j < n; j++) out[row + j] = (float) (home / (home + e[j]));
+            out[row + i] = Float.NaN;
+        }
+        return out;
+    }
+
+    /** Payload {@code season,generation}; anything unparseable evicts every season. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onClusterInvalidation(ClusterInvalidationEvent event) {
+        if (event.channel() != ClusterInvalidationBus.Channel.CALC_COMPLETED) {
+            return;
+        }
+        String payload = event.payload();
+        int comma = payload.indexOf(',');
+        try {
+            int year = Integer.parseInt(comma >= 0 ? payload.substring(0, comma) : payload);
+            cache.keySet().removeIf(k -> k.year() == year);
+        } catch (NumberFormatException e) {
+            cache.clear();
+        }
+    }
+
+    @EventListener
+    public void onClusterResync(ClusterResyncEvent event) {
+        cache.clear();
+    }
+}
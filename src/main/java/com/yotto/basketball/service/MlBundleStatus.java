@@ -1,5 +1,6 @@
 package com.yotto.basketball.service;
 
+import java.time.Duration;
 import java.time.Instant;
 
 /**
@@ -12,10 +13,14 @@ import java.time.Instant;
  * @param version      manifest "version" (UTC timestamp string)
  * @param trainedAt    last-modified timestamp of features.json
  * @param featureCount number of features in this bundle's vector
+ * @param scorer       engine serving the bundle: "onnx" (onnxruntime) or "java"
+ * @param loadTime     time to read the manifest and create the three sessions or Java models
+ * @param warmupTime   time for the warm-up pass (first score through all three models)
  * @param metrics      test-set metrics recorded by the trainer, or null
  */
 public record MlBundleStatus(String slug, String displayName, String featureSet,
                              String version, Instant trainedAt, int featureCount,
+                             String scorer, Duration loadTime, Duration warmupTime,
                              Metrics metrics) {
 
     /**
@@ -26,7 +26,11 @@ public final class MlFeatureRegistry {
             "home_off_eff", "away_off_eff", "home_def_eff", "away_def_eff",
             "home_efg_pct", "away_efg_pct", "home_opp_efg_pct", "away_opp_efg_pct",
             "home_tov_rate", "away_tov_rate",
-            "home_rpi", "away_rpi");
+            "home_rpi", "away_rpi",
+            "home_pace_l5", "away_pace_l5",
+            "home_off_eff_l5", "away_off_eff_l5", "home_def_eff_l5", "away_def_eff_l5",
+            "home_efg_pct_l5", "away_efg_pct_l5", "home_opp_efg_pct_l5", "away_opp_efg_pct_l5",
+            "home_tov_rate_l5", "away_tov_rate_l5");
 
     private MlFeatureRegistry() {}
 
@@ -111,6 +115,20 @@ public final class MlFeatureRegistry {
         m.put("home_tov_rate",          c -> c.homeBoxStats().get("tov_rate"));
         m.put("away_tov_rate",          c -> c.awayBoxStats().get("tov_rate"));
 
+        // ── Box-score form over the last 5 games (null until 5 with box scores) ─
+        m.put("home_pace_l5",           c -> c.homeBoxStats().get("pace_l5"));
+        m.put("away_pace_l5",           c -> c.awayBoxStats().get("pace_l5"));
+        m.put("home_off_eff_l5",        c -> c.homeBoxStats().get("off_efficiency_l5"));
+        m.put("away_off_eff_l5",        c -> c.awayBoxStats().get("off_efficiency_l5"));
+        m.put("home_def_eff_l5",        c -> c.homeBoxStats().get("def_efficiency_l5"));
+        m.put("away_def_eff_l5",        c -> c.awayBoxStats().get("def_efficiency_l5"));
+        m.put("home_efg_pct_l5",        c -> c.homeBoxStats().get("efg_pct_l5"));
+        m.put("away_efg_pct_l5",        c -> c.awayBoxStats().get("efg_pct_l5"));
+        m.put("home_opp_efg_pct_l5",    c -> c.homeBoxStats().get("opp_efg_pct_l5"));
+        m.put("away_opp_efg_pct_l5",    c -> c.awayBoxStats().get("opp_efg_pct_l5"));
+        m.put("home_tov_rate_l5",       c -> c.homeBoxStats().get("tov_rate_l5"));
+        m.put("away_tov_rate_l5",       c -> c.awayBoxStats().get("tov_rate_l5"));
+
         // ── RPI (team_season_stat_snapshots; null when missing) ───────────────
         m.put("home_rpi",               PredictionContext::homeRpi);
         m.put("away_rpi",               PredictionContext::awayRpi);
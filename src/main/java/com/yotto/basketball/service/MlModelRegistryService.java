@@ -7,6 +7,8 @@ import jakarta.annotation.PostConstruct;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +17,8 @@ import java.time.ZoneId;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * DB-backed serving decisions for ML model bundles: which are ACTIVE (publicly served),
@@ -25,24 +29,37 @@ import java.util.Map;
  *
  * <p>The first bundle ever discovered becomes ACTIVE + default automatically; every
  * later new slug arrives as CANDIDATE and must be promoted from the admin dashboard.
+ *
+ * <p>Every plan change and bundle reload goes out on {@code ml_plan_changed}, so
+ * the other nodes rebuild their plans, and reload their bundles, from the same rows.
  */
 @Service
 public class MlModelRegistryService {
 
     private static final Logger log = LoggerFactory.getLogger(MlModelRegistryService.class);
 
+    /** {@code ml_plan_changed} payloads. */
+    private static final String PLAN = "plan";
+    private static final String RELOAD = "reload";
+
     private final MlModelRepository modelRepository;
     private final MlPredictionService mlPredictionService;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClusterInvalidationBus invalidationBus;
 
     private volatile ServingPlan plan = ServingPlan.empty();
 
     public MlModelRegistryService(MlModelRepository modelRepository,
                                   MlPredictionService mlPredictionService,
-                                  ObjectMapper objectMapper) {
+                                  ObjectMapper objectMapper,
+                                  ApplicationEventPublisher eventPublisher,
+                                  ClusterInvalidationBus invalidationBus) {
         this.modelRepository = modelRepository;
         this.mlPredictionService = mlPredictionService;
         this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.invalidationBus = invalidationBus;
     }
 
     @PostConstruct
@@ -56,6 +73,7 @@ public class MlModelRegistryService {
     public List<MlBundleStatus> reloadAndReconcile() {
         List<MlBundleStatus> statuses = mlPredictionService.reload();
         reconcileStatuses(statuses);
+        invalidationBus.publish(ClusterInvalidationBus.Channel.ML_PLAN_CHANGED, RELOAD);
         return statuses;
     }
 
@@ -69,11 +87,15 @@ public class MlModelRegistryService {
         return modelRepository.findAllByOrderBySlug();
     }
 
-    /** Admin-table view row: registry state + loaded flag + headline metrics. */
+    /**
+     * Admin-table view row: registry state + loaded flag + headline metrics. Scorer and
+     * load/warm-up times are null when the bundle is not loaded on this node.
+     */
     public record MlModelView(String slug, String displayName, MlModel.Status status,
                               boolean isDefault, boolean loaded, String version,
                               LocalDateTime trainedAt, String featureSet,
-                              Double spreadRmse, Double brierScore) {}
+                              Double spreadRmse, Double brierScore,
+                              String scorer, Long loadMillis, Long warmupMillis) {}
 
     public List<MlModelView> modelViews() {
         return modelRepository.findAllByOrderBySlug().stream()
@@ -87,12 +109,16 @@ public class MlModelRegistryService {
                         } catch (Exception ignored) {
                         }
                     }
+                    MlBundleStatus bundle = mlPredictionService.status(m.getSlug());
                     return new MlModelView(m.getSlug(),
                             m.getDisplayName() != null ? m.getDisplayName() : m.getSlug(),
                             m.getStatus(), Boolean.TRUE.equals(m.getIsDefault()),
-                            mlPredictionService.isLoaded(m.getSlug()),
+                            bundle != null,
                             m.getVersion(), m.getTrainedAt(), m.getFeatureSet(),
-                            spreadRmse, brier);
+                            spreadRmse, brier,
+                            bundle != null ? bundle.scorer() : null,
+                            bundle != null ? bundle.loadTime().toMillis() : null,
+                            bundle != null ? bundle.warmupTime().toMillis() : null);
                 })
                 .toList();
     }
@@ -153,6 +179,47 @@ public class MlModelRegistryService {
         log.info("ML model {} reinstated as candidate", slug);
     }
 
+    // ── Cluster sync ──────────────────────────────────────────────────────────
+
+    /**
+     * Another node changed the serving decisions or reloaded its bundles. Rows are
+     * already committed, so this node only reloads and re-reads. It does not
+     * re-announce the change, and it does not queue a second prediction refresh.
+     */
+    @EventListener
+    public void onClusterInvalidation(ClusterInvalidationEvent event) {
+        if (!event.remote() || event.channel() != ClusterInvalidationBus.Channel.ML_PLAN_CHANGED) {
+            return;
+        }
+        if (RELOAD.equals(event.payload())) {
+            mlPredictionService.reload();
+        }
+        if (applyPlan()) {
+            log.info("ML serving plan updated from cluster: {}", plan.fingerprint());
+        }
+    }
+
+    /** Catches up after missed notifications: reloads stale bundles, then rebuilds the plan. */
+    @EventListener
+    public void onClusterResync(ClusterResyncEvent event) {
+        if (bundlesOutOfDate()) {
+            mlPredictionService.reload();
+        }
+        if (applyPlan()) {
+            log.info("ML serving plan resynced: {}", plan.fingerprint());
+        }
+    }
+
+    /** True when a servable row names a version this node has not loaded. */
+    private boolean bundlesOutOfDate() {
+        Map<String, String> loaded = mlPredictionService.getStatuses().stream()
+                .filter(s -> s.version() != null)
+                .collect(Collectors.toMap(MlBundleStatus::slug, MlBundleStatus::version, (a, b) -> a));
+        return modelRepository.findAllByOrderBySlug().stream()
+                .filter(m -> m.getStatus() != MlModel.Status.RETIRED)
+                .anyMatch(m -> !Objects.equals(loaded.get(m.getSlug()), m.getVersion()));
+    }
+
     // ── Reconciliation ────────────────────────────────────────────────────────
 
     private void reconcileStatuses(List<MlBundleStatus> statuses) {
@@ -203,6 +270,14 @@ public class MlModelRegistryService {
     }
 
     private void rebuildPlan() {
+        if (applyPlan()) {
+            eventPublisher.publishEvent(new ServingPlanChangedEvent(plan));
+            invalidationBus.publish(ClusterInvalidationBus.Channel.ML_PLAN_CHANGED, PLAN);
+        }
+    }
+
+    /** Rebuilds the plan from the rows and loaded bundles; true when it changed. */
+    private synchronized boolean applyPlan() {
         Map<String, String> active = new LinkedHashMap<>();
         Map<String, String> evaluable = new LinkedHashMap<>();
         Map<String, String> displayNames = new LinkedHashMap<>();
@@ -225,8 +300,13 @@ public class MlModelRegistryService {
                 needsExtendedStats = true;
             }
         }
-        this.plan = new ServingPlan(defaultSlug, Map.copyOf(active), Map.copyOf(evaluable),
+        ServingPlan rebuilt = new ServingPlan(defaultSlug, Map.copyOf(active), Map.copyOf(evaluable),
                 Map.copyOf(displayNames), needsExtendedStats);
+        if (rebuilt.equals(plan)) {
+            return false;
+        }
+        this.plan = rebuilt;
+        return true;
     }
 
     private MlModel require(String slug) {
@@ -270,5 +350,18 @@ public class MlModelRegistryService {
         public boolean hasServableModels() {
             return !evaluableVersions.isEmpty();
         }
+
+        /**
+         * Identity of the public ML output: the default slug plus every ACTIVE
+         * {@code slug@version}, in slug order. Two plans with the same fingerprint
+         * produce identical public predictions from the same snapshots.
+         */
+        public String fingerprint() {
+            StringBuilder sb = new StringBuilder("default=").append(defaultSlug);
+            activeVersions.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .forEach(e -> sb.append(';').append(e.getKey()).append('@').append(e.getValue()));
+            return sb.toString();
+        }
     }
 }
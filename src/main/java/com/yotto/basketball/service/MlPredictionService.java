@@ -12,12 +12,18 @@ import org.springframework.stereotype.Service;
 
 import java.io.File;
 import java.nio.FloatBuffer;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
@@ -28,17 +34,33 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  * different feature subsets. A legacy flat layout (files directly in the model dir) is
  * loaded as slug {@code baseline}.
  *
+ * <p>Each bundle is scored either by onnxruntime or by the pure-Java {@link JavaOnnxModel}
+ * (tree ensembles plus calibration arithmetic, no JNI and no native session memory). The
+ * manifest's {@code "scorer"} ({@code "onnx"} or {@code "java"}) picks one per bundle, with
+ * {@code prediction.ml.scorer} as the default. A bundle whose graphs the Java scorer cannot
+ * evaluate falls back to onnxruntime.
+ *
  * <p>This service owns ONNX session lifecycle only. Which bundles are served publicly
  * vs. shadow-evaluated is decided by {@link MlModelRegistryService} (DB-backed).
  *
+ * <p>Bundles load in parallel on a short-lived pool ({@code prediction.ml.load-threads})
+ * with tunable onnxruntime session options ({@code prediction.ml.session.*}). Each bundle
+ * scores an all-zero vector through all three models before it is published, so the
+ * first real prediction does not pay for lazy session initialization. Load and warm-up
+ * times are kept on the bundle's {@link MlBundleStatus}.
+ *
  * <p>A {@link ReentrantReadWriteLock} guards the bundle map: {@link #predict} holds a
- * read lock; {@link #reload} holds a write lock (waits for in-flight predictions).
+ * read lock. {@link #reload} builds the new bundles without it and takes the write lock
+ * only to swap the maps, so predictions keep running on the old bundles while the new
+ * ones load.
  */
 @Service
 public class MlPredictionService {
 
     private static final Logger log = LoggerFactory.getLogger(MlPredictionService.class);
     static final String LEGACY_SLUG = "baseline";
+    static final String SCORER_ONNX = "onnx";
+    static final String SCORER_JAVA = "java";
 
     @Value("${prediction.ml.model-dir:/models}")
     private String modelDir;
@@ -46,11 +68,33 @@ public class MlPredictionService {
     @Value("${prediction.ml.enabled:false}")
     private boolean configEnabled;
 
+    @Value("${prediction.ml.scorer:onnx}")
+    private String defaultScorer = SCORER_ONNX;
+
+    @Value("${prediction.ml.load-threads:4}")
+    private int loadThreads = 4;
+
+    @Value("${prediction.ml.session.optimization-level:ALL_OPT}")
+    private String optimizationLevel = "ALL_OPT";
+
+    @Value("${prediction.ml.session.intra-op-threads:1}")
+    private int intraOpThreads = 1;
+
+    @Value("${prediction.ml.session.inter-op-threads:1}")
+    private int interOpThreads = 1;
+
+    @Value("${prediction.ml.session.memory-arena:true}")
+    private boolean memoryArena = true;
+
     private final ObjectMapper objectMapper;
     private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Serializes reloads so two admins clicking Reload never hold three copies of every bundle
+    private final Object loadMonitor = new Object();
+
+    // Closed on shutdown; sessions hold their own reference via Bundle.env
+    private volatile OrtEnvironment env;
 
     // Guarded by lock
-    private OrtEnvironment env;
     private final Map<String, Bundle> bundles = new LinkedHashMap<>();
 
     public MlPredictionService(ObjectMapper objectMapper) {
@@ -63,11 +107,8 @@ public class MlPredictionService {
             log.info("ML predictions disabled via configuration (prediction.ml.enabled=false)");
             return;
         }
-        lock.writeLock().lock();
-        try {
-            loadAllBundles();
-        } finally {
-            lock.writeLock().unlock();
+        synchronized (loadMonitor) {
+            publish(loadAllBundles());
         }
     }
 
@@ -85,18 +126,13 @@ public class MlPredictionService {
             float[] input = MlFeatureRegistry.buildVector(bundle.featureNames, context);
             if (input == null) return null;
 
-            long[] shape = {1, input.length};
-            try (OnnxTensor tensor = OnnxTensor.createTensor(env, FloatBuffer.wrap(input), shape)) {
-                Map<String, OnnxTensor> inputs = Map.of("float_input", tensor);
-                double spread = runRegressor(bundle.spreadSession, inputs, bundle.spreadOutputName);
-                double total  = runRegressor(bundle.totalSession,  inputs, bundle.totalOutputName);
-                double pHome  = runClassifier(bundle.winprobSession, inputs, bundle.winprobProbOutputName);
-                double pAway  = 1.0 - pHome;
-                return new PredictionResult.MlPrediction(
-                        spread, total, pHome, pAway,
-                        impliedMoneyline(pHome), impliedMoneyline(pAway),
-                        bundle.status.version(), slug, bundle.status.displayName(), true);
-            }
+            double[] scores = score(bundle, input);
+            double pHome = scores[2];
+            double pAway = 1.0 - pHome;
+            return new PredictionResult.MlPrediction(
+                    scores[0], scores[1], pHome, pAway,
+                    impliedMoneyline(pHome), impliedMoneyline(pAway),
+                    bundle.status.version(), slug, bundle.status.displayName(), true);
         } catch (Exception e) {
             log.warn("ML prediction failed for bundle {}: {}", slug, e.getMessage());
             return null;
@@ -105,14 +141,13 @@ public class MlPredictionService {
         }
     }
 
-    /** Closes all bundles and re-scans the model directory. Returns the loaded statuses. */
+    /**
+     * Re-scans the model directory, swaps the new bundles in and closes the old ones.
+     * Returns the loaded statuses.
+     */
     public List<MlBundleStatus> reload() {
-        lock.writeLock().lock();
-        try {
-            closeAllUnderLock();
-            loadAllBundles();
-        } finally {
-            lock.writeLock().unlock();
+        synchronized (loadMonitor) {
+            publish(loadAllBundles());
         }
         List<MlBundleStatus> statuses = getStatuses();
         log.info("ML bundles reloaded — {} loaded: {}", statuses.size(),
@@ -145,6 +180,17 @@ public class MlPredictionService {
         }
     }
 
+    /** Status of a loaded bundle, or null when not loaded. */
+    public MlBundleStatus status(String slug) {
+        lock.readLock().lock();
+        try {
+            Bundle bundle = bundles.get(slug);
+            return bundle != null ? bundle.status : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
     /** The ordered feature names of a loaded bundle, or null when not loaded. */
     public List<String> featureNames(String slug) {
         lock.readLock().lock();
@@ -158,42 +204,107 @@ public class MlPredictionService {
 
     @PreDestroy
     public void close() {
+        synchronized (loadMonitor) {
+            publish(Map.of());
+            closeQuietly(env);
+            env = null;
+        }
+    }
+
+    /** Swaps in a freshly loaded bundle map and closes the bundles it replaces. */
+    private void publish(Map<String, Bundle> loaded) {
+        List<Bundle> replaced;
         lock.writeLock().lock();
         try {
-            closeAllUnderLock();
+            replaced = new ArrayList<>(bundles.values());
+            bundles.clear();
+            bundles.putAll(loaded);
         } finally {
             lock.writeLock().unlock();
         }
+        // No reader can reach the old bundles once the write lock has been released
+        replaced.forEach(MlPredictionService::closeBundle);
     }
 
-    // ── Loading (write lock held) ─────────────────────────────────────────────
+    // ── Loading (no lock held; builds bundles without touching the map) ──────
 
-    private void loadAllBundles() {
+    private Map<String, Bundle> loadAllBundles() {
         File root = new File(modelDir);
         if (!root.isDirectory()) {
             log.warn("ML model directory {} not found — no bundles loaded", modelDir);
-            return;
+            return Map.of();
         }
-        env = OrtEnvironment.getEnvironment();
+        OrtEnvironment environment = OrtEnvironment.getEnvironment();
+        env = environment;
 
+        List<File> dirs = new ArrayList<>();
         File[] subdirs = root.listFiles(File::isDirectory);
         if (subdirs != null) {
             for (File dir : subdirs) {
                 if (new File(dir, "features.json").exists() && !dir.getName().startsWith(".")) {
-                    loadBundle(dir, dir.getName());
+                    dirs.add(dir);
                 }
             }
         }
+
+        long started = System.nanoTime();
+        Map<String, Bundle> loaded = new LinkedHashMap<>();
+        for (Bundle bundle : loadInParallel(environment, dirs)) {
+            Bundle previous = loaded.put(bundle.status.slug(), bundle);
+            if (previous != null) closeBundle(previous);
+        }
         // Legacy flat layout: files directly in the root, loaded as "baseline"
-        if (!bundles.containsKey(LEGACY_SLUG) && new File(root, "features.json").exists()) {
-            loadBundle(root, LEGACY_SLUG);
+        if (!loaded.containsKey(LEGACY_SLUG) && new File(root, "features.json").exists()) {
+            Bundle legacy = loadBundle(environment, root, LEGACY_SLUG);
+            if (legacy != null) loaded.put(legacy.status.slug(), legacy);
         }
-        if (bundles.isEmpty()) {
+        if (loaded.isEmpty()) {
             log.warn("No ML model bundles found in {} — running in Phase 1-only mode", modelDir);
+        } else {
+            log.info("{} ML bundle(s) loaded in {} ms", loaded.size(), (System.nanoTime() - started) / 1_000_000);
         }
+        return loaded;
     }
 
-    private void loadBundle(File dir, String dirSlug) {
+    /** Loads bundle directories concurrently; results keep directory order, failures are dropped. */
+    private List<Bundle> loadInParallel(OrtEnvironment environment, List<File> dirs) {
+        if (dirs.isEmpty()) return List.of();
+        int threads = Math.min(Math.max(loadThreads, 1), dirs.size());
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, task -> {
+            Thread t = new Thread(task, "ml-load-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        List<Future<Bundle>> futures = new ArrayList<>();
+        try {
+            for (File dir : dirs) {
+                futures.add(pool.submit(() -> loadBundle(environment, dir, dir.getName())));
+            }
+            List<Bundle> result = new ArrayList<>();
+            for (Future<Bundle> future : futures) {
+                Bundle bundle = future.get();
+                if (bundle != null) result.add(bundle);
+            }
+            return result;
+        } catch (InterruptedException | ExecutionException e) {
+            if (e instanceof InterruptedException) Thread.currentThread().interrupt();
+            log.warn("ML bundle loading interrupted: {} — keeping no new bundles", e.getMessage());
+            pool.shutdownNow();
+            for (Future<Bundle> future : futures) {
+                if (future.isDone() && !future.isCancelled()) {
+                    try { closeBundle(future.get()); } catch (Exception ignored) {}
+                }
+            }
+            return List.of();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** Loads and warms one bundle; returns null (after logging why) when it cannot be served. */
+    private Bundle loadBundle(OrtEnvironment environment, File dir, String dirSlug) {
+        Bundle bundle = new Bundle();
         try {
             File featuresFile = new File(dir, "features.json");
             File spreadFile   = new File(dir, "spread_model.onnx");
@@ -201,7 +312,7 @@ public class MlPredictionService {
             File winprobFile  = new File(dir, "winprob_model.onnx");
             if (!spreadFile.exists() || !totalFile.exists() || !winprobFile.exists()) {
                 log.warn("ML bundle {} is missing ONNX files — skipped", dirSlug);
-                return;
+                return null;
             }
 
             JsonNode manifest = objectMapper.readTree(featuresFile);
@@ -211,25 +322,38 @@ public class MlPredictionService {
             }
             if (featureNames.isEmpty()) {
                 log.warn("ML bundle {} has an empty feature list — skipped", dirSlug);
-                return;
+                return null;
             }
             List<String> unknown = featureNames.stream()
                     .filter(n -> !MlFeatureRegistry.supports(n)).toList();
             if (!unknown.isEmpty()) {
                 log.warn("ML bundle {} uses unknown features {} — skipped (is the app older than the model?)",
                         dirSlug, unknown);
-                return;
+                return null;
             }
 
             String slug = manifest.path("slug").asText(dirSlug);
-            Bundle bundle = new Bundle();
-            bundle.featureNames          = List.copyOf(featureNames);
-            bundle.spreadSession         = env.createSession(spreadFile.getAbsolutePath());
-            bundle.totalSession          = env.createSession(totalFile.getAbsolutePath());
-            bundle.winprobSession        = env.createSession(winprobFile.getAbsolutePath());
-            bundle.spreadOutputName      = firstOutputName(bundle.spreadSession);
-            bundle.totalOutputName       = firstOutputName(bundle.totalSession);
-            bundle.winprobProbOutputName = probOutputName(bundle.winprobSession);
+            long started = System.nanoTime();
+            bundle.featureNames = List.copyOf(featureNames);
+            if (SCORER_JAVA.equals(manifest.path("scorer").asText(defaultScorer))) {
+                loadJavaModels(bundle, slug, spreadFile, totalFile, winprobFile);
+            }
+            if (bundle.spreadModel == null) {
+                bundle.env = environment;
+                try (OrtSession.SessionOptions options = sessionOptions()) {
+                    bundle.spreadSession     = environment.createSession(spreadFile.getAbsolutePath(), options);
+                    bundle.totalSession      = environment.createSession(totalFile.getAbsolutePath(), options);
+                    bundle.winprobSession    = environment.createSession(winprobFile.getAbsolutePath(), options);
+                }
+                bundle.spreadOutputName      = firstOutputName(bundle.spreadSession);
+                bundle.totalOutputName       = firstOutputName(bundle.totalSession);
+                bundle.winprobProbOutputName = probOutputName(bundle.winprobSession);
+            }
+            long loaded = System.nanoTime();
+            // Warm-up: the first run of a session initializes kernels and allocates its arena
+            score(bundle, new float[featureNames.size()]);
+            long warmed = System.nanoTime();
+
             bundle.status = new MlBundleStatus(
                     slug,
                     manifest.path("display_name").asText(slug),
@@ -237,29 +361,71 @@ public class MlPredictionService {
                     manifest.path("version").asText(null),
                     Instant.ofEpochMilli(featuresFile.lastModified()),
                     featureNames.size(),
+                    bundle.spreadModel != null ? SCORER_JAVA : SCORER_ONNX,
+                    Duration.ofNanos(loaded - started),
+                    Duration.ofNanos(warmed - loaded),
                     parseMetrics(manifest.path("metrics")));
 
-            bundles.put(slug, bundle);
-            log.info("ML bundle loaded — slug={}, version={}, features={}",
-                    slug, bundle.status.version(), featureNames.size());
+            log.info("ML bundle loaded — slug={}, version={}, features={}, scorer={}, load={} ms, warm-up={} ms",
+                    slug, bundle.status.version(), featureNames.size(), bundle.status.scorer(),
+                    bundle.status.loadTime().toMillis(), bundle.status.warmupTime().toMillis());
+            return bundle;
         } catch (Exception e) {
             log.warn("Failed to load ML bundle {}: {} — skipped", dirSlug, e.getMessage());
+            closeBundle(bundle);
+            return null;
         }
     }
 
-    private void closeAllUnderLock() {
-        for (Bundle bundle : bundles.values()) {
-            closeQuietly(bundle.spreadSession);
-            closeQuietly(bundle.totalSession);
-            closeQuietly(bundle.winprobSession);
+    private OrtSession.SessionOptions sessionOptions() throws OrtException {
+        OrtSession.SessionOptions options = new OrtSession.SessionOptions();
+        options.setOptimizationLevel(OrtSession.SessionOptions.OptLevel.valueOf(optimizationLevel));
+        options.setIntraOpNumThreads(intraOpThreads);
+        options.setInterOpNumThreads(interOpThreads);
+        options.setCPUArenaAllocator(memoryArena);
+        return options;
+    }
+
+    /** Compiles all three models for the Java scorer, or leaves the bundle on onnxruntime. */
+    private static void loadJavaModels(Bundle bundle, String slug, File spreadFile, File totalFile, File winprobFile) {
+        try {
+            JavaOnnxModel spread  = JavaOnnxModel.regressor(spreadFile.toPath());
+            JavaOnnxModel total   = JavaOnnxModel.regressor(totalFile.toPath());
+            JavaOnnxModel winprob = JavaOnnxModel.classifier(winprobFile.toPath());
+            bundle.spreadModel  = spread;
+            bundle.totalModel   = total;
+            bundle.winprobModel = winprob;
+        } catch (Exception e) {
+            log.warn("ML bundle {} cannot use the Java scorer ({}) — falling back to onnxruntime", slug, e.getMessage());
         }
-        bundles.clear();
-        closeQuietly(env);
-        env = null;
+    }
+
+    private static void closeBundle(Bundle bundle) {
+        closeQuietly(bundle.spreadSession);
+        closeQuietly(bundle.totalSession);
+        closeQuietly(bundle.winprobSession);
     }
 
     // ── Static helpers ────────────────────────────────────────────────────────
 
+    /** Scores all three models of a bundle: {spread, total, P(home wins)}. */
+    private static double[] score(Bundle bundle, float[] input) throws OrtException {
+        if (bundle.spreadModel != null) {
+            return new double[] {
+                    bundle.spreadModel.score(input)[0],
+                    bundle.totalModel.score(input)[0],
+                    bundle.winprobModel.score(input)[1]};
+        }
+        long[] shape = {1, input.length};
+        try (OnnxTensor tensor = OnnxTensor.createTensor(bundle.env, FloatBuffer.wrap(input), shape)) {
+            Map<String, OnnxTensor> inputs = Map.of("float_input", tensor);
+            return new double[] {
+                    runRegressor(bundle.spreadSession, inputs, bundle.spreadOutputName),
+                    runRegressor(bundle.totalSession, inputs, bundle.totalOutputName),
+                    runClassifier(bundle.winprobSession, inputs, bundle.winprobProbOutputName)};
+        }
+    }
+
     private static MlBundleStatus.Metrics parseMetrics(JsonNode node) {
         if (node == null || node.isMissingNode() || !node.isObject()) return null;
         return new MlBundleStatus.Metrics(
@@ -330,9 +496,16 @@ public class MlPredictionService {
         return (int) Math.round((1.0 - p) / p * 100);
     }
 
-    /** One loaded bundle: three ONNX sessions + manifest-derived metadata. */
+    /**
+     * One loaded bundle: three ONNX sessions or three Java models (never both) +
+     * manifest-derived metadata.
+     */
     private static final class Bundle {
         List<String> featureNames;
+        OrtEnvironment env;
+        JavaOnnxModel spreadModel;
+        JavaOnnxModel totalModel;
+        JavaOnnxModel winprobModel;
         OrtSession spreadSession;
         OrtSession totalSession;
         OrtSession winprobSession;
@@ -28,8 +28,9 @@ import java.util.Map;
  * {@code ML_TRAINER_URL}). Training runs asynchronously inside the trainer container;
  * this service starts runs and reconciles their state into {@code ml_training_runs}.
  *
- * <p>State is pulled, not pushed: {@link #pollActiveRuns()} is invoked by the
- * HTMX-polled training-status fragment (and on dashboard load), fetches
+ * <p>State is pulled, not pushed: {@link #pollActiveRuns()} runs as a
+ * {@code TRAINING_RECONCILE} job, queued by the HTMX-polled training-status fragment
+ * (and on dashboard load) while a run is in progress. It fetches
  * {@code GET /status/{runId}} for each RUNNING row, and on completion hot-reloads the
  * ONNX models and kicks off prediction evaluation for all seasons — so one Train
  * click carries through train → reload → evaluate with no shell access.
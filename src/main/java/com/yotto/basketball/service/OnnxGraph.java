@@ -0,0 +1,64 @@
+package com.yotto.basketball.service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The parts of an ONNX model that {@link JavaOnnxModel} evaluates: the node list in
+ * graph (topological) order, initializers, and graph input/output names. Read by
+ * {@link OnnxModelReader}. Numeric tensors are widened to double whatever their
+ * stored type.
+ */
+record OnnxGraph(List<Node> nodes, Map<String, Tensor> initializers, List<String> inputs, List<String> outputs) {
+
+    record Node(String opType, String domain, List<String> inputs, List<String> outputs,
+                Map<String, Attribute> attributes) {
+
+        Attribute attribute(String name) {
+            return attributes.get(name);
+        }
+
+        long intOr(String name, long fallback) {
+            Attribute a = attributes.get(name);
+            return a != null && a.i() != null ? a.i() : fallback;
+        }
+
+        String stringOr(String name, String fallback) {
+            Attribute a = attributes.get(name);
+            return a != null && a.s() != null ? a.s() : fallback;
+        }
+
+        long[] intsOr(String name, long[] fallback) {
+            Attribute a = attributes.get(name);
+            return a != null && a.ints() != null ? a.ints() : fallback;
+        }
+
+        /** A float list attribute, or its {@code <name>_as_tensor} double form (ai.onnx.ml opset 3). */
+        double[] floatsOr(String name, double[] fallback) {
+            Attribute a = attributes.get(name);
+            if (a != null && a.floats() != null) {
+                return a.floats();
+            }
+            Attribute asTensor = attributes.get(name + "_as_tensor");
+            return asTensor != null && asTensor.t() != null ? asTensor.t().values() : fallback;
+        }
+
+        List<String> stringsOr(String name, List<String> fallback) {
+            Attribute a = attributes.get(name);
+            return a != null && a.strings() != null ? a.strings() : fallback;
+        }
+    }
+
+    /** One attribute; only the field matching its type is set. */
+    record Attribute(String name, Float f, Long i, String s, Tensor t,
+                     double[] floats, long[] ints, List<String> strings) {
+    }
+
+    /** A dense numeric tensor in row-major order. */
+    record Tensor(long[] dims, double[] values) {
+
+        int rank() {
+            return dims.length;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.yotto.basketball.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Decodes an {@code .onnx} file (a protobuf {@code ModelProto}) into an {@link OnnxGraph}
+ * without the ONNX runtime or a protobuf dependency. It reads only the fields the Java
+ * scorer needs: nodes with their attributes, initializers, and graph input and output
+ * names. Every other field is skipped by wire type. Repeated numeric fields are accepted
+ * both packed and unpacked, since proto2 writers emit either.
+ */
+final class OnnxModelReader {
+
+    // ModelProto / GraphProto / NodeProto / AttributeProto / TensorProto / ValueInfoProto field numbers
+    private static final int MODEL_GRAPH = 7;
+    private static final int GRAPH_NODE = 1, GRAPH_INITIALIZER = 5, GRAPH_INPUT = 11, GRAPH_OUTPUT = 12;
+    private static final int NODE_INPUT = 1, NODE_OUTPUT = 2, NODE_OP_TYPE = 4, NODE_ATTRIBUTE = 5, NODE_DOMAIN = 7;
+    private static final int ATTR_NAME = 1, ATTR_F = 2, ATTR_I = 3, ATTR_S = 4, ATTR_T = 5,
+            ATTR_FLOATS = 7, ATTR_INTS = 8, ATTR_STRINGS = 9;
+    private static final int TENSOR_DIMS = 1, TENSOR_DATA_TYPE = 2, TENSOR_FLOAT_DATA = 4, TENSOR_INT32_DATA = 5,
+            TENSOR_INT64_DATA = 7, TENSOR_NAME = 8, TENSOR_RAW_DATA = 9, TENSOR_DOUBLE_DATA = 10;
+    private static final int VALUE_INFO_NAME = 1;
+
+    // TensorProto.DataType
+    private static final int FLOAT = 1, INT32 = 6, INT64 = 7, DOUBLE = 11;
+
+    private static final int VARINT = 0, FIXED64 = 1, LENGTH_DELIMITED = 2, FIXED32 = 5;
+
+    private OnnxModelReader() {}
+
+    static OnnxGraph read(Path file) throws IOException {
+        return read(Files.readAllBytes(file));
+    }
+
+    static OnnxGraph read(byte[] model) {
+        Cursor in = new Cursor(ByteBuffer.wrap(model));
+        OnnxGraph graph = null;
+        while (in.hasMore()) {
+            int tag = in.varint32();
+            if (tag >>> 3 == MODEL_GRAPH && (tag & 7) == LENGTH_DELIMITED) {
+                graph = readGraph(in.message());
+            } else {
+                in.skip(tag & 7);
+            }
+        }
+        if (graph == null) {
+            throw new IllegalArgumentException("ONNX model has no graph");
+        }
+        return graph;
+    }
+
+    private static OnnxGraph readGraph(Cursor in) {
+        List<OnnxGraph.Node> nodes = new ArrayList<>();
+        Map<String, OnnxGraph.Tensor> initializers = new LinkedHashMap<>();
+        List<String> inputs = new ArrayList<>();
+        List<String> outputs = new ArrayList<>();
+        while (in.hasMore()) {
+            int tag = in.varint32();
+            switch (tag >>> 3) {
+                case GRAPH_NODE -> nodes.add(readNode(in.message()));
+                case GRAPH_INITIALIZER -> {
+                    NamedTensor t = readTensor(in.message());
+                    initializers.put(t.name, t.tensor);
+                }
+                case GRAPH_INPUT -> inputs.add(readValueInfoName(in.message()));
+                case GRAPH_OUTPUT -> outputs.add(readValueInfoName(in.message()));
+                default -> in.skip(tag & 7);
+            }
+        }
+        // IR < 4 lists initializers among the inputs too; only the fed inputs matter here
+        Set<String> fed = new HashSet<>(inputs);
+        fed.removeAll(initializers.keySet());
+        inputs.retainAll(fed);
+        return new OnnxGraph(List.copyOf(nodes), Map.copyOf(initializers), List.copyOf(inputs), List.copyOf(outputs));
+    }
+
+    private static OnnxGraph.Node readNode(Cursor in) {
+        List<String> inputs = new ArrayList<>();
+        List<String> outputs = new ArrayList<>();
+        Map<String, OnnxGraph.Attribute> attributes = new LinkedHashMap<>();
+        String opType = null;
+        String domain = "";
+        while (in.hasMore()) {
+            int tag = in.varint32();
+            switch (tag >>> 3) {
+                case NODE_INPUT -> inputs.add(in.string());
+                case NODE_OUTPUT -> outputs.add(in.string());
+                case NODE_OP_TYPE -> opType = in.string();
+                case NODE_DOMAIN -> domain = in.string();
+                case NODE_ATTRIBUTE -> {
+                    OnnxGraph.Attribute a = readAttribute(in.message());
+                    attributes.put(a.name(), a);
+                }
+                default -> in.skip(tag & 7);
+            }
+        }
+        return new OnnxGraph.Node(opType, domain, List.copyOf(inputs), List.copyOf(outputs), Map.copyOf(attributes));
+    }
+
+    private static OnnxGraph.Attribute readAttribute(Cursor in) {
+        String name = null;
+        Float f = null;
+        Long i = null;
+        String s = null;
+        OnnxGraph.Tensor t = null;
+        DoubleList floats = null;
+        LongList ints = null;
+        List<String> strings = null;
+        while (in.hasMore()) {
+            int tag = in.varint32();
+            int wire = tag & 7;
+            switch (tag >>> 3) {
+                case ATTR_NAME -> name = in.string();
+                case ATTR_F -> f = in.fixed32Float();
+                case ATTR_I -> i = in.varint64();
+                case ATTR_S -> s = in.string();
+                case ATTR_T -> t = readTensor(in.message()).tensor;
+                case ATTR_FLOATS -> {
+                    if (floats == null) floats = new DoubleList();
+                    in.floats(wire, floats);
+                }
+                case ATTR_INTS -> {
+                    if (ints == null) ints = new LongList();
+                    in.varints(wire, ints);
+                }
+                case ATTR_STRINGS -> {
+                    if (strings == null) strings = new ArrayList<>();
+                    strings.add(in.string());
+                }
+                default -> in.skip(wire);
+            }
+        }
+        return new OnnxGraph.Attribute(name, f, i, s, t,
+                floats != null ? floats.toArray() : null,
+                ints != null ? ints.toArray() : null,
+                strings != null ? List.copyOf(strings) : null);
+    }
+
+    private record NamedTensor(String name, OnnxGraph.Tensor tensor) {}
+
+    private static NamedTensor readTensor(Cursor in) {
+        LongList dims = new LongList();
+        int dataType = 0;
+        String name = null;
+        DoubleList values = new DoubleList();
+        ByteBuffer raw = null;
+        while (in.hasMore()) {
+            int tag = in.varint32();
+            int wire = tag & 7;
+            switch (tag >>> 3) {
+                case TENSOR_DIMS -> in.varints(wire, dims);
+                case TENSOR_DATA_TYPE -> dataType = (int) in.varint64();
+                case TENSOR_FLOAT_DATA -> in.floats(wire, values);
+                case TENSOR_INT32_DATA, TENSOR_INT64_DATA -> {
+                    LongList ints = new LongList();
+                    in.varints(wire, ints);
+                    for (int k = 0; k < ints.size; k++) values.add(ints.values[k]);
+                }
+                case TENSOR_DOUBLE_DATA -> in.doubles(wire, values);
+                case TENSOR_NAME -> name = in.string();
+                case TENSOR_RAW_DATA -> raw = in.bytes();
+                default -> in.skip(wire);
+            }
+        }
+        if (raw != null) {
+            raw.order(ByteOrder.LITTLE_ENDIAN);
+            while (raw.hasRemaining()) {
+                switch (dataType) {
+                    case FLOAT -> values.add(raw.getFloat());
+                    case DOUBLE -> values.add(raw.getDouble());
+                    case INT32 -> values.add(raw.getInt());
+                    case INT64 -> values.add(raw.getLong());
+                    default -> throw new UnsupportedOperationException("Tensor " + name + " has data type " + dataType);
+                }
+            }
+        }
+        return new NamedTensor(name, new OnnxGraph.Tensor(dims.toArray(), values.toArray()));
+    }
+
+    private static String readValueInfoName(Cursor in) {
+        String name = null;
+        while (in.hasMore()) {
+            int tag = in.varint32();
+            if (tag >>> 3 == VALUE_INFO_NAME) {
+                name = in.string();
+            } else {
+                in.skip(tag & 7);
+            }
+        }
+        return name;
+    }
+
+    // ── Wire format ───────────────────────────────────────────────────────────
+
+    private static final class Cursor {
+        private final ByteBuffer buf;
+
+        Cursor(ByteBuffer buf) {
+            this.buf = buf.order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        boolean hasMore() {
+            return buf.hasRemaining();
+        }
+
+        long varint64() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = buf.get();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return result;
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        int varint32() {
+            return (int) varint64();
+        }
+
+        float fixed32Float() {
+            return buf.getFloat();
+        }
+
+        ByteBuffer bytes() {
+            int length = varint32();
+            ByteBuffer slice = buf.slice(buf.position(), length);
+            buf.position(buf.position() + length);
+            return slice;
+        }
+
+        Cursor message() {
+            return new Cursor(bytes());
+        }
+
+        String string() {
+            ByteBuffer b = bytes();
+            byte[] out = new byte[b.remaining()];
+            b.get(out);
+            return new String(out, StandardCharsets.UTF_8);
+        }
+
+        void floats(int wire, DoubleList into) {
+            if (wire == LENGTH_DELIMITED) {
+                ByteBuffer packed = bytes().order(ByteOrder.LITTLE_ENDIAN);
+                while (packed.hasRemaining()) into.add(packed.getFloat());
+            } else {
+                into.add(buf.getFloat());
+            }
+        }
+
+        void doubles(int wire, DoubleList into) {
+            if (wire == LENGTH_DELIMITED) {
+                ByteBuffer packed = bytes().order(ByteOrder.LITTLE_ENDIAN);
+                while (packed.hasRemaining()) into.add(packed.getDouble());
+            } else {
+                into.add(buf.getDouble());
+            }
+        }
+
+        void varints(int wire, LongList into) {
+            if (wire == LENGTH_DELIMITED) {
+                Cursor packed = message();
+                while (packed.hasMore()) into.add(packed.varint64());
+            } else {
+                into.add(varint64());
+            }
+        }
+
+        void skip(int wire) {
+            switch (wire) {
+                case VARINT -> varint64();
+                case FIXED64 -> buf.position(buf.position() + 8);
+                case LENGTH_DELIMITED -> bytes();
+                case FIXED32 -> buf.position(buf.position() + 4);
+                default -> throw new IllegalArgumentException("Unsupported protobuf wire type " + wire);
+            }
+        }
+    }
+
+    private static final class DoubleList {
+        double[] values = new double[16];
+        int size;
+
+        void add(double v) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = v;
+        }
+
+        double[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class LongList {
+        long[] values = new long[16];
+        int size;
+
+        void add(long v) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = v;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.yotto.basketball.service;
+
+import com.yotto.basketball.entity.ScrapeBatch;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.time.LocalDate;
+
+/**
+ * Custom JDK Flight Recorder events for the scrape and calculation pipeline, so a
+ * recording (see {@link FlightRecordingService}) lines GC pauses, lock contention and
+ * socket/JDBC waits up against the step that was executing.
+ *
+ * <p>Each event is a duration event: {@code begin()} before the work, then
+ * {@code finish(...)}, which fills the fields and commits only when
+ * {@code shouldCommit()} — with no recording running that check is a constant
+ * {@code false} after JIT, so the cost is one allocation that escape analysis
+ * usually removes. Stack traces are off; the step fields say where we are.
+ */
+public final class PipelineJfrEvents {
+
+    private PipelineJfrEvents() {}
+
+    /** One top-level {@code ScrapeOrchestrator} step (a scraper, or the calculation block). */
+    @Name("com.yotto.basketball.PipelineStep")
+    @Label("Pipeline Step")
+    @Category({"Basketball", "Pipeline"})
+    @StackTrace(false)
+    public static class PipelineStep extends Event {
+        @Label("Season") public int season;
+        @Label("Step") public String step;
+        @Label("Pipeline Run") @Description("pipelineRunId of the ScrapeBatch rows, when part of a run")
+        public String pipelineRunId;
+        @Label("Rows Created") public long rowsCreated;
+        @Label("Rows Updated") public long rowsUpdated;
+
+        public void finish(int season, String step, String pipelineRunId, long rowsCreated, long rowsUpdated) {
+            end();
+            if (shouldCommit()) {
+                this.season = season;
+                this.step = step;
+                this.pipelineRunId = pipelineRunId;
+                this.rowsCreated = rowsCreated;
+                this.rowsUpdated = rowsUpdated;
+                commit();
+            }
+        }
+    }
+
+    /** One iteration of a scraper's per-date or per-game loop. */
+    @Name("com.yotto.basketball.ScrapeItem")
+    @Label("Scrape Item")
+    @Category({"Basketball", "Scraping"})
+    @StackTrace(false)
+    public static class ScrapeItem extends Event {
+        @Label("Season") public int season;
+        @Label("Step") public String step;
+        @Label("Date") @Description("Scoreboard date; for per-game loops, the game's scoreboard date")
+        public String date;
+        @Label("Game Id") @Description("0 for per-date loops")
+        public long gameId;
+        @Label("Rows Created") public long rowsCreated;
+        @Label("Rows Updated") public long rowsUpdated;
+        @Label("Succeeded") public boolean succeeded;
+
+        private transient int createdBefore;
+        private transient int updatedBefore;
+
+        /** Begins timing; row counts are the batch's deltas from here to {@link #finish}. */
+        public void begin(ScrapeBatch batch) {
+            createdBefore = batch.getRecordsCreated();
+            updatedBefore = batch.getRecordsUpdated();
+            begin();
+        }
+
+        public void finish(ScrapeBatch batch, String step, LocalDate date, long gameId, boolean succeeded) {
+            end();
+            if (shouldCommit()) {
+                this.season = batch.getSeasonYear();
+                this.step = step;
+                this.date = date != null ? date.toString() : null;
+                this.gameId = gameId;
+                this.rowsCreated = batch.getRecordsCreated() - createdBefore;
+                this.rowsUpdated = batch.getRecordsUpdated() - updatedBefore;
+                this.succeeded = succeeded;
+                commit();
+            }
+        }
+    }
+
+    /** One snapshot date of a calculator: its solve (if any) and snapshot building. */
+    @Name("com.yotto.basketball.CalculationDate")
+    @Label("Calculation Date")
+    @Category({"Basketball", "Calculation"})
+    @StackTrace(false)
+    public static class CalculationDate extends Event {
+        @Label("Season") public int season;
+        @Label("Step") @Description("Model or calculator, as tagged in the pipeline metrics")
+        public String step;
+        @Label("Date") public String date;
+        @Label("Rows") @Description("Snapshot rows built for this date")
+        public long rows;
+
+        public void finish(int season, String step, LocalDate date, long rows) {
+            end();
+            if (shouldCommit()) {
+                this.season = season;
+                this.step = step;
+                this.date = date.toString();
+                this.rows = rows;
+                commit();
+            }
+        }
+    }
+
+    /** One JDBC batch written by {@code SnapshotJdbcWriter}. */
+    @Name("com.yotto.basketball.SnapshotBatch")
+    @Label("Snapshot Batch Write")
+    @Category({"Basketball", "Calculation"})
+    @StackTrace(false)
+    public static class SnapshotBatch extends Event {
+        @Label("Season") public int season;
+        @Label("Table") public String table;
+        @Label("Batch") @Description("0-based index of this batch within the write")
+        public int batch;
+        @Label("Rows") public long rows;
+
+        public void finish(int season, String table, int batch, long rows) {
+            end();
+            if (shouldCommit()) {
+                this.season = season;
+                this.table = table;
+                this.batch = batch;
+                this.rows = rows;
+                commit();
+            }
+        }
+    }
+}
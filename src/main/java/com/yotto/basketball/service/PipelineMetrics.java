@@ -0,0 +1,195 @@
+package com.yotto.basketball.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer instrumentation for the calculation pipeline and the ESPN client,
+ * exported through {@code /actuator/prometheus}.
+ *
+ * <ul>
+ *   <li>{@value #STAGE_TIMER} — wall time per stage ({@code load}, {@code accumulate},
+ *       {@code solve}, {@code snapshot_build}, {@code write}, {@code calculator}),
+ *       tagged {@code stage}, {@code season}, {@code model}. For {@code calculator}
+ *       the model tag is the {@link DailyStatCalculator} class.</li>
+ *   <li>{@value #SOLVER_ITERATIONS} / {@value #SOLVER_FALLBACKS} — Newton steps and
+ *       Cholesky→LU fallbacks, tagged {@code season}, {@code model}.</li>
+ *   <li>{@value #ROWS_WRITTEN} — snapshot rows inserted, tagged {@code table}, {@code season}.</li>
+ *   <li>{@value #ESPN_REQUEST} / {@value #ESPN_BYTES} — ESPN latency (excluding the
+ *       rate-limit pause) and response size, tagged {@code endpoint}.</li>
+ * </ul>
+ *
+ * <p>Each model's most recent run is also kept in memory as a {@link RunSummary}
+ * for the admin dashboard.
+ */
+@Component
+public class PipelineMetrics {
+
+    public static final String STAGE_TIMER       = "pipeline.stage";
+    public static final String SOLVER_ITERATIONS = "pipeline.solver.iterations";
+    public static final String SOLVER_FALLBACKS  = "pipeline.solver.fallbacks";
+    public static final String ROWS_WRITTEN      = "pipeline.rows.written";
+    public static final String ESPN_REQUEST      = "espn.request";
+    public static final String ESPN_BYTES        = "espn.response.bytes";
+
+    public static final String LOAD           = "load";
+    public static final String ACCUMULATE     = "accumulate";
+    public static final String SOLVE          = "solve";
+    public static final String SNAPSHOT_BUILD = "snapshot_build";
+    public static final String WRITE          = "write";
+    public static final String CALCULATOR     = "calculator";
+
+    /** Model tag for {@link SeasonGameDataLoader#load}, which every model shares. */
+    public static final String MODEL_SEASON_DATA = "SEASON_GAME_DATA";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RunSummary> latestByModel = new ConcurrentHashMap<>();
+
+    public PipelineMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * The latest run of one model: per-stage milliseconds in stage order, rows it
+     * wrote, and solver work summed over its variants.
+     */
+    public record RunSummary(String model, int season, Map<String, Long> stageMillis,
+                             long rowsWritten, long solverIterations, long solverFallbacks,
+                             LocalDateTime finishedAt) {
+
+        public long totalMillis() {
+            return stageMillis.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    /** Starts accumulating stage times for one model's pass over a season. */
+    public Run start(String model, int season) {
+        return new Run(model, season);
+    }
+
+    /** Records a single-shot stage (no solver work) and updates the model's summary. */
+    public void record(String stage, String model, int season, long nanos) {
+        Run run = start(model, season);
+        run.add(stage, nanos);
+        run.finish();
+    }
+
+    public void rowsWritten(String table, int season, long rows) {
+        Counter.builder(ROWS_WRITTEN)
+                .tag("table", table)
+                .tag("season", String.valueOf(season))
+                .register(meterRegistry)
+                .increment(rows);
+    }
+
+    public void espnRequest(String endpoint, boolean success, long nanos, long bytes) {
+        Timer.builder(ESPN_REQUEST)
+                .tag("endpoint", endpoint)
+                .tag("outcome", success ? "success" : "error")
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        if (success) {
+            DistributionSummary.builder(ESPN_BYTES)
+                    .baseUnit("bytes")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry)
+                    .record(bytes);
+        }
+    }
+
+    /** Latest run per model, most recent first. */
+    public List<RunSummary> latestRuns() {
+        return latestByModel.values().stream()
+                .sorted(Comparator.comparing(RunSummary::finishedAt).reversed())
+                .toList();
+    }
+
+    /**
+     * Stage-time accumulator for one run. Not thread-safe — a run belongs to the
+     * thread computing it. Typical use brackets each phase with {@link #lap}:
+     * <pre>
+     *   long t = System.nanoTime();
+     *   ... accumulate ...
+     *   t = run.lap(ACCUMULATE, t);
+     * </pre>
+     */
+    public final class Run {
+
+        private final String model;
+        private final int season;
+        private final Map<String, Long> stageNanos = new LinkedHashMap<>();
+        private final Map<String, long[]> solverByModel = new LinkedHashMap<>(); // {iterations, fallbacks}
+        private long rows;
+
+        private Run(String model, int season) {
+            this.model = model;
+            this.season = season;
+        }
+
+        public void add(String stage, long nanos) {
+            stageNanos.merge(stage, nanos, Long::sum);
+        }
+
+        /** Adds the time since {@code since} to {@code stage}; returns now for the next lap. */
+        public long lap(String stage, long since) {
+            long now = System.nanoTime();
+            add(stage, now - since);
+            return now;
+        }
+
+        public void solverIterations(String variant, int iterations) {
+            solverByModel.computeIfAbsent(variant, k -> new long[2])[0] += iterations;
+        }
+
+        public void solverFallback(String variant) {
+            solverByModel.computeIfAbsent(variant, k -> new long[2])[1]++;
+        }
+
+        public void rows(long count) {
+            rows += count;
+        }
+
+        /** Publishes the accumulated figures and replaces the model's dashboard summary. */
+        public void finish() {
+            String seasonTag = String.valueOf(season);
+            Map<String, Long> millis = new LinkedHashMap<>();
+            stageNanos.forEach((stage, nanos) -> {
+                Timer.builder(STAGE_TIMER)
+                        .tag("stage", stage)
+                        .tag("season", seasonTag)
+                        .tag("model", model)
+                        .register(meterRegistry)
+                        .record(nanos, TimeUnit.NANOSECONDS);
+                millis.put(stage, TimeUnit.NANOSECONDS.toMillis(nanos));
+            });
+            long iterations = 0, fallbacks = 0;
+            for (Map.Entry<String, long[]> e : solverByModel.entrySet()) {
+                long[] counts = e.getValue();
+                solverCounter(SOLVER_ITERATIONS, e.getKey(), seasonTag).increment(counts[0]);
+                solverCounter(SOLVER_FALLBACKS, e.getKey(), seasonTag).increment(counts[1]);
+                iterations += counts[0];
+                fallbacks += counts[1];
+            }
+            latestByModel.put(model, new RunSummary(model, season, millis, rows, iterations, fallbacks,
+                    LocalDateTime.now()));
+        }
+
+        private Counter solverCounter(String name, String variant, String seasonTag) {
+            return Counter.builder(name)
+                    .tag("season", seasonTag)
+                    .tag("model", variant)
+                    .register(meterRegistry);
+        }
+    }
+}
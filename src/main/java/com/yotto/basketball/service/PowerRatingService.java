@@ -11,11 +11,14 @@ public class PowerRatingService {
 
     private final MasseyRatingService masseyRatingService;
     private final BradleyTerryRatingService bradleyTerryRatingService;
+    private final EloRatingService eloRatingService;
 
     public PowerRatingService(MasseyRatingService masseyRatingService,
-                              BradleyTerryRatingService bradleyTerryRatingService) {
+                              BradleyTerryRatingService bradleyTerryRatingService,
+                              EloRatingService eloRatingService) {
         this.masseyRatingService = masseyRatingService;
         this.bradleyTerryRatingService = bradleyTerryRatingService;
+        this.eloRatingService = eloRatingService;
     }
 
     public void calculateAndStoreForSeason(int seasonYear) {
@@ -27,6 +30,7 @@ public class PowerRatingService {
         log.info("Calculating power ratings for season {}", seasonYear);
         masseyRatingService.calculateAndStoreForSeason(seasonYear, fromDate);
         bradleyTerryRatingService.calculateAndStoreForSeason(seasonYear, fromDate);
+        eloRatingService.calculateAndStoreForSeason(seasonYear, fromDate);
         log.info("Power ratings complete for season {}", seasonYear);
     }
 
@@ -35,6 +39,7 @@ public class PowerRatingService {
         log.info("Calculating power ratings for season {}", data.season().getYear());
         masseyRatingService.calculateAndStoreForSeason(data, fromDate);
         bradleyTerryRatingService.calculateAndStoreForSeason(data, fromDate);
+        eloRatingService.calculateAndStoreForSeason(data, fromDate);
         log.info("Power ratings complete for season {}", data.season().getYear());
     }
 }
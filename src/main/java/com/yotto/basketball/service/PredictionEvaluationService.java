@@ -33,7 +33,9 @@ import java.util.Objects;
  * <p>Evaluation is incremental: games that already have rows are skipped, except that a
  * game whose ML row was produced by a different model version than the currently loaded
  * one is fully re-evaluated (all its rows are upserted). Writes go through a JDBC
- * {@code ON CONFLICT} upsert keyed on {@code (game_id, model_type)}.
+ * {@code ON CONFLICT} upsert keyed on {@code (game_id, model_type)}; the touched game
+ * days' {@code prediction_metric_rollups} are rebuilt in the same transaction (see
+ * {@link PredictionMetricRollupWriter}).
  */
 @Service
 public class PredictionEvaluationService {
@@ -71,19 +73,22 @@ public class PredictionEvaluationService {
     private final PredictionService predictionService;
     private final MlModelRegistryService mlModelRegistryService;
     private final JdbcTemplate jdbcTemplate;
+    private final PredictionMetricRollupWriter rollupWriter;
 
     public PredictionEvaluationService(GameRepository gameRepository,
                                        SeasonRepository seasonRepository,
                                        PredictionEvaluationRepository evaluationRepository,
                                        PredictionService predictionService,
                                        MlModelRegistryService mlModelRegistryService,
-                                       JdbcTemplate jdbcTemplate) {
+                                       JdbcTemplate jdbcTemplate,
+                                       PredictionMetricRollupWriter rollupWriter) {
         this.gameRepository       = gameRepository;
         this.seasonRepository     = seasonRepository;
         this.evaluationRepository = evaluationRepository;
         this.predictionService    = predictionService;
         this.mlModelRegistryService = mlModelRegistryService;
         this.jdbcTemplate         = jdbcTemplate;
+        this.rollupWriter         = rollupWriter;
     }
 
     /**
@@ -115,6 +120,7 @@ public class PredictionEvaluationService {
 
         List<Game> games = gameRepository.findFinalGamesForEvaluation(seasonYear);
         List<Object[]> rows = new ArrayList<>();
+        java.util.Set<java.time.LocalDate> touchedDays = new java.util.TreeSet<>();
         int evaluatedGames = 0;
 
         for (Game game : games) {
@@ -136,6 +142,7 @@ public class PredictionEvaluationService {
             List<Object[]> gameRows = buildRows(game, season, expectedMl);
             if (!gameRows.isEmpty()) {
                 rows.addAll(gameRows);
+                touchedDays.add(game.getGameDate().toLocalDate());
                 evaluatedGames++;
             }
         }
@@ -146,6 +153,7 @@ public class PredictionEvaluationService {
                               Types.INTEGER, Types.INTEGER, Types.BOOLEAN,
                               Types.DOUBLE, Types.DOUBLE, Types.VARCHAR, Types.TIMESTAMP};
             jdbcTemplate.batchUpdate(UPSERT_SQL, rows, argTypes);
+            rollupWriter.recompute(season.getId(), touchedDays);
         }
         log.info("Prediction evaluation for season {}: {} games evaluated ({} rows), {} already current",
                 seasonYear, evaluatedGames, rows.size(), games.size() - evaluatedGames);
@@ -157,6 +165,7 @@ public class PredictionEvaluationService {
     public int rebuildSeason(int seasonYear) {
         seasonRepository.findByYear(seasonYear).ifPresent(season -> {
             int deleted = evaluationRepository.deleteBySeasonId(season.getId());
+            rollupWriter.deleteSeason(season.getId());
             log.info("Prediction evaluation rebuild for season {}: {} rows deleted", seasonYear, deleted);
         });
         return evaluateSeason(seasonYear);
@@ -202,6 +211,11 @@ public class PredictionEvaluationService {
                     null, null, result.bradleyTerryWeighted().homeWinProbability(),
                     actualMargin, actualTotal, homeWon, null));
         }
+        if (result.elo() != null) {
+            rows.add(row(game, season, EloRatingService.MODEL_TYPE,
+                    result.elo().spread(), null, result.elo().homeWinProbability(),
+                    actualMargin, actualTotal, homeWon, null));
+        }
         // One row per evaluable ML bundle (ACTIVE + CANDIDATE shadow models); expected
         // bundles with no prediction get a null-prediction marker row at their version.
         Map<String, PredictionResult.MlPrediction> mlPredictions = internal.allMlPredictions();
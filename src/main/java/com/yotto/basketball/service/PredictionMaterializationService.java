@@ -0,0 +1,91 @@
+package com.yotto.basketball.service;
+
+import com.yotto.basketball.entity.Game;
+import com.yotto.basketball.repository.GameRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Writes {@code game_predictions} for every not-yet-final game in the serving window
+ * (the last {@value #LOOKBACK_DAYS} days through {@link PredictionService#MAX_UPCOMING_DAYS}
+ * ahead), so {@code /api/predictions} and the predictions page read one row per game
+ * instead of re-running ~14 snapshot queries and every ONNX model per request.
+ *
+ * <p>Each row is stamped with its season's snapshot generation (the stat-calc
+ * watermark's last start), the serving plan's fingerprint, and the game's date and
+ * site (a rescheduled or relocated game changes the cutoff or home court). Readers ignore rows
+ * whose stamps no longer match, so a refresh that hasn't happened yet costs latency,
+ * never correctness. Refreshes run after each pipeline calculation and whenever the
+ * serving plan changes.
+ */
+@Service
+public class PredictionMaterializationService {
+
+    private static final Logger log = LoggerFactory.getLogger(PredictionMaterializationService.class);
+
+    /** Keeps games that slipped past their tip-off time without going FINAL (late scrape, delays). */
+    static final int LOOKBACK_DAYS = 7;
+
+    private final GameRepository gameRepository;
+    private final PredictionService predictionService;
+    private final MlModelRegistryService mlModelRegistryService;
+    private final GamePredictionStore store;
+
+    public PredictionMaterializationService(GameRepository gameRepository,
+                                            PredictionService predictionService,
+                                            MlModelRegistryService mlModelRegistryService,
+                                            GamePredictionStore store) {
+        this.gameRepository = gameRepository;
+        this.predictionService = predictionService;
+        this.mlModelRegistryService = mlModelRegistryService;
+        this.store = store;
+    }
+
+    /** Recomputes the window for every season (serving plan change, manual refresh). */
+    @Transactional
+    public int refreshWindow() {
+        return refresh(null);
+    }
+
+    /** Recomputes the window's games for one season (after that season's calculations). */
+    @Transactional
+    public int refreshWindow(int seasonYear) {
+        return refresh(seasonYear);
+    }
+
+    private int refresh(Integer seasonYear) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime start = now.minusDays(LOOKBACK_DAYS);
+        List<Game> games = gameRepository.findNotFinalBetween(
+                start, now.plusDays(PredictionService.MAX_UPCOMING_DAYS), seasonYear);
+
+        // Stamp with the generation read before computing: a calc that lands mid-refresh
+        // then leaves these rows stale (recomputed live) rather than wrongly current.
+        Map<Long, LocalDateTime> generations = predictionService.snapshotGenerations(
+                games.stream().map(g -> g.getSeason().getId()).collect(Collectors.toSet()));
+        String fingerprint = mlModelRegistryService.plan().fingerprint();
+
+        List<GamePredictionStore.Row> rows = new ArrayList<>(games.size());
+        for (Game game : games) {
+            PredictionResult prediction = predictionService.buildPrediction(game);
+            rows.add(new GamePredictionStore.Row(
+                    game.getId(), game.getSeason().getId(), game.getGameDate().toLocalDate(),
+                    Boolean.TRUE.equals(game.getNeutralSite()), generations.get(game.getSeason().getId()), fingerprint,
+                    GamePredictionStore.Models.of(prediction)));
+        }
+        store.upsert(rows);
+        int pruned = store.prune(start.toLocalDate());
+
+        log.info("Materialized {} predictions{} (pruned {})", rows.size(),
+                seasonYear != null ? " for season " + seasonYear : "", pruned);
+        return rows.size();
+    }
+}
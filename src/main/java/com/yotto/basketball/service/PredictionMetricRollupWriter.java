@@ -0,0 +1,112 @@
+package com.yotto.basketball.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Maintains {@code prediction_metric_rollups}, the per-day sufficient statistics the
+ * model-performance page reads instead of scanning {@code prediction_evaluations}.
+ *
+ * <p>Rather than applying deltas (an ML re-evaluation overwrites existing rows, which
+ * would need the old values subtracted), each touched {@code (season, game_date)} is
+ * rebuilt from its evaluation rows: delete, then two grouped INSERT … SELECTs. The work
+ * is proportional to the days touched, not to history. Runs inside the caller's
+ * transaction, so evaluations and rollups always commit together. The SQL mirrors the
+ * V30 backfill.
+ */
+@Component
+public class PredictionMetricRollupWriter {
+
+    private static final String DELETE_DAYS_SQL = """
+            DELETE FROM prediction_metric_rollups
+            WHERE season_id = :seasonId AND game_date IN (:dates)
+            """;
+
+    private static final String INSERT_ALL_GAMES_SQL = """
+            INSERT INTO prediction_metric_rollups
+            SELECT pe.season_id, pe.game_date, pe.model_type, COALESCE(g.tournament_type, 'NONE'), 0,
+                   COALESCE(least(floor(pe.predicted_home_win_prob * 10), 9)::smallint, -1),
+                   count(pe.spread_error),
+                   COALESCE(sum(abs(pe.spread_error)), 0),
+                   COALESCE(sum(pe.spread_error * pe.spread_error), 0),
+                   count(*) FILTER (WHERE pe.spread_error IS NOT NULL
+                                      AND (pe.predicted_spread >= 0) = (pe.actual_margin > 0)),
+                   NULL,
+                   count(pe.total_error),
+                   COALESCE(sum(abs(pe.total_error)), 0),
+                   COALESCE(sum(pe.total_error * pe.total_error), 0),
+                   COALESCE(sum(pe.total_error), 0),
+                   count(pe.predicted_home_win_prob),
+                   COALESCE(sum(pe.predicted_home_win_prob), 0),
+                   COALESCE(sum(power(pe.predicted_home_win_prob - (CASE WHEN pe.home_won THEN 1.0 ELSE 0.0 END), 2)), 0),
+                   count(*) FILTER (WHERE pe.predicted_home_win_prob IS NOT NULL
+                                      AND (pe.predicted_home_win_prob >= 0.5) = pe.home_won),
+                   count(*) FILTER (WHERE pe.predicted_home_win_prob IS NOT NULL AND pe.home_won)
+            FROM prediction_evaluations pe
+            JOIN games g ON g.id = pe.game_id
+            WHERE pe.season_id = :seasonId AND pe.game_date IN (:dates)
+            GROUP BY pe.season_id, pe.game_date, pe.model_type, COALESCE(g.tournament_type, 'NONE'),
+                     COALESCE(least(floor(pe.predicted_home_win_prob * 10), 9)::smallint, -1)
+            """;
+
+    /**
+     * Paired model-vs-book rows. A game is attributed to each involved team's conference
+     * for that season — cross-conference games count once in each, intra-conference once.
+     */
+    private static final String INSERT_CONFERENCE_SQL = """
+            INSERT INTO prediction_metric_rollups
+            SELECT m.season_id, m.game_date, m.model_type, COALESCE(g.tournament_type, 'NONE'),
+                   confs.conference_id, -1,
+                   count(*),
+                   sum(abs(m.spread_error)),
+                   sum(m.spread_error * m.spread_error),
+                   count(*) FILTER (WHERE (m.predicted_spread >= 0) = (m.actual_margin > 0)),
+                   sum(abs(b.spread_error)),
+                   0, 0, 0, 0, 0, 0, 0, 0, 0
+            FROM prediction_evaluations m
+            JOIN prediction_evaluations b
+                 ON b.game_id = m.game_id AND b.model_type = 'BOOK' AND b.spread_error IS NOT NULL
+            JOIN games g ON g.id = m.game_id
+            JOIN LATERAL (
+                SELECT DISTINCT cm.conference_id
+                FROM conference_memberships cm
+                WHERE cm.season_id = m.season_id
+                  AND cm.team_id IN (g.home_team_id, g.away_team_id)
+            ) confs ON true
+            WHERE m.spread_error IS NOT NULL
+              AND m.season_id = :seasonId AND m.game_date IN (:dates)
+            GROUP BY m.season_id, m.game_date, m.model_type, COALESCE(g.tournament_type, 'NONE'),
+                     confs.conference_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public PredictionMetricRollupWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /** Rebuilds the rollup rows of the given game days from their current evaluations. */
+    public void recompute(Long seasonId, Collection<LocalDate> dates) {
+        if (dates.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("seasonId", seasonId)
+                .addValue("dates", dates);
+        namedJdbcTemplate.update(DELETE_DAYS_SQL, params);
+        namedJdbcTemplate.update(INSERT_ALL_GAMES_SQL, params);
+        namedJdbcTemplate.update(INSERT_CONFERENCE_SQL, params);
+    }
+
+    /** Drops a season's rollups (its evaluations are being rebuilt from scratch). */
+    public int deleteSeason(Long seasonId) {
+        return jdbcTemplate.update("DELETE FROM prediction_metric_rollups WHERE season_id = ?", seasonId);
+    }
+}
@@ -32,6 +32,7 @@ public record PredictionResult(
         MasseyTotalPrediction masseyTotal,
         BradleyTerryPrediction bradleyTerry,
         BradleyTerryPrediction bradleyTerryWeighted,
+        EloPrediction elo,
         MlPrediction ml,                    // the default ACTIVE model (back-compat)
         Map<String, MlPrediction> mlModels, // slug → prediction for every ACTIVE model
 
@@ -44,13 +45,17 @@ public record PredictionResult(
 
     /**
      * Massey spread prediction: β_h − β_a + α (negative = away team favored).
-     * HCA term is zero for neutral-site games.
+     * HCA term is zero for neutral-site games. {@code spreadStdError} is the standard
+     * error of the predicted spread (not of the game's margin), the ratings' covariance
+     * included; for a hypothetical matchup, the rating and α standard errors in quadrature.
+     * Null when either team's snapshot has none.
      */
     public record MasseyPrediction(
             double spread,
             int homeGamesPlayed,
             int awayGamesPlayed,
-            LocalDate modelDate   // earlier of the two teams' snapshot dates
+            LocalDate modelDate,  // earlier of the two teams' snapshot dates
+            Double spreadStdError
     ) {}
 
     /**
@@ -79,6 +84,22 @@ public record PredictionResult(
             LocalDate modelDate
     ) {}
 
+    /**
+     * Elo prediction: spread (R_h − R_a + H) / {@code ELO_PER_POINT} and home win
+     * probability 1 / (1 + 10^(−(R_h − R_a + H)/400)); H is zero for neutral-site games.
+     * Moneylines are no-vig fair American odds derived from the probabilities.
+     */
+    public record EloPrediction(
+            double spread,
+            double homeWinProbability,
+            double awayWinProbability,
+            int homeImpliedMoneyline,
+            int awayImpliedMoneyline,
+            int homeGamesPlayed,
+            int awayGamesPlayed,
+            LocalDate modelDate
+    ) {}
+
     /**
      * One ML model bundle's predictions. Present only when the bundle is loaded, all
      * four rating-model snapshots are available, and every feature in the bundle's
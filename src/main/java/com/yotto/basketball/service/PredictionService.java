@@ -10,6 +10,7 @@ import com.yotto.basketball.entity.TeamSeasonStatSnapshot;
 import com.yotto.basketball.repository.GameRepository;
 import com.yotto.basketball.repository.PowerModelParamSnapshotRepository;
 import com.yotto.basketball.repository.SeasonRepository;
+import com.yotto.basketball.repository.StatCalcWatermarkRepository;
 import com.yotto.basketball.repository.TeamPowerRatingSnapshotRepository;
 import com.yotto.basketball.repository.TeamRepository;
 import com.yotto.basketball.repository.TeamSeasonStatSnapshotRepository;
@@ -22,17 +23,27 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
- * Assembles game predictions from pre-computed Massey and Bradley-Terry snapshots
+ * Assembles game predictions from pre-computed Massey, Bradley-Terry and Elo snapshots
  * and, when enabled, from the ONNX ML models via {@link MlPredictionService}.
  *
  * <p>All snapshot lookups use the most recent snapshot dated strictly before the game
  * date, ensuring only information available before tip-off is used.
+ *
+ * <p>Public reads of not-yet-final games are served from {@code game_predictions}
+ * (kept current by {@link PredictionMaterializationService}) when the stored row's
+ * snapshot generation, model fingerprint, game date and site still match; anything
+ * else is computed live. Evaluation always computes live via {@link #buildPrediction}.
  */
 @Service
 @Transactional(readOnly = true)
@@ -50,6 +61,9 @@ public class PredictionService {
     private final TeamSeasonStatSnapshotRepository teamSeasonStatSnapshotRepository;
     private final MlPredictionService mlPredictionService;
     private final MlModelRegistryService mlModelRegistryService;
+    private final GamePredictionStore predictionStore;
+    private final StatCalcWatermarkRepository watermarkRepository;
+    private final MasseySpreadErrorStore spreadErrorStore;
 
     public PredictionService(GameRepository gameRepository,
                              TeamRepository teamRepository,
@@ -59,7 +73,10 @@ public class PredictionService {
                              TeamStatSnapshotRepository teamStatSnapshotRepository,
                              TeamSeasonStatSnapshotRepository teamSeasonStatSnapshotRepository,
                              MlPredictionService mlPredictionService,
-                             MlModelRegistryService mlModelRegistryService) {
+                             MlModelRegistryService mlModelRegistryService,
+                             GamePredictionStore predictionStore,
+                             StatCalcWatermarkRepository watermarkRepository,
+                             MasseySpreadErrorStore spreadErrorStore) {
         this.gameRepository       = gameRepository;
         this.teamRepository       = teamRepository;
         this.seasonRepository     = seasonRepository;
@@ -69,13 +86,40 @@ public class PredictionService {
         this.teamSeasonStatSnapshotRepository = teamSeasonStatSnapshotRepository;
         this.mlPredictionService  = mlPredictionService;
         this.mlModelRegistryService = mlModelRegistryService;
+        this.predictionStore = predictionStore;
+        this.watermarkRepository = watermarkRepository;
+        this.spreadErrorStore = spreadErrorStore;
     }
 
     /** Returns a prediction for a single game by ID. */
     public PredictionResult predict(Long gameId) {
-        Game game = gameRepository.findById(gameId)
+        Game game = gameRepository.findByIdWithDetails(gameId)
                 .orElseThrow(() -> new EntityNotFoundException("Game not found: " + gameId));
-        return buildPrediction(game);
+        return predict(game);
+    }
+
+    /**
+     * Returns a prediction for a game the caller has already loaded, sparing the
+     * re-fetch. The game must have its teams, season and betting odds initialized
+     * (e.g. from {@code GameRepository.findByIdWithDetails}).
+     */
+    public PredictionResult predict(Game game) {
+        return predictAll(List.of(game)).get(0);
+    }
+
+    /**
+     * Predictions for already-loaded games, in input order: stored predictions where
+     * still current, live computation for the rest (FINAL games always compute live,
+     * since they carry the actual result).
+     */
+    public List<PredictionResult> predictAll(List<Game> games) {
+        Map<Long, GamePredictionStore.Models> stored = currentStoredModels(games);
+        List<PredictionResult> results = new ArrayList<>(games.size());
+        for (Game game : games) {
+            GamePredictionStore.Models models = stored.get(game.getId());
+            results.add(models != null ? fromStored(game, models) : buildPrediction(game));
+        }
+        return results;
     }
 
     /**
@@ -83,13 +127,15 @@ public class PredictionService {
      * IN_PROGRESS games are excluded. {@code days} is clamped to [1, {@value #MAX_UPCOMING_DAYS}].
      */
     public List<PredictionResult> getUpcoming(int days) {
-        int clamped = Math.min(Math.max(days, 1), MAX_UPCOMING_DAYS);
+        int clamped = clampUpcomingDays(days);
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime end = now.plusDays(clamped);
-        return gameRepository.findScheduledBetween(now, end)
-                .stream()
-                .map(this::buildPrediction)
-                .collect(Collectors.toList());
+        return predictAll(gameRepository.findScheduledBetween(now, end));
+    }
+
+    /** The window {@link #getUpcoming} actually serves for a requested {@code days}. */
+    public static int clampUpcomingDays(int days) {
+        return Math.min(Math.max(days, 1), MAX_UPCOMING_DAYS);
     }
 
     /**
@@ -110,12 +156,13 @@ public class PredictionService {
                 .orElseGet(() -> seasonRepository.findTopByOrderByYearDesc()
                         .orElseThrow(() -> new IllegalStateException("No seasons configured")));
 
-        GameRatings ratings = fetchGameRatings(homeTeamId, awayTeamId, season.getId(), gameDate, neutralSite);
+        GameRatings ratings = fetchGameRatings(null, homeTeamId, awayTeamId, season.getId(), gameDate, neutralSite);
 
         PredictionResult.MasseyPrediction       massey      = toMassey(ratings);
         PredictionResult.MasseyTotalPrediction  masseyTotal = toMasseyTotal(ratings);
         PredictionResult.BradleyTerryPrediction bt          = toBradleyTerry(ratings);
         PredictionResult.BradleyTerryPrediction btWeighted  = toBradleyTerryWeighted(ratings);
+        PredictionResult.EloPrediction          elo         = toElo(ratings, neutralSite);
 
         MlPredictions mlPredictions = MlPredictions.none();
         if (ratings.hasAll()) {
@@ -127,7 +174,7 @@ public class PredictionService {
                 null, gameDate, null, neutralSite,
                 toTeamSummary(home), toTeamSummary(away),
                 null, null, null, null,
-                massey, masseyTotal, bt, btWeighted,
+                massey, masseyTotal, bt, btWeighted, elo,
                 mlPredictions.defaultPrediction(), mlPredictions.active(),
                 null, null);
     }
@@ -159,7 +206,7 @@ public class PredictionService {
             return new InternalPrediction(new PredictionResult(
                     game.getId(), game.getGameDate().toLocalDate(), game.getStatus(),
                     game.getNeutralSite(), homeTeam, awayTeam,
-                    null, null, null, null, null, null, null, null, null, Map.of(),
+                    null, null, null, null, null, null, null, null, null, null, Map.of(),
                     bookSpread, bookOverUnder), Map.of());
         }
 
@@ -170,12 +217,13 @@ public class PredictionService {
         Long awayId      = game.getAwayTeam().getId();
 
         // Fetch all snapshots in one pass — used by both Phase 1 and Phase 2
-        GameRatings ratings = fetchGameRatings(homeId, awayId, seasonId, cutoff, neutral);
+        GameRatings ratings = fetchGameRatings(game.getId(), homeId, awayId, seasonId, cutoff, neutral);
 
         PredictionResult.MasseyPrediction        massey          = toMassey(ratings);
         PredictionResult.MasseyTotalPrediction   masseyTotal     = toMasseyTotal(ratings);
         PredictionResult.BradleyTerryPrediction  bt              = toBradleyTerry(ratings);
         PredictionResult.BradleyTerryPrediction  btWeighted      = toBradleyTerryWeighted(ratings);
+        PredictionResult.EloPrediction           elo             = toElo(ratings, neutral);
 
         // ML models — every evaluable bundle is scored once; only ACTIVE ones are public
         MlPredictions mlPredictions = MlPredictions.none();
@@ -199,27 +247,99 @@ public class PredictionService {
                 game.getId(), game.getGameDate().toLocalDate(), game.getStatus(),
                 game.getNeutralSite(), homeTeam, awayTeam,
                 actualHomeScore, actualAwayScore, actualMargin, actualTotal,
-                massey, masseyTotal, bt, btWeighted,
+                massey, masseyTotal, bt, btWeighted, elo,
                 mlPredictions.defaultPrediction(), mlPredictions.active(),
                 bookSpread, bookOverUnder);
         return new InternalPrediction(result, mlPredictions.all());
     }
 
+    // ── Materialized predictions ──────────────────────────────────────────────
+
+    /** Whether a game's prediction is materialized at all: only games that can still change hands. */
+    static boolean isMaterializable(Game game) {
+        return game.getStatus() == Game.GameStatus.SCHEDULED
+                || game.getStatus() == Game.GameStatus.IN_PROGRESS;
+    }
+
+    /** Each season's snapshot generation: its watermark's last calc start (absent = never calculated). */
+    Map<Long, LocalDateTime> snapshotGenerations(Collection<Long> seasonIds) {
+        Map<Long, LocalDateTime> generations = new HashMap<>();
+        if (seasonIds.isEmpty()) {
+            return generations;
+        }
+        watermarkRepository.findBySeasonIdIn(seasonIds)
+                .forEach(w -> generations.put(w.getSeason().getId(), w.getLastCalcStartedAt()));
+        return generations;
+    }
+
+    /** Stored model outputs for the materializable games whose stamps are still current. */
+    private Map<Long, GamePredictionStore.Models> currentStoredModels(List<Game> games) {
+        List<Game> candidates = games.stream().filter(PredictionService::isMaterializable).toList();
+        if (candidates.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, GamePredictionStore.Stored> stored =
+                predictionStore.findByGameIds(candidates.stream().map(Game::getId).toList());
+        if (stored.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> seasonIds = candidates.stream().map(g -> g.getSeason().getId()).collect(Collectors.toSet());
+        Map<Long, LocalDateTime> generations = snapshotGenerations(seasonIds);
+        String fingerprint = mlModelRegistryService.plan().fingerprint();
+
+        Map<Long, GamePredictionStore.Models> current = new HashMap<>();
+        for (Game game : candidates) {
+            GamePredictionStore.Stored row = stored.get(game.getId());
+            if (row != null
+                    && row.gameDate().equals(game.getGameDate().toLocalDate())
+                    && row.neutralSite() == Boolean.TRUE.equals(game.getNeutralSite())
+                    && fingerprint.equals(row.modelVersion())
+                    && Objects.equals(generations.get(game.getSeason().getId()), row.snapshotGeneration())) {
+                current.put(game.getId(), row.models());
+            }
+        }
+        return current;
+    }
+
+    /** Re-wraps stored model outputs with the game's live status, teams and book lines. */
+    private static PredictionResult fromStored(Game game, GamePredictionStore.Models m) {
+        BettingOdds bo = game.getBettingOdds();
+        return new PredictionResult(
+                game.getId(), game.getGameDate().toLocalDate(), game.getStatus(),
+                game.getNeutralSite(), toTeamSummary(game.getHomeTeam()), toTeamSummary(game.getAwayTeam()),
+                null, null, null, null,
+                m.massey(), m.masseyTotal(), m.bradleyTerry(), m.bradleyTerryWeighted(), m.elo(),
+                m.ml(), m.mlModels() != null ? m.mlModels() : Map.of(),
+                bo != null ? bo.getSpread() : null, bo != null ? bo.getOverUnder() : null);
+    }
+
     // ── Snapshot fetch ────────────────────────────────────────────────────────
 
     /**
-     * Fetches all six team snapshots and three HCA params in a single logical pass.
+     * Fetches all ten team snapshots and the HCA params in a single logical pass.
      * HCA params are only fetched when the game is not at a neutral site and both
-     * team snapshots are available (avoids unnecessary queries).
+     * team snapshots are available (avoids unnecessary queries). Elo's home advantage
+     * is a model constant, so it has no param. {@code gameId} is null for a hypothetical
+     * matchup, which has no stored Massey spread SE.
      */
-    private GameRatings fetchGameRatings(Long homeId, Long awayId, Long seasonId,
+    private GameRatings fetchGameRatings(Long gameId, Long homeId, Long awayId, Long seasonId,
                                           LocalDate cutoff, boolean neutral) {
         var masseyHome = ratingRepository.findLatestBefore(homeId, seasonId, MasseyRatingService.MODEL_TYPE, cutoff).orElse(null);
         var masseyAway = ratingRepository.findLatestBefore(awayId, seasonId, MasseyRatingService.MODEL_TYPE, cutoff).orElse(null);
-        double masseyHca = 0;
+        double masseyHca = 0, masseyHcaStdError = 0;
         if (!neutral && masseyHome != null && masseyAway != null) {
             masseyHca = paramRepository.findLatestParamBefore(seasonId, MasseyRatingService.MODEL_TYPE, "hca", cutoff)
                     .map(p -> p.getParamValue()).orElse(0.0);
+            if (masseyHome.getRatingStdError() != null && masseyAway.getRatingStdError() != null) {
+                masseyHcaStdError = paramRepository.findLatestParamBefore(seasonId, MasseyRatingService.MODEL_TYPE, "hca_se", cutoff)
+                        .map(p -> p.getParamValue()).orElse(0.0);
+            }
+        }
+        Double masseySpreadStdError = null;
+        if (gameId != null && masseyHome != null && masseyAway != null
+                && masseyHome.getRatingStdError() != null && masseyAway.getRatingStdError() != null
+                && masseyHome.getSnapshotDate().equals(masseyAway.getSnapshotDate())) {
+            masseySpreadStdError = spreadErrorStore.find(gameId, masseyHome.getSnapshotDate(), neutral).orElse(null);
         }
 
         var masseyTotalHome = ratingRepository.findLatestBefore(homeId, seasonId, MasseyRatingService.MODEL_TYPE_TOTALS, cutoff).orElse(null);
@@ -250,11 +370,15 @@ public class PredictionService {
                     .map(p -> p.getParamValue()).orElse(0.0);
         }
 
+        var eloHome = ratingRepository.findLatestBefore(homeId, seasonId, EloRatingService.MODEL_TYPE, cutoff).orElse(null);
+        var eloAway = ratingRepository.findLatestBefore(awayId, seasonId, EloRatingService.MODEL_TYPE, cutoff).orElse(null);
+
         return new GameRatings(
-                masseyHome, masseyAway, masseyHca,
+                masseyHome, masseyAway, masseyHca, masseyHcaStdError, masseySpreadStdError,
                 masseyTotalHome, masseyTotalAway, masseyTotalIntercept, masseyTotalDelta,
                 btHome, btAway, btAlpha,
-                btWeightedHome, btWeightedAway, btWeightedAlpha);
+                btWeightedHome, btWeightedAway, btWeightedAlpha,
+                eloHome, eloAway);
     }
 
     // ── Phase 1 sub-block builders ────────────────────────────────────────────
@@ -265,7 +389,10 @@ public class PredictionService {
         return new PredictionResult.MasseyPrediction(
                 spread,
                 r.masseyHome().getGamesPlayed(), r.masseyAway().getGamesPlayed(),
-                earlierDate(r.masseyHome().getSnapshotDate(), r.masseyAway().getSnapshotDate()));
+                earlierDate(r.masseyHome().getSnapshotDate(), r.masseyAway().getSnapshotDate()),
+                r.masseySpreadStdError() != null ? r.masseySpreadStdError()
+                        : spreadStdError(r.masseyHome().getRatingStdError(), r.masseyAway().getRatingStdError(),
+                                r.masseyHcaStdError()));
     }
 
     private static PredictionResult.MasseyTotalPrediction toMasseyTotal(GameRatings r) {
@@ -302,6 +429,20 @@ public class PredictionService {
                 earlierDate(r.btWeightedHome().getSnapshotDate(), r.btWeightedAway().getSnapshotDate()));
     }
 
+    private static PredictionResult.EloPrediction toElo(GameRatings r, boolean neutral) {
+        if (!r.hasElo()) return null;
+        double home  = r.eloHome().getRating();
+        double away  = r.eloAway().getRating();
+        double pHome = EloRatingService.homeWinProbability(home, away, neutral);
+        double pAway = 1.0 - pHome;
+        return new PredictionResult.EloPrediction(
+                EloRatingService.spread(home, away, neutral),
+                pHome, pAway,
+                impliedMoneyline(pHome), impliedMoneyline(pAway),
+                r.eloHome().getGamesPlayed(), r.eloAway().getGamesPlayed(),
+                earlierDate(r.eloHome().getSnapshotDate(), r.eloAway().getSnapshotDate()));
+    }
+
     // ── ML scoring (Phase 3: per-bundle vectors from one shared context) ──────
 
     /**
@@ -392,6 +533,11 @@ public class PredictionService {
     /**
      * Computes rolling stats from a team's most recent games (up to 5).
      * Returns null-valued stats when the list is empty (cold start).
+     *
+     * <p>Not read from the {@code *_l5} stat snapshots: this form is score-based over
+     * every final game before tip-off — with or without a box score, earlier the same
+     * day, or last season — which is how train_models.py builds the deployed bundles'
+     * features. The same query also gives {@link #daysRest}.
      */
     private static RollingStats computeRolling(Long teamId, List<Game> games) {
         if (games.isEmpty()) {
@@ -436,15 +582,18 @@ public class PredictionService {
     /** Carries all pre-fetched snapshot values for one game's prediction. */
     private record GameRatings(
             TeamPowerRatingSnapshot masseyHome, TeamPowerRatingSnapshot masseyAway, double masseyHca,
+            double masseyHcaStdError, Double masseySpreadStdError,
             TeamPowerRatingSnapshot masseyTotalHome, TeamPowerRatingSnapshot masseyTotalAway,
             double masseyTotalIntercept, double masseyTotalDelta,
             TeamPowerRatingSnapshot btHome, TeamPowerRatingSnapshot btAway, double btAlpha,
-            TeamPowerRatingSnapshot btWeightedHome, TeamPowerRatingSnapshot btWeightedAway, double btWeightedAlpha
+            TeamPowerRatingSnapshot btWeightedHome, TeamPowerRatingSnapshot btWeightedAway, double btWeightedAlpha,
+            TeamPowerRatingSnapshot eloHome, TeamPowerRatingSnapshot eloAway
     ) {
         boolean hasMassey()      { return masseyHome != null && masseyAway != null; }
         boolean hasMasseyTotal() { return masseyTotalHome != null && masseyTotalAway != null; }
         boolean hasBt()          { return btHome != null && btAway != null; }
         boolean hasBtWeighted()  { return btWeightedHome != null && btWeightedAway != null; }
+        boolean hasElo()         { return eloHome != null && eloAway != null; }
         // The ML models are trained only on games where all four rating models have
         // snapshots — the feature vector must never be built with imputed ratings.
         boolean hasAll()         { return hasMassey() && hasMasseyTotal() && hasBt() && hasBtWeighted(); }
@@ -479,6 +628,17 @@ public class PredictionService {
         return a.isBefore(b) ? a : b;
     }
 
+    /**
+     * SE of β_h − β_a + α from the stored per-parameter SEs (α's is 0 at a neutral site),
+     * added in quadrature, so the ratings' covariance is dropped. Only a fallback: a
+     * scheduled game reads its exact SE from {@link MasseySpreadErrorStore}, and this
+     * covers hypothetical matchups and games the fit stored no error for.
+     */
+    static Double spreadStdError(Double homeStdError, Double awayStdError, double hcaStdError) {
+        if (homeStdError == null || awayStdError == null) return null;
+        return Math.sqrt(homeStdError * homeStdError + awayStdError * awayStdError + hcaStdError * hcaStdError);
+    }
+
     private static double sigmoid(double x) {
         return 1.0 / (1.0 + Math.exp(-x));
     }
@@ -70,13 +70,16 @@ public class PredictionsPageService {
 
         Map<LocalDate, List<PredictionCardView>> results = new TreeMap<>();   // chronological
         Map<LocalDate, List<PredictionCardView>> upcoming = new TreeMap<>();  // chronological
-        for (Game game : gameRepository.findInUtcWindow(window[0], window[1])) {
-            if (game.getStatus() == GameStatus.CANCELLED || game.getStatus() == GameStatus.POSTPONED) {
-                continue;
-            }
+        List<Game> games = gameRepository.findInUtcWindow(window[0], window[1]).stream()
+                .filter(g -> g.getStatus() != GameStatus.CANCELLED && g.getStatus() != GameStatus.POSTPONED)
+                .toList();
+        // Upcoming games come from the materialized store in one lookup; results compute live.
+        List<PredictionResult> predictions = predictionService.predictAll(games);
+        for (int i = 0; i < games.size(); i++) {
+            Game game = games.get(i);
             // Bucket by Eastern calendar date (gameDate is stored in UTC), matching the scoreboard.
             LocalDate d = EasternDates.toEasternDate(game.getGameDate());
-            PredictionCardView view = PredictionCardView.from(predictionService.buildPrediction(game), selected);
+            PredictionCardView view = PredictionCardView.from(predictions.get(i), selected);
             Map<LocalDate, List<PredictionCardView>> bucket = d.isAfter(ref) ? upcoming : results;
             bucket.computeIfAbsent(d, k -> new ArrayList<>()).add(view);
         }
@@ -0,0 +1,49 @@
+package com.yotto.basketball.service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A season's prior on its team-rating columns, from the previous season's final
+ * ratings: {@code target[j]} is team j's final rating, centred and shrunk toward the
+ * mean, and {@code weight[j]} the prior's precision (0 for a team with no previous
+ * rating, which keeps the plain ridge). The solvers add Σ weight_j·(x_j − target_j)²
+ * to their penalty, so the prior counts as a fixed number of pseudo-games and fades
+ * as real games accumulate.
+ */
+record RatingPrior(double[] target, double[] weight) {
+
+    /**
+     * The prior for the season's team index {@code teamIds}, or null when no team has a
+     * previous rating. {@code previous} is centred on its own mean before shrinking.
+     */
+    static RatingPrior of(List<Long> teamIds, Map<Long, Double> previous, double shrink, double weight) {
+        if (previous.isEmpty()) return null;
+        double mean = previous.values().stream().mapToDouble(Double::doubleValue).average().orElse(0);
+        int T = teamIds.size();
+        double[] target = new double[T];
+        double[] weights = new double[T];
+        boolean any = false;
+        for (int j = 0; j < T; j++) {
+            Double rating = previous.get(teamIds.get(j));
+            if (rating != null) {
+                target[j] = shrink * (rating - mean);
+                weights[j] = weight;
+                any = true;
+            }
+        }
+        return any ? new RatingPrior(target, weights) : null;
+    }
+
+    /** Adds the prior's precision to the team diagonal of {@code M} in place. */
+    void addTo(double[][] M) {
+        for (int j = 0; j < weight.length; j++) M[j][j] += weight[j];
+    }
+
+    /** {@code b} plus the prior's pull, weight ∘ target, on the team columns. */
+    double[] rhs(double[] b) {
+        double[] r = b.clone();
+        for (int j = 0; j < weight.length; j++) r[j] += weight[j] * target[j];
+        return r;
+    }
+}
@@ -0,0 +1,55 @@
+package com.yotto.basketball.service;
+
+import com.yotto.basketball.entity.Season;
+import com.yotto.basketball.repository.SeasonRepository;
+import com.yotto.basketball.repository.TeamPowerRatingSnapshotRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds {@link RatingPrior}s from the previous season's final snapshots when
+ * {@code app.rating-prior.enabled} is set. The prior's strength is configured in
+ * games; each model converts it to its own precision units with {@code perGame}.
+ */
+@Component
+public class RatingPriorLoader {
+
+    @Value("${app.rating-prior.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${app.rating-prior.shrink:0.5}")
+    private double shrink = 0.5;
+
+    @Value("${app.rating-prior.prior-games:3.0}")
+    private double priorGames = 3.0;
+
+    private final SeasonRepository seasonRepository;
+    private final TeamPowerRatingSnapshotRepository ratingRepository;
+
+    public RatingPriorLoader(SeasonRepository seasonRepository,
+                             TeamPowerRatingSnapshotRepository ratingRepository) {
+        this.seasonRepository = seasonRepository;
+        this.ratingRepository = ratingRepository;
+    }
+
+    /**
+     * The prior for {@code season}'s {@code modelType} solve over the team index
+     * {@code teamIds}, or null when priors are off or the previous season has no
+     * snapshots for the model.
+     *
+     * @param perGame one game's precision in the model's units (its contribution to
+     *                the team's diagonal of the normal equations or Hessian)
+     */
+    RatingPrior load(Season season, String modelType, List<Long> teamIds, double perGame) {
+        if (!enabled) return null;
+        Map<Long, Double> previous = new HashMap<>();
+        seasonRepository.findByYear(season.getYear() - 1).ifPresent(prev ->
+                ratingRepository.findLatestForSeason(prev.getId(), modelType)
+                        .forEach(s -> previous.put(s.getTeam().getId(), s.getRating())));
+        return RatingPrior.of(teamIds, previous, shrink, priorGames * perGame);
+    }
+}
@@ -0,0 +1,211 @@
+package com.yotto.basketball.service;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.ArrayRealVector;
+import org.apache.commons.math3.linear.CholeskyDecomposition;
+import org.apache.commons.math3.linear.LUDecomposition;
+import org.apache.commons.math3.linear.RealMatrix;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A season's Massey and Bradley-Terry fits kept factorized so hypothetical games can be
+ * added without refitting. Games are {@code {homeIdx, awayIdx, margin, nonNeutral}} with
+ * a signed home margin, the team index shared by all three models.
+ *
+ * <p>Massey: the regularized normal-equation matrix M is inverted once; k added rows X
+ * (the usual {@code e_h − e_a + hca·e_T}) give the exact refit
+ * {@code x' = x + U·(I + X·U)⁻¹·(y − X·x)} with {@code U = M⁻¹·Xᵀ} (Woodbury), a k×k
+ * solve plus O(k·T) work.
+ *
+ * <p>Bradley-Terry: the optimum θ* and the inverse of the negated Hessian N there are
+ * kept. Adding games leaves the old gradient at zero, so one Newton step from θ* is
+ * {@code U·(W⁻¹ + X·U)⁻¹·W⁻¹·r} with {@code U = N⁻¹·Xᵀ}, per-game weights
+ * {@code w = wt·p(1−p)} and residuals {@code r = wt·(y − p)} at θ*. That is an
+ * approximation of the refit, close for a handful of games against a full season.
+ *
+ * <p>Both fits carry the same previous-season {@link Priors} as the rating services, in
+ * M and its right-hand side and in the Bradley-Terry gradient and Hessian, so the base
+ * ratings are the stored ones. The priors are fixed, so the updates above are unchanged.
+ */
+final class RatingWhatIf {
+
+    /** The {@link RatingPrior}s each model was solved with; any may be null (plain ridge). */
+    record Priors(RatingPrior massey, RatingPrior bradleyTerry, RatingPrior bradleyTerryWeighted) {
+        static final Priors NONE = new Priors(null, null, null);
+    }
+
+    private final int teams;
+    private final double[] massey;
+    private final double[][] masseyInverse;
+    private final double[] bt;
+    private final double[][] btInverse;
+    private final double[] btWeighted;
+    private final double[][] btWeightedInverse;
+
+    RatingWhatIf(int teams, List<int[]> games) {
+        this(teams, games, Priors.NONE);
+    }
+
+    RatingWhatIf(int teams, List<int[]> games, Priors priors) {
+        int size = teams + 1;
+        this.teams = teams;
+
+        double[][] A = new double[size][size];
+        double[] b = new double[size];
+        List<int[]> btGames = new ArrayList<>(games.size());
+        for (int[] g : games) {
+            addRow(A, b, g, teams);
+            if (g[2] != 0) btGames.add(btGame(g));
+        }
+        double[][] M = MasseyRatingService.regularized(A, teams, size);
+        if (priors.massey() != null) priors.massey().addTo(M);
+        masseyInverse = inverse(M);
+        massey = multiply(masseyInverse, priors.massey() != null ? priors.massey().rhs(b) : b);
+
+        bt = bradleyTerryOptimum(btGames, teams, false, priors.bradleyTerry());
+        btInverse = curvatureInverse(bt, btGames, teams, false, priors.bradleyTerry());
+        btWeighted = bradleyTerryOptimum(btGames, teams, true, priors.bradleyTerryWeighted());
+        btWeightedInverse = curvatureInverse(btWeighted, btGames, teams, true, priors.bradleyTerryWeighted());
+    }
+
+    int teams() {
+        return teams;
+    }
+
+    /** Team ratings then HCA, as fitted to the season's games. */
+    double[] massey() {
+        return massey.clone();
+    }
+
+    /** θ then α at the optimum, as fitted to the season's games. */
+    double[] bradleyTerry(boolean weighted) {
+        return (weighted ? btWeighted : bt).clone();
+    }
+
+    /** The exact Massey refit with {@code added} games on top of the season's. */
+    double[] massey(List<int[]> added) {
+        int k = added.size();
+        double[] d = new double[k], v = new double[k];
+        for (int g = 0; g < k; g++) {
+            int[] row = added.get(g);
+            d[g] = 1;
+            v[g] = row[2] - dot(massey, row);
+        }
+        return update(massey, masseyInverse, added, d, v);
+    }
+
+    /** One Newton step from the stored optimum with {@code added} games (non-zero margins) included. */
+    double[] bradleyTerry(List<int[]> added, boolean weighted) {
+        double[] params = weighted ? btWeighted : bt;
+        int k = added.size();
+        double[] d = new double[k], v = new double[k];
+        for (int g = 0; g < k; g++) {
+            int[] row = added.get(g);
+            double wt = weighted ? BradleyTerryRatingService.weight(Math.abs(row[2])) : 1.0;
+            double p = BradleyTerryRatingService.sigmoid(dot(params, row));
+            double pq = p * (1 - p);
+            d[g] = 1 / (wt * pq);
+            v[g] = ((row[2] > 0 ? 1 : 0) - p) / pq;
+        }
+        return update(params, weighted ? btWeightedInverse : btInverse, added, d, v);
+    }
+
+    /** {@code x + U·(D + X·U)⁻¹·v} with {@code U = inverse·Xᵀ} for the rows of {@code added}. */
+    private double[] update(double[] x, double[][] inverse, List<int[]> added, double[] d, double[] v) {
+        int k = added.size();
+        double[][] U = new double[k][];
+        for (int g = 0; g < k; g++) U[g] = combine(inverse, added.get(g));
+        double[][] S = new double[k][k];
+        for (int g = 0; g < k; g++) {
+            for (int j = 0; j < k; j++) S[g][j] = dot(U[j], added.get(g));
+            S[g][g] += d[g];
+        }
+        double[] z = new LUDecomposition(new Array2DRowRealMatrix(S, false)).getSolver()
+                .solve(new ArrayRealVector(v, false)).toArray();
+
+        double[] out = x.clone();
+        for (int g = 0; g < k; g++) {
+            for (int j = 0; j < out.length; j++) out[j] += U[g][j] * z[g];
+        }
+        return out;
+    }
+
+    /** {@code inverse · (e_h − e_a + nn·e_T)}, read off as rows since the inverse is symmetric. */
+    private double[] combine(double[][] inverse, int[] row) {
+        double[] h = inverse[row[0]], a = inverse[row[1]], hca = inverse[teams];
+        double[] out = new double[h.length];
+        for (int j = 0; j < out.length; j++) out[j] = h[j] - a[j] + row[3] * hca[j];
+        return out;
+    }
+
+    /** {@code x_h − x_a + nn·x_T}: a game's predicted margin (Massey) or logit (Bradley-Terry). */
+    private double dot(double[] x, int[] row) {
+        return x[row[0]] - x[row[1]] + row[3] * x[teams];
+    }
+
+    /** The Massey spread row of one game, as {@link MasseyRatingService} accumulates it. */
+    static void addRow(double[][] A, double[] b, int[] game, int T) {
+        int hi = game[0], ai = game[1], margin = game[2], hca = game[3];
+        A[hi][hi] += 1;
+        A[ai][ai] += 1;
+        A[hi][ai] -= 1;
+        A[ai][hi] -= 1;
+        if (hca == 1) {
+            A[hi][T] += 1;  A[T][hi] += 1;
+            A[ai][T] -= 1;  A[T][ai] -= 1;
+            A[T][T]  += 1;
+        }
+        b[hi] += margin;
+        b[ai] -= margin;
+        b[T]  += hca * margin;
+    }
+
+    /** A game in {@link BradleyTerryRatingService}'s {@code {hi, ai, homeWon, nonNeutral, |margin|}} form. */
+    static int[] btGame(int[] game) {
+        return new int[]{game[0], game[1], game[2] > 0 ? 1 : 0, game[3], Math.abs(game[2])};
+    }
+
+    /** θ* as {@link BradleyTerryRatingService} solves it, seeded from the prior's targets. */
+    private static double[] bradleyTerryOptimum(List<int[]> games, int T, boolean weighted, RatingPrior prior) {
+        double[] params = new double[T + 1];
+        if (prior != null) System.arraycopy(prior.target(), 0, params, 0, T);
+        BradleyTerryRatingService.newtonRaphson(params, games, T, T + 1,
+                BradleyTerryRatingService.LAMBDA, weighted ? 1.0 : 0.0, prior);
+        return params;
+    }
+
+    private static double[][] curvatureInverse(double[] params, List<int[]> games, int T, boolean weighted,
+                                               RatingPrior prior) {
+        int size = params.length;
+        double[][] H = new double[size][size];
+        BradleyTerryRatingService.gradientAndHessian(params, games, T, weighted, new double[size], H);
+        if (prior != null) {
+            for (int j = 0; j < T; j++) H[j][j] -= prior.weight()[j];
+        }
+        for (double[] row : H) {
+            for (int j = 0; j < size; j++) row[j] = -row[j];
+        }
+        return inverse(H);
+    }
+
+    private static double[][] inverse(double[][] m) {
+        RealMatrix mat = new Array2DRowRealMatrix(m, false);
+        try {
+            return new CholeskyDecomposition(mat).getSolver().getInverse().getData();
+        } catch (Exception e) {
+            return new LUDecomposition(mat).getSolver().getInverse().getData();
+        }
+    }
+
+    private static double[] multiply(double[][] m, double[] v) {
+        double[] out = new double[m.length];
+        for (int i = 0; i < m.length; i++) {
+            double s = 0;
+            for (int j = 0; j < v.length; j++) s += m[i][j] * v[j];
+            out[i] = s;
+        }
+        return out;
+    }
+}
@@ -2,6 +2,8 @@ package com.yotto.basketball.service;
 
 import com.yotto.basketball.entity.ScrapeBatch;
 import com.yotto.basketball.repository.ScrapeBatchRepository;
+import com.yotto.basketball.scraping.BackgroundJob;
+import com.yotto.basketball.scraping.JobQueue;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -14,10 +16,19 @@ import java.util.UUID;
 @Service
 public class ScrapeHistoryService {
 
+    private static final int JOB_HISTORY_SIZE = 15;
+
     private final ScrapeBatchRepository scrapeBatchRepository;
+    private final JobQueue jobQueue;
 
-    public ScrapeHistoryService(ScrapeBatchRepository scrapeBatchRepository) {
+    public ScrapeHistoryService(ScrapeBatchRepository scrapeBatchRepository, JobQueue jobQueue) {
         this.scrapeBatchRepository = scrapeBatchRepository;
+        this.jobQueue = jobQueue;
+    }
+
+    /** Running and queued background jobs first, then the latest finished ones. */
+    public List<BackgroundJob> recentJobs() {
+        return jobQueue.recent(JOB_HISTORY_SIZE);
     }
 
     /**
@@ -26,10 +26,13 @@ public class SeasonGameDataLoader {
 
     private final SeasonRepository seasonRepository;
     private final GameRepository gameRepository;
+    private final PipelineMetrics pipelineMetrics;
 
-    public SeasonGameDataLoader(SeasonRepository seasonRepository, GameRepository gameRepository) {
+    public SeasonGameDataLoader(SeasonRepository seasonRepository, GameRepository gameRepository,
+                                PipelineMetrics pipelineMetrics) {
         this.seasonRepository = seasonRepository;
         this.gameRepository = gameRepository;
+        this.pipelineMetrics = pipelineMetrics;
     }
 
     @Transactional(readOnly = true)
@@ -39,6 +42,7 @@ public class SeasonGameDataLoader {
             log.warn("Season {} not found", seasonYear);
             return Optional.empty();
         }
+        long start = System.nanoTime();
 
         List<Game> finalGames = gameRepository
                 .findBySeasonIdAndStatus(season.getId(), Game.GameStatus.FINAL)
@@ -57,6 +61,8 @@ public class SeasonGameDataLoader {
             teamsById.put(g.getAwayTeam().getId(), g.getAwayTeam());
         }
 
+        pipelineMetrics.record(PipelineMetrics.LOAD, PipelineMetrics.MODEL_SEASON_DATA, seasonYear,
+                System.nanoTime() - start);
         return Optional.of(new SeasonGameData(season, finalGames, gamesByDate, teamsById));
     }
 }
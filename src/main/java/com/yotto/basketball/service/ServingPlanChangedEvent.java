@@ -0,0 +1,8 @@
+package com.yotto.basketball.service;
+
+/**
+ * Published by {@link MlModelRegistryService} whenever its serving plan changes
+ * (promotion, activation, retirement, bundle reload). Listeners that derive state
+ * from ML output — such as the materialized game predictions — refresh on it.
+ */
+public record ServingPlanChangedEvent(MlModelRegistryService.ServingPlan plan) {}
@@ -1,11 +1,13 @@
 package com.yotto.basketball.service;
 
 import com.yotto.basketball.entity.PowerModelParamSnapshot;
+import com.yotto.basketball.entity.Season;
 import com.yotto.basketball.entity.SeasonPopulationStat;
 import com.yotto.basketball.entity.TeamPowerRatingSnapshot;
 import com.yotto.basketball.entity.TeamSeasonStatSnapshot;
 import com.yotto.basketball.entity.TeamStatSnapshot;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
 import org.springframework.stereotype.Component;
 
 import java.sql.Date;
@@ -14,6 +16,7 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * Batched INSERT path for the snapshot tables.
@@ -36,9 +39,11 @@ public class SnapshotJdbcWriter {
     private static final int BATCH_SIZE = 1000;
 
     private final JdbcTemplate jdbcTemplate;
+    private final PipelineMetrics pipelineMetrics;
 
-    public SnapshotJdbcWriter(JdbcTemplate jdbcTemplate) {
+    public SnapshotJdbcWriter(JdbcTemplate jdbcTemplate, PipelineMetrics pipelineMetrics) {
         this.jdbcTemplate = jdbcTemplate;
+        this.pipelineMetrics = pipelineMetrics;
     }
 
     private static final String INSERT_TEAM_SEASON_STAT_SNAPSHOT = """
@@ -56,7 +61,8 @@ public class SnapshotJdbcWriter {
             """;
 
     public void writeTeamSeasonStatSnapshots(List<TeamSeasonStatSnapshot> rows) {
-        jdbcTemplate.batchUpdate(INSERT_TEAM_SEASON_STAT_SNAPSHOT, rows, BATCH_SIZE, (ps, s) -> {
+        insert("team_season_stat_snapshots", INSERT_TEAM_SEASON_STAT_SNAPSHOT, rows,
+                TeamSeasonStatSnapshot::getSeason, (ps, s) -> {
             ps.setLong(1, s.getTeam().getId());
             ps.setLong(2, s.getSeason().getId());
             ps.setDate(3, Date.valueOf(s.getSnapshotDate()));
@@ -99,7 +105,8 @@ public class SnapshotJdbcWriter {
             """;
 
     public void writeSeasonPopulationStats(List<SeasonPopulationStat> rows) {
-        jdbcTemplate.batchUpdate(INSERT_SEASON_POPULATION_STAT, rows, BATCH_SIZE, (ps, s) -> {
+        insert("season_population_stats", INSERT_SEASON_POPULATION_STAT, rows,
+                SeasonPopulationStat::getSeason, (ps, s) -> {
             ps.setLong(1, s.getSeason().getId());
             if (s.getConference() != null) {
                 ps.setLong(2, s.getConference().getId());
@@ -119,12 +126,13 @@ public class SnapshotJdbcWriter {
     private static final String INSERT_TEAM_POWER_RATING_SNAPSHOT = """
             INSERT INTO team_power_rating_snapshots (
                 team_id, season_id, model_type, snapshot_date,
-                rating, rank, games_played, calculated_at
-            ) VALUES (?,?,?,?,?,?,?,?)
+                rating, rank, games_played, calculated_at, rating_std_error
+            ) VALUES (?,?,?,?,?,?,?,?,?)
             """;
 
     public void writeTeamPowerRatingSnapshots(List<TeamPowerRatingSnapshot> rows) {
-        jdbcTemplate.batchUpdate(INSERT_TEAM_POWER_RATING_SNAPSHOT, rows, BATCH_SIZE, (ps, s) -> {
+        insert("team_power_rating_snapshots", INSERT_TEAM_POWER_RATING_SNAPSHOT, rows,
+                TeamPowerRatingSnapshot::getSeason, (ps, s) -> {
             ps.setLong(1, s.getTeam().getId());
             ps.setLong(2, s.getSeason().getId());
             ps.setString(3, s.getModelType());
@@ -133,6 +141,7 @@ public class SnapshotJdbcWriter {
             setNullableInt(ps, 6, s.getRank());
             ps.setInt(7, s.getGamesPlayed());
             ps.setTimestamp(8, Timestamp.valueOf(s.getCalculatedAt()));
+            setNullableDouble(ps, 9, s.getRatingStdError());
         });
     }
 
@@ -143,7 +152,8 @@ public class SnapshotJdbcWriter {
             """;
 
     public void writePowerModelParamSnapshots(List<PowerModelParamSnapshot> rows) {
-        jdbcTemplate.batchUpdate(INSERT_POWER_MODEL_PARAM_SNAPSHOT, rows, BATCH_SIZE, (ps, s) -> {
+        insert("power_model_param_snapshots", INSERT_POWER_MODEL_PARAM_SNAPSHOT, rows,
+                PowerModelParamSnapshot::getSeason, (ps, s) -> {
             ps.setLong(1, s.getSeason().getId());
             ps.setString(2, s.getModelType());
             ps.setDate(3, Date.valueOf(s.getSnapshotDate()));
@@ -161,7 +171,8 @@ public class SnapshotJdbcWriter {
             """;
 
     public void writeTeamStatSnapshots(List<TeamStatSnapshot> rows) {
-        jdbcTemplate.batchUpdate(INSERT_TEAM_STAT_SNAPSHOT, rows, BATCH_SIZE, (ps, s) -> {
+        insert("team_stat_snapshots", INSERT_TEAM_STAT_SNAPSHOT, rows,
+                TeamStatSnapshot::getSeason, (ps, s) -> {
             ps.setLong(1, s.getTeam().getId());
             ps.setLong(2, s.getSeason().getId());
             ps.setDate(3, Date.valueOf(s.getSnapshotDate()));
@@ -174,6 +185,27 @@ public class SnapshotJdbcWriter {
         });
     }
 
+    /**
+     * Writes {@code rows} in batches of {@link #BATCH_SIZE}, one
+     * {@link PipelineJfrEvents.SnapshotBatch} per batch, then counts them in
+     * {@link PipelineMetrics}. All rows of one call belong to one season.
+     */
+    private <T> void insert(String table, String sql, List<T> rows, Function<T, Season> seasonOf,
+                            ParameterizedPreparedStatementSetter<T> setter) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        int seasonYear = seasonOf.apply(rows.get(0)).getYear();
+        for (int from = 0, batch = 0; from < rows.size(); from += BATCH_SIZE, batch++) {
+            List<T> chunk = rows.subList(from, Math.min(from + BATCH_SIZE, rows.size()));
+            PipelineJfrEvents.SnapshotBatch event = new PipelineJfrEvents.SnapshotBatch();
+            event.begin();
+            jdbcTemplate.batchUpdate(sql, chunk, chunk.size(), setter);
+            event.finish(seasonYear, table, batch, chunk.size());
+        }
+        pipelineMetrics.rowsWritten(table, seasonYear, rows.size());
+    }
+
     private static void setNullableDouble(PreparedStatement ps, int idx, Double value) throws SQLException {
         if (value != null) {
             ps.setDouble(idx, value);
@@ -14,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 /**
  * Decides whether the per-season stats calculation needs to run at all, and if so
@@ -49,15 +50,18 @@ public class StatCalcGateService {
     private final GameRepository gameRepository;
     private final TeamGameStatsRepository teamGameStatsRepository;
     private final StatCalcWatermarkRepository watermarkRepository;
+    private final ClusterInvalidationBus invalidationBus;
 
     public StatCalcGateService(SeasonRepository seasonRepository,
                                GameRepository gameRepository,
                                TeamGameStatsRepository teamGameStatsRepository,
-                               StatCalcWatermarkRepository watermarkRepository) {
+                               StatCalcWatermarkRepository watermarkRepository,
+                               ClusterInvalidationBus invalidationBus) {
         this.seasonRepository = seasonRepository;
         this.gameRepository = gameRepository;
         this.teamGameStatsRepository = teamGameStatsRepository;
         this.watermarkRepository = watermarkRepository;
+        this.invalidationBus = invalidationBus;
     }
 
     @Transactional(readOnly = true)
@@ -114,7 +118,34 @@ public class StatCalcGateService {
                 });
         wm.setLastCalcStartedAt(scope.calcStartedAt());
         wm.setFinalGameCount(scope.finalGameCount());
+        wm.setSnapshotsWrittenAt(LocalDateTime.now());
         watermarkRepository.save(wm);
+        announce(seasonYear, wm);
+    }
+
+    /**
+     * Notes a manual recalculation outside the gated pipeline. Only the snapshot write
+     * time moves — change detection still scopes from the last pipeline run — and only
+     * for seasons the pipeline has already calculated once.
+     */
+    @Transactional
+    public void recordManualRecalc(int seasonYear) {
+        seasonRepository.findByYear(seasonYear)
+                .flatMap(season -> watermarkRepository.findBySeasonId(season.getId()))
+                .ifPresent(wm -> {
+                    wm.setSnapshotsWrittenAt(LocalDateTime.now());
+                    watermarkRepository.save(wm);
+                    announce(seasonYear, wm);
+                });
+    }
+
+    /**
+     * Tells every node, on commit, that the season's snapshots moved. The generation is
+     * the new write time in epoch millis.
+     */
+    private void announce(int seasonYear, StatCalcWatermark wm) {
+        long generation = wm.getSnapshotsWrittenAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        invalidationBus.publish(ClusterInvalidationBus.Channel.CALC_COMPLETED, seasonYear + "," + generation);
     }
 
     private static LocalDate earlier(LocalDate a, LocalDate b) {
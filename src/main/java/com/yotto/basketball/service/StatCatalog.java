@@ -5,14 +5,16 @@ import jakarta.persistence.EntityNotFoundException;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Display metadata for the derived box-score stats — the full title, an optional
  * plain-language description, a value format, and a category for grouping.
  *
- * <p>Deliberately standalone (not folded into {@link BoxScoreStatCalculator}'s
- * registry) so the calc-pipeline contract stays untouched. The two lists are kept
- * honest by a completeness test that asserts every registry stat has a catalog
+ * <p>Deliberately standalone (not folded into the calculators' registry,
+ * {@link TeamStatTimeSeriesService#statMetas()}) so the calc-pipeline contract
+ * stays untouched. The two lists are kept honest by a completeness test that asserts every registry stat has a catalog
  * entry and that {@code higherIsBetter} matches the registry.
  */
 public final class StatCatalog {
@@ -52,6 +54,12 @@ public final class StatCatalog {
             "Possessions aren't in the box score, so they're estimated as "
             + "FGA − OffReb + TO + 0.475×FTA (the standard estimator).";
 
+    /** How the opponent adjustment works, phrased once for the adjusted stats. */
+    private static final String ADJ_NOTE =
+            "Every game's points per 100 possessions is modelled as the league average plus the "
+            + "offense's strength, the defense's strength and a home-court edge. All teams are fit "
+            + "jointly, so beating up on weak opponents counts for less than the raw rate suggests.";
+
     private static final List<StatInfo> CATALOG = List.of(
             new StatInfo("pace", "Pace", "Efficiency", Format.RATING, true,
                     "Possessions per game; how fast a team plays.",
@@ -68,6 +76,22 @@ public final class StatCatalog {
                     "100 × season points allowed ÷ opponents' season possessions. " + POSS_NOTE
                     + " Per-possession accounting keeps a slow, stingy-looking defense and a fast, "
                     + "leaky-looking one on the same scale."),
+            new StatInfo("adj_off_efficiency", "Adjusted Offensive Efficiency", "Efficiency", Format.RATING, true,
+                    "Points per 100 possessions against an average defense at a neutral site.",
+                    ADJ_NOTE + " A team's adjusted offense is what its raw offensive efficiency "
+                    + "would be if every opponent had an average defense."),
+            new StatInfo("adj_def_efficiency", "Adjusted Defensive Efficiency", "Efficiency", Format.RATING, false,
+                    "Points allowed per 100 possessions against an average offense at a neutral site.",
+                    ADJ_NOTE + " A team's adjusted defense is what its raw defensive efficiency "
+                    + "would be if every opponent had an average offense."),
+            new StatInfo("adj_efficiency_margin", "Adjusted Efficiency Margin", "Efficiency", Format.RATING, true,
+                    "Adjusted offense minus adjusted defense; points per 100 possessions better than average.",
+                    ADJ_NOTE + " The margin is the difference of the two, so it is the expected "
+                    + "per-100-possession margin against an average team on a neutral floor."),
+            new StatInfo("adj_tempo", "Adjusted Tempo", "Efficiency", Format.RATING, true,
+                    "Possessions per game against an average-paced opponent.",
+                    "Each game's possession count is modelled as the league average plus a share from "
+                    + "each team, and the shares are fit jointly across the schedule. " + POSS_NOTE),
             new StatInfo("efg_pct", "Effective Field Goal Percentage", "Four Factors", Format.PERCENT, true,
                     "Field-goal shooting that credits a 3-pointer as 1.5 made shots.",
                     "(FGM + 0.5×3PM) ÷ FGA. A made three is worth 1.5 times a made two, so it "
@@ -135,15 +159,34 @@ public final class StatCatalog {
             new StatInfo("pf_per_game", "Personal Fouls Per Game", "Defense", Format.PER_GAME, false, null)
     );
 
+    /** Catalog plus the derived rolling variants ({@code efg_pct_l5}), which stay out of {@link #all()}. */
     private static final Map<String, StatInfo> BY_NAME;
     static {
         Map<String, StatInfo> m = new LinkedHashMap<>();
         for (StatInfo s : CATALOG) {
             m.put(s.name(), s);
         }
+        Set<String> boxStats = BoxScoreStatCalculator.statMetas().stream()
+                .map(DailyStatCalculator.StatMeta::name).collect(Collectors.toSet());
+        for (StatInfo s : CATALOG) {
+            for (int window : BoxScoreStatCalculator.WINDOWS) {
+                if (boxStats.contains(BoxScoreStatCalculator.windowedName(s.name(), window))) {
+                    m.put(BoxScoreStatCalculator.windowedName(s.name(), window), rolling(s, window));
+                }
+            }
+        }
         BY_NAME = Map.copyOf(m);
     }
 
+    private static StatInfo rolling(StatInfo base, int window) {
+        String note = "The same formula over only the team's last " + window + " games with a box score, "
+                + "so it tracks current form; it appears once a team has played " + window + " such games.";
+        return new StatInfo(BoxScoreStatCalculator.windowedName(base.name(), window),
+                base.title() + " (Last " + window + ")", base.category(), base.format(),
+                base.higherIsBetter(), base.description(),
+                base.mechanics() != null ? base.mechanics() + " " + note : note);
+    }
+
     /** Whether a stat has a catalog entry (i.e. a dedicated stat-detail page). */
     public static boolean contains(String name) {
         return BY_NAME.containsKey(name);
@@ -158,7 +201,7 @@ public final class StatCatalog {
         return info;
     }
 
-    /** All stats in registry order (used to build the glossary). */
+    /** All season-to-date stats in registry order (used to build the glossary). */
     public static List<StatInfo> all() {
         return CATALOG;
     }
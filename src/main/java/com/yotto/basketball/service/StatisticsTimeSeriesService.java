@@ -29,6 +29,9 @@ public class StatisticsTimeSeriesService {
 
     private static final Logger log = LoggerFactory.getLogger(StatisticsTimeSeriesService.class);
 
+    /** Model tag for this service's {@link PipelineMetrics} stages. */
+    static final String METRICS_MODEL = "TEAM_SEASON_STATS";
+
     private static final List<String> STAT_NAMES =
             List.of("win_pct", "mean_pts_for", "mean_pts_against", "mean_margin", "correlation_pts");
 
@@ -37,17 +40,20 @@ public class StatisticsTimeSeriesService {
     private final TeamSeasonStatSnapshotRepository snapshotRepository;
     private final SeasonPopulationStatRepository popStatRepository;
     private final SnapshotJdbcWriter snapshotJdbcWriter;
+    private final PipelineMetrics pipelineMetrics;
 
     public StatisticsTimeSeriesService(SeasonGameDataLoader seasonGameDataLoader,
                                        ConferenceMembershipRepository membershipRepository,
                                        TeamSeasonStatSnapshotRepository snapshotRepository,
                                        SeasonPopulationStatRepository popStatRepository,
-                                       SnapshotJdbcWriter snapshotJdbcWriter) {
+                                       SnapshotJdbcWriter snapshotJdbcWriter,
+                                       PipelineMetrics pipelineMetrics) {
         this.seasonGameDataLoader = seasonGameDataLoader;
         this.membershipRepository = membershipRepository;
         this.snapshotRepository = snapshotRepository;
         this.popStatRepository = popStatRepository;
         this.snapshotJdbcWriter = snapshotJdbcWriter;
+        this.pipelineMetrics = pipelineMetrics;
     }
 
     @Transactional
@@ -74,6 +80,8 @@ public class StatisticsTimeSeriesService {
         log.info("Calculating time-series stats for season {}{}", seasonYear,
                 fromDate != null ? " from " + fromDate : "");
         long startMs = System.currentTimeMillis();
+        PipelineMetrics.Run run = pipelineMetrics.start(METRICS_MODEL, seasonYear);
+        long t = System.nanoTime();
 
         // Wipe existing data in scope (idempotent). Population deletes are scoped to
         // this service's stat names — TeamStatTimeSeriesService shares the table.
@@ -84,6 +92,7 @@ public class StatisticsTimeSeriesService {
             snapshotRepository.deleteBySeasonIdFromDate(season.getId(), fromDate);
             popStatRepository.deleteBySeasonIdFromDateAndStatNames(season.getId(), fromDate, STAT_NAMES);
         }
+        t = run.lap(PipelineMetrics.WRITE, t);
 
         // Conference membership maps
         List<ConferenceMembership> memberships = membershipRepository.findBySeasonId(season.getId());
@@ -125,12 +134,16 @@ public class StatisticsTimeSeriesService {
                 gamesList.computeIfAbsent(awayId, k -> new ArrayList<>())
                          .add(new GameRecord(homeId, false, neutral, !homeWon));
             }
+            t = run.lap(PipelineMetrics.ACCUMULATE, t);
 
             // Before the watermark, only the accumulators matter — nothing is persisted
             // for this date, so skip snapshot building, RPI, and population stats.
             if (fromDate != null && date.isBefore(fromDate)) {
                 continue;
             }
+            PipelineJfrEvents.CalculationDate dateEvent = new PipelineJfrEvents.CalculationDate();
+            dateEvent.begin();
+            int popRowsBefore = allPopStats.size();
 
             // Build snapshots (without z-scores yet)
             List<TeamSeasonStatSnapshot> dateSnaps = new ArrayList<>(accumulators.size());
@@ -186,11 +199,16 @@ public class StatisticsTimeSeriesService {
             }
 
             allSnapshots.addAll(dateSnaps);
+            t = run.lap(PipelineMetrics.SNAPSHOT_BUILD, t);
+            dateEvent.finish(seasonYear, METRICS_MODEL, date, dateSnaps.size() + allPopStats.size() - popRowsBefore);
         }
 
         long saveStartMs = System.currentTimeMillis();
         snapshotJdbcWriter.writeTeamSeasonStatSnapshots(allSnapshots);
         snapshotJdbcWriter.writeSeasonPopulationStats(allPopStats);
+        run.lap(PipelineMetrics.WRITE, t);
+        run.rows(allSnapshots.size() + allPopStats.size());
+        run.finish();
 
         long now2 = System.currentTimeMillis();
         log.info("Time-series stats complete for season {} — {} snapshots, {} population stat rows in {} ms (save {} ms)",
@@ -298,13 +316,14 @@ public class StatisticsTimeSeriesService {
 
     private record PopData(double mean, double stddev, double min, double max, int count) {}
 
-    private record GameRecord(long opponentId, boolean isHome, boolean isNeutral, boolean isWin) {}
+    record GameRecord(long opponentId, boolean isHome, boolean isNeutral, boolean isWin) {}
 
-    private record RpiComponents(double wp, double owp, double oowp, double rpi) {}
+    record RpiComponents(double wp, double owp, double oowp, double rpi) {}
 
     // ── RPI computation ───────────────────────────────────────────────────────
 
-    private Map<Long, RpiComponents> computeRpi(Map<Long, List<GameRecord>> gamesList) {
+    /** Package-private (with its records) for the JMH benchmarks. */
+    static Map<Long, RpiComponents> computeRpi(Map<Long, List<GameRecord>> gamesList) {
         // Pre-compute OWP for all teams; reused when building OOWP
         Map<Long, Double> owpCache = new HashMap<>();
         for (Long teamId : gamesList.keySet()) {
@@ -338,7 +357,7 @@ public class StatisticsTimeSeriesService {
     }
 
     /** Location-adjusted WP (used only for a team's own WP component). */
-    private double calcAdjustedWp(List<GameRecord> games) {
+    private static double calcAdjustedWp(List<GameRecord> games) {
         double sumWins = 0, sumTotal = 0;
         for (GameRecord g : games) {
             double mult = g.isNeutral() ? 1.0 : (g.isHome() ? (g.isWin() ? 0.6 : 1.4) : (g.isWin() ? 1.4 : 0.6));
@@ -349,7 +368,7 @@ public class StatisticsTimeSeriesService {
     }
 
     /** OWP for teamId: average raw WP of each distinct opponent, excluding games vs teamId. */
-    private Double calcOwpForTeam(long teamId, Map<Long, List<GameRecord>> gamesList) {
+    private static Double calcOwpForTeam(long teamId, Map<Long, List<GameRecord>> gamesList) {
         List<GameRecord> myGames = gamesList.get(teamId);
         if (myGames == null || myGames.isEmpty()) return null;
         Set<Long> opponents = myGames.stream().map(GameRecord::opponentId).collect(Collectors.toSet());
@@ -31,30 +31,43 @@ public class TeamStatTimeSeriesService {
 
     private static final Logger log = LoggerFactory.getLogger(TeamStatTimeSeriesService.class);
 
+    /** Model tag for this service's {@link PipelineMetrics} stages. */
+    static final String METRICS_MODEL = "TEAM_STATS";
+
     private final SeasonGameDataLoader seasonGameDataLoader;
     private final TeamGameStatsRepository teamGameStatsRepository;
     private final ConferenceMembershipRepository membershipRepository;
     private final TeamStatSnapshotRepository teamStatSnapshotRepository;
     private final SeasonPopulationStatRepository popStatRepository;
     private final SnapshotJdbcWriter snapshotJdbcWriter;
+    private final PipelineMetrics pipelineMetrics;
 
     public TeamStatTimeSeriesService(SeasonGameDataLoader seasonGameDataLoader,
                                      TeamGameStatsRepository teamGameStatsRepository,
                                      ConferenceMembershipRepository membershipRepository,
                                      TeamStatSnapshotRepository teamStatSnapshotRepository,
                                      SeasonPopulationStatRepository popStatRepository,
-                                     SnapshotJdbcWriter snapshotJdbcWriter) {
+                                     SnapshotJdbcWriter snapshotJdbcWriter,
+                                     PipelineMetrics pipelineMetrics) {
         this.seasonGameDataLoader = seasonGameDataLoader;
         this.teamGameStatsRepository = teamGameStatsRepository;
         this.membershipRepository = membershipRepository;
         this.teamStatSnapshotRepository = teamStatSnapshotRepository;
         this.popStatRepository = popStatRepository;
         this.snapshotJdbcWriter = snapshotJdbcWriter;
+        this.pipelineMetrics = pipelineMetrics;
     }
 
     /** Calculators are stateful per run — create fresh instances, never share beans. */
     private List<DailyStatCalculator> createCalculators() {
-        return List.of(new BoxScoreStatCalculator());
+        return List.of(new BoxScoreStatCalculator(), new AdjustedEfficiencyCalculator());
+    }
+
+    /** Every stat the calculators emit, in calculator order: the {@code team_stat_snapshots} registry. */
+    public static List<DailyStatCalculator.StatMeta> statMetas() {
+        List<DailyStatCalculator.StatMeta> metas = new ArrayList<>(BoxScoreStatCalculator.statMetas());
+        metas.addAll(AdjustedEfficiencyCalculator.statMetas());
+        return metas;
     }
 
     @Transactional
@@ -74,6 +87,8 @@ public class TeamStatTimeSeriesService {
         log.info("Calculating team stat time series for season {}{}", season.getYear(),
                 fromDate != null ? " from " + fromDate : "");
         long startMs = System.currentTimeMillis();
+        PipelineMetrics.Run run = pipelineMetrics.start(METRICS_MODEL, season.getYear());
+        long t = System.nanoTime();
 
         List<DailyStatCalculator> calculators = createCalculators();
         Map<String, Boolean> higherIsBetterByStat = new HashMap<>();
@@ -92,6 +107,7 @@ public class TeamStatTimeSeriesService {
             teamStatSnapshotRepository.deleteBySeasonIdFromDate(season.getId(), fromDate);
             popStatRepository.deleteBySeasonIdFromDateAndStatNames(season.getId(), fromDate, ownedStatNames);
         }
+        t = run.lap(PipelineMetrics.WRITE, t);
 
         // Conference membership maps (conference z-scores and scoped population rows)
         Map<Long, Long> confIdByTeamId = new HashMap<>();
@@ -110,7 +126,15 @@ public class TeamStatTimeSeriesService {
             pair[isHome ? 0 : 1] = tgs;
         }
 
-        calculators.forEach(c -> c.begin(data));
+        t = run.lap(PipelineMetrics.LOAD, t);
+
+        // Time spent inside each calculator (begin, onGame, snapshot), timed individually
+        long[] calcNanos = new long[calculators.size()];
+        for (int c = 0; c < calculators.size(); c++) {
+            long c0 = System.nanoTime();
+            calculators.get(c).begin(data);
+            calcNanos[c] += System.nanoTime() - c0;
+        }
 
         List<TeamStatSnapshot> allSnapshots = new ArrayList<>();
         List<SeasonPopulationStat> allPopStats = new ArrayList<>();
@@ -120,19 +144,27 @@ public class TeamStatTimeSeriesService {
 
             for (Game game : entry.getValue()) {
                 TeamGameStats[] pair = boxByGameId.getOrDefault(game.getId(), new TeamGameStats[2]);
-                for (DailyStatCalculator calc : calculators) {
-                    calc.onGame(game, pair[0], pair[1]);
+                for (int c = 0; c < calculators.size(); c++) {
+                    long c0 = System.nanoTime();
+                    calculators.get(c).onGame(game, pair[0], pair[1]);
+                    calcNanos[c] += System.nanoTime() - c0;
                 }
             }
 
             if (fromDate != null && date.isBefore(fromDate)) {
                 continue;
             }
+            PipelineJfrEvents.CalculationDate dateEvent = new PipelineJfrEvents.CalculationDate();
+            dateEvent.begin();
+            int rowsBefore = allSnapshots.size() + allPopStats.size();
 
             // Group this date's values by stat name
             Map<String, List<TeamStatValue>> valuesByStat = new LinkedHashMap<>();
-            for (DailyStatCalculator calc : calculators) {
-                for (TeamStatValue v : calc.snapshot(date)) {
+            for (int c = 0; c < calculators.size(); c++) {
+                long c0 = System.nanoTime();
+                List<TeamStatValue> calcValues = calculators.get(c).snapshot(date);
+                calcNanos[c] += System.nanoTime() - c0;
+                for (TeamStatValue v : calcValues) {
                     valuesByStat.computeIfAbsent(v.statName(), k -> new ArrayList<>()).add(v);
                 }
             }
@@ -173,11 +205,26 @@ public class TeamStatTimeSeriesService {
                             date, statName, ce.getValue()));
                 }
             }
+            dateEvent.finish(season.getYear(), METRICS_MODEL, date,
+                    allSnapshots.size() + allPopStats.size() - rowsBefore);
+        }
+
+        long calcTotal = 0;
+        for (int c = 0; c < calculators.size(); c++) {
+            pipelineMetrics.record(PipelineMetrics.CALCULATOR, calculators.get(c).getClass().getSimpleName(),
+                    season.getYear(), calcNanos[c]);
+            calcTotal += calcNanos[c];
         }
+        // The date loop less the calculators themselves: ranking, populations, entity building
+        run.add(PipelineMetrics.SNAPSHOT_BUILD, System.nanoTime() - t - calcTotal);
+        t = System.nanoTime();
 
         long saveStartMs = System.currentTimeMillis();
         snapshotJdbcWriter.writeTeamStatSnapshots(allSnapshots);
         snapshotJdbcWriter.writeSeasonPopulationStats(allPopStats);
+        run.lap(PipelineMetrics.WRITE, t);
+        run.rows(allSnapshots.size() + allPopStats.size());
+        run.finish();
 
         long now = System.currentTimeMillis();
         log.info("Team stat time series complete for season {} — {} snapshots, {} population rows in {} ms (save {} ms)",
@@ -0,0 +1,24 @@
+package com.yotto.basketball.service;
+
+import com.yotto.basketball.entity.Team;
+
+import java.util.List;
+
+/**
+ * A tournament field laid out by {@link BracketService#field}. Teams are referred to by
+ * their index in {@code teams}; {@code regions} holds the four bracket blocks (null
+ * where the season has fewer regions) and {@code regionOf} each team's block.
+ * {@code slots[i]} lists the teams that can occupy first-round entry {@code i}: none,
+ * one, or the two sides of a First Four game. {@code reached} is each team's
+ * {@link TournamentSimulator} level already decided by FINAL games.
+ */
+record TournamentField(
+        String[] regions,
+        List<Team> teams,
+        int[] seeds,
+        int[] regionOf,
+        int[][] slots,
+        int[] reached) {
+
+    static final int ENTRIES = 64;
+}
@@ -0,0 +1,47 @@
+package com.yotto.basketball.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Simulated NCAA tournament odds for one season, rating model and snapshot date.
+ * {@code advancement[k]} of each team is its chance to reach {@code rounds[k]};
+ * {@code locks} are the team levels (round index + 1, see
+ * {@link TournamentSimulationService#ROUNDS}) decided by FINAL games or by the caller's
+ * "what if" results. {@code mostLikelyBracket} is the single bracket with the highest
+ * joint probability, First Four first and the championship last.
+ */
+public record TournamentProjection(
+        int year,
+        String model,
+        LocalDate snapshotDate,
+        int iterations,
+        long simulationMillis,
+        List<String> rounds,
+        List<TeamOdds> teams,
+        List<Pick> mostLikelyBracket,
+        double mostLikelyProbability,
+        Map<Long, Integer> locks) {
+
+    public record TeamOdds(
+            Long teamId,
+            String teamName,
+            String teamLogoUrl,
+            String region,
+            int seed,
+            double rating,
+            double[] advancement) {}
+
+    /** One game of the most likely bracket; the loser is null for a bye. */
+    public record Pick(
+            String round,
+            String region,
+            Long winnerId,
+            String winnerName,
+            int winnerSeed,
+            Long loserId,
+            String loserName,
+            Integer loserSeed,
+            double winProbability) {}
+}
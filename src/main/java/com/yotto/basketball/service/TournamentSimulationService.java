@@ -0,0 +1,264 @@
+package com.yotto.basketball.service;
+
+import com.yotto.basketball.entity.Game;
+import com.yotto.basketball.entity.Season;
+import com.yotto.basketball.entity.Team;
+import com.yotto.basketball.entity.TeamPowerRatingSnapshot;
+import com.yotto.basketball.repository.GameRepository;
+import com.yotto.basketball.repository.SeasonRepository;
+import com.yotto.basketball.repository.TeamPowerRatingSnapshotRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * NCAA tournament projections: the bracket from {@link BracketService#field}, neutral-site
+ * win probabilities from one rating model's snapshot, and {@link TournamentSimulator} for
+ * round-advancement odds and the most likely bracket. FINAL tournament games are always
+ * locked in; callers may lock further "what if" results on top.
+ *
+ * <p>Plain projections are cached per (season, model, snapshot date, decided results), so
+ * a finished game misses the cache even before the ratings catch up. The cache is
+ * evicted on {@code calc_completed} from any node; "what if" runs are never cached and
+ * play fewer tournaments. Every run simulates on {@code bracketSimulationPool}. The cache
+ * holds one future per key: the first request runs the simulation outside the map, and
+ * concurrent requests for the same key wait on its result instead of starting another.
+ */
+@Service
+public class TournamentSimulationService {
+
+    private static final Logger log = LoggerFactory.getLogger(TournamentSimulationService.class);
+
+    /** Advancement columns: {@code rounds[k]} is level {@code k + 1} of {@link TournamentSimulator}. */
+    public static final List<String> ROUNDS = List.of(
+            "Round of 64", "Round of 32", "Sweet 16", "Elite 8", "Final Four", "Championship", "Champion");
+
+    /** Game rounds by the level their winner reaches, as {@link BracketService} names them. */
+    private static final List<String> GAME_ROUNDS = List.of(
+            "", "First Four", "1st Round", "2nd Round", "Sweet 16", "Elite 8", "Final Four", "National Championship");
+
+    /** Model names accepted by {@link #project}, mapped to their snapshot model types. */
+    public static final Map<String, String> MODELS = Map.of(
+            "bradley-terry", BradleyTerryRatingService.MODEL_TYPE,
+            "bradley-terry-weighted", BradleyTerryRatingService.MODEL_TYPE_WEIGHTED,
+            "massey", MasseyRatingService.MODEL_TYPE);
+
+    /** Fixed so a cached projection and a rerun of it agree. */
+    private static final long SEED = 0x7E55_BA11L;
+
+    /** Cleared when full; keys are per snapshot date and decided results, so few are live. */
+    private static final int MAX_CACHED = 64;
+
+    private record Key(int year, String modelType, LocalDate snapshotDate, Map<Long, Integer> locks) {}
+
+    private final SeasonRepository seasonRepository;
+    private final GameRepository gameRepository;
+    private final TeamPowerRatingSnapshotRepository ratingRepository;
+    private final ForkJoinPool simulationPool;
+    private final Map<Key, CompletableFuture<TournamentProjection>> cache = new ConcurrentHashMap<>();
+
+    @Value("${app.bracket-simulation.iterations:1000000}")
+    private int iterations = 1_000_000;
+
+    @Value("${app.bracket-simulation.what-if-iterations:50000}")
+    private int whatIfIterations = 50_000;
+
+    @Value("${app.bracket-simulation.massey-sigma:11.0}")
+    private double masseySigma = 11.0;
+
+    public TournamentSimulationService(SeasonRepository seasonRepository,
+                                       GameRepository gameRepository,
+                                       TeamPowerRatingSnapshotRepository ratingRepository,
+                                       @Qualifier("bracketSimulationPool") ForkJoinPool simulationPool) {
+        this.seasonRepository = seasonRepository;
+        this.gameRepository = gameRepository;
+        this.ratingRepository = ratingRepository;
+        this.simulationPool = simulationPool;
+    }
+
+    /**
+     * Projects a season's tournament from {@code model}'s latest ratings on or before
+     * {@code date} (the latest snapshot when null). {@code whatIf} maps team id to the
+     * round index the team is assumed to reach. Empty when the season, its bracket or a
+     * snapshot on or before the date is missing.
+     *
+     * @throws IllegalArgumentException for an unknown model, a lock on a team outside the
+     *         field, or locks that contradict each other or a FINAL game
+     */
+    public Optional<TournamentProjection> project(int year, String model, LocalDate date, Map<Long, Integer> whatIf) {
+        String modelType = MODELS.get(model);
+        if (modelType == null) {
+            throw new IllegalArgumentException("Unknown model: " + model + " (expected one of " + MODELS.keySet() + ")");
+        }
+        Season season = seasonRepository.findByYear(year).orElse(null);
+        if (season == null) return Optional.empty();
+        LocalDate snapshotDate = (date != null
+                ? ratingRepository.findLatestSnapshotDateOnOrBefore(season.getId(), modelType, date)
+                : ratingRepository.findLatestSnapshotDate(season.getId(), modelType)).orElse(null);
+        if (snapshotDate == null) return Optional.empty();
+
+        List<Game> games = gameRepository.findBySeasonIdAndTournamentTypeWithDetails(
+                season.getId(), Game.TournamentType.NCAA_TOURNAMENT);
+        TournamentField field = BracketService.field(games).orElse(null);
+        if (field == null) return Optional.empty();
+
+        int[] reached = field.reached().clone();
+        Map<Long, Integer> index = new HashMap<>();
+        for (int t = 0; t < field.teams().size(); t++) index.put(field.teams().get(t).getId(), t);
+        for (Map.Entry<Long, Integer> lock : whatIf.entrySet()) {
+            Integer t = index.get(lock.getKey());
+            if (t == null) throw new IllegalArgumentException("Team " + lock.getKey() + " is not in the " + year + " field");
+            if (lock.getValue() < 0 || lock.getValue() >= ROUNDS.size()) {
+                throw new IllegalArgumentException("Round index must be 0.." + (ROUNDS.size() - 1) + ": " + lock.getValue());
+            }
+            reached[t] = Math.max(reached[t], lock.getValue() + 1);
+        }
+        int[] conflict = TournamentSimulator.conflict(field.slots(), reached);
+        if (conflict != null) {
+            throw new IllegalArgumentException(field.teams().get(conflict[0]).getName() + " and "
+                    + field.teams().get(conflict[1]).getName() + " cannot both win their "
+                    + GAME_ROUNDS.get(conflict[2]) + " game");
+        }
+
+        Map<Long, Integer> locks = new TreeMap<>();
+        for (int[] slot : field.slots()) {
+            for (int t : slot) {
+                if (reached[t] > (slot.length == 2 ? 0 : 1)) locks.put(field.teams().get(t).getId(), reached[t] - 1);
+            }
+        }
+        if (!whatIf.isEmpty()) {
+            return Optional.of(run(year, model, modelType, season, snapshotDate, field, reached, locks,
+                    whatIfIterations));
+        }
+        Key key = new Key(year, modelType, snapshotDate, locks);
+        CompletableFuture<TournamentProjection> cached = cache.get(key);
+        if (cached == null) {
+            if (cache.size() >= MAX_CACHED) cache.clear();
+            CompletableFuture<TournamentProjection> mine = new CompletableFuture<>();
+            cached = cache.putIfAbsent(key, mine);
+            if (cached == null) {
+                cached = mine;
+                try {
+                    mine.complete(run(year, model, modelType, season, snapshotDate, field, reached, locks, iterations));
+                } catch (RuntimeException e) {
+                    cache.remove(key, mine);
+                    mine.completeExceptionally(e);
+                }
+            }
+        }
+        return Optional.of(await(cached));
+    }
+
+    /** The future's projection, rethrowing the run's own exception rather than a wrapper. */
+    private static TournamentProjection await(CompletableFuture<TournamentProjection> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private TournamentProjection run(int year, String model, String modelType, Season season, LocalDate snapshotDate,
+                                     TournamentField field, int[] reached, Map<Long, Integer> locks, int iterations) {
+        long start = System.nanoTime();
+        Map<Long, Double> byTeam = new HashMap<>();
+        for (TeamPowerRatingSnapshot s : ratingRepository.findLatestBeforeForSeason(
+                season.getId(), List.of(modelType), snapshotDate.plusDays(1))) {
+            if (s.getRating() != null) byTeam.put(s.getTeam().getId(), s.getRating());
+        }
+        List<Team> teams = field.teams();
+        double[] ratings = new double[teams.size()];
+        for (int t = 0; t < ratings.length; t++) {
+            // an unrated team (e.g. a snapshot gap) plays as an average one
+            ratings[t] = byTeam.getOrDefault(teams.get(t).getId(), 0.0);
+        }
+        double[] winProb = modelType.equals(MasseyRatingService.MODEL_TYPE)
+                ? TournamentSimulator.massey(ratings, masseySigma)
+                : TournamentSimulator.bradleyTerry(ratings);
+
+        TournamentSimulator simulator = new TournamentSimulator(winProb, field.slots(), reached);
+        long[] counts = simulationPool.submit(() -> simulator.simulate(iterations, SEED)).join();
+        TournamentSimulator.Bracket bracket = simulator.mostLikely();
+
+        List<TournamentProjection.TeamOdds> odds = new ArrayList<>();
+        for (int[] slot : field.slots()) {
+            for (int t : slot) {
+                double[] advancement = new double[ROUNDS.size()];
+                for (int k = 0; k < advancement.length; k++) {
+                    advancement[k] = (double) counts[t * TournamentSimulator.LEVELS + k + 1] / iterations;
+                }
+                Team team = teams.get(t);
+                odds.add(new TournamentProjection.TeamOdds(team.getId(), team.getName(), team.getLogoUrl(),
+                        field.regions()[field.regionOf()[t]], field.seeds()[t], ratings[t], advancement));
+            }
+        }
+        odds.sort(Comparator.comparingDouble((TournamentProjection.TeamOdds o) -> -o.advancement()[ROUNDS.size() - 1])
+                .thenComparingInt(TournamentProjection.TeamOdds::seed));
+
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Simulated {} {} tournaments ({} on {}) in {} ms", iterations, year, modelType, snapshotDate, millis);
+        return new TournamentProjection(year, model, snapshotDate, iterations, millis, ROUNDS, odds,
+                bracket == null ? List.of() : picks(field, bracket),
+                bracket == null ? 0 : bracket.probability(), locks);
+    }
+
+    /** Games of the most likely bracket, earliest round first, each round in bracket order. */
+    private static List<TournamentProjection.Pick> picks(TournamentField field, TournamentSimulator.Bracket bracket) {
+        List<TournamentProjection.Pick> picks = new ArrayList<>();
+        for (int level = 1; level <= TournamentSimulator.CHAMPION; level++) {
+            int first = 1 << (TournamentSimulator.CHAMPION - level);
+            for (int node = first; node < 2 * first; node++) {
+                int w = bracket.winners()[node], l = bracket.losers()[node];
+                if (w < 0 || l < 0) continue;
+                int block = TournamentSimulator.block(node);
+                Team winner = field.teams().get(w), loser = field.teams().get(l);
+                picks.add(new TournamentProjection.Pick(GAME_ROUNDS.get(level),
+                        block >= 0 ? field.regions()[block] : null,
+                        winner.getId(), winner.getName(), field.seeds()[w],
+                        loser.getId(), loser.getName(), field.seeds()[l],
+                        bracket.odds()[node]));
+            }
+        }
+        return picks;
+    }
+
+    /** Payload {@code season,generation}; anything unparseable evicts every season. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onClusterInvalidation(ClusterInvalidationEvent event) {
+        if (event.channel() != ClusterInvalidationBus.Channel.CALC_COMPLETED) {
+            return;
+        }
+        String payload = event.payload();
+        int comma = payload.indexOf(',');
+        try {
+            int year = Integer.parseInt(comma >= 0 ? payload.substring(0, comma) : payload);
+            cache.keySet().removeIf(k -> k.year() == year);
+        } catch (NumberFormatException e) {
+            cache.clear();
+        }
+    }
+
+    @EventListener
+    public void onClusterResync(ClusterResyncEvent event) {
+        cache.clear();
+    }
+}
@@ -0,0 +1,267 @@
+package com.yotto.basketball.service;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Monte Carlo engine for a 64-team bracket with First Four play-ins. The bracket is a
+ * heap-ordered tree of {@link #NODES} nodes: node 1 is the championship, nodes 2..3 the
+ * semifinals and so on down to the first-round entries at 64..127, whose children are
+ * the (at most two) teams of {@link TournamentField#slots()}. Winning the game at a node
+ * takes a team to that node's level: 1 for a First Four win (or a bye into the round of
+ * 64), 2 for the round of 32, …, {@link #CHAMPION} for the title.
+ *
+ * <p>Each tournament is played into one reused {@code int[]} of node winners, drawing one
+ * uniform per undecided game against a flat {@code n × n} win-probability matrix; a team
+ * whose {@code reached} level is at least a game's level wins it outright, which is how
+ * FINAL games and "what if" locks are applied. The work is split into chunks that each own
+ * a {@link SplittableRandom} split off one root in a fixed order, so a run is reproducible
+ * for a given seed however the pool schedules the chunks.
+ *
+ * <p>{@link #mostLikely()} is exact rather than sampled: a max-product pass over the tree
+ * finds the single bracket with the highest joint probability.
+ */
+final class TournamentSimulator {
+
+    /** Levels a team can reach: 0 in the field, 1 the round of 64, …, 7 champion. */
+    static final int LEVELS = 8;
+    static final int CHAMPION = LEVELS - 1;
+
+    static final int NODES = 2 * TournamentField.ENTRIES;
+
+    /** Chunks per available core, so one slow chunk does not leave the other cores idle. */
+    private static final int CHUNKS_PER_CORE = 4;
+
+    /** The most likely bracket, per node: winner, loser (-1 for a bye) and the winner's odds. */
+    record Bracket(int[] winners, int[] losers, double[] odds, double probability) {}
+
+    private final int teams;
+    private final double[] winProb;
+    private final int[] entryA;
+    private final int[] entryB;
+    private final int[] reached;
+
+    /**
+     * {@code winProb[a * n + b]} is the chance team {@code a} beats team {@code b}. The
+     * locks in {@code reached} must be consistent; see {@link #conflict}.
+     */
+    TournamentSimulator(double[] winProb, int[][] slots, int[] reached) {
+        this.teams = reached.length;
+        this.winProb = winProb;
+        this.reached = reached.clone();
+        this.entryA = new int[TournamentField.ENTRIES];
+        this.entryB = new int[TournamentField.ENTRIES];
+        for (int e = 0; e < TournamentField.ENTRIES; e++) {
+            entryA[e] = slots[e].length > 0 ? slots[e][0] : -1;
+            entryB[e] = slots[e].length > 1 ? slots[e][1] : -1;
+        }
+    }
+
+    /** Level reached by winning the game at {@code node}. */
+    static int level(int node) {
+        return CHAMPION - (31 - Integer.numberOfLeadingZeros(node));
+    }
+
+    /** Region block (0..3) the game at {@code node} belongs to, or -1 for the Final Four and final. */
+    static int block(int node) {
+        int depth = 31 - Integer.numberOfLeadingZeros(node);
+        return depth < 2 ? -1 : (node >> (depth - 2)) - 4;
+    }
+
+    /**
+     * Two teams locked past the same game, as {@code {a, b, level}}, or null when the locks
+     * are consistent. Checked bottom-up: a node's decided winner is the child winner whose
+     * lock reaches the node's level.
+     */
+    static int[] conflict(int[][] slots, int[] reached) {
+        int[] decided = new int[NODES];
+        for (int e = 0; e < TournamentField.ENTRIES; e++) {
+            int a = slots[e].length > 0 ? slots[e][0] : -1;
+            int b = slots[e].length > 1 ? slots[e][1] : -1;
+            if (a >= 0 && b >= 0 && reached[a] >= 1 && reached[b] >= 1) return new int[] {a, b, 1};
+            decided[TournamentField.ENTRIES + e] = a >= 0 && reached[a] >= 1 ? a : b >= 0 && reached[b] >= 1 ? b : -1;
+        }
+        for (int node = TournamentField.ENTRIES - 1; node >= 1; node--) {
+            int level = level(node);
+            int a = decided[2 * node], b = decided[2 * node + 1];
+            boolean aLocked = a >= 0 && reached[a] >= level;
+            boolean bLocked = b >= 0 && reached[b] >= level;
+            if (aLocked && bLocked) return new int[] {a, b, level};
+            decided[node] = aLocked ? a : bLocked ? b : -1;
+        }
+        return null;
+    }
+
+    /**
+     * Plays {@code iterations} tournaments across the calling thread's fork-join pool and
+     * returns how often each team reached each level, as {@code counts[team * LEVELS + level]}.
+     * Level 0 is never counted. {@link TournamentSimulationService} submits every run to
+     * {@code bracketSimulationPool}; called from outside a pool, it uses the common one.
+     */
+    long[] simulate(int iterations, long seed) {
+        int chunks = Math.max(1, Math.min(iterations, CHUNKS_PER_CORE * Runtime.getRuntime().availableProcessors()));
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] rngs = new SplittableRandom[chunks];
+        for (int c = 0; c < chunks; c++) rngs[c] = root.split();
+
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(c -> run(rngs[c], iterations / chunks + (c < iterations % chunks ? 1 : 0)))
+                .reduce(TournamentSimulator::add)
+                .orElseThrow();
+    }
+
+    private long[] run(SplittableRandom rng, int iterations) {
+        long[] counts = new long[teams * LEVELS];
+        int[] winner = new int[NODES];
+        for (int i = 0; i < iterations; i++) {
+            for (int e = 0; e < TournamentField.ENTRIES; e++) {
+                winner[TournamentField.ENTRIES + e] = play(entryA[e], entryB[e], 1, rng);
+            }
+            for (int node = TournamentField.ENTRIES - 1; node >= 1; node--) {
+                winner[node] = play(winner[2 * node], winner[2 * node + 1], level(node), rng);
+            }
+            for (int node = 1; node < NODES; node++) {
+                int t = winner[node];
+                if (t >= 0) counts[t * LEVELS + level(node)]++;
+            }
+        }
+        return counts;
+    }
+
+    private int play(int a, int b, int level, SplittableRandom rng) {
+        if (a < 0) return b;
+        if (b < 0) return a;
+        if (reached[a] >= level) return a;
+        if (reached[b] >= level) return b;
+        return rng.nextDouble() < winProb[a * teams + b] ? a : b;
+    }
+
+    private static long[] add(long[] a, long[] b) {
+        for (int i = 0; i < a.length; i++) a[i] += b[i];
+        return a;
+    }
+
+    /** The bracket with the highest joint probability, or null for an empty field. */
+    Bracket mostLikely() {
+        // best[node * n + t]: log-probability of the likeliest sub-bracket under node that t wins
+        double[] best = new double[NODES * teams];
+        int[] opponent = new int[NODES * teams];
+        Arrays.fill(best, Double.NEGATIVE_INFINITY);
+        Arrays.fill(opponent, -1);
+
+        for (int e = 0; e < TournamentField.ENTRIES; e++) {
+            int node = TournamentField.ENTRIES + e, a = entryA[e], b = entryB[e];
+            if (a >= 0 && b >= 0) {
+                best[node * teams + a] = Math.log(odds(a, b, 1));
+                best[node * teams + b] = Math.log(odds(b, a, 1));
+                opponent[node * teams + a] = b;
+                opponent[node * teams + b] = a;
+            } else if (a >= 0 || b >= 0) {
+                best[node * teams + Math.max(a, b)] = 0;
+            }
+        }
+        for (int node = TournamentField.ENTRIES - 1; node >= 1; node--) {
+            combine(best, opponent, node, 2 * node, 2 * node + 1);
+            combine(best, opponent, node, 2 * node + 1, 2 * node);
+        }
+
+        int champion = -1;
+        for (int t = 0; t < teams; t++) {
+            if (best[teams + t] > Double.NEGATIVE_INFINITY && (champion < 0 || best[teams + t] > best[teams + champion])) {
+                champion = t;
+            }
+        }
+        if (champion < 0) return null;
+
+        int[] winners = new int[NODES], losers = new int[NODES];
+        double[] odds = new double[NODES];
+        Arrays.fill(winners, -1);
+        Arrays.fill(losers, -1);
+        trace(best, opponent, 1, champion, winners, losers, odds);
+        return new Bracket(winners, losers, odds, Math.exp(best[teams + champion]));
+    }
+
+    private void combine(double[] best, int[] opponent, int node, int side, int other) {
+        int level = level(node);
+        boolean otherEmpty = true;
+        for (int u = 0; u < teams && otherEmpty; u++) {
+            otherEmpty = best[other * teams + u] == Double.NEGATIVE_INFINITY;
+        }
+        for (int t = 0; t < teams; t++) {
+            double own = best[side * teams + t];
+            if (own == Double.NEGATIVE_INFINITY) continue;
+            if (otherEmpty) {
+                best[node * teams + t] = own;
+                continue;
+            }
+            double top = Double.NEGATIVE_INFINITY;
+            int pick = -1;
+            for (int u = 0; u < teams; u++) {
+                double sub = best[other * teams + u];
+                if (sub == Double.NEGATIVE_INFINITY) continue;
+                double v = sub + Math.log(odds(t, u, level));
+                if (v > top) {
+                    top = v;
+                    pick = u;
+                }
+            }
+            best[node * teams + t] = own + top;
+            opponent[node * teams + t] = pick;
+        }
+    }
+
+    private void trace(double[] best, int[] opponent, int node, int t,
+                       int[] winners, int[] losers, double[] odds) {
+        int u = opponent[node * teams + t];
+        winners[node] = t;
+        losers[node] = u;
+        odds[node] = u < 0 ? 1.0 : odds(t, u, level(node));
+        if (node >= TournamentField.ENTRIES) return;
+        int own = best[2 * node * teams + t] > Double.NEGATIVE_INFINITY ? 2 * node : 2 * node + 1;
+        trace(best, opponent, own, t, winners, losers, odds);
+        if (u >= 0) trace(best, opponent, own ^ 1, u, winners, losers, odds);
+    }
+
+    /** Chance {@code a} beats {@code b} in a game at {@code level}, with locks applied. */
+    private double odds(int a, int b, int level) {
+        if (reached[a] >= level) return 1.0;
+        if (reached[b] >= level) return 0.0;
+        return winProb[a * teams + b];
+    }
+
+    // ── Win probabilities ─────────────────────────────────────────────────────
+
+    /** Neutral-site Bradley-Terry: P(a beats b) = σ(r_a − r_b). */
+    static double[] bradleyTerry(double[] ratings) {
+        int n = ratings.length;
+        double[] p = new double[n * n];
+        for (int a = 0; a < n; a++) {
+            for (int b = 0; b < n; b++) {
+                p[a * n + b] = 1.0 / (1.0 + Math.exp(ratings[b] - ratings[a]));
+            }
+        }
+        return p;
+    }
+
+    /** Neutral-site Massey: the margin r_a − r_b read as the mean of a normal with deviation sigma. */
+    static double[] massey(double[] ratings, double sigma) {
+        int n = ratings.length;
+        double[] p = new double[n * n];
+        for (int a = 0; a < n; a++) {
+            for (int b = 0; b < n; b++) {
+                p[a * n + b] = normalCdf((ratings[a] - ratings[b]) / sigma);
+            }
+        }
+        return p;
+    }
+
+    /** Standard normal CDF via Abramowitz–Stegun 7.1.26 (absolute error below 1.5e-7). */
+    static double normalCdf(double z) {
+        double x = Math.abs(z) / Math.sqrt(2);
+        double t = 1.0 / (1.0 + 0.3275911 * x);
+        double poly = t * (0.254829592 + t * (-0.284496736 + t * (1.421413741 + t * (-1.453152027 + t * 1.061405429))));
+        double erf = 1.0 - poly * Math.exp(-x * x);
+        return z >= 0 ? 0.5 * (1.0 + erf) : 0.5 * (1.0 - erf);
+    }
+}
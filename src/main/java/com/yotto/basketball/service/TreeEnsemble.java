@@ -0,0 +1,329 @@
+package com.yotto.basketball.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * A {@code TreeEnsembleRegressor} or {@code TreeEnsembleClassifier} node compiled into
+ * flat primitive arrays: one slot per tree node for the feature index, threshold,
+ * comparison mode and both child indices, and a CSR-style leaf table of (target, weight)
+ * pairs. Evaluation walks each tree from its root with no allocation beyond the output.
+ *
+ * <p>Semantics follow onnxruntime's implementation, not just the ONNX spec, where the
+ * two differ: the root of each tree is its first node in attribute order, a binary
+ * classifier with a single class-id column produces {@code [1-s, s]} when every weight
+ * is positive (ignoring the post-transform) and {@code [σ(-s), σ(s)]} under
+ * {@code LOGISTIC} otherwise, and a single-target regressor ignores every post-transform
+ * except {@code PROBIT}. Layouts onnxruntime treats ambiguously ({@code PROBIT}, a
+ * two-column binary classifier, two base values on one class column) are rejected with
+ * {@link UnsupportedOperationException} so the caller can stay on onnxruntime.
+ *
+ * <p>Thresholds are compared in float like onnxruntime; leaf weights are summed in
+ * double, so large ensembles agree with it to float precision rather than bit for bit.
+ */
+final class TreeEnsemble {
+
+    private static final byte LEAF = 0, LEQ = 1, LT = 2, GTE = 3, GT = 4, EQ = 5, NEQ = 6;
+
+    private enum Aggregate { SUM, AVERAGE, MIN, MAX }
+
+    private enum Transform { NONE, LOGISTIC, SOFTMAX, SOFTMAX_ZERO }
+
+    private enum Binary { NONE, POSITIVE, LOGISTIC, SIGNED }
+
+    private final int[] feature;
+    private final float[] threshold;
+    private final byte[] mode;
+    private final int[] trueChild;
+    private final int[] falseChild;
+    private final boolean[] missingTrue;
+    private final int[] leafStart;
+    private final int[] leafTarget;
+    private final double[] leafWeight;
+    private final int[] roots;
+
+    private final int targets;
+    private final int width;
+    private final Aggregate aggregate;
+    private final double[] base;
+    private final Transform transform;
+    private final Binary binary;
+
+    private TreeEnsemble(int[] feature, float[] threshold, byte[] mode, int[] trueChild, int[] falseChild,
+                         boolean[] missingTrue, int[] leafStart, int[] leafTarget, double[] leafWeight,
+                         int[] roots, int targets, int width, Aggregate aggregate, double[] base,
+                         Transform transform, Binary binary) {
+        this.feature = feature;
+        this.threshold = threshold;
+        this.mode = mode;
+        this.trueChild = trueChild;
+        this.falseChild = falseChild;
+        this.missingTrue = missingTrue;
+        this.leafStart = leafStart;
+        this.leafTarget = leafTarget;
+        this.leafWeight = leafWeight;
+        this.roots = roots;
+        this.targets = targets;
+        this.width = width;
+        this.aggregate = aggregate;
+        this.base = base;
+        this.transform = transform;
+        this.binary = binary;
+    }
+
+    static boolean handles(OnnxGraph.Node node) {
+        return "ai.onnx.ml".equals(node.domain())
+                && ("TreeEnsembleRegressor".equals(node.opType()) || "TreeEnsembleClassifier".equals(node.opType()));
+    }
+
+    static TreeEnsemble compile(OnnxGraph.Node node) {
+        boolean classifier = "TreeEnsembleClassifier".equals(node.opType());
+        long[] treeIds = required(node.intsOr("nodes_treeids", null), "nodes_treeids");
+        long[] nodeIds = required(node.intsOr("nodes_nodeids", null), "nodes_nodeids");
+        long[] featureIds = required(node.intsOr("nodes_featureids", null), "nodes_featureids");
+        double[] values = required(node.floatsOr("nodes_values", null), "nodes_values");
+        List<String> modes = required(node.stringsOr("nodes_modes", null), "nodes_modes");
+        long[] trueIds = required(node.intsOr("nodes_truenodeids", null), "nodes_truenodeids");
+        long[] falseIds = required(node.intsOr("nodes_falsenodeids", null), "nodes_falsenodeids");
+        long[] missing = node.intsOr("nodes_missing_value_tracks_true", new long[0]);
+
+        int n = treeIds.length;
+        Map<Long, Integer> index = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            index.put(key(treeIds[i], nodeIds[i]), i);
+        }
+
+        int[] feature = new int[n];
+        float[] threshold = new float[n];
+        byte[] mode = new byte[n];
+        int[] trueChild = new int[n];
+        int[] falseChild = new int[n];
+        boolean[] missingTrue = new boolean[n];
+        int[] rootBuffer = new int[n];
+        int rootCount = 0;
+        for (int i = 0; i < n; i++) {
+            if (i == 0 || treeIds[i] != treeIds[i - 1]) {
+                rootBuffer[rootCount++] = i;
+            }
+            mode[i] = mode(modes.get(i));
+            feature[i] = (int) featureIds[i];
+            threshold[i] = (float) values[i];
+            missingTrue[i] = i < missing.length && missing[i] != 0;
+            if (mode[i] != LEAF) {
+                trueChild[i] = child(index, treeIds[i], trueIds[i]);
+                falseChild[i] = child(index, treeIds[i], falseIds[i]);
+            }
+        }
+
+        String prefix = classifier ? "class_" : "target_";
+        long[] leafTrees = required(node.intsOr(prefix + "treeids", null), prefix + "treeids");
+        long[] leafNodes = required(node.intsOr(prefix + "nodeids", null), prefix + "nodeids");
+        long[] leafIds = required(node.intsOr(prefix + "ids", null), prefix + "ids");
+        double[] weights = required(node.floatsOr(prefix + "weights", null), prefix + "weights");
+
+        // Group the leaf table by node so evaluation reads one contiguous run per leaf
+        int[] counts = new int[n + 1];
+        int[] owner = new int[leafTrees.length];
+        for (int k = 0; k < leafTrees.length; k++) {
+            Integer at = index.get(key(leafTrees[k], leafNodes[k]));
+            if (at == null) {
+                throw new IllegalArgumentException("Leaf weight for unknown node " + leafTrees[k] + "/" + leafNodes[k]);
+            }
+            owner[k] = at;
+            counts[at + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            counts[i + 1] += counts[i];
+        }
+        int[] leafStart = counts.clone();
+        int[] cursor = Arrays.copyOf(counts, n);
+        int[] leafTarget = new int[leafTrees.length];
+        double[] leafWeight = new double[leafTrees.length];
+        for (int k = 0; k < leafTrees.length; k++) {
+            int slot = cursor[owner[k]]++;
+            leafTarget[slot] = (int) leafIds[k];
+            leafWeight[slot] = (float) weights[k];
+        }
+
+        String post = node.stringOr("post_transform", "NONE");
+        if ("PROBIT".equals(post)) {
+            throw new UnsupportedOperationException("PROBIT post-transform");
+        }
+        Transform transform = Transform.valueOf(post);
+        double[] base = node.floatsOr("base_values", new double[0]);
+        int[] roots = Arrays.copyOf(rootBuffer, rootCount);
+
+        if (!classifier) {
+            int targets = (int) node.intOr("n_targets", 1);
+            Aggregate aggregate = Aggregate.valueOf(node.stringOr("aggregate_function", "SUM"));
+            return new TreeEnsemble(feature, threshold, mode, trueChild, falseChild, missingTrue,
+                    leafStart, leafTarget, leafWeight, roots, targets, targets, aggregate,
+                    padded(base, targets), targets == 1 ? Transform.NONE : transform, Binary.NONE);
+        }
+
+        long[] intLabels = node.intsOr("classlabels_int64s", null);
+        List<String> stringLabels = node.stringsOr("classlabels_strings", null);
+        int classes = intLabels != null ? intLabels.length : stringLabels != null ? stringLabels.size() : 0;
+        if (classes < 2) {
+            throw new IllegalArgumentException("TreeEnsembleClassifier without class labels");
+        }
+        if (classes > 2) {
+            return new TreeEnsemble(feature, threshold, mode, trueChild, falseChild, missingTrue,
+                    leafStart, leafTarget, leafWeight, roots, classes, classes, Aggregate.SUM,
+                    padded(base, classes), transform, Binary.NONE);
+        }
+
+        TreeSet<Long> columns = new TreeSet<>();
+        for (long id : leafIds) columns.add(id);
+        if (!columns.equals(new TreeSet<>(List.of(0L))) || base.length > 1) {
+            throw new UnsupportedOperationException("binary classifier with class ids " + columns
+                    + " and " + base.length + " base values");
+        }
+        boolean allPositive = true;
+        for (double w : weights) allPositive &= w >= 0;
+        Binary binary = allPositive ? Binary.POSITIVE
+                : transform == Transform.LOGISTIC ? Binary.LOGISTIC : Binary.SIGNED;
+        return new TreeEnsemble(feature, threshold, mode, trueChild, falseChild, missingTrue,
+                leafStart, leafTarget, leafWeight, roots, 1, 2, Aggregate.SUM,
+                padded(base, 1), Transform.NONE, binary);
+    }
+
+    /** Columns per row of {@link #evaluate}'s output: targets, or class scores. */
+    int width() {
+        return width;
+    }
+
+    /**
+     * Scores {@code rows} rows of {@code columns} features laid out row-major in
+     * {@code x}. Trees form the outer loop so each tree's nodes stay in cache across a
+     * batch.
+     */
+    double[] evaluate(float[] x, int rows, int columns) {
+        double[] raw = new double[rows * targets];
+        if (aggregate == Aggregate.SUM || aggregate == Aggregate.AVERAGE) {
+            for (int root : roots) {
+                for (int r = 0, offset = 0; r < rows; r++, offset += columns) {
+                    int leaf = walk(root, x, offset);
+                    for (int k = leafStart[leaf], end = leafStart[leaf + 1]; k < end; k++) {
+                        raw[r * targets + leafTarget[k]] += leafWeight[k];
+                    }
+                }
+            }
+        } else {
+            boolean[] hit = new boolean[rows * targets];
+            boolean min = aggregate == Aggregate.MIN;
+            for (int root : roots) {
+                for (int r = 0, offset = 0; r < rows; r++, offset += columns) {
+                    int leaf = walk(root, x, offset);
+                    for (int k = leafStart[leaf], end = leafStart[leaf + 1]; k < end; k++) {
+                        int slot = r * targets + leafTarget[k];
+                        double w = leafWeight[k];
+                        raw[slot] = !hit[slot] ? w : min ? Math.min(raw[slot], w) : Math.max(raw[slot], w);
+                        hit[slot] = true;
+                    }
+                }
+            }
+        }
+
+        double[] out = binary == Binary.NONE ? raw : new double[rows * 2];
+        for (int r = 0; r < rows; r++) {
+            int at = r * targets;
+            for (int t = 0; t < targets; t++) {
+                if (aggregate == Aggregate.AVERAGE) raw[at + t] /= roots.length;
+                raw[at + t] += base[t];
+            }
+            if (binary != Binary.NONE) {
+                double s = raw[r];
+                switch (binary) {
+                    case POSITIVE -> { out[2 * r] = 1 - s; out[2 * r + 1] = s; }
+                    case LOGISTIC -> { out[2 * r] = logistic(-s); out[2 * r + 1] = logistic(s); }
+                    default -> { out[2 * r] = -s; out[2 * r + 1] = s; }
+                }
+            } else {
+                applyTransform(raw, at, targets);
+            }
+        }
+        return out;
+    }
+
+    private int walk(int node, float[] x, int offset) {
+        byte m;
+        while ((m = mode[node]) != LEAF) {
+            float v = x[offset + feature[node]];
+            float th = threshold[node];
+            boolean branch = switch (m) {
+                case LEQ -> v <= th;
+                case LT -> v < th;
+                case GTE -> v >= th;
+                case GT -> v > th;
+                case EQ -> v == th;
+                default -> v != th;
+            };
+            node = branch || (missingTrue[node] && Float.isNaN(v)) ? trueChild[node] : falseChild[node];
+        }
+        return node;
+    }
+
+    private void applyTransform(double[] row, int at, int n) {
+        switch (transform) {
+            case LOGISTIC -> {
+                for (int i = at; i < at + n; i++) row[i] = logistic(row[i]);
+            }
+            case SOFTMAX, SOFTMAX_ZERO -> {
+                boolean keepZeros = transform == Transform.SOFTMAX_ZERO;
+                double max = Double.NEGATIVE_INFINITY;
+                for (int i = at; i < at + n; i++) max = Math.max(max, row[i]);
+                double sum = 0;
+                for (int i = at; i < at + n; i++) {
+                    row[i] = keepZeros && row[i] == 0 ? 0 : Math.exp(row[i] - max);
+                    sum += row[i];
+                }
+                for (int i = at; i < at + n; i++) row[i] /= sum;
+            }
+            case NONE -> { }
+        }
+    }
+
+    static double logistic(double v) {
+        return 1.0 / (1.0 + Math.exp(-v));
+    }
+
+    private static byte mode(String mode) {
+        return switch (mode) {
+            case "LEAF" -> LEAF;
+            case "BRANCH_LEQ" -> LEQ;
+            case "BRANCH_LT" -> LT;
+            case "BRANCH_GTE" -> GTE;
+            case "BRANCH_GT" -> GT;
+            case "BRANCH_EQ" -> EQ;
+            case "BRANCH_NEQ" -> NEQ;
+            default -> throw new UnsupportedOperationException("node mode " + mode);
+        };
+    }
+
+    private static int child(Map<Long, Integer> index, long tree, long nodeId) {
+        Integer at = index.get(key(tree, nodeId));
+        if (at == null) {
+            throw new IllegalArgumentException("Tree " + tree + " references missing node " + nodeId);
+        }
+        return at;
+    }
+
+    private static long key(long tree, long nodeId) {
+        return tree << 32 | (nodeId & 0xFFFFFFFFL);
+    }
+
+    private static double[] padded(double[] base, int n) {
+        return base.length >= n ? base : Arrays.copyOf(base, n);
+    }
+
+    private static <T> T required(T value, String attribute) {
+        if (value == null) {
+            throw new IllegalArgumentException("Tree ensemble is missing attribute " + attribute);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,164 @@
+package com.yotto.basketball.service;
+
+import com.yotto.basketball.entity.Game;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Walk-forward replay of one season under one model setting, entirely in memory: each
+ * game day is predicted from a fit through the previous day only, then its results are
+ * added, so every prediction is leakage-free. Mirrors the rating services'
+ * formulations with λ (and the Bradley-Terry margin weight) as parameters instead of
+ * constants. A game is scored once both teams have played, as
+ * {@link PredictionEvaluationService} needs a snapshot for each.
+ */
+final class WalkForwardBacktest {
+
+    /**
+     * A season's FINAL games in date order as columns: {@code dayStart[d]} up to
+     * {@code dayStart[d + 1]} are day {@code d}'s games, teams indexed by sorted id.
+     */
+    record Season(int year, int teams, int[] home, int[] away, int[] margin, boolean[] neutral, int[] dayStart) {
+
+        static Season of(SeasonGameData data) {
+            List<Game> games = data.finalGames();
+            long[] ids = games.stream()
+                    .flatMap(g -> Stream.of(g.getHomeTeam().getId(), g.getAwayTeam().getId()))
+                    .mapToLong(Long::longValue).distinct().sorted().toArray();
+            Map<Long, Integer> index = new HashMap<>();
+            for (int t = 0; t < ids.length; t++) index.put(ids[t], t);
+
+            int n = games.size();
+            int[] home = new int[n], away = new int[n], margin = new int[n];
+            boolean[] neutral = new boolean[n];
+            List<Integer> starts = new ArrayList<>();
+            LocalDate day = null;
+            for (int g = 0; g < n; g++) {
+                Game game = games.get(g);
+                home[g] = index.get(game.getHomeTeam().getId());
+                away[g] = index.get(game.getAwayTeam().getId());
+                margin[g] = game.getHomeScore() - game.getAwayScore();
+                neutral[g] = Boolean.TRUE.equals(game.getNeutralSite());
+                LocalDate date = game.getGameDate().toLocalDate();
+                if (!date.equals(day)) {
+                    starts.add(g);
+                    day = date;
+                }
+            }
+            starts.add(n);
+            return new Season(data.season().getYear(), ids.length, home, away, margin, neutral,
+                    starts.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        int days() {
+            return dayStart.length - 1;
+        }
+    }
+
+    /**
+     * One point of the grid. {@code marginWeight} scales the Bradley-Terry game weight
+     * {@code 1 + marginWeight·ln(max(1, margin))}; 0 is the unweighted model, 1 the
+     * production weighted one. Ignored for Massey.
+     */
+    record Setting(String modelType, double lambda, double marginWeight) {
+
+        boolean massey() {
+            return MasseyRatingService.MODEL_TYPE.equals(modelType);
+        }
+    }
+
+    /** Error sums over the games a setting predicted; spread for Massey, probability for Bradley-Terry. */
+    record Score(long games, double absError, double squaredError, double brier, long correct) {
+
+        static final Score EMPTY = new Score(0, 0, 0, 0, 0);
+
+        Score plus(Score o) {
+            return new Score(games + o.games, absError + o.absError, squaredError + o.squaredError,
+                    brier + o.brier, correct + o.correct);
+        }
+    }
+
+    private WalkForwardBacktest() {}
+
+    static Score run(Season season, Setting setting) {
+        return setting.massey() ? massey(season, setting.lambda()) : bradleyTerry(season, setting);
+    }
+
+    private static Score massey(Season s, double lambda) {
+        int T = s.teams(), size = T + 1;
+        double[][] A = new double[size][size];
+        double[] b = new double[size];
+        int[] played = new int[T];
+        long games = 0, correct = 0;
+        double abs = 0, sq = 0;
+
+        for (int d = 0; d < s.days(); d++) {
+            double[] x = null;
+            boolean solved = false;
+            for (int g = s.dayStart()[d]; g < s.dayStart()[d + 1]; g++) {
+                int h = s.home()[g], a = s.away()[g];
+                if (played[h] == 0 || played[a] == 0) continue;
+                if (!solved) {
+                    x = MasseyRatingService.solve(A, b, T, size, lambda, () -> {});
+                    solved = true;
+                }
+                if (x == null) continue;
+                double predicted = x[h] - x[a] + (s.neutral()[g] ? 0 : x[T]);
+                double error = predicted - s.margin()[g];
+                games++;
+                abs += Math.abs(error);
+                sq += error * error;
+                if (s.margin()[g] != 0 && (predicted > 0) == (s.margin()[g] > 0)) correct++;
+            }
+            for (int g = s.dayStart()[d]; g < s.dayStart()[d + 1]; g++) {
+                int[] row = {s.home()[g], s.away()[g], s.margin()[g], s.neutral()[g] ? 0 : 1};
+                RatingWhatIf.addRow(A, b, row, T);
+                played[row[0]]++;
+                played[row[1]]++;
+            }
+        }
+        return new Score(games, abs, sq, 0, correct);
+    }
+
+    private static Score bradleyTerry(Season s, Setting setting) {
+        int T = s.teams(), size = T + 1;
+        double[] params = new double[size];
+        List<int[]> seen = new ArrayList<>(s.home().length);
+        int[] played = new int[T];
+        long games = 0, correct = 0;
+        double brier = 0;
+
+        for (int d = 0; d < s.days(); d++) {
+            int start = s.dayStart()[d], end = s.dayStart()[d + 1];
+            for (int g = start; g < end; g++) {
+                int h = s.home()[g], a = s.away()[g], margin = s.margin()[g];
+                if (margin == 0 || played[h] == 0 || played[a] == 0) continue;
+                double p = BradleyTerryRatingService.sigmoid(params[h] - params[a] + (s.neutral()[g] ? 0 : params[T]));
+                int y = margin > 0 ? 1 : 0;
+                games++;
+                brier += (y - p) * (y - p);
+                if ((p > 0.5) == (y == 1)) correct++;
+            }
+            boolean added = false;
+            for (int g = start; g < end; g++) {
+                int margin = s.margin()[g];
+                if (margin == 0) continue;
+                seen.add(new int[]{s.home()[g], s.away()[g], margin > 0 ? 1 : 0, s.neutral()[g] ? 0 : 1,
+                        Math.abs(margin)});
+                played[s.home()[g]]++;
+                played[s.away()[g]]++;
+                added = true;
+            }
+            if (added) {
+                BradleyTerryRatingService.newtonRaphson(params, seen, T, size,
+                        setting.lambda(), setting.marginWeight());
+            }
+        }
+        return new Score(games, 0, 0, brier, correct);
+    }
+}
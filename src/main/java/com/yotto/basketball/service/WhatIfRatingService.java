@@ -0,0 +1,202 @@
+package com.yotto.basketball.service;
+
+import com.yotto.basketball.entity.Game;
+import com.yotto.basketball.entity.Season;
+import com.yotto.basketball.entity.Team;
+import com.yotto.basketball.repository.GameRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * "What if" ratings: the season's Massey and Bradley-Terry fits through every final
+ * game are factorized once per season and kept in memory ({@link RatingWhatIf}); each
+ * request adds its hypothetical games to them as a low-rank update and reports the
+ * changed ratings, ranks and upcoming-game predictions. Nothing is written. The totals
+ * model is left out, as a hypothetical result carries a margin but no score. The fits
+ * use the same previous-season priors as the rating services ({@link RatingPriorLoader}).
+ */
+@Service
+public class WhatIfRatingService {
+
+    /** Hypothetical games per request; the update is a k×k solve, so this bounds its cost. */
+    static final int MAX_GAMES = 64;
+
+    /** A season's factorized fits and the team index they share. */
+    private record Base(RatingWhatIf model, long[] teamIds, String[] teamNames, Map<Long, Integer> index) {}
+
+    private final SeasonGameDataLoader seasonGameDataLoader;
+    private final GameRepository gameRepository;
+    private final RatingPriorLoader ratingPriorLoader;
+    private final Map<Integer, Base> bases = new ConcurrentHashMap<>();
+
+    public WhatIfRatingService(SeasonGameDataLoader seasonGameDataLoader, GameRepository gameRepository,
+                               RatingPriorLoader ratingPriorLoader) {
+        this.seasonGameDataLoader = seasonGameDataLoader;
+        this.gameRepository = gameRepository;
+        this.ratingPriorLoader = ratingPriorLoader;
+    }
+
+    /**
+     * Ratings for {@code year} with {@code games} added to the real results, plus the
+     * before/after predictions for scheduled games in the next {@code days} (clamped as
+     * for {@link PredictionService#getUpcoming}). Empty when the season has no final games.
+     *
+     * @throws IllegalArgumentException for no games, more than {@link #MAX_GAMES}, a team
+     *         playing itself, a tied result, or a team without a final game this season
+     */
+    public Optional<WhatIfRatings> apply(int year, List<WhatIfRatings.Hypothetical> games, int days) {
+        if (games == null || games.isEmpty()) {
+            throw new IllegalArgumentException("At least one hypothetical game is required");
+        }
+        if (games.size() > MAX_GAMES) {
+            throw new IllegalArgumentException("At most " + MAX_GAMES + " hypothetical games, got " + games.size());
+        }
+        for (WhatIfRatings.Hypothetical g : games) {
+            if (g.homeTeamId() == g.awayTeamId()) {
+                throw new IllegalArgumentException("Team " + g.homeTeamId() + " cannot play itself");
+            }
+            if (g.margin() == 0) {
+                throw new IllegalArgumentException("Hypothetical games cannot end tied");
+            }
+        }
+        Base base = bases.computeIfAbsent(year, this::build);
+        if (base == null) return Optional.empty();
+
+        long start = System.nanoTime();
+        List<int[]> rows = new ArrayList<>(games.size());
+        for (WhatIfRatings.Hypothetical g : games) {
+            rows.add(new int[]{teamIndex(base, g.homeTeamId(), year), teamIndex(base, g.awayTeamId(), year),
+                    g.margin(), g.neutralSite() ? 0 : 1});
+        }
+        RatingWhatIf model = base.model();
+        double[] massey = model.massey(), masseyAfter = model.massey(rows);
+        double[] bt = model.bradleyTerry(false), btAfter = model.bradleyTerry(rows, false);
+        double[] btw = model.bradleyTerry(true), btwAfter = model.bradleyTerry(rows, true);
+
+        List<WhatIfRatings.ModelChange> models = List.of(
+                change(base, MasseyRatingService.MODEL_TYPE, massey, masseyAfter),
+                change(base, BradleyTerryRatingService.MODEL_TYPE, bt, btAfter),
+                change(base, BradleyTerryRatingService.MODEL_TYPE_WEIGHTED, btw, btwAfter));
+
+        int T = model.teams();
+        LocalDateTime now = LocalDateTime.now();
+        List<WhatIfRatings.GameDelta> upcoming = new ArrayList<>();
+        for (Game g : gameRepository.findScheduledBetween(now, now.plusDays(PredictionService.clampUpcomingDays(days)))) {
+            Integer h = base.index().get(g.getHomeTeam().getId());
+            Integer a = base.index().get(g.getAwayTeam().getId());
+            if (h == null || a == null || g.getSeason().getYear() != year) continue;
+            boolean neutral = Boolean.TRUE.equals(g.getNeutralSite());
+            int nn = neutral ? 0 : 1;
+            upcoming.add(new WhatIfRatings.GameDelta(g.getId(), g.getGameDate(),
+                    g.getHomeTeam().getId(), g.getHomeTeam().getName(),
+                    g.getAwayTeam().getId(), g.getAwayTeam().getName(), neutral,
+                    massey[h] - massey[a] + nn * massey[T], masseyAfter[h] - masseyAfter[a] + nn * masseyAfter[T],
+                    winProbability(bt, h, a, nn, T), winProbability(btAfter, h, a, nn, T),
+                    winProbability(btw, h, a, nn, T), winProbability(btwAfter, h, a, nn, T)));
+        }
+
+        return Optional.of(new WhatIfRatings(year, List.copyOf(games), models, upcoming,
+                (System.nanoTime() - start) / 1_000_000));
+    }
+
+    private Base build(int year) {
+        SeasonGameData data = seasonGameDataLoader.load(year).orElse(null);
+        if (data == null || data.finalGames().isEmpty()) return null;
+
+        // Same fixed index as the rating services: sorted distinct team ids from the finals
+        long[] teamIds = data.finalGames().stream()
+                .flatMap(g -> Stream.of(g.getHomeTeam().getId(), g.getAwayTeam().getId()))
+                .mapToLong(Long::longValue).distinct().sorted().toArray();
+        Map<Long, Integer> index = new HashMap<>();
+        String[] teamNames = new String[teamIds.length];
+        for (int t = 0; t < teamIds.length; t++) {
+            index.put(teamIds[t], t);
+            Team team = data.teamsById().get(teamIds[t]);
+            teamNames[t] = team != null ? team.getName() : null;
+        }
+
+        List<int[]> games = new ArrayList<>(data.finalGames().size());
+        for (Game g : data.finalGames()) {
+            games.add(new int[]{index.get(g.getHomeTeam().getId()), index.get(g.getAwayTeam().getId()),
+                    g.getHomeScore() - g.getAwayScore(), Boolean.TRUE.equals(g.getNeutralSite()) ? 0 : 1});
+        }
+        // Loaded as the rating services load them: per-game precision 1 for Massey, ¼ for BT
+        List<Long> ids = Arrays.stream(teamIds).boxed().toList();
+        Season season = data.season();
+        RatingWhatIf.Priors priors = new RatingWhatIf.Priors(
+                ratingPriorLoader.load(season, MasseyRatingService.MODEL_TYPE, ids, 1.0),
+                ratingPriorLoader.load(season, BradleyTerryRatingService.MODEL_TYPE, ids,
+                        BradleyTerryRatingService.PRIOR_PER_GAME),
+                ratingPriorLoader.load(season, BradleyTerryRatingService.MODEL_TYPE_WEIGHTED, ids,
+                        BradleyTerryRatingService.PRIOR_PER_GAME));
+        return new Base(new RatingWhatIf(teamIds.length, games, priors), teamIds, teamNames, index);
+    }
+
+    private static int teamIndex(Base base, long teamId, int year) {
+        Integer t = base.index().get(teamId);
+        if (t == null) {
+            throw new IllegalArgumentException("Team " + teamId + " has no final games in " + year);
+        }
+        return t;
+    }
+
+    private static WhatIfRatings.ModelChange change(Base base, String modelType, double[] before, double[] after) {
+        int T = base.teamIds().length;
+        int[] rankBefore = ranks(before, T), rankAfter = ranks(after, T);
+        List<WhatIfRatings.TeamChange> teams = IntStream.range(0, T)
+                .boxed()
+                .sorted(Comparator.comparingInt(t -> rankAfter[t]))
+                .map(t -> new WhatIfRatings.TeamChange(base.teamIds()[t], base.teamNames()[t],
+                        before[t], after[t], rankBefore[t], rankAfter[t]))
+                .toList();
+        return new WhatIfRatings.ModelChange(modelType, before[T], after[T], teams);
+    }
+
+    /** 1-based rank of each of the first {@code T} entries, highest rating first. */
+    static int[] ranks(double[] ratings, int T) {
+        Integer[] order = new Integer[T];
+        for (int t = 0; t < T; t++) order[t] = t;
+        Arrays.sort(order, (x, y) -> Double.compare(ratings[y], ratings[x]));
+        int[] rank = new int[T];
+        for (int r = 0; r < T; r++) rank[order[r]] = r + 1;
+        return rank;
+    }
+
+    private static double winProbability(double[] params, int h, int a, int nn, int T) {
+        return BradleyTerryRatingService.sigmoid(params[h] - params[a] + nn * params[T]);
+    }
+
+    /** Payload {@code season,generation}; anything unparseable evicts every season. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onClusterInvalidation(ClusterInvalidationEvent event) {
+        if (event.channel() != ClusterInvalidationBus.Channel.CALC_COMPLETED) {
+            return;
+        }
+        String payload = event.payload();
+        int comma = payload.indexOf(',');
+        try {
+            bases.remove(Integer.parseInt(comma >= 0 ? payload.substring(0, comma) : payload));
+        } catch (NumberFormatException e) {
+            bases.clear();
+        }
+    }
+
+    @EventListener
+    public void onClusterResync(ClusterResyncEvent event) {
+        bases.clear();
+    }
+}
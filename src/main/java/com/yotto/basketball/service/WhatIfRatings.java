@@ -0,0 +1,49 @@
+package com.yotto.basketball.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Ratings after adding hypothetical results to a season, next to the ratings from the
+ * real games alone. Nothing here is persisted.
+ *
+ * @param models   Massey (exact refit), then Bradley-Terry and its weighted variant
+ *                 (one Newton step from the season's optimum)
+ * @param upcoming scheduled games in the requested window, before and after
+ */
+public record WhatIfRatings(
+        int year,
+        List<Hypothetical> games,
+        List<ModelChange> models,
+        List<GameDelta> upcoming,
+        long computeMillis) {
+
+    /** One hypothetical result: the home team won by {@code margin} (negative for a loss). */
+    public record Hypothetical(long homeTeamId, long awayTeamId, int margin, boolean neutralSite) {}
+
+    /** A model's ratings for every team with a final game this season, ordered by rank after. */
+    public record ModelChange(String modelType, double hcaBefore, double hcaAfter, List<TeamChange> teams) {}
+
+    public record TeamChange(
+            long teamId,
+            String teamName,
+            double ratingBefore,
+            double ratingAfter,
+            int rankBefore,
+            int rankAfter) {}
+
+    public record GameDelta(
+            long gameId,
+            LocalDateTime gameDate,
+            long homeTeamId,
+            String homeTeamName,
+            long awayTeamId,
+            String awayTeamName,
+            boolean neutralSite,
+            double spreadBefore,
+            double spreadAfter,
+            double homeWinProbabilityBefore,
+            double homeWinProbabilityAfter,
+            double homeWinProbabilityWeightedBefore,
+            double homeWinProbabilityWeightedAfter) {}
+}
@@ -0,0 +1,17 @@
+-- Materialized pre-game predictions for not-yet-final games in the active window
+-- (recent past through the upcoming horizon). Rows are recomputed in bulk after each
+-- stats calculation run and whenever the ML serving plan changes. A row is only served
+-- while both stamps still match: snapshot_generation is the season's
+-- stat_calc_watermarks.last_calc_started_at at compute time, model_version fingerprints
+-- the ACTIVE ML bundles. Anything else is a cache miss and is computed live.
+CREATE TABLE game_predictions (
+    game_id             BIGINT PRIMARY KEY REFERENCES games(id) ON DELETE CASCADE,
+    season_id           BIGINT NOT NULL REFERENCES seasons(id) ON DELETE CASCADE,
+    game_date           DATE NOT NULL,
+    snapshot_generation TIMESTAMP,
+    model_version       TEXT NOT NULL,
+    prediction          JSONB NOT NULL,   -- model sub-blocks of PredictionResult
+    computed_at         TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_game_predictions_season ON game_predictions (season_id);
@@ -0,0 +1,78 @@
+-- Additive sufficient statistics over prediction_evaluations, so the model-performance
+-- page aggregates a few rows per model per game day instead of every evaluation ever
+-- written. Rows for a (season, game_date) are rebuilt from prediction_evaluations in
+-- the same transaction that upserts that day's evaluations; every metric on the page
+-- (MAE, RMSE, bias, Brier, accuracy, calibration) is a ratio of these sums.
+--
+-- segment is COALESCE(games.tournament_type, 'NONE'). Two kinds of rows share the table:
+--   conference_id = 0  all games, split by prob_bucket (floor(p × 10) capped at 9, -1 when
+--                      the model has no win probability) so calibration sums fall out too;
+--   conference_id > 0  paired model-vs-BOOK spread stats for games involving a team of that
+--                      conference (prob_bucket = -1); book_abs_err holds the book's side.
+CREATE TABLE prediction_metric_rollups (
+    season_id       BIGINT NOT NULL REFERENCES seasons(id) ON DELETE CASCADE,
+    game_date       DATE NOT NULL,
+    model_type      VARCHAR(20) NOT NULL,
+    segment         VARCHAR(30) NOT NULL,
+    conference_id   BIGINT NOT NULL,
+    prob_bucket     SMALLINT NOT NULL,
+    spread_n        BIGINT NOT NULL,
+    spread_abs_err  DOUBLE PRECISION NOT NULL,
+    spread_sq_err   DOUBLE PRECISION NOT NULL,
+    spread_hits     BIGINT NOT NULL,    -- predicted winner won
+    book_abs_err    DOUBLE PRECISION,
+    total_n         BIGINT NOT NULL,
+    total_abs_err   DOUBLE PRECISION NOT NULL,
+    total_sq_err    DOUBLE PRECISION NOT NULL,
+    total_err       DOUBLE PRECISION NOT NULL,
+    prob_n          BIGINT NOT NULL,
+    prob_sum        DOUBLE PRECISION NOT NULL,
+    brier_sum       DOUBLE PRECISION NOT NULL,
+    prob_hits       BIGINT NOT NULL,    -- (p ≥ 0.5) matched the outcome
+    home_wins       BIGINT NOT NULL,    -- among rows with a win probability
+    PRIMARY KEY (season_id, game_date, model_type, segment, conference_id, prob_bucket)
+);
+
+-- Backfill from the evaluations already on disk (same SQL as PredictionMetricRollupWriter).
+INSERT INTO prediction_metric_rollups
+SELECT pe.season_id, pe.game_date, pe.model_type, COALESCE(g.tournament_type, 'NONE'), 0,
+       COALESCE(least(floor(pe.predicted_home_win_prob * 10), 9)::smallint, -1),
+       count(pe.spread_error),
+       COALESCE(sum(abs(pe.spread_error)), 0),
+       COALESCE(sum(pe.spread_error * pe.spread_error), 0),
+       count(*) FILTER (WHERE pe.spread_error IS NOT NULL AND (pe.predicted_spread >= 0) = (pe.actual_margin > 0)),
+       NULL,
+       count(pe.total_error),
+       COALESCE(sum(abs(pe.total_error)), 0),
+       COALESCE(sum(pe.total_error * pe.total_error), 0),
+       COALESCE(sum(pe.total_error), 0),
+       count(pe.predicted_home_win_prob),
+       COALESCE(sum(pe.predicted_home_win_prob), 0),
+       COALESCE(sum(power(pe.predicted_home_win_prob - (CASE WHEN pe.home_won THEN 1.0 ELSE 0.0 END), 2)), 0),
+       count(*) FILTER (WHERE pe.predicted_home_win_prob IS NOT NULL AND (pe.predicted_home_win_prob >= 0.5) = pe.home_won),
+       count(*) FILTER (WHERE pe.predicted_home_win_prob IS NOT NULL AND pe.home_won)
+FROM prediction_evaluations pe
+JOIN games g ON g.id = pe.game_id
+GROUP BY pe.season_id, pe.game_date, pe.model_type, COALESCE(g.tournament_type, 'NONE'),
+         COALESCE(least(floor(pe.predicted_home_win_prob * 10), 9)::smallint, -1);
+
+INSERT INTO prediction_metric_rollups
+SELECT m.season_id, m.game_date, m.model_type, COALESCE(g.tournament_type, 'NONE'), confs.conference_id, -1,
+       count(*),
+       sum(abs(m.spread_error)),
+       sum(m.spread_error * m.spread_error),
+       count(*) FILTER (WHERE (m.predicted_spread >= 0) = (m.actual_margin > 0)),
+       sum(abs(b.spread_error)),
+       0, 0, 0, 0, 0, 0, 0, 0, 0
+FROM prediction_evaluations m
+JOIN prediction_evaluations b
+     ON b.game_id = m.game_id AND b.model_type = 'BOOK' AND b.spread_error IS NOT NULL
+JOIN games g ON g.id = m.game_id
+JOIN LATERAL (
+    SELECT DISTINCT cm.conference_id
+    FROM conference_memberships cm
+    WHERE cm.season_id = m.season_id
+      AND cm.team_id IN (g.home_team_id, g.away_team_id)
+) confs ON true
+WHERE m.spread_error IS NOT NULL
+GROUP BY m.season_id, m.game_date, m.model_type, COALESCE(g.tournament_type, 'NONE'), confs.conference_id;
@@ -0,0 +1,5 @@
+-- When a season's snapshots were last (re)written, by the pipeline or by a manual
+-- admin recalc. last_calc_started_at can't serve here: it drives change detection, so
+-- a manual recalc must not move it. Together they version the stat/rating JSON APIs
+-- (ETag / Last-Modified). NULL until the first write after this migration.
+ALTER TABLE stat_calc_watermarks ADD COLUMN snapshots_written_at TIMESTAMP;
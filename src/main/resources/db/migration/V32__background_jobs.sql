@@ -0,0 +1,37 @@
+-- Durable queue for scrape/calculation work (replaces the in-memory scrapeExecutor).
+-- Workers on any node claim QUEUED rows with FOR UPDATE SKIP LOCKED; a claim is
+-- refused while a RUNNING job holds the same season (NULL season = every season) or,
+-- for ESPN-bound jobs, while another ESPN-bound job runs. heartbeat_at is refreshed
+-- by the owning worker; a RUNNING row whose heartbeat goes stale (node died) is
+-- re-queued or failed by whichever worker notices.
+CREATE TABLE background_jobs (
+    id            BIGSERIAL PRIMARY KEY,
+    job_type      VARCHAR(40) NOT NULL,
+    season_year   INTEGER,
+    argument      VARCHAR(40),
+    uses_espn     BOOLEAN NOT NULL DEFAULT FALSE,
+    dedupe_key    VARCHAR(120) NOT NULL,
+    priority      INTEGER NOT NULL DEFAULT 0,
+    status        VARCHAR(16) NOT NULL DEFAULT 'QUEUED',
+    attempts      INTEGER NOT NULL DEFAULT 0,
+    max_attempts  INTEGER NOT NULL DEFAULT 1,
+    run_after     TIMESTAMP NOT NULL DEFAULT now(),
+    locked_by     VARCHAR(100),
+    heartbeat_at  TIMESTAMP,
+    created_at    TIMESTAMP NOT NULL DEFAULT now(),
+    started_at    TIMESTAMP,
+    finished_at   TIMESTAMP,
+    last_error    TEXT
+);
+
+-- At most one waiting-or-running job per key: identical requests coalesce
+CREATE UNIQUE INDEX uq_background_jobs_active_dedupe
+    ON background_jobs (dedupe_key) WHERE status IN ('QUEUED', 'RUNNING');
+
+CREATE INDEX idx_background_jobs_claim
+    ON background_jobs (priority DESC, id) WHERE status = 'QUEUED';
+
+CREATE INDEX idx_background_jobs_running
+    ON background_jobs (season_year) WHERE status = 'RUNNING';
+
+CREATE INDEX idx_background_jobs_created ON background_jobs (created_at DESC);
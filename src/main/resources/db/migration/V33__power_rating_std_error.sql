@@ -0,0 +1,4 @@
+-- Standard error of the rating, σ·sqrt([(A + λD)⁻¹]_ii), for models that estimate it
+-- (Massey spread). NULL for other models, and until a fit has more games than
+-- effective parameters.
+ALTER TABLE team_power_rating_snapshots ADD COLUMN rating_std_error DOUBLE PRECISION;
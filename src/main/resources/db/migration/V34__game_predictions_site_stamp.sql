@@ -0,0 +1,5 @@
+-- A stored prediction also depends on where and when the game is played: the site
+-- decides whether home court applies and the date is the snapshot cutoff. Stamp the
+-- row with the neutral flag it was computed for; readers compare it and game_date
+-- against the live game row, so a relocated or rescheduled game is recomputed live.
+ALTER TABLE game_predictions ADD COLUMN neutral_site BOOLEAN NOT NULL DEFAULT FALSE;
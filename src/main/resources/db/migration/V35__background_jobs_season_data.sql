@@ -0,0 +1,4 @@
+-- Jobs that touch no season's data (reconciling ML training runs) need not wait for,
+-- or hold up, pipeline work: the one-job-per-season and season-less-is-global rules
+-- only apply between jobs that write season data. ESPN-bound jobs still never overlap.
+ALTER TABLE background_jobs ADD COLUMN writes_season_data BOOLEAN NOT NULL DEFAULT TRUE;
@@ -0,0 +1,13 @@
+-- Rolling last-5/last-10 variants are now emitted only for the six pace-v2 box stats
+-- the ML features read (BoxScoreStatCalculator.ROLLING). Drop the other variants'
+-- snapshot and population rows; the calculator no longer owns those names, so its
+-- own deletes would leave them behind.
+DELETE FROM team_stat_snapshots
+WHERE stat_name ~ '_l(5|10)$'
+  AND regexp_replace(stat_name, '_l(5|10)$', '') NOT IN
+      ('pace', 'off_efficiency', 'def_efficiency', 'efg_pct', 'opp_efg_pct', 'tov_rate');
+
+DELETE FROM season_population_stats
+WHERE stat_name ~ '_l(5|10)$'
+  AND regexp_replace(stat_name, '_l(5|10)$', '') NOT IN
+      ('pace', 'off_efficiency', 'def_efficiency', 'efg_pct', 'opp_efg_pct', 'tov_rate');
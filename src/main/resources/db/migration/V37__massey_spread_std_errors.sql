@@ -0,0 +1,16 @@
+-- Exact standard error of the Massey spread for a game, σ·sqrt(cᵀ(A + λD)⁻¹c) with
+-- c = e_home − e_away (+ e_hca off a neutral site), from the snapshot its prediction
+-- reads (the latest one strictly before the game's date). Unlike the per-team
+-- rating_std_error, it keeps the two ratings' covariance. Written by the Massey
+-- calculation for every game the snapshot will predict; a hypothetical matchup has no
+-- row and falls back to the per-team errors.
+CREATE TABLE massey_spread_std_errors (
+    game_id       BIGINT NOT NULL REFERENCES games(id) ON DELETE CASCADE,
+    season_id     BIGINT NOT NULL REFERENCES seasons(id) ON DELETE CASCADE,
+    snapshot_date DATE NOT NULL,
+    neutral_site  BOOLEAN NOT NULL,
+    std_error     DOUBLE PRECISION NOT NULL,
+    PRIMARY KEY (game_id, snapshot_date)
+);
+
+CREATE INDEX idx_massey_spread_std_errors_season ON massey_spread_std_errors (season_id, snapshot_date);
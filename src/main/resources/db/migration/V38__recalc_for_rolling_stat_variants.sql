@@ -0,0 +1,6 @@
+-- Rolling last-5/last-10 variants are emitted for every box-score stat again (V36 had
+-- dropped all but six). An incremental calc only rewrites dates from its watermark on,
+-- so drop the watermarks: each season's next calc is a full one and backfills the
+-- variants for every date. The existing (season_id, stat_name, snapshot_date) and
+-- (team_id, season_id, stat_name) indexes already cover the variants' reads.
+DELETE FROM stat_calc_watermarks;
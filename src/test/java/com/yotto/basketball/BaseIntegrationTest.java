@@ -1,8 +1,10 @@
 package com.yotto.basketball;
 
+import com.yotto.basketball.service.ClusterResyncEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
@@ -33,6 +35,9 @@ public abstract class BaseIntegrationTest {
     @Autowired
     private com.yotto.basketball.security.RateLimitService rateLimitService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @BeforeEach
     void wipeDatabase() {
         jdbcTemplate.execute("TRUNCATE TABLE " + SharedPostgresContainer.TABLES_TO_TRUNCATE
@@ -40,5 +45,8 @@ public abstract class BaseIntegrationTest {
         // In-memory auth rate limiter is context-scoped; without a reset,
         // login-heavy test classes would trip it for everyone after them
         rateLimitService.clear();
+        // Truncation bypasses the writers that announce changes; drop the
+        // invalidation-backed caches the way a reconnecting node would
+        eventPublisher.publishEvent(new ClusterResyncEvent());
     }
 }
@@ -19,15 +19,18 @@ final class SharedPostgresContainer {
 
     /** Comma-separated list of every application table — Flyway-managed. */
     static final String TABLES_TO_TRUNCATE = String.join(", ",
+            "background_jobs",
             "betting_odds",
             "conference_memberships",
             "conference_name_history",
             "conferences",
+            "game_predictions",
             "games",
             "ml_training_runs",
             "non_d1_game_observations",
             "power_model_param_snapshots",
             "prediction_evaluations",
+            "prediction_metric_rollups",
             "quotes",
             "scrape_batches",
             "season_population_stats",
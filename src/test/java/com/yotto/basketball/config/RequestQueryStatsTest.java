@@ -0,0 +1,82 @@
+package com.yotto.basketball.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestQueryStatsTest {
+
+    interface TeamLookup {
+        void findByConference(int conferenceId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestQueryStats.end();
+    }
+
+    @Test
+    void shapeOf_foldsLiteralsInListsAndWhitespace() {
+        assertThat(RequestQueryStats.shapeOf("SELECT t.id\n  FROM team t WHERE t.id IN (?, ?,?) AND t.name = 'O''Neil' LIMIT 20"))
+                .isEqualTo("select t.id from team t where t.id in (?) and t.name = ? limit ?");
+        assertThat(RequestQueryStats.shapeOf("select * from game g where g.home_team_id=?"))
+                .isEqualTo(RequestQueryStats.shapeOf("select *  from game g where g.home_team_id=?"));
+    }
+
+    @Test
+    void record_keepsCountTotalAndSlowestStatements() {
+        RequestQueryStats stats = new RequestQueryStats(10);
+        stats.record("select 1", 5);
+        stats.record("select 2", 50);
+        stats.record("select 3", 20);
+        stats.record("select 4", 1);
+        stats.record(null, 100);
+
+        assertThat(stats.count()).isEqualTo(5);
+        assertThat(stats.totalNanos()).isEqualTo(176);
+        assertThat(stats.slowest()).extracting(RequestQueryStats.Statement::sql)
+                .containsExactly("select 2", "select 3", "select 1");
+        assertThat(stats.repeats()).isEmpty();
+    }
+
+    @Test
+    void repeats_flagsShapesPastThreshold_withRepositoryMethod() {
+        RequestQueryStats stats = new RequestQueryStats(3);
+        ProxyFactory proxyFactory = new ProxyFactory(
+                (TeamLookup) id -> stats.record("select * from team where conference_id = " + id, 1));
+        proxyFactory.addAdvice(new RepositoryMethodTracker(TeamLookup.class));
+        TeamLookup repository = (TeamLookup) proxyFactory.getProxy();
+
+        for (int i = 0; i < 5; i++) {
+            repository.findByConference(i);
+        }
+        stats.record("select * from game", 1);
+
+        assertThat(stats.repeats()).singleElement().satisfies(r -> {
+            assertThat(r.shape()).isEqualTo("select * from team where conference_id = ?");
+            assertThat(r.count()).isEqualTo(5);
+            assertThat(r.site()).isEqualTo("TeamLookup.findByConference");
+        });
+    }
+
+    @Test
+    void propagating_recordsIntoTheSubmittingRequest() throws Exception {
+        RequestQueryStats stats = RequestQueryStats.begin(10);
+        Runnable task = RequestQueryStats.propagating(() -> RequestQueryStats.current().record("select 1", 1));
+
+        Thread worker = new Thread(task);
+        worker.start();
+        worker.join();
+
+        assertThat(stats.count()).isEqualTo(1);
+    }
+
+    @Test
+    void propagating_outsideRequest_returnsTaskUnchanged() {
+        Runnable task = () -> {};
+
+        assertThat(RequestQueryStats.propagating(task)).isSameAs(task);
+    }
+}
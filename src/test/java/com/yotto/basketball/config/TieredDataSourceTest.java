@@ -0,0 +1,71 @@
+package com.yotto.basketball.config;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TieredDataSourceTest {
+
+    private final DataSource web = mock(DataSource.class);
+    private final DataSource batch = mock(DataSource.class);
+    private final Connection webConnection = mock(Connection.class);
+    private final Connection batchConnection = mock(Connection.class);
+    private final TieredDataSource dataSource = new TieredDataSource(web, batch);
+
+    @Test
+    void unmarkedThread_usesBatchPool() throws Exception {
+        when(batch.getConnection()).thenReturn(batchConnection);
+
+        assertThat(TieredDataSource.current()).isEqualTo(TieredDataSource.Tier.BATCH);
+        assertThat(dataSource.getConnection()).isSameAs(batchConnection);
+    }
+
+    @Test
+    void requestThread_usesWebPool_andIsClearedAfterwards() throws Exception {
+        when(web.getConnection()).thenReturn(webConnection);
+        AtomicReference<Connection> seen = new AtomicReference<>();
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                try {
+                    seen.set(dataSource.getConnection());
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+
+        new WebTierFilter().doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), chain);
+
+        assertThat(seen.get()).isSameAs(webConnection);
+        assertThat(TieredDataSource.current()).isEqualTo(TieredDataSource.Tier.BATCH);
+    }
+
+    @Test
+    void propagating_carriesSubmitterTierToWorkerThread() throws Exception {
+        TieredDataSource.Tier previous = TieredDataSource.enter(TieredDataSource.Tier.WEB);
+        Runnable task;
+        AtomicReference<TieredDataSource.Tier> seen = new AtomicReference<>();
+        try {
+            task = TieredDataSource.propagating(() -> seen.set(TieredDataSource.current()));
+        } finally {
+            TieredDataSource.restore(previous);
+        }
+
+        CompletableFuture.runAsync(task).get();
+
+        assertThat(seen.get()).isEqualTo(TieredDataSource.Tier.WEB);
+    }
+}
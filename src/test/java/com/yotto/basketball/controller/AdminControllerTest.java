@@ -100,6 +100,17 @@ class AdminControllerTest extends BaseIntegrationTest {
                                 org.hamcrest.Matchers.hasProperty("year", org.hamcrest.Matchers.equalTo(2024)))));
     }
 
+    // ── POST /admin/backtest ─────────────────────────────────────────────────
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void backtest_startsAndRedirectsToModelPerformance() throws Exception {
+        mockMvc.perform(post("/admin/backtest").with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/predictions/performance"))
+                .andExpect(flash().attributeExists("success"));
+    }
+
     // ── POST /admin/seasons ───────────────────────────────────────────────────
 
     @Test
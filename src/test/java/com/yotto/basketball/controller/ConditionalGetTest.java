@@ -0,0 +1,75 @@
+package com.yotto.basketball.controller;
+
+import com.yotto.basketball.service.ApiVersionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Pure unit test of the ETag / Cache-Control handshake on mock servlet objects. */
+class ConditionalGetTest {
+
+    private final ConditionalGet conditionalGet = new ConditionalGet(Duration.ofSeconds(60));
+    private static final Optional<ApiVersionService.Version> V1 =
+            Optional.of(new ApiVersionService.Version("s:2025-01-15T06:00", 1_736_920_800_000L));
+
+    @Test
+    void firstRequest_setsValidatorsAndProceeds() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean notModified = conditionalGet.notModified(request("/api/x", null, null, response), V1);
+
+        assertThat(notModified).isFalse();
+        assertThat(response.getHeader("ETag")).startsWith("\"").endsWith("\"");
+        assertThat(response.getHeader("Cache-Control")).contains("public").contains("s-maxage=60")
+                .contains("must-revalidate");
+    }
+
+    @Test
+    void matchingEtag_answers304() {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        conditionalGet.notModified(request("/api/x", "date=2025-01-01", null, first), V1);
+        String etag = first.getHeader("ETag");
+
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        boolean notModified = conditionalGet.notModified(request("/api/x", "date=2025-01-01", etag, second), V1);
+
+        assertThat(notModified).isTrue();
+        assertThat(second.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    void etagDependsOnVersionAndQuery() {
+        MockHttpServletRequest a = new MockHttpServletRequest("GET", "/api/x");
+        MockHttpServletRequest b = new MockHttpServletRequest("GET", "/api/x");
+        b.setQueryString("date=2025-01-01");
+
+        assertThat(ConditionalGet.etag(a, "v1")).isNotEqualTo(ConditionalGet.etag(b, "v1"));
+        assertThat(ConditionalGet.etag(a, "v1")).isNotEqualTo(ConditionalGet.etag(a, "v2"));
+        assertThat(ConditionalGet.etag(a, "v1")).isEqualTo(ConditionalGet.etag(a, "v1"));
+    }
+
+    @Test
+    void noVersion_servesUnconditionally() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(conditionalGet.notModified(request("/api/x", null, "\"abc\"", response), Optional.empty()))
+                .isFalse();
+        assertThat(response.getHeader("ETag")).isNull();
+    }
+
+    private static ServletWebRequest request(String uri, String query, String ifNoneMatch,
+                                             MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setQueryString(query);
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, response);
+    }
+}
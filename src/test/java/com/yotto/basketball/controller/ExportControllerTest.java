@@ -0,0 +1,149 @@
+package com.yotto.basketball.controller;
+
+import com.yotto.basketball.BaseIntegrationTest;
+import com.yotto.basketball.entity.Season;
+import com.yotto.basketball.entity.Team;
+import com.yotto.basketball.entity.TeamPowerRatingSnapshot;
+import com.yotto.basketball.repository.SeasonRepository;
+import com.yotto.basketball.repository.TeamPowerRatingSnapshotRepository;
+import com.yotto.basketball.repository.TeamRepository;
+import com.yotto.basketball.service.MasseyRatingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithAnonymousUser;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@WithMockUser
+class ExportControllerTest extends BaseIntegrationTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired SeasonRepository seasonRepo;
+    @Autowired TeamRepository teamRepo;
+    @Autowired TeamPowerRatingSnapshotRepository ratingRepo;
+
+    List<Long> ids2025 = new ArrayList<>();
+    Long id2024;
+
+    @BeforeEach
+    void setUp() {
+        Season s2024 = mkSeason(2024);
+        Season s2025 = mkSeason(2025);
+        Team team = new Team();
+        team.setName("Duke, \"Blue Devils\"");
+        team.setEspnId("T1");
+        team.setActive(true);
+        teamRepo.save(team);
+
+        id2024 = addRating(team, s2024, LocalDate.of(2024, 1, 10), 3.0);
+        for (int d = 1; d <= 3; d++) {
+            ids2025.add(addRating(team, s2025, LocalDate.of(2025, 1, d), d * 1.5));
+        }
+    }
+
+    @Test
+    void export_csvStreamsAllSeasonsWithHeaderAndEscaping() throws Exception {
+        String body = stream("/api/export/power-rating-snapshots");
+
+        String[] lines = body.split("\r\n");
+        assertThat(lines[0]).startsWith("id,season,snapshot_date,team_id,team_name,model_type,rating");
+        assertThat(lines).hasSize(5);
+        assertThat(lines[1]).startsWith(id2024 + ",2024,2024-01-10,")
+                .contains("\"Duke, \"\"Blue Devils\"\"\"");
+    }
+
+    @Test
+    void export_seasonFilterAndKeysetPaging() throws Exception {
+        String body = stream("/api/export/power-rating-snapshots?season=2025&after="
+                + ids2025.get(0) + "&limit=1");
+
+        String[] lines = body.split("\r\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[1]).startsWith(ids2025.get(1) + ",2025,2025-01-02,");
+    }
+
+    @Test
+    void export_ndjsonWritesOneTypedObjectPerLine() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/export/power-rating-snapshots")
+                        .param("season", "2025").param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=\"power-rating-snapshots.ndjson\""))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[2]).contains("\"id\":" + ids2025.get(2))
+                .contains("\"season\":2025")
+                .contains("\"rating\":4.5")
+                .contains("\"snapshot_date\":\"2025-01-03\"");
+    }
+
+    @Test
+    @WithAnonymousUser
+    void export_anonymousIsSentToLogin() throws Exception {
+        mockMvc.perform(get("/api/export/games"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(request().asyncNotStarted());
+    }
+
+    @Test
+    void export_unknownDatasetIs404() throws Exception {
+        mockMvc.perform(get("/api/export/users"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void export_unknownFormatIs400() throws Exception {
+        mockMvc.perform(get("/api/export/games").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String stream(String url) throws Exception {
+        MvcResult started = mockMvc.perform(get(url))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private Season mkSeason(int year) {
+        Season s = new Season();
+        s.setYear(year);
+        s.setStartDate(LocalDate.of(year - 1, 11, 1));
+        s.setEndDate(LocalDate.of(year, 4, 30));
+        return seasonRepo.save(s);
+    }
+
+    private Long addRating(Team team, Season season, LocalDate date, double rating) {
+        TeamPowerRatingSnapshot s = new TeamPowerRatingSnapshot();
+        s.setTeam(team);
+        s.setSeason(season);
+        s.setModelType(MasseyRatingService.MODEL_TYPE);
+        s.setSnapshotDate(date);
+        s.setRating(rating);
+        s.setGamesPlayed(10);
+        s.setCalculatedAt(LocalDateTime.now());
+        return ratingRepo.save(s).getId();
+    }
+}
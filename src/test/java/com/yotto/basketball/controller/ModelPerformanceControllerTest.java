@@ -16,6 +16,7 @@ import com.yotto.basketball.repository.TeamRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
@@ -51,6 +52,22 @@ class ModelPerformanceControllerTest extends BaseIntegrationTest {
                 .andExpect(content().string(containsString("No prediction evaluations yet")));
     }
 
+    @Test
+    void performancePage_backtestCardHiddenFromVisitors() throws Exception {
+        mockMvc.perform(get("/predictions/performance"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(not(containsString("Hyperparameter Backtest"))));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void performancePage_backtestCardShownToAdmins() throws Exception {
+        mockMvc.perform(get("/predictions/performance"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("Hyperparameter Backtest")))
+                .andExpect(content().string(containsString("/admin/backtest")));
+    }
+
     @Test
     void performancePage_rendersMetricsTablesAndBenchmark() throws Exception {
         seedEvaluations();
@@ -5,6 +5,7 @@ import com.yotto.basketball.entity.*;
 import com.yotto.basketball.repository.*;
 import com.yotto.basketball.service.BradleyTerryRatingService;
 import com.yotto.basketball.service.MasseyRatingService;
+import com.yotto.basketball.service.StatCalcGateService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,6 +33,8 @@ class PowerRatingControllerTest extends BaseIntegrationTest {
     @Autowired GameRepository gameRepo;
     @Autowired ConferenceMembershipRepository membershipRepo;
     @Autowired ConferenceRepository conferenceRepo;
+    @Autowired StatCalcWatermarkRepository watermarkRepo;
+    @Autowired StatCalcGateService statCalcGateService;
 
     Season season;
     Team teamA, teamB;
@@ -362,4 +365,87 @@ class PowerRatingControllerTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.bradleyTerry[0].value").value(0.1))
                 .andExpect(jsonPath("$.bradleyTerryWeighted[0].value").value(0.12));
     }
+
+    // ── GET /api/power-ratings/{year}/what-if ────────────────────────────────
+
+    @Test
+    void whatIf_malformedGame_returns400() throws Exception {
+        mockMvc.perform(get("/api/power-ratings/2025/what-if").param("game", teamA.getId() + ":" + teamB.getId()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void whatIf_noFinalGames_returns404() throws Exception {
+        mockMvc.perform(get("/api/power-ratings/2025/what-if").param("game", teamA.getId() + ":" + teamB.getId() + ":5"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void whatIf_upsetMovesTheLoserUp() throws Exception {
+        Game g = new Game();
+        g.setSeason(season);
+        g.setHomeTeam(teamA);
+        g.setAwayTeam(teamB);
+        g.setGameDate(LocalDateTime.of(2025, 1, 10, 19, 0));
+        g.setStatus(Game.GameStatus.FINAL);
+        g.setHomeScore(80);
+        g.setAwayScore(70);
+        g.setNeutralSite(false);
+        gameRepo.save(g);
+
+        mockMvc.perform(get("/api/power-ratings/2025/what-if")
+                        .param("game", teamB.getId() + ":" + teamA.getId() + ":20:neutral"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.games[0].neutralSite").value(true))
+                .andExpect(jsonPath("$.models.length()").value(3))
+                .andExpect(jsonPath("$.models[0].modelType").value(MasseyRatingService.MODEL_TYPE))
+                .andExpect(jsonPath("$.models[0].teams[0].teamName").value("Auburn"))
+                .andExpect(jsonPath("$.models[0].teams[0].rankBefore").value(2))
+                .andExpect(jsonPath("$.models[0].teams[0].rankAfter").value(1));
+    }
+
+    // ── Conditional GET ───────────────────────────────────────────────────────
+
+    @Test
+    void leaderboard_noWatermark_servedWithoutEtag() throws Exception {
+        mockMvc.perform(get("/api/power-ratings/2025/massey"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"));
+    }
+
+    @Test
+    void leaderboard_matchingEtag_returns304() throws Exception {
+        addRating(teamA, MasseyRatingService.MODEL_TYPE, 5.0, SNAP_DATE, 1);
+        recordWatermark(LocalDateTime.of(2025, 1, 15, 6, 0));
+
+        String etag = mockMvc.perform(get("/api/power-ratings/2025/massey"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", org.hamcrest.Matchers.containsString("s-maxage")))
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/power-ratings/2025/massey").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // Other parameters are a different representation
+        mockMvc.perform(get("/api/power-ratings/2025/massey").param("date", SNAP_DATE.toString())
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk());
+
+        // A new calculation run invalidates the tag (and the cached season stamp)
+        statCalcGateService.recordManualRecalc(2025);
+        mockMvc.perform(get("/api/power-ratings/2025/massey").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    private StatCalcWatermark recordWatermark(LocalDateTime at) {
+        StatCalcWatermark wm = new StatCalcWatermark();
+        wm.setSeason(season);
+        wm.setLastCalcStartedAt(at);
+        wm.setSnapshotsWrittenAt(at);
+        wm.setFinalGameCount(0);
+        return watermarkRepo.save(wm);
+    }
 }
@@ -9,11 +9,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -194,4 +196,54 @@ class PredictionControllerTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.length()").value(1))
                 .andExpect(jsonPath("$[0].gameId").value(nearGame.getId()));
     }
+
+    // ── GET /api/predictions/matrix ───────────────────────────────────────────
+
+    private void addMembers() {
+        Conference sec = new Conference();
+        sec.setName("SEC");
+        sec.setEspnId("sec1");
+        conferenceRepo.save(sec);
+        for (Team team : new Team[] {awayTeam, homeTeam}) {
+            ConferenceMembership m = new ConferenceMembership();
+            m.setTeam(team);
+            m.setConference(sec);
+            m.setSeason(season);
+            membershipRepo.save(m);
+        }
+    }
+
+    @Test
+    void matrix_returnsEveryPairByMasseyRating() throws Exception {
+        addRatings();
+        addMembers();
+
+        mockMvc.perform(get("/api/predictions/matrix").param("date", GAME_DATE.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.year").value(2025))
+                .andExpect(jsonPath("$.teamNames[0]").value("Alabama"))
+                .andExpect(jsonPath("$.teamNames[1]").value("Auburn"))
+                .andExpect(jsonPath("$.spread.length()").value(4))
+                .andExpect(jsonPath("$.spread[1]").value(5.0))
+                .andExpect(jsonPath("$.spread[2]").value(-1.0))
+                .andExpect(jsonPath("$.total[1]").value(145.0));
+    }
+
+    @Test
+    void matrix_binaryHasHeaderIdsAndFourColumns() throws Exception {
+        addRatings();
+        addMembers();
+
+        mockMvc.perform(get("/api/predictions/matrix").param("date", GAME_DATE.toString()).param("top", "1")
+                        .accept(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(result -> assertThat(result.getResponse().getContentAsByteArray()).hasSize(8 + 8 + 4 * 4));
+    }
+
+    @Test
+    void matrix_nonPositiveTop_returns400() throws Exception {
+        mockMvc.perform(get("/api/predictions/matrix").param("top", "0"))
+                .andExpect(status().isBadRequest());
+    }
 }
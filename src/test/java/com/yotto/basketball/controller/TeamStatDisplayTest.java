@@ -1,5 +1,6 @@
 package com.yotto.basketball.controller;
 
+import com.yotto.basketball.service.TeamStatTimeSeriesService;
 import com.yotto.basketball.service.BoxScoreStatCalculator;
 import com.yotto.basketball.service.DailyStatCalculator;
 import org.junit.jupiter.api.Test;
@@ -11,7 +12,8 @@ class TeamStatDisplayTest {
 
     @Test
     void everyCalculatedStatHasACatalogEntry() {
-        for (DailyStatCalculator.StatMeta meta : BoxScoreStatCalculator.statMetas()) {
+        for (DailyStatCalculator.StatMeta meta : TeamStatTimeSeriesService.statMetas()) {
+            if (BoxScoreStatCalculator.windowOf(meta.name()) > 0) continue; // not on the team panel
             assertThat(TeamStatDisplay.forStat(meta.name()))
                     .as("missing TeamStatDisplay entry for calc stat '%s'", meta.name())
                     .isNotNull();
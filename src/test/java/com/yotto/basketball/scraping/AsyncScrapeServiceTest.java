@@ -7,122 +7,97 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
- * Pure Mockito test — verifies AsyncScrapeService correctly delegates to the
- * orchestrator and swallows exceptions so the async task pool isn't poisoned.
- * The @Async wiring is Spring-level config, not behavior of this class.
+ * Pure Mockito test — verifies AsyncScrapeService turns each request into the right
+ * queued job. Running the jobs is {@link JobWorkerTest}'s concern.
  */
 @ExtendWith(MockitoExtension.class)
 class AsyncScrapeServiceTest {
 
-    @Mock private ScrapeOrchestrator orchestrator;
-    @Mock private ScrapeScheduler scheduler;
+    @Mock private JobQueue jobQueue;
 
     private AsyncScrapeService service;
 
     @BeforeEach
     void setUp() {
-        service = new AsyncScrapeService(orchestrator, scheduler);
+        service = new AsyncScrapeService(jobQueue);
     }
 
     @Test
-    void scrapeFullSeasonAsync_delegatesWithManualSource() {
-        service.scrapeFullSeasonAsync(2025);
-        verify(orchestrator).scrapeFullSeason(2025, ScrapeBatch.Source.MANUAL);
+    void scrapeFullSeasonAsync_queuesWithManualSource() {
+        when(jobQueue.enqueue(JobType.FULL_SEASON, 2025, "MANUAL")).thenReturn(true);
+
+        assertThat(service.scrapeFullSeasonAsync(2025)).isTrue();
     }
 
     @Test
     void scrapeFullSeasonAsync_withExplicitSource_propagated() {
-        service.scrapeFullSeasonAsync(2025, ScrapeBatch.Source.SCHEDULED);
-        verify(orchestrator).scrapeFullSeason(2025, ScrapeBatch.Source.SCHEDULED);
+        service.scrapeFullSeasonAsync(2025, ScrapeBatch.Source.AUTO_INITIALIZE);
+        verify(jobQueue).enqueue(JobType.FULL_SEASON, 2025, "AUTO_INITIALIZE");
     }
 
     @Test
-    void scrapeFullSeasonAsync_orchestratorThrows_exceptionSwallowed() {
-        doThrow(new RuntimeException("boom"))
-                .when(orchestrator).scrapeFullSeason(2025, ScrapeBatch.Source.MANUAL);
-
-        // Should NOT propagate — async exceptions would otherwise be silently lost.
-        // The method logs and returns normally.
-        service.scrapeFullSeasonAsync(2025);
-
-        verify(orchestrator).scrapeFullSeason(2025, ScrapeBatch.Source.MANUAL);
-    }
+    void scrapeFullSeasonAsync_duplicate_reportsCoalesced() {
+        when(jobQueue.enqueue(JobType.FULL_SEASON, 2025, "MANUAL")).thenReturn(false);
 
-    @Test
-    void scrapeCurrentSeasonAsync_delegates() {
-        service.scrapeCurrentSeasonAsync(2025);
-        verify(orchestrator).scrapeCurrentSeason(2025);
+        assertThat(service.scrapeFullSeasonAsync(2025)).isFalse();
     }
 
     @Test
-    void scrapeCurrentSeasonAsync_swallowsExceptions() {
-        doThrow(new RuntimeException("boom")).when(orchestrator).scrapeCurrentSeason(2025);
+    void seasonRequests_queueMatchingJobTypes() {
         service.scrapeCurrentSeasonAsync(2025);
-        verify(orchestrator).scrapeCurrentSeason(2025);
-    }
-
-    @Test
-    void backfillOddsAsync_delegates() {
+        service.scrapeTeamsAsync(2025);
         service.backfillOddsAsync(2025);
-        verify(orchestrator).backfillOdds(2025);
-    }
+        service.backfillGameStatsAsync(2025);
+        service.calculateStatsAsync(2025);
+        service.calculateTimeSeriesAsync(2025);
+        service.calculatePowerRatingsAsync(2025);
 
-    @Test
-    void backfillOddsAsync_swallowsExceptions() {
-        doThrow(new RuntimeException("x")).when(orchestrator).backfillOdds(2025);
-        service.backfillOddsAsync(2025);
-        verify(orchestrator).backfillOdds(2025);
+        verify(jobQueue).enqueue(JobType.CURRENT_SEASON, 2025);
+        verify(jobQueue).enqueue(JobType.TEAMS, 2025);
+        verify(jobQueue).enqueue(JobType.ODDS_BACKFILL, 2025);
+        verify(jobQueue).enqueue(JobType.GAME_STATS_BACKFILL, 2025);
+        verify(jobQueue).enqueue(JobType.SEASON_STATS, 2025);
+        verify(jobQueue).enqueue(JobType.TIME_SERIES, 2025);
+        verify(jobQueue).enqueue(JobType.POWER_RATINGS, 2025);
     }
 
     @Test
-    void backfillGameStatsAsync_delegates() {
-        service.backfillGameStatsAsync(2025);
-        verify(orchestrator).backfillGameStats(2025);
-    }
+    void scrapeAllSeasonsFullAsync_queuesEverySeason_countsOnlyNewJobs() {
+        when(jobQueue.enqueue(eq(JobType.FULL_SEASON), anyInt(), eq("MANUAL"))).thenReturn(true);
+        when(jobQueue.enqueue(JobType.FULL_SEASON, 2025, "MANUAL")).thenReturn(false);
 
-    @Test
-    void scrapeTeamsAsync_delegates() {
-        service.scrapeTeamsAsync(2025);
-        verify(orchestrator).scrapeTeams(2025);
-    }
+        int queued = service.scrapeAllSeasonsFullAsync(List.of(2024, 2025, 2026));
 
-    @Test
-    void calculateStatsAsync_delegates() {
-        service.calculateStatsAsync(2025);
-        verify(orchestrator).calculateStats(2025);
+        assertThat(queued).isEqualTo(2);
+        verify(jobQueue).enqueue(JobType.FULL_SEASON, 2024, "MANUAL");
+        verify(jobQueue).enqueue(JobType.FULL_SEASON, 2026, "MANUAL");
     }
 
     @Test
-    void calculateTimeSeriesAsync_delegates() {
-        service.calculateTimeSeriesAsync(2025);
-        verify(orchestrator).calculateTimeSeries(2025);
-    }
+    void evaluatePredictionsAsync_rebuildSelectsRebuildJobs() {
+        when(jobQueue.enqueue(any(), anyInt())).thenReturn(true);
 
-    @Test
-    void calculatePowerRatingsAsync_delegates() {
-        service.calculatePowerRatingsAsync(2025);
-        verify(orchestrator).calculatePowerRatings(2025);
-    }
+        assertThat(service.evaluatePredictionsAsync(List.of(2024, 2025), true)).isEqualTo(2);
+        service.evaluatePredictionsAsync(List.of(2025), false);
 
-    @Test
-    void runScheduledCycleAsync_invokesSchedulerWithScheduledSource() {
-        when(scheduler.tryRunNow(ScrapeBatch.Source.SCHEDULED)).thenReturn(true);
-        service.runScheduledCycleAsync();
-        verify(scheduler).tryRunNow(ScrapeBatch.Source.SCHEDULED);
+        verify(jobQueue).enqueue(JobType.REBUILD_EVALUATIONS, 2024);
+        verify(jobQueue).enqueue(JobType.REBUILD_EVALUATIONS, 2025);
+        verify(jobQueue).enqueue(JobType.EVALUATE_PREDICTIONS, 2025);
     }
 
     @Test
-    void runScheduledCycleAsync_schedulerSaysAlreadyRunning_doesNotThrow() {
-        when(scheduler.tryRunNow(ScrapeBatch.Source.SCHEDULED)).thenReturn(false);
-        // Just verify no exception escapes when the scheduler returns false
+    void runScheduledCycleAsync_queuesSeasonlessCycle() {
         service.runScheduledCycleAsync();
-        verify(scheduler).tryRunNow(ScrapeBatch.Source.SCHEDULED);
-        assertThat(true).isTrue();
+        verify(jobQueue).enqueue(JobType.SCHEDULED_CYCLE, null);
     }
 }
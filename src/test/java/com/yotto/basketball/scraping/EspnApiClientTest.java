@@ -1,7 +1,10 @@
 package com.yotto.basketball.scraping;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yotto.basketball.config.ScrapingProperties;
+import com.yotto.basketball.service.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
@@ -27,6 +30,7 @@ class EspnApiClientTest {
     private MockRestServiceServer mockServer;
     private EspnApiClient client;
     private ScrapingProperties properties;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
@@ -36,7 +40,8 @@ class EspnApiClientTest {
 
         RestClient.Builder builder = RestClient.builder();
         mockServer = MockRestServiceServer.bindTo(builder).build();
-        client = new EspnApiClient(properties, builder);
+        meterRegistry = new SimpleMeterRegistry();
+        client = new EspnApiClient(properties, builder, new PipelineMetrics(meterRegistry), new ObjectMapper());
     }
 
     // ── URL construction ──────────────────────────────────────────────────────
@@ -137,6 +142,36 @@ class EspnApiClientTest {
                 .isInstanceOf(RestClientResponseException.class);
     }
 
+    // ── Metrics ───────────────────────────────────────────────────────────────
+
+    @Test
+    void success_recordsLatencyAndBytesPerEndpoint() {
+        mockServer.expect(requestTo(
+                "https://site.api.espn.com/apis/site/v2/sports/basketball/mens-college-basketball/summary?event=401"))
+                .andRespond(withSuccess("{\"boxscore\":{}}", MediaType.APPLICATION_JSON));
+
+        client.fetchGameSummary("401");
+
+        assertThat(meterRegistry.get(PipelineMetrics.ESPN_REQUEST)
+                .tag("endpoint", "summary").tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(PipelineMetrics.ESPN_BYTES)
+                .tag("endpoint", "summary").summary().totalAmount()).isEqualTo(15);
+    }
+
+    @Test
+    void httpError_recordsErrorOutcome() {
+        mockServer.expect(requestTo(
+                "https://site.web.api.espn.com/apis/site/v2/sports/basketball/mens-college-basketball/scoreboard/conferences"))
+                .andRespond(withServerError());
+
+        assertThatThrownBy(() -> client.fetchConferences())
+                .isInstanceOf(RestClientResponseException.class);
+
+        assertThat(meterRegistry.get(PipelineMetrics.ESPN_REQUEST)
+                .tag("endpoint", "conferences").tag("outcome", "error").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find(PipelineMetrics.ESPN_BYTES).summary()).isNull();
+    }
+
     // ── Rate limiting ─────────────────────────────────────────────────────────
 
     @Test
@@ -0,0 +1,174 @@
+package com.yotto.basketball.scraping;
+
+import com.yotto.basketball.BaseDataJpaTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Claim, exclusion, retry and reaping rules against real Postgres (SKIP LOCKED,
+ * partial unique index, advisory lock). Not transactional: every queue operation
+ * commits on its own, as it does in production.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JobQueueTest extends BaseDataJpaTest {
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    JobQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        // Zero backoff: a failed job is immediately claimable again
+        queue = new JobQueue(jdbcTemplate, transactionManager, Duration.ZERO);
+    }
+
+    @Test
+    void enqueue_identicalRequestWhileQueuedOrRunning_isCoalesced() {
+        assertThat(queue.enqueue(JobType.SEASON_STATS, 2025)).isTrue();
+        assertThat(queue.enqueue(JobType.SEASON_STATS, 2025)).isFalse();
+        assertThat(queue.enqueue(JobType.SEASON_STATS, 2024)).isTrue();
+
+        queue.claim("w1");
+        assertThat(queue.enqueue(JobType.SEASON_STATS, 2025)).isFalse();
+        assertThat(queue.recent(10)).hasSize(2);
+    }
+
+    @Test
+    void claim_takesHighestPriorityFirst() {
+        queue.enqueue(JobType.FULL_SEASON, 2024, "MANUAL");
+        queue.enqueue(JobType.SEASON_STATS, 2025);
+
+        assertThat(queue.claim("w1")).get().extracting(BackgroundJob::type).isEqualTo(JobType.SEASON_STATS);
+    }
+
+    @Test
+    void claim_oneJobPerSeason_butSeasonsRunInParallel() {
+        queue.enqueue(JobType.SEASON_STATS, 2025);
+        queue.enqueue(JobType.POWER_RATINGS, 2025);
+        queue.enqueue(JobType.SEASON_STATS, 2024);
+
+        BackgroundJob first = queue.claim("w1").orElseThrow();
+        BackgroundJob second = queue.claim("w2").orElseThrow();
+
+        assertThat(first.seasonYear()).isEqualTo(2025);
+        assertThat(second.seasonYear()).isEqualTo(2024);
+        assertThat(queue.claim("w3")).isEmpty();
+
+        queue.succeeded(first, "w1");
+        assertThat(queue.claim("w3")).get().extracting(BackgroundJob::type).isEqualTo(JobType.POWER_RATINGS);
+    }
+
+    @Test
+    void claim_espnJobsNeverOverlap() {
+        queue.enqueue(JobType.FULL_SEASON, 2024, "MANUAL");
+        queue.enqueue(JobType.FULL_SEASON, 2025, "MANUAL");
+
+        assertThat(queue.claim("w1")).get().extracting(BackgroundJob::seasonYear).isEqualTo(2024);
+        assertThat(queue.claim("w2")).isEmpty();
+    }
+
+    @Test
+    void claim_seasonlessJobExcludesEverything() {
+        queue.enqueue(JobType.REFRESH_PREDICTIONS, null);
+        queue.enqueue(JobType.SEASON_STATS, 2025);
+
+        BackgroundJob global = queue.claim("w1").orElseThrow();
+
+        assertThat(global.type()).isEqualTo(JobType.REFRESH_PREDICTIONS);
+        assertThat(queue.claim("w2")).isEmpty();
+    }
+
+    @Test
+    void claim_jobWithoutSeasonData_runsAlongsideEverything() {
+        queue.enqueue(JobType.REFRESH_PREDICTIONS, null);
+        queue.enqueue(JobType.TRAINING_RECONCILE, null);
+
+        assertThat(queue.claim("w1")).get().extracting(BackgroundJob::type).isEqualTo(JobType.TRAINING_RECONCILE);
+        assertThat(queue.claim("w2")).get().extracting(BackgroundJob::type).isEqualTo(JobType.REFRESH_PREDICTIONS);
+    }
+
+    @Test
+    void failed_retriesUntilAttemptsExhausted() {
+        queue.enqueue(JobType.SEASON_STATS, 2025);   // maxAttempts 2
+
+        BackgroundJob attempt1 = queue.claim("w1").orElseThrow();
+        queue.failed(attempt1, "w1", new IllegalStateException("first"));
+        BackgroundJob attempt2 = queue.claim("w1").orElseThrow();
+        queue.failed(attempt2, "w1", new IllegalStateException("second"));
+
+        assertThat(attempt2.attempts()).isEqualTo(2);
+        assertThat(queue.claim("w1")).isEmpty();
+        assertThat(queue.recent(1)).singleElement().satisfies(job -> {
+            assertThat(job.status()).isEqualTo(BackgroundJob.Status.FAILED);
+            assertThat(job.lastError()).isEqualTo("IllegalStateException: second");
+        });
+    }
+
+    @Test
+    void failed_withBackoff_waitsBeforeNextAttempt() {
+        JobQueue backingOff = new JobQueue(jdbcTemplate, transactionManager, Duration.ofMinutes(5));
+        backingOff.enqueue(JobType.TEAMS, 2025);
+
+        backingOff.failed(backingOff.claim("w1").orElseThrow(), "w1", new RuntimeException("espn 503"));
+
+        assertThat(backingOff.claim("w1")).isEmpty();
+        assertThat(backingOff.recent(1).get(0).isRetry()).isTrue();
+    }
+
+    @Test
+    void release_requeuesWithoutCountingTheAttempt() {
+        queue.enqueue(JobType.SCHEDULED_CYCLE, null);   // maxAttempts 1
+
+        queue.release(queue.claim("w1").orElseThrow(), "w1");
+
+        assertThat(queue.claim("w1")).get().extracting(BackgroundJob::attempts).isEqualTo(1);
+    }
+
+    @Test
+    void reapStale_requeuesJobsOfSilentWorkers() {
+        queue.enqueue(JobType.TIME_SERIES, 2025);
+        queue.enqueue(JobType.TIME_SERIES, 2024);
+        BackgroundJob crashed = queue.claim("dead-node").orElseThrow();
+        BackgroundJob alive = queue.claim("live-node").orElseThrow();
+        jdbcTemplate.update("UPDATE background_jobs SET heartbeat_at = LOCALTIMESTAMP - INTERVAL '10 minutes'");
+        queue.heartbeat("live-node", List.of(alive.id()));
+
+        assertThat(queue.reapStale(Duration.ofMinutes(2))).isEqualTo(1);
+
+        Optional<BackgroundJob> reclaimed = queue.claim("w2");
+        assertThat(reclaimed).get().satisfies(job -> {
+            assertThat(job.id()).isEqualTo(crashed.id());
+            assertThat(job.attempts()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void succeededOrFailed_afterReap_leaveTheNewAttemptAlone() {
+        queue.enqueue(JobType.TIME_SERIES, 2025);
+        BackgroundJob slow = queue.claim("slow-node").orElseThrow();
+        jdbcTemplate.update("UPDATE background_jobs SET heartbeat_at = LOCALTIMESTAMP - INTERVAL '10 minutes'");
+        queue.reapStale(Duration.ofMinutes(2));
+        BackgroundJob retry = queue.claim("w2").orElseThrow();
+
+        queue.succeeded(slow, "slow-node");
+        queue.failed(slow, "slow-node", new RuntimeException("late"));
+
+        assertThat(queue.recent(1)).singleElement().satisfies(job -> {
+            assertThat(job.id()).isEqualTo(retry.id());
+            assertThat(job.status()).isEqualTo(BackgroundJob.Status.RUNNING);
+            assertThat(job.lockedBy()).isEqualTo("w2");
+        });
+    }
+}
@@ -0,0 +1,142 @@
+package com.yotto.basketball.scraping;
+
+import com.yotto.basketball.entity.ScrapeBatch;
+import com.yotto.basketball.service.MlTrainingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.core.task.TaskExecutor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobWorkerTest {
+
+    @Mock private JobQueue queue;
+    @Mock private ScrapeOrchestrator orchestrator;
+    @Mock private ScrapeScheduler scheduler;
+    @Mock private MlTrainingService mlTrainingService;
+
+    private JobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new JobWorker(queue, orchestrator, scheduler, mlTrainingService, new SyncTaskExecutor(),
+                2, Duration.ofMinutes(2));
+    }
+
+    private static BackgroundJob job(long id, JobType type, Integer season, String argument) {
+        return new BackgroundJob(id, type, season, argument, type.priority(), BackgroundJob.Status.RUNNING,
+                1, type.maxAttempts(), LocalDateTime.now(), "worker", LocalDateTime.now(),
+                LocalDateTime.now(), null, null);
+    }
+
+    @Test
+    void execute_dispatchesToOrchestratorAndMarksSucceeded() {
+        BackgroundJob fullSeason = job(1, JobType.FULL_SEASON, 2025, "AUTO_INITIALIZE");
+        BackgroundJob refresh = job(4, JobType.REFRESH_PREDICTIONS, null, null);
+        worker.execute(fullSeason);
+        worker.execute(job(2, JobType.POWER_RATINGS, 2025, null));
+        worker.execute(job(3, JobType.REBUILD_EVALUATIONS, 2024, null));
+        worker.execute(refresh);
+
+        verify(orchestrator).scrapeFullSeason(2025, ScrapeBatch.Source.AUTO_INITIALIZE);
+        verify(orchestrator).calculatePowerRatings(2025);
+        verify(orchestrator).rebuildPredictionEvaluations(2024);
+        verify(orchestrator).refreshPredictions();
+        verify(queue).succeeded(eq(fullSeason), anyString());
+        verify(queue).succeeded(eq(refresh), anyString());
+    }
+
+    @Test
+    void execute_scheduledCycle_runsThroughSchedulerLock() {
+        worker.execute(job(1, JobType.SCHEDULED_CYCLE, null, null));
+
+        verify(scheduler).tryRunNow(ScrapeBatch.Source.SCHEDULED);
+    }
+
+    @Test
+    void execute_trainingReconcile_pollsActiveRuns() {
+        BackgroundJob job = job(5, JobType.TRAINING_RECONCILE, null, null);
+        worker.execute(job);
+
+        verify(mlTrainingService).pollActiveRuns();
+        verify(queue).succeeded(eq(job), anyString());
+    }
+
+    @Test
+    void execute_failure_recordedForRetryAndNotMarkedSucceeded() {
+        BackgroundJob job = job(7, JobType.CURRENT_SEASON, 2026, null);
+        RuntimeException boom = new RuntimeException("boom");
+        doThrow(boom).when(orchestrator).scrapeCurrentSeason(2026);
+
+        worker.execute(job);
+
+        verify(queue).failed(eq(job), anyString(), eq(boom));
+        verify(queue, never()).succeeded(any(), anyString());
+    }
+
+    @Test
+    void poll_claimsUntilQueueIsEmpty() {
+        when(queue.claim(anyString()))
+                .thenReturn(Optional.of(job(1, JobType.TEAMS, 2025, null)))
+                .thenReturn(Optional.empty());
+
+        worker.poll();
+
+        verify(orchestrator).scrapeTeams(2025);
+        verify(queue).reapStale(Duration.ofMinutes(2));
+        verify(queue, times(2)).claim(anyString());
+    }
+
+    @Test
+    void poll_neverClaimsMoreThanWorkerCount() {
+        List<Runnable> held = new ArrayList<>();
+        TaskExecutor holding = held::add;
+        worker = new JobWorker(queue, orchestrator, scheduler, mlTrainingService, holding,
+                2, Duration.ofMinutes(2));
+        when(queue.claim(anyString()))
+                .thenReturn(Optional.of(job(1, JobType.SEASON_STATS, 2024, null)))
+                .thenReturn(Optional.of(job(2, JobType.SEASON_STATS, 2025, null)));
+
+        worker.poll();
+        worker.poll();
+
+        assertThat(held).hasSize(2);
+        // Second poll is at capacity: it heartbeats the in-flight jobs but claims nothing
+        verify(queue, times(2)).claim(anyString());
+        verify(queue, times(2)).heartbeat(anyString(), any());
+    }
+
+    @Test
+    void poll_executorFull_releasesJobWithoutSpendingAnAttempt() {
+        BackgroundJob job = job(3, JobType.SCHEDULED_CYCLE, null, null);
+        worker = new JobWorker(queue, orchestrator, scheduler, mlTrainingService, task -> {
+            throw new TaskRejectedException("pool full");
+        }, 2, Duration.ofMinutes(2));
+        when(queue.claim(anyString())).thenReturn(Optional.of(job));
+
+        worker.poll();
+
+        verify(queue).release(eq(job), anyString());
+        verify(queue, never()).failed(any(), anyString(), any());
+    }
+}
@@ -0,0 +1,210 @@
+package com.yotto.basketball.scraping;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Measurement side of the pipeline scale harness. Wraps the DataSource to count JDBC
+ * statements executed and rows written per table, and acts as a method interceptor on
+ * the pipeline's service beans to attribute wall time, peak heap, statements and rows
+ * to each stage. Stage figures are inclusive of nested stages; {@link #stages()} keeps
+ * first-call order and nesting depth for the report.
+ */
+class PipelineProbe implements MethodInterceptor {
+
+    private static final Pattern WRITE_TABLE = Pattern.compile(
+            "^\\s*(?:insert\\s+into|update|delete\\s+from)\\s+([a-z_]+)", Pattern.CASE_INSENSITIVE);
+
+    /** Aggregated figures for one stage (bean method) across all its calls. */
+    static final class Stage {
+        final String name;
+        final int depth;
+        int calls;
+        long wallNanos;
+        long peakHeapBytes;
+        long statements;
+        final Map<String, Long> rowsByTable = new TreeMap<>();
+
+        Stage(String name, int depth) {
+            this.name = name;
+            this.depth = depth;
+        }
+
+        long rowsWritten() {
+            return rowsByTable.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    private final AtomicLong statements = new AtomicLong();
+    private final Map<String, AtomicLong> rowsByTable = new ConcurrentHashMap<>();
+    private final Map<String, Stage> stages = new LinkedHashMap<>();
+    private final Deque<long[]> frames = new ArrayDeque<>();   // per active stage: {childPeak}
+    private final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(p -> p.getType() == MemoryType.HEAP)
+            .toList();
+
+    // ── Stage timing ─────────────────────────────────────────────────────────────
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String name = invocation.getMethod().getDeclaringClass().getSimpleName()
+                + "." + invocation.getMethod().getName();
+        Stage stage;
+        synchronized (this) {
+            stage = stages.computeIfAbsent(name, n -> new Stage(n, frames.size()));
+            if (!frames.isEmpty()) {
+                // The parent's peak so far would be lost when the pools are reset below
+                long[] parent = frames.peek();
+                parent[0] = Math.max(parent[0], heapPeak());
+            }
+            frames.push(new long[1]);
+            resetHeapPeak();
+        }
+        long statementsBefore = statements.get();
+        Map<String, Long> rowsBefore = rowSnapshot();
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            synchronized (this) {
+                long[] frame = frames.pop();
+                long peak = Math.max(frame[0], heapPeak());
+                if (!frames.isEmpty()) {
+                    frames.peek()[0] = Math.max(frames.peek()[0], peak);
+                }
+                stage.calls++;
+                stage.wallNanos += elapsed;
+                stage.peakHeapBytes = Math.max(stage.peakHeapBytes, peak);
+                stage.statements += statements.get() - statementsBefore;
+                rowSnapshot().forEach((table, rows) -> {
+                    long delta = rows - rowsBefore.getOrDefault(table, 0L);
+                    if (delta > 0) stage.rowsByTable.merge(table, delta, Long::sum);
+                });
+            }
+        }
+    }
+
+    synchronized List<Stage> stages() {
+        return List.copyOf(stages.values());
+    }
+
+    synchronized void reset() {
+        stages.clear();
+        frames.clear();
+        statements.set(0);
+        rowsByTable.clear();
+    }
+
+    long statementCount() {
+        return statements.get();
+    }
+
+    private Map<String, Long> rowSnapshot() {
+        Map<String, Long> copy = new TreeMap<>();
+        rowsByTable.forEach((t, n) -> copy.put(t, n.get()));
+        return copy;
+    }
+
+    private void resetHeapPeak() {
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    /** Sum of per-pool peaks since the last reset — an upper bound on the true heap peak. */
+    private long heapPeak() {
+        return heapPools.stream().mapToLong(p -> p.getPeakUsage().getUsed()).sum();
+    }
+
+    // ── JDBC counting ────────────────────────────────────────────────────────────
+
+    /** A DataSource whose connections count every statement execution and write. */
+    DataSource countingDataSource(DataSource target) {
+        return (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> {
+                    Object result = invokeTarget(target, method, args);
+                    return result instanceof Connection c ? countingConnection(c) : result;
+                });
+    }
+
+    private Connection countingConnection(Connection target) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invokeTarget(target, method, args);
+                    if (result instanceof Statement s) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String str ? str : null;
+                        return countingStatement(s, sql, method.getReturnType());
+                    }
+                    return result;
+                });
+    }
+
+    private Object countingStatement(Statement target, String preparedSql, Class<?> type) {
+        InvocationHandler handler = new InvocationHandler() {
+            int batched;
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                String name = method.getName();
+                if (name.equals("addBatch")) batched++;
+                Object result = invokeTarget(target, method, args);
+                if (!name.startsWith("execute")) return result;
+
+                statements.incrementAndGet();
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+                long rows = 0;
+                if (result instanceof int[] counts) {
+                    // Rewritten batched inserts report SUCCESS_NO_INFO; fall back to the batch size
+                    for (int n : counts) rows += n >= 0 ? n : 0;
+                    if (rows == 0 && counts.length > 0) rows = batched;
+                    batched = 0;
+                } else if (result instanceof long[] counts) {
+                    for (long n : counts) rows += Math.max(0, n);
+                    batched = 0;
+                } else if (result instanceof Integer n && name.contains("Update")) {
+                    rows = n;
+                } else if (result instanceof Boolean isQuery && !isQuery) {
+                    rows = Math.max(0, target.getUpdateCount());
+                }
+                if (rows > 0 && sql != null) {
+                    Matcher m = WRITE_TABLE.matcher(sql);
+                    if (m.find()) {
+                        rowsByTable.computeIfAbsent(m.group(1).toLowerCase(Locale.ROOT), t -> new AtomicLong())
+                                .addAndGet(rows);
+                    }
+                }
+                return result;
+            }
+        };
+        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
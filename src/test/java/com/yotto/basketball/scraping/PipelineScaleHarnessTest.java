@@ -0,0 +1,209 @@
+package com.yotto.basketball.scraping;
+
+import com.yotto.basketball.BaseIntegrationTest;
+import com.yotto.basketball.scraping.SyntheticLeagueGenerator.GeneratedLeague;
+import com.yotto.basketball.scraping.SyntheticLeagueGenerator.LeagueSpec;
+import com.yotto.basketball.service.BradleyTerryRatingService;
+import com.yotto.basketball.service.ConferenceGameFlagService;
+import com.yotto.basketball.service.EloRatingService;
+import com.yotto.basketball.service.MasseyRatingService;
+import com.yotto.basketball.service.PowerRatingService;
+import com.yotto.basketball.service.PredictionEvaluationService;
+import com.yotto.basketball.service.PredictionMaterializationService;
+import com.yotto.basketball.service.PredictionMetricRollupWriter;
+import com.yotto.basketball.service.SeasonGameDataLoader;
+import com.yotto.basketball.service.SnapshotJdbcWriter;
+import com.yotto.basketball.service.StatCalcGateService;
+import com.yotto.basketball.service.StatisticsTimeSeriesService;
+import com.yotto.basketball.service.StatsCalculationService;
+import com.yotto.basketball.service.TeamStatTimeSeriesService;
+import org.apache.commons.math3.stat.correlation.SpearmansCorrelation;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end scale harness for the calculation pipeline. For each scale factor it
+ * generates a synthetic league ({@link SyntheticLeagueGenerator}; factor = seasons of
+ * a full D-I-sized league), then runs {@code ScrapeOrchestrator.runCalculations} for
+ * every season — which includes {@code PredictionEvaluationService.evaluateSeason} —
+ * and reports wall time, peak heap, JDBC statements and rows written per stage.
+ *
+ * <p>Opt-in, since a 10× run takes a while:
+ * <pre>
+ *   ./mvnw test -Dtest=PipelineScaleHarnessTest -Dpipeline.scale=1,2,5,10
+ *       [-Dpipeline.teams=728 -Dpipeline.conferences=64]   # e.g. men's + women's D-I
+ * </pre>
+ * The report is printed and appended as CSV to {@code target/pipeline-scale-report.csv}.
+ */
+@EnabledIfSystemProperty(named = "pipeline.scale", matches = ".+")
+@Import(PipelineScaleHarnessTest.ProbeConfig.class)
+class PipelineScaleHarnessTest extends BaseIntegrationTest {
+
+    static final Path REPORT = Path.of("target", "pipeline-scale-report.csv");
+
+    /** The beans whose public methods are the pipeline's stages. */
+    static final Set<Class<?>> STAGE_TYPES = Set.of(
+            ConferenceGameFlagService.class, StatCalcGateService.class, SeasonGameDataLoader.class,
+            StatsCalculationService.class, StatisticsTimeSeriesService.class,
+            PowerRatingService.class, MasseyRatingService.class, BradleyTerryRatingService.class,
+            EloRatingService.class,
+            TeamStatTimeSeriesService.class,
+            SnapshotJdbcWriter.class, PredictionEvaluationService.class, PredictionMetricRollupWriter.class,
+            PredictionMaterializationService.class);
+
+    @TestConfiguration
+    static class ProbeConfig {
+
+        @Bean
+        static PipelineProbe pipelineProbe() {
+            return new PipelineProbe();
+        }
+
+        @Bean
+        static BeanPostProcessor pipelineProbeInstaller(PipelineProbe probe) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource ds && !AopUtils.isAopProxy(bean)) {
+                        return probe.countingDataSource(ds);
+                    }
+                    if (!STAGE_TYPES.contains(AopUtils.getTargetClass(bean))) {
+                        return bean;
+                    }
+                    if (bean instanceof Advised advised && !advised.isFrozen()) {
+                        // Outermost, so transaction commit time counts toward the stage
+                        advised.addAdvice(0, probe);
+                        return bean;
+                    }
+                    ProxyFactory factory = new ProxyFactory(bean);
+                    factory.setProxyTargetClass(true);
+                    factory.addAdvice(probe);
+                    return factory.getProxy();
+                }
+            };
+        }
+    }
+
+    @Autowired ScrapeOrchestrator orchestrator;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired PipelineProbe probe;
+
+    static Stream<Integer> scaleFactors() {
+        return Arrays.stream(System.getProperty("pipeline.scale", "1").split(","))
+                .map(String::trim).map(Integer::parseInt);
+    }
+
+    @ParameterizedTest(name = "{0}x")
+    @MethodSource("scaleFactors")
+    void runPipelineAtScale(int factor) {
+        LeagueSpec spec = LeagueSpec.scaled(factor);
+        if (System.getProperty("pipeline.teams") != null) {
+            spec = spec.withTeams(Integer.getInteger("pipeline.teams"),
+                    Integer.getInteger("pipeline.conferences", spec.conferences()));
+        }
+
+        long genStart = System.nanoTime();
+        GeneratedLeague league = new SyntheticLeagueGenerator(jdbcTemplate).generate(spec);
+        long genMs = (System.nanoTime() - genStart) / 1_000_000;
+
+        probe.reset();
+        long start = System.nanoTime();
+        for (int year : league.seasonYears()) {
+            orchestrator.runCalculations(year);
+        }
+        long totalMs = (System.nanoTime() - start) / 1_000_000;
+
+        report(factor, spec, league, genMs, totalMs, probe.stages());
+
+        int lastYear = league.seasonYears().get(league.seasonYears().size() - 1);
+        assertThat(masseyRecovery(league, lastYear))
+                .as("Massey ratings should track the generator's latent strengths")
+                .isGreaterThan(0.8);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM prediction_evaluations", Long.class)).isPositive();
+    }
+
+    /** Spearman correlation of the last Massey snapshot with the latent strengths. */
+    private double masseyRecovery(GeneratedLeague league, int year) {
+        Map<Long, Double> rating = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT r.team_id, r.rating FROM team_power_rating_snapshots r
+                JOIN seasons s ON s.id = r.season_id
+                WHERE s.year = ? AND r.model_type = ?
+                  AND r.snapshot_date = (SELECT MAX(snapshot_date) FROM team_power_rating_snapshots
+                                         WHERE season_id = s.id AND model_type = ?)
+                """, rs -> { rating.put(rs.getLong(1), rs.getDouble(2)); },
+                year, MasseyRatingService.MODEL_TYPE, MasseyRatingService.MODEL_TYPE);
+        double[] latent = new double[league.teamIds().length];
+        double[] fitted = new double[league.teamIds().length];
+        for (int i = 0; i < latent.length; i++) {
+            latent[i] = league.finalStrength()[i];
+            fitted[i] = rating.getOrDefault(league.teamIds()[i], 0.0);
+        }
+        return new SpearmansCorrelation().correlation(latent, fitted);
+    }
+
+    private static void report(int factor, LeagueSpec spec, GeneratedLeague league, long genMs, long totalMs,
+                               List<PipelineProbe.Stage> stages) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%n── Pipeline scale %dx: %d season(s) × %d teams, %d games, %d box scores "
+                        + "(generated in %d ms); calculations %d ms ──%n",
+                factor, spec.seasons(), spec.teams(), league.games(), league.boxScores(), genMs, totalMs));
+        out.append(String.format("%-58s %6s %10s %9s %9s %11s%n",
+                "stage", "calls", "wall ms", "heap MB", "stmts", "rows"));
+        for (PipelineProbe.Stage s : stages) {
+            out.append(String.format("%-58s %6d %10d %9d %9d %11d%n",
+                    "  ".repeat(s.depth) + s.name, s.calls, s.wallNanos / 1_000_000,
+                    s.peakHeapBytes >> 20, s.statements, s.rowsWritten()));
+        }
+        System.out.println(out);
+
+        try {
+            boolean header = !Files.exists(REPORT);
+            Files.createDirectories(REPORT.getParent());
+            try (PrintWriter csv = new PrintWriter(Files.newBufferedWriter(REPORT,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND))) {
+                if (header) {
+                    csv.println("factor,seasons,teams,games,stage,depth,calls,wall_ms,peak_heap_mb,"
+                            + "statements,rows_written,rows_by_table");
+                }
+                for (PipelineProbe.Stage s : stages) {
+                    String byTable = s.rowsByTable.entrySet().stream()
+                            .map(e -> e.getKey() + "=" + e.getValue()).collect(Collectors.joining(";"));
+                    csv.printf("%d,%d,%d,%d,%s,%d,%d,%d,%d,%d,%d,%s%n", factor, spec.seasons(), spec.teams(),
+                            league.games(), s.name, s.depth, s.calls, s.wallNanos / 1_000_000,
+                            s.peakHeapBytes >> 20, s.statements, s.rowsWritten(), byTable);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
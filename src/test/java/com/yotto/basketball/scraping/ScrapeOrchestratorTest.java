@@ -51,6 +51,7 @@ class ScrapeOrchestratorTest {
     @Mock private PowerRatingService powerRatingService;
     @Mock private TeamStatTimeSeriesService teamStatTimeSeriesService;
     @Mock private com.yotto.basketball.service.PredictionEvaluationService predictionEvaluationService;
+    @Mock private com.yotto.basketball.service.PredictionMaterializationService predictionMaterializationService;
 
     private ScrapeOrchestrator orchestrator;
     private SeasonGameData gameData;
@@ -62,7 +63,7 @@ class ScrapeOrchestratorTest {
                 oddsBackfillScraper, gameStatsScraper,
                 conferenceGameFlagService, statCalcGateService, seasonGameDataLoader,
                 statsCalculationService, timeSeriesService, powerRatingService,
-                teamStatTimeSeriesService, predictionEvaluationService);
+                teamStatTimeSeriesService, predictionEvaluationService, predictionMaterializationService);
 
         Season season = new Season();
         season.setYear(2025);
@@ -107,7 +108,7 @@ class ScrapeOrchestratorTest {
                 gameScraper, oddsBackfillScraper, gameStatsScraper,
                 conferenceGameFlagService, statCalcGateService,
                 statsCalculationService, timeSeriesService, powerRatingService,
-                teamStatTimeSeriesService, predictionEvaluationService);
+                teamStatTimeSeriesService, predictionEvaluationService, predictionMaterializationService);
         order.verify(conferenceScraper).scrape(eq(2025), any());
         order.verify(teamScraper).scrape(eq(2025), any());
         order.verify(standingsScraper).scrape(eq(2025), any());
@@ -122,6 +123,18 @@ class ScrapeOrchestratorTest {
         order.verify(powerRatingService).calculateAndStoreForSeason(eq(gameData), any());
         order.verify(teamStatTimeSeriesService).calculateAndStoreForSeason(eq(gameData), any());
         order.verify(statCalcGateService).recordRun(eq(2025), any());
+        // Upcoming predictions are re-materialized against the snapshots just written
+        order.verify(predictionMaterializationService).refreshWindow(2025);
+    }
+
+    @Test
+    void scrapeCurrentSeason_materializationFailure_doesNotPropagate() {
+        stubCalcBlock();
+        when(predictionMaterializationService.refreshWindow(2025)).thenThrow(new IllegalStateException("boom"));
+
+        orchestrator.scrapeCurrentSeason(2025);
+
+        verify(statCalcGateService).recordRun(eq(2025), any());
     }
 
     @Test
@@ -158,6 +171,7 @@ class ScrapeOrchestratorTest {
         verify(powerRatingService, never()).calculateAndStoreForSeason(any(SeasonGameData.class), any());
         verify(teamStatTimeSeriesService, never()).calculateAndStoreForSeason(any(SeasonGameData.class), any());
         verify(statCalcGateService, never()).recordRun(eq(2025), any());
+        verify(predictionMaterializationService, never()).refreshWindow(2025);
     }
 
     @Test
@@ -338,6 +352,7 @@ class ScrapeOrchestratorTest {
     void calculatePowerRatings_delegatesToService() {
         orchestrator.calculatePowerRatings(2025);
         verify(powerRatingService).calculateAndStoreForSeason(2025);
+        verify(predictionMaterializationService).refreshWindow(2025);
     }
 
     @Test
@@ -32,12 +32,13 @@ class ScrapeSchedulerTest {
 
     @Mock private ScrapeOrchestrator orchestrator;
     @Mock private SeasonRepository seasonRepository;
+    @Mock private JobQueue jobQueue;
 
     private ScrapeScheduler scheduler;
 
     @BeforeEach
     void setUp() {
-        scheduler = new ScrapeScheduler(orchestrator, seasonRepository);
+        scheduler = new ScrapeScheduler(orchestrator, seasonRepository, jobQueue);
     }
 
     private Season mkSeason(int year) {
@@ -50,13 +51,21 @@ class ScrapeSchedulerTest {
     }
 
     @Test
-    void scheduledScrape_invokesScrapeCurrentSeasonForEveryAutoRefreshSeasonInOrder() {
+    void scheduledScrape_queuesCycleInsteadOfRunningIt() {
+        scheduler.scheduledScrape();
+
+        verify(jobQueue).enqueue(JobType.SCHEDULED_CYCLE, null);
+        verifyNoInteractions(orchestrator);
+    }
+
+    @Test
+    void tryRunNow_invokesScrapeCurrentSeasonForEveryAutoRefreshSeasonInOrder() {
         Season s2026 = mkSeason(2026);
         Season s2025 = mkSeason(2025);
         when(seasonRepository.findByAutoRefreshTrueOrderByYearDesc())
                 .thenReturn(List.of(s2026, s2025));
 
-        scheduler.scheduledScrape();
+        scheduler.tryRunNow(ScrapeBatch.Source.SCHEDULED);
 
         InOrder order = inOrder(orchestrator);
         order.verify(orchestrator).scrapeCurrentSeason(2026, ScrapeBatch.Source.SCHEDULED);
@@ -64,22 +73,22 @@ class ScrapeSchedulerTest {
     }
 
     @Test
-    void scheduledScrape_noAutoRefreshSeasons_doesNothing() {
+    void tryRunNow_noAutoRefreshSeasons_doesNothing() {
         when(seasonRepository.findByAutoRefreshTrueOrderByYearDesc()).thenReturn(List.of());
 
-        scheduler.scheduledScrape();
+        scheduler.tryRunNow(ScrapeBatch.Source.SCHEDULED);
 
         verifyNoInteractions(orchestrator);
     }
 
     @Test
-    void scheduledScrape_oneSeasonFails_otherSeasonsStillProcessed() {
+    void tryRunNow_oneSeasonFails_otherSeasonsStillProcessed() {
         when(seasonRepository.findByAutoRefreshTrueOrderByYearDesc())
                 .thenReturn(List.of(mkSeason(2026), mkSeason(2025)));
         doThrow(new RuntimeException("season 2026 boom"))
                 .when(orchestrator).scrapeCurrentSeason(2026, ScrapeBatch.Source.SCHEDULED);
 
-        scheduler.scheduledScrape();
+        scheduler.tryRunNow(ScrapeBatch.Source.SCHEDULED);
 
         verify(orchestrator).scrapeCurrentSeason(2026, ScrapeBatch.Source.SCHEDULED);
         verify(orchestrator).scrapeCurrentSeason(2025, ScrapeBatch.Source.SCHEDULED);
@@ -0,0 +1,296 @@
+package com.yotto.basketball.scraping;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Populates {@code seasons}, {@code conferences}, {@code teams},
+ * {@code conference_memberships}, {@code games}, {@code team_game_stats} and
+ * {@code betting_odds} with a synthetic league for pipeline scale testing.
+ *
+ * <p>Each team has a latent offensive and defensive efficiency (points per 100
+ * possessions above average, drawn around its conference's tier) and a pace. Scores
+ * come from possessions × efficiency with game-level noise and a home-court edge, so
+ * the rating models recover real signal; strengths carry over between seasons with
+ * regression to the conference mean. Schedules are non-conference rounds in
+ * November–December, then conference rounds through early March. Box scores are
+ * consistent with the final score, and book lines are the true expectation plus noise.
+ *
+ * <p>Output is fully determined by the {@link LeagueSpec}. IDs are reserved from each
+ * table's sequence, so the application can keep inserting afterwards.
+ */
+public class SyntheticLeagueGenerator {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final double AVG_EFFICIENCY = 103.0;
+    private static final double HOME_EDGE = 1.6;   // per side, per 100 possessions
+
+    /**
+     * Size of the generated league. {@code conferenceGames} of each team's
+     * {@code gamesPerTeam} are played inside its conference.
+     */
+    public record LeagueSpec(int seasons, int firstSeasonYear, int teams, int conferences,
+                             int gamesPerTeam, int conferenceGames, long seed) {
+
+        /** Roughly one current men's D-I season: 364 teams, 32 conferences, 31 games each. */
+        public static LeagueSpec baseline() {
+            return new LeagueSpec(1, 2025, 364, 32, 31, 18, 42L);
+        }
+
+        /** {@code factor} × baseline data volume, as additional seasons of the same league. */
+        public static LeagueSpec scaled(int factor) {
+            LeagueSpec b = baseline();
+            return new LeagueSpec(factor, b.firstSeasonYear() - factor + 1, b.teams(), b.conferences(),
+                    b.gamesPerTeam(), b.conferenceGames(), b.seed());
+        }
+
+        public LeagueSpec withTeams(int teams, int conferences) {
+            return new LeagueSpec(seasons, firstSeasonYear, teams, conferences,
+                    gamesPerTeam, conferenceGames, seed);
+        }
+    }
+
+    /** What was written, plus each team's final-season latent margin strength (by team id). */
+    public record GeneratedLeague(List<Integer> seasonYears, long[] teamIds, double[] finalStrength,
+                                  int games, int boxScores, int odds) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SyntheticLeagueGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public GeneratedLeague generate(LeagueSpec spec) {
+        Random rnd = new Random(spec.seed());
+        int nTeams = spec.teams();
+        int nConf = spec.conferences();
+
+        // ── Conferences and teams ────────────────────────────────────────────────
+        long[] confIds = reserveIds("conferences", nConf);
+        double[] confTier = new double[nConf];
+        for (int c = 0; c < nConf; c++) confTier[c] = rnd.nextGaussian() * 5;
+        Arrays.sort(confTier);
+        List<Object[]> confRows = new ArrayList<>();
+        for (int c = 0; c < nConf; c++) {
+            confRows.add(new Object[]{confIds[c], "Synthetic Conference " + (c + 1), "SC" + (c + 1),
+                    "D-I", "syn-c" + (c + 1)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO conferences (id, name, abbreviation, division, espn_id) "
+                + "VALUES (?, ?, ?, ?, ?)", confRows);
+
+        long[] teamIds = reserveIds("teams", nTeams);
+        int[] confOf = new int[nTeams];
+        double[] off = new double[nTeams];
+        double[] def = new double[nTeams];
+        double[] pace = new double[nTeams];
+        List<Object[]> teamRows = new ArrayList<>();
+        for (int t = 0; t < nTeams; t++) {
+            confOf[t] = t % nConf;
+            off[t] = confTier[confOf[t]] / 2 + rnd.nextGaussian() * 4;
+            def[t] = confTier[confOf[t]] / 2 + rnd.nextGaussian() * 4;
+            pace[t] = 68 + rnd.nextGaussian() * 3;
+            teamRows.add(new Object[]{teamIds[t], "Synthetic " + (t + 1), "Syn" + (t + 1),
+                    "S" + (t + 1), "syn-t" + (t + 1), true});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO teams (id, name, nickname, abbreviation, espn_id, active) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", teamRows);
+
+        List<Integer> years = new ArrayList<>();
+        int games = 0;
+        int boxScores = 0;
+        int odds = 0;
+        for (int s = 0; s < spec.seasons(); s++) {
+            int year = spec.firstSeasonYear() + s;
+            years.add(year);
+            if (s > 0) {
+                // Off-season: partial regression to the conference tier plus roster churn
+                for (int t = 0; t < nTeams; t++) {
+                    double tier = confTier[confOf[t]] / 2;
+                    off[t] = tier + 0.65 * (off[t] - tier) + rnd.nextGaussian() * 2.5;
+                    def[t] = tier + 0.65 * (def[t] - tier) + rnd.nextGaussian() * 2.5;
+                }
+            }
+            SeasonCounts counts = generateSeason(spec, year, rnd, teamIds, confIds, confOf, off, def, pace);
+            games += counts.games;
+            boxScores += counts.boxScores;
+            odds += counts.odds;
+        }
+
+        double[] strength = new double[nTeams];
+        for (int t = 0; t < nTeams; t++) strength[t] = off[t] + def[t];
+        return new GeneratedLeague(years, teamIds, strength, games, boxScores, odds);
+    }
+
+    private record SeasonCounts(int games, int boxScores, int odds) {}
+
+    private record Pairing(int home, int away, boolean neutral, LocalDate date) {}
+
+    private SeasonCounts generateSeason(LeagueSpec spec, int year, Random rnd, long[] teamIds, long[] confIds,
+                                        int[] confOf, double[] off, double[] def, double[] pace) {
+        LocalDate opening = LocalDate.of(year - 1, 11, 4);
+        LocalDate confStart = LocalDate.of(year, 1, 2);
+        LocalDate finale = LocalDate.of(year, 3, 8);
+
+        long seasonId = reserveIds("seasons", 1)[0];
+        jdbcTemplate.update("INSERT INTO seasons (id, year, start_date, end_date, description) VALUES (?, ?, ?, ?, ?)",
+                seasonId, year, Date.valueOf(opening), Date.valueOf(LocalDate.of(year, 4, 8)),
+                "Synthetic " + year);
+
+        List<Object[]> memberships = new ArrayList<>();
+        long[] membershipIds = reserveIds("conference_memberships", teamIds.length);
+        for (int t = 0; t < teamIds.length; t++) {
+            memberships.add(new Object[]{membershipIds[t], teamIds[t], confIds[confOf[t]], seasonId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO conference_memberships (id, team_id, conference_id, season_id) "
+                + "VALUES (?, ?, ?, ?)", memberships);
+
+        // ── Schedule ─────────────────────────────────────────────────────────────
+        List<Pairing> schedule = new ArrayList<>();
+        int nonConfRounds = spec.gamesPerTeam() - spec.conferenceGames();
+        long nonConfDays = confStart.toEpochDay() - opening.toEpochDay() - 3;
+        List<Integer> order = new ArrayList<>();
+        for (int t = 0; t < teamIds.length; t++) order.add(t);
+        for (int r = 0; r < nonConfRounds; r++) {
+            Collections.shuffle(order, rnd);
+            LocalDate day = opening.plusDays(r * nonConfDays / Math.max(1, nonConfRounds));
+            for (int i = 0; i + 1 < order.size(); i += 2) {
+                schedule.add(new Pairing(order.get(i), order.get(i + 1), rnd.nextDouble() < 0.08,
+                        day.plusDays(rnd.nextInt(3))));
+            }
+        }
+        List<List<Integer>> byConf = new ArrayList<>();
+        for (int c = 0; c < confIds.length; c++) byConf.add(new ArrayList<>());
+        for (int t = 0; t < teamIds.length; t++) byConf.get(confOf[t]).add(t);
+        long confDays = finale.toEpochDay() - confStart.toEpochDay() - 3;
+        for (int r = 0; r < spec.conferenceGames(); r++) {
+            LocalDate day = confStart.plusDays(r * confDays / Math.max(1, spec.conferenceGames()));
+            for (List<Integer> members : byConf) {
+                Collections.shuffle(members, rnd);
+                for (int i = 0; i + 1 < members.size(); i += 2) {
+                    schedule.add(new Pairing(members.get(i), members.get(i + 1), false,
+                            day.plusDays(rnd.nextInt(3))));
+                }
+            }
+        }
+
+        // ── Games, box scores and lines ─────────────────────────────────────────
+        long[] gameIds = reserveIds("games", schedule.size());
+        long[] statIds = reserveIds("team_game_stats", schedule.size() * 2);
+        long[] oddsIds = reserveIds("betting_odds", schedule.size());
+        List<Object[]> gameRows = new ArrayList<>(schedule.size());
+        List<Object[]> statRows = new ArrayList<>(schedule.size() * 2);
+        List<Object[]> oddsRows = new ArrayList<>(schedule.size());
+        Timestamp scraped = Timestamp.valueOf(LocalDateTime.of(year, 4, 9, 6, 0));
+
+        for (int g = 0; g < schedule.size(); g++) {
+            Pairing p = schedule.get(g);
+            int h = p.home();
+            int a = p.away();
+            double edge = p.neutral() ? 0 : HOME_EDGE;
+            double expPoss = (pace[h] + pace[a]) / 2;
+            double expEffH = AVG_EFFICIENCY + off[h] - def[a] + edge;
+            double expEffA = AVG_EFFICIENCY + off[a] - def[h] - edge;
+
+            double poss = expPoss + rnd.nextGaussian() * 3;
+            int homeScore = (int) Math.round((expEffH + rnd.nextGaussian() * 9) * poss / 100);
+            int awayScore = (int) Math.round((expEffA + rnd.nextGaussian() * 9) * poss / 100);
+            int periods = 2;
+            while (homeScore == awayScore) {           // overtime
+                homeScore += 4 + rnd.nextInt(9);
+                awayScore += 4 + rnd.nextInt(9);
+                periods++;
+            }
+
+            LocalDateTime tipoff = p.date().atTime(12 + rnd.nextInt(10), rnd.nextBoolean() ? 0 : 30);
+            gameRows.add(new Object[]{gameIds[g], teamIds[h], teamIds[a], Timestamp.valueOf(tipoff),
+                    homeScore, awayScore, "FINAL", p.neutral(), seasonId,
+                    "syn" + year + "-" + (g + 1), Date.valueOf(p.date()), periods});
+
+            statRows.add(boxScore(statIds[2 * g], gameIds[g], teamIds[h], "home", homeScore, poss, rnd, scraped));
+            statRows.add(boxScore(statIds[2 * g + 1], gameIds[g], teamIds[a], "away", awayScore, poss, rnd, scraped));
+
+            double expMargin = (expEffH - expEffA) * expPoss / 100;
+            double expTotal = (expEffH + expEffA) * expPoss / 100;
+            double spread = halfPoint(-expMargin + rnd.nextGaussian() * 1.5);
+            double total = halfPoint(expTotal + rnd.nextGaussian() * 3);
+            double homeProb = 1 / (1 + Math.exp(-0.16 * -spread));
+            oddsRows.add(new Object[]{oddsIds[g], gameIds[g], spread, total,
+                    moneyline(homeProb), moneyline(1 - homeProb),
+                    halfPoint(spread + rnd.nextGaussian()), halfPoint(total + rnd.nextGaussian() * 1.5),
+                    scraped, "synthetic"});
+        }
+
+        batch("INSERT INTO games (id, home_team_id, away_team_id, game_date, home_score, away_score, status, "
+                + "neutral_site, season_id, espn_id, scrape_date, periods) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                gameRows);
+        batch("INSERT INTO team_game_stats (id, game_id, team_id, home_away, fg_made, fg_attempted, fg3_made, "
+                + "fg3_attempted, ft_made, ft_attempted, offensive_reb, defensive_reb, total_reb, assists, steals, "
+                + "blocks, turnovers, fouls, scrape_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                statRows);
+        batch("INSERT INTO betting_odds (id, game_id, spread, over_under, home_moneyline, away_moneyline, "
+                + "opening_spread, opening_over_under, last_updated, source) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                oddsRows);
+        return new SeasonCounts(gameRows.size(), statRows.size(), oddsRows.size());
+    }
+
+    /** A box score whose made shots add up to {@code points} over roughly {@code poss} possessions. */
+    private static Object[] boxScore(long id, long gameId, long teamId, String side, int points,
+                                     double poss, Random rnd, Timestamp scraped) {
+        int fta = Math.max(4, (int) Math.round(poss * (0.30 + rnd.nextGaussian() * 0.06)));
+        int ftm = Math.min(fta, (int) Math.round(fta * (0.72 + rnd.nextGaussian() * 0.06)));
+        int fg3a = Math.max(8, (int) Math.round(poss * (0.34 + rnd.nextGaussian() * 0.05)));
+        int fg3m = Math.min(fg3a, Math.max(0, (int) Math.round(fg3a * (0.34 + rnd.nextGaussian() * 0.07))));
+        int rest = points - ftm - 3 * fg3m;
+        while (rest < 0 || rest % 2 != 0) {           // keep 2·fg2m + 3·fg3m + ftm = points
+            if (rest < 0 && fg3m > 0) fg3m--;
+            else if (ftm > 0) ftm--;
+            else fg3m--;
+            rest = points - ftm - 3 * fg3m;
+        }
+        int fg2m = rest / 2;
+        int fg2a = fg2m + Math.max(1, (int) Math.round(fg2m * (0.95 + rnd.nextGaussian() * 0.1)));
+        int fgm = fg2m + fg3m;
+        int fga = fg2a + fg3a;
+        int tov = Math.max(3, (int) Math.round(poss * (0.17 + rnd.nextGaussian() * 0.03)));
+        int orb = Math.max(0, (int) Math.round((fga - fgm) * (0.29 + rnd.nextGaussian() * 0.05)));
+        int drb = Math.max(10, 24 + (int) Math.round(rnd.nextGaussian() * 4));
+        return new Object[]{id, gameId, teamId, side, fgm, fga, fg3m, fg3a, ftm, fta, orb, drb, orb + drb,
+                Math.max(0, (int) Math.round(fgm * (0.53 + rnd.nextGaussian() * 0.08))),
+                Math.max(0, 6 + (int) Math.round(rnd.nextGaussian() * 2.5)),
+                Math.max(0, 3 + (int) Math.round(rnd.nextGaussian() * 2)),
+                tov, Math.max(5, 17 + (int) Math.round(rnd.nextGaussian() * 3)), scraped};
+    }
+
+    private static double halfPoint(double v) {
+        return Math.round(v * 2) / 2.0;
+    }
+
+    private static int moneyline(double prob) {
+        double p = Math.min(0.995, Math.max(0.005, prob));
+        return p >= 0.5 ? (int) -Math.round(100 * p / (1 - p)) : (int) Math.round(100 * (1 - p) / p);
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int i = 0; i < rows.size(); i += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(i, Math.min(rows.size(), i + BATCH_SIZE)));
+        }
+    }
+
+    /** Draws {@code n} ids from the table's own sequence. */
+    private long[] reserveIds(String table, int n) {
+        if (n == 0) return new long[0];
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT nextval(pg_get_serial_sequence(?, 'id')) FROM generate_series(1, ?)",
+                Long.class, table, n);
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+}
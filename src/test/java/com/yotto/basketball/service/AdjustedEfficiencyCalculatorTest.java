@@ -0,0 +1,195 @@
+package com.yotto.basketball.service;
+
+import com.yotto.basketball.entity.Game;
+import com.yotto.basketball.entity.Team;
+import com.yotto.basketball.entity.TeamGameStats;
+import com.yotto.basketball.service.DailyStatCalculator.TeamStatValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Pure unit test — no Spring, no DB. Every box score has 70 possessions
+ * (60 FGA − 0 ORB + 10 TO + 0 FTA), so a score of s is 100·s/70 per 100.
+ */
+class AdjustedEfficiencyCalculatorTest {
+
+    private static final LocalDate D1 = LocalDate.of(2025, 1, 10);
+    private static final double POSS = 70;
+
+    private AdjustedEfficiencyCalculator calculator;
+    private final Map<Long, Team> teams = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        calculator = new AdjustedEfficiencyCalculator();
+        calculator.begin(new SeasonGameData(null, List.of(), Map.of(), Map.of()));
+    }
+
+    @Test
+    void weakScheduleIsDiscounted() {
+        // A scores 80 (114 per 100) on three weak teams, B 74 (106) on three strong
+        // ones; the groups meet, and the strong teams win those games 84–56
+        long a = 1, b = 2;
+        long[] weak = {11, 12, 13}, strong = {21, 22, 23};
+        for (long w : weak) play(a, w, 80, 70, true);
+        for (long s : strong) play(b, s, 74, 70, true);
+        for (long w : weak) {
+            for (long s : strong) {
+                play(w, s, 56, 84, true);
+            }
+        }
+
+        Map<Long, Map<String, Double>> stats = statsByTeam(D1);
+
+        assertThat(stats.get(b).get("adj_off_efficiency")).isGreaterThan(stats.get(a).get("adj_off_efficiency"));
+        assertThat(stats.get(b).get("adj_efficiency_margin"))
+                .isGreaterThan(stats.get(a).get("adj_efficiency_margin"));
+        assertThat(stats.get(21L).get("adj_def_efficiency")).isLessThan(stats.get(11L).get("adj_def_efficiency"));
+    }
+
+    @Test
+    void marginIsOffenseMinusDefense_andGamesPlayedCounted() {
+        play(1, 2, 80, 70, false);
+        play(2, 3, 75, 72, true);
+
+        List<TeamStatValue> values = calculator.snapshot(D1);
+        Map<Long, Map<String, Double>> stats = byTeam(values);
+
+        for (Map<String, Double> s : stats.values()) {
+            assertThat(s.get("adj_efficiency_margin"))
+                    .isCloseTo(s.get("adj_off_efficiency") - s.get("adj_def_efficiency"), within(1e-9));
+        }
+        assertThat(values).filteredOn(v -> v.teamId() == 2L).allMatch(v -> v.gamesPlayed() == 2);
+        assertThat(values).filteredOn(v -> v.teamId() == 1L).allMatch(v -> v.gamesPlayed() == 1);
+    }
+
+    @Test
+    void evenMatchupsHomeAndAway_recoverTheHomeEdge() {
+        // Every team scores 77 (110 per 100) at home and 63 (90) on the road: no team
+        // is better, and the home edge is 10 per 100 on each side
+        for (long h = 1; h <= 4; h++) {
+            for (long v = 1; v <= 4; v++) {
+                if (h != v) play(h, v, 77, 63, false);
+            }
+        }
+
+        Map<Long, Map<String, Double>> stats = statsByTeam(D1);
+
+        assertThat(calculator.homeEdge()).isCloseTo(10.0, within(1e-2));
+        for (Map<String, Double> s : stats.values()) {
+            assertThat(s.get("adj_off_efficiency")).isCloseTo(100.0, within(1e-2));
+            assertThat(s.get("adj_def_efficiency")).isCloseTo(100.0, within(1e-2));
+            assertThat(s.get("adj_tempo")).isCloseTo(POSS, within(1e-2));
+        }
+    }
+
+    @Test
+    void warmStartedDatesMatchAColdSolveInAFewSweeps() {
+        Random random = new Random(7);
+        int teamCount = 60;
+        double[] o = new double[teamCount + 1], d = new double[teamCount + 1];
+        for (int t = 1; t <= teamCount; t++) {
+            o[t] = random.nextGaussian() * 6;
+            d[t] = random.nextGaussian() * 6;
+        }
+        List<double[]> season = new ArrayList<>();
+        LocalDate date = D1;
+        for (int day = 0; day < 40; day++) {
+            date = D1.plusDays(day);
+            for (int g = 0; g < 15; g++) {
+                int h = 1 + random.nextInt(teamCount), v = 1 + (h + random.nextInt(teamCount - 1)) % teamCount;
+                double homePts = (100 + o[h] + d[v] + 1.5 + random.nextGaussian() * 8) * POSS / 100;
+                double awayPts = (100 + o[v] + d[h] - 1.5 + random.nextGaussian() * 8) * POSS / 100;
+                play(h, v, homePts, awayPts, false);
+                season.add(new double[]{h, v, homePts, awayPts});
+            }
+            if (day < 39) calculator.snapshot(date);
+        }
+        Map<Long, Map<String, Double>> warm = statsByTeam(date);
+        int warmSweeps = calculator.lastSweeps();
+
+        calculator.begin(new SeasonGameData(null, List.of(), Map.of(), Map.of()));
+        for (double[] g : season) play((long) g[0], (long) g[1], g[2], g[3], false);
+        Map<Long, Map<String, Double>> cold = statsByTeam(date);
+
+        assertThat(warmSweeps).isLessThan(calculator.lastSweeps()).isLessThan(15);
+        for (long t : cold.keySet()) {
+            assertThat(warm.get(t).get("adj_efficiency_margin"))
+                    .isCloseTo(cold.get(t).get("adj_efficiency_margin"), within(1e-4));
+        }
+    }
+
+    @Test
+    void gameWithoutUsableBoxScoreIsSkipped() {
+        Game game = mkGame(1, 2, 80, 70, false);
+        calculator.onGame(game, box(), null);
+
+        assertThat(calculator.snapshot(D1)).isEmpty();
+    }
+
+    // ── Fixtures ──────────────────────────────────────────────────────────────
+
+    /** Plays a game with scores in points (fractional scores round). */
+    private void play(long home, long away, double homePts, double awayPts, boolean neutral) {
+        calculator.onGame(mkGame(home, away, (int) Math.round(homePts), (int) Math.round(awayPts), neutral),
+                box(), box());
+    }
+
+    private Game mkGame(long home, long away, int homeScore, int awayScore, boolean neutral) {
+        Game g = new Game();
+        g.setHomeTeam(team(home));
+        g.setAwayTeam(team(away));
+        g.setHomeScore(homeScore);
+        g.setAwayScore(awayScore);
+        g.setNeutralSite(neutral);
+        return g;
+    }
+
+    private Team team(long id) {
+        return teams.computeIfAbsent(id, k -> {
+            Team t = new Team();
+            t.setId(k);
+            return t;
+        });
+    }
+
+    private static TeamGameStats box() {
+        TeamGameStats s = new TeamGameStats();
+        s.setFgMade(25);
+        s.setFgAttempted(60);
+        s.setFg3Made(6);
+        s.setFg3Attempted(20);
+        s.setFtMade(0);
+        s.setFtAttempted(0);
+        s.setOffensiveReb(0);
+        s.setDefensiveReb(25);
+        s.setTurnovers(10);
+        s.setAssists(12);
+        s.setSteals(5);
+        s.setBlocks(3);
+        s.setFouls(15);
+        return s;
+    }
+
+    private Map<Long, Map<String, Double>> statsByTeam(LocalDate date) {
+        return byTeam(calculator.snapshot(date));
+    }
+
+    private static Map<Long, Map<String, Double>> byTeam(List<TeamStatValue> values) {
+        Map<Long, Map<String, Double>> result = new HashMap<>();
+        for (TeamStatValue v : values) {
+            result.computeIfAbsent(v.teamId(), k -> new HashMap<>()).put(v.statName(), v.value());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,106 @@
+package com.yotto.basketball.service;
+
+import com.yotto.basketball.entity.Game;
+import com.yotto.basketball.entity.Season;
+import com.yotto.basketball.entity.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.yotto.basketball.service.SimulationFixtures.game;
+import static com.yotto.basketball.service.SimulationFixtures.team;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * The grid backtest with a mocked loader and an inline executor: one row per setting,
+ * production settings flagged, seasons without games skipped, failures recorded.
+ */
+@ExtendWith(MockitoExtension.class)
+class BacktestServiceTest {
+
+    @Mock private SeasonGameDataLoader loader;
+
+    private BacktestService service;
+
+    @BeforeEach
+    void setUp() {
+        Executor inline = Runnable::run;
+        service = new BacktestService(loader, inline, ForkJoinPool.commonPool());
+
+        Season season = SimulationFixtures.season();
+        Team a = team(1, "A"), b = team(2, "B"), c = team(3, "C");
+        LocalDateTime day = LocalDateTime.of(2026, 1, 3, 19, 0);
+        List<Game> finals = List.of(
+                game(1, season, a, b, 70, 60, day),
+                game(2, season, b, c, 66, 61, day),
+                game(3, season, c, a, 58, 72, day.plusDays(2)),
+                game(4, season, a, b, 64, 69, day.plusDays(4)),
+                game(5, season, c, b, 75, 70, day.plusDays(4)));
+        when(loader.load(2026)).thenReturn(Optional.of(new SeasonGameData(season, finals, Map.of(), Map.of())));
+    }
+
+    @Test
+    void start_runsEveryGridSettingAndFlagsProduction() {
+        when(loader.load(2025)).thenReturn(Optional.empty());
+        assertThat(service.start(List.of(2025, 2026))).isTrue();
+
+        BacktestReport report = service.latest();
+        assertThat(service.isRunning()).isFalse();
+        assertThat(service.lastError()).isNull();
+        assertThat(report.years()).containsExactly(2026);
+        assertThat(report.rows()).hasSize(5 + 4 * 4);
+        assertThat(report.rows()).allSatisfy(row -> assertThat(row.games()).isEqualTo(3));
+
+        List<BacktestReport.Row> current = report.rows().stream().filter(BacktestReport.Row::current).toList();
+        assertThat(current).extracting(BacktestReport.Row::modelType).containsExactly(
+                MasseyRatingService.MODEL_TYPE, BradleyTerryRatingService.MODEL_TYPE, BradleyTerryRatingService.MODEL_TYPE);
+        assertThat(current).extracting(BacktestReport.Row::marginWeight).containsExactly(null, 0.0, 1.0);
+
+        BacktestReport.Row massey = report.rows().get(0);
+        assertThat(massey.mae()).isNotNull();
+        assertThat(massey.rmse()).isGreaterThanOrEqualTo(massey.mae());
+        assertThat(massey.brier()).isNull();
+        BacktestReport.Row bt = report.rows().get(5);
+        assertThat(bt.brier()).isBetween(0.0, 1.0);
+        assertThat(bt.mae()).isNull();
+    }
+
+    @Test
+    void start_recordsFailureAndKeepsPreviousReport() {
+        service.start(List.of(2026));
+        BacktestReport previous = service.latest();
+        when(loader.load(2026)).thenThrow(new IllegalStateException("database unavailable"));
+
+        assertThat(service.start(List.of(2026))).isTrue();
+
+        assertThat(service.isRunning()).isFalse();
+        assertThat(service.lastError()).isEqualTo("database unavailable");
+        assertThat(service.latest()).isSameAs(previous);
+    }
+
+    @Test
+    void start_refusedWhileARunIsQueued() {
+        List<Runnable> queued = new ArrayList<>();
+        service = new BacktestService(loader, queued::add, ForkJoinPool.commonPool());
+
+        assertThat(service.start(List.of(2026))).isTrue();
+        assertThat(service.start(List.of(2026))).isFalse();
+        assertThat(service.isRunning()).isTrue();
+
+        queued.get(0).run();
+        assertThat(service.isRunning()).isFalse();
+        assertThat(service.latest()).isNotNull();
+        assertThat(queued).hasSize(1);
+    }
+}
@@ -92,9 +92,10 @@ class BoxScoreStatCalculatorTest {
 
     @Test
     void registryDefinesAllStats() {
-        assertThat(calculator.definitions()).hasSize(26);
+        assertThat(calculator.definitions()).hasSize(26 * 3);
         assertThat(calculator.definitions())
                 .extracting(DailyStatCalculator.StatMeta::name)
+                .filteredOn(name -> BoxScoreStatCalculator.windowOf(name) == 0)
                 .containsExactlyInAnyOrder("pace", "off_efficiency", "def_efficiency",
                         "efg_pct", "opp_efg_pct", "tov_rate", "opp_tov_rate",
                         "orb_pct", "drb_pct", "ft_rate", "opp_ft_rate",
@@ -102,6 +103,11 @@ class BoxScoreStatCalculatorTest {
                         "trb_pct", "rpg", "orpg", "drpg",
                         "apg", "ast_to_ratio", "assisted_fg_pct",
                         "stl_rate", "blk_pct", "pf_per_game");
+        assertThat(calculator.definitions())
+                .extracting(DailyStatCalculator.StatMeta::name)
+                .filteredOn(name -> BoxScoreStatCalculator.windowOf(name) == 5)
+                .hasSize(26)
+                .contains("pace_l5", "fg_pct_l5", "pf_per_game_l5");
     }
 
     @Test
@@ -217,4 +223,47 @@ class BoxScoreStatCalculatorTest {
                 .filter(v -> v.teamId() == 1L)
                 .allMatch(v -> v.gamesPlayed() == 1)).isTrue();
     }
+
+    // ── Rolling windows ───────────────────────────────────────────────────────
+
+    @Test
+    void rollingVariants_appearOnceTheWindowIsFull() {
+        for (int g = 0; g < 4; g++) calculator.onGame(mkGame(teamA, teamB, 80, 70), boxA(), boxB());
+        assertThat(statsFor(1L, D1)).doesNotContainKey("off_efficiency_l5");
+
+        calculator.onGame(mkGame(teamA, teamB, 80, 70), boxA(), boxB());
+        Map<String, Double> a = statsFor(1L, D1);
+
+        assertThat(a).containsKey("off_efficiency_l5").doesNotContainKey("off_efficiency_l10")
+                .containsKey("fg_pct_l5").doesNotContainKey("fg_pct_l10");
+        assertThat(a.get("off_efficiency_l5")).isCloseTo(a.get("off_efficiency"), within(TOL));
+        assertThat(calculator.snapshot(D1).stream()
+                .filter(v -> v.teamId() == 1L && v.statName().equals("pace_l5"))
+                .allMatch(v -> v.gamesPlayed() == 5)).isTrue();
+    }
+
+    @Test
+    void rollingVariants_evictTheOldestGame() {
+        // Six 80-point games, then five 60-point games: the l5 window holds only the
+        // 60s, the l10 window five of each
+        for (int g = 0; g < 6; g++) calculator.onGame(mkGame(teamA, teamB, 80, 70), boxA(), boxB());
+        for (int g = 0; g < 5; g++) calculator.onGame(mkGame(teamA, teamB, 60, 70), boxA(), boxB());
+
+        Map<String, Double> a = statsFor(1L, D2);
+
+        assertThat(a.get("off_efficiency_l5")).isCloseTo(100.0 * 60 / 71.5, within(TOL));
+        assertThat(a.get("off_efficiency_l10")).isCloseTo(100.0 * (5 * 80 + 5 * 60) / (10 * 71.5), within(TOL));
+        assertThat(a.get("off_efficiency")).isCloseTo(100.0 * (6 * 80 + 5 * 60) / (11 * 71.5), within(TOL));
+        // Box-score ratios are unchanged by which identical boxes sit in the window
+        assertThat(a.get("efg_pct_l5")).isCloseTo((30 + 0.5 * 5) / 60.0, within(TOL));
+    }
+
+    @Test
+    void windowedNamesRoundTrip() {
+        assertThat(BoxScoreStatCalculator.windowedName("efg_pct", 10)).isEqualTo("efg_pct_l10");
+        assertThat(BoxScoreStatCalculator.windowOf("efg_pct_l10")).isEqualTo(10);
+        assertThat(BoxScoreStatCalculator.windowOf("efg_pct")).isZero();
+        assertThat(BoxScoreStatCalculator.baseName("efg_pct_l5")).isEqualTo("efg_pct");
+        assertThat(BoxScoreStatCalculator.baseName("pace")).isEqualTo("pace");
+    }
 }
@@ -138,6 +138,59 @@ class BracketServiceTest {
         assertThat(slot.metaLabel()).isEqualTo("Mar 19 · E8 -3.5");
     }
 
+    @Test
+    void fieldLaysOutEntriesAndDecidedResults() {
+        TournamentField field = BracketService.field(chalkTournament()).orElseThrow();
+
+        // semifinal pairing puts East and South in the top half
+        assertThat(field.regions()).containsExactly("East", "South", "West", "Midwest");
+        assertThat(field.teams()).hasSize(65);
+
+        // block 0, entry 1 is the East 16 line: the First Four pair
+        int[] eastSixteen = field.slots()[1];
+        assertThat(eastSixteen).hasSize(2);
+        assertThat(List.of(field.teams().get(eastSixteen[0]).getId(), field.teams().get(eastSixteen[1]).getId()))
+                .containsExactlyInAnyOrder(team("East", 16).getId(), 99016L);
+        assertThat(field.slots()[2 * 16 + 15]).hasSize(1);
+        assertThat(field.seeds()[field.slots()[2 * 16 + 15][0]]).isEqualTo(15);
+        assertThat(field.regionOf()[field.slots()[2 * 16 + 15][0]]).isEqualTo(2);
+
+        assertThat(field.reached()[indexOf(field, team("East", 1))]).isEqualTo(TournamentSimulator.CHAMPION);
+        assertThat(field.reached()[indexOf(field, team("West", 1))]).isEqualTo(6);
+        assertThat(field.reached()[indexOf(field, team("South", 2))]).isEqualTo(4);
+        assertThat(field.reached()[indexOf(field, team("East", 16))]).isEqualTo(1);
+        assertThat(field.reached()[indexOf(field, namedTeam("x", "x", 99016L))]).isZero();
+        assertThat(TournamentSimulator.conflict(field.slots(), field.reached())).isNull();
+    }
+
+    @Test
+    void fieldBeforeTipOffHasNoDecidedResults() {
+        List<Game> games = new ArrayList<>();
+        for (String region : REGIONS) {
+            for (int[] pair : R1_PAIRS) games.add(scheduledGame(region, "1st Round", pair[0], pair[1], null));
+        }
+
+        TournamentField field = BracketService.field(games).orElseThrow();
+
+        assertThat(field.regions()).containsExactly("East", "West", "South", "Midwest");
+        assertThat(field.reached()).containsOnly(1);
+        for (int[] slot : field.slots()) assertThat(slot).hasSize(1);
+    }
+
+    @Test
+    void fieldIsEmptyWithoutRegions() {
+        Game semi = finalGameBetween(team("East", 1), team("West", 1), 1, 1, null, "Final Four");
+
+        assertThat(BracketService.field(List.of(semi))).isEmpty();
+    }
+
+    private static int indexOf(TournamentField field, Team team) {
+        for (int t = 0; t < field.teams().size(); t++) {
+            if (field.teams().get(t).getId().equals(team.getId())) return t;
+        }
+        throw new AssertionError("not in field: " + team.getName());
+    }
+
     // ── fixtures ────────────────────────────────────────────────────────────
 
     /** Full 67-game tournament where the better seed always wins. */
@@ -0,0 +1,79 @@
+package com.yotto.basketball.service;
+
+import com.yotto.basketball.service.ClusterInvalidationBus.Channel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterInvalidationBusTest {
+
+    private static final String SELF = ManagementFactory.getRuntimeMXBean().getName();
+
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private ClusterInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new ClusterInvalidationBus(jdbcTemplate, eventPublisher);
+    }
+
+    @Test
+    void publish_notifiesWithNodeIdAndRaisesLocalEvent() {
+        bus.publish(Channel.CALC_COMPLETED, "2025,1736920800000");
+
+        verify(jdbcTemplate).queryForList("SELECT pg_notify(?, ?)", "calc_completed", SELF + "|2025,1736920800000");
+        verify(eventPublisher).publishEvent(new ClusterInvalidationEvent(Channel.CALC_COMPLETED, "2025,1736920800000", false));
+    }
+
+    @Test
+    void receive_fromOtherNode_raisesRemoteEventWithoutNodeId() {
+        bus.receive("ml_plan_changed", "4242@web-2|reload");
+
+        verify(eventPublisher).publishEvent(new ClusterInvalidationEvent(Channel.ML_PLAN_CHANGED, "reload", true));
+    }
+
+    @Test
+    void receive_ownNotification_isDropped() {
+        bus.receive("calc_completed", SELF + "|2025,1");
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void receive_manualNotifyWithoutPayload_isRemote() {
+        bus.receive("reference_data_changed", "");
+
+        verify(eventPublisher).publishEvent(new ClusterInvalidationEvent(Channel.REFERENCE_DATA_CHANGED, "", true));
+    }
+
+    @Test
+    void receive_unknownChannel_isIgnored() {
+        bus.receive("something_else", "x");
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void resync_raisesResyncEvent() {
+        bus.resync();
+
+        ArgumentCaptor<Object> event = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue()).isInstanceOf(ClusterResyncEvent.class);
+    }
+}
@@ -10,6 +10,8 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -90,6 +92,36 @@ class ConferenceNamingServiceTest {
         assertThat(service.resolve(sec, 2020).name()).isEqualTo("Southeastern Conference");
     }
 
+    // ── caching ──
+
+    @Test
+    void load_cachesSnapshotUntilReferenceDataChanges() {
+        when(repository.findAll())
+                .thenReturn(List.of())
+                .thenReturn(List.of(era(uac, "Western Athletic Conference", "WAC", null, 2026)));
+
+        assertThat(service.resolve(uac, 2025).name()).isEqualTo("United Athletic Conference");
+        assertThat(service.resolve(uac, 2025).name()).isEqualTo("United Athletic Conference");
+        verify(repository, times(1)).findAll();
+
+        service.onClusterInvalidation(new ClusterInvalidationEvent(
+                ClusterInvalidationBus.Channel.REFERENCE_DATA_CHANGED, "", true));
+
+        assertThat(service.resolve(uac, 2025).name()).isEqualTo("Western Athletic Conference");
+    }
+
+    @Test
+    void unrelatedChannel_keepsCache() {
+        when(repository.findAll()).thenReturn(List.of());
+        service.load();
+
+        service.onClusterInvalidation(new ClusterInvalidationEvent(
+                ClusterInvalidationBus.Channel.CALC_COMPLETED, "2025,1", true));
+        service.load();
+
+        verify(repository, times(1)).findAll();
+    }
+
     // ── helpers ──
 
     private static Conference conf(Long id, String name, String abbr, String logo) {
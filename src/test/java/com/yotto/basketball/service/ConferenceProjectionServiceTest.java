@@ -0,0 +1,193 @@
+package com.yotto.basketball.service;
+
+import com.yotto.basketball.entity.ConferenceMembership;
+import com.yotto.basketball.entity.Game;
+import com.yotto.basketball.entity.Season;
+import com.yotto.basketball.entity.Team;
+import com.yotto.basketball.entity.TeamPowerRatingSnapshot;
+import com.yotto.basketball.repository.ConferenceMembershipRepository;
+import com.yotto.basketball.repository.GameRepository;
+import com.yotto.basketball.repository.PowerModelParamSnapshotRepository;
+import com.yotto.basketball.repository.SeasonRepository;
+import com.yotto.basketball.repository.TeamPowerRatingSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.yotto.basketball.service.SimulationFixtures.team;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Conference projections over a three-team conference with mocked repositories:
+ * current and projected records, games outside the conference, incremental catch-up
+ * when a game goes FINAL, rebuilds on schedule changes, validation and eviction.
+ */
+@ExtendWith(MockitoExtension.class)
+class ConferenceProjectionServiceTest {
+
+    private static final LocalDate SNAP = LocalDate.of(2026, 2, 1);
+    private static final long CONF = 9L;
+
+    @Mock private SeasonRepository seasonRepository;
+    @Mock private ConferenceMembershipRepository membershipRepository;
+    @Mock private GameRepository gameRepository;
+    @Mock private TeamPowerRatingSnapshotRepository ratingRepository;
+    @Mock private PowerModelParamSnapshotRepository paramRepository;
+
+    private ConferenceProjectionService service;
+    private final Season season = SimulationFixtures.season();
+    private final List<Game> games = new ArrayList<>();
+    private final Team alpha = team(1, "Alpha"), beta = team(2, "Beta"), gamma = team(3, "Gamma"), outsider = team(4, "Outsider");
+
+    @BeforeEach
+    void setUp() {
+        service = new ConferenceProjectionService(seasonRepository, membershipRepository, gameRepository,
+                ratingRepository, paramRepository, ForkJoinPool.commonPool());
+        ReflectionTestUtils.setField(service, "simulations", 20_000);
+
+        games.add(game(alpha, beta, 80, 70));
+        games.add(game(gamma, alpha, 65, 60));
+        games.add(game(beta, gamma, null, null));
+        games.add(game(beta, alpha, null, null));
+        games.add(game(alpha, outsider, null, null));
+        Game tournament = game(gamma, beta, null, null);
+        tournament.setTournamentType(Game.TournamentType.CONFERENCE_TOURNAMENT);
+        games.add(tournament);
+
+        when(seasonRepository.findByYear(2026)).thenReturn(Optional.of(season));
+        when(membershipRepository.findByConferenceIdAndSeasonIdWithTeam(CONF, 5L))
+                .thenReturn(List.of(member(gamma), member(alpha), member(beta)));
+    }
+
+    /** The Massey snapshot's reads: its date, the conference's games, ratings and HCA. */
+    private void stubMassey() {
+        when(ratingRepository.findLatestSnapshotDate(5L, MasseyRatingService.MODEL_TYPE)).thenReturn(Optional.of(SNAP));
+        when(gameRepository.findBySeasonAndTeamIds(anyLong(), any())).thenAnswer(inv -> new ArrayList<>(games));
+        when(ratingRepository.findBySeasonModelAndDate(5L, MasseyRatingService.MODEL_TYPE, SNAP)).thenReturn(List.of(
+                rating(alpha, 6.0), rating(beta, -2.0), rating(gamma, 0.0)));
+        when(paramRepository.findLatestParamBefore(5L, MasseyRatingService.MODEL_TYPE, "hca", SNAP.plusDays(1)))
+                .thenReturn(Optional.empty());
+    }
+
+    @Test
+    void projectsRecordsFromRemainingConferenceGames() {
+        stubMassey();
+        ConferenceProjection projection = service.project(CONF, 2026, "massey").orElseThrow();
+
+        assertThat(projection.snapshotDate()).isEqualTo(SNAP);
+        assertThat(projection.remainingGames()).isEqualTo(2);
+        assertThat(projection.teams()).hasSize(3);
+        ConferenceProjection.TeamProjection a = byName(projection, "Alpha");
+        assertThat(a.conferenceWins()).isEqualTo(1);
+        assertThat(a.conferenceLosses()).isEqualTo(1);
+        // Alpha's one remaining game is at Beta, 8 points better with no home edge
+        double p = TournamentSimulator.normalCdf(8.0 / 11.0);
+        assertThat(a.winDistribution()[2]).isCloseTo(p, within(0.02));
+        assertThat(a.projectedWins() + a.projectedLosses()).isCloseTo(3.0, within(1e-9));
+        double seeds = projection.teams().stream().mapToDouble(ConferenceProjection.TeamProjection::topSeedOdds).sum();
+        assertThat(seeds).isCloseTo(1.0, within(1e-9));
+        double titles = projection.teams().stream().mapToDouble(ConferenceProjection.TeamProjection::titleOdds).sum();
+        assertThat(titles).isGreaterThanOrEqualTo(1.0 - 1e-9);
+        assertThat(projection.teams()).isSortedAccordingTo(
+                (x, y) -> Double.compare(x.expectedSeed(), y.expectedSeed()));
+    }
+
+    @Test
+    void finishedGameIsAppliedWithoutResimulating() {
+        stubMassey();
+        ConferenceProjection before = service.project(CONF, 2026, "massey").orElseThrow();
+        assertThat(byName(before, "Beta").titleOdds()).isGreaterThan(0);
+
+        Game upset = games.get(3);
+        upset.setStatus(Game.GameStatus.FINAL);
+        upset.setHomeScore(70);
+        upset.setAwayScore(72);
+        ConferenceProjection after = service.project(CONF, 2026, "massey").orElseThrow();
+
+        assertThat(after.remainingGames()).isEqualTo(1);
+        ConferenceProjection.TeamProjection a = byName(after, "Alpha");
+        assertThat(a.conferenceWins()).isEqualTo(2);
+        assertThat(a.winDistribution()[2]).isEqualTo(1.0);
+        assertThat(byName(after, "Beta").titleOdds()).isZero();
+        verify(ratingRepository, times(1)).findBySeasonModelAndDate(anyLong(), anyString(), any());
+    }
+
+    @Test
+    void postponedGameRebuildsTheRun() {
+        stubMassey();
+        service.project(CONF, 2026, "massey").orElseThrow();
+
+        games.get(2).setStatus(Game.GameStatus.POSTPONED);
+        ConferenceProjection after = service.project(CONF, 2026, "massey").orElseThrow();
+
+        assertThat(after.remainingGames()).isEqualTo(1);
+        assertThat(byName(after, "Gamma").projectedWins()).isCloseTo(1.0, within(1e-9));
+        assertThat(byName(after, "Gamma").projectedLosses()).isCloseTo(0.0, within(1e-9));
+        verify(ratingRepository, times(2)).findBySeasonModelAndDate(anyLong(), anyString(), any());
+    }
+
+    @Test
+    void unknownModelIsRejectedAndMissingDataYieldsNothing() {
+        when(seasonRepository.findByYear(2025)).thenReturn(Optional.empty());
+        when(membershipRepository.findByConferenceIdAndSeasonIdWithTeam(CONF + 1, 5L)).thenReturn(List.of());
+        when(ratingRepository.findLatestSnapshotDate(5L, BradleyTerryRatingService.MODEL_TYPE))
+                .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.project(CONF, 2026, "elo"))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Unknown model");
+        assertThat(service.project(CONF, 2025, "massey")).isEmpty();
+        assertThat(service.project(CONF + 1, 2026, "massey")).isEmpty();
+        assertThat(service.project(CONF, 2026, "bradley-terry")).isEmpty();
+    }
+
+    @Test
+    void calcCompletedEvictsTheSeason() {
+        stubMassey();
+        service.project(CONF, 2026, "massey").orElseThrow();
+
+        service.onClusterInvalidation(new ClusterInvalidationEvent(
+                ClusterInvalidationBus.Channel.CALC_COMPLETED, "2025,1", true));
+        service.project(CONF, 2026, "massey").orElseThrow();
+        verify(ratingRepository, times(1)).findBySeasonModelAndDate(anyLong(), anyString(), any());
+
+        service.onClusterInvalidation(new ClusterInvalidationEvent(
+                ClusterInvalidationBus.Channel.CALC_COMPLETED, "2026,2", true));
+        service.project(CONF, 2026, "massey").orElseThrow();
+        verify(ratingRepository, times(2)).findBySeasonModelAndDate(anyLong(), anyString(), any());
+    }
+
+    private static ConferenceProjection.TeamProjection byName(ConferenceProjection projection, String name) {
+        return projection.teams().stream().filter(t -> t.teamName().equals(name)).findFirst().orElseThrow();
+    }
+
+    private Game game(Team home, Team away, Integer homeScore, Integer awayScore) {
+        return SimulationFixtures.game(games.size() + 1, season, home, away, homeScore, awayScore,
+                LocalDateTime.of(2026, 1, 10 + games.size(), 19, 0));
+    }
+
+    private static ConferenceMembership member(Team team) {
+        return SimulationFixtures.member(team, null);
+    }
+
+    private TeamPowerRatingSnapshot rating(Team team, double value) {
+        return SimulationFixtures.rating(team, season, MasseyRatingService.MODEL_TYPE, SNAP, value);
+    }
+}
@@ -0,0 +1,145 @@
+package com.yotto.basketball.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Pure unit test for the conference season engine: simulated records against closed
+ * form, the tie-break chain on decided seasons, and incremental results against a run
+ * that knew them up front.
+ */
+class ConferenceSeasonSimulatorTest {
+
+    private static final int SIMS = 200_000;
+    /** Four standard errors of a proportion near 0.5 at {@link #SIMS}. */
+    private static final double SAMPLING = 4 * 0.5 / Math.sqrt(SIMS);
+
+    @Test
+    void homeAndAwaySeriesMatchesClosedForm() {
+        // team 0 hosts game 0 (p = 0.6), team 1 hosts game 1 (p = 0.55)
+        ConferenceSeasonSimulator sim = new ConferenceSeasonSimulator(new int[2], new int[2], new int[4],
+                new double[2], new int[] {0, 1}, new int[] {1, 0}, new double[] {0.6, 0.55}, SIMS, 7).run();
+
+        double[] wins = sim.winDistribution(0);
+        assertThat(sim.maxWins()).isEqualTo(2);
+        assertThat(wins[2]).isCloseTo(0.6 * 0.45, within(SAMPLING));
+        assertThat(wins[1]).isCloseTo(0.6 * 0.55 + 0.4 * 0.45, within(SAMPLING));
+        assertThat(wins[0]).isCloseTo(0.4 * 0.55, within(SAMPLING));
+        // a split leaves them tied on record and head-to-head; a sweep decides it
+        assertThat(sim.titleOdds(0)).isCloseTo(1 - 0.4 * 0.55, within(SAMPLING));
+        assertThat(sim.placeDistribution(0)[0] + sim.placeDistribution(1)[0]).isCloseTo(1.0, within(1e-12));
+    }
+
+    @Test
+    void headToHeadBreaksATieOnRecord() {
+        // 0 and 1 are both 2-1, 1 beat 0; 0 is rated far higher
+        int[] h2h = new int[9];
+        h2h[1 * 3 + 0] = 1;
+        ConferenceSeasonSimulator sim = new ConferenceSeasonSimulator(new int[] {2, 2, 0}, new int[] {1, 1, 2}, h2h,
+                new double[] {5.0, 0.0, 0.0}, new int[0], new int[0], new double[0], 1_000, 1).run();
+
+        assertThat(sim.placeDistribution(1)[0]).isEqualTo(1.0);
+        assertThat(sim.placeDistribution(0)[1]).isEqualTo(1.0);
+        assertThat(sim.titleOdds(0)).isEqualTo(1.0);
+        assertThat(sim.titleOdds(1)).isEqualTo(1.0);
+        assertThat(sim.titleOdds(2)).isZero();
+    }
+
+    @Test
+    void ratingThenLotsBreakTiesHeadToHeadCannot() {
+        // a three-way 1-1 cycle: head-to-head is even, so the rating decides
+        int[] h2h = new int[9];
+        h2h[0 * 3 + 1] = h2h[1 * 3 + 2] = h2h[2 * 3 + 0] = 1;
+        ConferenceSeasonSimulator rated = new ConferenceSeasonSimulator(new int[] {1, 1, 1}, new int[] {1, 1, 1}, h2h,
+                new double[] {0.1, 0.5, 0.3}, new int[0], new int[0], new double[0], 1_000, 1).run();
+
+        assertThat(rated.placeDistribution(1)[0]).isEqualTo(1.0);
+        assertThat(rated.placeDistribution(2)[1]).isEqualTo(1.0);
+        assertThat(rated.placeDistribution(0)[2]).isEqualTo(1.0);
+
+        ConferenceSeasonSimulator even = new ConferenceSeasonSimulator(new int[] {1, 1, 1}, new int[] {1, 1, 1}, h2h,
+                new double[3], new int[0], new int[0], new double[0], SIMS, 1).run();
+        for (int t = 0; t < 3; t++) {
+            assertThat(even.placeDistribution(t)[0]).isCloseTo(1.0 / 3, within(SAMPLING));
+        }
+    }
+
+    @Test
+    void decidedGameMatchesARunThatKnewTheResult() {
+        int[] home = {0, 1, 2, 0}, away = {1, 2, 0, 2};
+        double[] p = {0.5, 0.7, 0.4, 0.65};
+        ConferenceSeasonSimulator incremental = new ConferenceSeasonSimulator(new int[3], new int[3], new int[9],
+                new double[] {0.2, 0.1, 0.0}, home, away, p, SIMS, 3).run().decide(1, false);
+        assertThat(incremental.decide(1, true)).isSameAs(incremental);
+
+        double[] known = p.clone();
+        known[1] = 0.0;
+        ConferenceSeasonSimulator upFront = new ConferenceSeasonSimulator(new int[3], new int[3], new int[9],
+                new double[] {0.2, 0.1, 0.0}, home, away, known, SIMS, 4).run();
+
+        // the result applied first wins; team 2 won game 1 in every simulation
+        assertThat(incremental.winDistribution(1)[2]).isZero();
+        for (int t = 0; t < 3; t++) {
+            assertThat(incremental.titleOdds(t)).isCloseTo(upFront.titleOdds(t), within(2 * SAMPLING));
+            for (int k = 0; k < 3; k++) {
+                assertThat(incremental.placeDistribution(t)[k])
+                        .isCloseTo(upFront.placeDistribution(t)[k], within(2 * SAMPLING));
+            }
+        }
+    }
+
+    @Test
+    void decidingUnwindsEveryContradictedSimulation() {
+        ConferenceSeasonSimulator sim = new ConferenceSeasonSimulator(new int[2], new int[2], new int[4],
+                new double[2], new int[] {0}, new int[] {1}, new double[] {0.9}, 10_000, 5).run();
+        double[] before = sim.winDistribution(1);
+        ConferenceSeasonSimulator decided = sim.decide(0, false);
+
+        assertThat(decided.winDistribution(1)).containsExactly(0.0, 1.0);
+        assertThat(decided.placeDistribution(1)).containsExactly(1.0, 0.0);
+        assertThat(decided.titleOdds(0)).isZero();
+        // the run it was decided from is untouched, for requests still reading it
+        assertThat(sim.winDistribution(1)).containsExactly(before);
+        assertThat(sim.titleOdds(0)).isGreaterThan(0.8);
+    }
+
+    @Test
+    void manyGamesSpanSeveralWordsPerSimulation() {
+        int games = 150;
+        int[] home = new int[games], away = new int[games];
+        double[] p = new double[games];
+        for (int g = 0; g < games; g++) {
+            home[g] = g % 2;
+            away[g] = 1 - g % 2;
+            p[g] = 0.5;
+        }
+        ConferenceSeasonSimulator sim = new ConferenceSeasonSimulator(new int[2], new int[2], new int[4],
+                new double[2], home, away, p, 20_000, 9).run().decide(130, true);
+
+        double mean = 0, total = 0;
+        double[] wins = sim.winDistribution(0);
+        for (int w = 0; w < wins.length; w++) {
+            mean += w * wins[w];
+            total += wins[w];
+        }
+        assertThat(total).isCloseTo(1.0, within(1e-9));
+        assertThat(mean).isCloseTo(0.5 * 149 + 1, within(0.2));
+    }
+
+    @Test
+    void sameSeedReproducesTheRun() {
+        int[] home = {0, 1, 2}, away = {1, 2, 0};
+        double[] p = {0.5, 0.6, 0.3};
+        ConferenceSeasonSimulator a = new ConferenceSeasonSimulator(new int[3], new int[3], new int[9],
+                new double[3], home, away, p, 5_000, 11).run();
+        ConferenceSeasonSimulator b = new ConferenceSeasonSimulator(new int[3], new int[3], new int[9],
+                new double[3], home, away, p, 5_000, 11).run();
+
+        for (int t = 0; t < 3; t++) {
+            assertThat(a.placeDistribution(t)).containsExactly(b.placeDistribution(t));
+            assertThat(a.winDistribution(t)).containsExactly(b.winDistribution(t));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.yotto.basketball.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * The Elo update and prediction formulas, independent of storage.
+ */
+class EloModelTest {
+
+    @Test
+    void evenNeutralGame_winnerGainsKTimesMultiplierOverTwo() {
+        // E = ½, d = 0 → shift = K · (10 + 3)^0.8 / 7.5 · ½
+        double shift = EloRatingService.homeShift(1500, 1500, 10, true);
+
+        assertThat(shift).isCloseTo(EloRatingService.K * Math.pow(13, 0.8) / 7.5 * 0.5, within(1e-9));
+        assertThat(EloRatingService.homeShift(1500, 1500, -10, true)).isCloseTo(-shift, within(1e-9));
+    }
+
+    @Test
+    void upsetMovesRatingsMoreThanExpectedResult() {
+        double favouriteWins = EloRatingService.homeShift(1700, 1500, 5, true);
+        double underdogWins  = EloRatingService.homeShift(1700, 1500, -5, true);
+
+        assertThat(favouriteWins).isPositive();
+        assertThat(-underdogWins).isGreaterThan(4 * favouriteWins);
+    }
+
+    @Test
+    void largerMarginMovesRatingsMoreAtDiminishingRate() {
+        double by1  = EloRatingService.homeShift(1500, 1500, 1, true);
+        double by10 = EloRatingService.homeShift(1500, 1500, 10, true);
+        double by30 = EloRatingService.homeShift(1500, 1500, 30, true);
+
+        assertThat(by10).isGreaterThan(by1);
+        assertThat(by30).isGreaterThan(by10);
+        assertThat(by30 - by10).isLessThan(2 * (by10 - by1));
+    }
+
+    @Test
+    void homeAdvantageIsExpected_soAHomeWinEarnsLess() {
+        assertThat(EloRatingService.homeShift(1500, 1500, 8, false))
+                .isLessThan(EloRatingService.homeShift(1500, 1500, 8, true));
+        assertThat(EloRatingService.homeWinProbability(1500, 1500, false)).isGreaterThan(0.6);
+        assertThat(EloRatingService.homeWinProbability(1500, 1500, true)).isCloseTo(0.5, within(1e-12));
+    }
+
+    @Test
+    void tieMovesTheFavouriteDown() {
+        assertThat(EloRatingService.homeShift(1600, 1500, 0, true)).isNegative();
+    }
+
+    @Test
+    void spreadIsRatingGapOverEloPerPoint() {
+        assertThat(EloRatingService.spread(1556, 1500, true)).isCloseTo(2.0, within(1e-12));
+        assertThat(EloRatingService.spread(1500, 1500, false))
+                .isCloseTo(EloRatingService.HOME_ADVANTAGE / EloRatingService.ELO_PER_POINT, within(1e-12));
+    }
+
+    @Test
+    void regressionPullsAThirdOfTheWayToTheMean() {
+        assertThat(EloRatingService.regress(1800)).isCloseTo(1700, within(1e-9));
+        assertThat(EloRatingService.regress(1350)).isCloseTo(1400, within(1e-9));
+        assertThat(EloRatingService.regress(EloRatingService.INITIAL_RATING))
+                .isEqualTo(EloRatingService.INITIAL_RATING);
+    }
+}
@@ -0,0 +1,271 @@
+package com.yotto.basketball.service;
+
+import com.yotto.basketball.BaseIntegrationTest;
+import com.yotto.basketball.entity.*;
+import com.yotto.basketball.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class EloRatingServiceTest extends BaseIntegrationTest {
+
+    @Autowired EloRatingService service;
+    @Autowired SeasonRepository seasonRepo;
+    @Autowired TeamRepository teamRepo;
+    @Autowired GameRepository gameRepo;
+    @Autowired TeamPowerRatingSnapshotRepository ratingRepo;
+    @Autowired StatCalcWatermarkRepository watermarkRepo;
+    @Autowired StatCalcGateService gate;
+    @Autowired GamePredictionStore predictionStore;
+
+    Season season;
+    Team teamA, teamB, teamC;
+
+    @BeforeEach
+    void setUp() {
+        season = mkSeason(2025);
+        teamA = mkTeam("Alabama", "TA");
+        teamB = mkTeam("Auburn", "TB");
+        teamC = mkTeam("Clemson", "TC");
+    }
+
+    // ── Fixtures ──────────────────────────────────────────────────────────────
+
+    private Season mkSeason(int year) {
+        Season s = new Season();
+        s.setYear(year);
+        s.setStartDate(LocalDate.of(year - 1, 11, 1));
+        s.setEndDate(LocalDate.of(year, 4, 30));
+        return seasonRepo.save(s);
+    }
+
+    private Team mkTeam(String name, String espnId) {
+        Team t = new Team();
+        t.setName(name);
+        t.setEspnId(espnId);
+        t.setActive(true);
+        return teamRepo.save(t);
+    }
+
+    private Game mkFinalGame(Season s, Team home, Team away, int homeScore, int awayScore,
+                             boolean neutral, LocalDate date) {
+        Game g = new Game();
+        g.setHomeTeam(home);
+        g.setAwayTeam(away);
+        g.setHomeScore(homeScore);
+        g.setAwayScore(awayScore);
+        g.setStatus(Game.GameStatus.FINAL);
+        g.setNeutralSite(neutral);
+        g.setSeason(s);
+        g.setGameDate(date.atTime(20, 0));
+        return gameRepo.save(g);
+    }
+
+    // ── Batch replay ──────────────────────────────────────────────────────────
+
+    @Test
+    void seasonReplay_matchesSequentialUpdates() {
+        mkFinalGame(season, teamA, teamB, 80, 70, false, LocalDate.of(2025, 1, 10));
+        mkFinalGame(season, teamB, teamC, 60, 66, true, LocalDate.of(2025, 1, 12));
+
+        service.calculateAndStoreForSeason(2025);
+
+        double first = EloRatingService.homeShift(1500, 1500, 10, false);
+        double second = EloRatingService.homeShift(1500 - first, 1500, -6, true);
+        assertThat(ratingFor(teamA, LocalDate.of(2025, 1, 12))).isCloseTo(1500 + first, within(1e-9));
+        assertThat(ratingFor(teamB, LocalDate.of(2025, 1, 12))).isCloseTo(1500 - first + second, within(1e-9));
+        assertThat(ratingFor(teamC, LocalDate.of(2025, 1, 12))).isCloseTo(1500 - second, within(1e-9));
+    }
+
+    @Test
+    void snapshotsAreDenseAndRankedPerDate() {
+        mkFinalGame(season, teamA, teamB, 80, 70, false, LocalDate.of(2025, 1, 10));
+        mkFinalGame(season, teamC, teamB, 75, 60, false, LocalDate.of(2025, 1, 12));
+
+        service.calculateAndStoreForSeason(2025);
+
+        assertThat(ratingRepo.findBySeasonModelAndDate(season.getId(), EloRatingService.MODEL_TYPE,
+                LocalDate.of(2025, 1, 10))).hasSize(2);
+        List<TeamPowerRatingSnapshot> day2 = ratingRepo.findBySeasonModelAndDate(
+                season.getId(), EloRatingService.MODEL_TYPE, LocalDate.of(2025, 1, 12));
+        assertThat(day2).extracting(TeamPowerRatingSnapshot::getRank).containsExactly(1, 2, 3);
+        assertThat(day2.get(2).getTeam().getId()).isEqualTo(teamB.getId());
+        assertThat(day2.get(2).getGamesPlayed()).isEqualTo(2);
+    }
+
+    @Test
+    void ratingsCarryOverFromThePreviousSeason_regressedToTheMean() {
+        Season previous = mkSeason(2024);
+        mkFinalGame(previous, teamA, teamB, 90, 60, true, LocalDate.of(2024, 2, 1));
+        service.calculateAndStoreForSeason(2024);
+        double lastA = ratingRepo.findLatestForSeason(previous.getId(), EloRatingService.MODEL_TYPE).stream()
+                .filter(s -> s.getTeam().getId().equals(teamA.getId()))
+                .findFirst().orElseThrow().getRating();
+
+        mkFinalGame(season, teamA, teamC, 70, 70, true, LocalDate.of(2025, 1, 10));
+        service.calculateAndStoreForSeason(2025);
+
+        double start = EloRatingService.regress(lastA);
+        double expected = start + EloRatingService.homeShift(start, 1500, 0, true);
+        assertThat(ratingFor(teamA, LocalDate.of(2025, 1, 10))).isCloseTo(expected, within(1e-9));
+    }
+
+    @Test
+    void watermark_keepsSnapshotsBeforeFromDate() {
+        mkFinalGame(season, teamA, teamB, 80, 70, false, LocalDate.of(2025, 1, 10));
+        mkFinalGame(season, teamA, teamB, 80, 70, false, LocalDate.of(2025, 1, 12));
+        service.calculateAndStoreForSeason(2025);
+        List<TeamPowerRatingSnapshot> before = ratingRepo.findAll();
+
+        service.calculateAndStoreForSeason(2025, LocalDate.of(2025, 1, 12));
+
+        assertThat(ratingRepo.findAll()).hasSameSizeAs(before);
+        assertThat(ratingFor(teamA, LocalDate.of(2025, 1, 12)))
+                .isCloseTo(before.stream().filter(s -> s.getTeam().getId().equals(teamA.getId())
+                                && s.getSnapshotDate().equals(LocalDate.of(2025, 1, 12)))
+                        .findFirst().orElseThrow().getRating(), within(1e-9));
+    }
+
+    // ── Streaming updates ─────────────────────────────────────────────────────
+
+    @Test
+    void gameFinal_updatesBothTeamsFromTheirLatestSnapshots() {
+        mkFinalGame(season, teamA, teamB, 80, 70, false, LocalDate.of(2025, 1, 10));
+        service.calculateAndStoreForSeason(2025);
+        Game next = mkFinalGame(season, teamB, teamC, 65, 72, false, LocalDate.of(2025, 1, 14));
+
+        service.onGameFinal(new GameFinalEvent(2025, List.of(next.getId())));
+
+        double b = ratingFor(teamB, LocalDate.of(2025, 1, 10));
+        double shift = EloRatingService.homeShift(b, 1500, -7, false);
+        LocalDate day = LocalDate.of(2025, 1, 14);
+        assertThat(ratingFor(teamB, day)).isCloseTo(b + shift, within(1e-9));
+        assertThat(ratingFor(teamC, day)).isCloseTo(1500 - shift, within(1e-9));
+        List<TeamPowerRatingSnapshot> rows = ratingRepo.findBySeasonModelAndDate(
+                season.getId(), EloRatingService.MODEL_TYPE, day);
+        assertThat(rows).hasSize(2).allSatisfy(s -> assertThat(s.getRank()).isNull());
+        assertThat(rows).filteredOn(s -> s.getTeam().getId().equals(teamB.getId()))
+                .singleElement().extracting(TeamPowerRatingSnapshot::getGamesPlayed).isEqualTo(2);
+    }
+
+    @Test
+    void gameFinal_matchesTheBatchReplayAndIsIdempotent() {
+        mkFinalGame(season, teamA, teamB, 80, 70, false, LocalDate.of(2025, 1, 10));
+        service.calculateAndStoreForSeason(2025);
+        Game next = mkFinalGame(season, teamA, teamC, 61, 64, true, LocalDate.of(2025, 1, 14));
+
+        service.onGameFinal(new GameFinalEvent(2025, List.of(next.getId())));
+        service.onGameFinal(new GameFinalEvent(2025, List.of(next.getId())));
+        double streamed = ratingFor(teamA, LocalDate.of(2025, 1, 14));
+        assertThat(ratingRepo.findBySeasonModelAndDate(
+                season.getId(), EloRatingService.MODEL_TYPE, LocalDate.of(2025, 1, 14))).hasSize(2);
+
+        service.calculateAndStoreForSeason(2025);
+
+        assertThat(ratingFor(teamA, LocalDate.of(2025, 1, 14))).isCloseTo(streamed, within(1e-9));
+    }
+
+    @Test
+    void gameFinal_olderThanLatestSnapshot_isLeftToTheBatchReplay() {
+        mkFinalGame(season, teamA, teamB, 80, 70, false, LocalDate.of(2025, 1, 10));
+        service.calculateAndStoreForSeason(2025);
+        Game late = mkFinalGame(season, teamC, teamA, 70, 60, false, LocalDate.of(2025, 1, 8));
+
+        service.onGameFinal(new GameFinalEvent(2025, List.of(late.getId())));
+
+        assertThat(ratingRepo.findByTeamSeasonAndModel(teamC.getId(), season.getId(), EloRatingService.MODEL_TYPE))
+                .isEmpty();
+    }
+
+    @Test
+    void gameFinal_appliesEveryGameOfTheScrape() {
+        mkFinalGame(season, teamA, teamB, 80, 70, false, LocalDate.of(2025, 1, 10));
+        service.calculateAndStoreForSeason(2025);
+        Game first = mkFinalGame(season, teamB, teamC, 65, 72, false, LocalDate.of(2025, 1, 14));
+        Game second = mkFinalGame(season, teamC, teamA, 70, 77, false, LocalDate.of(2025, 1, 15));
+
+        service.onGameFinal(new GameFinalEvent(2025, List.of(first.getId(), second.getId())));
+
+        assertThat(ratingRepo.findBySeasonModelAndDate(
+                season.getId(), EloRatingService.MODEL_TYPE, LocalDate.of(2025, 1, 14))).hasSize(2);
+        assertThat(ratingRepo.findBySeasonModelAndDate(
+                season.getId(), EloRatingService.MODEL_TYPE, LocalDate.of(2025, 1, 15))).hasSize(2)
+                .filteredOn(s -> s.getTeam().getId().equals(teamC.getId()))
+                .singleElement().extracting(TeamPowerRatingSnapshot::getGamesPlayed).isEqualTo(2);
+    }
+
+    @Test
+    void gameFinal_dropsTheTeamsStoredPredictionsAndMovesTheWatermark() throws InterruptedException {
+        Team teamD = mkTeam("Duke", "TD");
+        mkFinalGame(season, teamA, teamB, 80, 70, false, LocalDate.of(2025, 1, 10));
+        service.calculateAndStoreForSeason(2025);
+        gate.recordRun(2025, gate.check(2025));
+        var written = watermarkRepo.findBySeasonId(season.getId()).orElseThrow().getSnapshotsWrittenAt();
+        Thread.sleep(5);
+        Game affected = mkScheduledGame(teamC, teamD, LocalDate.of(2025, 1, 20));
+        Game unaffected = mkScheduledGame(teamA, teamD, LocalDate.of(2025, 1, 20));
+        storePrediction(affected);
+        storePrediction(unaffected);
+        Game next = mkFinalGame(season, teamB, teamC, 65, 72, false, LocalDate.of(2025, 1, 14));
+
+        service.onGameFinal(new GameFinalEvent(2025, List.of(next.getId())));
+
+        assertThat(predictionStore.findByGameIds(List.of(affected.getId(), unaffected.getId())))
+                .containsOnlyKeys(unaffected.getId());
+        assertThat(watermarkRepo.findBySeasonId(season.getId()).orElseThrow().getSnapshotsWrittenAt())
+                .isAfter(written);
+    }
+
+    @Test
+    void gameFinal_leavesTheWatermarkWhenNothingWasApplied() {
+        mkFinalGame(season, teamA, teamB, 80, 70, false, LocalDate.of(2025, 1, 10));
+        service.calculateAndStoreForSeason(2025);
+        gate.recordRun(2025, gate.check(2025));
+        var written = watermarkRepo.findBySeasonId(season.getId()).orElseThrow().getSnapshotsWrittenAt();
+        Game late = mkFinalGame(season, teamC, teamA, 70, 60, false, LocalDate.of(2025, 1, 8));
+
+        service.onGameFinal(new GameFinalEvent(2025, List.of(late.getId())));
+
+        assertThat(watermarkRepo.findBySeasonId(season.getId()).orElseThrow().getSnapshotsWrittenAt())
+                .isEqualTo(written);
+    }
+
+    @Test
+    void gameFinal_ignoresGamesWithoutAResult() {
+        Game scheduled = mkFinalGame(season, teamA, teamB, 0, 0, false, LocalDate.of(2025, 1, 10));
+        scheduled.setStatus(Game.GameStatus.SCHEDULED);
+        gameRepo.save(scheduled);
+
+        service.onGameFinal(new GameFinalEvent(2025, List.of(scheduled.getId())));
+
+        assertThat(ratingRepo.findAll()).isEmpty();
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private Game mkScheduledGame(Team home, Team away, LocalDate date) {
+        Game g = mkFinalGame(season, home, away, 0, 0, false, date);
+        g.setHomeScore(null);
+        g.setAwayScore(null);
+        g.setStatus(Game.GameStatus.SCHEDULED);
+        return gameRepo.save(g);
+    }
+
+    private void storePrediction(Game game) {
+        var models = new GamePredictionStore.Models(null, null, null, null, null, null, Map.of());
+        predictionStore.upsert(List.of(new GamePredictionStore.Row(game.getId(), season.getId(),
+                game.getGameDate().toLocalDate(), false, null, "plan", models)));
+    }
+
+    private double ratingFor(Team team, LocalDate date) {
+        return ratingRepo.findLatestBefore(team.getId(), season.getId(), EloRatingService.MODEL_TYPE, date.plusDays(1))
+                .orElseThrow().getRating();
+    }
+}
@@ -0,0 +1,98 @@
+package com.yotto.basketball.service;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Runs real (short) JFR recordings in a temp directory. */
+class FlightRecordingServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private FlightRecordingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new FlightRecordingService(dir, Duration.ofMinutes(30), DataSize.ofMegabytes(50), "default");
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void stop_writesRecordingWithPipelineEvents() throws Exception {
+        service.start(Duration.ofMinutes(5));
+        assertThat(service.status().running()).isTrue();
+        assertThat(service.finishedFile()).isEmpty();
+
+        PipelineJfrEvents.CalculationDate event = new PipelineJfrEvents.CalculationDate();
+        event.begin();
+        event.finish(2025, "MASSEY", LocalDate.of(2025, 1, 15), 730);
+
+        FlightRecordingService.Status status = service.stop();
+
+        assertThat(status.running()).isFalse();
+        assertThat(status.file()).isNotNull();
+        List<RecordedEvent> events = RecordingFile.readAllEvents(status.file()).stream()
+                .filter(e -> e.getEventType().getName().equals("com.yotto.basketball.CalculationDate"))
+                .toList();
+        assertThat(events).singleElement().satisfies(e -> {
+            assertThat(e.getInt("season")).isEqualTo(2025);
+            assertThat(e.getString("step")).isEqualTo("MASSEY");
+            assertThat(e.getString("date")).isEqualTo("2025-01-15");
+            assertThat(e.getLong("rows")).isEqualTo(730);
+        });
+    }
+
+    @Test
+    void start_capsDurationAtConfiguredMaximum() {
+        FlightRecordingService.Status status = service.start(Duration.ofHours(5));
+
+        assertThat(status.duration()).isEqualTo(Duration.ofMinutes(30));
+    }
+
+    @Test
+    void start_rejectsSecondConcurrentRecording() {
+        service.start(null);
+
+        assertThatThrownBy(() -> service.start(null)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void stop_withoutRecording_throws() {
+        assertThatThrownBy(() -> service.stop()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void start_keepsOnlyTheNewestRecordings() throws Exception {
+        for (int i = 0; i < FlightRecordingService.KEEP_FILES + 1; i++) {
+            Files.writeString(dir.resolve("pipeline-2025010" + i + "-000000.jfr"), "old");
+        }
+
+        service.start(null);
+        service.stop();
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertThat(files.map(p -> p.getFileName().toString()).sorted().toList())
+                    .hasSize(FlightRecordingService.KEEP_FILES)
+                    .doesNotContain("pipeline-20250100-000000.jfr", "pipeline-20250101-000000.jfr");
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.yotto.basketball.service;
+
+import com.yotto.basketball.entity.Game;
+import com.yotto.basketball.entity.Season;
+import com.yotto.basketball.entity.Team;
+import com.yotto.basketball.entity.TeamPowerRatingSnapshot;
+import com.yotto.basketball.entity.TeamSeasonStatSnapshot;
+import com.yotto.basketball.entity.TeamStatSnapshot;
+import com.yotto.basketball.repository.GameRepository;
+import com.yotto.basketball.repository.SeasonStatisticsRepository;
+import com.yotto.basketball.repository.TeamPowerRatingSnapshotRepository;
+import com.yotto.basketball.repository.TeamSeasonStatSnapshotRepository;
+import com.yotto.basketball.repository.TeamStatSnapshotRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for GameDetailAssembler. Repositories are Mockito mocks; the fan-out
+ * runs on a real thread pool so the concurrent join path is exercised.
+ */
+@ExtendWith(MockitoExtension.class)
+class GameDetailAssemblerTest {
+
+    private static final LocalDate GAME_DAY = LocalDate.of(2025, 2, 1);
+
+    @Mock GameRepository gameRepository;
+    @Mock PredictionService predictionService;
+    @Mock SeasonStatisticsRepository seasonStatsRepository;
+    @Mock TeamPowerRatingSnapshotRepository powerRatingRepository;
+    @Mock TeamSeasonStatSnapshotRepository statSnapshotRepository;
+    @Mock TeamStatSnapshotRepository derivedStatRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ExecutorService pool;
+    private GameDetailAssembler assembler;
+    private Team home;
+    private Team away;
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        pool = Executors.newFixedThreadPool(3);
+        assembler = new GameDetailAssembler(gameRepository, predictionService, seasonStatsRepository,
+                powerRatingRepository, statSnapshotRepository, derivedStatRepository, pool, meterRegistry);
+
+        home = team(1L);
+        away = team(2L);
+        Season season = new Season();
+        season.setId(10L);
+        season.setYear(2025);
+        game = new Game();
+        game.setId(100L);
+        game.setHomeTeam(home);
+        game.setAwayTeam(away);
+        game.setSeason(season);
+        game.setGameDate(GAME_DAY.atTime(19, 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void assemble_reusesLoadedGameForPrediction() {
+        assembler.assemble(game);
+
+        verify(predictionService).predict(game);
+        verify(predictionService, never()).predict(anyLong());
+    }
+
+    @Test
+    void assemble_splitsBulkSnapshotsByTeamAndModel() {
+        when(powerRatingRepository.findLatestBeforeForTeams(any(), eq(10L), any(), eq(GAME_DAY))).thenReturn(List.of(
+                rating(home, MasseyRatingService.MODEL_TYPE, 12.0),
+                rating(away, MasseyRatingService.MODEL_TYPE, 4.0),
+                rating(away, BradleyTerryRatingService.MODEL_TYPE, 0.3)));
+        when(derivedStatRepository.findLatestBeforeForTeams(any(), eq(10L), eq(GAME_DAY))).thenReturn(List.of(
+                derived(home, "efg_pct", 0.55), derived(away, "efg_pct", 0.49)));
+        when(statSnapshotRepository.findLatestBeforeForTeams(any(), eq(10L), eq(GAME_DAY))).thenReturn(List.of(
+                snapshot(home, 0.61), snapshot(away, null)));
+        when(statSnapshotRepository.countWithRpiAbove(10L, GAME_DAY.minusDays(1), 0.61)).thenReturn(6L);
+
+        GameDetailAssembler.GameDetail detail = assembler.assemble(game);
+
+        assertThat(detail.home().massey().getRating()).isEqualTo(12.0);
+        assertThat(detail.home().bradleyTerry()).isNull();
+        assertThat(detail.away().massey().getRating()).isEqualTo(4.0);
+        assertThat(detail.away().bradleyTerry().getRating()).isEqualTo(0.3);
+        assertThat(detail.home().derived().get("efg_pct").getValue()).isEqualTo(0.55);
+        assertThat(detail.away().derived().get("efg_pct").getValue()).isEqualTo(0.49);
+        assertThat(detail.home().rpiRank()).isEqualTo(7);
+        assertThat(detail.away().rpiRank()).isNull();
+    }
+
+    @Test
+    void assemble_recordsSectionTimings() {
+        assembler.assemble(game);
+
+        assertThat(meterRegistry.find(GameDetailAssembler.TIMER_NAME).tag("section", "prediction").timer())
+                .isNotNull();
+        assertThat(meterRegistry.find(GameDetailAssembler.TIMER_NAME).tag("section", "total").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void assemble_rethrowsLookupFailureUnwrapped() {
+        when(gameRepository.findAllH2HGames(1L, 2L, 100L)).thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> assembler.assemble(game))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("db down");
+    }
+
+    private static Team team(Long id) {
+        Team t = new Team();
+        t.setId(id);
+        t.setName("Team " + id);
+        return t;
+    }
+
+    private static TeamPowerRatingSnapshot rating(Team team, String model, double value) {
+        TeamPowerRatingSnapshot s = new TeamPowerRatingSnapshot();
+        s.setTeam(team);
+        s.setModelType(model);
+        s.setRating(value);
+        s.setSnapshotDate(GAME_DAY.minusDays(1));
+        s.setCalculatedAt(LocalDateTime.now());
+        return s;
+    }
+
+    private static TeamStatSnapshot derived(Team team, String stat, double value) {
+        TeamStatSnapshot s = new TeamStatSnapshot();
+        s.setTeam(team);
+        s.setStatName(stat);
+        s.setValue(value);
+        s.setSnapshotDate(GAME_DAY.minusDays(1));
+        return s;
+    }
+
+    private static TeamSeasonStatSnapshot snapshot(Team team, Double rpi) {
+        TeamSeasonStatSnapshot s = new TeamSeasonStatSnapshot();
+        s.setTeam(team);
+        s.setSnapshotDate(GAME_DAY.minusDays(1));
+        s.setRpi(rpi);
+        return s;
+    }
+}
@@ -0,0 +1,124 @@
+package com.yotto.basketball.service;
+
+import ai.onnxruntime.OnnxTensor;
+import ai.onnxruntime.OrtEnvironment;
+import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.FloatBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * {@link JavaOnnxModel} against onnxruntime on the same files: generated tree-ensemble
+ * models shaped like the trainer's exports ({@link OnnxTestModels}) and the checked-in
+ * {@code ml-models} fixtures. Every output must agree within 1e-6.
+ */
+class JavaOnnxModelTest {
+
+    private static final double TOLERANCE = 1e-6;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void regressorMatchesOnnxRuntime() throws Exception {
+        assertMatches(write("spread.onnx", OnnxTestModels.regressor(1, 60, "SUM")), false);
+    }
+
+    @Test
+    void averagingRegressorMatchesOnnxRuntime() throws Exception {
+        assertMatches(write("avg.onnx", OnnxTestModels.regressor(2, 25, "AVERAGE")), false);
+    }
+
+    @Test
+    void logisticClassifierWithSignedWeightsMatchesOnnxRuntime() throws Exception {
+        assertMatches(write("winprob.onnx", OnnxTestModels.binaryClassifier(3, 60, true, "LOGISTIC")), true);
+    }
+
+    @Test
+    void classifierWithPositiveWeightsMatchesOnnxRuntime() throws Exception {
+        assertMatches(write("positive.onnx", OnnxTestModels.binaryClassifier(4, 5, false, "NONE")), true);
+    }
+
+    @Test
+    void calibratedClassifierMatchesOnnxRuntime() throws Exception {
+        Path file = write("calibrated.onnx", OnnxTestModels.calibratedClassifier(5, 40));
+
+        assertThat(JavaOnnxModel.classifier(file).outputName()).isEqualTo("probabilities");
+        assertMatches(file, true);
+    }
+
+    @Test
+    void checkedInFixturesMatchOnnxRuntime() throws Exception {
+        Path dir = Paths.get(getClass().getClassLoader().getResource("ml-models/features.json").toURI()).getParent();
+
+        assertMatches(dir.resolve("spread_model.onnx"), false);
+        assertMatches(dir.resolve("total_model.onnx"), false);
+        assertMatches(dir.resolve("winprob_model.onnx"), true);
+    }
+
+    @Test
+    void singleRowScoringEqualsBatchScoring() throws Exception {
+        JavaOnnxModel model = JavaOnnxModel.classifier(write("c.onnx", OnnxTestModels.calibratedClassifier(6, 10)));
+        float[][] rows = OnnxTestModels.rows(7, 16);
+
+        double[][] batch = model.score(rows);
+
+        for (int r = 0; r < rows.length; r++) {
+            assertThat(model.score(rows[r])).containsExactly(batch[r]);
+        }
+    }
+
+    @Test
+    void unsupportedOpIsRejectedAtLoad() throws Exception {
+        Path file = write("tanh.onnx", OnnxTestModels.unsupportedRegressor());
+
+        assertThatThrownBy(() -> JavaOnnxModel.regressor(file))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("Tanh");
+    }
+
+    private Path write(String name, byte[] model) throws IOException {
+        return Files.write(tempDir.resolve(name), model);
+    }
+
+    private static void assertMatches(Path file, boolean classifier) throws Exception {
+        JavaOnnxModel java = classifier ? JavaOnnxModel.classifier(file) : JavaOnnxModel.regressor(file);
+        float[][] rows = OnnxTestModels.rows(42, 200);
+
+        float[][] expected = runOnnx(file, java.outputName(), rows);
+        double[][] actual = java.score(rows);
+
+        assertThat(actual).hasNumberOfRows(expected.length);
+        for (int r = 0; r < rows.length; r++) {
+            assertThat(actual[r]).hasSize(expected[r].length);
+            for (int c = 0; c < expected[r].length; c++) {
+                assertThat(actual[r][c]).as("row %d column %d", r, c).isCloseTo(expected[r][c], within(TOLERANCE));
+            }
+        }
+    }
+
+    private static float[][] runOnnx(Path file, String output, float[][] rows) throws OrtException {
+        OrtEnvironment env = OrtEnvironment.getEnvironment();
+        float[] flat = new float[rows.length * OnnxTestModels.FEATURES];
+        for (int r = 0; r < rows.length; r++) {
+            System.arraycopy(rows[r], 0, flat, r * OnnxTestModels.FEATURES, OnnxTestModels.FEATURES);
+        }
+        try (OrtSession session = env.createSession(file.toString());
+             OnnxTensor input = OnnxTensor.createTensor(env, FloatBuffer.wrap(flat),
+                     new long[] {rows.length, OnnxTestModels.FEATURES});
+             OrtSession.Result result = session.run(Map.of("float_input", input))) {
+            return (float[][]) result.get(output).orElseThrow().getValue();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.yotto.basketball.service;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.LUDecomposition;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Massey standard errors on a random 40-team season against a dense inverse: the
+ * factor's solve matches {@link MasseyRatingService#solve}, the standard errors match
+ * the diagonal of σ²·(A + λD)⁻¹ (also on a sparse early-season schedule), the spread
+ * variance matches σ²·cᵀ(A + λD)⁻¹c, and σ² waits for enough games.
+ */
+class MasseyFitTest {
+
+    private static final int TEAMS = 40, SIZE = TEAMS + 1;
+
+    private final double[][] A = new double[SIZE][SIZE];
+    private final double[] b = new double[SIZE];
+    private double sumSquares;
+    private int games;
+
+    MasseyFitTest() {
+        Random random = new Random(3);
+        double[] strength = new double[TEAMS];
+        for (int t = 0; t < TEAMS; t++) strength[t] = random.nextGaussian() * 8;
+        for (int g = 0; g < 500; g++) {
+            int h = random.nextInt(TEAMS), a = (h + 1 + random.nextInt(TEAMS - 1)) % TEAMS;
+            boolean neutral = random.nextInt(10) == 0;
+            int margin = (int) Math.round(strength[h] - strength[a] + (neutral ? 0 : 3) + random.nextGaussian() * 11);
+            add(h, a, margin, neutral);
+        }
+    }
+
+    @Test
+    void ratingsMatchTheSolve() {
+        MasseyRatingService.Fit fit = fit();
+
+        assertThat(fit.x()).containsExactly(MasseyRatingService.solve(A, b, TEAMS, SIZE), within(1e-10));
+        assertThat(Math.sqrt(fit.sigma2())).isBetween(9.0, 13.0);
+    }
+
+    @Test
+    void stdErrorsAreTheInverseDiagonal() {
+        MasseyRatingService.Fit fit = fit();
+        RealMatrix inverse = denseInverse();
+
+        for (int j = 0; j < SIZE; j++) {
+            assertThat(fit.inverseDiagonal()[j]).isCloseTo(inverse.getEntry(j, j), within(1e-12));
+            assertThat(fit.stdError(j)).isCloseTo(Math.sqrt(fit.sigma2() * inverse.getEntry(j, j)), within(1e-9));
+        }
+    }
+
+    @Test
+    void selectedInversionMatchesTheDenseInverseOnASparseSchedule() {
+        double[][] early = new double[SIZE][SIZE];
+        double[] rhs = new double[SIZE];
+        Random random = new Random(7);
+        for (int g = 0; g < 30; g++) {
+            int h = random.nextInt(TEAMS), a = (h + 1 + random.nextInt(TEAMS - 1)) % TEAMS;
+            int[] row = {h, a, random.nextInt(21) - 10, random.nextInt(4) == 0 ? 0 : 1};
+            RatingWhatIf.addRow(early, rhs, row, TEAMS);
+        }
+        double[][] L = MasseyRatingService.regularized(early, TEAMS, SIZE);
+        assertThat(MasseyRatingService.cholesky(L)).isTrue();
+        RealMatrix inverse = new LUDecomposition(
+                new Array2DRowRealMatrix(MasseyRatingService.regularized(early, TEAMS, SIZE))).getSolver().getInverse();
+
+        int patternEntries = 0;
+        for (int[] rows : MasseyRatingService.factorPattern(L)) patternEntries += rows.length;
+        assertThat(patternEntries).isLessThan(SIZE * (SIZE - 1) / 4);
+        double[] diagonal = MasseyRatingService.inverseDiagonal(L);
+        for (int j = 0; j < SIZE; j++) {
+            assertThat(diagonal[j]).isCloseTo(inverse.getEntry(j, j), within(1e-12));
+        }
+    }
+
+    @Test
+    void spreadVarianceIncludesTheCovariance() {
+        MasseyRatingService.Fit fit = fit();
+        RealMatrix inverse = denseInverse();
+        int[][] pairs = {{0, 1}, {1, 0}, {5, 17}, {39, 2}, {12, 38}};
+
+        for (int[] pair : pairs) {
+            for (boolean neutral : new boolean[]{false, true}) {
+                int h = pair[0], a = pair[1];
+                double quadForm = inverse.getEntry(h, h) + inverse.getEntry(a, a) - 2 * inverse.getEntry(h, a);
+                if (!neutral) {
+                    quadForm += inverse.getEntry(TEAMS, TEAMS)
+                            + 2 * (inverse.getEntry(h, TEAMS) - inverse.getEntry(a, TEAMS));
+                }
+                assertThat(fit.spreadVariance(h, a, neutral)).isCloseTo(fit.sigma2() * quadForm, within(1e-9));
+            }
+        }
+    }
+
+    @Test
+    void noStdErrorsUntilGamesExceedEffectiveParameters() {
+        double[][] early = new double[SIZE][SIZE];
+        double[] rhs = new double[SIZE];
+        int[][] rows = {{0, 1, 10, 1}, {2, 3, -4, 1}, {4, 5, 7, 0}};
+        for (int[] row : rows) RatingWhatIf.addRow(early, rhs, row, TEAMS);
+
+        MasseyRatingService.Fit fit = MasseyRatingService.fit(early, rhs, 165, rows.length, TEAMS, SIZE, () -> {});
+
+        assertThat(fit.x()).isNotNull();
+        assertThat(fit.sigma2()).isNaN();
+        assertThat(fit.stdError(0)).isNull();
+    }
+
+    @Test
+    void luFallbackHasNoStdErrors() {
+        // Cancels the ridge, leaving a zero pivot
+        double[][] singular = new double[SIZE][SIZE];
+        for (int j = 0; j < TEAMS; j++) singular[j][j] = -MasseyRatingService.LAMBDA;
+        boolean[] fellBack = new boolean[1];
+
+        MasseyRatingService.Fit fit = MasseyRatingService.fit(singular, new double[SIZE], 0, 0, TEAMS, SIZE,
+                () -> fellBack[0] = true);
+
+        assertThat(fellBack[0]).isTrue();
+        assertThat(fit.inverseDiagonal()).isNull();
+        assertThat(fit.stdError(0)).isNull();
+        assertThat(fit.spreadVariance(0, 1, false)).isNaN();
+    }
+
+    private MasseyRatingService.Fit fit() {
+        return MasseyRatingService.fit(A, b, sumSquares, games, TEAMS, SIZE, () -> {});
+    }
+
+    private RealMatrix denseInverse() {
+        return new LUDecomposition(new Array2DRowRealMatrix(MasseyRatingService.regularized(A, TEAMS, SIZE)))
+                .getSolver().getInverse();
+    }
+
+    private void add(int h, int a, int margin, boolean neutral) {
+        RatingWhatIf.addRow(A, b, new int[]{h, a, margin, neutral ? 0 : 1}, TEAMS);
+        sumSquares += (double) margin * margin;
+        games++;
+    }
+}
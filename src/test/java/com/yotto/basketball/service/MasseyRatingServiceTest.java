@@ -23,6 +23,7 @@ class MasseyRatingServiceTest extends BaseIntegrationTest {
     @Autowired GameRepository gameRepo;
     @Autowired TeamPowerRatingSnapshotRepository ratingRepo;
     @Autowired PowerModelParamSnapshotRepository paramRepo;
+    @Autowired MasseySpreadErrorStore spreadErrorStore;
 
     // Cleanup deps (shared singleton container — see test_beforeeach_cleanup_order memory)
     @Autowired ConferenceMembershipRepository membershipRepo;
@@ -257,6 +258,58 @@ class MasseyRatingServiceTest extends BaseIntegrationTest {
         assertThat(hca).isCloseTo(0.0, within(0.01));
     }
 
+    @Test
+    void stdErrors_storedForSpreadModelOnceGamesExceedParameters() {
+        mkFinalGame(teamA, teamB, 80, 70, false, LocalDate.of(2025, 1, 10));
+        mkFinalGame(teamB, teamC, 75, 68, false, LocalDate.of(2025, 1, 14));
+        mkFinalGame(teamC, teamA, 66, 79, false, LocalDate.of(2025, 1, 18));
+        mkFinalGame(teamA, teamC, 71, 70, true, LocalDate.of(2025, 1, 18));
+        mkFinalGame(teamB, teamA, 74, 72, false, LocalDate.of(2025, 1, 22));
+        mkFinalGame(teamC, teamB, 60, 64, false, LocalDate.of(2025, 1, 22));
+        mkFinalGame(teamA, teamB, 90, 71, false, LocalDate.of(2025, 1, 26));
+
+        service.calculateAndStoreForSeason(2025);
+
+        List<TeamPowerRatingSnapshot> first = ratingRepo.findBySeasonModelAndDate(
+                season.getId(), MasseyRatingService.MODEL_TYPE, LocalDate.of(2025, 1, 10));
+        assertThat(first).allSatisfy(s -> assertThat(s.getRatingStdError()).isNull());
+        assertThat(paramRepo.findLatestParamBefore(season.getId(), MasseyRatingService.MODEL_TYPE,
+                "hca_se", LocalDate.of(2025, 1, 11))).isEmpty();
+
+        List<TeamPowerRatingSnapshot> last = ratingRepo.findBySeasonModelAndDate(
+                season.getId(), MasseyRatingService.MODEL_TYPE, LocalDate.of(2025, 1, 26));
+        assertThat(last).hasSize(3).allSatisfy(s -> assertThat(s.getRatingStdError()).isPositive());
+        assertThat(paramValue(MasseyRatingService.MODEL_TYPE, "hca_se", LocalDate.of(2025, 1, 26))).isPositive();
+        assertThat(ratingRepo.findBySeasonModelAndDate(
+                season.getId(), MasseyRatingService.MODEL_TYPE_TOTALS, LocalDate.of(2025, 1, 26)))
+                .allSatisfy(s -> assertThat(s.getRatingStdError()).isNull());
+    }
+
+    @Test
+    void spreadStdErrors_storedForTheGamesEachSnapshotPredicts() {
+        mkFinalGame(teamA, teamB, 80, 70, false, LocalDate.of(2025, 1, 10));
+        mkFinalGame(teamB, teamC, 75, 68, false, LocalDate.of(2025, 1, 14));
+        mkFinalGame(teamC, teamA, 66, 79, false, LocalDate.of(2025, 1, 18));
+        mkFinalGame(teamA, teamC, 71, 70, true, LocalDate.of(2025, 1, 18));
+        mkFinalGame(teamB, teamA, 74, 72, false, LocalDate.of(2025, 1, 22));
+        mkFinalGame(teamC, teamB, 60, 64, false, LocalDate.of(2025, 1, 22));
+        Game last = mkFinalGame(teamA, teamB, 90, 71, false, LocalDate.of(2025, 1, 26));
+        Game scheduled = mkFinalGame(teamC, teamB, 0, 0, true, LocalDate.of(2025, 1, 30));
+        scheduled.setHomeScore(null);
+        scheduled.setAwayScore(null);
+        scheduled.setStatus(Game.GameStatus.SCHEDULED);
+        gameRepo.save(scheduled);
+
+        service.calculateAndStoreForSeason(2025);
+
+        assertThat(spreadErrorStore.find(last.getId(), LocalDate.of(2025, 1, 22), false)).hasValueSatisfying(
+                se -> assertThat(se).isPositive());
+        assertThat(spreadErrorStore.find(scheduled.getId(), LocalDate.of(2025, 1, 26), true)).isPresent();
+        // Only the snapshot a game's prediction reads has its error, and only for its site
+        assertThat(spreadErrorStore.find(last.getId(), LocalDate.of(2025, 1, 18), false)).isEmpty();
+        assertThat(spreadErrorStore.find(scheduled.getId(), LocalDate.of(2025, 1, 26), false)).isEmpty();
+    }
+
     // ── Helpers ───────────────────────────────────────────────────────────────
 
     private double ratingFor(Team team, String modelType, LocalDate date) {
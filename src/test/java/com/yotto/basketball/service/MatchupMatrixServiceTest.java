@@ -0,0 +1,192 @@
+package com.yotto.basketball.service;
+
+import com.yotto.basketball.entity.Conference;
+import com.yotto.basketball.entity.PowerModelParamSnapshot;
+import com.yotto.basketball.entity.Season;
+import com.yotto.basketball.entity.Team;
+import com.yotto.basketball.entity.TeamPowerRatingSnapshot;
+import com.yotto.basketball.repository.ConferenceMembershipRepository;
+import com.yotto.basketball.repository.PowerModelParamSnapshotRepository;
+import com.yotto.basketball.repository.SeasonRepository;
+import com.yotto.basketball.repository.TeamPowerRatingSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.yotto.basketball.service.SimulationFixtures.conference;
+import static com.yotto.basketball.service.SimulationFixtures.member;
+import static com.yotto.basketball.service.SimulationFixtures.team;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Matchup grid over three teams in two conferences with mocked repositories: cells
+ * against the single-pair formulas, neutral sites, unrated teams, filters, the binary
+ * layout and the per-date cache.
+ */
+@ExtendWith(MockitoExtension.class)
+class MatchupMatrixServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 1, 20);
+
+    @Mock private SeasonRepository seasonRepository;
+    @Mock private ConferenceMembershipRepository membershipRepository;
+    @Mock private TeamPowerRatingSnapshotRepository ratingRepository;
+    @Mock private PowerModelParamSnapshotRepository paramRepository;
+
+    private MatchupMatrixService service;
+    private final Season season = SimulationFixtures.season();
+    private final Conference east = conference(10L), west = conference(20L);
+    private final Team a = team(1, "A"), b = team(2, "B"), c = team(3, "C");
+
+    @BeforeEach
+    void setUp() {
+        service = new MatchupMatrixService(seasonRepository, membershipRepository, ratingRepository, paramRepository);
+    }
+
+    /** The season on {@link #DATE}, its members, their ratings and the five model parameters. */
+    private void stubGrid() {
+        when(seasonRepository.findByDate(any())).thenReturn(Optional.of(season));
+        when(membershipRepository.findBySeasonIdWithTeam(5L))
+                .thenReturn(List.of(member(a, east), member(b, east), member(c, west)));
+        List<TeamPowerRatingSnapshot> ratings = new ArrayList<>();
+        ratings.add(rating(a, MasseyRatingService.MODEL_TYPE, 4.0));
+        ratings.add(rating(b, MasseyRatingService.MODEL_TYPE, 10.0));
+        ratings.add(rating(c, MasseyRatingService.MODEL_TYPE, -3.0));
+        ratings.add(rating(a, MasseyRatingService.MODEL_TYPE_TOTALS, 70.0));
+        ratings.add(rating(b, MasseyRatingService.MODEL_TYPE_TOTALS, 72.0));
+        ratings.add(rating(c, MasseyRatingService.MODEL_TYPE_TOTALS, 68.0));
+        ratings.add(rating(a, BradleyTerryRatingService.MODEL_TYPE, 0.4));
+        ratings.add(rating(b, BradleyTerryRatingService.MODEL_TYPE, 1.1));
+        ratings.add(rating(c, BradleyTerryRatingService.MODEL_TYPE, -0.9));
+        ratings.add(rating(a, BradleyTerryRatingService.MODEL_TYPE_WEIGHTED, 0.2));
+        ratings.add(rating(b, BradleyTerryRatingService.MODEL_TYPE_WEIGHTED, 0.9));
+        when(ratingRepository.findLatestBeforeForSeason(eq(5L), any(), eq(DATE))).thenReturn(ratings);
+        param(MasseyRatingService.MODEL_TYPE, "hca", 3.0);
+        param(MasseyRatingService.MODEL_TYPE_TOTALS, "intercept", 1.5);
+        param(MasseyRatingService.MODEL_TYPE_TOTALS, "hca_total", 0.5);
+        param(BradleyTerryRatingService.MODEL_TYPE, "hca", 0.3);
+        param(BradleyTerryRatingService.MODEL_TYPE_WEIGHTED, "hca", 0.25);
+    }
+
+    @Test
+    void cellsMatchTheSinglePairFormulas() {
+        stubGrid();
+        MatchupMatrix m = service.matrix(DATE, false, null, null);
+
+        // listed by Massey rating: B, A, C
+        assertThat(m.teamIds()).containsExactly(2L, 1L, 3L);
+        assertThat(m.teamNames()).containsExactly("B", "A", "C");
+        int n = 3;
+        assertThat(m.spread()[0 * n + 1]).isCloseTo(10f - 4f + 3f, within(1e-5f));
+        assertThat(m.spread()[1 * n + 0]).isCloseTo(4f - 10f + 3f, within(1e-5f));
+        assertThat(m.total()[1 * n + 2]).isCloseTo(70f + 68f + 1.5f + 0.5f, within(1e-4f));
+        assertThat(m.homeWinProbability()[2 * n + 0])
+                .isCloseTo((float) (1 / (1 + Math.exp(-(-0.9 - 1.1 + 0.3)))), within(1e-6f));
+        assertThat(m.homeWinProbabilityWeighted()[0 * n + 1])
+                .isCloseTo((float) (1 / (1 + Math.exp(-(0.9 - 0.2 + 0.25)))), within(1e-6f));
+        for (int i = 0; i < n; i++) assertThat(m.spread()[i * n + i]).isNaN();
+    }
+
+    @Test
+    void neutralSitesDropHomeParametersAndUnratedTeamsAreNaN() {
+        stubGrid();
+        MatchupMatrix m = service.matrix(DATE, true, null, null);
+
+        assertThat(m.spread()[1]).isCloseTo(6f, within(1e-5f));
+        assertThat(m.total()[1]).isCloseTo(70f + 72f + 1.5f, within(1e-4f));
+        assertThat(m.homeWinProbability()[1] + m.homeWinProbability()[3]).isCloseTo(1f, within(1e-6f));
+        // C has no weighted Bradley-Terry rating
+        assertThat(m.homeWinProbabilityWeighted()[2]).isNaN();
+        assertThat(m.homeWinProbabilityWeighted()[6]).isNaN();
+    }
+
+    @Test
+    void conferenceAndTopNarrowTheTeams() {
+        stubGrid();
+        assertThat(service.matrix(DATE, false, null, Set.of(20L)).teamIds()).containsExactly(3L);
+        assertThat(service.matrix(DATE, false, 1, Set.of(10L)).teamIds()).containsExactly(2L);
+        MatchupMatrix top2 = service.matrix(DATE, false, 2, null);
+        assertThat(top2.teamIds()).containsExactly(2L, 1L);
+        assertThat(top2.spread()).hasSize(4);
+        assertThatThrownBy(() -> service.matrix(DATE, false, 0, null))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("top");
+    }
+
+    @Test
+    void binaryIsHeaderIdsThenColumns() {
+        stubGrid();
+        MatchupMatrix m = service.matrix(DATE, false, 2, null);
+
+        ByteBuffer buf = ByteBuffer.wrap(m.binary()).order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(buf.remaining()).isEqualTo(8 + 2 * 8 + 4 * 4 * 4);
+        assertThat(buf.getInt()).isEqualTo(MatchupMatrix.FORMAT_VERSION);
+        assertThat(buf.getInt()).isEqualTo(2);
+        assertThat(buf.getLong()).isEqualTo(2L);
+        assertThat(buf.getLong()).isEqualTo(1L);
+        assertThat(buf.getFloat()).isNaN();
+        assertThat(buf.getFloat()).isEqualTo(m.spread()[1]);
+        buf.position(buf.position() + 2 * 4);
+        assertThat(buf.getFloat()).isNaN();
+        assertThat(buf.getFloat()).isEqualTo(m.total()[1]);
+        buf.position(buf.position() + 2 * 4 + 4 * 4 + 2 * 4);
+        assertThat(buf.getFloat()).isEqualTo(m.homeWinProbabilityWeighted()[2]);
+        assertThat(buf.getFloat()).isNaN();
+        assertThat(buf.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void ratingsAreLoadedOncePerDateUntilCalcCompleted() {
+        stubGrid();
+        service.matrix(DATE, false, null, null);
+        service.matrix(DATE, true, 2, Set.of(10L));
+        verify(ratingRepository, times(1)).findLatestBeforeForSeason(anyLong(), any(), any());
+
+        service.onClusterInvalidation(new ClusterInvalidationEvent(
+                ClusterInvalidationBus.Channel.CALC_COMPLETED, "2025,1", true));
+        service.matrix(DATE, false, null, null);
+        verify(ratingRepository, times(1)).findLatestBeforeForSeason(anyLong(), any(), any());
+
+        service.onClusterInvalidation(new ClusterInvalidationEvent(
+                ClusterInvalidationBus.Channel.CALC_COMPLETED, "2026,2", true));
+        service.matrix(DATE, false, null, null);
+        verify(ratingRepository, times(2)).findLatestBeforeForSeason(anyLong(), any(), any());
+    }
+
+    @Test
+    void logisticMatchesSigmoidForWideRatings() {
+        double[] r = {40.0, -35.0, 0.5};
+        float[] p = MatchupMatrixService.logistic(r, 0.2);
+
+        assertThat(p[1]).isCloseTo((float) (1 / (1 + Math.exp(-75.2))), within(1e-6f));
+        assertThat(p[2 * 3 + 1]).isCloseTo((float) (1 / (1 + Math.exp(-35.7))), within(1e-6f));
+        assertThat(p[1 * 3 + 2]).isCloseTo((float) (1 / (1 + Math.exp(35.3))), within(1e-6f));
+    }
+
+    private void param(String modelType, String name, double value) {
+        PowerModelParamSnapshot p = new PowerModelParamSnapshot();
+        p.setParamValue(value);
+        when(paramRepository.findLatestParamBefore(5L, modelType, name, DATE)).thenReturn(Optional.of(p));
+    }
+
+    private TeamPowerRatingSnapshot rating(Team team, String modelType, double value) {
+        return SimulationFixtures.rating(team, season, modelType, DATE.minusDays(1), value);
+    }
+}
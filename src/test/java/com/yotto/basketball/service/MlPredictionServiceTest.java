@@ -93,6 +93,7 @@ class MlPredictionServiceTest {
         assertThat(status.slug()).isEqualTo("baseline");
         assertThat(status.version()).isEqualTo("test-fixture-1");
         assertThat(status.featureCount()).isEqualTo(27);
+        assertThat(status.scorer()).isEqualTo("onnx");
         MlBundleStatus.Metrics m = status.metrics();
         assertThat(m).isNotNull();
         assertThat(m.spreadRmse()).isEqualTo(10.5);
@@ -165,6 +166,83 @@ class MlPredictionServiceTest {
         assertThat(service.predict("weird", completeContext())).isNull();
     }
 
+    @Test
+    void manifestSelectsJavaScorer(@TempDir Path tempDir) throws IOException {
+        copyFixturesInto(tempDir.resolve("baseline"));
+        Path manifest = tempDir.resolve("baseline/features.json");
+        Files.writeString(manifest, Files.readString(manifest).replaceFirst("\\{", "{\"scorer\": \"java\","));
+
+        service = newService(tempDir.toString(), true);
+
+        assertThat(service.getStatuses().get(0).scorer()).isEqualTo("java");
+        PredictionResult.MlPrediction p = service.predict("baseline", completeContext());
+        assertThat(p).isNotNull();
+        assertThat(p.spread()).isCloseTo(7.5, within(1e-6));
+        assertThat(p.total()).isCloseTo(138.75, within(1e-6));
+        assertThat(p.homeWinProbability()).isCloseTo(0.5, within(1e-6));
+    }
+
+    @Test
+    void javaScorerFallsBackToOnnxForUnsupportedGraphs(@TempDir Path tempDir) throws IOException {
+        copyFixturesInto(tempDir.resolve("baseline"));
+        Files.write(tempDir.resolve("baseline/spread_model.onnx"), OnnxTestModels.unsupportedRegressor());
+        MlPredictionService s = new MlPredictionService(new ObjectMapper());
+        ReflectionTestUtils.setField(s, "defaultScorer", "java");
+        ReflectionTestUtils.setField(s, "modelDir", tempDir.toString());
+        ReflectionTestUtils.setField(s, "configEnabled", true);
+        s.init();
+        service = s;
+
+        assertThat(service.getStatuses().get(0).scorer()).isEqualTo("onnx");
+        PredictionResult.MlPrediction p = service.predict("baseline", completeContext());
+        assertThat(p).isNotNull();
+        assertThat(p.spread()).isCloseTo(Math.tanh(7.5), within(1e-6));
+    }
+
+    @Test
+    void statusReportsLoadAndWarmupTimes() {
+        service = newService(fixtureDir(), true);
+
+        MlBundleStatus status = service.status("baseline");
+        assertThat(status).isNotNull();
+        assertThat(status.loadTime()).isPositive();
+        assertThat(status.warmupTime()).isPositive();
+        assertThat(service.status("nope")).isNull();
+    }
+
+    @Test
+    void bundleFailingWarmUpIsNotPublished(@TempDir Path tempDir) throws IOException {
+        copyFixturesInto(tempDir.resolve("good"));
+        copyFixturesInto(tempDir.resolve("short"));
+        // 26 features against models that expect 27 inputs: sessions load, the first score fails
+        Path manifest = tempDir.resolve("short/features.json");
+        Files.writeString(manifest, Files.readString(manifest)
+                .replace("\"is_conference_game\"", "")
+                .replace("\"is_neutral_site\",", "\"is_neutral_site\"")
+                .replaceFirst("\\{", "{\"slug\": \"short\","));
+
+        service = newService(tempDir.toString(), true);
+
+        assertThat(service.loadedSlugs()).containsExactly("good");
+    }
+
+    @Test
+    void customSessionOptionsLoadAndScore() {
+        MlPredictionService s = new MlPredictionService(new ObjectMapper());
+        ReflectionTestUtils.setField(s, "optimizationLevel", "NO_OPT");
+        ReflectionTestUtils.setField(s, "intraOpThreads", 2);
+        ReflectionTestUtils.setField(s, "memoryArena", false);
+        ReflectionTestUtils.setField(s, "loadThreads", 1);
+        ReflectionTestUtils.setField(s, "modelDir", fixtureDir());
+        ReflectionTestUtils.setField(s, "configEnabled", true);
+        s.init();
+        service = s;
+
+        PredictionResult.MlPrediction p = service.predict("baseline", completeContext());
+        assertThat(p).isNotNull();
+        assertThat(p.spread()).isCloseTo(7.5, within(1e-4));
+    }
+
     @Test
     void missingModelDirectoryDisablesService() {
         service = newService("/nonexistent/model/dir", true);
@@ -0,0 +1,351 @@
+package com.yotto.basketball.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Builds ONNX models shaped like our trainer's exports — XGBoost tree ensembles via
+ * onnxmltools and skl2onnx's sigmoid calibration — by writing the protobuf directly, so
+ * tests can compare {@link JavaOnnxModel} with onnxruntime without Python. The checked-in
+ * fixtures in {@code src/test/resources/ml-models} are MatMul graphs with no trees.
+ *
+ * <p>Trees are random but seeded. Leaf weights and base values are multiples of 1/64,
+ * so float and double accumulation give identical sums.
+ */
+final class OnnxTestModels {
+
+    static final int FEATURES = 27;
+
+    private OnnxTestModels() {}
+
+    /** XGBRegressor-style TreeEnsembleRegressor: SUM of {@code trees} trees plus a base value. */
+    static byte[] regressor(long seed, int trees, String aggregate) {
+        Forest forest = Forest.random(new Random(seed), trees, false);
+        Node node = new Node("TreeEnsembleRegressor", "ai.onnx.ml", List.of("float_input"), List.of("variable"))
+                .ints("n_targets", 1)
+                .string("aggregate_function", aggregate)
+                .floats("base_values", 0.5)
+                .forest(forest, "target_");
+        return model(List.of(node), List.of(), List.of(floatOutput("variable", 1)));
+    }
+
+    /**
+     * XGBClassifier-style binary TreeEnsembleClassifier: one class-id column.
+     * {@code signedWeights} with {@code LOGISTIC} is what onnxmltools emits; all-positive
+     * weights exercise onnxruntime's {@code [1-s, s]} layout.
+     */
+    static byte[] binaryClassifier(long seed, int trees, boolean signedWeights, String postTransform) {
+        Node node = classifierNode(Forest.random(new Random(seed), trees, !signedWeights), postTransform);
+        return model(List.of(node), List.of(), List.of(labelOutput(), floatOutput("probabilities", 2)));
+    }
+
+    /**
+     * CalibratedClassifierCV(XGBClassifier, method="sigmoid") as skl2onnx writes it: the
+     * positive-class score goes through {@code 1 / (1 + exp(a·f + b))}, is paired with its
+     * complement, and two folds are averaged.
+     */
+    static byte[] calibratedClassifier(long seed, int trees) {
+        Random random = new Random(seed);
+        List<Node> nodes = new ArrayList<>();
+        List<Tensor> initializers = new ArrayList<>(List.of(
+                Tensor.longs("positive", new long[] {1}, 1),
+                Tensor.floats("one", new long[0], 1),
+                Tensor.floats("folds", new long[0], 2),
+                Tensor.floats("a0", new long[0], -3.5), Tensor.floats("b0", new long[0], 1.75),
+                Tensor.floats("a1", new long[0], -4.25), Tensor.floats("b1", new long[0], 2.0)));
+        List<String> foldOutputs = new ArrayList<>();
+        for (int fold = 0; fold < 2; fold++) {
+            String p = "f" + fold + "_";
+            nodes.add(classifierNode(Forest.random(random, trees, false), "LOGISTIC")
+                    .renameOutputs(p + "label", p + "scores"));
+            nodes.add(new Node("ArrayFeatureExtractor", "ai.onnx.ml", List.of(p + "scores", "positive"), List.of(p + "df")));
+            nodes.add(new Node("Mul", "", List.of(p + "df", "a" + fold), List.of(p + "ax")));
+            nodes.add(new Node("Add", "", List.of(p + "ax", "b" + fold), List.of(p + "axb")));
+            nodes.add(new Node("Exp", "", List.of(p + "axb"), List.of(p + "exp")));
+            nodes.add(new Node("Add", "", List.of(p + "exp", "one"), List.of(p + "denominator")));
+            nodes.add(new Node("Reciprocal", "", List.of(p + "denominator"), List.of(p + "pos")));
+            nodes.add(new Node("Sub", "", List.of("one", p + "pos"), List.of(p + "neg")));
+            nodes.add(new Node("Concat", "", List.of(p + "neg", p + "pos"), List.of(p + "prob")).ints("axis", 1));
+            foldOutputs.add(p + "prob");
+        }
+        nodes.add(new Node("Sum", "", foldOutputs, List.of("summed")));
+        nodes.add(new Node("Div", "", List.of("summed", "folds"), List.of("probabilities")));
+        // The label branch is never consumed by the scorer and must be pruned away
+        nodes.add(new Node("ArgMax", "", List.of("probabilities"), List.of("label")).ints("axis", 1).ints("keepdims", 0));
+        return model(nodes, initializers, List.of(labelOutput(), floatOutput("probabilities", 2)));
+    }
+
+    /** A regressor routed through an op the Java scorer does not implement. */
+    static byte[] unsupportedRegressor() {
+        Tensor w = Tensor.floats("W", new long[] {FEATURES, 1}, new double[FEATURES]);
+        w.values[0] = 1;
+        List<Node> nodes = List.of(
+                new Node("MatMul", "", List.of("float_input", "W"), List.of("linear")),
+                new Node("Tanh", "", List.of("linear"), List.of("variable")));
+        return model(nodes, List.of(w), List.of(floatOutput("variable", 1)));
+    }
+
+    /** Seeded feature rows in roughly the real features' ranges, with occasional NaNs. */
+    static float[][] rows(long seed, int count) {
+        Random random = new Random(seed);
+        float[][] rows = new float[count][FEATURES];
+        for (float[] row : rows) {
+            for (int f = 0; f < FEATURES; f++) {
+                row[f] = random.nextInt(40) == 0 ? Float.NaN : (float) (random.nextGaussian() * 10);
+            }
+        }
+        return rows;
+    }
+
+    private static Node classifierNode(Forest forest, String postTransform) {
+        return new Node("TreeEnsembleClassifier", "ai.onnx.ml", List.of("float_input"), List.of("label", "probabilities"))
+                .intList("classlabels_int64s", 0, 1)
+                .string("post_transform", postTransform)
+                .floats("base_values", -0.25)
+                .forest(forest, "class_");
+    }
+
+    // ── Random trees ──────────────────────────────────────────────────────────
+
+    private record Forest(List<long[]> nodes, List<String> modes, List<Double> thresholds,
+                          List<long[]> leaves, List<Double> weights) {
+
+        static Forest random(Random random, int trees, boolean positiveWeights) {
+            Forest forest = new Forest(new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+                    new ArrayList<>(), new ArrayList<>());
+            for (int tree = 0; tree < trees; tree++) {
+                forest.grow(random, tree, new long[] {0}, 1 + random.nextInt(4), positiveWeights);
+            }
+            return forest;
+        }
+
+        /** Adds node {@code next[0]} of {@code tree} and its subtree; returns its id. */
+        private long grow(Random random, int tree, long[] next, int depth, boolean positiveWeights) {
+            long id = next[0]++;
+            int at = nodes.size();
+            // {tree, id, feature, true child, false child, missing tracks true}
+            nodes.add(new long[] {tree, id, 0, 0, 0, 0});
+            if (depth == 0) {
+                modes.add("LEAF");
+                thresholds.add(0.0);
+                leaves.add(new long[] {tree, id});
+                int k = positiveWeights ? random.nextInt(16) : random.nextInt(65) - 32;
+                weights.add(k / 64.0);
+                return id;
+            }
+            String[] branchModes = {"BRANCH_LEQ", "BRANCH_LEQ", "BRANCH_LT", "BRANCH_GTE", "BRANCH_GT"};
+            modes.add(branchModes[random.nextInt(branchModes.length)]);
+            thresholds.add((double) (float) (random.nextGaussian() * 8));
+            long feature = random.nextInt(FEATURES);
+            long missingTrue = random.nextBoolean() ? 1 : 0;
+            // Cut some true branches short so trees are unbalanced
+            long trueChild = grow(random, tree, next, random.nextInt(3) == 0 ? 0 : depth - 1, positiveWeights);
+            long falseChild = grow(random, tree, next, depth - 1, positiveWeights);
+            nodes.set(at, new long[] {tree, id, feature, trueChild, falseChild, missingTrue});
+            return id;
+        }
+    }
+
+    // ── Protobuf writing ──────────────────────────────────────────────────────
+
+    private static final class Node {
+        final String opType;
+        final String domain;
+        final List<String> inputs;
+        List<String> outputs;
+        final List<byte[]> attributes = new ArrayList<>();
+
+        Node(String opType, String domain, List<String> inputs, List<String> outputs) {
+            this.opType = opType;
+            this.domain = domain;
+            this.inputs = inputs;
+            this.outputs = outputs;
+        }
+
+        Node renameOutputs(String... names) {
+            outputs = List.of(names);
+            return this;
+        }
+
+        Node ints(String name, long value) {
+            attributes.add(new Proto().string(1, name).varint(3, value).varint(20, 2).bytes());
+            return this;
+        }
+
+        Node intList(String name, long... values) {
+            Proto a = new Proto().string(1, name);
+            for (long v : values) a.varint(8, v);
+            attributes.add(a.varint(20, 7).bytes());
+            return this;
+        }
+
+        Node floats(String name, double... values) {
+            Proto a = new Proto().string(1, name);
+            for (double v : values) a.fixed32(7, (float) v);
+            attributes.add(a.varint(20, 6).bytes());
+            return this;
+        }
+
+        Node string(String name, String value) {
+            attributes.add(new Proto().string(1, name).string(4, value).varint(20, 3).bytes());
+            return this;
+        }
+
+        Node strings(String name, List<String> values) {
+            Proto a = new Proto().string(1, name);
+            for (String v : values) a.string(9, v);
+            attributes.add(a.varint(20, 8).bytes());
+            return this;
+        }
+
+        Node longList(String name, List<long[]> rows, int column) {
+            return intList(name, rows.stream().mapToLong(row -> row[column]).toArray());
+        }
+
+        Node doubleList(String name, List<Double> values) {
+            return floats(name, values.stream().mapToDouble(Double::doubleValue).toArray());
+        }
+
+        Node forest(Forest forest, String leafPrefix) {
+            longList("nodes_treeids", forest.nodes, 0);
+            longList("nodes_nodeids", forest.nodes, 1);
+            longList("nodes_featureids", forest.nodes, 2);
+            longList("nodes_truenodeids", forest.nodes, 3);
+            longList("nodes_falsenodeids", forest.nodes, 4);
+            longList("nodes_missing_value_tracks_true", forest.nodes, 5);
+            doubleList("nodes_values", forest.thresholds);
+            strings("nodes_modes", forest.modes);
+            longList(leafPrefix + "treeids", forest.leaves, 0);
+            longList(leafPrefix + "nodeids", forest.leaves, 1);
+            longList(leafPrefix + "ids", forest.leaves.stream().map(l -> new long[] {0}).toList(), 0);
+            doubleList(leafPrefix + "weights", forest.weights);
+            return this;
+        }
+
+        byte[] bytes() {
+            Proto p = new Proto();
+            inputs.forEach(i -> p.string(1, i));
+            outputs.forEach(o -> p.string(2, o));
+            p.string(4, opType);
+            attributes.forEach(a -> p.message(5, a));
+            if (!domain.isEmpty()) p.string(7, domain);
+            return p.bytes();
+        }
+    }
+
+    private static final class Tensor {
+        final String name;
+        final long[] dims;
+        final double[] values;
+        final boolean int64;
+
+        private Tensor(String name, long[] dims, double[] values, boolean int64) {
+            this.name = name;
+            this.dims = dims;
+            this.values = values;
+            this.int64 = int64;
+        }
+
+        static Tensor floats(String name, long[] dims, double... values) {
+            return new Tensor(name, dims, values, false);
+        }
+
+        static Tensor longs(String name, long[] dims, long... values) {
+            double[] v = new double[values.length];
+            for (int i = 0; i < v.length; i++) v[i] = values[i];
+            return new Tensor(name, dims, v, true);
+        }
+
+        byte[] bytes() {
+            Proto p = new Proto();
+            for (long d : dims) p.varint(1, d);
+            p.varint(2, int64 ? 7 : 1).string(8, name);
+            ByteBuffer raw = ByteBuffer.allocate(values.length * (int64 ? 8 : 4)).order(ByteOrder.LITTLE_ENDIAN);
+            for (double v : values) {
+                if (int64) raw.putLong((long) v);
+                else raw.putFloat((float) v);
+            }
+            return p.message(9, raw.array()).bytes();
+        }
+    }
+
+    private static byte[] floatOutput(String name, int columns) {
+        return valueInfo(name, 1, columns);
+    }
+
+    private static byte[] labelOutput() {
+        return valueInfo("label", 7, 0);
+    }
+
+    /** A ValueInfoProto of shape [N] ({@code columns == 0}) or [N, columns]. */
+    private static byte[] valueInfo(String name, int elementType, int columns) {
+        Proto shape = new Proto().message(1, new Proto().string(2, "N").bytes());
+        if (columns > 0) shape.message(1, new Proto().varint(1, columns).bytes());
+        byte[] tensorType = new Proto().varint(1, elementType).message(2, shape.bytes()).bytes();
+        return new Proto().string(1, name).message(2, new Proto().message(1, tensorType).bytes()).bytes();
+    }
+
+    private static byte[] model(List<Node> nodes, List<Tensor> initializers, List<byte[]> outputs) {
+        Proto graph = new Proto();
+        nodes.forEach(n -> graph.message(1, n.bytes()));
+        graph.string(2, "test_model");
+        initializers.forEach(t -> graph.message(5, t.bytes()));
+        graph.message(11, valueInfo("float_input", 1, FEATURES));
+        outputs.forEach(o -> graph.message(12, o));
+        return new Proto()
+                .varint(1, 8)
+                .message(8, new Proto().string(1, "").varint(2, 17).bytes())
+                .message(8, new Proto().string(1, "ai.onnx.ml").varint(2, 3).bytes())
+                .message(7, graph.bytes())
+                .bytes();
+    }
+
+    private static final class Proto {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Proto varint(int field, long value) {
+            tag(field, 0);
+            rawVarint(value);
+            return this;
+        }
+
+        Proto fixed32(int field, float value) {
+            tag(field, 5);
+            int bits = Float.floatToIntBits(value);
+            for (int i = 0; i < 4; i++) out.write(bits >>> (8 * i));
+            return this;
+        }
+
+        Proto string(int field, String value) {
+            return message(field, value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        Proto message(int field, byte[] bytes) {
+            tag(field, 2);
+            rawVarint(bytes.length);
+            out.writeBytes(bytes);
+            return this;
+        }
+
+        byte[] bytes() {
+            return out.toByteArray();
+        }
+
+        private void tag(int field, int wireType) {
+            rawVarint((long) field << 3 | wireType);
+        }
+
+        private void rawVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.yotto.basketball.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PipelineMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private PipelineMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new PipelineMetrics(registry);
+    }
+
+    @Test
+    void finish_publishesStageTimersTaggedBySeasonAndModel() {
+        PipelineMetrics.Run run = metrics.start("MASSEY", 2025);
+        run.add(PipelineMetrics.SOLVE, 3_000_000);
+        run.add(PipelineMetrics.SOLVE, 2_000_000);
+        run.add(PipelineMetrics.WRITE, 1_000_000);
+        run.finish();
+
+        var solve = registry.get(PipelineMetrics.STAGE_TIMER)
+                .tags("stage", "solve", "season", "2025", "model", "MASSEY").timer();
+        assertThat(solve.count()).isEqualTo(1);
+        assertThat(solve.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5.0);
+    }
+
+    @Test
+    void finish_countsSolverWorkPerVariant() {
+        PipelineMetrics.Run run = metrics.start("BRADLEY_TERRY", 2025);
+        run.solverIterations("BRADLEY_TERRY", 3);
+        run.solverIterations("BRADLEY_TERRY", 2);
+        run.solverIterations("BRADLEY_TERRY_W", 4);
+        run.solverFallback("BRADLEY_TERRY_W");
+        run.finish();
+
+        assertThat(registry.get(PipelineMetrics.SOLVER_ITERATIONS)
+                .tags("model", "BRADLEY_TERRY", "season", "2025").counter().count()).isEqualTo(5);
+        assertThat(registry.get(PipelineMetrics.SOLVER_FALLBACKS)
+                .tags("model", "BRADLEY_TERRY_W", "season", "2025").counter().count()).isEqualTo(1);
+
+        PipelineMetrics.RunSummary summary = metrics.latestRuns().get(0);
+        assertThat(summary.solverIterations()).isEqualTo(9);
+        assertThat(summary.solverFallbacks()).isEqualTo(1);
+    }
+
+    @Test
+    void latestRuns_keepsOnlyTheMostRecentRunPerModel() {
+        PipelineMetrics.Run first = metrics.start("MASSEY", 2024);
+        first.add(PipelineMetrics.SOLVE, 1_000_000);
+        first.finish();
+        PipelineMetrics.Run second = metrics.start("MASSEY", 2025);
+        second.add(PipelineMetrics.ACCUMULATE, 2_000_000);
+        second.add(PipelineMetrics.SOLVE, 4_000_000);
+        second.rows(120);
+        second.finish();
+
+        assertThat(metrics.latestRuns()).singleElement().satisfies(r -> {
+            assertThat(r.season()).isEqualTo(2025);
+            assertThat(r.stageMillis()).containsExactly(
+                    Map.entry("accumulate", 2L), Map.entry("solve", 4L));
+            assertThat(r.totalMillis()).isEqualTo(6);
+            assertThat(r.rowsWritten()).isEqualTo(120);
+        });
+    }
+
+    @Test
+    void rowsWritten_accumulatesPerTableAndSeason() {
+        metrics.rowsWritten("team_stat_snapshots", 2025, 1000);
+        metrics.rowsWritten("team_stat_snapshots", 2025, 500);
+
+        assertThat(registry.get(PipelineMetrics.ROWS_WRITTEN)
+                .tags("table", "team_stat_snapshots", "season", "2025").counter().count()).isEqualTo(1500);
+    }
+}
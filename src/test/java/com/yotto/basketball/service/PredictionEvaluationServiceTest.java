@@ -210,6 +210,32 @@ class PredictionEvaluationServiceTest extends BaseIntegrationTest {
         assertThat(evaluationRepo.findEvaluatedSeasonYears()).containsExactly(2025);
     }
 
+    @Test
+    void aggregateQueries_rebuildDoesNotDoubleCountRollups() {
+        mkFinalGame("g1", 80, 75);
+        mkFinalGame("g2", 60, 70);
+        evaluationService.evaluateSeason(2025);
+        evaluationService.rebuildSeason(2025);
+
+        var spread = evaluationRepo.spreadMetrics(season.getId(), LocalDate.of(1900, 1, 1), true, List.of("NONE"));
+        var masseyRow = spread.stream().filter(r -> r.getModelType().equals("MASSEY")).findFirst().orElseThrow();
+        assertThat(masseyRow.getN()).isEqualTo(2);
+        assertThat(masseyRow.getMae()).isCloseTo(11.5, within(1e-6));
+    }
+
+    @Test
+    void aggregateQueries_segmentAndDateFiltersApplyToRollups() {
+        mkFinalGame("g1", 80, 75);
+        evaluationService.evaluateSeason(2025);
+
+        assertThat(evaluationRepo.spreadMetrics(season.getId(), LocalDate.of(1900, 1, 1), false,
+                List.of("NCAA_TOURNAMENT"))).isEmpty();
+        assertThat(evaluationRepo.spreadMetrics(season.getId(), GAME_DATE.toLocalDate().plusDays(1), true,
+                List.of("NONE"))).isEmpty();
+        assertThat(evaluationRepo.spreadMetrics(season.getId(), LocalDate.of(1900, 1, 1), false,
+                List.of("NONE"))).isNotEmpty();
+    }
+
     // ── Moneyline de-vig helper ───────────────────────────────────────────────
 
     @Test
@@ -31,6 +31,8 @@ class PredictionServiceTest extends BaseIntegrationTest {
     @Autowired SeasonStatisticsRepository statsRepo;
     @Autowired ConferenceMembershipRepository membershipRepo;
     @Autowired ConferenceRepository conferenceRepo;
+    @Autowired GamePredictionStore predictionStore;
+    @Autowired MlModelRegistryService mlModelRegistryService;
 
     Season season;
     Team homeTeam, awayTeam;
@@ -247,6 +249,23 @@ class PredictionServiceTest extends BaseIntegrationTest {
         assertThat(result.bradleyTerryWeighted()).isNull();
     }
 
+    @Test
+    void predict_eloSpreadAndProbabilityIncludeHomeAdvantage() {
+        // gap 40 + H 100 = 140 Elo → spread 140/28 = 5, P(home) = 1/(1 + 10^(−140/400))
+        addRatingSnapshot(homeTeam, EloRatingService.MODEL_TYPE, 1540.0, SNAPSHOT_DATE);
+        addRatingSnapshot(awayTeam, EloRatingService.MODEL_TYPE, 1500.0, SNAPSHOT_DATE);
+        Game game = mkGame(Game.GameStatus.SCHEDULED, GAME_DATE);
+
+        PredictionResult result = service.predict(game.getId());
+
+        assertThat(result.elo()).isNotNull();
+        assertThat(result.elo().spread()).isCloseTo(5.0, within(0.001));
+        assertThat(result.elo().homeWinProbability())
+                .isCloseTo(1.0 / (1.0 + Math.pow(10, -140.0 / 400)), within(0.0001));
+        assertThat(result.elo().homeImpliedMoneyline()).isNegative();
+        assertThat(result.massey()).isNull();
+    }
+
     @Test
     void predict_masseyTotalIncludesIntercept() {
         // intercept = 140, β_h = 5, β_a = 2, δ = 0 → total = 5 + 2 + 140 = 147
@@ -407,4 +426,75 @@ class PredictionServiceTest extends BaseIntegrationTest {
         assertThat(result.awayTeam().id()).isEqualTo(awayTeam.getId());
         assertThat(result.awayTeam().name()).isEqualTo("Auburn");
     }
+
+    // ── Materialized predictions ──────────────────────────────────────────────
+
+    @Test
+    void predict_scheduledGame_servesCurrentStoredPrediction() {
+        addAllRatings(5.0, 2.0, 0.0, 75.0, 70.0, 0.0, 1.0, 0.0, 0.0);
+        Game game = mkGame(Game.GameStatus.SCHEDULED, GAME_DATE);
+        storePrediction(game, mlModelRegistryService.plan().fingerprint(), 42.0);
+
+        PredictionResult result = service.predict(game.getId());
+
+        assertThat(result.massey().spread()).isEqualTo(42.0);
+        assertThat(result.homeTeam().name()).isEqualTo("Alabama");
+    }
+
+    @Test
+    void predict_staleModelVersion_computesLive() {
+        addAllRatings(5.0, 2.0, 0.0, 75.0, 70.0, 0.0, 1.0, 0.0, 0.0);
+        Game game = mkGame(Game.GameStatus.SCHEDULED, GAME_DATE);
+        storePrediction(game, "stale-plan", 42.0);
+
+        PredictionResult result = service.predict(game.getId());
+
+        assertThat(result.massey().spread()).isCloseTo(3.0, within(0.001));
+    }
+
+    @Test
+    void predict_finalGame_ignoresStoredPrediction() {
+        addAllRatings(5.0, 2.0, 0.0, 75.0, 70.0, 0.0, 1.0, 0.0, 0.0);
+        Game game = mkGame(Game.GameStatus.FINAL, GAME_DATE);
+        storePrediction(game, mlModelRegistryService.plan().fingerprint(), 42.0);
+
+        PredictionResult result = service.predict(game.getId());
+
+        assertThat(result.massey().spread()).isCloseTo(3.0, within(0.001));
+    }
+
+    @Test
+    void predict_relocatedGame_computesLive() {
+        addAllRatings(5.0, 2.0, 0.0, 75.0, 70.0, 0.0, 1.0, 0.0, 0.0);
+        Game game = mkGame(Game.GameStatus.SCHEDULED, GAME_DATE);
+        storePrediction(game, mlModelRegistryService.plan().fingerprint(), 42.0);
+        game.setNeutralSite(true);
+        gameRepo.save(game);
+
+        PredictionResult result = service.predict(game.getId());
+
+        assertThat(result.massey().spread()).isCloseTo(3.0, within(0.001));
+    }
+
+    @Test
+    void predict_rescheduledGame_computesLive() {
+        addAllRatings(5.0, 2.0, 0.0, 75.0, 70.0, 0.0, 1.0, 0.0, 0.0);
+        Game game = mkGame(Game.GameStatus.SCHEDULED, GAME_DATE);
+        storePrediction(game, mlModelRegistryService.plan().fingerprint(), 42.0);
+        game.setGameDate(GAME_DATE.plusDays(1).atTime(20, 0));
+        gameRepo.save(game);
+
+        PredictionResult result = service.predict(game.getId());
+
+        assertThat(result.massey().spread()).isCloseTo(3.0, within(0.001));
+    }
+
+    /** No watermark exists for the season, so a null generation is the current one. */
+    private void storePrediction(Game game, String modelVersion, double masseySpread) {
+        var models = new GamePredictionStore.Models(
+                new PredictionResult.MasseyPrediction(masseySpread, 10, 10, SNAPSHOT_DATE, null),
+                null, null, null, null, null, java.util.Map.of());
+        predictionStore.upsert(List.of(new GamePredictionStore.Row(
+                game.getId(), season.getId(), GAME_DATE, false, null, modelVersion, models)));
+    }
 }
@@ -0,0 +1,110 @@
+package com.yotto.basketball.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Cross-season priors: centring and shrinking the previous ratings, the pull they put
+ * on the Massey and Bradley-Terry solves, and how that pull fades with games.
+ */
+class RatingPriorTest {
+
+    private static final int TEAMS = 4, SIZE = TEAMS + 1;
+
+    @Test
+    void targetIsPreviousRatingCentredAndShrunk() {
+        RatingPrior prior = RatingPrior.of(List.of(1L, 2L, 3L, 4L),
+                Map.of(1L, 110.0, 2L, 90.0, 3L, 100.0, 9L, 100.0), 0.5, 3.0);
+
+        assertThat(prior.target()).containsExactly(new double[]{5, -5, 0, 0}, within(1e-12));
+        assertThat(prior.weight()).containsExactly(3, 3, 3, 0);
+    }
+
+    @Test
+    void noPriorWithoutOverlappingTeams() {
+        assertThat(RatingPrior.of(List.of(1L, 2L), Map.of(), 0.5, 3.0)).isNull();
+        assertThat(RatingPrior.of(List.of(1L, 2L), Map.of(7L, 4.0), 0.5, 3.0)).isNull();
+    }
+
+    @Test
+    void masseyWithoutGamesSitsNearTheTarget() {
+        RatingPrior prior = new RatingPrior(new double[]{6, -2, -4, 0}, new double[]{3, 3, 3, 3});
+
+        double[] x = MasseyRatingService.solve(new double[SIZE][SIZE], new double[SIZE], TEAMS, SIZE,
+                MasseyRatingService.LAMBDA, prior, () -> {});
+
+        for (int j = 0; j < TEAMS; j++) {
+            assertThat(x[j]).isCloseTo(3 / (3 + MasseyRatingService.LAMBDA) * prior.target()[j], within(1e-9));
+        }
+    }
+
+    @Test
+    void masseyPriorFadesAsGamesAccumulate() {
+        RatingPrior prior = new RatingPrior(new double[]{8, 0, 0, -8}, new double[]{3, 3, 3, 3});
+        double[] strength = {0, 0, 0, 0};
+        Random random = new Random(5);
+
+        double early = gapToPlainFit(10, strength, prior, random);
+        double late = gapToPlainFit(400, strength, prior, random);
+
+        assertThat(early).isGreaterThan(1.0);
+        assertThat(late).isLessThan(early / 10);
+    }
+
+    @Test
+    void bradleyTerryWarmStartReachesThePriorHeldOptimum() {
+        Random random = new Random(11);
+        double[] strength = {1.2, 0.4, -0.3, -1.3};
+        List<int[]> games = new ArrayList<>();
+        for (int g = 0; g < 12; g++) {
+            int h = random.nextInt(TEAMS), a = (h + 1 + random.nextInt(TEAMS - 1)) % TEAMS;
+            double p = 1 / (1 + Math.exp(-(strength[h] - strength[a] + 0.3)));
+            games.add(new int[]{h, a, random.nextDouble() < p ? 1 : 0, 1, 5});
+        }
+        RatingPrior prior = new RatingPrior(strength.clone(), new double[]{0.75, 0.75, 0.75, 0.75});
+
+        double[] cold = new double[SIZE];
+        double[] warm = new double[SIZE];
+        System.arraycopy(prior.target(), 0, warm, 0, TEAMS);
+        int coldIters = BradleyTerryRatingService.newtonRaphson(cold, games, TEAMS, SIZE,
+                BradleyTerryRatingService.LAMBDA, 0.0, prior);
+        int warmIters = BradleyTerryRatingService.newtonRaphson(warm, games, TEAMS, SIZE,
+                BradleyTerryRatingService.LAMBDA, 0.0, prior);
+
+        double[] plain = new double[SIZE];
+        BradleyTerryRatingService.newtonRaphson(plain, games, TEAMS, SIZE, BradleyTerryRatingService.LAMBDA, 0.0);
+
+        assertThat(warmIters).isLessThanOrEqualTo(coldIters);
+        assertThat(warm).containsExactly(cold, within(1e-6));
+        assertThat(distance(warm, strength)).isLessThan(distance(plain, strength));
+    }
+
+    private static double distance(double[] params, double[] target) {
+        double sum = 0;
+        for (int j = 0; j < TEAMS; j++) sum += (params[j] - target[j]) * (params[j] - target[j]);
+        return Math.sqrt(sum);
+    }
+
+    /** Max rating gap between the prior-held and plain spread fits after {@code n} games. */
+    private static double gapToPlainFit(int n, double[] strength, RatingPrior prior, Random random) {
+        double[][] A = new double[SIZE][SIZE];
+        double[] b = new double[SIZE];
+        for (int g = 0; g < n; g++) {
+            int h = random.nextInt(TEAMS), a = (h + 1 + random.nextInt(TEAMS - 1)) % TEAMS;
+            int margin = (int) Math.round(strength[h] - strength[a] + random.nextGaussian() * 11);
+            RatingWhatIf.addRow(A, b, new int[]{h, a, margin, 0}, TEAMS);
+        }
+        double[] plain = MasseyRatingService.solve(A, b, TEAMS, SIZE, () -> {});
+        double[] held = MasseyRatingService.solve(A, b, TEAMS, SIZE, MasseyRatingService.LAMBDA, prior, () -> {});
+        double gap = 0;
+        for (int j = 0; j < TEAMS; j++) gap = Math.max(gap, Math.abs(held[j] - plain[j]));
+        return gap;
+    }
+}
@@ -0,0 +1,138 @@
+package com.yotto.basketball.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Low-rank what-if updates against full refits on a random 30-team season: Massey must
+ * match exactly, Bradley-Terry's single Newton step to within a few hundredths of a logit,
+ * with and without previous-season priors.
+ */
+class RatingWhatIfTest {
+
+    private static final int TEAMS = 30;
+
+    private final Random random = new Random(7);
+    private final double[] strength = new double[TEAMS];
+    private final List<int[]> season = new ArrayList<>();
+    private final RatingWhatIf whatIf;
+
+    RatingWhatIfTest() {
+        for (int t = 0; t < TEAMS; t++) strength[t] = random.nextGaussian() * 8;
+        for (int g = 0; g < 400; g++) season.add(game());
+        whatIf = new RatingWhatIf(TEAMS, season);
+    }
+
+    @Test
+    void baseMatchesTheRatingServices() {
+        double[] massey = MasseyRatingService.solve(normalMatrix(season), normalVector(season), TEAMS, TEAMS + 1);
+        assertThat(whatIf.massey()).containsExactly(massey, within(1e-9));
+
+        double[] bt = new double[TEAMS + 1];
+        BradleyTerryRatingService.newtonRaphson(bt, btGames(season), TEAMS, TEAMS + 1, true);
+        assertThat(whatIf.bradleyTerry(true)).containsExactly(bt, within(1e-12));
+    }
+
+    @Test
+    void masseyUpdateIsTheExactRefit() {
+        List<int[]> added = List.of(new int[]{0, 1, -25, 1}, new int[]{2, 0, 3, 0}, new int[]{1, 5, 12, 1});
+        List<int[]> all = new ArrayList<>(season);
+        all.addAll(added);
+
+        double[] refit = MasseyRatingService.solve(normalMatrix(all), normalVector(all), TEAMS, TEAMS + 1);
+        assertThat(whatIf.massey(added)).containsExactly(refit, within(1e-8));
+    }
+
+    @Test
+    void bradleyTerryStepIsCloseToTheRefit() {
+        List<int[]> added = List.of(new int[]{3, 4, -18, 1}, new int[]{4, 6, 2, 0});
+        List<int[]> all = new ArrayList<>(season);
+        all.addAll(added);
+
+        for (boolean weighted : new boolean[]{false, true}) {
+            double[] refit = new double[TEAMS + 1];
+            BradleyTerryRatingService.newtonRaphson(refit, btGames(all), TEAMS, TEAMS + 1, weighted);
+            double[] before = whatIf.bradleyTerry(weighted), after = whatIf.bradleyTerry(added, weighted);
+
+            assertThat(after).containsExactly(refit, within(0.05));
+            // the home loss moves team 3 down, by an order of magnitude more than the remaining error
+            assertThat(before[3] - after[3]).isGreaterThan(10 * Math.abs(after[3] - refit[3]));
+        }
+    }
+
+    @Test
+    void priorsMatchTheServicesSolvesAndStillUpdate() {
+        RatingPrior massey = prior(1.0, 1.0), bt = prior(0.1, BradleyTerryRatingService.PRIOR_PER_GAME);
+        RatingWhatIf withPriors = new RatingWhatIf(TEAMS, season, new RatingWhatIf.Priors(massey, bt, bt));
+        List<int[]> added = List.of(new int[]{0, 1, -25, 1}, new int[]{3, 4, -18, 1});
+        List<int[]> all = new ArrayList<>(season);
+        all.addAll(added);
+
+        assertThat(withPriors.massey()).containsExactly(MasseyRatingService.solve(normalMatrix(season),
+                normalVector(season), TEAMS, TEAMS + 1, MasseyRatingService.LAMBDA, massey, () -> {}), within(1e-9));
+        assertThat(withPriors.massey()).isNotEqualTo(whatIf.massey());
+        assertThat(withPriors.massey(added)).containsExactly(MasseyRatingService.solve(normalMatrix(all),
+                normalVector(all), TEAMS, TEAMS + 1, MasseyRatingService.LAMBDA, massey, () -> {}), within(1e-8));
+
+        assertThat(withPriors.bradleyTerry(true)).containsExactly(btFit(season, bt), within(1e-9));
+        assertThat(withPriors.bradleyTerry(added, true)).containsExactly(btFit(all, bt), within(0.05));
+    }
+
+    @Test
+    void ranksAreOneBasedHighestFirst() {
+        assertThat(WhatIfRatingService.ranks(new double[]{0.5, 2.0, -1.0, 99.0}, 3)).containsExactly(2, 1, 3);
+    }
+
+    private int[] game() {
+        int h = random.nextInt(TEAMS), a = (h + 1 + random.nextInt(TEAMS - 1)) % TEAMS;
+        int nn = random.nextInt(5) == 0 ? 0 : 1;
+        int margin = (int) Math.round(strength[h] - strength[a] + 3 * nn + random.nextGaussian() * 11);
+        return new int[]{h, a, margin == 0 ? 1 : margin, nn};
+    }
+
+    private static double[][] normalMatrix(List<int[]> games) {
+        double[][] A = new double[TEAMS + 1][TEAMS + 1];
+        double[] b = new double[TEAMS + 1];
+        for (int[] g : games) RatingWhatIf.addRow(A, b, g, TEAMS);
+        return A;
+    }
+
+    private static double[] normalVector(List<int[]> games) {
+        double[][] A = new double[TEAMS + 1][TEAMS + 1];
+        double[] b = new double[TEAMS + 1];
+        for (int[] g : games) RatingWhatIf.addRow(A, b, g, TEAMS);
+        return b;
+    }
+
+    /** A prior toward noisy previous-season strengths, in the model's units, worth three games. */
+    private RatingPrior prior(double scale, double perGame) {
+        List<Long> ids = new ArrayList<>();
+        Map<Long, Double> previous = new HashMap<>();
+        for (int t = 0; t < TEAMS; t++) {
+            ids.add((long) t);
+            previous.put((long) t, scale * (strength[t] + random.nextGaussian() * 4));
+        }
+        return RatingPrior.of(ids, previous, 0.5, 3 * perGame);
+    }
+
+    /** The weighted Bradley-Terry optimum as the rating service solves it, seeded from the prior. */
+    private static double[] btFit(List<int[]> games, RatingPrior prior) {
+        double[] params = new double[TEAMS + 1];
+        System.arraycopy(prior.target(), 0, params, 0, TEAMS);
+        BradleyTerryRatingService.newtonRaphson(params, btGames(games), TEAMS, TEAMS + 1,
+                BradleyTerryRatingService.LAMBDA, 1.0, prior);
+        return params;
+    }
+
+    private static List<int[]> btGames(List<int[]> games) {
+        return games.stream().map(RatingWhatIf::btGame).toList();
+    }
+}
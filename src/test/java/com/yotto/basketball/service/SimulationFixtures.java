@@ -0,0 +1,77 @@
+package com.yotto.basketball.service;
+
+import com.yotto.basketball.entity.Conference;
+import com.yotto.basketball.entity.ConferenceMembership;
+import com.yotto.basketball.entity.Game;
+import com.yotto.basketball.entity.Season;
+import com.yotto.basketball.entity.Team;
+import com.yotto.basketball.entity.TeamPowerRatingSnapshot;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Unsaved entities for the mocked-repository tests of the in-memory rating consumers
+ * (projections, matchup grid, what-if, backtest). Ids are set by hand, since nothing
+ * here is persisted; a game without scores is SCHEDULED, one with scores FINAL.
+ */
+final class SimulationFixtures {
+
+    /** The season every fixture test plays in. */
+    static final long SEASON_ID = 5L;
+    static final int YEAR = 2026;
+
+    private SimulationFixtures() {}
+
+    static Season season() {
+        Season s = new Season();
+        s.setId(SEASON_ID);
+        s.setYear(YEAR);
+        return s;
+    }
+
+    static Team team(long id, String name) {
+        Team t = new Team();
+        t.setId(id);
+        t.setName(name);
+        return t;
+    }
+
+    static Conference conference(long id) {
+        Conference c = new Conference();
+        c.setId(id);
+        return c;
+    }
+
+    static ConferenceMembership member(Team team, Conference conference) {
+        ConferenceMembership m = new ConferenceMembership();
+        m.setTeam(team);
+        m.setConference(conference);
+        return m;
+    }
+
+    static Game game(long id, Season season, Team home, Team away, Integer homeScore, Integer awayScore,
+                     LocalDateTime at) {
+        Game g = new Game();
+        g.setId(id);
+        g.setSeason(season);
+        g.setHomeTeam(home);
+        g.setAwayTeam(away);
+        g.setHomeScore(homeScore);
+        g.setAwayScore(awayScore);
+        g.setNeutralSite(false);
+        g.setStatus(homeScore == null ? Game.GameStatus.SCHEDULED : Game.GameStatus.FINAL);
+        g.setGameDate(at);
+        return g;
+    }
+
+    static TeamPowerRatingSnapshot rating(Team team, Season season, String modelType, LocalDate date, double value) {
+        TeamPowerRatingSnapshot s = new TeamPowerRatingSnapshot();
+        s.setTeam(team);
+        s.setSeason(season);
+        s.setModelType(modelType);
+        s.setSnapshotDate(date);
+        s.setRating(value);
+        return s;
+    }
+}
@@ -201,6 +201,7 @@ class SnapshotJdbcWriterTest extends BaseIntegrationTest {
         s.setModelType("MASSEY");
         s.setSnapshotDate(DATE);
         s.setRating(12.345);
+        s.setRatingStdError(1.25);
         s.setRank(3);
         s.setGamesPlayed(18);
         s.setCalculatedAt(CALC_AT);
@@ -213,6 +214,7 @@ class SnapshotJdbcWriterTest extends BaseIntegrationTest {
         TeamPowerRatingSnapshot r = rows.get(0);
         assertThat(r.getTeam().getId()).isEqualTo(team.getId());
         assertThat(r.getRating()).isEqualTo(12.345);
+        assertThat(r.getRatingStdError()).isEqualTo(1.25);
         assertThat(r.getRank()).isEqualTo(3);
         assertThat(r.getGamesPlayed()).isEqualTo(18);
         assertThat(r.getCalculatedAt()).isEqualTo(CALC_AT);
@@ -17,7 +17,7 @@ class StatCatalogTest {
 
     @Test
     void everyRegistryStatHasCompleteCatalogMetadata() {
-        List<StatMeta> registry = BoxScoreStatCalculator.statMetas();
+        List<StatMeta> registry = TeamStatTimeSeriesService.statMetas();
 
         for (StatMeta meta : registry) {
             StatCatalog.StatInfo info = StatCatalog.require(meta.name());
@@ -32,7 +32,9 @@ class StatCatalogTest {
 
     @Test
     void catalogHasNoEntriesBeyondTheRegistry() {
-        List<String> registryNames = BoxScoreStatCalculator.statMetas().stream().map(StatMeta::name).toList();
+        // Rolling variants are derived from their base entries, not listed in the catalog
+        List<String> registryNames = TeamStatTimeSeriesService.statMetas().stream().map(StatMeta::name)
+                .filter(name -> BoxScoreStatCalculator.windowOf(name) == 0).toList();
         assertEquals(registryNames.size(), StatCatalog.all().size(),
                 "catalog and registry must be the same size");
         for (StatCatalog.StatInfo info : StatCatalog.all()) {
@@ -40,4 +42,16 @@ class StatCatalogTest {
                     () -> "catalog has a stat not in the registry: " + info.name());
         }
     }
+
+    @Test
+    void rollingVariantsDeriveFromTheirBaseEntry() {
+        StatCatalog.StatInfo base = StatCatalog.require("efg_pct");
+        StatCatalog.StatInfo l5 = StatCatalog.require("efg_pct_l5");
+
+        assertEquals("efg_pct_l5", l5.name());
+        assertEquals(base.title() + " (Last 5)", l5.title());
+        assertEquals(base.format(), l5.format());
+        assertEquals(base.higherIsBetter(), l5.higherIsBetter());
+        assertFalse(StatCatalog.contains("adj_tempo_l5"));
+    }
 }
@@ -0,0 +1,253 @@
+package com.yotto.basketball.service;
+
+import com.yotto.basketball.entity.Game;
+import com.yotto.basketball.entity.Season;
+import com.yotto.basketball.entity.Team;
+import com.yotto.basketball.entity.TeamPowerRatingSnapshot;
+import com.yotto.basketball.repository.GameRepository;
+import com.yotto.basketball.repository.SeasonRepository;
+import com.yotto.basketball.repository.TeamPowerRatingSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static com.yotto.basketball.service.SimulationFixtures.team;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tournament projections over a four-team East corner (1v16, 8v9) with mocked
+ * repositories: odds, FINAL-game locks, "what if" locks, validation and the cache.
+ */
+@ExtendWith(MockitoExtension.class)
+class TournamentSimulationServiceTest {
+
+    private static final LocalDate SNAP = LocalDate.of(2026, 3, 17);
+
+    @Mock private SeasonRepository seasonRepository;
+    @Mock private GameRepository gameRepository;
+    @Mock private TeamPowerRatingSnapshotRepository ratingRepository;
+
+    private TournamentSimulationService service;
+    private final Season season = SimulationFixtures.season();
+    private final List<Game> games = new ArrayList<>();
+    private final Team one = team(1, "One"), sixteen = team(16, "Sixteen"), eight = team(8, "Eight"), nine = team(9, "Nine");
+
+    @BeforeEach
+    void setUp() {
+        service = new TournamentSimulationService(seasonRepository, gameRepository, ratingRepository,
+                ForkJoinPool.commonPool());
+        ReflectionTestUtils.setField(service, "iterations", 20_000);
+        ReflectionTestUtils.setField(service, "whatIfIterations", 10_000);
+
+        games.add(game(one, sixteen, 1, 16));
+        games.add(game(eight, nine, 8, 9));
+        when(seasonRepository.findByYear(2026)).thenReturn(Optional.of(season));
+    }
+
+    /** The reads of a projection from the latest snapshot: its date, the bracket and the ratings. */
+    private void stubLatestProjection() {
+        when(ratingRepository.findLatestSnapshotDate(5L, BradleyTerryRatingService.MODEL_TYPE)).thenReturn(Optional.of(SNAP));
+        stubBracket();
+        stubRatings();
+    }
+
+    private void stubBracket() {
+        when(gameRepository.findBySeasonIdAndTournamentTypeWithDetails(5L, Game.TournamentType.NCAA_TOURNAMENT))
+                .thenReturn(games);
+    }
+
+    private void stubRatings() {
+        when(ratingRepository.findLatestBeforeForSeason(5L, List.of(BradleyTerryRatingService.MODEL_TYPE), SNAP.plusDays(1)))
+                .thenReturn(List.of(rating(one, 2.0), rating(sixteen, -2.0), rating(eight, 0.3), rating(nine, -0.3)));
+    }
+
+    @Test
+    void projectsAdvancementOddsAndMostLikelyBracket() {
+        stubLatestProjection();
+        TournamentProjection projection = service.project(2026, "bradley-terry", null, Map.of()).orElseThrow();
+
+        assertThat(projection.snapshotDate()).isEqualTo(SNAP);
+        assertThat(projection.rounds()).hasSize(7).endsWith("Champion");
+        assertThat(projection.teams()).extracting(TournamentProjection.TeamOdds::teamName)
+                .containsExactly("One", "Eight", "Nine", "Sixteen");
+        double champion = projection.teams().stream().mapToDouble(o -> o.advancement()[6]).sum();
+        assertThat(champion).isCloseTo(1.0, within(1e-9));
+        TournamentProjection.TeamOdds top = projection.teams().get(0);
+        assertThat(top.region()).isEqualTo("East");
+        assertThat(top.advancement()[0]).isEqualTo(1.0);
+        assertThat(top.advancement()[1]).isCloseTo(1 / (1 + Math.exp(-4.0)), within(0.02));
+
+        assertThat(projection.mostLikelyBracket()).extracting(TournamentProjection.Pick::round)
+                .containsExactly("1st Round", "1st Round", "2nd Round");
+        assertThat(projection.mostLikelyBracket().get(2).winnerName()).isEqualTo("One");
+        assertThat(projection.locks()).isEmpty();
+    }
+
+    @Test
+    void finalGamesAreLockedAndCachedPerResult() {
+        stubLatestProjection();
+        TournamentProjection before = service.project(2026, "bradley-terry", null, Map.of()).orElseThrow();
+        assertThat(service.project(2026, "bradley-terry", null, Map.of()).orElseThrow()).isSameAs(before);
+
+        Game upset = games.get(0);
+        upset.setStatus(Game.GameStatus.FINAL);
+        upset.setHomeScore(60);
+        upset.setAwayScore(65);
+        TournamentProjection after = service.project(2026, "bradley-terry", null, Map.of()).orElseThrow();
+
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.locks()).containsExactly(Map.entry(sixteen.getId(), 1));
+        TournamentProjection.TeamOdds sixteenOdds = after.teams().stream()
+                .filter(o -> o.teamName().equals("Sixteen")).findFirst().orElseThrow();
+        assertThat(sixteenOdds.advancement()[1]).isEqualTo(1.0);
+        verify(ratingRepository, times(2)).findLatestBeforeForSeason(anyLong(), any(), any());
+    }
+
+    @Test
+    void whatIfLocksAreAppliedAndNotCached() {
+        stubLatestProjection();
+        TournamentProjection whatIf = service.project(2026, "bradley-terry", null, Map.of(nine.getId(), 6)).orElseThrow();
+
+        assertThat(whatIf.teams().get(0).teamName()).isEqualTo("Nine");
+        assertThat(whatIf.teams().get(0).advancement()).containsOnly(1.0);
+        assertThat(whatIf.locks()).containsExactly(Map.entry(nine.getId(), 6));
+        assertThat(whatIf.iterations()).isEqualTo(10_000);
+        assertThat(service.project(2026, "bradley-terry", null, Map.of(nine.getId(), 6)).orElseThrow())
+                .isNotSameAs(whatIf);
+    }
+
+    @Test
+    void invalidLocksAndModelsAreRejected() {
+        when(ratingRepository.findLatestSnapshotDate(5L, BradleyTerryRatingService.MODEL_TYPE)).thenReturn(Optional.of(SNAP));
+        stubBracket();
+
+        assertThatThrownBy(() -> service.project(2026, "elo", null, Map.of()))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Unknown model");
+        assertThatThrownBy(() -> service.project(2026, "bradley-terry", null, Map.of(999L, 1)))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("not in the 2026 field");
+        assertThatThrownBy(() -> service.project(2026, "bradley-terry", null, Map.of(one.getId(), 7)))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Round index");
+        assertThatThrownBy(() -> service.project(2026, "bradley-terry", null, Map.of(one.getId(), 1, sixteen.getId(), 1)))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("cannot both win their 1st Round game");
+    }
+
+    @Test
+    void missingSnapshotYieldsNoProjection() {
+        when(ratingRepository.findLatestSnapshotDate(5L, MasseyRatingService.MODEL_TYPE)).thenReturn(Optional.empty());
+
+        assertThat(service.project(2026, "massey", null, Map.of())).isEmpty();
+    }
+
+    @Test
+    void dateResolvesToTheLatestSnapshotOnOrBeforeIt() {
+        LocalDate gameDay = SNAP.plusDays(2);
+        when(ratingRepository.findLatestSnapshotDateOnOrBefore(5L, BradleyTerryRatingService.MODEL_TYPE, gameDay))
+                .thenReturn(Optional.of(SNAP));
+        stubBracket();
+        stubRatings();
+
+        TournamentProjection projection = service.project(2026, "bradley-terry", gameDay, Map.of()).orElseThrow();
+
+        assertThat(projection.snapshotDate()).isEqualTo(SNAP);
+        assertThat(projection.teams().get(0).rating()).isEqualTo(2.0);
+    }
+
+    @Test
+    void dateBeforeAnySnapshotYieldsNoProjection() {
+        LocalDate early = LocalDate.of(2025, 11, 1);
+        when(ratingRepository.findLatestSnapshotDateOnOrBefore(5L, BradleyTerryRatingService.MODEL_TYPE, early))
+                .thenReturn(Optional.empty());
+
+        assertThat(service.project(2026, "bradley-terry", early, Map.of())).isEmpty();
+    }
+
+    @Test
+    void calcCompletedEvictsTheSeason() {
+        stubLatestProjection();
+        TournamentProjection first = service.project(2026, "bradley-terry", null, Map.of()).orElseThrow();
+
+        service.onClusterInvalidation(new ClusterInvalidationEvent(
+                ClusterInvalidationBus.Channel.CALC_COMPLETED, "2025,1", true));
+        assertThat(service.project(2026, "bradley-terry", null, Map.of()).orElseThrow()).isSameAs(first);
+
+        service.onClusterInvalidation(new ClusterInvalidationEvent(
+                ClusterInvalidationBus.Channel.CALC_COMPLETED, "2026,2", true));
+        assertThat(service.project(2026, "bradley-terry", null, Map.of()).orElseThrow()).isNotSameAs(first);
+        verify(ratingRepository, times(2)).findLatestBeforeForSeason(eq(5L), any(), eq(SNAP.plusDays(1)));
+    }
+
+    @Test
+    void concurrentRequestsWaitOnOneRun() throws Exception {
+        when(ratingRepository.findLatestSnapshotDate(5L, BradleyTerryRatingService.MODEL_TYPE)).thenReturn(Optional.of(SNAP));
+        stubBracket();
+        CountDownLatch loading = new CountDownLatch(1), release = new CountDownLatch(1);
+        when(ratingRepository.findLatestBeforeForSeason(5L, List.of(BradleyTerryRatingService.MODEL_TYPE), SNAP.plusDays(1)))
+                .thenAnswer(inv -> {
+                    loading.countDown();
+                    release.await(10, TimeUnit.SECONDS);
+                    return List.of(rating(one, 2.0), rating(sixteen, -2.0), rating(eight, 0.3), rating(nine, -0.3));
+                });
+
+        CompletableFuture<TournamentProjection> first = CompletableFuture.supplyAsync(
+                () -> service.project(2026, "bradley-terry", null, Map.of()).orElseThrow());
+        assertThat(loading.await(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<TournamentProjection> second = CompletableFuture.supplyAsync(
+                () -> service.project(2026, "bradley-terry", null, Map.of()).orElseThrow());
+        // the map is never locked for the run, so eviction goes through while it is in flight
+        service.onClusterInvalidation(new ClusterInvalidationEvent(
+                ClusterInvalidationBus.Channel.CALC_COMPLETED, "2025,1", true));
+        release.countDown();
+
+        assertThat(second.get(10, TimeUnit.SECONDS)).isSameAs(first.get(10, TimeUnit.SECONDS));
+        verify(ratingRepository, times(1)).findLatestBeforeForSeason(eq(5L), any(), eq(SNAP.plusDays(1)));
+    }
+
+    @Test
+    void failedRunIsNotCached() {
+        when(ratingRepository.findLatestSnapshotDate(5L, BradleyTerryRatingService.MODEL_TYPE)).thenReturn(Optional.of(SNAP));
+        stubBracket();
+        when(ratingRepository.findLatestBeforeForSeason(5L, List.of(BradleyTerryRatingService.MODEL_TYPE), SNAP.plusDays(1)))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(List.of(rating(one, 2.0), rating(sixteen, -2.0), rating(eight, 0.3), rating(nine, -0.3)));
+
+        assertThatThrownBy(() -> service.project(2026, "bradley-terry", null, Map.of()))
+                .isInstanceOf(IllegalStateException.class).hasMessage("database unavailable");
+        assertThat(service.project(2026, "bradley-terry", null, Map.of())).isPresent();
+    }
+
+    private Game game(Team home, Team away, int homeSeed, int awaySeed) {
+        Game g = SimulationFixtures.game(games.size() + 1, season, home, away, null, null,
+                SNAP.plusDays(2).atTime(19, 0));
+        g.setHomeSeed(homeSeed);
+        g.setAwaySeed(awaySeed);
+        g.setTournamentType(Game.TournamentType.NCAA_TOURNAMENT);
+        g.setTournamentRound("1st Round");
+        g.setTournamentRegion("East");
+        return g;
+    }
+
+    private TeamPowerRatingSnapshot rating(Team team, double value) {
+        return SimulationFixtures.rating(team, season, BradleyTerryRatingService.MODEL_TYPE, SNAP, value);
+    }
+}
@@ -0,0 +1,196 @@
+package com.yotto.basketball.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Pure unit test for the tournament engine: simulated odds against closed-form odds on
+ * small brackets (the unused entries are byes), lock handling, reproducibility, and the
+ * exact most likely bracket against brute force.
+ */
+class TournamentSimulatorTest {
+
+    private static final int ITERATIONS = 400_000;
+    /** Four standard errors of a proportion near 0.5 at {@link #ITERATIONS}. */
+    private static final double SAMPLING = 4 * 0.5 / Math.sqrt(ITERATIONS);
+
+    @Test
+    void fourTeamOddsMatchClosedForm() {
+        double[] ratings = {1.2, 0.4, 0.0, -0.7};
+        double[] p = TournamentSimulator.bradleyTerry(ratings);
+        TournamentSimulator sim = new TournamentSimulator(p, fourTeamSlots(), new int[] {1, 1, 1, 1});
+
+        long[] counts = sim.simulate(ITERATIONS, 7);
+
+        // entries 0..3 share the top-left corner: 0v1 and 2v3, winners meet at node 16
+        for (int t = 0; t < 4; t++) {
+            int mate = t ^ 1;
+            double first = p[t * 4 + mate];
+            double second = first * (p[t * 4 + (t < 2 ? 2 : 0)] * p[(t < 2 ? 2 : 0) * 4 + (t < 2 ? 3 : 1)]
+                    + p[t * 4 + (t < 2 ? 3 : 1)] * p[(t < 2 ? 3 : 1) * 4 + (t < 2 ? 2 : 0)]);
+            assertThat(share(counts, ITERATIONS, t, 2)).isCloseTo(first, within(SAMPLING));
+            assertThat(share(counts, ITERATIONS, t, 3)).isCloseTo(second, within(SAMPLING));
+            // with every other entry empty, the corner winner walks to the title
+            assertThat(share(counts, ITERATIONS, t, TournamentSimulator.CHAMPION)).isCloseTo(second, within(SAMPLING));
+        }
+    }
+
+    @Test
+    void firstFourPlayInFeedsItsEntry() {
+        int[][] slots = emptySlots();
+        slots[0] = new int[] {0};
+        slots[1] = new int[] {1, 2};
+        double[] p = TournamentSimulator.bradleyTerry(new double[] {0.0, 1.0, -1.0});
+        TournamentSimulator sim = new TournamentSimulator(p, slots, new int[] {1, 0, 0});
+
+        long[] counts = sim.simulate(ITERATIONS, 11);
+
+        double playIn = p[3 + 2];
+        assertThat(share(counts, ITERATIONS, 0, 1)).isEqualTo(1.0);
+        assertThat(share(counts, ITERATIONS, 1, 1)).isCloseTo(playIn, within(SAMPLING));
+        assertThat(share(counts, ITERATIONS, 2, 1) + share(counts, ITERATIONS, 1, 1)).isCloseTo(1.0, within(1e-12));
+        double champion0 = playIn * p[1] + (1 - playIn) * p[2];
+        assertThat(share(counts, ITERATIONS, 0, TournamentSimulator.CHAMPION)).isCloseTo(champion0, within(SAMPLING));
+    }
+
+    @Test
+    void lockedResultsAreAlwaysHonoured() {
+        double[] p = TournamentSimulator.bradleyTerry(new double[] {3.0, 2.0, 1.0, -3.0});
+        // team 3, the weakest, is locked through the corner game (level 3)
+        TournamentSimulator sim = new TournamentSimulator(p, fourTeamSlots(), new int[] {1, 1, 1, 3});
+
+        long[] counts = sim.simulate(ITERATIONS, 3);
+
+        assertThat(share(counts, ITERATIONS, 3, 2)).isEqualTo(1.0);
+        assertThat(share(counts, ITERATIONS, 3, 3)).isEqualTo(1.0);
+        assertThat(share(counts, ITERATIONS, 2, 2)).isZero();
+        assertThat(share(counts, ITERATIONS, 0, 3)).isZero();
+        assertThat(share(counts, ITERATIONS, 1, 3)).isZero();
+    }
+
+    @Test
+    void conflictingLocksAreReported() {
+        int[][] slots = fourTeamSlots();
+
+        assertThat(TournamentSimulator.conflict(slots, new int[] {2, 1, 1, 3})).isNull();
+        assertThat(TournamentSimulator.conflict(slots, new int[] {2, 2, 1, 1})).containsExactly(0, 1, 2);
+        assertThat(TournamentSimulator.conflict(slots, new int[] {3, 1, 3, 1})).containsExactly(0, 2, 3);
+    }
+
+    @Test
+    void sameSeedReproducesTheRun() {
+        double[] p = TournamentSimulator.massey(new double[] {4, 2, 1, -5}, 11.0);
+        TournamentSimulator sim = new TournamentSimulator(p, fourTeamSlots(), new int[] {1, 1, 1, 1});
+
+        assertThat(sim.simulate(20_000, 5)).containsExactly(sim.simulate(20_000, 5));
+        assertThat(sim.simulate(20_000, 5)).isNotEqualTo(sim.simulate(20_000, 6));
+    }
+
+    @Test
+    void fullFieldCountsOneWinnerPerGame() {
+        int teams = 68;
+        int[][] slots = new int[TournamentField.ENTRIES][];
+        int next = 0;
+        for (int e = 0; e < slots.length; e++) {
+            slots[e] = e % 16 == 1 ? new int[] {next++, next++} : new int[] {next++};
+        }
+        int[] reached = new int[teams];
+        for (int[] slot : slots) for (int t : slot) reached[t] = slot.length == 2 ? 0 : 1;
+        double[] ratings = new double[teams];
+        for (int t = 0; t < teams; t++) ratings[t] = Math.sin(t) * 2;
+        TournamentSimulator sim = new TournamentSimulator(TournamentSimulator.bradleyTerry(ratings), slots, reached);
+
+        int iterations = 20_000;
+        long[] counts = sim.simulate(iterations, 1);
+
+        for (int level = 1; level <= TournamentSimulator.CHAMPION; level++) {
+            long games = 0;
+            for (int t = 0; t < teams; t++) games += counts[t * TournamentSimulator.LEVELS + level];
+            assertThat(games).as("level %d", level).isEqualTo((long) iterations << (TournamentSimulator.CHAMPION - level));
+        }
+    }
+
+    @Test
+    void mostLikelyBracketMatchesBruteForce() {
+        double[] p = TournamentSimulator.bradleyTerry(new double[] {0.2, 0.1, 1.5, 1.4});
+        TournamentSimulator sim = new TournamentSimulator(p, fourTeamSlots(), new int[] {1, 1, 1, 1});
+
+        double best = 0;
+        int[] bestPicks = null;
+        for (int a : new int[] {0, 1}) {
+            for (int b : new int[] {2, 3}) {
+                for (int c : new int[] {a, b}) {
+                    double prob = p[a * 4 + (a ^ 1)] * p[b * 4 + (b ^ 1)] * p[c * 4 + (c == a ? b : a)];
+                    if (prob > best) {
+                        best = prob;
+                        bestPicks = new int[] {a, b, c};
+                    }
+                }
+            }
+        }
+
+        TournamentSimulator.Bracket bracket = sim.mostLikely();
+
+        assertThat(bracket.probability()).isCloseTo(best, within(1e-12));
+        assertThat(bracket.winners()[32]).isEqualTo(bestPicks[0]);
+        assertThat(bracket.winners()[33]).isEqualTo(bestPicks[1]);
+        assertThat(bracket.winners()[16]).isEqualTo(bestPicks[2]);
+        assertThat(bracket.winners()[1]).isEqualTo(bestPicks[2]);
+        assertThat(bracket.losers()[8]).isEqualTo(-1);
+    }
+
+    @Test
+    void mostLikelyBracketRespectsLocks() {
+        double[] p = TournamentSimulator.bradleyTerry(new double[] {3.0, 2.0, 1.0, -3.0});
+        TournamentSimulator sim = new TournamentSimulator(p, fourTeamSlots(), new int[] {1, 1, 1, 3});
+
+        TournamentSimulator.Bracket bracket = sim.mostLikely();
+
+        assertThat(bracket.winners()[33]).isEqualTo(3);
+        assertThat(bracket.winners()[16]).isEqualTo(3);
+        assertThat(bracket.odds()[16]).isEqualTo(1.0);
+        assertThat(bracket.probability()).isCloseTo(p[1], within(1e-12));
+    }
+
+    @Test
+    void nodeLevelsAndBlocks() {
+        assertThat(TournamentSimulator.level(1)).isEqualTo(TournamentSimulator.CHAMPION);
+        assertThat(TournamentSimulator.level(3)).isEqualTo(6);
+        assertThat(TournamentSimulator.level(63)).isEqualTo(2);
+        assertThat(TournamentSimulator.level(64)).isEqualTo(1);
+        assertThat(TournamentSimulator.block(2)).isEqualTo(-1);
+        assertThat(TournamentSimulator.block(7)).isEqualTo(3);
+        assertThat(TournamentSimulator.block(40)).isEqualTo(1);
+        assertThat(TournamentSimulator.block(127)).isEqualTo(3);
+    }
+
+    @Test
+    void normalCdfMatchesKnownValues() {
+        assertThat(TournamentSimulator.normalCdf(0)).isCloseTo(0.5, within(1e-7));
+        assertThat(TournamentSimulator.normalCdf(1.959964)).isCloseTo(0.975, within(2e-7));
+        assertThat(TournamentSimulator.normalCdf(-1)).isCloseTo(0.15865525, within(2e-7));
+    }
+
+    // ── fixtures ────────────────────────────────────────────────────────────
+
+    private static int[][] emptySlots() {
+        int[][] slots = new int[TournamentField.ENTRIES][];
+        Arrays.fill(slots, new int[0]);
+        return slots;
+    }
+
+    /** Teams 0..3 in entries 0..3; every other entry is empty. */
+    private static int[][] fourTeamSlots() {
+        int[][] slots = emptySlots();
+        for (int t = 0; t < 4; t++) slots[t] = new int[] {t};
+        return slots;
+    }
+
+    private static double share(long[] counts, int iterations, int team, int level) {
+        return (double) counts[team * TournamentSimulator.LEVELS + level] / iterations;
+    }
+}
@@ -0,0 +1,137 @@
+package com.yotto.basketball.service;
+
+import com.yotto.basketball.entity.Game;
+import com.yotto.basketball.entity.Season;
+import com.yotto.basketball.entity.Team;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Walk-forward replay: each day is predicted from the days before it only, teams are
+ * scored from their second appearance, and the grid knobs reach the solvers.
+ */
+class WalkForwardBacktestTest {
+
+    private static final WalkForwardBacktest.Setting MASSEY =
+            new WalkForwardBacktest.Setting(MasseyRatingService.MODEL_TYPE, MasseyRatingService.LAMBDA, 0);
+    private static final WalkForwardBacktest.Setting BT_WEIGHTED =
+            new WalkForwardBacktest.Setting(BradleyTerryRatingService.MODEL_TYPE, BradleyTerryRatingService.LAMBDA, 1);
+
+    @Test
+    void masseyPredictsEachDayFromThePreviousDays() {
+        // day 0: 0 beats 1 by 10 at home; day 1: 0 beats 1 by 4 at home, 2 debuts against 0
+        WalkForwardBacktest.Season season = new WalkForwardBacktest.Season(2026, 3,
+                new int[]{0, 0, 2}, new int[]{1, 1, 0}, new int[]{10, 4, -7},
+                new boolean[]{false, false, false}, new int[]{0, 1, 3});
+
+        WalkForwardBacktest.Score score = WalkForwardBacktest.run(season, MASSEY);
+
+        double[][] A = new double[4][4];
+        double[] b = new double[4];
+        RatingWhatIf.addRow(A, b, new int[]{0, 1, 10, 1}, 3);
+        double[] x = MasseyRatingService.solve(A, b, 3, 4);
+        double predicted = x[0] - x[1] + x[3];
+        assertThat(score.games()).isEqualTo(1);
+        assertThat(score.absError()).isCloseTo(Math.abs(predicted - 4), within(1e-9));
+        assertThat(score.squaredError()).isCloseTo((predicted - 4) * (predicted - 4), within(1e-9));
+        assertThat(score.correct()).isEqualTo(1);
+    }
+
+    @Test
+    void bradleyTerryUsesTheGridLambdaAndMarginWeight() {
+        // day 0: 0 beats 1 by 20 at home, 1 beats 2 by 3 at home; day 1: 0 loses to 2 at a neutral site
+        WalkForwardBacktest.Season season = new WalkForwardBacktest.Season(2026, 3,
+                new int[]{0, 1, 0}, new int[]{1, 2, 2}, new int[]{20, 3, -1},
+                new boolean[]{false, false, true}, new int[]{0, 2, 3});
+
+        for (double weight : new double[]{0, 1, 1.5}) {
+            WalkForwardBacktest.Setting setting =
+                    new WalkForwardBacktest.Setting(BradleyTerryRatingService.MODEL_TYPE, 0.3, weight);
+            WalkForwardBacktest.Score score = WalkForwardBacktest.run(season, setting);
+
+            double[] params = new double[4];
+            BradleyTerryRatingService.newtonRaphson(params,
+                    List.of(new int[]{0, 1, 1, 1, 20}, new int[]{1, 2, 1, 1, 3}), 3, 4, 0.3, weight);
+            double p = BradleyTerryRatingService.sigmoid(params[0] - params[2]);
+            assertThat(score.games()).isEqualTo(1);
+            assertThat(score.brier()).isCloseTo(p * p, within(1e-12));
+            assertThat(score.correct()).isZero();
+        }
+    }
+
+    @Test
+    void syntheticSeasonBeatsCoinFlipsAndTiesAreSkipped() {
+        Random random = new Random(11);
+        int teams = 40, days = 60, perDay = 10;
+        double[] strength = new double[teams];
+        for (int t = 0; t < teams; t++) strength[t] = random.nextGaussian() * 8;
+        int n = days * perDay;
+        int[] home = new int[n], away = new int[n], margin = new int[n], dayStart = new int[days + 1];
+        boolean[] neutral = new boolean[n];
+        for (int g = 0; g < n; g++) {
+            home[g] = random.nextInt(teams);
+            away[g] = (home[g] + 1 + random.nextInt(teams - 1)) % teams;
+            margin[g] = (int) Math.round(strength[home[g]] - strength[away[g]] + 3 + random.nextGaussian() * 11);
+        }
+        margin[n - 1] = 0;
+        for (int d = 0; d <= days; d++) dayStart[d] = d * perDay;
+        WalkForwardBacktest.Season season =
+                new WalkForwardBacktest.Season(2026, teams, home, away, margin, neutral, dayStart);
+
+        WalkForwardBacktest.Score massey = WalkForwardBacktest.run(season, MASSEY);
+        WalkForwardBacktest.Score bt = WalkForwardBacktest.run(season, BT_WEIGHTED);
+
+        double naiveAbs = 0;
+        for (int g = dayStart[10]; g < n; g++) naiveAbs += Math.abs(margin[g]);
+        assertThat(massey.absError() / massey.games()).isLessThan(naiveAbs / (n - dayStart[10]));
+        assertThat(bt.brier() / bt.games()).isLessThan(0.25);
+        assertThat(bt.games()).isLessThan(massey.games());
+    }
+
+    @Test
+    void seasonColumnsFollowTheLoadedGames() {
+        Team a = team(30), b = team(10), c = team(20);
+        List<Game> finals = new ArrayList<>();
+        finals.add(game(a, b, 70, 60, false, LocalDateTime.of(2026, 1, 5, 19, 0)));
+        finals.add(game(b, c, 55, 58, true, LocalDateTime.of(2026, 1, 5, 21, 0)));
+        finals.add(game(c, a, 80, 80, false, LocalDateTime.of(2026, 1, 7, 12, 0)));
+        Season entity = new Season();
+        entity.setYear(2026);
+
+        WalkForwardBacktest.Season season = WalkForwardBacktest.Season.of(
+                new SeasonGameData(entity, finals, Map.of(), Map.of()));
+
+        assertThat(season.year()).isEqualTo(2026);
+        assertThat(season.teams()).isEqualTo(3);
+        assertThat(season.home()).containsExactly(2, 0, 1);
+        assertThat(season.away()).containsExactly(0, 1, 2);
+        assertThat(season.margin()).containsExactly(10, -3, 0);
+        assertThat(season.neutral()).containsExactly(false, true, false);
+        assertThat(season.dayStart()).containsExactly(0, 2, 3);
+    }
+
+    private static Team team(long id) {
+        Team t = new Team();
+        t.setId(id);
+        return t;
+    }
+
+    private static Game game(Team home, Team away, int homeScore, int awayScore, boolean neutral, LocalDateTime at) {
+        Game g = new Game();
+        g.setHomeTeam(home);
+        g.setAwayTeam(away);
+        g.setHomeScore(homeScore);
+        g.setAwayScore(awayScore);
+        g.setNeutralSite(neutral);
+        g.setGameDate(at);
+        return g;
+    }
+}
@@ -0,0 +1,138 @@
+package com.yotto.basketball.service;
+
+import com.yotto.basketball.entity.Game;
+import com.yotto.basketball.entity.Season;
+import com.yotto.basketball.entity.Team;
+import com.yotto.basketball.repository.GameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.yotto.basketball.service.SimulationFixtures.team;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * What-if ratings over a three-team season with a mocked loader: before/after ratings
+ * and ranks, upcoming-game deltas, validation and the per-season cache.
+ */
+@ExtendWith(MockitoExtension.class)
+class WhatIfRatingServiceTest {
+
+    @Mock private SeasonGameDataLoader loader;
+    @Mock private GameRepository gameRepository;
+    @Mock private RatingPriorLoader ratingPriorLoader;
+
+    private WhatIfRatingService service;
+    private final Season season = SimulationFixtures.season();
+    private final Team alpha = team(1, "Alpha"), beta = team(2, "Beta"), gamma = team(3, "Gamma"), outsider = team(4, "Outsider");
+    private final List<Game> finals = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        service = new WhatIfRatingService(loader, gameRepository, ratingPriorLoader);
+
+        finals.add(game(alpha, beta, 80, 70));
+        finals.add(game(beta, gamma, 75, 60));
+        finals.add(game(alpha, gamma, 90, 65));
+        finals.add(game(gamma, beta, 70, 68));
+    }
+
+    private void stubSeason() {
+        Map<Long, Team> teams = new HashMap<>();
+        for (Team t : List.of(alpha, beta, gamma)) teams.put(t.getId(), t);
+        when(loader.load(2026)).thenReturn(Optional.of(new SeasonGameData(season, finals, Map.of(), teams)));
+    }
+
+    @Test
+    void upsetMovesRatingsRanksAndUpcomingPredictions() {
+        stubSeason();
+        when(gameRepository.findScheduledBetween(any(), any())).thenReturn(List.of(
+                game(gamma, alpha, null, null), game(alpha, outsider, null, null)));
+        WhatIfRatings result = service.apply(2026,
+                List.of(new WhatIfRatings.Hypothetical(3, 1, 30, false)), 7).orElseThrow();
+
+        assertThat(result.models()).extracting(WhatIfRatings.ModelChange::modelType).containsExactly(
+                MasseyRatingService.MODEL_TYPE, BradleyTerryRatingService.MODEL_TYPE,
+                BradleyTerryRatingService.MODEL_TYPE_WEIGHTED);
+        WhatIfRatings.ModelChange massey = result.models().get(0);
+        assertThat(massey.teams()).extracting(WhatIfRatings.TeamChange::rankAfter).containsExactly(1, 2, 3);
+        WhatIfRatings.TeamChange g = massey.teams().stream().filter(t -> t.teamId() == 3).findFirst().orElseThrow();
+        assertThat(g.rankBefore()).isEqualTo(3);
+        assertThat(g.ratingAfter()).isGreaterThan(g.ratingBefore());
+        for (WhatIfRatings.ModelChange m : result.models()) {
+            double sum = m.teams().stream().mapToDouble(WhatIfRatings.TeamChange::ratingAfter).sum();
+            assertThat(sum).isCloseTo(0.0, within(1e-6));
+        }
+
+        // Gamma hosting Alpha is in the window; the game against a team without finals is not
+        assertThat(result.upcoming()).hasSize(1);
+        WhatIfRatings.GameDelta d = result.upcoming().get(0);
+        assertThat(d.homeTeamName()).isEqualTo("Gamma");
+        assertThat(d.spreadAfter()).isGreaterThan(d.spreadBefore());
+        assertThat(d.homeWinProbabilityAfter()).isGreaterThan(d.homeWinProbabilityBefore());
+        assertThat(d.homeWinProbabilityWeightedAfter()).isGreaterThan(d.homeWinProbabilityWeightedBefore());
+    }
+
+    @Test
+    void invalidGamesAreRejected() {
+        stubSeason();
+        assertThatThrownBy(() -> service.apply(2026, List.of(), 7))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("At least one");
+        assertThatThrownBy(() -> service.apply(2026, List.of(new WhatIfRatings.Hypothetical(1, 1, 5, false)), 7))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("itself");
+        assertThatThrownBy(() -> service.apply(2026, List.of(new WhatIfRatings.Hypothetical(1, 2, 0, false)), 7))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("tied");
+        assertThatThrownBy(() -> service.apply(2026, List.of(new WhatIfRatings.Hypothetical(1, 4, 5, false)), 7))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Team 4");
+        List<WhatIfRatings.Hypothetical> tooMany = Collections.nCopies(WhatIfRatingService.MAX_GAMES + 1,
+                new WhatIfRatings.Hypothetical(1, 2, 5, false));
+        assertThatThrownBy(() -> service.apply(2026, tooMany, 7))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("At most");
+    }
+
+    @Test
+    void seasonWithoutFinalsYieldsNothing() {
+        when(loader.load(2025)).thenReturn(Optional.empty());
+        assertThat(service.apply(2025, List.of(new WhatIfRatings.Hypothetical(1, 2, 5, false)), 7)).isEmpty();
+    }
+
+    @Test
+    void seasonIsFactorizedOnceUntilCalcCompleted() {
+        stubSeason();
+        List<WhatIfRatings.Hypothetical> games = List.of(new WhatIfRatings.Hypothetical(2, 1, 4, true));
+        service.apply(2026, games, 7);
+        service.apply(2026, games, 3);
+        verify(loader, times(1)).load(2026);
+
+        service.onClusterInvalidation(new ClusterInvalidationEvent(
+                ClusterInvalidationBus.Channel.CALC_COMPLETED, "2025,1", true));
+        service.apply(2026, games, 7);
+        verify(loader, times(1)).load(2026);
+
+        service.onClusterInvalidation(new ClusterInvalidationEvent(
+                ClusterInvalidationBus.Channel.CALC_COMPLETED, "2026,2", true));
+        service.apply(2026, games, 7);
+        verify(loader, times(2)).load(2026);
+    }
+
+    private Game game(Team home, Team away, Integer homeScore, Integer awayScore) {
+        return SimulationFixtures.game(finals.size() + 100, season, home, away, homeScore, awayScore,
+                LocalDate.of(2026, 1, 10 + finals.size()).atTime(19, 0));
+    }
+}